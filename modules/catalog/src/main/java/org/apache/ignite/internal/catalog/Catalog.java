@@ -17,18 +17,13 @@
 
 package org.apache.ignite.internal.catalog;
 
-import static it.unimi.dsi.fastutil.ints.Int2ObjectMaps.unmodifiable;
 import static java.util.Comparator.comparingInt;
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap.Entry;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -42,26 +37,23 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
-import org.apache.ignite.internal.util.CollectionUtils;
+import org.apache.ignite.internal.util.PersistentIntMap;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Catalog descriptor represents a snapshot of the database schema.
  *
  * <p>It contains information about schemas, tables, indexes, and zones available in the current version of the catalog.
+ *
+ * <p>Lookup structures of the catalog are persistent maps, so a new version of the catalog is derived from the previous one with one of
+ * the {@code with*} methods, which only update the entries of the changed objects and share everything else with the previous version.
+ * This keeps both DDL application and the history of catalog versions cheap when the catalog contains many objects.
  */
 public class Catalog {
     private static <T extends CatalogObjectDescriptor> Collector<T, ?, Map<String, T>> toMapByName() {
         return toUnmodifiableMap(CatalogObjectDescriptor::name, identity());
     }
 
-    private static <T extends CatalogObjectDescriptor> Collector<T, ?, Int2ObjectMap<T>> toMapById() {
-        return collectingAndThen(
-                CollectionUtils.toIntMapCollector(CatalogObjectDescriptor::id, identity()),
-                Int2ObjectMaps::unmodifiable
-        );
-    }
-
     private final int version;
     private final int objectIdGen;
     private final long activationTimestamp;
@@ -70,22 +62,13 @@ public class Catalog {
     private final @Nullable CatalogZoneDescriptor defaultZone;
 
     @IgniteToStringExclude
-    private final Int2ObjectMap<CatalogSchemaDescriptor> schemasById;
-
-    @IgniteToStringExclude
-    private final Int2ObjectMap<CatalogTableDescriptor> tablesById;
-
-    @IgniteToStringExclude
-    private final Int2ObjectMap<CatalogIndexDescriptor> indexesById;
-
-    @IgniteToStringExclude
-    private final Int2ObjectMap<List<CatalogIndexDescriptor>> indexesByTableId;
+    private final PersistentIntMap<CatalogSchemaDescriptor> schemasById;
 
     @IgniteToStringExclude
-    private final Int2ObjectMap<CatalogZoneDescriptor> zonesById;
+    private final PersistentIntMap<CatalogZoneDescriptor> zonesById;
 
     @IgniteToStringExclude
-    private final Int2ObjectMap<List<CatalogTableDescriptor>> tablesByZoneId;
+    private final ObjectMaps objects;
 
     /**
      * Constructor.
@@ -106,32 +89,197 @@ public class Catalog {
             Collection<CatalogSchemaDescriptor> schemas,
             @Nullable Integer defaultZoneId
     ) {
+        Objects.requireNonNull(schemas, "schemas");
+        Objects.requireNonNull(zones, "zones");
+
         this.version = version;
         this.activationTimestamp = activationTimestamp;
         this.objectIdGen = objectIdGen;
 
-        Objects.requireNonNull(schemas, "schemas");
-        Objects.requireNonNull(zones, "zones");
-
         schemasByName = schemas.stream().collect(toMapByName());
         zonesByName = zones.stream().collect(toMapByName());
 
-        schemasById = schemas.stream().collect(toMapById());
-        tablesById = schemas.stream().flatMap(s -> Arrays.stream(s.tables())).collect(toMapById());
-        indexesById = schemas.stream().flatMap(s -> Arrays.stream(s.indexes())).collect(toMapById());
-        indexesByTableId = unmodifiable(toIndexesByTableId(schemas));
-        zonesById = zones.stream().collect(toMapById());
-        tablesByZoneId = unmodifiable(toTablesByZoneId(schemas));
+        PersistentIntMap<CatalogSchemaDescriptor> schemasById = PersistentIntMap.empty();
+        ObjectMaps objects = ObjectMaps.EMPTY;
 
-        if (defaultZoneId != null) {
-            defaultZone = zonesById.get((int) defaultZoneId);
+        for (CatalogSchemaDescriptor schema : schemas) {
+            schemasById = schemasById.put(schema.id(), schema);
+            objects = objects.replaceSchema(null, schema);
+        }
 
-            if (defaultZone == null) {
-                throw new IllegalStateException("The default zone was not found among the provided zones [id=" + defaultZoneId + ']');
-            }
-        } else {
-            defaultZone = null;
+        PersistentIntMap<CatalogZoneDescriptor> zonesById = PersistentIntMap.empty();
+
+        for (CatalogZoneDescriptor zone : zones) {
+            zonesById = zonesById.put(zone.id(), zone);
+        }
+
+        this.schemasById = schemasById;
+        this.zonesById = zonesById;
+        this.objects = objects;
+
+        defaultZone = defaultZone(zonesById, defaultZoneId);
+    }
+
+    private Catalog(
+            int version,
+            long activationTimestamp,
+            int objectIdGen,
+            Map<String, CatalogSchemaDescriptor> schemasByName,
+            Map<String, CatalogZoneDescriptor> zonesByName,
+            @Nullable CatalogZoneDescriptor defaultZone,
+            PersistentIntMap<CatalogSchemaDescriptor> schemasById,
+            PersistentIntMap<CatalogZoneDescriptor> zonesById,
+            ObjectMaps objects
+    ) {
+        this.version = version;
+        this.activationTimestamp = activationTimestamp;
+        this.objectIdGen = objectIdGen;
+        this.schemasByName = schemasByName;
+        this.zonesByName = zonesByName;
+        this.defaultZone = defaultZone;
+        this.schemasById = schemasById;
+        this.zonesById = zonesById;
+        this.objects = objects;
+    }
+
+    private static @Nullable CatalogZoneDescriptor defaultZone(
+            PersistentIntMap<CatalogZoneDescriptor> zonesById,
+            @Nullable Integer defaultZoneId
+    ) {
+        if (defaultZoneId == null) {
+            return null;
+        }
+
+        CatalogZoneDescriptor defaultZone = zonesById.get(defaultZoneId);
+
+        if (defaultZone == null) {
+            throw new IllegalStateException("The default zone was not found among the provided zones [id=" + defaultZoneId + ']');
+        }
+
+        return defaultZone;
+    }
+
+    /**
+     * Returns a copy of this catalog with the given version and activation timestamp.
+     *
+     * @param version A version of the catalog.
+     * @param activationTimestamp A timestamp when this version becomes active (i.e. available for use).
+     */
+    public Catalog withVersion(int version, long activationTimestamp) {
+        return new Catalog(
+                version, activationTimestamp, objectIdGen, schemasByName, zonesByName, defaultZone, schemasById, zonesById, objects
+        );
+    }
+
+    /**
+     * Returns a copy of this catalog with the given state of the identifier generator.
+     *
+     * @param objectIdGen Current state of identifier generator.
+     */
+    public Catalog withObjectIdGenState(int objectIdGen) {
+        return new Catalog(
+                version, activationTimestamp, objectIdGen, schemasByName, zonesByName, defaultZone, schemasById, zonesById, objects
+        );
+    }
+
+    /**
+     * Returns a copy of this catalog with the schema added, or replacing the schema with the same ID. Only the tables and indexes that
+     * differ (by reference) between the new schema and the replaced one are updated in the lookup structures of the new catalog.
+     *
+     * @param schema Schema descriptor.
+     */
+    public Catalog withSchema(CatalogSchemaDescriptor schema) {
+        CatalogSchemaDescriptor oldSchema = schemasById.get(schema.id());
+
+        if (oldSchema == schema) {
+            return this;
         }
+
+        PersistentIntMap<CatalogSchemaDescriptor> newSchemasById = schemasById.put(schema.id(), schema);
+
+        return new Catalog(
+                version,
+                activationTimestamp,
+                objectIdGen,
+                newSchemasById.values().stream().collect(toMapByName()),
+                zonesByName,
+                defaultZone,
+                newSchemasById,
+                zonesById,
+                objects.replaceSchema(oldSchema, schema)
+        );
+    }
+
+    /**
+     * Returns a copy of this catalog without the schema with the given ID and all its objects.
+     *
+     * @param schemaId The ID of the schema.
+     */
+    public Catalog withoutSchema(int schemaId) {
+        CatalogSchemaDescriptor oldSchema = schemasById.get(schemaId);
+
+        if (oldSchema == null) {
+            return this;
+        }
+
+        PersistentIntMap<CatalogSchemaDescriptor> newSchemasById = schemasById.remove(schemaId);
+
+        return new Catalog(
+                version,
+                activationTimestamp,
+                objectIdGen,
+                newSchemasById.values().stream().collect(toMapByName()),
+                zonesByName,
+                defaultZone,
+                newSchemasById,
+                zonesById,
+                objects.replaceSchema(oldSchema, null)
+        );
+    }
+
+    /**
+     * Returns a copy of this catalog with the zone added, or replacing the zone with the same ID.
+     *
+     * @param zone Zone descriptor.
+     */
+    public Catalog withZone(CatalogZoneDescriptor zone) {
+        PersistentIntMap<CatalogZoneDescriptor> newZonesById = zonesById.put(zone.id(), zone);
+
+        return withZones(newZonesById, defaultZone == null ? null : defaultZone.id());
+    }
+
+    /**
+     * Returns a copy of this catalog without the zone with the given ID.
+     *
+     * @param zoneId The ID of the zone.
+     * @throws IllegalStateException If the zone is the default one.
+     */
+    public Catalog withoutZone(int zoneId) {
+        return withZones(zonesById.remove(zoneId), defaultZone == null ? null : defaultZone.id());
+    }
+
+    /**
+     * Returns a copy of this catalog with the given default zone.
+     *
+     * @param zoneId ID of the default distribution zone.
+     * @throws IllegalStateException If there is no zone with the given ID.
+     */
+    public Catalog withDefaultZone(@Nullable Integer zoneId) {
+        return withZones(zonesById, zoneId);
+    }
+
+    private Catalog withZones(PersistentIntMap<CatalogZoneDescriptor> newZonesById, @Nullable Integer defaultZoneId) {
+        return new Catalog(
+                version,
+                activationTimestamp,
+                objectIdGen,
+                schemasByName,
+                newZonesById == zonesById ? zonesByName : newZonesById.values().stream().collect(toMapByName()),
+                defaultZone(newZonesById, defaultZoneId),
+                schemasById,
+                newZonesById,
+                objects
+        );
     }
 
     /**
@@ -198,7 +346,7 @@ public class Catalog {
      * @return The table descriptor or {@code null} if the table is not found.
      */
     public @Nullable CatalogTableDescriptor table(int tableId) {
-        return tablesById.get(tableId);
+        return objects.tablesById.get(tableId);
     }
 
     /**
@@ -219,7 +367,7 @@ public class Catalog {
      * @return A collection of all table descriptors.
      */
     public Collection<CatalogTableDescriptor> tables() {
-        return tablesById.values();
+        return objects.tablesById.values();
     }
 
     /**
@@ -228,7 +376,9 @@ public class Catalog {
      * @return A collection of table descriptors.
      */
     public Collection<CatalogTableDescriptor> tables(int zoneId) {
-        return tablesByZoneId.getOrDefault(zoneId, List.of());
+        PersistentIntMap<CatalogTableDescriptor> tables = objects.tablesByZoneId.get(zoneId);
+
+        return tables == null ? List.of() : tables.values();
     }
 
     /**
@@ -253,7 +403,7 @@ public class Catalog {
      * @return The index descriptor or {@code null} if the index is not found.
      */
     public @Nullable CatalogIndexDescriptor index(int indexId) {
-        return indexesById.get(indexId);
+        return objects.indexesById.get(indexId);
     }
 
     /**
@@ -262,7 +412,7 @@ public class Catalog {
      * @return A collection of all index descriptors.
      */
     public Collection<CatalogIndexDescriptor> indexes() {
-        return indexesById.values();
+        return objects.indexesById.values();
     }
 
     /**
@@ -272,7 +422,7 @@ public class Catalog {
      * @return A list of index descriptors or an empty list if no indexes are found.
      */
     public List<CatalogIndexDescriptor> indexes(int tableId) {
-        return indexesByTableId.getOrDefault(tableId, List.of());
+        return objects.indexesByTableId.getOrDefault(tableId, List.of());
     }
 
     /**
@@ -319,39 +469,192 @@ public class Catalog {
         return S.toString(this);
     }
 
-    private static Int2ObjectMap<List<CatalogIndexDescriptor>> toIndexesByTableId(Collection<CatalogSchemaDescriptor> schemas) {
-        Int2ObjectMap<List<CatalogIndexDescriptor>> indexesByTableId = new Int2ObjectOpenHashMap<>();
 
-        for (CatalogSchemaDescriptor schema : schemas) {
-            for (CatalogIndexDescriptor index : schema.indexes()) {
-                indexesByTableId.computeIfAbsent(index.tableId(), indexes -> new ArrayList<>()).add(index);
+    /**
+     * Lookup structures of the tables and indexes of all schemas. Instances are never modified after they are published, a new instance
+     * is derived from the previous one by {@link #replaceSchema}.
+     */
+    private static final class ObjectMaps {
+        static final ObjectMaps EMPTY = new ObjectMaps(
+                PersistentIntMap.empty(),
+                PersistentIntMap.empty(),
+                PersistentIntMap.empty(),
+                PersistentIntMap.empty()
+        );
+
+        private static final CatalogTableDescriptor[] NO_TABLES = new CatalogTableDescriptor[0];
+
+        private static final CatalogIndexDescriptor[] NO_INDEXES = new CatalogIndexDescriptor[0];
+
+        PersistentIntMap<CatalogTableDescriptor> tablesById;
+
+        PersistentIntMap<CatalogIndexDescriptor> indexesById;
+
+        /** Indexes of every table, sorted by ID. */
+        PersistentIntMap<List<CatalogIndexDescriptor>> indexesByTableId;
+
+        PersistentIntMap<PersistentIntMap<CatalogTableDescriptor>> tablesByZoneId;
+
+        private ObjectMaps(
+                PersistentIntMap<CatalogTableDescriptor> tablesById,
+                PersistentIntMap<CatalogIndexDescriptor> indexesById,
+                PersistentIntMap<List<CatalogIndexDescriptor>> indexesByTableId,
+                PersistentIntMap<PersistentIntMap<CatalogTableDescriptor>> tablesByZoneId
+        ) {
+            this.tablesById = tablesById;
+            this.indexesById = indexesById;
+            this.indexesByTableId = indexesByTableId;
+            this.tablesByZoneId = tablesByZoneId;
+        }
+
+        /**
+         * Returns the lookup structures, in which the objects of the old schema are replaced with the objects of the new one.
+         *
+         * @param oldSchema Replaced schema, {@code null} if the schema is added.
+         * @param newSchema New schema, {@code null} if the schema is removed.
+         */
+        ObjectMaps replaceSchema(@Nullable CatalogSchemaDescriptor oldSchema, @Nullable CatalogSchemaDescriptor newSchema) {
+            var copy = new ObjectMaps(tablesById, indexesById, indexesByTableId, tablesByZoneId);
+
+            copy.replaceTables(oldSchema == null ? NO_TABLES : oldSchema.tables(), newSchema == null ? NO_TABLES : newSchema.tables());
+            copy.replaceIndexes(oldSchema == null ? NO_INDEXES : oldSchema.indexes(), newSchema == null ? NO_INDEXES : newSchema.indexes());
+
+            return copy;
+        }
+
+        private void replaceTables(CatalogTableDescriptor[] oldTables, CatalogTableDescriptor[] newTables) {
+            int added = 0;
+
+            for (CatalogTableDescriptor table : newTables) {
+                CatalogTableDescriptor previous = tablesById.get(table.id());
+
+                if (previous == null) {
+                    added++;
+                }
+
+                // Descriptors of the objects that were not changed are shared between schema versions.
+                if (previous != table) {
+                    putTable(previous, table);
+                }
+            }
+
+            // Tables never move between schemas, so the tables of the old schema that are still present are all counted.
+            if (oldTables.length > newTables.length - added) {
+                IntSet newIds = new IntOpenHashSet(newTables.length);
+
+                for (CatalogTableDescriptor table : newTables) {
+                    newIds.add(table.id());
+                }
+
+                for (CatalogTableDescriptor table : oldTables) {
+                    if (!newIds.contains(table.id())) {
+                        tablesById = tablesById.remove(table.id());
+
+                        removeFromZone(table);
+                    }
+                }
             }
         }
 
-        for (List<CatalogIndexDescriptor> indexes : indexesByTableId.values()) {
-            indexes.sort(comparingInt(CatalogIndexDescriptor::id));
+        private void putTable(@Nullable CatalogTableDescriptor previous, CatalogTableDescriptor table) {
+            tablesById = tablesById.put(table.id(), table);
+
+            if (previous != null && previous.zoneId() != table.zoneId()) {
+                removeFromZone(previous);
+            }
+
+            PersistentIntMap<CatalogTableDescriptor> zoneTables = tablesByZoneId.getOrDefault(table.zoneId(), PersistentIntMap.empty());
+
+            tablesByZoneId = tablesByZoneId.put(table.zoneId(), zoneTables.put(table.id(), table));
         }
 
-        for (Entry<List<CatalogIndexDescriptor>> entry : indexesByTableId.int2ObjectEntrySet()) {
-            entry.setValue(List.copyOf(entry.getValue()));
+        private void removeFromZone(CatalogTableDescriptor table) {
+            PersistentIntMap<CatalogTableDescriptor> zoneTables = tablesByZoneId.get(table.zoneId());
+
+            if (zoneTables == null) {
+                return;
+            }
+
+            zoneTables = zoneTables.remove(table.id());
+
+            tablesByZoneId = zoneTables.isEmpty()
+                    ? tablesByZoneId.remove(table.zoneId())
+                    : tablesByZoneId.put(table.zoneId(), zoneTables);
         }
 
-        return indexesByTableId;
-    }
+        private void replaceIndexes(CatalogIndexDescriptor[] oldIndexes, CatalogIndexDescriptor[] newIndexes) {
+            int added = 0;
 
-    private static Int2ObjectMap<List<CatalogTableDescriptor>> toTablesByZoneId(Collection<CatalogSchemaDescriptor> schemas) {
-        var tablesByZoneId = new Int2ObjectOpenHashMap<List<CatalogTableDescriptor>>();
+            for (CatalogIndexDescriptor index : newIndexes) {
+                CatalogIndexDescriptor previous = indexesById.get(index.id());
 
-        for (CatalogSchemaDescriptor schema : schemas) {
-            for (CatalogTableDescriptor table : schema.tables()) {
-                tablesByZoneId.computeIfAbsent(table.zoneId(), tables -> new ArrayList<>()).add(table);
+                if (previous == null) {
+                    added++;
+                }
+
+                if (previous != index) {
+                    putIndex(previous, index);
+                }
+            }
+
+            if (oldIndexes.length > newIndexes.length - added) {
+                IntSet newIds = new IntOpenHashSet(newIndexes.length);
+
+                for (CatalogIndexDescriptor index : newIndexes) {
+                    newIds.add(index.id());
+                }
+
+                for (CatalogIndexDescriptor index : oldIndexes) {
+                    if (!newIds.contains(index.id())) {
+                        indexesById = indexesById.remove(index.id());
+
+                        removeFromTable(index);
+                    }
+                }
             }
         }
 
-        for (Entry<List<CatalogTableDescriptor>> entry : tablesByZoneId.int2ObjectEntrySet()) {
-            entry.setValue(List.copyOf(entry.getValue()));
+        private void putIndex(@Nullable CatalogIndexDescriptor previous, CatalogIndexDescriptor index) {
+            indexesById = indexesById.put(index.id(), index);
+
+            if (previous != null && previous.tableId() != index.tableId()) {
+                removeFromTable(previous);
+            }
+
+            List<CatalogIndexDescriptor> tableIndexes = indexesByTableId.getOrDefault(index.tableId(), List.of());
+
+            var newTableIndexes = new ArrayList<CatalogIndexDescriptor>(tableIndexes.size() + 1);
+
+            for (CatalogIndexDescriptor tableIndex : tableIndexes) {
+                if (tableIndex.id() != index.id()) {
+                    newTableIndexes.add(tableIndex);
+                }
+            }
+
+            newTableIndexes.add(index);
+            newTableIndexes.sort(comparingInt(CatalogIndexDescriptor::id));
+
+            indexesByTableId = indexesByTableId.put(index.tableId(), List.copyOf(newTableIndexes));
         }
 
-        return tablesByZoneId;
+        private void removeFromTable(CatalogIndexDescriptor index) {
+            List<CatalogIndexDescriptor> tableIndexes = indexesByTableId.get(index.tableId());
+
+            if (tableIndexes == null) {
+                return;
+            }
+
+            var newTableIndexes = new ArrayList<CatalogIndexDescriptor>(tableIndexes.size());
+
+            for (CatalogIndexDescriptor tableIndex : tableIndexes) {
+                if (tableIndex.id() != index.id()) {
+                    newTableIndexes.add(tableIndex);
+                }
+            }
+
+            indexesByTableId = newTableIndexes.isEmpty()
+                    ? indexesByTableId.remove(index.tableId())
+                    : indexesByTableId.put(index.tableId(), List.copyOf(newTableIndexes));
+        }
     }
 }
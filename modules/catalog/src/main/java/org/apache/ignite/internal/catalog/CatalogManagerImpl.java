@@ -597,13 +597,6 @@ public class CatalogManagerImpl extends AbstractEventProducer<CatalogEvent, Cata
                 : "Activation timestamp " + activationTimestamp + " must be greater than previous catalog version activation timestamp "
                 + catalog.time();
 
-        return new Catalog(
-                update.version(),
-                activationTimestamp,
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                catalog.schemas(),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withVersion(update.version(), activationTimestamp);
     }
 }
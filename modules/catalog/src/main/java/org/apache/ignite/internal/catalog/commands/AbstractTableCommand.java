@@ -20,8 +20,12 @@ package org.apache.ignite.internal.catalog.commands;
 import static org.apache.ignite.internal.catalog.CatalogParamsValidationUtils.ensureNonSystemSchemaUsed;
 import static org.apache.ignite.internal.catalog.CatalogParamsValidationUtils.validateIdentifier;
 
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogCommand;
 import org.apache.ignite.internal.catalog.CatalogValidationException;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Abstract table-related command.
@@ -48,10 +52,38 @@ public abstract class AbstractTableCommand implements CatalogCommand {
         validate(validateSystemSchemas);
     }
 
+    public String schemaName() {
+        return schemaName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
     public boolean ifTableExists() {
         return ifTableExists;
     }
 
+    /** Throws an exception if the given table stores a materialized view, whose columns are defined by the view query. */
+    static void ensureNotMaterializedView(CatalogTableDescriptor table) {
+        if (table.isMaterializedView()) {
+            throw new CatalogValidationException("Columns of materialized view '{}' can't be changed.", table.name());
+        }
+    }
+
+    /** Returns a materialized view reading the given table, or {@code null} if there is none. */
+    static @Nullable CatalogTableDescriptor dependentMaterializedView(Catalog catalog, int tableId) {
+        for (CatalogTableDescriptor table : catalog.tables()) {
+            IntList sources = table.materializedViewSources();
+
+            if (sources != null && sources.contains(tableId)) {
+                return table;
+            }
+        }
+
+        return null;
+    }
+
     private void validate(boolean validateSystemSchemas) {
         validateIdentifier(schemaName, "Name of the schema");
         validateIdentifier(tableName, "Name of the table");
@@ -92,6 +92,8 @@ public class AlterTableAddColumnCommand extends AbstractTableCommand {
             return List.of();
         }
 
+        ensureNotMaterializedView(table);
+
         List<CatalogTableColumnDescriptor> columnDescriptors = new ArrayList<>();
 
         for (ColumnParams column : columns) {
@@ -101,6 +101,8 @@ public class AlterTableAlterColumnCommand extends AbstractTableCommand {
             return List.of();
         }
 
+        ensureNotMaterializedView(table);
+
         CatalogTableColumnDescriptor origin = table.column(columnName);
 
         if (origin == null) {
@@ -98,6 +98,15 @@ public class AlterTableDropColumnCommand extends AbstractTableCommand {
             return List.of();
         }
 
+        ensureNotMaterializedView(table);
+
+        CatalogTableDescriptor dependentView = dependentMaterializedView(catalog, table.id());
+
+        if (dependentView != null) {
+            throw new CatalogValidationException("Columns of table '{}' can't be dropped, because materialized view '{}' depends on it.",
+                    tableName, dependentView.name());
+        }
+
         IntSet indexedColumns = aliveIndexesForTable(catalog, table.id())
                 .flatMapToInt(AlterTableDropColumnCommand::indexColumnIds)
                 .collect(IntOpenHashSet::new, IntSet::add, IntSet::addAll);
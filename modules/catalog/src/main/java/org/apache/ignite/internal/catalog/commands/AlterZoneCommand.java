@@ -33,6 +33,7 @@ import org.apache.ignite.internal.catalog.CatalogCommand;
 import org.apache.ignite.internal.catalog.CatalogValidationException;
 import org.apache.ignite.internal.catalog.UpdateContext;
 import org.apache.ignite.internal.catalog.descriptors.CatalogStorageProfilesDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
 import org.apache.ignite.internal.catalog.storage.AlterZoneEntry;
 import org.apache.ignite.internal.catalog.storage.UpdateEntry;
@@ -118,6 +119,17 @@ public class AlterZoneCommand extends AbstractZoneCommand {
             return List.of();
         }
 
+        if (partitions != null && partitions != zone.partitions()) {
+            for (CatalogTableDescriptor table : catalog.tables(zone.id())) {
+                if (table.rangeSplitPoints() != null) {
+                    throw new CatalogValidationException(
+                            "Number of partitions of a zone with range-partitioned tables can't be changed [zone={}, table={}].",
+                            zone.name(), table.name()
+                    );
+                }
+            }
+        }
+
         CatalogZoneDescriptor descriptor = fromParamsAndPreviousValue(zone);
 
         return List.of(new AlterZoneEntry(descriptor));
@@ -33,6 +33,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -55,6 +56,8 @@ import org.apache.ignite.internal.catalog.storage.NewIndexEntry;
 import org.apache.ignite.internal.catalog.storage.NewTableEntry;
 import org.apache.ignite.internal.catalog.storage.ObjectIdGenUpdateEntry;
 import org.apache.ignite.internal.catalog.storage.UpdateEntry;
+import org.apache.ignite.internal.util.RangePartitioner;
+import org.apache.ignite.sql.ColumnType;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
@@ -62,6 +65,22 @@ import org.jetbrains.annotations.Nullable;
  * A command that adds a new table to the catalog.
  */
 public class CreateTableCommand extends AbstractTableCommand {
+    /** Types of colocation columns that range-partitioned tables may have. */
+    private static final Set<ColumnType> RANGE_PARTITIONING_TYPES = EnumSet.of(
+            ColumnType.INT8,
+            ColumnType.INT16,
+            ColumnType.INT32,
+            ColumnType.INT64,
+            ColumnType.FLOAT,
+            ColumnType.DOUBLE,
+            ColumnType.DECIMAL,
+            ColumnType.DATE,
+            ColumnType.TIME,
+            ColumnType.DATETIME,
+            ColumnType.TIMESTAMP,
+            ColumnType.STRING
+    );
+
     /** Returns builder to create a command to create a new table. */
     public static CreateTableCommandBuilder builder() {
         return new Builder();
@@ -71,6 +90,12 @@ public class CreateTableCommand extends AbstractTableCommand {
 
     private final @Nullable List<String> colocationColumns;
 
+    private final @Nullable List<Object> rangeSplitPoints;
+
+    private final @Nullable String materializedViewQuery;
+
+    private final @Nullable IntList materializedViewSources;
+
     private final List<ColumnParams> columns;
 
     private final String zoneName;
@@ -89,6 +114,10 @@ public class CreateTableCommand extends AbstractTableCommand {
      * @param primaryKey Primary key.
      * @param colocationColumns Name of the columns participating in distribution calculation. Should be subset of the primary key
      *         columns.
+     * @param rangeSplitPoints Ascending split points of the single colocation column to partition the table by range, or {@code null}
+     *         to partition the table by hash.
+     * @param materializedViewQuery Query of a materialized view to back by the table, or {@code null} to create a regular table.
+     * @param materializedViewSources IDs of the tables the materialized view query reads. Must be specified together with the query.
      * @param columns List of the columns containing by the table. There should be at least one column.
      * @param zoneName Name of the zone to create table in or {@code null} to use the default distribution zone.
      * @param validateSystemSchemas Flag indicating whether system schemas should be validated.
@@ -104,6 +133,9 @@ public class CreateTableCommand extends AbstractTableCommand {
             boolean ifNotExists,
             TablePrimaryKey primaryKey,
             @Nullable List<String> colocationColumns,
+            @Nullable List<Object> rangeSplitPoints,
+            @Nullable String materializedViewQuery,
+            @Nullable IntList materializedViewSources,
             List<ColumnParams> columns,
             @Nullable String zoneName,
             @Nullable String storageProfile,
@@ -115,6 +147,9 @@ public class CreateTableCommand extends AbstractTableCommand {
 
         this.primaryKey = primaryKey;
         this.colocationColumns = copyOrNull(colocationColumns);
+        this.rangeSplitPoints = copyOrNull(rangeSplitPoints);
+        this.materializedViewQuery = materializedViewQuery;
+        this.materializedViewSources = materializedViewSources;
         this.columns = copyOrNull(columns);
         this.zoneName = zoneName;
         this.storageProfile = storageProfile;
@@ -154,6 +189,23 @@ public class CreateTableCommand extends AbstractTableCommand {
 
         ensureZoneContainsTablesStorageProfile(zone, storageProfile);
 
+        if (rangeSplitPoints != null && rangeSplitPoints.size() + 1 != zone.partitions()) {
+            throw new CatalogValidationException(
+                    "Number of range partitions must be equal to the number of partitions of the zone [zone={}, partitions={}, "
+                            + "splitPoints={}].",
+                    zone.name(), zone.partitions(), rangeSplitPoints.size()
+            );
+        }
+
+        if (materializedViewSources != null) {
+            for (int sourceId : materializedViewSources) {
+                if (catalog.table(sourceId) == null) {
+                    throw new CatalogValidationException(
+                            "Table read by materialized view was dropped concurrently [view={}, tableId={}].", tableName, sourceId);
+                }
+            }
+        }
+
         List<CatalogTableColumnDescriptor> columnDescriptors = new ArrayList<>(columns.size());
         for (ColumnParams columnParams : columns) {
             columnDescriptors.add(CatalogUtils.fromParams(columnParams));
@@ -178,6 +230,8 @@ public class CreateTableCommand extends AbstractTableCommand {
                 .schemaVersions(versions)
                 .primaryKeyColumns(pkColumns)
                 .colocationColumns(colocationColumns)
+                .rangeSplitPoints(rangeSplitPoints)
+                .materializedView(materializedViewQuery, materializedViewSources)
                 .storageProfile(storageProfile)
                 .minStaleRowsCount(minStaleRowsCount)
                 .staleRowsFraction(staleRowsFraction)
@@ -258,6 +312,18 @@ public class CreateTableCommand extends AbstractTableCommand {
             }
         }
 
+        if (rangeSplitPoints != null) {
+            validateRangeSplitPoints();
+        }
+
+        if ((materializedViewQuery == null) != (materializedViewSources == null)) {
+            throw new CatalogValidationException("Query and source tables of materialized view must be specified together.");
+        }
+
+        if (materializedViewQuery != null && materializedViewQuery.isBlank()) {
+            throw new CatalogValidationException("Query of materialized view can't be blank.");
+        }
+
         if (!Double.isFinite(staleRowsFraction) || staleRowsFraction > 1 || staleRowsFraction < 0) {
             throw new CatalogValidationException("Stale rows fraction should be in range [0, 1].");
         }
@@ -267,6 +333,44 @@ public class CreateTableCommand extends AbstractTableCommand {
         }
     }
 
+    private void validateRangeSplitPoints() {
+        assert rangeSplitPoints != null;
+        assert colocationColumns != null;
+
+        if (colocationColumns.size() != 1) {
+            throw new CatalogValidationException("Range-partitioned table must have exactly one colocation column.");
+        }
+
+        String columnName = colocationColumns.get(0);
+
+        ColumnParams column = columns.stream()
+                .filter(c -> c.name().equals(columnName))
+                .findAny()
+                .orElseThrow();
+
+        if (!RANGE_PARTITIONING_TYPES.contains(column.type())) {
+            throw new CatalogValidationException("Range partitioning is not supported for column '{}' of type {}.",
+                    columnName, column.type());
+        }
+
+        if (rangeSplitPoints.isEmpty()) {
+            throw new CatalogValidationException("Range-partitioned table must have at least one split point.");
+        }
+
+        for (Object splitPoint : rangeSplitPoints) {
+            if (splitPoint == null || splitPoint.getClass() != column.type().javaClass()) {
+                throw new CatalogValidationException("Split point {} does not match the type {} of the colocation column '{}'.",
+                        splitPoint, column.type(), columnName);
+            }
+        }
+
+        try {
+            new RangePartitioner(rangeSplitPoints);
+        } catch (IllegalArgumentException e) {
+            throw new CatalogValidationException(e.getMessage());
+        }
+    }
+
     private CatalogIndexDescriptor createPkIndexDescriptor(String indexName, int pkIndexId, CatalogTableDescriptor table) {
         CatalogIndexDescriptor pkIndex;
 
@@ -338,6 +442,12 @@ public class CreateTableCommand extends AbstractTableCommand {
 
         private List<String> colocationColumns;
 
+        private @Nullable List<Object> rangeSplitPoints;
+
+        private @Nullable String materializedViewQuery;
+
+        private @Nullable IntList materializedViewSources;
+
         private String zoneName;
 
         private String storageProfile;
@@ -389,6 +499,21 @@ public class CreateTableCommand extends AbstractTableCommand {
             return this;
         }
 
+        @Override
+        public CreateTableCommandBuilder rangeSplitPoints(@Nullable List<Object> rangeSplitPoints) {
+            this.rangeSplitPoints = rangeSplitPoints;
+
+            return this;
+        }
+
+        @Override
+        public CreateTableCommandBuilder materializedView(@Nullable String query, @Nullable IntList sourceTableIds) {
+            this.materializedViewQuery = query;
+            this.materializedViewSources = sourceTableIds;
+
+            return this;
+        }
+
         @Override
         public CreateTableCommandBuilder zone(String zoneName) {
             this.zoneName = zoneName;
@@ -444,6 +569,9 @@ public class CreateTableCommand extends AbstractTableCommand {
                     ifNotExists,
                     primaryKey,
                     colocationColumns,
+                    rangeSplitPoints,
+                    materializedViewQuery,
+                    materializedViewSources,
                     columns,
                     zoneName,
                     storageProfile,
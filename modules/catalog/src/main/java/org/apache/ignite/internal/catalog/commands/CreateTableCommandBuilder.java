@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.catalog.commands;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,6 +43,19 @@ public interface CreateTableCommandBuilder extends AbstractTableCommandBuilder<C
      */
     CreateTableCommandBuilder colocationColumns(@Nullable List<String> colocationColumns);
 
+    /**
+     * Ascending split points of a range-partitioned table, {@code null} to partition the table by hash. A range-partitioned table must
+     * have exactly one colocation column, every split point must be of that column's type, and the number of split points must be one
+     * less than the number of partitions of the table's zone.
+     */
+    CreateTableCommandBuilder rangeSplitPoints(@Nullable List<Object> rangeSplitPoints);
+
+    /**
+     * Makes the table store the result of a materialized view. The query must have fully qualified identifiers, the source tables are
+     * the tables the query reads. Both are {@code null} for a regular table.
+     */
+    CreateTableCommandBuilder materializedView(@Nullable String query, @Nullable IntList sourceTableIds);
+
     /** A name of the zone to create new table in. Should not be blank. */
     CreateTableCommandBuilder zone(@Nullable String zoneName);
 
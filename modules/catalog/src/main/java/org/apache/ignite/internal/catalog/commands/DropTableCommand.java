@@ -42,8 +42,17 @@ public class DropTableCommand extends AbstractTableCommand {
         return new Builder();
     }
 
-    private DropTableCommand(String schemaName, String tableName, boolean ifExists) throws CatalogValidationException {
+    private final boolean materializedView;
+
+    private DropTableCommand(
+            String schemaName,
+            String tableName,
+            boolean ifExists,
+            boolean materializedView
+    ) throws CatalogValidationException {
         super(schemaName, tableName, ifExists, true);
+
+        this.materializedView = materializedView;
     }
 
     @Override
@@ -59,6 +68,20 @@ public class DropTableCommand extends AbstractTableCommand {
             return List.of();
         }
 
+        if (table.isMaterializedView() != materializedView) {
+            throw new CatalogValidationException(materializedView
+                    ? "Table '{}' is not a materialized view. Use DROP TABLE to drop it."
+                    : "Table '{}' is a materialized view. Use DROP MATERIALIZED VIEW to drop it.",
+                    tableName);
+        }
+
+        CatalogTableDescriptor dependentView = dependentMaterializedView(catalog, table.id());
+
+        if (dependentView != null) {
+            throw new CatalogValidationException("Table '{}' can't be dropped, because materialized view '{}' depends on it.",
+                    tableName, dependentView.name());
+        }
+
         List<UpdateEntry> updateEntries = new ArrayList<>();
 
         Arrays.stream(schema.indexes())
@@ -85,6 +108,8 @@ public class DropTableCommand extends AbstractTableCommand {
 
         private boolean ifExists;
 
+        private boolean materializedView;
+
         @Override
         public DropTableCommandBuilder schemaName(String schemaName) {
             this.schemaName = schemaName;
@@ -106,12 +131,20 @@ public class DropTableCommand extends AbstractTableCommand {
             return this;
         }
 
+        @Override
+        public DropTableCommandBuilder materializedView(boolean materializedView) {
+            this.materializedView = materializedView;
+
+            return this;
+        }
+
         @Override
         public CatalogCommand build() {
             return new DropTableCommand(
                     schemaName,
                     tableName,
-                    ifExists
+                    ifExists,
+                    materializedView
             );
         }
     }
@@ -25,4 +25,6 @@ package org.apache.ignite.internal.catalog.commands;
  * side effects on builder's state or any object created by the same builder.
  */
 public interface DropTableCommandBuilder extends AbstractTableCommandBuilder<DropTableCommandBuilder> {
+    /** Whether the dropped table is expected to be a materialized view. A table of the other kind is not dropped. */
+    DropTableCommandBuilder materializedView(boolean materializedView);
 }
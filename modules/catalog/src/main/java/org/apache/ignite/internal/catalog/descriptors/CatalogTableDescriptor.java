@@ -58,6 +58,15 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
     @IgniteToStringInclude
     private final IntList colocationColumns;
 
+    @IgniteToStringInclude
+    private final @Nullable List<Object> rangeSplitPoints;
+
+    @IgniteToStringInclude
+    private final @Nullable String materializedViewQuery;
+
+    @IgniteToStringInclude
+    private final @Nullable IntList materializedViewSources;
+
     @IgniteToStringExclude
     private final Map<String, Int2ObjectMap.Entry<CatalogTableColumnDescriptor>> columnsByName;
 
@@ -76,6 +85,9 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
      * @param name Table name.
      * @param zoneId Distribution zone ID.
      * @param pkCols Primary key column names.
+     * @param rangeSplitPoints Split points of a range-partitioned table, {@code null} if the table is hash-partitioned.
+     * @param materializedViewQuery Query of a materialized view backed by the table, {@code null} for a regular table.
+     * @param materializedViewSources IDs of the tables the materialized view query reads, {@code null} for a regular table.
      * @param storageProfile Storage profile.
      * @param timestamp Token of the update of the descriptor.
      */
@@ -87,6 +99,9 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
             int zoneId,
             IntList pkCols,
             @Nullable IntList colocationCols,
+            @Nullable List<Object> rangeSplitPoints,
+            @Nullable String materializedViewQuery,
+            @Nullable IntList materializedViewSources,
             CatalogTableSchemaVersions schemaVersions,
             String storageProfile,
             HybridTimestamp timestamp,
@@ -121,6 +136,11 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
         }
 
         this.colocationColumns = Objects.requireNonNullElse(colocationCols, pkCols);
+        this.rangeSplitPoints = rangeSplitPoints == null ? null : List.copyOf(rangeSplitPoints);
+        this.materializedViewQuery = materializedViewQuery;
+        this.materializedViewSources = materializedViewQuery == null
+                ? null
+                : IntList.of(Objects.requireNonNull(materializedViewSources, "No materialized view sources.").toIntArray());
         this.schemaVersions =  Objects.requireNonNull(schemaVersions, "No catalog schema versions.");
         this.storageProfile = Objects.requireNonNull(storageProfile, "No storage profile.");
         this.properties = properties;
@@ -142,6 +162,8 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
                 .schemaVersions(schemaVersions)
                 .primaryKeyColumns(primaryKeyColumns)
                 .colocationColumns(colocationColumns)
+                .rangeSplitPoints(rangeSplitPoints)
+                .materializedView(materializedViewQuery, materializedViewSources)
                 .storageProfile(storageProfile())
                 .staleRowsFraction(properties.staleRowsFraction())
                 .minStaleRowsCount(properties.minStaleRowsCount());
@@ -200,6 +222,33 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
         return colocationColumns;
     }
 
+    /**
+     * Returns ascending split points of the single colocation column if the table is range-partitioned, {@code null} if the table is
+     * hash-partitioned. {@code N} split points define {@code N + 1} partitions, which is always equal to the number of partitions of the
+     * table's zone.
+     */
+    public @Nullable List<Object> rangeSplitPoints() {
+        return rangeSplitPoints;
+    }
+
+    /** Returns {@code true} if the table stores the result of a materialized view. */
+    public boolean isMaterializedView() {
+        return materializedViewQuery != null;
+    }
+
+    /**
+     * Returns the query of the materialized view backed by this table, {@code null} for a regular table. Identifiers in the query are
+     * fully qualified, so the query does not depend on the schema it was created in.
+     */
+    public @Nullable String materializedViewQuery() {
+        return materializedViewQuery;
+    }
+
+    /** Returns IDs of the tables the materialized view query reads, {@code null} for a regular table. */
+    public @Nullable IntList materializedViewSources() {
+        return materializedViewSources;
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<CatalogTableColumnDescriptor> columns() {
@@ -303,6 +352,9 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
         private @Nullable List<CatalogTableColumnDescriptor> columns;
         private IntList primaryKeyColumns;
         private @Nullable IntList colocationColumns;
+        private @Nullable List<Object> rangeSplitPoints;
+        private @Nullable String materializedViewQuery;
+        private @Nullable IntList materializedViewSources;
         private String storageProfile;
         private HybridTimestamp timestamp = INITIAL_TIMESTAMP;
         private double staleRowsFraction;
@@ -418,6 +470,33 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
             return this;
         }
 
+        /**
+         * Sets the {@code rangeSplitPoints} and returns a reference to this Builder enabling method chaining.
+         *
+         * @param rangeSplitPoints the {@code rangeSplitPoints} to set
+         * @return a reference to this Builder
+         * @see CatalogTableDescriptor#rangeSplitPoints()
+         */
+        public Builder rangeSplitPoints(@Nullable List<Object> rangeSplitPoints) {
+            this.rangeSplitPoints = rangeSplitPoints;
+            return this;
+        }
+
+        /**
+         * Sets the {@code materializedViewQuery} and {@code materializedViewSources} and returns a reference to this Builder enabling
+         * method chaining.
+         *
+         * @param query the {@code materializedViewQuery} to set
+         * @param sources the {@code materializedViewSources} to set
+         * @return a reference to this Builder
+         * @see CatalogTableDescriptor#materializedViewQuery()
+         */
+        public Builder materializedView(@Nullable String query, @Nullable IntList sources) {
+            this.materializedViewQuery = query;
+            this.materializedViewSources = sources;
+            return this;
+        }
+
         /**
          * Sets the {@code storageProfile} and returns a reference to this Builder enabling method chaining.
          *
@@ -487,6 +566,9 @@ public class CatalogTableDescriptor extends CatalogObjectDescriptor implements M
                     zoneId,
                     primaryKeyColumns,
                     colocationColumns,
+                    rangeSplitPoints,
+                    materializedViewQuery,
+                    materializedViewSources,
                     newSchemaVersions,
                     storageProfile,
                     timestamp,
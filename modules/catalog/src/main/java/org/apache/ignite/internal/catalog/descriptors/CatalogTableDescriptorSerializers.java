@@ -26,8 +26,11 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.catalog.commands.CatalogUtils;
+import org.apache.ignite.internal.catalog.commands.DefaultValue;
+import org.apache.ignite.internal.catalog.commands.DefaultValue.ConstantValue;
 import org.apache.ignite.internal.catalog.storage.serialization.CatalogEntrySerializerProvider;
 import org.apache.ignite.internal.catalog.storage.serialization.CatalogObjectDataInput;
 import org.apache.ignite.internal.catalog.storage.serialization.CatalogObjectDataOutput;
@@ -35,6 +38,7 @@ import org.apache.ignite.internal.catalog.storage.serialization.CatalogObjectSer
 import org.apache.ignite.internal.catalog.storage.serialization.CatalogSerializer;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Serializers for {@link CatalogTableDescriptor}.
@@ -319,6 +323,249 @@ public class CatalogTableDescriptorSerializers {
         }
     }
 
+    @CatalogSerializer(version = 4, since = "3.2.0")
+    static class TableDescriptorSerializerV4 implements CatalogObjectSerializer<CatalogTableDescriptor> {
+        @Override
+        public CatalogTableDescriptor readFrom(CatalogObjectDataInput input) throws IOException {
+            int id = input.readVarIntAsInt();
+            String name = input.readUTF();
+            long updateTimestampLong = input.readVarInt();
+            HybridTimestamp updateTimestamp = updateTimestampLong == 0 ? MIN_VALUE : hybridTimestamp(updateTimestampLong);
+
+            CatalogTableSchemaVersions schemaVersions = input.readEntry(CatalogTableSchemaVersions.class);
+            List<CatalogTableColumnDescriptor> columns = schemaVersions.latestVersionColumns();
+            String storageProfile = input.readUTF();
+
+            int schemaId = input.readVarIntAsInt();
+            int pkIndexId = input.readVarIntAsInt();
+            int zoneId = input.readVarIntAsInt();
+
+            int pkKeysLen = input.readVarIntAsInt();
+            int[] pkColumnIndexes = input.readIntArray(pkKeysLen);
+            IntList primaryKeyColumns = new IntArrayList(pkColumnIndexes.length);
+
+            for (int idx : pkColumnIndexes) {
+                primaryKeyColumns.add(columns.get(idx).id());
+            }
+
+            int colocationColumnsLen = input.readVarIntAsInt();
+
+            IntList colocationColumns;
+
+            if (colocationColumnsLen == -1) {
+                colocationColumns = primaryKeyColumns;
+            } else {
+                int[] colocationColumnIdxs = input.readIntArray(colocationColumnsLen);
+                colocationColumns = resolveColumnIdsByIndexes(columns, colocationColumnIdxs);
+            }
+
+            double staleRowsFraction = input.readDouble();
+            long minStaleRowsCount = input.readVarInt();
+
+            List<Object> rangeSplitPoints = readRangeSplitPoints(input);
+
+            return CatalogTableDescriptor.builder()
+                    .id(id)
+                    .schemaId(schemaId)
+                    .primaryKeyIndexId(pkIndexId)
+                    .name(name)
+                    .zoneId(zoneId)
+                    .primaryKeyColumns(primaryKeyColumns)
+                    .colocationColumns(colocationColumns)
+                    .schemaVersions(schemaVersions)
+                    .storageProfile(storageProfile)
+                    .timestamp(updateTimestamp)
+                    .staleRowsFraction(staleRowsFraction)
+                    .minStaleRowsCount(minStaleRowsCount)
+                    .rangeSplitPoints(rangeSplitPoints)
+                    .build();
+        }
+
+        @Override
+        public void writeTo(CatalogTableDescriptor descriptor, CatalogObjectDataOutput output) throws IOException {
+            output.writeVarInt(descriptor.id());
+            output.writeUTF(descriptor.name());
+            output.writeVarInt(descriptor.updateTimestamp().longValue());
+
+            output.writeEntry(descriptor.schemaVersions());
+            output.writeUTF(descriptor.storageProfile());
+
+            output.writeVarInt(descriptor.schemaId());
+            output.writeVarInt(descriptor.primaryKeyIndexId());
+            output.writeVarInt(descriptor.zoneId());
+
+            int[] pkIndexes = CatalogUtils.resolveColumnIndexesByIds(descriptor, descriptor.primaryKeyColumns());
+
+            output.writeVarInt(pkIndexes.length);
+            output.writeIntArray(pkIndexes);
+
+            if (descriptor.colocationColumns() == descriptor.primaryKeyColumns()) {
+                output.writeVarInt(-1);
+            } else {
+                int[] colocationIndexes = CatalogUtils.resolveColumnIndexesByIds(descriptor, descriptor.colocationColumns());
+
+                output.writeVarInt(colocationIndexes.length);
+                output.writeIntArray(colocationIndexes);
+            }
+
+            output.writeDouble(descriptor.properties().staleRowsFraction());
+            output.writeVarInt(descriptor.properties().minStaleRowsCount());
+
+            writeRangeSplitPoints(descriptor.rangeSplitPoints(), output);
+        }
+
+        private static @Nullable List<Object> readRangeSplitPoints(CatalogObjectDataInput input) throws IOException {
+            int size = input.readVarIntAsInt();
+
+            if (size == -1) {
+                return null;
+            }
+
+            List<Object> splitPoints = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                ConstantValue splitPoint = (ConstantValue) DefaultValue.readFrom(input);
+
+                assert splitPoint != null;
+
+                splitPoints.add(splitPoint.value());
+            }
+
+            return splitPoints;
+        }
+
+        private static void writeRangeSplitPoints(@Nullable List<Object> splitPoints, CatalogObjectDataOutput output) throws IOException {
+            if (splitPoints == null) {
+                output.writeVarInt(-1);
+
+                return;
+            }
+
+            output.writeVarInt(splitPoints.size());
+
+            // Split points are typed constants, exactly like default values of columns, so they are stored in the same format.
+            for (Object splitPoint : splitPoints) {
+                DefaultValue.writeTo(DefaultValue.constant(splitPoint), output);
+            }
+        }
+    }
+
+    @CatalogSerializer(version = 5, since = "3.2.0")
+    static class TableDescriptorSerializerV5 implements CatalogObjectSerializer<CatalogTableDescriptor> {
+        @Override
+        public CatalogTableDescriptor readFrom(CatalogObjectDataInput input) throws IOException {
+            int id = input.readVarIntAsInt();
+            String name = input.readUTF();
+            long updateTimestampLong = input.readVarInt();
+            HybridTimestamp updateTimestamp = updateTimestampLong == 0 ? MIN_VALUE : hybridTimestamp(updateTimestampLong);
+
+            CatalogTableSchemaVersions schemaVersions = input.readEntry(CatalogTableSchemaVersions.class);
+            List<CatalogTableColumnDescriptor> columns = schemaVersions.latestVersionColumns();
+            String storageProfile = input.readUTF();
+
+            int schemaId = input.readVarIntAsInt();
+            int pkIndexId = input.readVarIntAsInt();
+            int zoneId = input.readVarIntAsInt();
+
+            int pkKeysLen = input.readVarIntAsInt();
+            int[] pkColumnIndexes = input.readIntArray(pkKeysLen);
+            IntList primaryKeyColumns = new IntArrayList(pkColumnIndexes.length);
+
+            for (int idx : pkColumnIndexes) {
+                primaryKeyColumns.add(columns.get(idx).id());
+            }
+
+            int colocationColumnsLen = input.readVarIntAsInt();
+
+            IntList colocationColumns;
+
+            if (colocationColumnsLen == -1) {
+                colocationColumns = primaryKeyColumns;
+            } else {
+                int[] colocationColumnIdxs = input.readIntArray(colocationColumnsLen);
+                colocationColumns = resolveColumnIdsByIndexes(columns, colocationColumnIdxs);
+            }
+
+            double staleRowsFraction = input.readDouble();
+            long minStaleRowsCount = input.readVarInt();
+
+            List<Object> rangeSplitPoints = TableDescriptorSerializerV4.readRangeSplitPoints(input);
+
+            String materializedViewQuery = null;
+            IntList materializedViewSources = null;
+
+            if (input.readBoolean()) {
+                materializedViewQuery = input.readUTF();
+
+                int sourcesLen = input.readVarIntAsInt();
+                materializedViewSources = IntList.of(input.readIntArray(sourcesLen));
+            }
+
+            return CatalogTableDescriptor.builder()
+                    .id(id)
+                    .schemaId(schemaId)
+                    .primaryKeyIndexId(pkIndexId)
+                    .name(name)
+                    .zoneId(zoneId)
+                    .primaryKeyColumns(primaryKeyColumns)
+                    .colocationColumns(colocationColumns)
+                    .schemaVersions(schemaVersions)
+                    .storageProfile(storageProfile)
+                    .timestamp(updateTimestamp)
+                    .staleRowsFraction(staleRowsFraction)
+                    .minStaleRowsCount(minStaleRowsCount)
+                    .rangeSplitPoints(rangeSplitPoints)
+                    .materializedView(materializedViewQuery, materializedViewSources)
+                    .build();
+        }
+
+        @Override
+        public void writeTo(CatalogTableDescriptor descriptor, CatalogObjectDataOutput output) throws IOException {
+            output.writeVarInt(descriptor.id());
+            output.writeUTF(descriptor.name());
+            output.writeVarInt(descriptor.updateTimestamp().longValue());
+
+            output.writeEntry(descriptor.schemaVersions());
+            output.writeUTF(descriptor.storageProfile());
+
+            output.writeVarInt(descriptor.schemaId());
+            output.writeVarInt(descriptor.primaryKeyIndexId());
+            output.writeVarInt(descriptor.zoneId());
+
+            int[] pkIndexes = CatalogUtils.resolveColumnIndexesByIds(descriptor, descriptor.primaryKeyColumns());
+
+            output.writeVarInt(pkIndexes.length);
+            output.writeIntArray(pkIndexes);
+
+            if (descriptor.colocationColumns() == descriptor.primaryKeyColumns()) {
+                output.writeVarInt(-1);
+            } else {
+                int[] colocationIndexes = CatalogUtils.resolveColumnIndexesByIds(descriptor, descriptor.colocationColumns());
+
+                output.writeVarInt(colocationIndexes.length);
+                output.writeIntArray(colocationIndexes);
+            }
+
+            output.writeDouble(descriptor.properties().staleRowsFraction());
+            output.writeVarInt(descriptor.properties().minStaleRowsCount());
+
+            TableDescriptorSerializerV4.writeRangeSplitPoints(descriptor.rangeSplitPoints(), output);
+
+            String materializedViewQuery = descriptor.materializedViewQuery();
+            IntList materializedViewSources = descriptor.materializedViewSources();
+
+            output.writeBoolean(materializedViewQuery != null);
+
+            if (materializedViewQuery != null) {
+                assert materializedViewSources != null;
+
+                output.writeUTF(materializedViewQuery);
+                output.writeVarInt(materializedViewSources.size());
+                output.writeIntArray(materializedViewSources.toIntArray());
+            }
+        }
+    }
+
     /**
      * Return column IDs for the given column positions in columns list.
      */
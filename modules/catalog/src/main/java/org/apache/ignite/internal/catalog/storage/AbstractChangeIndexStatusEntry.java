@@ -17,10 +17,8 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.indexOrThrow;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.replaceIndex;
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.replaceSchema;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrThrow;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.tableOrThrow;
 
@@ -53,14 +51,7 @@ abstract class AbstractChangeIndexStatusEntry implements UpdateEntry {
 
         CatalogIndexDescriptor newIndexDescriptor = updateIndexStatus(catalog, timestamp, newStatus);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                replaceSchema(replaceIndex(schema, newIndexDescriptor), catalog.schemas()),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withSchema(replaceIndex(schema, newIndexDescriptor));
     }
 
     static CatalogSchemaDescriptor schemaByIndexId(Catalog catalog, int indexId) {
@@ -17,8 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.replaceSchema;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.replaceTable;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrThrow;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.tableOrThrow;
@@ -44,14 +42,7 @@ abstract class AbstractUpdateTableEntry implements UpdateEntry {
 
         CatalogSchemaDescriptor modifiedSchemaDescriptor = replaceTable(schema, modifiedTable);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                replaceSchema(modifiedSchemaDescriptor, catalog.schemas()),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withSchema(modifiedSchemaDescriptor);
     }
 
     /**
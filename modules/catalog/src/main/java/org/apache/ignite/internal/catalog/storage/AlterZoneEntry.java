@@ -17,9 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static java.util.stream.Collectors.toList;
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
 import org.apache.ignite.internal.catalog.events.AlterZoneEventParameters;
@@ -68,16 +65,7 @@ public class AlterZoneEntry implements UpdateEntry, Fireable {
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
         descriptor.updateTimestamp(timestamp);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones().stream()
-                        .map(z -> z.id() == descriptor.id() ? descriptor : z)
-                        .collect(toList()),
-                catalog.schemas(),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withZone(descriptor);
     }
 
     @Override
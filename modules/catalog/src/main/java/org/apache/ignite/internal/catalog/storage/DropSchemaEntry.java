@@ -17,9 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static java.util.stream.Collectors.toList;
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -52,14 +49,7 @@ public class DropSchemaEntry implements UpdateEntry {
 
     @Override
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                catalog.schemas().stream().filter(s -> s.id() != schemaId).collect(toList()),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withoutSchema(schemaId);
     }
 
     @Override
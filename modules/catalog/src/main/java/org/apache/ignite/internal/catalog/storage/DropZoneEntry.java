@@ -17,9 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static java.util.stream.Collectors.toList;
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
 import org.apache.ignite.internal.catalog.events.CatalogEventParameters;
@@ -65,14 +62,7 @@ public class DropZoneEntry implements UpdateEntry, Fireable {
 
     @Override
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones().stream().filter(z -> z.id() != zoneId).collect(toList()),
-                catalog.schemas(),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withoutZone(zoneId);
     }
 
     @Override
@@ -17,12 +17,10 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrThrow;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.tableOrThrow;
 
 import org.apache.ignite.internal.catalog.Catalog;
-import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
@@ -78,21 +76,14 @@ public class NewIndexEntry implements UpdateEntry, Fireable {
 
         newDescriptor.updateTimestamp(timestamp);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                CatalogUtils.replaceSchema(new CatalogSchemaDescriptor(
-                        schema.id(),
-                        schema.name(),
-                        schema.tables(),
-                        ArrayUtils.concat(schema.indexes(), newDescriptor),
-                        schema.systemViews(),
-                        timestamp
-                ), catalog.schemas()),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withSchema(new CatalogSchemaDescriptor(
+                schema.id(),
+                schema.name(),
+                schema.tables(),
+                ArrayUtils.concat(schema.indexes(), newDescriptor),
+                schema.systemViews(),
+                timestamp
+        ));
     }
 
     @Override
@@ -17,14 +17,10 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
-import java.util.List;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
-import org.apache.ignite.internal.util.CollectionUtils;
 
 /**
  * New schema entry.
@@ -45,14 +41,7 @@ public class NewSchemaEntry implements UpdateEntry {
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
         descriptor.updateTimestamp(timestamp);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                CollectionUtils.concat(catalog.schemas(), List.of(descriptor)),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withSchema(descriptor);
     }
 
     /** {@inheritDoc} */
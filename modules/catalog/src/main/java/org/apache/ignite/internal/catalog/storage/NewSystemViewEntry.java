@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrThrow;
 
 import java.util.Arrays;
@@ -25,7 +24,6 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.catalog.Catalog;
-import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSystemViewDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
@@ -92,14 +90,7 @@ public class NewSystemViewEntry implements UpdateEntry, Fireable {
                 sysViewArray,
                 timestamp);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                CatalogUtils.replaceSchema(newSystemSchema, catalog.schemas()),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withSchema(newSystemSchema);
     }
 
     /** {@inheritDoc} */
@@ -17,12 +17,9 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrThrow;
 
-import java.util.List;
 import org.apache.ignite.internal.catalog.Catalog;
-import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
@@ -74,23 +71,14 @@ public class NewTableEntry implements UpdateEntry, Fireable {
 
         descriptor.updateTimestamp(timestamp);
 
-        List<CatalogSchemaDescriptor> schemas = CatalogUtils.replaceSchema(new CatalogSchemaDescriptor(
+        return catalog.withSchema(new CatalogSchemaDescriptor(
                 schema.id(),
                 schema.name(),
                 ArrayUtils.concat(schema.tables(), descriptor),
                 schema.indexes(),
                 schema.systemViews(),
                 timestamp
-        ), catalog.schemas());
-
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                schemas,
-                defaultZoneIdOpt(catalog)
-        );
+        ));
     }
 
     @Override
@@ -17,9 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
-import java.util.List;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
@@ -28,7 +25,6 @@ import org.apache.ignite.internal.catalog.events.CreateZoneEventParameters;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.tostring.S;
-import org.apache.ignite.internal.util.CollectionUtils;
 
 /**
  * Describes addition of a new zone.
@@ -69,14 +65,7 @@ public class NewZoneEntry implements UpdateEntry, Fireable {
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
         descriptor.updateTimestamp(timestamp);
 
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                CollectionUtils.concat(catalog.zones(), List.of(descriptor)),
-                catalog.schemas(),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withZone(descriptor);
     }
 
     @Override
@@ -17,8 +17,6 @@
 
 package org.apache.ignite.internal.catalog.storage;
 
-import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
-
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -46,14 +44,7 @@ public class ObjectIdGenUpdateEntry implements UpdateEntry {
 
     @Override
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState() + delta,
-                catalog.zones(),
-                catalog.schemas(),
-                defaultZoneIdOpt(catalog)
-        );
+        return catalog.withObjectIdGenState(catalog.objectIdGenState() + delta);
     }
 
     @Override
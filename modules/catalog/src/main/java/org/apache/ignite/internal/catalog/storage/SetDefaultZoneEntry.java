@@ -62,14 +62,7 @@ public class SetDefaultZoneEntry implements UpdateEntry, Fireable {
 
     @Override
     public Catalog applyUpdate(Catalog catalog, HybridTimestamp timestamp) {
-        return new Catalog(
-                catalog.version(),
-                catalog.time(),
-                catalog.objectIdGenState(),
-                catalog.zones(),
-                catalog.schemas(),
-                zoneId
-        );
+        return catalog.withDefaultZone(zoneId);
     }
 
     @Override
@@ -21,9 +21,12 @@ import static org.apache.ignite.internal.type.NativeTypes.BOOLEAN;
 import static org.apache.ignite.internal.type.NativeTypes.INT32;
 import static org.apache.ignite.internal.type.NativeTypes.STRING;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogSystemViewProvider;
@@ -31,6 +34,7 @@ import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.util.FlatteningIterator;
 import org.apache.ignite.internal.util.SubscriptionUtils;
@@ -55,18 +59,20 @@ public class TablesSystemViewProvider implements CatalogSystemViewProvider {
     }
 
     private static SystemView<?> getTablesSystemView(Supplier<Catalog> catalogSupplier) {
-        Iterable<TableWithSchemaAndZoneName> tablesData = () -> {
-            Catalog catalog = catalogSupplier.get();
+        Function<SystemViewScanCriteria, Publisher<TableWithSchemaAndZoneName>> viewDataPublisher = criteria -> {
+            Iterable<TableWithSchemaAndZoneName> tablesData = () -> {
+                Catalog catalog = catalogSupplier.get();
 
-            return catalog.tables().stream().map(table -> {
-                String schemaName = Objects.requireNonNull(catalog.schema(table.schemaId()), "Schema must be not null.").name();
-                String zoneName = Objects.requireNonNull(catalog.zone(table.zoneId()), "Zone must be not null.").name();
+                return new TransformingIterator<>(tables(catalog, criteria), table -> {
+                    String schemaName = Objects.requireNonNull(catalog.schema(table.schemaId()), "Schema must be not null.").name();
+                    String zoneName = Objects.requireNonNull(catalog.zone(table.zoneId()), "Zone must be not null.").name();
 
-                return new TableWithSchemaAndZoneName(table, schemaName, zoneName);
-            }).iterator();
-        };
+                    return new TableWithSchemaAndZoneName(table, schemaName, zoneName);
+                });
+            };
 
-        Publisher<TableWithSchemaAndZoneName> viewDataPublisher = SubscriptionUtils.fromIterable(tablesData);
+            return SubscriptionUtils.fromIterable(tablesData);
+        };
 
         return SystemViews.<TableWithSchemaAndZoneName>clusterViewBuilder()
                 .name("TABLES")
@@ -89,7 +95,7 @@ public class TablesSystemViewProvider implements CatalogSystemViewProvider {
                 .addColumn("COLOCATION_KEY_INDEX", STRING, entry ->
                         concatColumns(CatalogUtils.resolveColumnNames(entry.table, entry.table.colocationColumns())))
                 .addColumn("ZONE", STRING, entry -> entry.zoneName)
-                .dataProvider(viewDataPublisher)
+                .filteringDataProvider(viewDataPublisher)
                 .build();
     }
 
@@ -101,26 +107,28 @@ public class TablesSystemViewProvider implements CatalogSystemViewProvider {
     }
 
     private static SystemView<?> getTableColumnsSystemView(Supplier<Catalog> catalogSupplier) {
-        Iterable<ColumnMetadata> viewData = () -> {
-            Catalog catalog = catalogSupplier.get();
-
-            return new FlatteningIterator<>(
-                    new TransformingIterator<>(
-                            catalog.tables().iterator(),
-                            table -> {
-                                String schemaName = catalog.schema(table.schemaId()).name();
-
-                                return TransformingIterator.newIterable(
-                                        table.columns(),
-                                        column -> new ColumnMetadata(schemaName, table, column)
-                                );
-                            }
-                    )
-            );
+        Function<SystemViewScanCriteria, Publisher<ColumnMetadata>> viewDataPublisher = criteria -> {
+            Iterable<ColumnMetadata> viewData = () -> {
+                Catalog catalog = catalogSupplier.get();
+
+                return new FlatteningIterator<>(
+                        new TransformingIterator<>(
+                                tables(catalog, criteria),
+                                table -> {
+                                    String schemaName = catalog.schema(table.schemaId()).name();
+
+                                    return TransformingIterator.newIterable(
+                                            table.columns(),
+                                            column -> new ColumnMetadata(schemaName, table, column)
+                                    );
+                                }
+                        )
+                );
+            };
+
+            return SubscriptionUtils.fromIterable(viewData);
         };
 
-        Publisher<ColumnMetadata> viewDataPublisher = SubscriptionUtils.fromIterable(viewData);
-
         return SystemViews.<ColumnMetadata>clusterViewBuilder()
                 .name("TABLE_COLUMNS")
                 .addColumn("SCHEMA_NAME", STRING, entry -> entry.schema)
@@ -145,10 +153,35 @@ public class TablesSystemViewProvider implements CatalogSystemViewProvider {
                 .addColumn("SCALE", INT32, entry -> entry.columnDescriptor.scale())
                 .addColumn("LENGTH", INT32, entry -> entry.columnDescriptor.length())
                 // End of legacy columns list. New columns must be added below this line.
-                .dataProvider(viewDataPublisher)
+                .filteringDataProvider(viewDataPublisher)
                 .build();
     }
 
+    /** Returns tables of the given catalog, using the criteria of a scan to avoid iterating over all of them where possible. */
+    private static Iterator<CatalogTableDescriptor> tables(Catalog catalog, SystemViewScanCriteria criteria) {
+        Integer tableId = criteria.equalTo("TABLE_ID");
+        String schemaName = criteria.equalTo("SCHEMA_NAME");
+        String tableName = criteria.equalTo("TABLE_NAME");
+
+        CatalogTableDescriptor table;
+
+        if (tableId != null) {
+            table = catalog.table(tableId);
+        } else if (schemaName != null && tableName != null) {
+            table = catalog.table(schemaName, tableName);
+        } else if (tableName != null) {
+            return catalog.tables().stream()
+                    .filter(t -> tableName.equals(t.name()))
+                    .iterator();
+        } else {
+            return catalog.tables().iterator();
+        }
+
+        return table == null
+                ? Collections.emptyIterator()
+                : List.of(table).iterator();
+    }
+
     private static class ColumnMetadata {
         private final CatalogTableColumnDescriptor columnDescriptor;
         private final String schema;
@@ -99,6 +99,7 @@ import org.apache.ignite.internal.catalog.commands.CreateTableCommand;
 import org.apache.ignite.internal.catalog.commands.CreateTableCommandBuilder;
 import org.apache.ignite.internal.catalog.commands.CreateZoneCommand;
 import org.apache.ignite.internal.catalog.commands.DefaultValue;
+import org.apache.ignite.internal.catalog.commands.DropTableCommand;
 import org.apache.ignite.internal.catalog.commands.RenameTableCommand;
 import org.apache.ignite.internal.catalog.commands.StorageProfileParams;
 import org.apache.ignite.internal.catalog.commands.TableHashPrimaryKey;
@@ -134,6 +135,7 @@ public class CatalogTableTest extends BaseCatalogManagerTest {
     private static final String NEW_COLUMN_NAME = "NEWCOL";
     private static final String NEW_COLUMN_NAME_2 = "NEWCOL2";
     private static final int DFLT_TEST_PRECISION = 11;
+    private static final String MATERIALIZED_VIEW_QUERY = "SELECT \"ID\", \"VAL\" FROM \"PUBLIC\".\"test_table\"";
 
     @Test
     public void testCreateTable() {
@@ -502,6 +504,59 @@ public class CatalogTableTest extends BaseCatalogManagerTest {
         );
     }
 
+    @Test
+    public void testMaterializedView() {
+        tryApplyAndExpectApplied(simpleTable(TABLE_NAME));
+        tryApplyAndExpectApplied(simpleMaterializedView(TABLE_NAME_2, actualTable(TABLE_NAME).id()));
+
+        CatalogTableDescriptor view = actualTable(TABLE_NAME_2);
+
+        assertTrue(view.isMaterializedView());
+        assertEquals(MATERIALIZED_VIEW_QUERY, view.materializedViewQuery());
+        assertEquals(IntList.of(actualTable(TABLE_NAME).id()), view.materializedViewSources());
+
+        assertThat(
+                manager.execute(dropTableCommand(TABLE_NAME_2)),
+                willThrowFast(CatalogValidationException.class, "Table 'test_table_2' is a materialized view. Use DROP MATERIALIZED VIEW")
+        );
+
+        assertThat(
+                manager.execute(dropColumnParams(TABLE_NAME_2, "VAL")),
+                willThrowFast(CatalogValidationException.class, "Columns of materialized view 'test_table_2' can't be changed.")
+        );
+
+        tryApplyAndExpectApplied(DropTableCommand.builder().schemaName(SCHEMA_NAME).tableName(TABLE_NAME_2).materializedView(true).build());
+
+        assertNull(manager.latestCatalog().table(SCHEMA_NAME, TABLE_NAME_2));
+    }
+
+    @Test
+    public void testTableReadByMaterializedViewCanNotBeDropped() {
+        tryApplyAndExpectApplied(simpleTable(TABLE_NAME));
+        tryApplyAndExpectApplied(simpleMaterializedView(TABLE_NAME_2, actualTable(TABLE_NAME).id()));
+
+        assertThat(
+                manager.execute(dropTableCommand(TABLE_NAME)),
+                willThrowFast(
+                        CatalogValidationException.class,
+                        "Table 'test_table' can't be dropped, because materialized view 'test_table_2' depends on it."
+                )
+        );
+
+        assertThat(
+                manager.execute(dropColumnParams(TABLE_NAME, "VAL")),
+                willThrowFast(
+                        CatalogValidationException.class,
+                        "Columns of table 'test_table' can't be dropped, because materialized view 'test_table_2' depends on it."
+                )
+        );
+
+        assertThat(
+                manager.execute(DropTableCommand.builder().schemaName(SCHEMA_NAME).tableName(TABLE_NAME).materializedView(true).build()),
+                willThrowFast(CatalogValidationException.class, "Table 'test_table' is not a materialized view. Use DROP TABLE")
+        );
+    }
+
     @Test
     public void testDropColumnWithIndexColumns() {
         tryApplyAndExpectApplied(simpleTable(TABLE_NAME));
@@ -1539,6 +1594,17 @@ public class CatalogTableTest extends BaseCatalogManagerTest {
         }
     }
 
+    private static CatalogCommand simpleMaterializedView(String viewName, int sourceTableId) {
+        List<ColumnParams> columns = List.of(
+                columnParams("ID", INT32),
+                columnParamsBuilder("VAL", INT32, true).defaultValue(constant(null)).build()
+        );
+
+        return createTableCommandBuilder(SCHEMA_NAME, viewName, columns, List.of("ID"), null)
+                .materializedView(MATERIALIZED_VIEW_QUERY, IntList.of(sourceTableId))
+                .build();
+    }
+
     private static BaseMatcher<CatalogTableDescriptor> tableThatSatisfies(String description, Predicate<CatalogTableDescriptor> predicate) {
         return new BaseMatcher<>() {
             @Override
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.catalog;
+
+import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.defaultZoneIdOpt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.apache.ignite.internal.catalog.descriptors.CatalogObjectDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
+import org.junit.jupiter.api.Test;
+
+/** Tests for incremental derivation of catalog versions. */
+public class CatalogTest extends BaseCatalogManagerTest {
+    @Test
+    void incrementalVersionMatchesFullRebuild() {
+        createSomeTable(TABLE_NAME);
+        createSomeTable(TABLE_NAME_2);
+        createSomeTable(TABLE_NAME_3);
+
+        tryApplyAndExpectApplied(createHashIndexCommand(TABLE_NAME, INDEX_NAME, false, List.of("key1")));
+        tryApplyAndExpectApplied(createHashIndexCommand(TABLE_NAME_2, INDEX_NAME_2, false, List.of("key1")));
+        tryApplyAndExpectApplied(renameIndexCommand(INDEX_NAME_2, "renamedIndex"));
+
+        int droppedTableId = manager.latestCatalog().table(SCHEMA_NAME, TABLE_NAME_3).id();
+
+        tryApplyAndExpectApplied(dropTableCommand(TABLE_NAME_3));
+
+        Catalog catalog = manager.latestCatalog();
+
+        var rebuilt = new Catalog(
+                catalog.version(),
+                catalog.time(),
+                catalog.objectIdGenState(),
+                catalog.zones(),
+                catalog.schemas(),
+                defaultZoneIdOpt(catalog)
+        );
+
+        assertEquals(ids(rebuilt.tables()), ids(catalog.tables()));
+        assertEquals(ids(rebuilt.indexes()), ids(catalog.indexes()));
+        assertEquals(ids(rebuilt.zones()), ids(catalog.zones()));
+
+        for (CatalogTableDescriptor table : rebuilt.tables()) {
+            assertSame(table, catalog.table(table.id()));
+            assertEquals(rebuilt.indexes(table.id()), catalog.indexes(table.id()));
+        }
+
+        for (CatalogZoneDescriptor zone : rebuilt.zones()) {
+            assertEquals(ids(rebuilt.tables(zone.id())), ids(catalog.tables(zone.id())));
+        }
+
+        assertNull(catalog.table(droppedTableId));
+        assertNotNull(catalog.aliveIndex(SCHEMA_NAME, "renamedIndex"));
+    }
+
+    @Test
+    void unchangedObjectsAreSharedBetweenVersions() {
+        createSomeTable(TABLE_NAME);
+
+        Catalog previous = manager.latestCatalog();
+
+        CatalogTableDescriptor table = previous.table(SCHEMA_NAME, TABLE_NAME);
+
+        assertNotNull(table);
+
+        createSomeTable(TABLE_NAME_2);
+
+        Catalog latest = manager.latestCatalog();
+
+        assertSame(table, latest.table(table.id()));
+        assertSame(previous.indexes(table.id()), latest.indexes(table.id()));
+    }
+
+    private static Set<Integer> ids(Collection<? extends CatalogObjectDescriptor> descriptors) {
+        return descriptors.stream().map(CatalogObjectDescriptor::id).collect(toSet());
+    }
+}
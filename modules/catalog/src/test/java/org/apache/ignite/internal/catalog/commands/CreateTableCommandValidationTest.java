@@ -17,9 +17,11 @@
 
 package org.apache.ignite.internal.catalog.commands;
 
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrows;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.sql.ColumnType.BOOLEAN;
 import static org.apache.ignite.sql.ColumnType.INT32;
 import static org.apache.ignite.sql.ColumnType.UUID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -327,6 +329,96 @@ public class CreateTableCommandValidationTest extends AbstractCommandValidationT
         );
     }
 
+    @Test
+    void rangePartitionedTableShouldHaveSingleColocationColumn() {
+        CreateTableCommandBuilder builder = CreateTableCommand.builder();
+
+        builder = fillProperties(builder)
+                .columns(List.of(
+                        ColumnParams.builder().name("C1").type(INT32).build(),
+                        ColumnParams.builder().name("C2").type(INT32).build()
+                ))
+                .primaryKey(primaryKey("C1", "C2"))
+                .colocationColumns(List.of("C1", "C2"))
+                .rangeSplitPoints(List.of(10));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Range-partitioned table must have exactly one colocation column."
+        );
+    }
+
+    @Test
+    void rangeSplitPointsShouldMatchColocationColumnType() {
+        CreateTableCommandBuilder builder = CreateTableCommand.builder();
+
+        builder = fillProperties(builder)
+                .rangeSplitPoints(List.of(10L));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Split point 10 does not match the type INT32 of the colocation column 'C'."
+        );
+    }
+
+    @Test
+    void rangeSplitPointsShouldBeAscending() {
+        CreateTableCommandBuilder builder = CreateTableCommand.builder();
+
+        builder = fillProperties(builder)
+                .rangeSplitPoints(List.of(20, 10));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Split points must be strictly ascending"
+        );
+    }
+
+    @Test
+    void rangePartitioningIsNotSupportedForBooleanColumns() {
+        CreateTableCommandBuilder builder = CreateTableCommand.builder();
+
+        builder = fillProperties(builder)
+                .columns(List.of(ColumnParams.builder().name("C").type(BOOLEAN).build()))
+                .rangeSplitPoints(List.of(true));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Range partitioning is not supported for column 'C' of type BOOLEAN."
+        );
+    }
+
+    @Test
+    void numberOfRangePartitionsShouldMatchZonePartitions() {
+        Catalog catalog = catalogWithDefaultZone(CreateZoneCommand.builder()
+                .zoneName("RANGE_ZONE")
+                .partitions(3)
+                .storageProfilesParams(List.of(StorageProfileParams.builder().storageProfile(DEFAULT_STORAGE_PROFILE).build()))
+                .build());
+
+        CatalogCommand command = fillProperties(CreateTableCommand.builder())
+                .zone("RANGE_ZONE")
+                .rangeSplitPoints(List.of(10))
+                .build();
+
+        assertThrowsWithCause(
+                () -> command.get(new UpdateContext(catalog)),
+                CatalogValidationException.class,
+                "Number of range partitions must be equal to the number of partitions of the zone [zone=RANGE_ZONE, partitions=3, "
+                        + "splitPoints=1]."
+        );
+
+        assertDoesNotThrow(() -> fillProperties(CreateTableCommand.builder())
+                .zone("RANGE_ZONE")
+                .rangeSplitPoints(List.of(10, 20))
+                .build()
+                .get(new UpdateContext(catalog)));
+    }
+
     @ParameterizedTest
     @ValueSource(doubles = {
             Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1, 1.1
@@ -259,6 +259,20 @@ public class CatalogEntrySerializationTest extends BaseIgniteAbstractTest {
         checkSerialization(serializerVersion, new NewTableEntry(newTableDescriptor("Table1", columns, IntList.of(1, 2), IntList.of())));
         checkSerialization(serializerVersion, new NewTableEntry(newTableDescriptor("Table1", columns, IntList.of(1, 2), IntList.of(2))));
         checkSerialization(serializerVersion, new NewTableEntry(newTableDescriptor("Table1", columns, IntList.of(1, 2), IntList.of(1))));
+
+        if (serializerVersion > 1) {
+            CatalogTableDescriptor rangeTable = newTableDescriptor("Table1", columns, IntList.of(1, 2), IntList.of(1)).copyBuilder()
+                    .rangeSplitPoints(List.of(10, 20, 30))
+                    .build();
+
+            checkSerialization(serializerVersion, new NewTableEntry(rangeTable));
+
+            CatalogTableDescriptor materializedView = newTableDescriptor("View1", columns, IntList.of(1), null).copyBuilder()
+                    .materializedView("SELECT \"C1\", COUNT(*) AS \"CNT\" FROM \"PUBLIC\".\"T\" GROUP BY \"C1\"", IntList.of(4, 7))
+                    .build();
+
+            checkSerialization(serializerVersion, new NewTableEntry(materializedView));
+        }
     }
 
     @ParameterizedTest(name = "serializerVersion={0}")
@@ -421,4 +421,40 @@ public class CatalogSerializationCompatibilityV2ReadsV2Test extends CatalogSeria
         checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE.id(), tableSerializerVersion);
         checker.compareEntries(entries, "NewTableEntry", snapshotFileSuffix);
     }
+
+    @Test
+    public void newTableV4() {
+        int tableSerializerVersion = 4;
+        int tableVersionsSerializerVersion = 3;
+        int tableColumnSerializerVersion = 3;
+        int snapshotFileSuffix = 4;
+
+        List<UpdateEntry> entries = TestTableDescriptors.tables(state, tableSerializerVersion)
+                .stream()
+                .map(NewTableEntry::new)
+                .collect(Collectors.toList());
+
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE_SCHEMA_VERSIONS.id(), tableVersionsSerializerVersion);
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE_COLUMN.id(), tableColumnSerializerVersion);
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE.id(), tableSerializerVersion);
+        checker.compareEntries(entries, "NewTableEntry", snapshotFileSuffix);
+    }
+
+    @Test
+    public void newTableV5() {
+        int tableSerializerVersion = 5;
+        int tableVersionsSerializerVersion = 3;
+        int tableColumnSerializerVersion = 3;
+        int snapshotFileSuffix = 5;
+
+        List<UpdateEntry> entries = TestTableDescriptors.tables(state, tableSerializerVersion)
+                .stream()
+                .map(NewTableEntry::new)
+                .collect(Collectors.toList());
+
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE_SCHEMA_VERSIONS.id(), tableVersionsSerializerVersion);
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE_COLUMN.id(), tableColumnSerializerVersion);
+        checker.addExpectedVersion(MarshallableEntryType.DESCRIPTOR_TABLE.id(), tableSerializerVersion);
+        checker.compareEntries(entries, "NewTableEntry", snapshotFileSuffix);
+    }
 }
@@ -42,6 +42,10 @@ final class TestTableDescriptors {
                 return tablesV0(state);
             case 3:
                 return tablesV3(state);
+            case 4:
+                return tablesV4(state);
+            case 5:
+                return tablesV5(state);
             default:
                 throw new IllegalArgumentException("Unexpected table version: " + version);
         }
@@ -147,4 +151,59 @@ final class TestTableDescriptors {
 
         return tables;
     }
+
+    private static List<CatalogTableDescriptor> tablesV4(TestDescriptorState state) {
+        List<CatalogTableDescriptor> tables = new ArrayList<>(tablesV3(state));
+
+        CatalogTableDescriptor rangeTable = CatalogTableDescriptor.builder()
+                .id(state.id())
+                .schemaId(state.id())
+                .primaryKeyIndexId(state.id())
+                .name(state.name("TABLE"))
+                .zoneId(102)
+                .newColumns(TestTableColumnDescriptors.columns(state))
+                .primaryKeyColumns(IntList.of(4))
+                .storageProfile("S1")
+                .rangeSplitPoints(List.of(state.id(), state.id() * 2, state.id() * 3))
+                .build();
+
+        tables.add(rangeTable);
+        tables.add(rangeTable.copyBuilder()
+                .name(rangeTable.name() + "_1")
+                .timestamp(HybridTimestamp.hybridTimestamp(98765L))
+                .rangeSplitPoints(List.of())
+                .build()
+        );
+
+        return tables;
+    }
+
+    private static List<CatalogTableDescriptor> tablesV5(TestDescriptorState state) {
+        List<CatalogTableDescriptor> tables = new ArrayList<>(tablesV4(state));
+
+        CatalogTableDescriptor materializedView = CatalogTableDescriptor.builder()
+                .id(state.id())
+                .schemaId(state.id())
+                .primaryKeyIndexId(state.id())
+                .name(state.name("VIEW"))
+                .zoneId(101)
+                .newColumns(TestTableColumnDescriptors.columns(state))
+                .primaryKeyColumns(IntList.of(4))
+                .storageProfile("S2")
+                .materializedView(
+                        "SELECT \"C1\", COUNT(*) AS \"CNT\" FROM \"PUBLIC\".\"T\" GROUP BY \"C1\"",
+                        IntList.of(state.id())
+                )
+                .build();
+
+        tables.add(materializedView);
+        tables.add(materializedView.copyBuilder()
+                .name(materializedView.name() + "_1")
+                .timestamp(HybridTimestamp.hybridTimestamp(56789L))
+                .materializedView("SELECT 1", IntList.of(state.id(), state.id()))
+                .build()
+        );
+
+        return tables;
+    }
 }
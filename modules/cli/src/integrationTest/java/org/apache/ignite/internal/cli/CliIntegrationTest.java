@@ -384,6 +384,7 @@ public abstract class CliIntegrationTest extends ClusterPerClassIntegrationTest
                 new MetricSource().name("thread.pools.striped.messaging.inbound.scalecube").enabled(true),
                 new MetricSource().name("topology.cluster").enabled(true),
                 new MetricSource().name("topology.local").enabled(true),
+                new MetricSource().name("tracing").enabled(true),
                 new MetricSource().name("transactions").enabled(true),
                 new MetricSource().name("zones.Default").enabled(true)
         };
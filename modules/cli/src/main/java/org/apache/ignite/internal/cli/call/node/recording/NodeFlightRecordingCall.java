@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cli.call.node.recording;
+
+import static org.apache.ignite.internal.cli.core.call.DefaultCallOutput.failure;
+import static org.apache.ignite.internal.cli.core.call.DefaultCallOutput.success;
+
+import jakarta.inject.Singleton;
+import org.apache.ignite.internal.cli.core.call.Call;
+import org.apache.ignite.internal.cli.core.call.CallOutput;
+import org.apache.ignite.internal.cli.core.exception.IgniteCliApiException;
+import org.apache.ignite.internal.cli.core.rest.ApiClientFactory;
+import org.apache.ignite.rest.client.api.NodeManagementApi;
+import org.apache.ignite.rest.client.invoker.ApiException;
+import org.apache.ignite.rest.client.model.FlightRecording;
+
+/** Starts a flight recording on a node. */
+@Singleton
+public class NodeFlightRecordingCall implements Call<NodeFlightRecordingCallInput, String> {
+    private final ApiClientFactory clientFactory;
+
+    public NodeFlightRecordingCall(ApiClientFactory clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    @Override
+    public CallOutput<String> execute(NodeFlightRecordingCallInput input) {
+        try {
+            FlightRecording recording = new NodeManagementApi(clientFactory.getClient(input.getNodeUrl()))
+                    .startFlightRecording(input.getDuration());
+
+            return success("Flight recording started, it will be saved on the node to " + recording.getPath()
+                    + " in " + recording.getDuration() + " seconds");
+        } catch (ApiException | IllegalArgumentException e) {
+            return failure(new IgniteCliApiException(e, input.getNodeUrl()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cli.call.node.recording;
+
+import org.apache.ignite.internal.cli.core.call.CallInput;
+
+/** Input for {@link NodeFlightRecordingCall}. */
+public class NodeFlightRecordingCallInput implements CallInput {
+    /** Node URL. */
+    private final String nodeUrl;
+
+    /** Recording duration in seconds. */
+    private final long duration;
+
+    /**
+     * Constructor.
+     *
+     * @param nodeUrl Node URL.
+     * @param duration Recording duration in seconds.
+     */
+    public NodeFlightRecordingCallInput(String nodeUrl, long duration) {
+        this.nodeUrl = nodeUrl;
+        this.duration = duration;
+    }
+
+    /**
+     * Get node URL.
+     *
+     * @return Node URL.
+     */
+    public String getNodeUrl() {
+        return nodeUrl;
+    }
+
+    /**
+     * Get recording duration.
+     *
+     * @return Recording duration in seconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+}
@@ -360,5 +360,11 @@ public enum Options {
 
         /** No truncate option description. */
         public static final String NO_TRUNCATE_OPTION_DESC = "Disable column truncation, show full content";
+
+        /** Flight recording duration option long name. */
+        public static final String RECORDING_DURATION_OPTION = "--duration";
+
+        /** Flight recording duration option description. */
+        public static final String RECORDING_DURATION_OPTION_DESC = "Recording duration in seconds";
     }
 }
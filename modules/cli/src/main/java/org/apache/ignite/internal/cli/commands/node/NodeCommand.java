@@ -20,6 +20,7 @@ package org.apache.ignite.internal.cli.commands.node;
 import org.apache.ignite.internal.cli.commands.BaseCommand;
 import org.apache.ignite.internal.cli.commands.node.config.NodeConfigCommand;
 import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricCommand;
+import org.apache.ignite.internal.cli.commands.node.recording.NodeRecordCommand;
 import org.apache.ignite.internal.cli.commands.node.status.NodeStatusCommand;
 import org.apache.ignite.internal.cli.commands.node.unit.NodeUnitCommand;
 import org.apache.ignite.internal.cli.commands.node.version.NodeVersionCommand;
@@ -32,7 +33,8 @@ import picocli.CommandLine.Command;
                 NodeStatusCommand.class,
                 NodeVersionCommand.class,
                 NodeMetricCommand.class,
-                NodeUnitCommand.class
+                NodeUnitCommand.class,
+                NodeRecordCommand.class
         },
         description = "Node operations")
 public class NodeCommand extends BaseCommand {
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.cli.commands.node;
 import org.apache.ignite.internal.cli.commands.BaseCommand;
 import org.apache.ignite.internal.cli.commands.node.config.NodeConfigReplCommand;
 import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricReplCommand;
+import org.apache.ignite.internal.cli.commands.node.recording.NodeRecordReplCommand;
 import org.apache.ignite.internal.cli.commands.node.status.NodeStatusReplCommand;
 import org.apache.ignite.internal.cli.commands.node.unit.NodeUnitReplCommand;
 import org.apache.ignite.internal.cli.commands.node.version.NodeVersionReplCommand;
@@ -32,7 +33,8 @@ import picocli.CommandLine.Command;
                 NodeStatusReplCommand.class,
                 NodeVersionReplCommand.class,
                 NodeMetricReplCommand.class,
-                NodeUnitReplCommand.class
+                NodeUnitReplCommand.class,
+                NodeRecordReplCommand.class
         },
         description = "Node operations")
 public class NodeReplCommand extends BaseCommand {
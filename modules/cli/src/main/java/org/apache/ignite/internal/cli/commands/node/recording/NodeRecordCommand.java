@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cli.commands.node.recording;
+
+import static org.apache.ignite.internal.cli.commands.Options.Constants.RECORDING_DURATION_OPTION;
+import static org.apache.ignite.internal.cli.commands.Options.Constants.RECORDING_DURATION_OPTION_DESC;
+
+import jakarta.inject.Inject;
+import java.util.concurrent.Callable;
+import org.apache.ignite.internal.cli.call.node.recording.NodeFlightRecordingCall;
+import org.apache.ignite.internal.cli.call.node.recording.NodeFlightRecordingCallInput;
+import org.apache.ignite.internal.cli.commands.BaseCommand;
+import org.apache.ignite.internal.cli.commands.node.NodeUrlProfileMixin;
+import org.apache.ignite.internal.cli.core.call.CallExecutionPipeline;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/** Command that starts a flight recording on a node. */
+@Command(name = "record", description = "Captures a Java Flight Recorder recording of the node with Ignite events enabled")
+public class NodeRecordCommand extends BaseCommand implements Callable<Integer> {
+    /** Node URL option. */
+    @Mixin
+    private NodeUrlProfileMixin nodeUrl;
+
+    @Option(names = RECORDING_DURATION_OPTION, description = RECORDING_DURATION_OPTION_DESC, defaultValue = "60")
+    private long duration;
+
+    @Inject
+    private NodeFlightRecordingCall call;
+
+    @Override
+    public Integer call() {
+        return runPipeline(CallExecutionPipeline.builder(call)
+                .input(new NodeFlightRecordingCallInput(nodeUrl.getNodeUrl(), duration))
+                .exceptionHandler(createHandler("Cannot start flight recording"))
+        );
+    }
+}
@@ -62,6 +62,8 @@ import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricSourceEnabl
 import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricSourceEnableReplCommand;
 import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricSourceListCommand;
 import org.apache.ignite.internal.cli.commands.node.metric.NodeMetricSourceListReplCommand;
+import org.apache.ignite.internal.cli.commands.node.recording.NodeRecordCommand;
+import org.apache.ignite.internal.cli.commands.node.recording.NodeRecordReplCommand;
 import org.apache.ignite.internal.cli.commands.node.status.NodeStatusCommand;
 import org.apache.ignite.internal.cli.commands.node.status.NodeStatusReplCommand;
 import org.apache.ignite.internal.cli.commands.node.unit.NodeUnitListCommand;
@@ -146,6 +148,7 @@ public class UrlOptionsNegativeTest extends BaseIgniteAbstractTest {
                 arguments(NodeMetricSourceDisableCommand.class, NODE_URL_OPTION, List.of("srcName")),
                 arguments(NodeMetricSourceListCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(NodeMetricSetListCommand.class, NODE_URL_OPTION, List.of()),
+                arguments(NodeRecordCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(LogicalTopologyCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(PhysicalTopologyCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(ClusterUnitDeployCommand.class, NODE_URL_OPTION,
@@ -169,6 +172,7 @@ public class UrlOptionsNegativeTest extends BaseIgniteAbstractTest {
                 arguments(NodeMetricSourceDisableReplCommand.class, NODE_URL_OPTION, List.of("srcName")),
                 arguments(NodeMetricSourceListReplCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(NodeMetricSetListReplCommand.class, NODE_URL_OPTION, List.of()),
+                arguments(NodeRecordReplCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(NodeUnitListReplCommand.class, NODE_URL_OPTION, List.of()),
                 arguments(ClusterInitReplCommand.class, NODE_URL_OPTION, List.of("--name=cluster", "--metastorage-group=test")),
                 arguments(ConnectReplCommand.class, "", List.of())
@@ -46,6 +46,7 @@ import org.apache.ignite.internal.security.authentication.AuthenticationManagerI
 import org.apache.ignite.internal.security.configuration.SecurityConfiguration;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.network.NetworkAddress;
 import org.jetbrains.annotations.Nullable;
@@ -144,7 +145,8 @@ public class TestServer {
                 EventLog.NOOP,
                 new TestLowWatermark(),
                 Runnable::run,
-                () -> true
+                () -> true,
+                new RequestTracer()
         );
 
         module.startAsync(componentContext).join();
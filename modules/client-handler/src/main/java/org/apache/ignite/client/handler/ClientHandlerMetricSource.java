@@ -18,8 +18,10 @@
 package org.apache.ignite.client.handler;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.Metric;
 
 /**
@@ -231,11 +233,17 @@ public class ClientHandlerMetricSource extends AbstractMetricSource<ClientHandle
         return h == null ? 0 : h.requestsProcessed.value();
     }
 
-    void requestsProcessedIncrement() {
+    /**
+     * Records a successfully processed request.
+     *
+     * @param durationNanos Time from the moment the request was read to the moment the response was written, in nanoseconds.
+     */
+    void requestProcessed(long durationNanos) {
         Holder h = holder();
 
         if (h != null) {
             h.requestsProcessed.increment();
+            h.requestDuration.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
         }
     }
 
@@ -361,6 +369,12 @@ public class ClientHandlerMetricSource extends AbstractMetricSource<ClientHandle
 
         private final AtomicLongMetric requestsFailed = new AtomicLongMetric("RequestsFailed", "Total failed requests");
 
+        private final HistogramMetric requestDuration = new HistogramMetric(
+                "RequestDuration",
+                "Duration of successfully processed requests in microseconds",
+                TimeUnit.MINUTES.toMicros(1)
+        );
+
         private final AtomicLongMetric transactionsActive = new AtomicLongMetric("TransactionsActive", "Active transactions");
 
         private final AtomicLongMetric cursorsActive = new AtomicLongMetric("CursorsActive", "Active cursors");
@@ -377,6 +391,7 @@ public class ClientHandlerMetricSource extends AbstractMetricSource<ClientHandle
                 requestsActive,
                 requestsProcessed,
                 requestsFailed,
+                requestDuration,
                 transactionsActive,
                 cursorsActive
         );
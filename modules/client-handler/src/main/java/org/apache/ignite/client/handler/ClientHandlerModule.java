@@ -72,6 +72,7 @@ import org.apache.ignite.internal.schema.SchemaSyncService;
 import org.apache.ignite.internal.security.authentication.AuthenticationManager;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.lang.IgniteException;
@@ -163,6 +164,8 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
 
     private final Executor partitionOperationsExecutor;
 
+    private final RequestTracer requestTracer;
+
     private final ConcurrentHashMap<String, CompletableFuture<PlatformComputeConnection>> computeExecutors = new ConcurrentHashMap<>();
 
     @TestOnly
@@ -187,6 +190,7 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
      * @param lowWatermark Low watermark.
      * @param partitionOperationsExecutor Executor for a partition operation.
      * @param ddlBatchingSuggestionEnabled Boolean supplier indicates whether the suggestion related DDL batching is enabled.
+     * @param requestTracer Starts traces of sampled client requests.
      */
     public ClientHandlerModule(
             QueryProcessor queryProcessor,
@@ -207,7 +211,8 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
             EventLog eventLog,
             LowWatermark lowWatermark,
             Executor partitionOperationsExecutor,
-            Supplier<Boolean> ddlBatchingSuggestionEnabled
+            Supplier<Boolean> ddlBatchingSuggestionEnabled,
+            RequestTracer requestTracer
     ) {
         assert igniteTables != null;
         assert queryProcessor != null;
@@ -228,6 +233,7 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
         assert ddlBatchingSuggestionEnabled != null;
         assert lowWatermark != null;
         assert partitionOperationsExecutor != null;
+        assert requestTracer != null;
 
         this.queryProcessor = queryProcessor;
         this.igniteTables = igniteTables;
@@ -252,6 +258,7 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
         this.clientConnectorConfiguration = clientConnectorConfiguration;
         this.ddlBatchingSuggestionEnabled = ddlBatchingSuggestionEnabled;
         this.partitionOperationsExecutor = partitionOperationsExecutor;
+        this.requestTracer = requestTracer;
     }
 
     /** {@inheritDoc} */
@@ -478,7 +485,8 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
                 eventLog,
                 ddlBatchingSuggestionEnabled.get()
                         ? new DdlBatchingSuggester()
-                        : ignore -> {}
+                        : ignore -> {},
+                requestTracer
         );
     }
 
@@ -30,6 +30,8 @@ import static org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature.TX_
 import static org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature.TX_DIRECT_MAPPING_SEND_REMOTE_WRITES;
 import static org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature.TX_PIGGYBACK;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.NULL_HYBRID_TIMESTAMP;
+import static org.apache.ignite.internal.tracing.TraceStage.QUEUE;
+import static org.apache.ignite.internal.tracing.TraceStage.RESPONSE;
 import static org.apache.ignite.internal.util.CompletableFutures.falseCompletedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.sneakyThrow;
@@ -47,9 +49,12 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.DecoderException;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.SocketException;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -176,6 +181,9 @@ import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.distributed.schema.SchemaVersions;
 import org.apache.ignite.internal.table.distributed.schema.SchemaVersionsImpl;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.RequestTracer;
+import org.apache.ignite.internal.tracing.RequestTracing;
 import org.apache.ignite.internal.tx.DelayedAckException;
 import org.apache.ignite.internal.tx.TransactionKilledException;
 import org.apache.ignite.internal.tx.TxManager;
@@ -211,6 +219,9 @@ public class ClientInboundMessageHandler
 
     private static final byte STATE_HANDSHAKE_RESPONSE_SENT = 2;
 
+    /** Names of the operations by their codes, used to name the spans of traced requests. */
+    private static final Map<Integer, String> OPERATION_NAMES = operationNames();
+
     /** Ignite tables API. */
     private final IgniteTablesInternal igniteTables;
 
@@ -226,6 +237,9 @@ public class ClientInboundMessageHandler
     /** Tracks the number of sequential DDL queries executed and prints suggestion to use batching. */
     private final Consumer<SqlQueryType> queryTypeListener;
 
+    /** Starts traces of sampled requests. */
+    private final RequestTracer requestTracer;
+
     /** Configuration. */
     private final ClientConnectorView configuration;
 
@@ -313,6 +327,7 @@ public class ClientInboundMessageHandler
      * @param extensions Extensions.
      * @param eventLog Event log.
      * @param queryTypeListener Tracks the number of sequential DDL queries executed and prints suggestion to use batching.
+     * @param requestTracer Starts traces of sampled requests.
      */
     public ClientInboundMessageHandler(
             IgniteTablesInternal igniteTables,
@@ -335,7 +350,8 @@ public class ClientInboundMessageHandler
             Function<String, CompletableFuture<PlatformComputeConnection>> computeConnectionFunc,
             HandshakeEventLoopSwitcher handshakeEventLoopSwitcher,
             EventLog eventLog,
-            Consumer<SqlQueryType> queryTypeListener
+            Consumer<SqlQueryType> queryTypeListener,
+            RequestTracer requestTracer
     ) {
         assert igniteTables != null;
         assert txManager != null;
@@ -354,6 +370,7 @@ public class ClientInboundMessageHandler
         assert features != null;
         assert extensions != null;
         assert eventLog != null;
+        assert requestTracer != null;
 
         this.igniteTables = igniteTables;
         this.txManager = txManager;
@@ -394,6 +411,7 @@ public class ClientInboundMessageHandler
         this.computeConnectionFunc = computeConnectionFunc;
 
         this.queryTypeListener = queryTypeListener;
+        this.requestTracer = requestTracer;
     }
 
     @Override
@@ -862,6 +880,7 @@ public class ClientInboundMessageHandler
         int opCode = -1;
 
         var guard = new ResponseWriteGuard();
+        long startNanos = System.nanoTime();
         metrics.requestsActiveIncrement();
 
         try {
@@ -879,13 +898,15 @@ public class ClientInboundMessageHandler
                 return;
             }
 
+            RequestSpan span = opCode == ClientOp.HEARTBEAT ? null : requestTracer.startTrace(operationName(opCode));
+
             if (ClientOp.isPartitionOperation(opCode)) {
                 long requestId0 = requestId;
                 int opCode0 = opCode;
 
                 partitionOperationsExecutor.execute(() -> {
                     try {
-                        processOperationInternal(ctx, in, requestId0, opCode0, guard);
+                        processOperationInternal(ctx, in, requestId0, opCode0, guard, startNanos, span);
                     } catch (Throwable t) {
                         in.close();
 
@@ -896,7 +917,7 @@ public class ClientInboundMessageHandler
                     }
                 });
             } else {
-                processOperationInternal(ctx, in, requestId, opCode, guard);
+                processOperationInternal(ctx, in, requestId, opCode, guard, startNanos, span);
             }
         } catch (Throwable t) {
             in.close();
@@ -1199,17 +1220,28 @@ public class ClientInboundMessageHandler
             ClientMessageUnpacker in,
             long requestId,
             int opCode,
-            ResponseWriteGuard guard
+            ResponseWriteGuard guard,
+            long startNanos,
+            @Nullable RequestSpan span
     ) {
         CompletableFuture<ResponseWriter> fut;
         HybridTimestampTracker tsTracker = HybridTimestampTracker.atomicTracker(null);
 
+        if (span != null) {
+            span.record(QUEUE, System.nanoTime() - span.startNanos());
+        }
+
+        // Spans of the replica requests sent while processing the operation become a part of its trace.
+        RequestSpan previousSpan = RequestTracing.attach(span);
+
         // Release request buffer synchronously.
         // Request handlers are supposed to read everything synchronously, so request buffer can be released quickly and reliably.
         try (in) {
             fut = processOperation(in, opCode, requestId, tsTracker);
         } catch (IgniteInternalCheckedException e) {
             fut = CompletableFuture.failedFuture(e);
+        } finally {
+            RequestTracing.detach(previousSpan);
         }
 
         fut.whenComplete((ResponseWriter res, Object err) -> {
@@ -1218,9 +1250,15 @@ public class ClientInboundMessageHandler
             if (err != null) {
                 writeError(requestId, opCode, (Throwable) err, ctx, false, guard);
                 metrics.requestsFailedIncrement();
+
+                if (span != null) {
+                    span.end(true);
+                }
+
                 return;
             }
 
+            long responseStartNanos = System.nanoTime();
             var out = getPacker(ctx.alloc());
 
             try {
@@ -1236,7 +1274,14 @@ public class ClientInboundMessageHandler
 
                 writeAndFlush(out, ctx, guard);
 
-                metrics.requestsProcessedIncrement();
+                long endNanos = System.nanoTime();
+
+                metrics.requestProcessed(endNanos - startNanos);
+
+                if (span != null) {
+                    span.record(RESPONSE, endNanos - responseStartNanos);
+                    span.end(false);
+                }
 
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Client request processed [id=" + requestId + ", op=" + opCode
@@ -1250,6 +1295,28 @@ public class ClientInboundMessageHandler
         });
     }
 
+    private static String operationName(int opCode) {
+        String name = OPERATION_NAMES.get(opCode);
+
+        return name == null ? "CLIENT_OP_" + opCode : name;
+    }
+
+    private static Map<Integer, String> operationNames() {
+        Map<Integer, String> names = new HashMap<>();
+
+        for (Field field : ClientOp.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+
+        return Map.copyOf(names);
+    }
+
     private void writeFlags(ClientMessagePacker out, ChannelHandlerContext ctx, boolean isNotification, boolean isError) {
         // Notify the client about primary replica change that happened for ANY table since the last request.
         // We can't assume that the client only uses uses a particular table (e.g. the one present in the replica tracker), because
@@ -67,6 +67,7 @@ import org.apache.ignite.internal.tx.impl.FullyQualifiedResourceId;
 import org.apache.ignite.internal.type.DecimalNativeType;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.TemporalNativeType;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.TableNotFoundException;
 import org.apache.ignite.table.IgniteTables;
@@ -98,10 +99,15 @@ public class ClientTableCommon {
         var colCnt = schema.columns().size();
         packer.packInt(colCnt);
 
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
         for (var colIdx = 0; colIdx < colCnt; colIdx++) {
             var col = schema.column(colIdx);
 
-            packer.packInt(7);
+            // Split points of a range-partitioned table are sent along with its partitioning column, as two extra properties.
+            boolean writeSplitPoints = rangePartitioner != null && col.positionInColocation() == 0;
+
+            packer.packInt(writeSplitPoints ? 9 : 7);
             packer.packString(col.name());
             packer.packInt(col.type().spec().id());
             packer.packInt(col.positionInKey());
@@ -109,6 +115,10 @@ public class ClientTableCommon {
             packer.packInt(col.positionInColocation());
             packer.packInt(getDecimalScale(col.type()));
             packer.packInt(getPrecision(col.type()));
+
+            if (writeSplitPoints) {
+                packer.packObjectArrayAsBinaryTuple(rangePartitioner.splitPoints().toArray());
+            }
         }
     }
 
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerColumn;
 import org.apache.ignite.internal.marshaller.MarshallerSchema;
 import org.apache.ignite.internal.marshaller.MarshallersProvider;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.ColumnNotFoundException;
 import org.apache.ignite.lang.ErrorGroups.Client;
 import org.apache.ignite.lang.IgniteException;
@@ -57,6 +58,9 @@ public class ClientSchema {
     /** Columns map by name. */
     private final Map<String, ClientColumn> map = new HashMap<>();
 
+    /** Partitioner of a range-partitioned table, {@code null} if the table is hash-partitioned. */
+    private final @Nullable RangePartitioner rangePartitioner;
+
     /** Marshaller provider. */
     private final MarshallersProvider marshallers;
 
@@ -74,11 +78,28 @@ public class ClientSchema {
             int ver,
             ClientColumn[] columns,
             MarshallersProvider marshallers) {
+        this(ver, columns, null, marshallers);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ver Schema version.
+     * @param columns Columns.
+     * @param rangePartitioner Partitioner of a range-partitioned table, {@code null} if the table is hash-partitioned.
+     * @param marshallers Marshallers provider.
+     */
+    public ClientSchema(
+            int ver,
+            ClientColumn[] columns,
+            @Nullable RangePartitioner rangePartitioner,
+            MarshallersProvider marshallers) {
         assert ver >= 0;
         assert columns != null;
 
         this.ver = ver;
         this.columns = columns;
+        this.rangePartitioner = rangePartitioner;
         this.marshallers = marshallers;
 
         int keyColumnCount = 0;
@@ -192,6 +213,16 @@ public class ClientSchema {
         return colocationColumns;
     }
 
+    /**
+     * Returns the partitioner of a range-partitioned table, or {@code null} if the table is hash-partitioned. Rows of a range-partitioned
+     * table use the partition number as the colocation hash.
+     *
+     * @return Range partitioner.
+     */
+    public @Nullable RangePartitioner rangePartitioner() {
+        return rangePartitioner;
+    }
+
     /**
      * Gets a column by name.
      *
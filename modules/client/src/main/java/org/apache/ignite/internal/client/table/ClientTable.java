@@ -29,6 +29,7 @@ import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -66,6 +67,7 @@ import org.apache.ignite.internal.marshaller.MarshallersProvider;
 import org.apache.ignite.internal.marshaller.UnmappedColumnsException;
 import org.apache.ignite.internal.tostring.IgniteToStringBuilder;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.QualifiedName;
@@ -274,6 +276,7 @@ public class ClientTable implements Table {
         var colCnt = in.unpackInt();
         var columns = new ClientColumn[colCnt];
         int valCnt = 0;
+        RangePartitioner rangePartitioner = null;
 
         for (int i = 0; i < colCnt; i++) {
             var propCnt = in.unpackInt();
@@ -290,14 +293,22 @@ public class ClientTable implements Table {
 
             var valIndex = keyIndex < 0 ? valCnt++ : -1;
 
+            int knownPropCnt = 7;
+
+            // Split points of a range-partitioned table are sent along with its partitioning column.
+            if (propCnt >= 9) {
+                rangePartitioner = new RangePartitioner(Arrays.asList(in.unpackObjectArrayFromBinaryTuple()));
+                knownPropCnt = 9;
+            }
+
             // Skip unknown extra properties, if any.
-            in.skipValues(propCnt - 7);
+            in.skipValues(propCnt - knownPropCnt);
 
             var column = new ClientColumn(name, type, isNullable, keyIndex, valIndex, colocationIndex, i, scale, precision);
             columns[i] = column;
         }
 
-        var schema = new ClientSchema(schemaVer, columns, marshallers);
+        var schema = new ClientSchema(schemaVer, columns, rangePartitioner, marshallers);
 
         if (schemaVer != targetVer) {
             schemas.put(schemaVer, completedFuture(schema));
@@ -42,6 +42,7 @@ import org.apache.ignite.internal.lang.IgniteBiTuple;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.marshaller.UnmappedColumnsException;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.MarshallerException;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.Tuple;
@@ -468,6 +469,14 @@ public class ClientTupleSerializer {
      * @return Colocation hash.
      */
     public static int getColocationHash(ClientSchema schema, Tuple rec) {
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Object value = TupleHelper.valueOrDefault(rec, schema.colocationColumns()[0].name(), null);
+
+            return rangePartition(rangePartitioner, value);
+        }
+
         var hashCalc = new HashCalculator();
 
         for (ClientColumn col : schema.colocationColumns()) {
@@ -481,8 +490,14 @@ public class ClientTupleSerializer {
 
     static int getColocationHash(ClientSchema schema, Mapper<?> mapper, Object rec) {
         // Colocation columns are always part of the key - https://cwiki.apache.org/confluence/display/IGNITE/IEP-86%3A+Colocation+Key.
-        var hashCalc = new HashCalculator();
         var marsh = schema.getMarshaller(mapper, TuplePart.KEY, true);
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            return rangePartition(rangePartitioner, marsh.value(rec, schema.colocationColumns()[0].keyIndex()));
+        }
+
+        var hashCalc = new HashCalculator();
 
         for (ClientColumn col : schema.colocationColumns()) {
             Object value = marsh.value(rec, col.keyIndex());
@@ -492,6 +507,12 @@ public class ClientTupleSerializer {
         return hashCalc.hash();
     }
 
+    /** Range-partitioned tables use the partition number as the colocation hash. */
+    private static int rangePartition(RangePartitioner rangePartitioner, @Nullable Object value) {
+        // Values of a wrong type are rejected by the serializer, any partition will do for them.
+        return rangePartitioner.accepts(value) ? rangePartitioner.partition(value) : 0;
+    }
+
     private void throwSchemaMismatchException(Tuple tuple, ClientSchema schema, TuplePart part) {
         Set<String> extraColumns = new HashSet<>();
 
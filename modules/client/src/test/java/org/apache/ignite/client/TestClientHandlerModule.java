@@ -65,6 +65,7 @@ import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.schema.AlwaysSyncedSchemaSyncService;
 import org.apache.ignite.internal.security.authentication.AuthenticationManager;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.lang.IgniteException;
 import org.jetbrains.annotations.Nullable;
 
@@ -277,7 +278,8 @@ public class TestClientHandlerModule implements IgniteComponent {
                                         unused -> null,
                                         bootstrapFactory.handshakeEventLoopSwitcher(),
                                         EventLog.NOOP,
-                                        ignore -> {}
+                                        ignore -> {},
+                                        new RequestTracer()
                                 )
                         );
                     }
@@ -79,6 +79,7 @@ import org.apache.ignite.internal.security.authentication.AuthenticationManager;
 import org.apache.ignite.internal.security.authentication.AuthenticationManagerImpl;
 import org.apache.ignite.internal.security.configuration.SecurityConfiguration;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.network.NetworkAddress;
 import org.jetbrains.annotations.Nullable;
 import org.mockito.Mockito;
@@ -290,7 +291,8 @@ public class TestServer implements AutoCloseable {
                         EventLog.NOOP,
                         new TestLowWatermark(),
                         Runnable::run,
-                        () -> true
+                        () -> true,
+                        new RequestTracer()
                 );
 
         module.startAsync(componentContext).join();
@@ -58,6 +58,7 @@ import org.apache.ignite.internal.table.IndexScanCriteria;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.OperationContext;
 import org.apache.ignite.internal.table.StreamerReceiverRunner;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
 import org.apache.ignite.internal.table.metrics.ReadWriteMetricSource;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.network.NetworkAddress;
@@ -481,6 +482,11 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public CompletableFuture<PartitionChanges> readChanges(int partitionId, HybridTimestamp afterTimestamp, int batchSize) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public StreamerReceiverRunner streamerReceiverRunner() {
         return this;
@@ -46,4 +46,10 @@ public class ClusterStatusWatchListener implements WatchListener {
         }
         return nullCompletedFuture();
     }
+
+    /** Deployment unit statuses are not used by other watch listeners, so they don't have to wait for this one. */
+    @Override
+    public boolean independent() {
+        return true;
+    }
 }
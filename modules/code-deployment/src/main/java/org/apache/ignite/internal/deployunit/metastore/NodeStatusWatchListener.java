@@ -87,6 +87,12 @@ public class NodeStatusWatchListener implements WatchListener {
         return nullCompletedFuture();
     }
 
+    /** Deployment unit statuses are not used by other watch listeners, so they don't have to wait for this one. */
+    @Override
+    public boolean independent() {
+        return true;
+    }
+
     public void stop() {
         executor.shutdown();
     }
@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.backup.BackupManifest.FileEntry;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.lang.NodeStoppingException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Creates incremental physical backups of the node's on-disk state and restores it from them.
+ *
+ * <p>Every backup asks the {@link BackupSource sources} for consistent snapshots of their files one by one, in the order the sources
+ * are given in, and copies the files that have changed since the previous backup to the {@link BackupTarget target}. A file is
+ * considered unchanged if its size and its last modification time are the same as the ones recorded by the previous backup. Storage
+ * sources should be listed before the Raft log sources: the log copied after a storage covers the updates the storage is missing, so
+ * a restored node replays them on start.
+ *
+ * <p>That only works if the log hasn't been truncated beyond the updates the storages are missing. Applied indexes of the Raft groups
+ * are read before the storage snapshots are taken, and the log snapshots report the first log index of every group. A backup whose
+ * log starts after the applied index of a group is rejected (the log has been truncated by a Raft snapshot in between, and the backup
+ * should be retried), and so is a restore from such a backup.
+ *
+ * <p>Copying is throttled, so that a backup doesn't take the disk bandwidth away from the foreground load.
+ */
+public class BackupManager implements IgniteComponent {
+    private static final IgniteLogger LOG = Loggers.forClass(BackupManager.class);
+
+    /** Default maximum rate of copying files to a backup, in bytes per second. */
+    public static final long DEFAULT_MAX_BYTES_PER_SECOND = 64L * 1024 * 1024;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Supplier<List<BackupSource>> sources;
+
+    private final Supplier<Map<String, Long>> appliedIndexes;
+
+    private final HybridClock clock;
+
+    private final long maxBytesPerSecond;
+
+    private final ExecutorService executor;
+
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Node name.
+     * @param sources Supplier of the sources to back up, it is called at the beginning of every backup, as the set of sources may
+     *      change while the node is running (for example, when a storage profile is added).
+     * @param appliedIndexes Supplier of the applied indexes of the Raft groups whose state is kept by the sources, by the group ID.
+     * @param clock Hybrid clock.
+     * @param maxBytesPerSecond Maximum rate of copying files to a backup, {@code 0} disables throttling.
+     */
+    public BackupManager(
+            String nodeName,
+            Supplier<List<BackupSource>> sources,
+            Supplier<Map<String, Long>> appliedIndexes,
+            HybridClock clock,
+            long maxBytesPerSecond
+    ) {
+        this.sources = sources;
+        this.appliedIndexes = appliedIndexes;
+        this.clock = clock;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+
+        executor = Executors.newSingleThreadExecutor(IgniteThreadFactory.create(nodeName, "backup", LOG));
+    }
+
+    @Override
+    public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
+        return nullCompletedFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> stopAsync(ComponentContext componentContext) {
+        busyLock.block();
+
+        // Interrupts the backup that may be in progress.
+        executor.shutdownNow();
+
+        IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+
+        return nullCompletedFuture();
+    }
+
+    /**
+     * Creates a backup. Only the files changed since the latest backup found in the target are copied.
+     *
+     * @param target Target to write the backup to.
+     * @return Future that completes with the manifest of the created backup.
+     */
+    public CompletableFuture<BackupManifest> createBackup(BackupTarget target) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            return supplyAsync(() -> {
+                try {
+                    return doCreateBackup(target);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new IgniteInternalException(INTERNAL_ERR, "Backup has been interrupted", e);
+                } catch (Exception e) {
+                    throw new IgniteInternalException(INTERNAL_ERR, "Failed to create a backup", e);
+                }
+            }, executor);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private BackupManifest doCreateBackup(BackupTarget target) throws Exception {
+        List<BackupManifest> manifests = target.manifests();
+
+        BackupManifest previous = manifests.isEmpty() ? null : manifests.get(manifests.size() - 1);
+
+        Map<String, FileEntry> previousFiles = new HashMap<>();
+
+        if (previous != null) {
+            for (FileEntry file : previous.files()) {
+                previousFiles.put(file.source() + '/' + file.path(), file);
+            }
+        }
+
+        String backupId = UUID.randomUUID().toString();
+
+        // Everything committed before this moment is in the storages already, or at least in the Raft logs.
+        HybridTimestamp timestamp = clock.now();
+
+        LOG.info("Starting backup [backupId={}, timestamp={}, previousBackupId={}].",
+                backupId, timestamp, previous == null ? null : previous.backupId());
+
+        var throttle = new BackupThrottle(maxBytesPerSecond);
+
+        // Read before the storage snapshots are taken, so the storages may only be ahead of these indexes.
+        Map<String, Long> appliedIndexes = this.appliedIndexes.get();
+
+        Map<String, String> directoryBySource = new HashMap<>();
+        Map<String, Long> firstLogIndexes = new HashMap<>();
+        List<FileEntry> files = new ArrayList<>();
+
+        long copiedFiles = 0;
+        long copiedBytes = 0;
+
+        for (BackupSource source : sources.get()) {
+            directoryBySource.put(source.name(), source.directory().toAbsolutePath().toString());
+
+            try (BackupSnapshot snapshot = source.createSnapshot().get()) {
+                firstLogIndexes.putAll(snapshot.firstLogIndexes());
+
+                for (Path relativePath : snapshot.files()) {
+                    String path = toBackupPath(relativePath);
+
+                    Path file = snapshot.directory().resolve(relativePath);
+
+                    BasicFileAttributes attrs;
+
+                    try {
+                        attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    } catch (NoSuchFileException e) {
+                        // The file has been removed in a way that doesn't break the consistency, like a partition being destroyed.
+                        continue;
+                    }
+
+                    long lastModified = attrs.lastModifiedTime().toMillis();
+
+                    FileEntry previousFile = previousFiles.get(source.name() + '/' + path);
+
+                    if (previousFile != null && previousFile.size() == attrs.size() && previousFile.lastModified() == lastModified) {
+                        files.add(previousFile);
+
+                        continue;
+                    }
+
+                    long size;
+
+                    try (InputStream in = Files.newInputStream(file);
+                            OutputStream out = target.openForWrite(backupId, source.name() + '/' + path)) {
+                        size = copy(in, out, throttle);
+                    } catch (NoSuchFileException e) {
+                        continue;
+                    }
+
+                    files.add(new FileEntry(source.name(), path, size, lastModified, backupId));
+
+                    copiedFiles++;
+                    copiedBytes += size;
+                }
+            }
+        }
+
+        checkLogCoverage(appliedIndexes, firstLogIndexes);
+
+        var manifest = new BackupManifest(
+                backupId,
+                timestamp,
+                previous == null ? null : previous.backupId(),
+                directoryBySource,
+                appliedIndexes,
+                firstLogIndexes,
+                files
+        );
+
+        target.writeManifest(manifest);
+
+        LOG.info("Backup completed [backupId={}, files={}, copiedFiles={}, copiedBytes={}].",
+                backupId, files.size(), copiedFiles, copiedBytes);
+
+        return manifest;
+    }
+
+    /**
+     * Restores the node's on-disk state from the latest backup that was made at or before the given moment. Must only be called while
+     * the node is stopped: directories of the backed up sources are cleared before the files are put back.
+     *
+     * @param target Target the backups were written to.
+     * @param pointInTime Moment to restore the state at.
+     * @return Manifest of the backup the state has been restored from.
+     * @throws IgniteInternalException If there is no backup made at or before the given moment, or if the Raft logs of the backup don't
+     *      cover the updates its storages are missing.
+     */
+    public static BackupManifest restore(BackupTarget target, HybridTimestamp pointInTime) throws IOException {
+        BackupManifest manifest = null;
+
+        for (BackupManifest candidate : target.manifests()) {
+            if (candidate.timestamp().compareTo(pointInTime) <= 0) {
+                manifest = candidate;
+            }
+        }
+
+        if (manifest == null) {
+            throw new IgniteInternalException(INTERNAL_ERR, "No backup has been made at or before " + pointInTime);
+        }
+
+        LOG.info("Restoring from backup [backupId={}, timestamp={}, pointInTime={}].", manifest.backupId(), manifest.timestamp(),
+                pointInTime);
+
+        checkLogCoverage(manifest.appliedIndexes(), manifest.firstLogIndexes());
+
+        for (String directory : manifest.directoryBySource().values()) {
+            IgniteUtils.deleteIfExistsThrowable(Path.of(directory));
+        }
+
+        var noThrottle = new BackupThrottle(0);
+
+        for (FileEntry file : manifest.files()) {
+            Path destination = Path.of(manifest.directoryBySource().get(file.source())).resolve(file.path());
+
+            Files.createDirectories(destination.getParent());
+
+            try (InputStream in = target.openForRead(file.storedIn(), file.source() + '/' + file.path());
+                    OutputStream out = Files.newOutputStream(destination)) {
+                copy(in, out, noThrottle);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInternalException(INTERNAL_ERR, "Restore has been interrupted", e);
+            }
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Checks that the Raft log of every group starts right after the applied index of the group or earlier, so that the updates the
+     * storages are missing can be replayed. A group without a recorded applied index has no state in the storages.
+     */
+    private static void checkLogCoverage(Map<String, Long> appliedIndexes, Map<String, Long> firstLogIndexes) {
+        List<String> gaps = new ArrayList<>();
+
+        firstLogIndexes.forEach((groupId, firstLogIndex) -> {
+            long appliedIndex = appliedIndexes.getOrDefault(groupId, 0L);
+
+            if (firstLogIndex > appliedIndex + 1) {
+                gaps.add(groupId + " [appliedIndex=" + appliedIndex + ", firstLogIndex=" + firstLogIndex + ']');
+            }
+        });
+
+        if (!gaps.isEmpty()) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Raft log has been truncated beyond the applied index: " + gaps);
+        }
+    }
+
+    private static long copy(InputStream in, OutputStream out, BackupThrottle throttle) throws IOException, InterruptedException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+
+        long total = 0;
+
+        int read;
+
+        while ((read = in.read(buffer)) >= 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            out.write(buffer, 0, read);
+
+            total += read;
+
+            throttle.onBytesCopied(read);
+        }
+
+        return total;
+    }
+
+    private static String toBackupPath(Path relativePath) {
+        assert !relativePath.isAbsolute() : relativePath;
+
+        var sb = new StringBuilder();
+
+        for (Path element : relativePath) {
+            if (sb.length() > 0) {
+                sb.append('/');
+            }
+
+            sb.append(element);
+        }
+
+        return sb.toString();
+    }
+}
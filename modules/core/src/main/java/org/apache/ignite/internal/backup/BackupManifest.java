@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Description of a completed backup: the files it consists of and the backups they are physically stored in.
+ *
+ * <p>Backups are incremental: a file that hasn't changed since the previous backup is not copied again, the manifest refers to the
+ * copy made by an earlier backup instead. So every manifest describes the full state of the node at the time of its backup.
+ *
+ * <p>The manifest also records the Raft indexes the state is consistent at: the applied index of every Raft group whose state machine
+ * is kept by the storages, and the first index of the group's log. The log replays the updates the storages are missing only if it
+ * starts right after the applied index or earlier.
+ */
+public class BackupManifest {
+    private final String backupId;
+
+    private final HybridTimestamp timestamp;
+
+    private final @Nullable String previousBackupId;
+
+    private final Map<String, String> directoryBySource;
+
+    private final Map<String, Long> appliedIndexes;
+
+    private final Map<String, Long> firstLogIndexes;
+
+    @IgniteToStringExclude
+    private final List<FileEntry> files;
+
+    /**
+     * Constructor.
+     *
+     * @param backupId Backup ID.
+     * @param timestamp Timestamp of the backup, the backup contains all data committed before this timestamp.
+     * @param previousBackupId ID of the backup this one is based on, {@code null} for a full backup.
+     * @param directoryBySource Directories of the backed up sources, by the source name.
+     * @param appliedIndexes Applied indexes of the Raft groups whose state is kept by the storages, by the group ID.
+     * @param firstLogIndexes First indexes of the Raft logs of the groups, by the group ID.
+     * @param files Files of the backup.
+     */
+    public BackupManifest(
+            String backupId,
+            HybridTimestamp timestamp,
+            @Nullable String previousBackupId,
+            Map<String, String> directoryBySource,
+            Map<String, Long> appliedIndexes,
+            Map<String, Long> firstLogIndexes,
+            List<FileEntry> files
+    ) {
+        this.backupId = backupId;
+        this.timestamp = timestamp;
+        this.previousBackupId = previousBackupId;
+        this.directoryBySource = Map.copyOf(directoryBySource);
+        this.appliedIndexes = Map.copyOf(appliedIndexes);
+        this.firstLogIndexes = Map.copyOf(firstLogIndexes);
+        this.files = List.copyOf(files);
+    }
+
+    /** Returns the backup ID. */
+    public String backupId() {
+        return backupId;
+    }
+
+    /** Returns the timestamp of the backup, the backup contains all data committed before this timestamp. */
+    public HybridTimestamp timestamp() {
+        return timestamp;
+    }
+
+    /** Returns ID of the backup this one is based on, {@code null} for a full backup. */
+    public @Nullable String previousBackupId() {
+        return previousBackupId;
+    }
+
+    /** Returns directories of the backed up sources, by the source name. */
+    public Map<String, String> directoryBySource() {
+        return directoryBySource;
+    }
+
+    /** Returns applied indexes of the Raft groups whose state is kept by the storages, by the group ID. */
+    public Map<String, Long> appliedIndexes() {
+        return appliedIndexes;
+    }
+
+    /** Returns first indexes of the Raft logs of the groups, by the group ID. */
+    public Map<String, Long> firstLogIndexes() {
+        return firstLogIndexes;
+    }
+
+    /** Returns files of the backup. */
+    public List<FileEntry> files() {
+        return files;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(BackupManifest.class, this, "files", files.size());
+    }
+
+    /**
+     * File of a backup.
+     */
+    public static class FileEntry {
+        private final String source;
+
+        private final String path;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final String storedIn;
+
+        /**
+         * Constructor.
+         *
+         * @param source Name of the source the file belongs to.
+         * @param path Path of the file relative to the source directory, with {@code '/'} as a separator.
+         * @param size Size of the file at the moment it was copied.
+         * @param lastModified Last modification time of the file at the moment it was copied, in milliseconds.
+         * @param storedIn ID of the backup the file was copied by.
+         */
+        public FileEntry(String source, String path, long size, long lastModified, String storedIn) {
+            this.source = source;
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.storedIn = storedIn;
+        }
+
+        /** Returns name of the source the file belongs to. */
+        public String source() {
+            return source;
+        }
+
+        /** Returns path of the file relative to the source directory, with {@code '/'} as a separator. */
+        public String path() {
+            return path;
+        }
+
+        /** Returns size of the file at the moment it was copied. */
+        public long size() {
+            return size;
+        }
+
+        /** Returns last modification time of the file at the moment it was copied, in milliseconds. */
+        public long lastModified() {
+            return lastModified;
+        }
+
+        /** Returns ID of the backup the file was copied by. */
+        public String storedIn() {
+            return storedIn;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(FileEntry.class, this);
+        }
+    }
+}
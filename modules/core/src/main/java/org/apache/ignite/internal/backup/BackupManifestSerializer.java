@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.backup.BackupManifest.FileEntry;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.util.io.IgniteDataInput;
+import org.apache.ignite.internal.util.io.IgniteDataOutput;
+import org.apache.ignite.internal.versioned.VersionedSerializer;
+
+/**
+ * {@link VersionedSerializer} for {@link BackupManifest} instances.
+ */
+public class BackupManifestSerializer extends VersionedSerializer<BackupManifest> {
+    /** Serializer instance. */
+    public static final BackupManifestSerializer INSTANCE = new BackupManifestSerializer();
+
+    @Override
+    protected void writeExternalData(BackupManifest manifest, IgniteDataOutput out) throws IOException {
+        out.writeUTF(manifest.backupId());
+        out.writeLong(manifest.timestamp().longValue());
+        writeNullableString(manifest.previousBackupId(), out);
+
+        out.writeMap(manifest.directoryBySource(), (k, out0) -> out0.writeUTF(k), (v, out0) -> out0.writeUTF(v));
+        out.writeMap(manifest.appliedIndexes(), (k, out0) -> out0.writeUTF(k), (v, out0) -> out0.writeVarInt(v));
+        out.writeMap(manifest.firstLogIndexes(), (k, out0) -> out0.writeUTF(k), (v, out0) -> out0.writeVarInt(v));
+
+        out.writeCollection(manifest.files(), (file, out0) -> {
+            out0.writeUTF(file.source());
+            out0.writeUTF(file.path());
+            out0.writeVarInt(file.size());
+            out0.writeLong(file.lastModified());
+            out0.writeUTF(file.storedIn());
+        });
+    }
+
+    @Override
+    protected BackupManifest readExternalData(byte protoVer, IgniteDataInput in) throws IOException {
+        String backupId = in.readUTF();
+        HybridTimestamp timestamp = hybridTimestamp(in.readLong());
+        String previousBackupId = readNullableString(in);
+
+        Map<String, String> directoryBySource = in.readMap(HashMap::new, IgniteDataInput::readUTF, IgniteDataInput::readUTF);
+        Map<String, Long> appliedIndexes = in.readMap(HashMap::new, IgniteDataInput::readUTF, IgniteDataInput::readVarInt);
+        Map<String, Long> firstLogIndexes = in.readMap(HashMap::new, IgniteDataInput::readUTF, IgniteDataInput::readVarInt);
+
+        List<FileEntry> files = in.readCollection(ArrayList::new, in0 -> new FileEntry(
+                in0.readUTF(),
+                in0.readUTF(),
+                in0.readVarInt(),
+                in0.readLong(),
+                in0.readUTF()
+        ));
+
+        return new BackupManifest(backupId, timestamp, previousBackupId, directoryBySource, appliedIndexes, firstLogIndexes, files);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.close.ManuallyCloseable;
+
+/**
+ * Consistent set of files of a {@link BackupSource}. The files stay unchanged until the snapshot is closed.
+ *
+ * <p>The files may be located outside of the {@link BackupSource#directory() source directory} (for example, when the source is able
+ * to create a cheap copy of its files using hard links), but their paths are always relative, so they are restored in the same place
+ * relative to the source directory.
+ *
+ * <p>A snapshot of Raft log storages also reports the {@link #firstLogIndexes() first log index} of every group it keeps, so that
+ * the backup can check that the log covers everything the storages are missing.
+ */
+public class BackupSnapshot implements ManuallyCloseable {
+    private final Path directory;
+
+    private final List<Path> files;
+
+    private final ManuallyCloseable release;
+
+    private final Map<String, Long> firstLogIndexes;
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory the files are located in.
+     * @param files Paths of the files, relative to the directory.
+     * @param release Action that releases the snapshot, allowing the source to change its files.
+     */
+    public BackupSnapshot(Path directory, List<Path> files, ManuallyCloseable release) {
+        this(directory, files, release, Map.of());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory the files are located in.
+     * @param files Paths of the files, relative to the directory.
+     * @param release Action that releases the snapshot, allowing the source to change its files.
+     * @param firstLogIndexes First log indexes of the Raft groups whose logs are kept by the snapshot, by the group ID. The indexes
+     *      may be greater than the ones in the files, but never less.
+     */
+    public BackupSnapshot(Path directory, List<Path> files, ManuallyCloseable release, Map<String, Long> firstLogIndexes) {
+        this.directory = directory;
+        this.files = List.copyOf(files);
+        this.release = release;
+        this.firstLogIndexes = Map.copyOf(firstLogIndexes);
+    }
+
+    /** Returns the directory the files are located in. */
+    public Path directory() {
+        return directory;
+    }
+
+    /** Returns paths of the files, relative to {@link #directory()}. */
+    public List<Path> files() {
+        return files;
+    }
+
+    /** Returns first log indexes of the Raft groups whose logs are kept by the snapshot, by the group ID. */
+    public Map<String, Long> firstLogIndexes() {
+        return firstLogIndexes;
+    }
+
+    @Override
+    public void close() throws Exception {
+        release.close();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Component state that is stored on disk and can be copied to a backup, such as the files of a storage engine or a Raft log storage.
+ *
+ * <p>A source is responsible for bringing its files into a consistent state and keeping them this way while they are being copied,
+ * without blocking the foreground load: see {@link BackupSnapshot}.
+ */
+public interface BackupSource {
+    /** Returns the name of the source, unique within a node. Files of the source are stored under this name in a backup. */
+    String name();
+
+    /** Returns the directory the files of the source belong to, it's where they are put back by a restore. */
+    Path directory();
+
+    /**
+     * Makes the files of the source consistent and freezes the set of files that make up this consistent state until the returned
+     * snapshot is closed.
+     *
+     * @return Future that completes with the snapshot.
+     */
+    CompletableFuture<BackupSnapshot> createSnapshot();
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Storage the backups are written to.
+ *
+ * <p>A backup becomes visible only after its {@link #writeManifest manifest is written}, files of backups that were never completed
+ * may be left behind and are ignored.
+ */
+public interface BackupTarget {
+    /** Returns manifests of all completed backups, ordered by their timestamps. */
+    List<BackupManifest> manifests() throws IOException;
+
+    /**
+     * Opens a file of a backup for writing, replacing the existing file if there is one.
+     *
+     * @param backupId Backup ID.
+     * @param path Path of the file within the backup, with {@code '/'} as a separator.
+     */
+    OutputStream openForWrite(String backupId, String path) throws IOException;
+
+    /**
+     * Opens a file of a backup for reading.
+     *
+     * @param backupId Backup ID.
+     * @param path Path of the file within the backup, with {@code '/'} as a separator.
+     */
+    InputStream openForRead(String backupId, String path) throws IOException;
+
+    /** Makes all files written for the backup durable and completes the backup by writing its manifest. */
+    void writeManifest(BackupManifest manifest) throws IOException;
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the rate of copying files to a backup, so that the backup doesn't compete with the foreground load for the disk bandwidth.
+ *
+ * <p>Not thread-safe, a throttle is used by a single backup at a time.
+ */
+class BackupThrottle {
+    private final long bytesPerSecond;
+
+    private final long startNanos = System.nanoTime();
+
+    private long bytes;
+
+    /**
+     * Constructor.
+     *
+     * @param bytesPerSecond Maximum copy rate, {@code 0} disables throttling.
+     */
+    BackupThrottle(long bytesPerSecond) {
+        assert bytesPerSecond >= 0 : bytesPerSecond;
+
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /** Accounts copied bytes, parking the current thread if the copying goes faster than allowed. */
+    void onBytesCopied(int count) throws InterruptedException {
+        if (bytesPerSecond == 0) {
+            return;
+        }
+
+        bytes += count;
+
+        long expectedNanos = (long) ((double) bytes / bytesPerSecond * TimeUnit.SECONDS.toNanos(1));
+
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+
+        if (aheadNanos > 0) {
+            LockSupport.parkNanos(aheadNanos);
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.versioned.VersionedSerialization;
+
+/**
+ * {@link BackupTarget} that keeps the backups in a directory of the local file system, one sub-directory per backup.
+ */
+public class LocalFileSystemBackupTarget implements BackupTarget {
+    /** Name of the manifest file of a backup. */
+    static final String MANIFEST_FILE_NAME = "manifest.bin";
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path root;
+
+    /**
+     * Constructor.
+     *
+     * @param root Directory to keep the backups in.
+     */
+    public LocalFileSystemBackupTarget(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public List<BackupManifest> manifests() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> backupDirs = Files.list(root)) {
+            return backupDirs
+                    .map(backupDir -> backupDir.resolve(MANIFEST_FILE_NAME))
+                    .filter(Files::exists)
+                    .map(LocalFileSystemBackupTarget::readManifest)
+                    .sorted(comparing(BackupManifest::timestamp))
+                    .collect(toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public OutputStream openForWrite(String backupId, String path) throws IOException {
+        Path file = resolve(backupId, path);
+
+        Files.createDirectories(file.getParent());
+
+        return Files.newOutputStream(file, CREATE, TRUNCATE_EXISTING, WRITE);
+    }
+
+    @Override
+    public InputStream openForRead(String backupId, String path) throws IOException {
+        return Files.newInputStream(resolve(backupId, path));
+    }
+
+    @Override
+    public void writeManifest(BackupManifest manifest) throws IOException {
+        Path backupDir = root.resolve(manifest.backupId());
+
+        Files.createDirectories(backupDir);
+
+        try (Stream<Path> files = Files.walk(backupDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    IgniteUtils.fsyncFile(file);
+                }
+            }
+        }
+
+        Path tmpFile = backupDir.resolve(MANIFEST_FILE_NAME + TMP_SUFFIX);
+
+        Files.write(tmpFile, VersionedSerialization.toBytes(manifest, BackupManifestSerializer.INSTANCE));
+
+        IgniteUtils.fsyncFile(tmpFile);
+
+        IgniteUtils.atomicMoveFile(tmpFile, backupDir.resolve(MANIFEST_FILE_NAME), null);
+
+        IgniteUtils.fsyncDir(backupDir);
+    }
+
+    private Path resolve(String backupId, String path) {
+        return root.resolve(backupId).resolve("files").resolve(path);
+    }
+
+    private static BackupManifest readManifest(Path file) {
+        try {
+            return VersionedSerialization.fromBytes(Files.readAllBytes(file), BackupManifestSerializer.INSTANCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
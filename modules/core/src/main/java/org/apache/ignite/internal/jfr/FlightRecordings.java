@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jfr;
+
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * Java Flight Recorder recordings of a node.
+ *
+ * <p>Recordings use the JDK {@code default} profile, which is designed for continuous use in production, extended with the settings
+ * of the {@code ignite.jfc} profile that is bundled with Ignite. The bundled profile enables Ignite events (see {@link IgniteEvent}) with
+ * thresholds, so that only slow operations are recorded. The same profile can be passed to a JVM directly, e.g.
+ * {@code -XX:StartFlightRecording:settings=default,settings=ignite.jfc} on JDK 17 and later.
+ */
+public class FlightRecordings {
+    private static final IgniteLogger LOG = Loggers.forClass(FlightRecordings.class);
+
+    /** Name of the bundled settings profile. */
+    public static final String SETTINGS_FILE_NAME = "ignite.jfc";
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private FlightRecordings() {
+    }
+
+    /**
+     * Returns the settings of the bundled profile.
+     *
+     * @return Settings, keyed by {@code <event name>#<setting name>}.
+     */
+    public static Map<String, String> igniteSettings() {
+        try (InputStream in = FlightRecordings.class.getResourceAsStream(SETTINGS_FILE_NAME)) {
+            if (in == null) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Flight recorder settings not found: {}", SETTINGS_FILE_NAME);
+            }
+
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader).getSettings();
+            }
+        } catch (IOException | ParseException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to read flight recorder settings: {}", e, SETTINGS_FILE_NAME);
+        }
+    }
+
+    /**
+     * Starts a recording that stops after the given duration and is saved to a new file in the given directory. Failures to save the
+     * recording are logged.
+     *
+     * @param directory Directory to save the recording to, created if it doesn't exist.
+     * @param nodeName Name of the node, used in the file name.
+     * @param duration Recording duration.
+     * @return Path of the file the recording will be saved to.
+     */
+    public static Path start(Path directory, String nodeName, Duration duration) {
+        Path file = directory.resolve(nodeName + '-' + FILE_NAME_FORMATTER.format(LocalDateTime.now()) + ".jfr");
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to create flight recordings directory [dir={}]", e, directory);
+        }
+
+        LOG.info("Flight recording started [file={}, duration={}]", file, duration);
+
+        record(file, duration).whenComplete((unused, e) -> {
+            if (e == null) {
+                LOG.info("Flight recording saved [file={}]", file);
+            } else {
+                LOG.warn("Failed to save flight recording [file={}]", e, file);
+            }
+        });
+
+        return file;
+    }
+
+    /**
+     * Starts a recording that stops after the given duration and is saved to the given file.
+     *
+     * @param file File to save the recording to.
+     * @param duration Recording duration.
+     * @return Future that is completed once the recording is saved.
+     */
+    public static CompletableFuture<Void> record(Path file, Duration duration) {
+        Recording recording;
+
+        try {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(igniteSettings());
+
+            recording = new Recording(settings);
+
+            recording.setName("ignite-" + file.getFileName());
+            recording.setToDisk(true);
+            recording.setDestination(file);
+        } catch (IOException | ParseException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to start flight recording [file={}]", e, file);
+        }
+
+        recording.start();
+
+        // Stopping a recording with a destination writes it to the destination.
+        return CompletableFuture
+                .runAsync(recording::stop, delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS))
+                .whenComplete((unused, e) -> recording.close());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jfr;
+
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of Java Flight Recorder events fired by Ignite.
+ *
+ * <p>The events are disabled by default and have to be enabled by a recording settings profile, for example the one that is bundled
+ * with Ignite (see {@link FlightRecordings}). A disabled event costs close to nothing: the JIT compiler removes both the event
+ * allocation and the {@code begin()}/{@code commit()} calls, as long as the event doesn't escape the method that fires it. Events that
+ * span asynchronous operations, and therefore escape, should check {@link #isEnabled()} before doing anything else with them.
+ */
+@Enabled(false)
+@StackTrace(false)
+public abstract class IgniteEvent extends Event {
+    /** Top-level category of all Ignite events. */
+    public static final String CATEGORY = "Apache Ignite";
+
+    /** Prefix of the names of all Ignite events. */
+    public static final String NAME_PREFIX = "org.apache.ignite.";
+}
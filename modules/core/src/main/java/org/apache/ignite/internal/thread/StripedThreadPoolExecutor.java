@@ -17,11 +17,13 @@
 
 package org.apache.ignite.internal.thread;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * An {@link ExecutorService} that executes submitted tasks using pooled grid threads.
@@ -43,14 +45,36 @@ public class StripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor
             boolean allowCoreThreadTimeOut,
             long keepAliveTime
     ) {
-        super(createExecutors(concurrencyLvl, threadFactory, allowCoreThreadTimeOut, keepAliveTime));
+        this(concurrencyLvl, threadFactory, allowCoreThreadTimeOut, keepAliveTime, LinkedBlockingQueue::new);
+    }
+
+    /**
+     * Create striped thread pool.
+     *
+     * @param concurrencyLvl          Concurrency level.
+     * @param threadFactory Factory used to create threads.
+     * @param allowCoreThreadTimeOut Sets the policy governing whether core threads may time out and terminate if no tasks arrive within the
+     *                               keep-alive time.
+     * @param keepAliveTime          When the number of threads is greater than the core, this is the maximum time that excess idle threads
+     *                               will wait for new tasks before terminating.
+     * @param queueFactory           Factory of the task queues of the stripes.
+     */
+    public StripedThreadPoolExecutor(
+            int concurrencyLvl,
+            ThreadFactory threadFactory,
+            boolean allowCoreThreadTimeOut,
+            long keepAliveTime,
+            Supplier<BlockingQueue<Runnable>> queueFactory
+    ) {
+        super(createExecutors(concurrencyLvl, threadFactory, allowCoreThreadTimeOut, keepAliveTime, queueFactory));
     }
 
     private static ExecutorService[] createExecutors(
             int concurrencyLvl,
             ThreadFactory threadFactory,
             boolean allowCoreThreadTimeOut,
-            long keepAliveTime
+            long keepAliveTime,
+            Supplier<BlockingQueue<Runnable>> queueFactory
     ) {
         ExecutorService[] execs = new ExecutorService[concurrencyLvl];
 
@@ -60,7 +84,7 @@ public class StripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor
                     1,
                     keepAliveTime,
                     TimeUnit.MILLISECONDS,
-                    new LinkedBlockingQueue<>(),
+                    queueFactory.get(),
                     threadFactory
             );
 
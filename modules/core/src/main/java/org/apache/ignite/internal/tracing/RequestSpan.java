@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tracing;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Part of a sampled request trace that is processed on a single node.
+ *
+ * <p>A span measures the total processing time of an operation and the time spent in each of the {@link TraceStage}s. Stages may be
+ * recorded from any thread, and the same stage may be recorded several times, in which case the durations are summed up. Spans of the
+ * same request on different nodes share the trace ID.
+ */
+public class RequestSpan {
+    private static final TraceStage[] STAGES = TraceStage.values();
+
+    private final UUID traceId;
+
+    private final String operation;
+
+    private final long startTime;
+
+    private final long startNanos;
+
+    private final AtomicLongArray stageNanos = new AtomicLongArray(STAGES.length);
+
+    /** Invoked when the span ends, {@code null} for spans that only carry the trace ID of a remote request. */
+    private final @Nullable Consumer<RequestSpan> onEnd;
+
+    private volatile long durationNanos = -1;
+
+    private volatile boolean failed;
+
+    RequestSpan(UUID traceId, String operation, @Nullable Consumer<RequestSpan> onEnd) {
+        this.traceId = traceId;
+        this.operation = operation;
+        this.onEnd = onEnd;
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a span that doesn't record anything and only passes the trace ID of a request that came from another node to the spans
+     * that are started while processing it.
+     *
+     * @param traceId Trace ID.
+     */
+    public static RequestSpan remote(UUID traceId) {
+        return new RequestSpan(traceId, "remote", null);
+    }
+
+    /** Returns the trace ID. */
+    public UUID traceId() {
+        return traceId;
+    }
+
+    /** Returns the name of the traced operation. */
+    public String operation() {
+        return operation;
+    }
+
+    /** Returns the wall clock time of the span start, in milliseconds. */
+    public long startTime() {
+        return startTime;
+    }
+
+    /** Returns the value of {@link System#nanoTime()} at the span start. */
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /** Returns the total duration of the span in nanoseconds, or {@code -1} if the span has not ended yet. */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /** Returns the time spent in a stage, in nanoseconds. */
+    public long stageNanos(TraceStage stage) {
+        return stageNanos.get(stage.ordinal());
+    }
+
+    /** Returns {@code true} if the operation has failed. */
+    public boolean failed() {
+        return failed;
+    }
+
+    /** Returns {@code true} if the span records timings, {@code false} if it only carries the trace ID of a remote request. */
+    public boolean recording() {
+        return onEnd != null;
+    }
+
+    /**
+     * Adds time to a stage.
+     *
+     * @param stage Stage.
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record(TraceStage stage, long nanos) {
+        if (onEnd != null) {
+            stageNanos.addAndGet(stage.ordinal(), nanos);
+        }
+    }
+
+    /**
+     * Records the time from now until the future completes as a stage. Already completed futures are ignored.
+     *
+     * @param stage Stage.
+     * @param future Future.
+     * @return The same future.
+     */
+    public <T> CompletableFuture<T> recordOnCompletion(TraceStage stage, CompletableFuture<T> future) {
+        if (onEnd != null && !future.isDone()) {
+            long start = System.nanoTime();
+
+            future.whenComplete((res, ex) -> record(stage, System.nanoTime() - start));
+        }
+
+        return future;
+    }
+
+    /**
+     * Ends the span. Subsequent calls are ignored.
+     *
+     * @param failed Whether the operation has failed.
+     */
+    public void end(boolean failed) {
+        if (onEnd == null || durationNanos >= 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (durationNanos >= 0) {
+                return;
+            }
+
+            this.failed = failed;
+            this.durationNanos = System.nanoTime() - startNanos;
+        }
+
+        onEnd.accept(this);
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(RequestSpan.class, this);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Starts spans of sampled requests on a node and keeps the most recent finished ones in a ring buffer.
+ *
+ * <p>A trace is started by the entry point of a request (for example, the client handler) with a configured probability. Components
+ * that process the request further, possibly on other nodes, start child spans with {@link #startSpan}, which only does anything if
+ * the request is traced.
+ */
+public class RequestTracer {
+    /** Default number of finished spans kept by a node. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final AtomicReferenceArray<RequestSpan> spans;
+
+    private final AtomicLong position = new AtomicLong();
+
+    private final List<Consumer<RequestSpan>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile double samplingRate;
+
+    /** Constructor. */
+    public RequestTracer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of finished spans to keep.
+     */
+    public RequestTracer(int capacity) {
+        assert capacity > 0 : capacity;
+
+        this.spans = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Sets the fraction of requests to trace.
+     *
+     * @param samplingRate Value from {@code 0} (tracing is disabled) to {@code 1} (every request is traced).
+     */
+    public void samplingRate(double samplingRate) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1: " + samplingRate);
+        }
+
+        this.samplingRate = samplingRate;
+    }
+
+    /** Returns the fraction of requests to trace. */
+    public double samplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Starts a new trace if the request is sampled.
+     *
+     * @param operation Operation name.
+     * @return Root span of the trace, {@code null} if the request is not sampled.
+     */
+    public @Nullable RequestSpan startTrace(String operation) {
+        double rate = samplingRate;
+
+        if (rate == 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            return null;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return new RequestSpan(new UUID(random.nextLong(), random.nextLong()), operation, this::onSpanEnd);
+    }
+
+    /**
+     * Starts a span of the trace that the current thread takes part in. If the trace came from another node, the time since the
+     * request was received is recorded as the {@link TraceStage#QUEUE} stage of the new span.
+     *
+     * @param operation Operation name.
+     * @return Span, {@code null} if the current thread is not processing a traced request.
+     * @see RequestTracing#current()
+     */
+    public @Nullable RequestSpan startSpan(String operation) {
+        RequestSpan parent = RequestTracing.current();
+
+        if (parent == null) {
+            return null;
+        }
+
+        var span = new RequestSpan(parent.traceId(), operation, this::onSpanEnd);
+
+        if (!parent.recording()) {
+            span.record(TraceStage.QUEUE, span.startNanos() - parent.startNanos());
+        }
+
+        return span;
+    }
+
+    /** Registers a listener that is notified about every finished span. */
+    public void listen(Consumer<RequestSpan> listener) {
+        listeners.add(listener);
+    }
+
+    /** Returns the most recent finished spans, oldest first. */
+    public List<RequestSpan> spans() {
+        long end = position.get();
+        long start = Math.max(0, end - spans.length());
+
+        var result = new ArrayList<RequestSpan>((int) (end - start));
+
+        for (long i = start; i < end; i++) {
+            RequestSpan span = spans.get(index(i));
+
+            // The slot may be not yet filled by a concurrent writer.
+            if (span != null) {
+                result.add(span);
+            }
+        }
+
+        return result;
+    }
+
+    private void onSpanEnd(RequestSpan span) {
+        spans.set(index(position.getAndIncrement()), span);
+
+        for (Consumer<RequestSpan> listener : listeners) {
+            listener.accept(span);
+        }
+    }
+
+    private int index(long position) {
+        return (int) (position % spans.length());
+    }
+}
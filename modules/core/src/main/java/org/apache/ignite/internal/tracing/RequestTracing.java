@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tracing;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks the {@link RequestSpan} that is being processed by the current thread.
+ *
+ * <p>The span is only attached to the thread for the synchronous part of request processing. Code that starts an asynchronous stage
+ * captures the span with {@link #recordOnCompletion}, so the stage is attributed correctly even if the future completes in another
+ * thread. Stages that are started in continuations running in other threads are not recorded.
+ */
+public final class RequestTracing {
+    private static final ThreadLocal<RequestSpan> CURRENT = new ThreadLocal<>();
+
+    private RequestTracing() {
+    }
+
+    /** Returns the span attached to the current thread, {@code null} if the thread is not processing a traced request. */
+    public static @Nullable RequestSpan current() {
+        return CURRENT.get();
+    }
+
+    /** Returns the trace ID of the span attached to the current thread, {@code null} if there is no such span. */
+    public static @Nullable UUID currentTraceId() {
+        RequestSpan span = CURRENT.get();
+
+        return span == null ? null : span.traceId();
+    }
+
+    /**
+     * Attaches a span to the current thread. Must be followed by {@link #detach} with the returned value, usually in a finally block.
+     *
+     * @param span Span, {@code null} to detach the current one.
+     * @return Previously attached span.
+     */
+    public static @Nullable RequestSpan attach(@Nullable RequestSpan span) {
+        RequestSpan previous = CURRENT.get();
+
+        if (span != previous) {
+            CURRENT.set(span);
+        }
+
+        return previous;
+    }
+
+    /**
+     * Restores the span that was attached to the current thread before the matching {@link #attach} call.
+     *
+     * @param previous Value returned by {@link #attach}.
+     */
+    public static void detach(@Nullable RequestSpan previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Adds time to a stage of the span attached to the current thread, if any.
+     *
+     * @param stage Stage.
+     * @param nanos Duration in nanoseconds.
+     */
+    public static void record(TraceStage stage, long nanos) {
+        RequestSpan span = CURRENT.get();
+
+        if (span != null) {
+            span.record(stage, nanos);
+        }
+    }
+
+    /**
+     * Records the time until the future completes as a stage of the span attached to the current thread, if any.
+     *
+     * @param stage Stage.
+     * @param future Future.
+     * @return The same future.
+     */
+    public static <T> CompletableFuture<T> recordOnCompletion(TraceStage stage, CompletableFuture<T> future) {
+        RequestSpan span = CURRENT.get();
+
+        return span == null ? future : span.recordOnCompletion(stage, future);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tracing;
+
+/**
+ * Stages of request processing whose latency is recorded by {@link RequestSpan}s.
+ */
+public enum TraceStage {
+    /** Waiting for a thread to start processing the request. */
+    QUEUE,
+
+    /** Waiting for transaction locks. */
+    LOCK_WAIT,
+
+    /** Replicating a command through RAFT, until it is applied on the leader. */
+    REPLICATION,
+
+    /** Applying updates to the partition storage. */
+    STORAGE_APPLY,
+
+    /** Serializing and sending the response. */
+    RESPONSE
+}
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable map with {@code int} keys. Every modification returns a new map that shares most of its structure with the original one,
+ * so that keeping many versions of a large map is cheap, and so is deriving a new version from the previous one.
+ *
+ * <p>The map is a hash array mapped trie. Every level of the trie consumes {@value #BITS} bits of a key, starting from the lowest ones,
+ * and a node only has slots for the children that are present. A modification copies only the nodes on the path from the root to the
+ * modified key, that is no more than {@value #MAX_DEPTH} arrays of no more than {@code 32} elements. Keys are used as they are, without
+ * hashing, so sequentially generated keys end up in densely populated nodes.
+ *
+ * @param <V> Type of values, {@code null} values are not supported.
+ */
+public final class PersistentIntMap<V> {
+    /** Number of key bits consumed by a level of the trie. */
+    private static final int BITS = 5;
+
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** Maximum number of levels of the trie. */
+    private static final int MAX_DEPTH = (Integer.SIZE + BITS - 1) / BITS;
+
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(Node.EMPTY, 0);
+
+    private final Node root;
+
+    private final int size;
+
+    private PersistentIntMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /** Returns an empty map. */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns {@code true} if the map contains no entries. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value associated with the key.
+     *
+     * @param key Key.
+     * @return Value or {@code null} if the map doesn't contain the key.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(int key) {
+        Node node = root;
+
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bit(key, shift);
+
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+
+            Object child = node.children[node.index(bit)];
+
+            if (child instanceof Node) {
+                node = (Node) child;
+            } else {
+                Leaf leaf = (Leaf) child;
+
+                return leaf.key == key ? (V) leaf.value : null;
+            }
+        }
+    }
+
+    /**
+     * Returns the value associated with the key, or the default value if the map doesn't contain the key.
+     *
+     * @param key Key.
+     * @param defaultValue Default value.
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+
+        return value == null ? defaultValue : value;
+    }
+
+    /** Returns {@code true} if the map contains the key. */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map that associates the key with the value, and contains all other entries of this map. If the key is already associated
+     * with the same (identical) value, this map is returned.
+     *
+     * @param key Key.
+     * @param value Value.
+     */
+    public PersistentIntMap<V> put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+
+        Node newRoot = root.put(key, value, 0);
+
+        if (newRoot == root) {
+            return this;
+        }
+
+        return new PersistentIntMap<>(newRoot, containsKey(key) ? size : size + 1);
+    }
+
+    /**
+     * Returns a map that contains all entries of this map except for the one with the given key. If the map doesn't contain the key,
+     * this map is returned.
+     *
+     * @param key Key.
+     */
+    public PersistentIntMap<V> remove(int key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+
+        if (size == 1) {
+            return empty();
+        }
+
+        return new PersistentIntMap<>(root.remove(key, 0), size - 1);
+    }
+
+    /** Returns an unmodifiable view of the values of the map, in no particular order. */
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                var leaves = new LeafIterator(root);
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return leaves.hasNext();
+                    }
+
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public V next() {
+                        return (V) leaves.next().value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "{", "}");
+
+        for (Iterator<Leaf> it = new LeafIterator(root); it.hasNext(); ) {
+            Leaf leaf = it.next();
+
+            joiner.add(leaf.key + "=" + leaf.value);
+        }
+
+        return joiner.toString();
+    }
+
+    private static int bit(int key, int shift) {
+        return 1 << ((key >>> shift) & MASK);
+    }
+
+    private static final class Leaf {
+        final int key;
+
+        final Object value;
+
+        Leaf(int key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Node of the trie. Every child is either a {@link Leaf} or a {@link Node}. Any node except for the root contains at least two keys,
+     * a subtree with a single key is always replaced with its leaf.
+     */
+    private static final class Node {
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        /** Bit {@code i} is set if the node has a child for the {@code i}-th value of the key bits consumed by the node's level. */
+        final int bitmap;
+
+        final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Node put(int key, Object value, int shift) {
+            int bit = bit(key, shift);
+            int index = index(bit);
+
+            if ((bitmap & bit) == 0) {
+                var newChildren = new Object[children.length + 1];
+
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = new Leaf(key, value);
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+                return new Node(bitmap | bit, newChildren);
+            }
+
+            Object child = children[index];
+            Object newChild;
+
+            if (child instanceof Node) {
+                newChild = ((Node) child).put(key, value, shift + BITS);
+            } else {
+                Leaf leaf = (Leaf) child;
+
+                if (leaf.key == key) {
+                    newChild = leaf.value == value ? leaf : new Leaf(key, value);
+                } else {
+                    // Different keys always diverge before all their bits are consumed, so the split never goes deeper than MAX_DEPTH.
+                    var subNode = new Node(bit(leaf.key, shift + BITS), new Object[] {leaf});
+
+                    newChild = subNode.put(key, value, shift + BITS);
+                }
+            }
+
+            return newChild == child ? this : withChild(index, newChild);
+        }
+
+        /** Removes the key, which must be present in the subtree. */
+        Node remove(int key, int shift) {
+            int bit = bit(key, shift);
+            int index = index(bit);
+
+            Object child = children[index];
+
+            if (child instanceof Node) {
+                Node newChild = ((Node) child).remove(key, shift + BITS);
+
+                if (newChild.children.length == 1 && newChild.children[0] instanceof Leaf) {
+                    return withChild(index, newChild.children[0]);
+                }
+
+                return withChild(index, newChild);
+            }
+
+            if (children.length == 1) {
+                return EMPTY;
+            }
+
+            var newChildren = new Object[children.length - 1];
+
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            return new Node(bitmap & ~bit, newChildren);
+        }
+
+        private Node withChild(int index, Object child) {
+            Object[] newChildren = children.clone();
+
+            newChildren[index] = child;
+
+            return new Node(bitmap, newChildren);
+        }
+    }
+
+    /** Depth-first iterator over the leaves of the trie. */
+    private static final class LeafIterator implements Iterator<Leaf> {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+
+        private final int[] positions = new int[MAX_DEPTH];
+
+        private int depth;
+
+        private @Nullable Leaf next;
+
+        LeafIterator(Node root) {
+            nodes[0] = root;
+
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Leaf next() {
+            Leaf leaf = next;
+
+            if (leaf == null) {
+                throw new NoSuchElementException();
+            }
+
+            advance();
+
+            return leaf;
+        }
+
+        private void advance() {
+            next = null;
+
+            while (depth >= 0) {
+                Node node = nodes[depth];
+
+                if (positions[depth] == node.children.length) {
+                    depth--;
+
+                    continue;
+                }
+
+                Object child = node.children[positions[depth]++];
+
+                if (child instanceof Leaf) {
+                    next = (Leaf) child;
+
+                    return;
+                }
+
+                depth++;
+
+                nodes[depth] = (Node) child;
+                positions[depth] = 0;
+            }
+        }
+    }
+}
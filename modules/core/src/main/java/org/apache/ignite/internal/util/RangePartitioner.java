@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps values of the colocation column of a range-partitioned table to partitions.
+ *
+ * <p>{@code N} ascending split points define {@code N + 1} partitions: partition {@code 0} holds values less than the first split point,
+ * partition {@code i} holds values in {@code [splitPoints[i - 1], splitPoints[i])}, and the last partition holds values that are greater
+ * than or equal to the last split point. Neighbour values are thus stored in the same or in adjacent partitions, which lets range
+ * predicates be mapped to a contiguous interval of partitions.
+ *
+ * <p>Range-partitioned tables use the partition number in place of the colocation hash, so that code computing a partition as
+ * {@code safeAbs(colocationHash) % partitions} routes rows of such tables without any changes.
+ */
+public class RangePartitioner {
+    private final Object[] splitPoints;
+
+    private final Class<?> valueClass;
+
+    /**
+     * Constructor.
+     *
+     * @param splitPoints Split points, must be non-empty, of the same {@link Comparable} class and strictly ascending.
+     */
+    public RangePartitioner(List<?> splitPoints) {
+        if (splitPoints.isEmpty()) {
+            throw new IllegalArgumentException("Range partitioning requires at least one split point.");
+        }
+
+        Object[] points = splitPoints.toArray();
+
+        valueClass = points[0].getClass();
+
+        if (!Comparable.class.isAssignableFrom(valueClass)) {
+            throw new IllegalArgumentException("Split points are not comparable: " + valueClass.getName());
+        }
+
+        for (int i = 1; i < points.length; i++) {
+            if (points[i].getClass() != valueClass) {
+                throw new IllegalArgumentException("Split points must be of the same type: " + splitPoints);
+            }
+
+            if (compare(points[i - 1], points[i]) >= 0) {
+                throw new IllegalArgumentException("Split points must be strictly ascending: " + splitPoints);
+            }
+        }
+
+        this.splitPoints = points;
+    }
+
+    /** Returns the split points. */
+    public List<Object> splitPoints() {
+        return Collections.unmodifiableList(Arrays.asList(splitPoints));
+    }
+
+    /** Returns the number of partitions defined by the split points. */
+    public int partitions() {
+        return splitPoints.length + 1;
+    }
+
+    /**
+     * Returns {@code true} if the value can be compared with the split points. {@code null} is always accepted and belongs to the first
+     * partition.
+     */
+    public boolean accepts(@Nullable Object value) {
+        return value == null || value.getClass() == valueClass;
+    }
+
+    /**
+     * Returns the partition the value belongs to, that is the number of split points that are less than or equal to the value.
+     *
+     * @param value Value of the colocation column, must be {@link #accepts accepted} by the partitioner.
+     */
+    public int partition(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        return countSplitPoints(value, true);
+    }
+
+    /**
+     * Returns the last partition that may contain values strictly less than the given one, that is the number of split points that are
+     * less than the value. Used to map an exclusive upper bound of a range to a partition.
+     *
+     * @param value Bound, must be {@link #accepts accepted} by the partitioner.
+     */
+    public int partitionBelow(Object value) {
+        return countSplitPoints(value, false);
+    }
+
+    private int countSplitPoints(Object value, boolean inclusive) {
+        int low = 0;
+        int high = splitPoints.length;
+
+        // Finds the first split point that is greater than (or not less than, if not inclusive) the value.
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            int cmp = compare(splitPoints[mid], value);
+
+            if (cmp < 0 || (inclusive && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return Arrays.equals(splitPoints, ((RangePartitioner) o).splitPoints);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(splitPoints);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(RangePartitioner.class, this, "splitPoints", Arrays.toString(splitPoints));
+    }
+}
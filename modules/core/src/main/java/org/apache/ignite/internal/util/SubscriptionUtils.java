@@ -27,6 +27,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergePublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -56,6 +57,19 @@ public class SubscriptionUtils {
         return new ConcatenatedPublisher<>(Arrays.asList(sources).iterator());
     }
 
+    /**
+     * Creates a thread-safe publisher wrapper for multiple publishers, that consumes up to {@code maxConcurrency} of them at the same time
+     * and emits their items in the order of arrival.
+     *
+     * @param sources Iterator which produces all publishers which should be combined.
+     * @param maxConcurrency Maximum number of concurrently consumed publishers.
+     * @param prefetch Prefetch size of every publisher.
+     * @return The publisher will combine all of the passed sources into a single one without ordering guarantees.
+     */
+    public static <T> Publisher<T> merge(Iterator<Publisher<? extends T>> sources, int maxConcurrency, int prefetch) {
+        return new MergePublisher<>(sources, maxConcurrency, prefetch);
+    }
+
     /**
      * Sorting composite publisher. Merges multiple concurrent ordered data streams into one.
      *
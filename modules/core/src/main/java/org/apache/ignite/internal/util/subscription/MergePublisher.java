@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Composite publisher that consumes several upstream publishers concurrently.
+ *
+ * <p>No more than {@code maxConcurrency} sources are subscribed at a time, the next source is subscribed as soon as one of the active
+ * sources completes. Items are emitted in the order they arrive, so the publisher gives no ordering guarantees at all. Downstream
+ * signals are never concurrent, no matter how many sources produce items at the same time.
+ *
+ * <p>An error of any source cancels the others and is passed to the downstream right away.
+ */
+public class MergePublisher<T> implements Publisher<T> {
+    /** Marker of a cancelled source subscription. */
+    private static final Subscription CANCELLED = new Subscription() {
+        @Override
+        public void request(long n) {
+            // No-op.
+        }
+
+        @Override
+        public void cancel() {
+            // No-op.
+        }
+    };
+
+    /** Iterator of upstream publishers. */
+    private final Iterator<Publisher<? extends T>> sources;
+
+    /** Maximum number of concurrently consumed sources. */
+    private final int maxConcurrency;
+
+    /** Prefetch size of every source. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param sources Iterator of upstream publishers.
+     * @param maxConcurrency Maximum number of concurrently consumed sources.
+     * @param prefetch Prefetch size of every source.
+     */
+    public MergePublisher(Iterator<Publisher<? extends T>> sources, int maxConcurrency, int prefetch) {
+        assert maxConcurrency > 0 : maxConcurrency;
+        assert prefetch > 0 : prefetch;
+
+        this.sources = sources;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergeSubscription<T> subscription = new MergeSubscription<>(downstream, sources, maxConcurrency, prefetch);
+
+        downstream.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Merging subscription. All the work, including subscription to the sources, is done in the drain loop, which is executed by one
+     * thread at a time.
+     */
+    static final class MergeSubscription<T> implements Subscription {
+        private final Subscriber<? super T> downstream;
+
+        private final Iterator<Publisher<? extends T>> sources;
+
+        private final int maxConcurrency;
+
+        private final int prefetch;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        private final AtomicInteger guardCntr = new AtomicInteger();
+
+        /** Number of requested items. */
+        private final AtomicLong requested = new AtomicLong();
+
+        /** First error of any source. */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /** Currently consumed sources (guarded by {@link #guardCntr}). */
+        private final List<MergeSubscriber<T>> active = new ArrayList<>();
+
+        /** Number of emitted items (guarded by {@link #guardCntr}). */
+        private long emitted;
+
+        private volatile boolean cancelled;
+
+        MergeSubscription(Subscriber<? super T> downstream, Iterator<Publisher<? extends T>> sources, int maxConcurrency, int prefetch) {
+            this.downstream = downstream;
+            this.sources = sources;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            for (; ; ) {
+                long current = requested.get();
+                long next = current + n;
+
+                if (next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            drain();
+        }
+
+        void onInnerError(Throwable throwable) {
+            error.compareAndSet(null, throwable);
+
+            drain();
+        }
+
+        void drain() {
+            // Only one thread can pass below.
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            for (; ; ) {
+                if (cancelled) {
+                    cancelActive();
+
+                    // Terminal state. No need to release guard.
+                    return;
+                }
+
+                Throwable throwable = error.get();
+
+                if (throwable != null) {
+                    cancelled = true;
+
+                    cancelActive();
+
+                    downstream.onError(throwable);
+
+                    return;
+                }
+
+                // Sources may signal synchronously from within subscribe(), such signals are handled by the next iteration.
+                while (active.size() < maxConcurrency && sources.hasNext()) {
+                    MergeSubscriber<T> inner = new MergeSubscriber<>(this, prefetch);
+
+                    active.add(inner);
+
+                    sources.next().subscribe(inner);
+                }
+
+                boolean sourceCompleted = false;
+
+                long requested = this.requested.get();
+                long emitted = this.emitted;
+
+                for (int i = 0; i < active.size(); ) {
+                    MergeSubscriber<T> inner = active.get(i);
+
+                    boolean innerDone = inner.done; // Read before polling to preserve correct program order.
+                    T item = emitted == requested ? null : inner.queue.poll();
+
+                    if (item != null) {
+                        downstream.onNext(item);
+                        emitted++;
+
+                        inner.consumed();
+                    } else if (innerDone && inner.queue.isEmpty()) {
+                        active.remove(i);
+
+                        sourceCompleted = true;
+                    } else {
+                        i++;
+                    }
+
+                    if (cancelled) {
+                        break;
+                    }
+                }
+
+                this.emitted = emitted;
+
+                if (cancelled) {
+                    continue;
+                }
+
+                if (active.isEmpty() && !sources.hasNext()) {
+                    downstream.onComplete();
+
+                    // Terminal state. No need to release guard.
+                    return;
+                }
+
+                // Completed sources free up slots for the next ones.
+                if (sourceCompleted) {
+                    continue;
+                }
+
+                missed = guardCntr.addAndGet(-missed);
+
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void cancelActive() {
+            for (MergeSubscriber<T> inner : active) {
+                inner.cancel();
+                inner.queue.clear();
+            }
+
+            active.clear();
+        }
+    }
+
+    /**
+     * Subscriber to a single source.
+     */
+    static final class MergeSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T> {
+        /** Parent subscription. */
+        private final MergeSubscription<T> parent;
+
+        /** Prefetch size. */
+        private final int prefetch;
+
+        /** Number of consumed items after which more items are requested. */
+        private final int limit;
+
+        /** Inner data buffer. */
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        /** Count of consumed items (guarded by the parent's drain loop). */
+        private int consumed;
+
+        /** Flag indicating that the source has completed. */
+        private volatile boolean done;
+
+        MergeSubscriber(MergeSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (compareAndSet(null, subscription)) {
+                subscription.request(prefetch);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+
+            parent.drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            done = true;
+
+            parent.onInnerError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            done = true;
+
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+
+                Subscription subscription = get();
+
+                // If the subscription has not yet been cancelled - request upstream.
+                if (subscription != null && subscription != CANCELLED) {
+                    subscription.request(limit);
+                }
+            }
+        }
+
+        void cancel() {
+            Subscription subscription = getAndSet(CANCELLED);
+
+            if (subscription != null && subscription != CANCELLED) {
+                subscription.cancel();
+            }
+        }
+    }
+}
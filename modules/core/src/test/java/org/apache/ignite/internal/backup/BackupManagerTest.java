@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.backup;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrows;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.backup.BackupManifest.FileEntry;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for {@link BackupManager}.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+class BackupManagerTest extends BaseIgniteAbstractTest {
+    @WorkDirectory
+    private Path workDir;
+
+    private Path sourceDir;
+
+    private LocalFileSystemBackupTarget target;
+
+    private BackupManager backupManager;
+
+    private final Map<String, Long> appliedIndexes = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> firstLogIndexes = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceDir = Files.createDirectories(workDir.resolve("storage"));
+
+        target = new LocalFileSystemBackupTarget(workDir.resolve("backups"));
+
+        backupManager = new BackupManager(
+                "test",
+                () -> List.of(new DirectorySource(sourceDir, firstLogIndexes)),
+                () -> appliedIndexes,
+                new HybridClockImpl(),
+                0
+        );
+
+        assertThat(backupManager.startAsync(new ComponentContext()), willCompleteSuccessfully());
+    }
+
+    @AfterEach
+    void tearDown() {
+        assertThat(backupManager.stopAsync(new ComponentContext()), willCompleteSuccessfully());
+    }
+
+    @Test
+    void testIncrementalBackup() throws Exception {
+        Files.writeString(sourceDir.resolve("a.bin"), "a");
+        Files.writeString(Files.createDirectories(sourceDir.resolve("dir")).resolve("b.bin"), "b");
+
+        BackupManifest first = createBackup();
+
+        assertNull(first.previousBackupId());
+        assertThat(paths(first), containsInAnyOrder("a.bin", "dir/b.bin"));
+
+        Files.writeString(sourceDir.resolve("a.bin"), "a, changed");
+        Files.writeString(sourceDir.resolve("c.bin"), "c");
+
+        BackupManifest second = createBackup();
+
+        assertEquals(first.backupId(), second.previousBackupId());
+        assertThat(paths(second), containsInAnyOrder("a.bin", "dir/b.bin", "c.bin"));
+
+        Map<String, String> storedIn = second.files().stream().collect(toMap(FileEntry::path, FileEntry::storedIn));
+
+        assertEquals(second.backupId(), storedIn.get("a.bin"));
+        assertEquals(first.backupId(), storedIn.get("dir/b.bin"));
+        assertEquals(second.backupId(), storedIn.get("c.bin"));
+
+        assertFalse(Files.exists(workDir.resolve("backups").resolve(second.backupId()).resolve("files/test/dir/b.bin")));
+    }
+
+    @Test
+    void testRestoreToPointInTime() throws Exception {
+        Files.writeString(sourceDir.resolve("a.bin"), "first");
+        Files.writeString(sourceDir.resolve("b.bin"), "unchanged");
+
+        BackupManifest first = createBackup();
+
+        Files.writeString(sourceDir.resolve("a.bin"), "second version");
+        Files.writeString(sourceDir.resolve("c.bin"), "new");
+
+        BackupManifest second = createBackup();
+
+        Files.writeString(sourceDir.resolve("garbage.bin"), "garbage");
+
+        BackupManifest restored = BackupManager.restore(target, second.timestamp().addPhysicalTime(1));
+
+        assertEquals(second.backupId(), restored.backupId());
+        assertThat(listFiles(sourceDir), containsInAnyOrder("a.bin", "b.bin", "c.bin"));
+        assertEquals("second version", Files.readString(sourceDir.resolve("a.bin")));
+        assertEquals("unchanged", Files.readString(sourceDir.resolve("b.bin")));
+
+        restored = BackupManager.restore(target, first.timestamp());
+
+        assertEquals(first.backupId(), restored.backupId());
+        assertThat(listFiles(sourceDir), containsInAnyOrder("a.bin", "b.bin"));
+        assertEquals("first", Files.readString(sourceDir.resolve("a.bin")));
+
+        HybridTimestamp beforeFirst = first.timestamp().subtractPhysicalTime(1);
+
+        assertThrows(IgniteInternalException.class, () -> BackupManager.restore(target, beforeFirst), "No backup has been made");
+    }
+
+    @Test
+    void testTruncatedLogIsRejected() throws Exception {
+        Files.writeString(sourceDir.resolve("a.bin"), "a");
+
+        appliedIndexes.put("group", 10L);
+        firstLogIndexes.put("group", 11L);
+
+        BackupManifest manifest = createBackup();
+
+        assertEquals(Map.of("group", 10L), manifest.appliedIndexes());
+        assertEquals(Map.of("group", 11L), manifest.firstLogIndexes());
+
+        // A Raft snapshot has truncated the log between the storage and the log snapshots.
+        firstLogIndexes.put("group", 12L);
+
+        assertThat(backupManager.createBackup(target), willThrow(IgniteInternalException.class, "Failed to create a backup"));
+
+        // A group that has no state in the storages needs its log from the very beginning.
+        firstLogIndexes.put("group", 11L);
+        firstLogIndexes.put("newGroup", 2L);
+
+        assertThat(backupManager.createBackup(target), willThrow(IgniteInternalException.class, "Failed to create a backup"));
+    }
+
+    @Test
+    void testRestoreFromTruncatedLogIsRejected() throws Exception {
+        Files.writeString(sourceDir.resolve("a.bin"), "a");
+
+        BackupManifest manifest = createBackup();
+
+        target.writeManifest(new BackupManifest(
+                "broken",
+                manifest.timestamp().addPhysicalTime(1),
+                manifest.backupId(),
+                manifest.directoryBySource(),
+                Map.of("group", 10L),
+                Map.of("group", 12L),
+                manifest.files()
+        ));
+
+        Files.writeString(sourceDir.resolve("b.bin"), "b");
+
+        HybridTimestamp pointInTime = manifest.timestamp().addPhysicalTime(1);
+
+        assertThrows(IgniteInternalException.class, () -> BackupManager.restore(target, pointInTime), "Raft log has been truncated");
+
+        // Nothing has been removed.
+        assertThat(listFiles(sourceDir), containsInAnyOrder("a.bin", "b.bin"));
+    }
+
+    private BackupManifest createBackup() {
+        CompletableFuture<BackupManifest> future = backupManager.createBackup(target);
+
+        assertThat(future, willCompleteSuccessfully());
+
+        return future.join();
+    }
+
+    private static List<String> paths(BackupManifest manifest) {
+        return manifest.files().stream().map(FileEntry::path).collect(toList());
+    }
+
+    private static List<String> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .map(dir::relativize)
+                    .map(path -> path.toString().replace(path.getFileSystem().getSeparator(), "/"))
+                    .collect(toList());
+        }
+    }
+
+    /** Source that backs up a directory as is, without any consistency guarantees. */
+    private static class DirectorySource implements BackupSource {
+        private final Path dir;
+
+        private final Map<String, Long> firstLogIndexes;
+
+        DirectorySource(Path dir, Map<String, Long> firstLogIndexes) {
+            this.dir = dir;
+            this.firstLogIndexes = firstLogIndexes;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public Path directory() {
+            return dir;
+        }
+
+        @Override
+        public CompletableFuture<BackupSnapshot> createSnapshot() {
+            try (Stream<Path> files = Files.walk(dir)) {
+                List<Path> paths = files.filter(Files::isRegularFile).map(dir::relativize).collect(toList());
+
+                return completedFuture(new BackupSnapshot(dir, paths, () -> {}, firstLogIndexes));
+            } catch (IOException e) {
+                return failedFuture(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jfr;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for {@link FlightRecordings}.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+class FlightRecordingsTest extends BaseIgniteAbstractTest {
+    @WorkDirectory
+    private Path workDir;
+
+    @Test
+    void bundledSettingsEnableIgniteEvents() {
+        Map<String, String> settings = FlightRecordings.igniteSettings();
+
+        for (String event : List.of("ReplicaRequest", "LockWait", "RaftAppend", "RaftApply", "CheckpointReadLockWait",
+                "SqlFragmentExecution")) {
+            assertThat(settings, hasEntry(IgniteEvent.NAME_PREFIX + event + "#enabled", "true"));
+        }
+    }
+
+    @Test
+    void recordingIsSavedToFile() throws Exception {
+        Path file = workDir.resolve("test.jfr");
+
+        CompletableFuture<Void> recordingFuture = FlightRecordings.record(file, Duration.ofMillis(500));
+
+        new TestEvent().commit();
+
+        assertThat(recordingFuture, willCompleteSuccessfully());
+
+        assertThat(Files.exists(file), is(true));
+
+        // Ignite events that are not enabled explicitly are never recorded.
+        List<RecordedEvent> testEvents = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(TestEvent.NAME))
+                .collect(Collectors.toList());
+
+        assertThat(testEvents, is(empty()));
+    }
+
+    @Name(TestEvent.NAME)
+    static class TestEvent extends IgniteEvent {
+        static final String NAME = IgniteEvent.NAME_PREFIX + "Test";
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tracing;
+
+import static org.apache.ignite.internal.tracing.TraceStage.LOCK_WAIT;
+import static org.apache.ignite.internal.tracing.TraceStage.QUEUE;
+import static org.apache.ignite.internal.tracing.TraceStage.REPLICATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestTracer}.
+ */
+class RequestTracerTest extends BaseIgniteAbstractTest {
+    private final RequestTracer tracer = new RequestTracer(4);
+
+    @AfterEach
+    void detachSpan() {
+        RequestTracing.detach(null);
+    }
+
+    @Test
+    void tracesNothingByDefault() {
+        assertThat(tracer.startTrace("op"), is(nullValue()));
+        assertThat(tracer.startSpan("op"), is(nullValue()));
+    }
+
+    @Test
+    void invalidSamplingRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> tracer.samplingRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> tracer.samplingRate(-0.1));
+    }
+
+    @Test
+    void finishedSpansAreKeptInRingBuffer() {
+        tracer.samplingRate(1);
+
+        List<RequestSpan> ended = new ArrayList<>();
+        tracer.listen(ended::add);
+
+        for (int i = 0; i < 6; i++) {
+            RequestSpan span = tracer.startTrace("op" + i);
+
+            assertThat(span, is(notNullValue()));
+
+            span.end(false);
+            span.end(true);
+        }
+
+        assertThat(ended.size(), is(6));
+        assertThat(tracer.spans(), contains(ended.subList(2, 6).toArray()));
+        assertThat(tracer.spans().get(0).failed(), is(false));
+    }
+
+    @Test
+    void childSpanSharesTraceId() {
+        tracer.samplingRate(1);
+
+        RequestSpan root = tracer.startTrace("root");
+
+        RequestSpan previous = RequestTracing.attach(root);
+
+        RequestSpan child;
+
+        try {
+            assertThat(RequestTracing.currentTraceId(), is(root.traceId()));
+
+            child = tracer.startSpan("child");
+        } finally {
+            RequestTracing.detach(previous);
+        }
+
+        assertThat(child.traceId(), is(root.traceId()));
+        assertThat(child.stageNanos(QUEUE), is(0L));
+        assertThat(RequestTracing.current(), is(nullValue()));
+    }
+
+    @Test
+    void spanOfRemoteRequestRecordsQueueTime() throws Exception {
+        RequestSpan remote = RequestSpan.remote(UUID.randomUUID());
+
+        Thread.sleep(10);
+
+        RequestTracing.attach(remote);
+
+        RequestSpan span = tracer.startSpan("replica");
+
+        assertThat(span.traceId(), is(remote.traceId()));
+        assertThat(span.stageNanos(QUEUE), is(greaterThan(0L)));
+
+        // Remote spans don't record anything themselves.
+        remote.record(LOCK_WAIT, 100);
+        remote.end(false);
+
+        assertThat(remote.stageNanos(LOCK_WAIT), is(0L));
+        assertThat(tracer.spans(), is(empty()));
+    }
+
+    @Test
+    void stagesAreRecordedToCurrentSpan() {
+        tracer.samplingRate(1);
+
+        RequestSpan span = tracer.startTrace("op");
+
+        var future = new CompletableFuture<Void>();
+
+        RequestTracing.attach(span);
+
+        RequestTracing.record(LOCK_WAIT, 100);
+        RequestTracing.record(LOCK_WAIT, 50);
+        RequestTracing.recordOnCompletion(REPLICATION, future);
+
+        RequestTracing.detach(null);
+
+        // Completion of the future is attributed to the span even though it is not attached to the thread anymore.
+        future.complete(null);
+
+        span.end(false);
+
+        assertThat(span.stageNanos(LOCK_WAIT), is(150L));
+        assertThat(span.stageNanos(REPLICATION), is(greaterThanOrEqualTo(0L)));
+        assertThat(span.durationNanos(), is(greaterThanOrEqualTo(span.stageNanos(REPLICATION))));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PersistentIntMapTest {
+    @Test
+    void putGetRemove() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty()
+                .put(1, "a")
+                .put(33, "b")
+                .put(-1, "c");
+
+        assertEquals(3, map.size());
+        assertEquals("a", map.get(1));
+        assertEquals("b", map.get(33));
+        assertEquals("c", map.get(-1));
+        assertNull(map.get(2));
+        assertEquals("d", map.getOrDefault(2, "d"));
+
+        PersistentIntMap<String> removed = map.remove(33);
+
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey(33));
+        assertTrue(removed.containsKey(1));
+
+        // The original map is not affected.
+        assertEquals("b", map.get(33));
+    }
+
+    @Test
+    void noOpModificationsReturnSameMap() {
+        String value = "a";
+
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1, value);
+
+        assertSame(map, map.put(1, value));
+        assertSame(map, map.remove(2));
+        assertSame(PersistentIntMap.empty(), map.remove(1));
+    }
+
+    @Test
+    void values() {
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+
+        assertThat(map.values(), empty());
+
+        for (int i = 0; i < 100; i++) {
+            map = map.put(i * 31, i);
+        }
+
+        assertEquals(100, map.values().size());
+        assertEquals(99 * 100 / 2, map.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void randomOperationsKeepOldVersionsIntact() {
+        var random = new Random();
+
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+        var reference = new HashMap<Integer, Integer>();
+
+        List<PersistentIntMap<Integer>> versions = new ArrayList<>();
+        List<Map<Integer, Integer>> referenceVersions = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            // Narrow key range to get a lot of overwrites and removals, and keys that differ only in the highest bits.
+            int key = random.nextInt(256) | (random.nextBoolean() ? Integer.MIN_VALUE : 0);
+
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                reference.remove(key);
+            } else {
+                map = map.put(key, i);
+                reference.put(key, i);
+            }
+
+            if (i % 1000 == 0) {
+                versions.add(map);
+                referenceVersions.add(new HashMap<>(reference));
+            }
+        }
+
+        versions.add(map);
+        referenceVersions.add(reference);
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertMapEquals(referenceVersions.get(i), versions.get(i));
+        }
+    }
+
+    private static void assertMapEquals(Map<Integer, Integer> expected, PersistentIntMap<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        expected.forEach((key, value) -> assertEquals(value, actual.get(key)));
+
+        assertThat(actual.values(), containsInAnyOrder(expected.values().toArray()));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RangePartitioner}.
+ */
+public class RangePartitionerTest {
+    private final RangePartitioner partitioner = new RangePartitioner(List.of(10, 20, 30));
+
+    @Test
+    public void partitions() {
+        assertEquals(4, partitioner.partitions());
+
+        assertEquals(0, partitioner.partition(Integer.MIN_VALUE));
+        assertEquals(0, partitioner.partition(9));
+        assertEquals(1, partitioner.partition(10));
+        assertEquals(1, partitioner.partition(19));
+        assertEquals(2, partitioner.partition(20));
+        assertEquals(3, partitioner.partition(30));
+        assertEquals(3, partitioner.partition(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void partitionBelow() {
+        assertEquals(0, partitioner.partitionBelow(10));
+        assertEquals(1, partitioner.partitionBelow(11));
+        assertEquals(1, partitioner.partitionBelow(20));
+        assertEquals(3, partitioner.partitionBelow(31));
+    }
+
+    @Test
+    public void nullBelongsToFirstPartition() {
+        assertTrue(partitioner.accepts(null));
+        assertEquals(0, partitioner.partition(null));
+    }
+
+    @Test
+    public void acceptsValuesOfSplitPointsType() {
+        assertTrue(partitioner.accepts(42));
+        assertFalse(partitioner.accepts(42L));
+        assertFalse(partitioner.accepts("42"));
+    }
+
+    @Test
+    public void temporalSplitPoints() {
+        var datePartitioner = new RangePartitioner(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)));
+
+        assertEquals(0, datePartitioner.partition(LocalDate.of(2023, 12, 31)));
+        assertEquals(1, datePartitioner.partition(LocalDate.of(2024, 6, 1)));
+        assertEquals(2, datePartitioner.partition(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    public void invalidSplitPoints() {
+        assertThrows(IllegalArgumentException.class, () -> new RangePartitioner(List.of()), "at least one split point");
+        assertThrows(IllegalArgumentException.class, () -> new RangePartitioner(List.of(1, 1)), "strictly ascending");
+        assertThrows(IllegalArgumentException.class, () -> new RangePartitioner(List.of(2, 1)), "strictly ascending");
+        assertThrows(IllegalArgumentException.class, () -> new RangePartitioner(List.of(1, 2L)), "of the same type");
+        assertThrows(IllegalArgumentException.class, () -> new RangePartitioner(List.of(new Object())), "not comparable");
+    }
+}
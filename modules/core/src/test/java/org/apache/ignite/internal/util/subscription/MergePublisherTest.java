@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.flow.TestFlowUtils;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MergePublisher}.
+ */
+class MergePublisherTest {
+    @Test
+    void emitsItemsOfAllSources() {
+        List<Publisher<? extends Integer>> sources = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            sources.add(SubscriptionUtils.fromIterable(range(i * 10, i * 10 + 10)));
+        }
+
+        CompletableFuture<List<Integer>> result = TestFlowUtils.subscribeToList(SubscriptionUtils.merge(sources.iterator(), 2, 4));
+
+        assertThat(result, willSucceedFast());
+        assertThat(result.join(), containsInAnyOrder(range(0, 50).toArray()));
+    }
+
+    @Test
+    void respectsDemand() {
+        List<Integer> accumulator = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Publisher<Integer> publisher = SubscriptionUtils.merge(
+                List.<Publisher<? extends Integer>>of(SubscriptionUtils.fromIterable(range(0, 10)),
+                        SubscriptionUtils.fromIterable(range(10, 20))).iterator(),
+                2,
+                3
+        );
+
+        Subscription subscription = TestFlowUtils.subscribeToPublisher(accumulator, publisher, done);
+
+        subscription.request(7);
+
+        assertThat(accumulator, hasSize(7));
+        assertThat(done.isDone(), is(false));
+
+        subscription.request(13);
+
+        assertThat(done, willSucceedFast());
+        assertThat(accumulator, containsInAnyOrder(range(0, 20).toArray()));
+    }
+
+    @Test
+    void limitsNumberOfConcurrentSources() {
+        List<ManualPublisher> sources = List.of(new ManualPublisher(), new ManualPublisher(), new ManualPublisher());
+
+        List<Integer> accumulator = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Subscription subscription = TestFlowUtils.subscribeToPublisher(
+                accumulator,
+                SubscriptionUtils.merge(new ArrayList<Publisher<? extends Integer>>(sources).iterator(), 2, 1),
+                done
+        );
+
+        subscription.request(Long.MAX_VALUE);
+
+        assertThat(sources.get(0).subscribed(), is(true));
+        assertThat(sources.get(1).subscribed(), is(true));
+        assertThat(sources.get(2).subscribed(), is(false));
+
+        sources.get(1).subscriber.onNext(1);
+        sources.get(1).subscriber.onComplete();
+
+        assertThat(sources.get(2).subscribed(), is(true));
+
+        sources.get(0).subscriber.onComplete();
+        sources.get(2).subscriber.onNext(2);
+        sources.get(2).subscriber.onComplete();
+
+        assertThat(done, willSucceedFast());
+        assertThat(accumulator, equalTo(List.of(1, 2)));
+    }
+
+    @Test
+    void errorCancelsOtherSources() {
+        List<ManualPublisher> sources = List.of(new ManualPublisher(), new ManualPublisher(), new ManualPublisher());
+
+        List<Integer> accumulator = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Subscription subscription = TestFlowUtils.subscribeToPublisher(
+                accumulator,
+                SubscriptionUtils.merge(new ArrayList<Publisher<? extends Integer>>(sources).iterator(), 2, 1),
+                done
+        );
+
+        subscription.request(Long.MAX_VALUE);
+
+        sources.get(0).subscriber.onError(new IllegalStateException("test"));
+
+        assertThat(done, willThrow(IllegalStateException.class));
+        assertThat(sources.get(1).cancelled, is(true));
+        assertThat(sources.get(2).subscribed(), is(false));
+        assertThat(accumulator, is(empty()));
+    }
+
+    @Test
+    void serializesConcurrentSources() {
+        int sourceCount = 8;
+        int itemsPerSource = 10_000;
+
+        // Every source needs a thread to submit items and another one to deliver them.
+        ExecutorService executor = Executors.newFixedThreadPool(sourceCount * 2);
+
+        try {
+            List<Publisher<? extends Integer>> sources = new ArrayList<>();
+
+            for (int i = 0; i < sourceCount; i++) {
+                List<Integer> items = range(i * itemsPerSource, (i + 1) * itemsPerSource);
+
+                sources.add(subscriber -> {
+                    SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(executor, 16);
+
+                    publisher.subscribe(subscriber);
+
+                    executor.execute(() -> {
+                        items.forEach(publisher::submit);
+
+                        publisher.close();
+                    });
+                });
+            }
+
+            List<Integer> accumulator = Collections.synchronizedList(new ArrayList<>());
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            AtomicBoolean inSignal = new AtomicBoolean();
+
+            SubscriptionUtils.merge(sources.iterator(), 4, 64).subscribe(new Subscriber<Integer>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+
+                    subscription.request(100);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    if (!inSignal.compareAndSet(false, true)) {
+                        done.completeExceptionally(new AssertionError("Concurrent onNext"));
+                    }
+
+                    accumulator.add(item);
+
+                    if (accumulator.size() % 100 == 0) {
+                        subscription.request(100);
+                    }
+
+                    inSignal.set(false);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    done.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    done.complete(null);
+                }
+            });
+
+            assertThat(done, willCompleteSuccessfully());
+            assertThat(accumulator, containsInAnyOrder(range(0, sourceCount * itemsPerSource).toArray()));
+        } finally {
+            IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    /** Publisher, whose signals are sent manually by the test. */
+    private static class ManualPublisher implements Publisher<Integer> {
+        private volatile Subscriber<? super Integer> subscriber;
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // No-op.
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        boolean subscribed() {
+            return subscriber != null;
+        }
+    }
+}
@@ -186,6 +186,7 @@ import org.apache.ignite.internal.partitiondistribution.Assignments;
 import org.apache.ignite.internal.partitiondistribution.AssignmentsQueue;
 import org.apache.ignite.internal.placementdriver.TestPlacementDriver;
 import org.apache.ignite.internal.placementdriver.TestReplicaMetaImpl;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.JraftGroupEventsListener;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.Peer;
@@ -247,6 +248,7 @@ import org.apache.ignite.internal.testframework.InjectExecutorService;
 import org.apache.ignite.internal.testframework.TestIgnitionManager;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
@@ -1494,7 +1496,8 @@ public class ItRebalanceDistributedTest extends BaseIgniteAbstractTest {
                     threadPoolsManager.tableIoExecutor(),
                     replicaGrpId -> metaStorageManager.get(pendingPartAssignmentsQueueKey((ZonePartitionId) replicaGrpId))
                             .thenApply(entry -> new VersionedAssignments(entry.value(), entry.revision())),
-                    threadPoolsManager.commonScheduler()
+                    threadPoolsManager.commonScheduler(),
+                    new RequestTracer()
             ));
 
             LongSupplier delayDurationMsSupplier = () -> 10L;
@@ -1568,7 +1571,8 @@ public class ItRebalanceDistributedTest extends BaseIgniteAbstractTest {
                     metricManager,
                     clusterService.messagingService(),
                     replicaSvc,
-                    indexMetaStorage
+                    indexMetaStorage,
+                    () -> IgniteProductVersion.CURRENT_VERSION
             );
 
             tableManager = new TableManager(
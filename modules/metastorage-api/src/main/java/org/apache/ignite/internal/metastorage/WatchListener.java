@@ -30,4 +30,20 @@ public interface WatchListener {
      * @return Future that will be completed when the event is processed.
      */
     CompletableFuture<Void> onUpdate(WatchEvent event);
+
+    /**
+     * Returns {@code true} if the listener doesn't need other listeners to have processed a revision before it is notified of the next
+     * one, and no other listener depends on it having processed a revision.
+     *
+     * <p>Independent listeners are still notified of one event at a time and in increasing order of revisions, but they don't hold back
+     * notifications of other listeners, and a slow independent listener only delays itself. A revision is considered applied (and the
+     * Meta Storage safe time is advanced past it) once the other listeners have processed it, so an independent listener may still be
+     * processing an applied revision. Futures passed to notification enqueued listeners are completed only after all listeners, including
+     * independent ones, have processed the revision.
+     *
+     * <p>By default listeners are not independent.
+     */
+    default boolean independent() {
+        return false;
+    }
 }
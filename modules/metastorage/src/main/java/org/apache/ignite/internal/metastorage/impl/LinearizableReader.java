@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.impl;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.metrics.MetaStorageMetricSource;
+
+/**
+ * Coalesces linearizable reads of the latest values of single Meta Storage keys into batches sent to the leader.
+ *
+ * <p>Reads that are issued while another read is in flight are accumulated and sent as a single {@code getAll} command once it completes,
+ * and reads of the same key within a batch share the result. Every batch is sent to the leader after all of its reads have been issued,
+ * so batching doesn't break linearizability. Reads are never served from the local storage: its safe time can't prove that it contains
+ * every update committed before the read started.
+ */
+class LinearizableReader {
+    private final Function<Set<ByteArray>, CompletableFuture<Map<ByteArray, Entry>>> remoteReader;
+
+    private final MetaStorageMetricSource metricSource;
+
+    private final Object mutex = new Object();
+
+    /** Reads that will be sent in the next batch. Guarded by {@link #mutex}. */
+    private Map<ByteArray, CompletableFuture<Entry>> pendingReads = new HashMap<>();
+
+    /** Number of reads that will be sent in the next batch, including reads of the same key. Guarded by {@link #mutex}. */
+    private int pendingReadCount;
+
+    /** Whether a batch has been sent to the leader and is not completed yet. Guarded by {@link #mutex}. */
+    private boolean batchInFlight;
+
+    /**
+     * Constructor.
+     *
+     * @param remoteReader Function that reads the latest entries of keys from the leader.
+     * @param metricSource Metric source.
+     */
+    LinearizableReader(
+            Function<Set<ByteArray>, CompletableFuture<Map<ByteArray, Entry>>> remoteReader,
+            MetaStorageMetricSource metricSource
+    ) {
+        this.remoteReader = remoteReader;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Reads the latest entry of a key.
+     *
+     * @param key Key.
+     * @return Future with the entry.
+     */
+    CompletableFuture<Entry> get(ByteArray key) {
+        CompletableFuture<Entry> future;
+
+        boolean sendBatch;
+
+        synchronized (mutex) {
+            future = pendingReads.computeIfAbsent(key, k -> new CompletableFuture<>());
+
+            pendingReadCount++;
+
+            sendBatch = !batchInFlight;
+
+            batchInFlight = true;
+        }
+
+        if (sendBatch) {
+            sendBatch();
+        }
+
+        // The future may be shared by several reads, so callers must not be able to complete it.
+        return future.copy();
+    }
+
+    private void sendBatch() {
+        Map<ByteArray, CompletableFuture<Entry>> batch;
+
+        synchronized (mutex) {
+            if (pendingReads.isEmpty()) {
+                batchInFlight = false;
+
+                return;
+            }
+
+            batch = pendingReads;
+
+            metricSource.onRemoteReadBatch(pendingReadCount);
+
+            pendingReads = new HashMap<>();
+            pendingReadCount = 0;
+        }
+
+        CompletableFuture<Map<ByteArray, Entry>> batchFuture;
+
+        try {
+            batchFuture = remoteReader.apply(batch.keySet());
+        } catch (Throwable e) {
+            batchFuture = failedFuture(e);
+        }
+
+        batchFuture.whenComplete((entries, e) -> {
+            for (Map.Entry<ByteArray, CompletableFuture<Entry>> read : batch.entrySet()) {
+                if (e != null) {
+                    read.getValue().completeExceptionally(e);
+                } else {
+                    Entry entry = entries.get(read.getKey());
+
+                    read.getValue().complete(entry != null ? entry : EntryImpl.empty(read.getKey().bytes()));
+                }
+            }
+
+            sendBatch();
+        });
+    }
+}
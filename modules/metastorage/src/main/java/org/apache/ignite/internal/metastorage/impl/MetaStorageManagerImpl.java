@@ -179,6 +179,8 @@ public class MetaStorageManagerImpl implements MetaStorageManager, MetastorageGr
 
     private final MetaStorageMetricSource metaStorageMetricSource;
 
+    private final LinearizableReader linearizableReader;
+
     private final MetastorageRepairStorage metastorageRepairStorage;
     private final MetastorageRepair metastorageRepair;
 
@@ -280,7 +282,13 @@ public class MetaStorageManagerImpl implements MetaStorageManager, MetastorageGr
         this.storage = storage;
         this.clock = clock;
         this.clusterTime = new ClusterTimeImpl(localNode.name(), busyLock, clock, failureProcessor);
-        this.metaStorageMetricSource = new MetaStorageMetricSource(clusterTime, this::computeAvailablePeers, () -> msAvailable ? 1 : 0);
+        this.metaStorageMetricSource = new MetaStorageMetricSource(
+                clusterTime,
+                this::computeAvailablePeers,
+                () -> msAvailable ? 1 : 0,
+                storage::watchLags
+        );
+        this.linearizableReader = new LinearizableReader(this::getAllFromLeader, metaStorageMetricSource);
         this.raftServiceFactory = raftServiceFactory;
         this.metricManager = metricManager;
         this.metastorageRepairStorage = metastorageRepairStorage;
@@ -919,13 +927,7 @@ public class MetaStorageManagerImpl implements MetaStorageManager, MetastorageGr
 
     @Override
     public CompletableFuture<Entry> get(ByteArray key) {
-        return inBusyLockAsync(
-                busyLock,
-                () -> withTrackReadOperationFromLeaderFuture(
-                        storage.revision(),
-                        () -> metaStorageSvcFut.thenCompose(svc -> svc.get(key, TimeAwareRaftGroupService.NO_TIMEOUT))
-                )
-        );
+        return inBusyLockAsync(busyLock, () -> linearizableReader.get(key));
     }
 
     @Override
@@ -982,12 +984,13 @@ public class MetaStorageManagerImpl implements MetaStorageManager, MetastorageGr
 
     @Override
     public CompletableFuture<Map<ByteArray, Entry>> getAll(Set<ByteArray> keys) {
-        return inBusyLock(
-                busyLock,
-                () -> withTrackReadOperationFromLeaderFuture(
-                        storage.revision(),
-                        () -> metaStorageSvcFut.thenCompose(svc -> svc.getAll(keys, TimeAwareRaftGroupService.NO_TIMEOUT))
-                )
+        return inBusyLock(busyLock, () -> getAllFromLeader(keys));
+    }
+
+    private CompletableFuture<Map<ByteArray, Entry>> getAllFromLeader(Set<ByteArray> keys) {
+        return withTrackReadOperationFromLeaderFuture(
+                storage.revision(),
+                () -> metaStorageSvcFut.thenCompose(svc -> svc.getAll(keys, TimeAwareRaftGroupService.NO_TIMEOUT))
         );
     }
 
@@ -17,15 +17,21 @@
 
 package org.apache.ignite.internal.metastorage.metrics;
 
+import static java.util.stream.Collectors.joining;
+
 import java.util.List;
+import java.util.Map;
 import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.metastorage.metrics.MetaStorageMetricSource.Holder;
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicIntMetric;
 import org.apache.ignite.internal.metrics.IntGauge;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
 import org.apache.ignite.internal.metrics.LongGauge;
 import org.apache.ignite.internal.metrics.LongMetric;
 import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.metrics.StringGauge;
 
 /**
  * Metric source which provides MetaStorage-related metrics.
@@ -39,6 +45,8 @@ public class MetaStorageMetricSource extends AbstractMetricSource<Holder> {
 
     private final IntSupplier availableSupplier;
 
+    private final Supplier<Map<String, Long>> watchLagsSupplier;
+
     /**
      * Constructor.
      */
@@ -46,12 +54,25 @@ public class MetaStorageMetricSource extends AbstractMetricSource<Holder> {
             MetaStorageMetrics metaStorageMetrics,
             IntSupplier availablePeersSupplier,
             IntSupplier availableSupplier
+    ) {
+        this(metaStorageMetrics, availablePeersSupplier, availableSupplier, Map::of);
+    }
+
+    /**
+     * Constructor.
+     */
+    public MetaStorageMetricSource(
+            MetaStorageMetrics metaStorageMetrics,
+            IntSupplier availablePeersSupplier,
+            IntSupplier availableSupplier,
+            Supplier<Map<String, Long>> watchLagsSupplier
     ) {
         super(SOURCE_NAME);
 
         this.metaStorageMetrics = metaStorageMetrics;
         this.availablePeersSupplier = availablePeersSupplier;
         this.availableSupplier = availableSupplier;
+        this.watchLagsSupplier = watchLagsSupplier;
     }
 
     @Override
@@ -71,6 +92,19 @@ public class MetaStorageMetricSource extends AbstractMetricSource<Holder> {
         }
     }
 
+    /**
+     * Is called when a batch of linearizable reads is sent to the leader.
+     *
+     * @param reads Number of reads in the batch, including reads of the same key.
+     */
+    public void onRemoteReadBatch(int reads) {
+        Holder holder = holder();
+        if (holder != null) {
+            holder.remoteReadBatches.increment();
+            holder.coalescedReads.add(reads - 1);
+        }
+    }
+
     /** Holder. */
     protected class Holder implements AbstractMetricSource.Holder<Holder> {
         private final LongMetric safeTimeLag = new LongGauge(
@@ -96,11 +130,41 @@ public class MetaStorageMetricSource extends AbstractMetricSource<Holder> {
                 availableSupplier
         );
 
+        private final LongGauge watchLag = new LongGauge(
+                "WatchLag",
+                "Maximum number of revisions a watch listener lags behind the latest revision it has been scheduled to process.",
+                () -> watchLagsSupplier.get().values().stream().mapToLong(Long::longValue).max().orElse(0)
+        );
+
+        private final StringGauge watchLagByListener = new StringGauge(
+                "WatchLagByListener",
+                "Number of revisions every lagging watch listener lags behind the latest revision it has been scheduled to process.",
+                () -> watchLagsSupplier.get().entrySet().stream()
+                        .filter(e -> e.getValue() > 0)
+                        .map(e -> e.getKey() + '=' + e.getValue())
+                        .sorted()
+                        .collect(joining(", ", "[", "]"))
+        );
+
+        private final LongAdderMetric remoteReadBatches = new LongAdderMetric(
+                "RemoteReadBatches",
+                "Number of commands sent to the leader to serve linearizable reads."
+        );
+
+        private final LongAdderMetric coalescedReads = new LongAdderMetric(
+                "CoalescedReads",
+                "Number of linearizable reads sent to the leader as a part of a command of another read."
+        );
+
         private final List<Metric> metrics = List.of(
                 safeTimeLag,
                 idempotentCacheSize,
                 availablePeers,
-                majorityAvailable
+                majorityAvailable,
+                watchLag,
+                watchLagByListener,
+                remoteReadBatches,
+                coalescedReads
         );
 
         @Override
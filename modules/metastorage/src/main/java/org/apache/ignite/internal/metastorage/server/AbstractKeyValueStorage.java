@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -270,6 +271,11 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
         watchProcessor.removeWatch(listener);
     }
 
+    @Override
+    public Map<String, Long> watchLags() {
+        return watchProcessor.watchLags();
+    }
+
     @Override
     public void watchRange(byte[] keyFrom, byte @Nullable [] keyTo, long rev, WatchListener listener) {
         assert rev > 0 : rev;
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.metastorage.server;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -312,6 +313,11 @@ public interface KeyValueStorage extends ManuallyCloseable {
      */
     void removeWatch(WatchListener listener);
 
+    /**
+     * Returns the notification lag of registered watch listeners, in revisions, by listener class name.
+     */
+    Map<String, Long> watchLags();
+
     /**
      * Compacts outdated key versions and removes tombstones of metastorage locally.
      *
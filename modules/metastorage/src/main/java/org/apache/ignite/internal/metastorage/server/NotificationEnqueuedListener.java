@@ -34,7 +34,8 @@ public interface NotificationEnqueuedListener {
      *
      * <p>This must not do any I/O or block for a long time.
      *
-     * @param newNotificationFuture New notification future.
+     * @param newNotificationFuture New notification future, it gets completed when all Watches (including independent ones) have
+     *     processed the update.
      * @param entries Entries corresponding to the update (empty if the notification is not about a new revision,
      *     but about Metastorage safe time advancement.
      * @param timestamp Metastorage timestamp.
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.metastorage.server;
 
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.metastorage.WatchEvent;
@@ -35,6 +37,18 @@ public class Watch {
     /** Event listener. */
     private final WatchListener listener;
 
+    /**
+     * Future of the last notification of an {@link WatchListener#independent() independent} listener. Only accessed from the watch
+     * thread, so it doesn't need to be volatile.
+     */
+    private CompletableFuture<Void> notificationFuture = nullCompletedFuture();
+
+    /** Latest revision the listener has been scheduled to be notified of. */
+    private volatile long enqueuedRevision;
+
+    /** Latest revision the listener has finished processing. */
+    private volatile long processedRevision;
+
     /**
      * Constructor.
      *
@@ -64,7 +78,36 @@ public class Watch {
      * @see WatchListener#onUpdate
      */
     CompletableFuture<Void> onUpdate(WatchEvent event) {
-        return listener.onUpdate(event);
+        return listener.onUpdate(event).thenRun(() -> processedRevision = event.revision());
+    }
+
+    /**
+     * Records that a notification about the given revision has been scheduled.
+     */
+    void onEnqueued(long revision) {
+        enqueuedRevision = revision;
+    }
+
+    /**
+     * Returns the future of the last notification of an independent listener.
+     */
+    CompletableFuture<Void> notificationFuture() {
+        return notificationFuture;
+    }
+
+    /**
+     * Sets the future of the last notification of an independent listener.
+     */
+    void notificationFuture(CompletableFuture<Void> notificationFuture) {
+        this.notificationFuture = notificationFuture;
+    }
+
+    /**
+     * Returns the number of revisions between the latest one the listener has been scheduled to be notified of and the latest one it
+     * has finished processing, {@code 0} if the listener has caught up.
+     */
+    long lag() {
+        return Math.max(0, enqueuedRevision - processedRevision);
     }
 
     /**
@@ -34,7 +34,9 @@ import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -75,6 +77,12 @@ import org.jetbrains.annotations.VisibleForTesting;
  * <p>Every Meta Storage update is processed by each registered Watch in parallel, however notifications for a single Watch are
  * linearised (Watches are always notified of one event at a time and in increasing order of revisions). It is also guaranteed that Watches
  * will not get notified of a new revision until all Watches have finished processing a previous revision.
+ *
+ * <p>The only exception are Watches with {@link WatchListener#independent() independent} listeners. They are notified on a separate
+ * pool, each one through its own chain of notifications, so a slow independent listener doesn't delay notifications of other listeners.
+ * A revision is reported as applied (see {@link WatchEventHandlingCallback}) once all Watches that are not independent have finished
+ * processing it and all previous revisions, without waiting for independent listeners. Futures returned for enqueued listeners still
+ * complete only after all Watches, including independent ones, have processed the revision.
  */
 public class WatchProcessor implements ManuallyCloseable {
     private final boolean longHandlingLoggingEnabled = getBoolean(IgniteSystemProperties.LONG_HANDLING_LOGGING_ENABLED, false);
@@ -99,6 +107,9 @@ public class WatchProcessor implements ManuallyCloseable {
      */
     private static final int WATCH_EVENT_PROCESSING_LOG_KEYS = 10;
 
+    /** Number of threads that notify independent listeners. */
+    private static final int INDEPENDENT_WATCH_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     /** Map that contains Watches and corresponding Watch notification process (represented as a CompletableFuture). */
     private final List<Watch> watches = new CopyOnWriteArrayList<>();
 
@@ -106,10 +117,19 @@ public class WatchProcessor implements ManuallyCloseable {
      * Future that represents the process of notifying registered Watches about a Meta Storage revision.
      *
      * <p>Since Watches are notified concurrently, this future is used to guarantee that no Watches get notified of a new revision,
-     * until all Watches have finished processing the previous revision.
+     * until all Watches (except for independent ones) have finished processing the previous revision and the previous revision has been
+     * reported as applied.
      */
     private CompletableFuture<Void> notificationFuture = nullCompletedFuture();
 
+    /**
+     * Future that represents the process of fully processing a Meta Storage revision or safe time.
+     *
+     * <p>Unlike {@link #notificationFuture}, it also waits for independent Watches, so it gets completed only after all Watches have
+     * finished processing the revision and all previous revisions.
+     */
+    private CompletableFuture<Void> completionFuture = nullCompletedFuture();
+
     private final Object notificationFutureMutex = new Object();
 
     private final List<NotificationEnqueuedListener> notificationEnqueuedListeners = new CopyOnWriteArrayList<>();
@@ -125,6 +145,9 @@ public class WatchProcessor implements ManuallyCloseable {
     /** Executor for processing watch events. */
     private final ExecutorService watchExecutor;
 
+    /** Executor for notifying independent listeners. */
+    private final ExecutorService independentWatchExecutor;
+
     /** Meta Storage revision update listeners. */
     private final List<RevisionUpdateListener> revisionUpdateListeners = new CopyOnWriteArrayList<>();
 
@@ -162,6 +185,16 @@ public class WatchProcessor implements ManuallyCloseable {
                 new DiscardPolicy()
         );
 
+        this.independentWatchExecutor = new ThreadPoolExecutor(
+                INDEPENDENT_WATCH_THREADS,
+                INDEPENDENT_WATCH_THREADS,
+                0L,
+                MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                IgniteThreadFactory.create(nodeName, "metastorage-independent-watch-executor", LOG, NOTHING_ALLOWED),
+                new DiscardPolicy()
+        );
+
         this.failureProcessor = failureProcessor;
     }
 
@@ -229,30 +262,49 @@ public class WatchProcessor implements ManuallyCloseable {
     }
 
     /**
-     * Composes passed action with {@link #notificationFuture} and handles any exceptions that might have occurred.
+     * Composes passed action and the completion action with {@link #notificationFuture}, then composes the processing of the action
+     * results with {@link #completionFuture}, and handles any exceptions that might have occurred.
      *
-     * @param asyncAction Action to compose.
+     * <p>If the action doesn't notify independent Watches, this is the same chain as a single {@link #notificationFuture}: the next action
+     * is dispatched only after the completion action of the previous one has been executed.
+     *
+     * @param asyncAction Action to compose, it gets executed in the watch thread after the previous completion action.
+     * @param completionAction Action that gets executed in the watch thread after the action has been dispatched, strictly before the
+     *      next action.
+     * @param afterEnqueuing Consumer of the updated value of {@link #completionFuture}.
      * @param additionalInfoSupplier Supplier of additional information that will be used for logging and/or invoking the FailureProcessor.
-     * @return Updated value of {@link #notificationFuture}.
+     * @return Updated value of {@link #completionFuture}.
      */
     @VisibleForTesting
     CompletableFuture<Void> enqueue(
-            Supplier<CompletableFuture<Void>> asyncAction,
+            Supplier<Notification> asyncAction,
+            Runnable completionAction,
             Consumer<CompletableFuture<Void>> afterEnqueuing,
             Supplier<String> additionalInfoSupplier
     ) {
         synchronized (notificationFutureMutex) {
-            notificationFuture = notificationFuture
-                    .thenComposeAsync(v -> inBusyLockAsync(asyncAction), watchExecutor)
+            CompletableFuture<Notification> notification = notificationFuture
+                    .thenApplyAsync(v -> IgniteUtils.inBusyLock(busyLock, asyncAction), watchExecutor);
+
+            notificationFuture = notification
+                    .thenCompose(n -> n.dispatchFuture)
+                    .thenRunAsync(() -> inBusyLock(completionAction), watchExecutor)
                     .whenComplete((unused, e) -> {
                         if (e != null) {
                             notifyFailureHandlerOnFirstFailureInNotificationChain(e, additionalInfoSupplier);
                         }
                     });
 
-            afterEnqueuing.accept(notificationFuture);
+            completionFuture = allOf(completionFuture, notificationFuture, notification.thenCompose(n -> n.processFuture))
+                    .whenComplete((unused, e) -> {
+                        if (e != null) {
+                            notifyFailureHandlerOnFirstFailureInNotificationChain(e, additionalInfoSupplier);
+                        }
+                    });
 
-            return notificationFuture;
+            afterEnqueuing.accept(completionFuture);
+
+            return completionFuture;
         }
     }
 
@@ -271,18 +323,37 @@ public class WatchProcessor implements ManuallyCloseable {
 
             long startTimeNanos = longHandlingLoggingEnabled ? System.nanoTime() : 0;
 
-            CompletableFuture<Void> notifyWatchesFuture = performWatchesNotifications(watchAndEvents, newRevision, time);
+            List<WatchAndEvents> orderedWatchAndEvents = new ArrayList<>(watchAndEvents.size());
+            List<WatchAndEvents> independentWatchAndEvents = List.of();
+
+            for (WatchAndEvents watchAndEventsItem : watchAndEvents) {
+                if (watchAndEventsItem.watch.listener().independent()) {
+                    if (independentWatchAndEvents.isEmpty()) {
+                        independentWatchAndEvents = new ArrayList<>();
+                    }
+
+                    independentWatchAndEvents.add(watchAndEventsItem);
+                } else {
+                    orderedWatchAndEvents.add(watchAndEventsItem);
+                }
+            }
+
+            CompletableFuture<Void> notifyWatchesFuture = performWatchesNotifications(orderedWatchAndEvents, newRevision, time);
+
+            CompletableFuture<Void> notifyIndependentWatchesFuture =
+                    performIndependentWatchesNotifications(independentWatchAndEvents, newRevision, time);
 
-            // Revision update is triggered strictly after all watch listeners have been notified.
+            // Revision update is triggered strictly after all ordered watch listeners have been notified.
             CompletableFuture<Void> notifyUpdateRevisionFuture = notifyUpdateRevisionListeners(newRevision);
 
-            CompletableFuture<Void> newNotificationFuture = allOf(notifyWatchesFuture, notifyUpdateRevisionFuture)
-                    .thenRunAsync(() -> inBusyLock(() -> invokeOnRevisionCallback(newRevision, time)), watchExecutor);
+            CompletableFuture<Void> dispatchFuture = allOf(notifyWatchesFuture, notifyUpdateRevisionFuture);
 
-            newNotificationFuture.whenComplete((u, e) -> maybeLogLongProcessing(filteredUpdatedEntries, watchAndEvents, startTimeNanos));
+            CompletableFuture<Void> processFuture = allOf(dispatchFuture, notifyIndependentWatchesFuture);
 
-            return newNotificationFuture;
-        }, newNotificationFuture -> {
+            processFuture.whenComplete((u, e) -> maybeLogLongProcessing(filteredUpdatedEntries, watchAndEvents, startTimeNanos));
+
+            return new Notification(dispatchFuture, processFuture);
+        }, () -> invokeOnRevisionCallback(newRevision, time), newNotificationFuture -> {
             invokeNotificationFutureListeners(newNotificationFuture, filteredUpdatedEntries, time);
         }, updatedEntriesKeysInfo(newRevision, updatedEntries));
     }
@@ -316,24 +387,35 @@ public class WatchProcessor implements ManuallyCloseable {
         CompletableFuture<?>[] notifyWatchFutures = new CompletableFuture[watchAndEventsList.size()];
 
         for (int i = 0; i < watchAndEventsList.size(); i++) {
-            WatchAndEvents watchAndEvents = watchAndEventsList.get(i);
+            notifyWatchFutures[i] = notifyWatch(watchAndEventsList.get(i), revision, time);
+        }
 
-            CompletableFuture<Void> notifyWatchFuture;
+        return allOf(notifyWatchFutures);
+    }
 
-            try {
-                var event = new WatchEvent(watchAndEvents.events, revision, time, watchAndEvents.timeBag);
+    /**
+     * Schedules notifications of independent listeners, each one after the previous notification of the same listener.
+     *
+     * @return Future that gets completed when all the listeners have processed the revision.
+     */
+    private CompletableFuture<Void> performIndependentWatchesNotifications(
+            List<WatchAndEvents> watchAndEventsList,
+            long revision,
+            HybridTimestamp time
+    ) {
+        if (watchAndEventsList.isEmpty()) {
+            return nullCompletedFuture();
+        }
 
-                event.timeBag().start();
+        CompletableFuture<?>[] notifyWatchFutures = new CompletableFuture[watchAndEventsList.size()];
 
-                notifyWatchFuture = watchAndEvents.watch.onUpdate(event);
+        for (int i = 0; i < watchAndEventsList.size(); i++) {
+            WatchAndEvents watchAndEvents = watchAndEventsList.get(i);
 
-                event.timeBag().finishGlobalStage("Sync notification");
+            CompletableFuture<Void> notifyWatchFuture = watchAndEvents.watch.notificationFuture()
+                    .thenComposeAsync(v -> inBusyLockAsync(() -> notifyWatch(watchAndEvents, revision, time)), independentWatchExecutor);
 
-                notifyWatchFuture = notifyWatchFuture
-                        .whenComplete((unused, e) -> event.timeBag().finishGlobalStage("Async notification"));
-            } catch (Throwable throwable) {
-                notifyWatchFuture = failedFuture(throwable);
-            }
+            watchAndEvents.watch.notificationFuture(notifyWatchFuture);
 
             notifyWatchFutures[i] = notifyWatchFuture;
         }
@@ -341,6 +423,22 @@ public class WatchProcessor implements ManuallyCloseable {
         return allOf(notifyWatchFutures);
     }
 
+    private static CompletableFuture<Void> notifyWatch(WatchAndEvents watchAndEvents, long revision, HybridTimestamp time) {
+        try {
+            var event = new WatchEvent(watchAndEvents.events, revision, time, watchAndEvents.timeBag);
+
+            event.timeBag().start();
+
+            CompletableFuture<Void> notifyWatchFuture = watchAndEvents.watch.onUpdate(event);
+
+            event.timeBag().finishGlobalStage("Sync notification");
+
+            return notifyWatchFuture.whenComplete((unused, e) -> event.timeBag().finishGlobalStage("Async notification"));
+        } catch (Throwable throwable) {
+            return failedFuture(throwable);
+        }
+    }
+
     private void maybeLogLongProcessing(List<Entry> updatedEntries, List<WatchAndEvents> watchAndEvents, long startTimeNanos) {
         if (!longHandlingLoggingEnabled) {
             return;
@@ -403,6 +501,8 @@ public class WatchProcessor implements ManuallyCloseable {
             }
 
             if (!events.isEmpty()) {
+                watch.onEnqueued(revision);
+
                 watchAndEvents.add(new WatchAndEvents(watch, events, TimeBag.createTimeBag(longHandlingLoggingEnabled, false)));
             }
         }
@@ -433,12 +533,10 @@ public class WatchProcessor implements ManuallyCloseable {
     private void advanceSafeTimeInternal(Runnable callback, HybridTimestamp time) {
         assert time != null;
 
-        enqueue(() -> {
+        enqueue(() -> Notification.EMPTY, () -> {
             callback.run();
 
             watchEventHandlingCallback.onSafeTimeAdvanced(time);
-
-            return nullCompletedFuture();
         }, newNotificationFuture -> {
             invokeNotificationFutureListeners(newNotificationFuture, List.of(), time);
         }, () -> "<nothing>");
@@ -470,11 +568,37 @@ public class WatchProcessor implements ManuallyCloseable {
 
         synchronized (notificationFutureMutex) {
             notificationFuture.completeExceptionally(new NodeStoppingException());
+            completionFuture.completeExceptionally(new NodeStoppingException());
         }
 
+        IgniteUtils.shutdownAndAwaitTermination(independentWatchExecutor, 10, SECONDS);
         IgniteUtils.shutdownAndAwaitTermination(watchExecutor, 10, SECONDS);
     }
 
+    /**
+     * Returns the notification lag of registered listeners, that is the number of revisions between the latest one a listener has been
+     * scheduled to be notified of and the latest one it has finished processing. Listeners are identified by their class names; if there
+     * are several Watches with listeners of the same class, the maximum lag among them is reported.
+     */
+    public Map<String, Long> watchLags() {
+        var lags = new HashMap<String, Long>();
+
+        for (Watch watch : watches) {
+            lags.merge(listenerName(watch.listener()), watch.lag(), Math::max);
+        }
+
+        return lags;
+    }
+
+    private static String listenerName(WatchListener listener) {
+        String className = listener.getClass().getName();
+
+        // Lambda class names contain a unique suffix, which is useless for identifying the listener.
+        int lambdaIdx = className.indexOf("$$Lambda");
+
+        return lambdaIdx < 0 ? className : className.substring(0, lambdaIdx);
+    }
+
     /** Registers a Meta Storage revision update listener. */
     void registerRevisionUpdateListener(RevisionUpdateListener listener) {
         revisionUpdateListeners.add(listener);
@@ -518,4 +642,21 @@ public class WatchProcessor implements ManuallyCloseable {
     Executor watchExecutor() {
         return watchExecutor;
     }
+
+    /** Result of dispatching a notification. */
+    @VisibleForTesting
+    static class Notification {
+        static final Notification EMPTY = new Notification(nullCompletedFuture(), nullCompletedFuture());
+
+        /** Future that gets completed when the next notification can be dispatched. */
+        final CompletableFuture<Void> dispatchFuture;
+
+        /** Future that gets completed when the notification has been fully processed, including independent listeners. */
+        final CompletableFuture<Void> processFuture;
+
+        Notification(CompletableFuture<Void> dispatchFuture, CompletableFuture<Void> processFuture) {
+            this.dispatchFuture = dispatchFuture;
+            this.processFuture = processFuture;
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.metrics.MetaStorageMetricSource;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricRegistry;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link LinearizableReader}. */
+class LinearizableReaderTest extends BaseIgniteAbstractTest {
+    private static final ByteArray FOO = new ByteArray("foo");
+
+    private static final ByteArray BAR = new ByteArray("bar");
+
+    private final List<Set<ByteArray>> remoteBatches = new ArrayList<>();
+
+    private final List<CompletableFuture<Map<ByteArray, Entry>>> remoteFutures = new ArrayList<>();
+
+    private final MetaStorageMetricSource metricSource = new MetaStorageMetricSource(() -> 0L, () -> 0, () -> 0);
+
+    private MetricSet metricSet;
+
+    private LinearizableReader reader;
+
+    @BeforeEach
+    void setUp() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.registerSource(metricSource);
+        metricSet = registry.enable(metricSource);
+
+        reader = new LinearizableReader(
+                keys -> {
+                    var future = new CompletableFuture<Map<ByteArray, Entry>>();
+
+                    remoteBatches.add(Set.copyOf(keys));
+                    remoteFutures.add(future);
+
+                    return future;
+                },
+                metricSource
+        );
+    }
+
+    @Test
+    void batchesReadsIssuedWhileAnotherReadIsInFlight() {
+        CompletableFuture<Entry> first = reader.get(FOO);
+
+        CompletableFuture<Entry> second = reader.get(FOO);
+        CompletableFuture<Entry> third = reader.get(BAR);
+        CompletableFuture<Entry> fourth = reader.get(FOO);
+
+        // Only the first read has been sent, the others are waiting for it to complete.
+        assertEquals(List.of(Set.of(FOO)), remoteBatches);
+
+        remoteFutures.get(0).complete(Map.of(FOO, remoteEntry(FOO, 1)));
+
+        assertThat(first, willBe(remoteEntry(FOO, 1)));
+        assertFalse(second.isDone());
+
+        assertEquals(List.of(Set.of(FOO), Set.of(FOO, BAR)), remoteBatches);
+
+        remoteFutures.get(1).complete(Map.of(FOO, remoteEntry(FOO, 2), BAR, remoteEntry(BAR, 2)));
+
+        assertThat(second, willBe(remoteEntry(FOO, 2)));
+        assertThat(third, willBe(remoteEntry(BAR, 2)));
+        assertThat(fourth, willBe(remoteEntry(FOO, 2)));
+
+        assertEquals(2, remoteBatches.size());
+
+        assertEquals(2, metricValue("RemoteReadBatches"));
+        assertEquals(2, metricValue("CoalescedReads"));
+    }
+
+    @Test
+    void failedBatchFailsAllItsReads() {
+        CompletableFuture<Entry> first = reader.get(FOO);
+        CompletableFuture<Entry> second = reader.get(BAR);
+
+        remoteFutures.get(0).completeExceptionally(new IllegalStateException());
+
+        assertThat(first, willThrow(IllegalStateException.class));
+
+        remoteFutures.get(1).completeExceptionally(new IllegalStateException());
+
+        assertThat(second, willThrow(IllegalStateException.class));
+
+        // Subsequent reads are still served.
+        CompletableFuture<Entry> third = reader.get(FOO);
+
+        remoteFutures.get(2).complete(new HashMap<>());
+
+        assertThat(third, willBe(EntryImpl.empty(FOO.bytes())));
+    }
+
+    private long metricValue(String name) {
+        LongMetric metric = metricSet.get(name);
+
+        return metric.value();
+    }
+
+    private static Entry remoteEntry(ByteArray key, long revision) {
+        return new EntryImpl(key.bytes(), "remote".getBytes(UTF_8), revision, HybridTimestamp.MIN_VALUE);
+    }
+}
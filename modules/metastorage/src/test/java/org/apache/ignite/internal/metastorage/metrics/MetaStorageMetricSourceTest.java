@@ -20,9 +20,12 @@ package org.apache.ignite.internal.metastorage.metrics;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.Map;
 import org.apache.ignite.internal.metrics.IntMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
 import org.apache.ignite.internal.metrics.MetricRegistry;
 import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.StringGauge;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.junit.jupiter.api.Test;
 
@@ -71,6 +74,27 @@ class MetaStorageMetricSourceTest extends BaseIgniteAbstractTest {
         assertEquals(42, cacheSize.value());
     }
 
+    @Test
+    void watchLagMetricsReadFromSupplier() {
+        @SuppressWarnings("unchecked")
+        Map<String, Long>[] lags = new Map[]{Map.of()};
+
+        MetaStorageMetricSource source = new MetaStorageMetricSource(() -> 0L, () -> 0, () -> 0, () -> lags[0]);
+        MetricSet metricSet = enableSource(source);
+
+        LongMetric watchLag = metricSet.get("WatchLag");
+        assertNotNull(watchLag);
+        assertEquals(0, watchLag.value());
+
+        StringGauge watchLagByListener = metricSet.get("WatchLagByListener");
+        assertNotNull(watchLagByListener);
+        assertEquals("[]", watchLagByListener.value());
+
+        lags[0] = Map.of("b.Listener", 3L, "a.Listener", 1L, "c.Listener", 0L);
+        assertEquals(3, watchLag.value());
+        assertEquals("[a.Listener=1, b.Listener=3]", watchLagByListener.value());
+    }
+
     private static MetricSet enableSource(MetaStorageMetricSource source) {
         MetricRegistry registry = new MetricRegistry();
         registry.registerSource(source);
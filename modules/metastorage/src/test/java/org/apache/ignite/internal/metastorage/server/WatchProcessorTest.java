@@ -20,11 +20,15 @@ package org.apache.ignite.internal.metastorage.server;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
@@ -36,6 +40,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -334,6 +339,162 @@ public class WatchProcessorTest extends BaseIgniteAbstractTest {
         verify(watchEventHandlingCallback, timeout(SECONDS.toMillis(10))).onSafeTimeAdvanced(laterTs);
     }
 
+    /**
+     * Tests that a slow independent listener doesn't block notifications of other listeners and revision applied callbacks, while its own
+     * notifications are still linearised and notification futures are only completed after it has processed the revisions.
+     */
+    @Test
+    void testIndependentWatchNotification() {
+        WatchListener listener1 = mockListener();
+
+        WatchListener listener2 = mockIndependentListener();
+
+        var blockingFuture = new CompletableFuture<Void>();
+
+        when(listener2.onUpdate(any()))
+                // Block the first call, the second call should work as usual.
+                .thenReturn(blockingFuture)
+                .thenReturn(nullCompletedFuture());
+
+        watchProcessor.addWatch(new Watch(0, listener1, key -> Arrays.equals(key, FOO_BYTES)));
+        watchProcessor.addWatch(new Watch(0, listener2, key -> Arrays.equals(key, BAR_BYTES)));
+
+        var entry1 = new EntryImpl(FOO_BYTES, null, 1, TIMESTAMP);
+        var entry2 = new EntryImpl(BAR_BYTES, null, 1, TIMESTAMP);
+
+        watchProcessor.notifyWatches(1, List.of(entry1, entry2), HybridTimestamp.MAX_VALUE);
+
+        verify(listener2, timeout(1_000)).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry2), entry2)));
+
+        var entry3 = new EntryImpl(FOO_BYTES, null, 2, TIMESTAMP);
+        var entry4 = new EntryImpl(BAR_BYTES, null, 2, TIMESTAMP);
+
+        CompletableFuture<Void> notificationFuture = watchProcessor.notifyWatches(2, List.of(entry3, entry4), HybridTimestamp.MAX_VALUE);
+
+        // The ordered listener is notified of the next revision, but the independent one is still busy with the previous one.
+        verify(listener1, timeout(1_000)).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry3), entry3)));
+        verify(listener2, never()).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry4), entry4)));
+
+        verify(watchEventHandlingCallback, timeout(1_000)).onRevisionApplied(2L);
+
+        assertFalse(notificationFuture.isDone());
+
+        blockingFuture.complete(null);
+
+        assertThat(notificationFuture, willCompleteSuccessfully());
+
+        InOrder listenerInOrder = inOrder(listener2);
+
+        listenerInOrder.verify(listener2).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry2), entry2)));
+        listenerInOrder.verify(listener2).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry4), entry4)));
+
+        InOrder callbackInOrder = inOrder(watchEventHandlingCallback);
+
+        callbackInOrder.verify(watchEventHandlingCallback).onRevisionApplied(1L);
+        callbackInOrder.verify(watchEventHandlingCallback).onRevisionApplied(2L);
+    }
+
+    /**
+     * Tests that ordered listeners are notified of a revision only after the previous revision has been reported as applied, whether
+     * there are independent listeners or not.
+     */
+    @Test
+    void testRevisionAppliedBeforeNextRevisionIsDispatched() {
+        WatchListener listener1 = mockListener();
+
+        WatchListener listener2 = mockIndependentListener();
+
+        var blockingFuture = new CompletableFuture<Void>();
+
+        when(listener2.onUpdate(any())).thenReturn(blockingFuture);
+
+        watchProcessor.addWatch(new Watch(0, listener1, key -> Arrays.equals(key, FOO_BYTES)));
+        watchProcessor.addWatch(new Watch(0, listener2, key -> Arrays.equals(key, BAR_BYTES)));
+
+        var entry1 = new EntryImpl(FOO_BYTES, null, 1, TIMESTAMP);
+        var entry2 = new EntryImpl(BAR_BYTES, null, 1, TIMESTAMP);
+        var entry3 = new EntryImpl(FOO_BYTES, null, 2, TIMESTAMP);
+        var entry4 = new EntryImpl(FOO_BYTES, null, 3, TIMESTAMP);
+
+        watchProcessor.notifyWatches(1, List.of(entry1, entry2), HybridTimestamp.MAX_VALUE);
+        watchProcessor.notifyWatches(2, List.of(entry3), HybridTimestamp.MAX_VALUE);
+        watchProcessor.notifyWatches(3, List.of(entry4), HybridTimestamp.MAX_VALUE);
+
+        verify(watchEventHandlingCallback, timeout(1_000)).onRevisionApplied(3L);
+
+        InOrder inOrder = inOrder(listener1, watchEventHandlingCallback);
+
+        inOrder.verify(listener1).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry1), entry1)));
+        inOrder.verify(watchEventHandlingCallback).onRevisionApplied(1L);
+        inOrder.verify(listener1).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry3), entry3)));
+        inOrder.verify(watchEventHandlingCallback).onRevisionApplied(2L);
+        inOrder.verify(listener1).onUpdate(new WatchEvent(new EntryEvent(oldEntry(entry4), entry4)));
+        inOrder.verify(watchEventHandlingCallback).onRevisionApplied(3L);
+
+        blockingFuture.complete(null);
+    }
+
+    @Test
+    void testIndependentWatchFailure() {
+        WatchListener listener = mockIndependentListener();
+        when(listener.onUpdate(any())).thenReturn(failedFuture(new RuntimeException("Oops")));
+
+        watchProcessor.addWatch(new Watch(0, listener, key -> Arrays.equals(key, FOO_BYTES)));
+
+        var entry1 = new EntryImpl(FOO_BYTES, null, 1, TIMESTAMP);
+
+        CompletableFuture<Void> notificationFuture = watchProcessor.notifyWatches(1, List.of(entry1), HybridTimestamp.MAX_VALUE);
+
+        assertThat(notificationFuture, willThrow(RuntimeException.class));
+
+        verify(failureManager).process(any());
+
+        // Ordered listeners don't depend on independent ones, so the revision is still applied.
+        verify(watchEventHandlingCallback, timeout(1_000)).onRevisionApplied(1L);
+    }
+
+    @Test
+    void testWatchLag() throws InterruptedException {
+        WatchListener listener = mockIndependentListener();
+
+        var blockingFuture = new CompletableFuture<Void>();
+
+        when(listener.onUpdate(any()))
+                .thenReturn(blockingFuture)
+                .thenReturn(nullCompletedFuture());
+
+        watchProcessor.addWatch(new Watch(0, listener, key -> Arrays.equals(key, FOO_BYTES)));
+
+        String listenerName = listener.getClass().getName();
+
+        assertEquals(Map.of(listenerName, 0L), watchProcessor.watchLags());
+
+        watchProcessor.notifyWatches(1, List.of(new EntryImpl(FOO_BYTES, null, 1, TIMESTAMP)), HybridTimestamp.MAX_VALUE);
+
+        CompletableFuture<Void> notificationFuture = watchProcessor.notifyWatches(
+                2,
+                List.of(new EntryImpl(FOO_BYTES, null, 2, TIMESTAMP)),
+                HybridTimestamp.MAX_VALUE
+        );
+
+        // The listener is stuck processing the first revision, while the second one is waiting in its queue.
+        assertTrue(waitForCondition(() -> watchProcessor.watchLags().get(listenerName) == 2L, 1_000));
+
+        blockingFuture.complete(null);
+
+        assertThat(notificationFuture, willCompleteSuccessfully());
+
+        assertEquals(Map.of(listenerName, 0L), watchProcessor.watchLags());
+    }
+
+    private static WatchListener mockIndependentListener() {
+        var listener = mockListener();
+
+        when(listener.independent()).thenReturn(true);
+
+        return listener;
+    }
+
     private static WatchListener mockListener() {
         var listener = mock(WatchListener.class);
 
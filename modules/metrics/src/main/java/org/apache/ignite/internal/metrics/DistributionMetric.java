@@ -109,16 +109,24 @@ public class DistributionMetric extends AbstractMetric implements CompositeMetri
     public void add(long x) {
         assert x >= 0;
 
+        measurements.incrementAndGet(bucketIndex(x));
+    }
+
+    /**
+     * Returns the index of the bucket the value belongs to.
+     *
+     * @param x Non-negative value.
+     * @return Bucket index, {@code bounds.length} if the value is bigger than the last bound.
+     */
+    protected int bucketIndex(long x) {
         // Expect arrays of few elements.
         for (int i = 0; i < bounds.length; i++) {
             if (x <= bounds[i]) {
-                measurements.incrementAndGet(i);
-
-                return;
+                return i;
             }
         }
 
-        measurements.incrementAndGet(bounds.length);
+        return bounds.length;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Latency histogram with log-linear buckets, in the spirit of HdrHistogram.
+ *
+ * <p>Every power of two is split into {@code 16} equal buckets, so a bucket is never wider than {@code 1/16} of its lower bound and
+ * quantiles computed from the buckets overestimate the real values by no more than {@code 6.25%}, no matter how the values are
+ * distributed. Values from {@code 0} to {@code 31} get a bucket each. A value is put into its bucket in constant time, with a single
+ * atomic increment, so the metric can be updated from any number of threads without contention on a lock.
+ *
+ * <p>Unlike {@link DistributionMetric}, the scalar representation of the metric consists of the number of measurements and a few
+ * quantiles rather than the buckets themselves, which are too many to be looked at one by one.
+ */
+public class HistogramMetric extends DistributionMetric {
+    /** Binary logarithm of the number of buckets every power of two is split into. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of buckets every power of two is split into. */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Quantiles exposed as scalar metrics. */
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    /** Names of the quantile scalar metrics, without the metric name prefix. */
+    private static final String[] QUANTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    /** List of scalar metrics. */
+    private volatile @Nullable List<Metric> scalarMetrics;
+
+    /**
+     * Constructor.
+     *
+     * @param name Name.
+     * @param desc Description.
+     * @param highestTrackableValue Highest value the histogram distinguishes, bigger values are counted in the last bucket.
+     */
+    public HistogramMetric(String name, @Nullable String desc, long highestTrackableValue) {
+        super(name, desc, bounds(highestTrackableValue));
+    }
+
+    private static long[] bounds(long highestTrackableValue) {
+        assert highestTrackableValue >= SUB_BUCKET_COUNT : highestTrackableValue;
+
+        long[] bounds = new long[index(highestTrackableValue) + 1];
+
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = upperBound(i);
+        }
+
+        return bounds;
+    }
+
+    /** Returns the index of the bucket a non-negative value belongs to, assuming that there is no highest trackable value. */
+    private static int index(long x) {
+        if (x < SUB_BUCKET_COUNT) {
+            return (int) x;
+        }
+
+        // The value is in [2^exp, 2^(exp+1)), it is split into SUB_BUCKET_COUNT buckets of 2^shift values each.
+        int exp = Long.SIZE - 1 - Long.numberOfLeadingZeros(x);
+        int shift = exp - SUB_BUCKET_BITS;
+
+        return (shift << SUB_BUCKET_BITS) + (int) (x >>> shift);
+    }
+
+    /** Returns the largest value that belongs to the bucket, the inverse of {@link #index}. */
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int bucketIndex(long x) {
+        return Math.min(index(x), bounds().length);
+    }
+
+    /** Returns the total number of measurements. */
+    public long count() {
+        long count = 0;
+
+        for (long bucket : value()) {
+            count += bucket;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns an estimate of a quantile of the measurements: the upper bound of the bucket the quantile falls into. If the quantile falls
+     * beyond the highest trackable value, the highest trackable value is returned.
+     *
+     * @param quantile Quantile, from {@code 0} to {@code 1}.
+     * @return Quantile estimate, {@code 0} if there are no measurements.
+     */
+    public long quantile(double quantile) {
+        assert quantile >= 0 && quantile <= 1 : quantile;
+
+        long[] counts = value();
+        long[] bounds = bounds();
+
+        long total = 0;
+
+        for (long count : counts) {
+            total += count;
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i];
+
+            if (cumulative >= rank) {
+                return bounds[i];
+            }
+        }
+
+        return bounds[bounds.length - 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Metric> asScalarMetrics() {
+        List<Metric> metrics = scalarMetrics;
+
+        if (metrics == null) {
+            metrics = new ArrayList<>(QUANTILES.length + 1);
+
+            metrics.add(new LongGauge(name() + "_count", "Number of measurements", this::count));
+
+            for (int i = 0; i < QUANTILES.length; i++) {
+                double quantile = QUANTILES[i];
+
+                metrics.add(new LongGauge(name() + '_' + QUANTILE_NAMES[i], "Quantile " + quantile, () -> quantile(quantile)));
+            }
+
+            metrics = unmodifiableList(metrics);
+
+            scalarMetrics = metrics;
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Returns the quantiles exposed as scalar metrics.
+     *
+     * @see #asScalarMetrics()
+     */
+    public static double[] quantiles() {
+        return QUANTILES.clone();
+    }
+}
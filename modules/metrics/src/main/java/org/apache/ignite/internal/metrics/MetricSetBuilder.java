@@ -234,4 +234,16 @@ public class MetricSetBuilder {
     public DistributionMetric distribution(String name, @Nullable String description, long[] bounds) {
         return register(new DistributionMetric(name, description, bounds));
     }
+
+    /**
+     * Add a histogram metric.
+     *
+     * @param name Name.
+     * @param description Description.
+     * @param highestTrackableValue Highest value the histogram distinguishes.
+     * @return Histogram metric.
+     */
+    public HistogramMetric histogram(String name, @Nullable String description, long highestTrackableValue) {
+        return register(new HistogramMetric(name, description, highestTrackableValue));
+    }
 }
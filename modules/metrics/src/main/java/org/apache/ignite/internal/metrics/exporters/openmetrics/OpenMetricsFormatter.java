@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.exporters.openmetrics;
+
+import org.apache.ignite.internal.metrics.CompositeMetric;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.IntMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSnapshot;
+
+/**
+ * Formats a metric snapshot in the <a href="https://openmetrics.io">OpenMetrics</a> text format, which is also understood by
+ * Prometheus.
+ *
+ * <p>A metric family is named after the metric set and the metric, prefixed with {@code ignite_}, with all characters that are not
+ * allowed in metric names replaced with underscores. Numeric metrics are exposed as gauges, {@link HistogramMetric}s as summaries with
+ * precomputed quantiles, other {@link DistributionMetric}s as histograms with cumulative buckets. Other composite metrics are exposed as
+ * gauges, one per their scalar metric. Metrics that have no numeric value are skipped.
+ *
+ * <p>The formatter reuses its buffer between scrapes, so that a scrape of a node with thousands of metrics doesn't have to grow it
+ * from scratch every time.
+ */
+public class OpenMetricsFormatter {
+    /** Prefix of all metric family names. */
+    private static final String PREFIX = "ignite_";
+
+    private final StringBuilder sb = new StringBuilder();
+
+    /**
+     * Formats a metric snapshot.
+     *
+     * @param snapshot Snapshot of the enabled metric sources.
+     * @return Exposition in the OpenMetrics text format.
+     */
+    public synchronized String format(MetricSnapshot snapshot) {
+        sb.setLength(0);
+
+        for (MetricSet metricSet : snapshot.metrics().values()) {
+            for (Metric metric : metricSet) {
+                appendMetric(metricSet.name(), metric);
+            }
+        }
+
+        sb.append("# EOF\n");
+
+        return sb.toString();
+    }
+
+    private void appendMetric(String setName, Metric metric) {
+        if (metric instanceof HistogramMetric) {
+            appendSummary(setName, (HistogramMetric) metric);
+        } else if (metric instanceof DistributionMetric) {
+            appendHistogram(setName, (DistributionMetric) metric);
+        } else if (metric instanceof CompositeMetric) {
+            for (Metric scalar : ((CompositeMetric) metric).asScalarMetrics()) {
+                appendMetric(setName, scalar);
+            }
+        } else if (metric instanceof IntMetric) {
+            appendHeader(setName, metric, "gauge");
+            appendName(setName, metric).append(' ').append(((IntMetric) metric).value()).append('\n');
+        } else if (metric instanceof LongMetric) {
+            appendHeader(setName, metric, "gauge");
+            appendName(setName, metric).append(' ').append(((LongMetric) metric).value()).append('\n');
+        } else if (metric instanceof DoubleMetric) {
+            appendHeader(setName, metric, "gauge");
+            appendName(setName, metric).append(' ');
+            appendDouble(((DoubleMetric) metric).value()).append('\n');
+        }
+    }
+
+    private void appendSummary(String setName, HistogramMetric metric) {
+        appendHeader(setName, metric, "summary");
+
+        double[] quantiles = HistogramMetric.quantiles();
+
+        for (double quantile : quantiles) {
+            appendName(setName, metric).append("{quantile=\"").append(quantile).append("\"} ").append(metric.quantile(quantile))
+                    .append('\n');
+        }
+
+        appendName(setName, metric).append("_count ").append(metric.count()).append('\n');
+    }
+
+    private void appendHistogram(String setName, DistributionMetric metric) {
+        appendHeader(setName, metric, "histogram");
+
+        long[] bounds = metric.bounds();
+        long[] counts = metric.value();
+
+        long cumulative = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i];
+
+            appendName(setName, metric).append("_bucket{le=\"").append(bounds[i]).append("\"} ").append(cumulative).append('\n');
+        }
+
+        cumulative += counts[bounds.length];
+
+        appendName(setName, metric).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        appendName(setName, metric).append("_count ").append(cumulative).append('\n');
+    }
+
+    private void appendHeader(String setName, Metric metric, String type) {
+        sb.append("# TYPE ");
+        appendName(setName, metric).append(' ').append(type).append('\n');
+
+        String description = metric.description();
+
+        if (description != null && !description.isEmpty()) {
+            sb.append("# HELP ");
+            appendName(setName, metric).append(' ');
+            appendEscaped(description).append('\n');
+        }
+    }
+
+    private StringBuilder appendName(String setName, Metric metric) {
+        sb.append(PREFIX);
+
+        appendSanitized(setName);
+        sb.append('_');
+        appendSanitized(metric.name());
+
+        return sb;
+    }
+
+    private void appendSanitized(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+
+            sb.append(allowed ? c : '_');
+        }
+    }
+
+    private StringBuilder appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c == '\\') {
+                sb.append("\\\\");
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else if (c == '"') {
+                sb.append("\\\"");
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return sb;
+    }
+
+    private StringBuilder appendDouble(double value) {
+        if (Double.isNaN(value)) {
+            return sb.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            return sb.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            return sb.append(value);
+        }
+    }
+}
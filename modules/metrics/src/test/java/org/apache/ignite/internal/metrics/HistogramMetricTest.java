@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link HistogramMetric}.
+ */
+public class HistogramMetricTest {
+    @Test
+    public void testSmallValuesAreExact() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 1_000);
+
+        for (int i = 0; i < 32; i++) {
+            histogram.add(i);
+        }
+
+        assertThat(histogram.count(), is(32L));
+
+        for (int i = 0; i < 32; i++) {
+            assertThat(histogram.value()[i], is(1L));
+        }
+
+        assertThat(histogram.quantile(0.5), is(15L));
+        assertThat(histogram.quantile(1), is(31L));
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        long[] bounds = new HistogramMetric("histogram", null, 1_000_000_000L).bounds();
+
+        assertThat(bounds[0], is(0L));
+
+        for (int i = 1; i < bounds.length; i++) {
+            long width = bounds[i] - bounds[i - 1];
+
+            // A bucket is never wider than 1/16 of its lower bound.
+            assertThat(width, lessThanOrEqualTo(Math.max(1, (bounds[i - 1] + 1) / 16)));
+        }
+
+        assertThat(bounds[bounds.length - 1], greaterThanOrEqualTo(1_000_000_000L));
+    }
+
+    @Test
+    public void testQuantileRelativeError() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 10_000_000L);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long[] values = new long[10_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(1, 10_000_000L);
+
+            histogram.add(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        for (double quantile : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            long estimate = histogram.quantile(quantile);
+
+            assertThat(estimate, greaterThanOrEqualTo(exact));
+            assertThat((double) estimate, lessThanOrEqualTo(exact * 1.0625 + 1));
+        }
+    }
+
+    @Test
+    public void testOverflow() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 100);
+
+        histogram.add(1_000_000);
+
+        long[] counts = histogram.value();
+
+        assertThat(counts[counts.length - 1], is(1L));
+        assertThat(histogram.quantile(0.5), is(histogram.bounds()[histogram.bounds().length - 1]));
+    }
+
+    @Test
+    public void testEmpty() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 100);
+
+        assertThat(histogram.count(), is(0L));
+        assertThat(histogram.quantile(0.99), is(0L));
+    }
+
+    @Test
+    public void testScalarMetrics() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 100);
+
+        histogram.add(10);
+
+        List<String> names = histogram.asScalarMetrics().stream().map(Metric::name).collect(Collectors.toList());
+
+        assertThat(names, contains("histogram_count", "histogram_p50", "histogram_p90", "histogram_p99", "histogram_p999"));
+
+        assertThat(histogram.getValueAsString(), is("[count: 1, p50: 10, p90: 10, p99: 10, p999: 10]"));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.exporters.openmetrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.DoubleGauge;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSnapshot;
+import org.apache.ignite.internal.metrics.StringGauge;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link OpenMetricsFormatter}.
+ */
+class OpenMetricsFormatterTest extends BaseIgniteAbstractTest {
+    private final OpenMetricsFormatter formatter = new OpenMetricsFormatter();
+
+    @Test
+    void emptySnapshot() {
+        assertThat(formatter.format(new MetricSnapshot(Map.of(), 1L)), is("# EOF\n"));
+    }
+
+    @Test
+    void gauges() {
+        AtomicLongMetric requests = new AtomicLongMetric("Requests", "Number of \"requests\".\nTotal.");
+        requests.add(42);
+
+        String exposition = format(
+                "client.handler",
+                requests,
+                new DoubleGauge("Load", null, () -> Double.NaN),
+                new StringGauge("Version", "Version.", () -> "3.0")
+        );
+
+        assertThat(exposition, is(""
+                + "# TYPE ignite_client_handler_Requests gauge\n"
+                + "# HELP ignite_client_handler_Requests Number of \\\"requests\\\".\\nTotal.\n"
+                + "ignite_client_handler_Requests 42\n"
+                + "# TYPE ignite_client_handler_Load gauge\n"
+                + "ignite_client_handler_Load NaN\n"
+                + "# EOF\n"));
+    }
+
+    @Test
+    void distribution() {
+        DistributionMetric distribution = new DistributionMetric("Latency", null, new long[] {10, 100});
+
+        distribution.add(1);
+        distribution.add(50);
+        distribution.add(60);
+        distribution.add(1000);
+
+        assertThat(format("raft", distribution), is(""
+                + "# TYPE ignite_raft_Latency histogram\n"
+                + "ignite_raft_Latency_bucket{le=\"10\"} 1\n"
+                + "ignite_raft_Latency_bucket{le=\"100\"} 3\n"
+                + "ignite_raft_Latency_bucket{le=\"+Inf\"} 4\n"
+                + "ignite_raft_Latency_count 4\n"
+                + "# EOF\n"));
+    }
+
+    @Test
+    void histogram() {
+        HistogramMetric histogram = new HistogramMetric("Latency", "Latency, us.", 1_000_000);
+
+        for (int i = 1; i <= 10; i++) {
+            histogram.add(i);
+        }
+
+        assertThat(format("sql", histogram), is(""
+                + "# TYPE ignite_sql_Latency summary\n"
+                + "# HELP ignite_sql_Latency Latency, us.\n"
+                + "ignite_sql_Latency{quantile=\"0.5\"} 5\n"
+                + "ignite_sql_Latency{quantile=\"0.9\"} 9\n"
+                + "ignite_sql_Latency{quantile=\"0.99\"} 10\n"
+                + "ignite_sql_Latency{quantile=\"0.999\"} 10\n"
+                + "ignite_sql_Latency_count 10\n"
+                + "# EOF\n"));
+    }
+
+    private String format(String setName, Metric... metrics) {
+        Map<String, Metric> metricsByName = new LinkedHashMap<>();
+
+        for (Metric metric : metrics) {
+            metricsByName.put(metric.name(), metric);
+        }
+
+        return formatter.format(new MetricSnapshot(Map.of(setName, new MetricSet(setName, metricsByName)), 1L));
+    }
+}
@@ -74,6 +74,8 @@ import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
 import org.apache.ignite.internal.network.serialization.marshal.UserObjectMarshaller;
 import org.apache.ignite.internal.thread.ExecutorChooser;
 import org.apache.ignite.internal.thread.IgniteThread;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.RequestTracing;
 import org.apache.ignite.internal.worker.CriticalSingleThreadExecutor;
 import org.apache.ignite.internal.worker.CriticalWorkerRegistry;
 import org.apache.ignite.lang.IgniteException;
@@ -541,10 +543,16 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         NetworkMessage payload;
         Long correlationId = null;
+        RequestSpan remoteSpan = null;
         if (message instanceof InvokeRequest) {
             InvokeRequest invokeRequest = (InvokeRequest) message;
             payload = invokeRequest.message();
             correlationId = invokeRequest.correlationId();
+
+            UUID traceId = invokeRequest.traceId();
+            if (traceId != null) {
+                remoteSpan = RequestSpan.remote(traceId);
+            }
         } else {
             payload = message;
         }
@@ -559,9 +567,13 @@ public class DefaultMessagingService extends AbstractMessagingService {
         Executor firstHandlerExecutor = chooseExecutorFor(payload, inNetworkObject, firstHandlerContext.executorChooser());
 
         Long finalCorrelationId = correlationId;
+        RequestSpan finalRemoteSpan = remoteSpan;
         firstHandlerExecutor.execute(() -> {
             long startedNanos = System.nanoTime();
 
+            // Lets the handler continue the trace of the request, if the sender traces it.
+            RequestSpan previousSpan = RequestTracing.attach(finalRemoteSpan);
+
             try {
                 handleStartingWithFirstHandler(payload, finalCorrelationId, inNetworkObject, firstHandlerContext, handlerContexts);
             } catch (Throwable e) {
@@ -569,6 +581,8 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
                 handleAndRethrowIfError(inNetworkObject, e);
             } finally {
+                RequestTracing.detach(previousSpan);
+
                 long tookMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
 
                 if (tookMillis > 100) {
@@ -733,7 +747,11 @@ public class DefaultMessagingService extends AbstractMessagingService {
      * @return Invoke request message.
      */
     private InvokeRequest requestFromMessage(NetworkMessage message, long correlationId) {
-        return factory.invokeRequest().correlationId(correlationId).message(message).build();
+        return factory.invokeRequest()
+                .correlationId(correlationId)
+                .message(message)
+                .traceId(RequestTracing.currentTraceId())
+                .build();
     }
 
     /**
@@ -19,9 +19,11 @@ package org.apache.ignite.internal.network.message;
 
 import static org.apache.ignite.internal.network.NetworkMessageTypes.INVOKE_REQUEST;
 
+import java.util.UUID;
 import org.apache.ignite.internal.network.DefaultMessagingService;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.annotations.Transferable;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Invocation request.
@@ -35,6 +37,10 @@ public interface InvokeRequest extends NetworkMessage {
     /** Request's message. */
     NetworkMessage message();
 
+    /** ID of the sampled request trace the message is sent within, {@code null} if the request is not traced. */
+    @Nullable
+    UUID traceId();
+
     @Override
     default String toStringForLightLogging() {
         return getClass() + ": [correlationId=" + correlationId() + ", message=" + message().getClass() + ']';
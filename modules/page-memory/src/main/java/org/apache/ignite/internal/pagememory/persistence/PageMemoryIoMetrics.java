@@ -19,7 +19,7 @@ package org.apache.ignite.internal.pagememory.persistence;
 
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.fileio.FileIoMetrics;
-import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.LongAdderMetric;
 import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 
@@ -29,22 +29,16 @@ import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 public class PageMemoryIoMetrics implements FileIoMetrics {
     public static final String TOTAL_BYTES_READ = "TotalBytesRead";
     public static final String TOTAL_BYTES_WRITTEN = "TotalBytesWritten";
-    public static final String READS_TIME = "ReadsTime";
-    public static final String WRITES_TIME = "WritesTime";
+    public static final String READS_LATENCY = "ReadsLatency";
+    public static final String WRITES_LATENCY = "WritesLatency";
 
     /**
-     * Histogram buckets for I/O latency in microseconds.
+     * Highest I/O latency in microseconds distinguished by the histograms.
      *
-     * <p>All cached access operations hit the first bucket. Their estimate is within 1µs.
-     *
-     * <p>Values are estimated on possible storage types:
-     * <ul>
-     *   <li>NVMe SSD: Most operations &lt;10µs, outliers 10-100µs</li>
-     *   <li>SATA SSD: Most operations 10-100µs, outliers 100-1000µs</li>
-     *   <li>HDD: Most operations 1-10ms, outliers &gt;10ms</li>
-     * </ul>
+     * <p>Latencies span several orders of magnitude depending on the storage type: cached accesses take about a microsecond, NVMe SSD
+     * operations take up to tens of microseconds, HDD operations take milliseconds, with outliers of tens of milliseconds and more.
      */
-    private static final long[] DISK_IO_MICROSECONDS = {10, 100, 1_000, 10_000};
+    private static final long MAX_DISK_IO_MICROSECONDS = TimeUnit.SECONDS.toMicros(10);
 
     private final LongAdderMetric totalBytesRead = new LongAdderMetric(
             TOTAL_BYTES_READ,
@@ -56,24 +50,24 @@ public class PageMemoryIoMetrics implements FileIoMetrics {
             "Cumulative bytes written to disk since startup."
     );
 
-    private final DistributionMetric readsTime = new DistributionMetric(
-            READS_TIME,
-            "Time spent in disk read operation in microseconds.",
-            DISK_IO_MICROSECONDS
+    private final HistogramMetric readsLatency = new HistogramMetric(
+            READS_LATENCY,
+            "Histogram of disk read operation durations in microseconds.",
+            MAX_DISK_IO_MICROSECONDS
     );
 
-    private final DistributionMetric writesTime = new DistributionMetric(
-            WRITES_TIME,
-            "Time spent in disk write operation in microseconds.",
-            DISK_IO_MICROSECONDS
+    private final HistogramMetric writesLatency = new HistogramMetric(
+            WRITES_LATENCY,
+            "Histogram of disk write operation durations in microseconds.",
+            MAX_DISK_IO_MICROSECONDS
     );
 
     /** Constructor. */
     public PageMemoryIoMetrics(CollectionMetricSource source) {
         source.addMetric(totalBytesRead);
         source.addMetric(totalBytesWritten);
-        source.addMetric(readsTime);
-        source.addMetric(writesTime);
+        source.addMetric(readsLatency);
+        source.addMetric(writesLatency);
     }
 
     @Override
@@ -81,7 +75,7 @@ public class PageMemoryIoMetrics implements FileIoMetrics {
         if (bytesRead > 0) {
             totalBytesRead.add(bytesRead);
         }
-        readsTime.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        readsLatency.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
     }
 
     @Override
@@ -89,6 +83,6 @@ public class PageMemoryIoMetrics implements FileIoMetrics {
         if (bytesWritten > 0) {
             totalBytesWritten.add(bytesWritten);
         }
-        writesTime.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        writesLatency.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
     }
 }
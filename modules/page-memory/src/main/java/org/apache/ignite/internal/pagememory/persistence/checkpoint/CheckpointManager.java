@@ -408,6 +408,22 @@ public class CheckpointManager {
         compactor.triggerCompaction();
     }
 
+    /**
+     * Pauses merging of delta files into partition files, so that the files on disk stay unchanged except for the new delta files
+     * added by checkpoints.
+     *
+     * @throws InterruptedException If the thread has been interrupted while waiting for the ongoing merges to stop.
+     * @see Compactor#pause()
+     */
+    public void pauseCompaction() throws InterruptedException {
+        compactor.pause();
+    }
+
+    /** Resumes merging of delta files {@link #pauseCompaction() paused} earlier. */
+    public void resumeCompaction() {
+        compactor.resume();
+    }
+
     /** Partition Destruction Lock Manager. */
     public PartitionDestructionLockManager partitionDestructionLockManager() {
         return partitionDestructionLockManager;
@@ -82,10 +82,16 @@ public class CheckpointReadWriteLock {
 
         long startNanos = System.nanoTime();
 
+        var event = new CheckpointReadLockWaitEvent();
+        event.begin();
+
         metrics.incrementReadLockWaitingThreads();
         checkpointLock.readLock().lock();
 
         onReadLock(startNanos, true);
+
+        event.acquired = true;
+        event.commit();
     }
 
     /**
@@ -102,11 +108,17 @@ public class CheckpointReadWriteLock {
 
         long startNanos = System.nanoTime();
 
+        var event = new CheckpointReadLockWaitEvent();
+        event.begin();
+
         metrics.incrementReadLockWaitingThreads();
         boolean res = checkpointLock.readLock().tryLock(timeout, unit);
 
         onReadLock(startNanos, res);
 
+        event.acquired = res;
+        event.commit();
+
         return res;
     }
 
@@ -96,6 +96,12 @@ public class Compactor extends IgniteWorker {
     /** Current compaction round, {@code null} means the round has either not started yet or has finished. */
     private volatile @Nullable CompactionRound currentCompactionRound;
 
+    /** Number of active {@link #pause() pauses}, delta files are not merged while it is positive. Guarded by {@link #mux}. */
+    private int pauses;
+
+    /** Number of delta files that are being merged at the moment. Guarded by {@link #mux}. */
+    private int activeMerges;
+
     /**
      * Creates new ignite worker with given parameters.
      *
@@ -258,6 +264,8 @@ public class Compactor extends IgniteWorker {
 
                                 partitionDestructionLock.lock();
 
+                                onMergeStart();
+
                                 try {
                                     mergeDeltaFileToMainFile(
                                             toMerge.groupPartitionFilePageStore.pageStore(),
@@ -265,6 +273,8 @@ public class Compactor extends IgniteWorker {
                                             tracker
                                     );
                                 } finally {
+                                    onMergeFinish();
+
                                     partitionDestructionLock.unlock();
                                 }
                             }
@@ -510,6 +520,57 @@ public class Compactor extends IgniteWorker {
         }
     }
 
+    /**
+     * Pauses the compaction and waits for the delta files that are being merged at the moment to stop being merged. Until
+     * {@link #resume()} is called, checkpoints only add new delta files, and the existing partition and delta files stay unchanged,
+     * which allows to copy them consistently. Pauses may be nested.
+     *
+     * @throws InterruptedException If the thread has been interrupted while waiting.
+     */
+    public void pause() throws InterruptedException {
+        synchronized (mux) {
+            pauses++;
+
+            try {
+                while (activeMerges > 0) {
+                    mux.wait();
+                }
+            } catch (InterruptedException e) {
+                resume();
+
+                throw e;
+            }
+        }
+    }
+
+    /** Resumes the compaction {@link #pause() paused} earlier. */
+    public void resume() {
+        synchronized (mux) {
+            assert pauses > 0 : "Compaction is not paused";
+
+            pauses--;
+
+            // Delta files could have been added during the pause.
+            addedDeltaFiles = true;
+
+            mux.notifyAll();
+        }
+    }
+
+    private void onMergeStart() {
+        synchronized (mux) {
+            activeMerges++;
+        }
+    }
+
+    private void onMergeFinish() {
+        synchronized (mux) {
+            activeMerges--;
+
+            mux.notifyAll();
+        }
+    }
+
     private boolean shouldStopCompaction(FilePageStore filePageStore) {
         return filePageStore.isMarkedToDestroy() || shouldStopCompaction();
     }
@@ -520,6 +581,10 @@ public class Compactor extends IgniteWorker {
         }
 
         synchronized (mux) {
+            if (pauses > 0) {
+                return true;
+            }
+
             // We only need to stop compaction if a checkpoint has occurred in parallel and the total number of delta files is not yet high
             // enough. The number 3 is based on observations of failed tests and intuition; it may change in the future.
             return isCheckpointStarted && currentCompactionRound().totalDeltaFileCount < (3 * currentCompactionRound().partitionFileCount);
@@ -144,7 +144,7 @@ public class FilePageStoreIoTest extends AbstractFilePageStoreIoTest {
 
             // Verify write metrics were recorded - 1 write of header + 1 write of page
             assertMetricValue(metricSet, PageMemoryIoMetrics.TOTAL_BYTES_WRITTEN,  PAGE_SIZE * 2);
-            assertDistributionMetricFromSet(metricSet, PageMemoryIoMetrics.WRITES_TIME, 2L);
+            assertDistributionMetricFromSet(metricSet, PageMemoryIoMetrics.WRITES_LATENCY, 2L);
 
             // Perform read operation
             long pageOff = filePageStoreIo.pageOffset(pageId);
@@ -153,7 +153,7 @@ public class FilePageStoreIoTest extends AbstractFilePageStoreIoTest {
 
             // Verify read metrics were recorded
             assertMetricValue(metricSet, PageMemoryIoMetrics.TOTAL_BYTES_READ,  PAGE_SIZE);
-            assertDistributionMetricFromSet(metricSet, PageMemoryIoMetrics.READS_TIME, 1L);
+            assertDistributionMetricFromSet(metricSet, PageMemoryIoMetrics.READS_LATENCY, 1L);
         }
     }
 
@@ -156,6 +156,7 @@ import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.placementdriver.wrappers.ExecutorInclinedPlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.ExecutorInclinedRaftCommandRunner;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.PeersAndLearners;
@@ -288,6 +289,8 @@ public class PartitionReplicaLifecycleManager extends
 
     private final IndexMetasAccess indexMetasAccess;
 
+    private final Supplier<IgniteProductVersion> clusterVersion;
+
     private final ReliableCatalogVersions reliableCatalogVersions;
 
     private final TransactionStateResolver transactionStateResolver;
@@ -337,6 +340,8 @@ public class PartitionReplicaLifecycleManager extends
      * @param metricManager Metric manager.
      * @param messagingService Messaging service.
      * @param replicaService Replica service.
+     * @param indexMetasAccess Index metas access.
+     * @param clusterVersion Supplier of the cluster version.
      */
     public PartitionReplicaLifecycleManager(
             CatalogService catalogService,
@@ -363,7 +368,8 @@ public class PartitionReplicaLifecycleManager extends
             MetricManager metricManager,
             MessagingService messagingService,
             ReplicaService replicaService,
-            IndexMetasAccess indexMetasAccess
+            IndexMetasAccess indexMetasAccess,
+            Supplier<IgniteProductVersion> clusterVersion
     ) {
         this(
                 catalogService,
@@ -400,7 +406,8 @@ public class PartitionReplicaLifecycleManager extends
                 metricManager,
                 messagingService,
                 replicaService,
-                indexMetasAccess
+                indexMetasAccess,
+                clusterVersion
         );
     }
 
@@ -429,7 +436,8 @@ public class PartitionReplicaLifecycleManager extends
             MetricManager metricManager,
             MessagingService messagingService,
             ReplicaService replicaService,
-            IndexMetasAccess indexMetasAccess
+            IndexMetasAccess indexMetasAccess,
+            Supplier<IgniteProductVersion> clusterVersion
     ) {
         this.catalogService = catalogService;
         this.replicaMgr = replicaMgr;
@@ -451,6 +459,7 @@ public class PartitionReplicaLifecycleManager extends
         this.zoneResourcesManager = zoneResourcesManager;
         this.metricManager = metricManager;
         this.indexMetasAccess = indexMetasAccess;
+        this.clusterVersion = clusterVersion;
 
         rebalanceRetryDelayConfiguration = new SystemDistributedConfigurationPropertyHolder<>(
                 systemDistributedConfiguration,
@@ -873,7 +882,8 @@ public class PartitionReplicaLifecycleManager extends
                                                 zonePartitionId,
                                                 transactionStateResolver,
                                                 txMessageSender,
-                                                txRecoveryEngine
+                                                txRecoveryEngine,
+                                                clusterVersion
                                         );
 
                                         zoneResources.replicaListenerFuture().complete(replicaListener);
@@ -2128,6 +2138,14 @@ public class PartitionReplicaLifecycleManager extends
         return zoneResourcesManager.getZonePartitionResources(zonePartitionId);
     }
 
+    /**
+     * Returns the applied indexes of the local zone partitions, by the zone partition ID. The index of a partition is the minimum over
+     * its storages, {@code 0} if any of them is empty.
+     */
+    public Map<String, Long> lastAppliedIndexes() {
+        return zoneResourcesManager.lastAppliedIndexes();
+    }
+
     private void onZoneDrop(DropZoneEventParameters parameters) {
         inBusyLock(busyLock, () -> {
             int eventCatalogVersion = parameters.catalogVersion();
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.partition.replicator;
 
+import static org.apache.ignite.internal.tracing.TraceStage.REPLICATION;
 import static org.apache.ignite.internal.util.ExceptionUtils.unwrapRootCause;
 
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +28,7 @@ import org.apache.ignite.internal.raft.service.RaftCommandRunner;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.replicator.exception.ReplicationException;
 import org.apache.ignite.internal.replicator.exception.ReplicationTimeoutException;
+import org.apache.ignite.internal.tracing.RequestTracing;
 
 /**
  * Applies Raft commands adding error handling specific to replication protocol.
@@ -59,6 +61,8 @@ public class ReplicationRaftCommandApplicator {
 
         applyCommandWithExceptionHandling(command, resultFuture);
 
+        RequestTracing.recordOnCompletion(REPLICATION, resultFuture);
+
         return resultFuture.exceptionally(throwable -> {
             if (throwable instanceof TimeoutException) {
                 throw new ReplicationTimeoutException(replicationGroupId);
@@ -94,6 +98,6 @@ public class ReplicationRaftCommandApplicator {
      * @return A future with the execution result.
      */
     public CompletableFuture<?> applyCommand(Command command) {
-        return raftCommandRunner.run(command);
+        return RequestTracing.recordOnCompletion(REPLICATION, raftCommandRunner.run(command));
     }
 }
@@ -22,6 +22,7 @@ import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
@@ -84,7 +85,8 @@ public class TableAwareReplicaRequestPreProcessor {
                 + "; request " + request;
 
         assert txTs == null
-                ? request instanceof GetEstimatedSizeRequest || request instanceof ScanCloseReplicaRequest
+                ? request instanceof GetEstimatedSizeRequest || request instanceof ReadChangesReplicaRequest
+                || request instanceof ScanCloseReplicaRequest
                 || request instanceof BuildIndexReplicaRequest || request instanceof TableWriteIntentSwitchReplicaRequest
                 || request instanceof TxStatePrimaryReplicaRequest
                 : opTs.compareTo(txTs) >= 0 :
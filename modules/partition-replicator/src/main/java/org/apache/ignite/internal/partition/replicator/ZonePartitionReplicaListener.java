@@ -21,9 +21,11 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.failure.FailureContext;
 import org.apache.ignite.internal.failure.FailureProcessor;
@@ -46,6 +48,7 @@ import org.apache.ignite.internal.partition.replicator.network.replication.Updat
 import org.apache.ignite.internal.partition.replicator.schema.ValidationSchemasSource;
 import org.apache.ignite.internal.partition.replicator.schemacompat.SchemaCompatibilityValidator;
 import org.apache.ignite.internal.placementdriver.LeasePlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.service.RaftCommandRunner;
 import org.apache.ignite.internal.replicator.ReplicaResult;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
@@ -105,6 +108,7 @@ public class ZonePartitionReplicaListener implements ReplicaListener {
      * @param replicationGroupId Zone replication group identifier.
      * @param clockService Clock service.
      * @param raftClient Raft client.
+     * @param clusterVersion Supplier of the cluster version.
      */
     public ZonePartitionReplicaListener(
             TxStatePartitionStorage txStatePartitionStorage,
@@ -122,7 +126,8 @@ public class ZonePartitionReplicaListener implements ReplicaListener {
             ZonePartitionId replicationGroupId,
             TransactionStateResolver transactionStateResolver,
             TxMessageSender txMessageSender,
-            TxRecoveryEngine txRecoveryEngine
+            TxRecoveryEngine txRecoveryEngine,
+            Supplier<IgniteProductVersion> clusterVersion
     ) {
         this.raftClient = raftClient;
         this.failureProcessor = failureProcessor;
@@ -145,6 +150,11 @@ public class ZonePartitionReplicaListener implements ReplicaListener {
 
         ReplicationRaftCommandApplicator raftCommandApplicator = new ReplicationRaftCommandApplicator(raftClient, replicationGroupId);
 
+        // Transactions that have enlisted only this partition get their write intents switched by the finish command, the following
+        // cleanup learns about it from this set. An entry is removed by the local cleanup or, if the cleanup is processed by another
+        // primary replica, once the cleanup completes.
+        Set<UUID> writeIntentsSwitchedOnFinish = ConcurrentHashMap.newKeySet();
+
         // Request handlers initialization.
 
         txFinishReplicaRequestHandler = new TxFinishReplicaRequestHandler(
@@ -155,7 +165,9 @@ public class ZonePartitionReplicaListener implements ReplicaListener {
                 schemaSyncService,
                 catalogService,
                 raftClient,
-                replicationGroupId);
+                replicationGroupId,
+                writeIntentsSwitchedOnFinish,
+                clusterVersion);
 
         writeIntentSwitchRequestHandler = new WriteIntentSwitchRequestHandler(
                 replicaProcessors::get,
@@ -165,7 +177,8 @@ public class ZonePartitionReplicaListener implements ReplicaListener {
                 txManager,
                 raftClient,
                 replicationGroupId,
-                tableAwareReplicaRequestPreProcessor
+                tableAwareReplicaRequestPreProcessor,
+                writeIntentsSwitchedOnFinish
         );
 
         txStateCommitPartitionReplicaRequestHandler = new TxStateCommitPartitionReplicaRequestHandler(
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFu
 import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,6 +51,7 @@ import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.internal.util.SafeTimeValuesTracker;
 import org.apache.ignite.internal.worker.ThreadAssertions;
+import org.apache.ignite.raft.jraft.entity.RaftOutter.SnapshotMeta;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -252,6 +254,22 @@ public class ZoneResourcesManager implements ManuallyCloseable {
                         && resources.snapshotStorage().arePartitionSnapshotStoragesEmpty());
     }
 
+    /**
+     * Returns the applied indexes of the local zone partitions, by the zone partition ID. The index of a partition is the minimum over
+     * its storages, {@code 0} if any of them is empty.
+     */
+    Map<String, Long> lastAppliedIndexes() {
+        var lastAppliedIndexes = new HashMap<String, Long>();
+
+        resourcesByZoneId.forEach((zoneId, zoneResources) -> zoneResources.resourcesByPartitionId.forEach((partitionId, resources) -> {
+            SnapshotMeta meta = resources.snapshotStorage().readStartupSnapshotMeta();
+
+            lastAppliedIndexes.put(new ZonePartitionId(zoneId, partitionId).toString(), meta == null ? 0 : meta.lastIncludedIndex());
+        }));
+
+        return lastAppliedIndexes;
+    }
+
     @TestOnly
     @Nullable
     TxStatePartitionStorage txStatePartitionStorage(int zoneId, int partitionId) {
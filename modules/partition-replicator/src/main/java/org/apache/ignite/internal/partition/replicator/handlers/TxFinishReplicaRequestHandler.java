@@ -34,8 +34,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -46,9 +49,12 @@ import org.apache.ignite.internal.partition.replicator.ReplicaTxFinishMarker;
 import org.apache.ignite.internal.partition.replicator.ReplicationRaftCommandApplicator;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
 import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV2Builder;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV3;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV3Builder;
 import org.apache.ignite.internal.partition.replicator.schema.ValidationSchemasSource;
 import org.apache.ignite.internal.partition.replicator.schemacompat.CompatValidationResult;
 import org.apache.ignite.internal.partition.replicator.schemacompat.SchemaCompatibilityValidator;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.service.RaftCommandRunner;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
@@ -85,6 +91,9 @@ public class TxFinishReplicaRequestHandler {
 
     private static final TxMessagesFactory TX_MESSAGES_FACTORY = new TxMessagesFactory();
 
+    /** Cluster version, since which all nodes are able to apply {@link FinishTxCommandV3}. */
+    private static final IgniteProductVersion FINISH_TX_V3_SINCE = IgniteProductVersion.fromString("3.2.0");
+
     private final TxStatePartitionStorage txStatePartitionStorage;
     private final ClockService clockService;
     private final TxManager txManager;
@@ -95,6 +104,12 @@ public class TxFinishReplicaRequestHandler {
     private final ReplicationRaftCommandApplicator raftCommandApplicator;
     private final ReplicaTxFinishMarker replicaTxFinishMarker;
 
+    /** Transactions whose write intents in this partition have been switched by their finish commands, shared with the cleanup. */
+    private final Set<UUID> writeIntentsSwitchedOnFinish;
+
+    /** Supplier of the cluster version. */
+    private final Supplier<IgniteProductVersion> clusterVersion;
+
     /** Constructor. */
     public TxFinishReplicaRequestHandler(
             TxStatePartitionStorage txStatePartitionStorage,
@@ -104,12 +119,16 @@ public class TxFinishReplicaRequestHandler {
             SchemaSyncService schemaSyncService,
             CatalogService catalogService,
             RaftCommandRunner raftCommandRunner,
-            ZonePartitionId replicationGroupId
+            ZonePartitionId replicationGroupId,
+            Set<UUID> writeIntentsSwitchedOnFinish,
+            Supplier<IgniteProductVersion> clusterVersion
     ) {
         this.txStatePartitionStorage = txStatePartitionStorage;
         this.clockService = clockService;
         this.txManager = txManager;
         this.replicationGroupId = replicationGroupId;
+        this.writeIntentsSwitchedOnFinish = writeIntentsSwitchedOnFinish;
+        this.clusterVersion = clusterVersion;
 
         schemaCompatValidator = new SchemaCompatibilityValidator(validationSchemasSource, catalogService, schemaSyncService);
         reliableCatalogVersions = new ReliableCatalogVersions(schemaSyncService, catalogService);
@@ -125,6 +144,9 @@ public class TxFinishReplicaRequestHandler {
      *     <li>Run {@code FinishTxCommand} raft command, that will apply txn state to corresponding txStateStorage.</li>
      *     <li>Send cleanup requests to all enlisted primary replicas.</li>
      * </ol>
+     * If the commit partition is the only partition enlisted in the transaction and the cluster version supports it, the finish command
+     * switches the write intents as well, and the cleanup only releases the locks and awaits in-flight operations, without replicating
+     * another command.
      *
      * @param request Transaction finish request.
      * @return future result of the operation.
@@ -223,12 +245,26 @@ public class TxFinishReplicaRequestHandler {
         List<EnlistedPartitionGroup> enlistedPartitionGroups = enlistedPartitions.entrySet().stream()
                 .map(entry -> new EnlistedPartitionGroup(entry.getKey(), entry.getValue().tableIds()))
                 .collect(toList());
-        return finishTransaction(enlistedPartitionGroups, txId, commit, commitTimestamp)
+
+        boolean onePhase = enlistedPartitions.size() == 1
+                && enlistedPartitions.containsKey(replicationGroupId)
+                && clusterVersion.get().compareTo(FINISH_TX_V3_SINCE) >= 0;
+
+        return finishTransaction(enlistedPartitionGroups, txId, commit, commitTimestamp, onePhase)
                 .thenCompose(txResult -> {
                     boolean actualCommit = txResult.transactionState() == COMMITTED;
                     HybridTimestamp actualCommitTs = txResult.commitTimestamp();
 
+                    // The state matches the requested one here, so the finish command has switched the write intents unless the
+                    // transaction had been committed with another timestamp.
+                    if (onePhase && Objects.equals(actualCommitTs, commitTimestamp)) {
+                        writeIntentsSwitchedOnFinish.add(txId);
+                    }
+
                     return txManager.cleanup(replicationGroupId, enlistedPartitions, actualCommit, actualCommitTs, txId)
+                            // The local cleanup removes the transaction from the set before the cleanup completes. It is left there
+                            // if the cleanup has been processed by another primary replica.
+                            .whenComplete((v, e) -> writeIntentsSwitchedOnFinish.remove(txId))
                             .thenApply(v -> txResult);
                 });
     }
@@ -246,13 +282,15 @@ public class TxFinishReplicaRequestHandler {
      * @param txId Transaction id.
      * @param commit True is the transaction is committed, false otherwise.
      * @param commitTimestamp Commit timestamp, if applicable.
+     * @param switchWriteIntents Whether the write intents of the commit partition must be switched by the finish command.
      * @return Future to wait of the finish.
      */
     private CompletableFuture<TransactionResult> finishTransaction(
             Collection<EnlistedPartitionGroup> partitions,
             UUID txId,
             boolean commit,
-            @Nullable HybridTimestamp commitTimestamp
+            @Nullable HybridTimestamp commitTimestamp,
+            boolean switchWriteIntents
     ) {
         assert !(commit && commitTimestamp == null) : "Cannot commit without the timestamp.";
 
@@ -264,7 +302,8 @@ public class TxFinishReplicaRequestHandler {
                         commit,
                         commitTimestamp,
                         catalogVersion,
-                        toPartitionInfoMessages(partitions)
+                        toPartitionInfoMessages(partitions),
+                        switchWriteIntents
                 ))
                 .handle((txOutcome, ex) -> {
                     if (ex != null) {
@@ -298,9 +337,27 @@ public class TxFinishReplicaRequestHandler {
             boolean commit,
             @Nullable HybridTimestamp commitTimestamp,
             int catalogVersion,
-            List<EnlistedPartitionGroupMessage> enlistedPartitions
+            List<EnlistedPartitionGroupMessage> enlistedPartitions,
+            boolean switchWriteIntents
     ) {
         HybridTimestamp now = clockService.now();
+
+        if (switchWriteIntents) {
+            FinishTxCommandV3Builder finishTxCmdBldr = PARTITION_REPLICATION_MESSAGES_FACTORY.finishTxCommandV3()
+                    .txId(transactionId)
+                    .commit(commit)
+                    .initiatorTime(now)
+                    .requiredCatalogVersion(catalogVersion)
+                    .partitions(enlistedPartitions)
+                    .switchWriteIntents(true);
+
+            if (commit) {
+                finishTxCmdBldr.commitTimestamp(commitTimestamp);
+            }
+
+            return raftCommandApplicator.applyCommandWithExceptionHandling(finishTxCmdBldr.build());
+        }
+
         FinishTxCommandV2Builder finishTxCmdBldr = PARTITION_REPLICATION_MESSAGES_FACTORY.finishTxCommandV2()
                 .txId(transactionId)
                 .commit(commit)
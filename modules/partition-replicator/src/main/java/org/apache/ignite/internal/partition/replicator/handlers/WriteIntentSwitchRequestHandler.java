@@ -28,6 +28,7 @@ import static org.apache.ignite.internal.tx.TxState.COMMITTED;
 import static org.apache.ignite.internal.util.CompletableFutures.allOf;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
@@ -87,6 +88,9 @@ public class WriteIntentSwitchRequestHandler {
     private final ReplicationRaftCommandApplicator raftCommandApplicator;
     private final TxManager txManager;
 
+    /** Transactions whose write intents in this partition have been switched by their finish commands. */
+    private final Set<UUID> writeIntentsSwitchedOnFinish;
+
     /** Constructor. */
     public WriteIntentSwitchRequestHandler(
             IntFunction<ReplicaTableProcessor> replicaListenerByTableId,
@@ -96,13 +100,15 @@ public class WriteIntentSwitchRequestHandler {
             TxManager txManager,
             RaftCommandRunner raftCommandRunner,
             ZonePartitionId replicationGroupId,
-            TableAwareReplicaRequestPreProcessor tableAwareReplicaRequestPreProcessor
+            TableAwareReplicaRequestPreProcessor tableAwareReplicaRequestPreProcessor,
+            Set<UUID> writeIntentsSwitchedOnFinish
     ) {
         this.replicaListenerByTableId = replicaListenerByTableId;
         this.clockService = clockService;
         this.replicationGroupId = replicationGroupId;
         this.tableAwareReplicaRequestPreProcessor = tableAwareReplicaRequestPreProcessor;
         this.txManager = txManager;
+        this.writeIntentsSwitchedOnFinish = writeIntentsSwitchedOnFinish;
 
         reliableCatalogVersions = new ReliableCatalogVersions(schemaSyncService, catalogService);
         txFinishMarker = new ReplicaTxFinishMarker(txManager);
@@ -117,7 +123,8 @@ public class WriteIntentSwitchRequestHandler {
      *     (writeIntents) to either regular values({@link TxState#COMMITTED}) or removing them ({@link TxState#ABORTED});</li>
      *     <li>Releases all locks that were held on local Replica by given transaction.</li>
      * </ol>
-     * This operation is idempotent, so it's safe to retry it.
+     * The command is not replicated if the write intents have already been switched by the finish command of the transaction, which
+     * is the case when this partition is the only one enlisted in it. This operation is idempotent, so it's safe to retry it.
      *
      * @param request Transaction cleanup request.
      * @return CompletableFuture of ReplicaResult.
@@ -125,6 +132,8 @@ public class WriteIntentSwitchRequestHandler {
     public CompletableFuture<ReplicaResult> handle(WriteIntentSwitchReplicaRequest request, UUID senderId) {
         txFinishMarker.markFinished(request.txId(), request.commit() ? COMMITTED : ABORTED, request.commitTimestamp());
 
+        boolean switchedOnFinish = writeIntentsSwitchedOnFinish.remove(request.txId());
+
         List<CompletableFuture<ReplicaResult>> futures = request.tableIds().stream()
                 .map(tableId -> invokeTableWriteIntentSwitchReplicaRequest(tableId, request, clockService.current(), senderId))
                 .collect(toList());
@@ -140,7 +149,7 @@ public class WriteIntentSwitchRequestHandler {
                             .map(FuturesCleanupResult.class::cast)
                             .anyMatch(FuturesCleanupResult::shouldApplyWriteIntent);
 
-                    if (!shouldApplyWiOnAnyTable) {
+                    if (!shouldApplyWiOnAnyTable || switchedOnFinish) {
                         return completedFuture(new ReplicaResult(writeIntentSwitchReplicationInfoFor(request), null));
                     }
 
@@ -25,6 +25,7 @@ import org.apache.ignite.internal.partition.replicator.network.command.BuildInde
 import org.apache.ignite.internal.partition.replicator.network.command.BuildIndexCommandV3;
 import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV1;
 import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV2;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV3;
 import org.apache.ignite.internal.partition.replicator.network.command.TimedBinaryRowMessage;
 import org.apache.ignite.internal.partition.replicator.network.command.UpdateAllCommand;
 import org.apache.ignite.internal.partition.replicator.network.command.UpdateAllCommandV2;
@@ -56,7 +57,9 @@ import org.apache.ignite.internal.partition.replicator.network.replication.Binar
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ChangePeersAndLearnersAsyncReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ColumnRangePredicateMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
@@ -222,6 +225,16 @@ public interface PartitionReplicationMessageGroup {
      */
     short CHANGE_PEERS_AND_LEARNERS_ASYNC_REPLICA_REQUEST = 28;
 
+    /**
+     * Message type for {@link ColumnRangePredicateMessage}.
+     */
+    short COLUMN_RANGE_PREDICATE = 29;
+
+    /**
+     * Message type for {@link ReadChangesReplicaRequest}.
+     */
+    short READ_CHANGES_REPLICA_REQUEST = 30;
+
     /**
      * Message types for partition replicator module RAFT commands.
      *
@@ -286,6 +299,9 @@ public interface PartitionReplicationMessageGroup {
 
         /** Message type for {@link BuildIndexCommandV3}. */
         short BUILD_INDEX_V3 = 51;
+
+        /** Message type for {@link FinishTxCommandV3}. */
+        short FINISH_TX_V3 = 52;
     }
 
     /**
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.command;
+
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup.Commands;
+
+/**
+ * Extension of {@link FinishTxCommandV2} that is able to switch write intents of the transaction along with setting its state.
+ *
+ * <p>It is used for transactions that have enlisted no partitions but the commit one: such a transaction is finished by a single RAFT
+ * command, and no separate {@link WriteIntentSwitchCommandV2} is replicated for it.
+ */
+@Transferable(Commands.FINISH_TX_V3)
+public interface FinishTxCommandV3 extends FinishTxCommandV2 {
+    /**
+     * Returns {@code true} if the write intents of the transaction in the commit partition must be switched by this command. In this case
+     * the commit partition is the only entry of {@link #partitions()}.
+     */
+    boolean switchWriteIntents();
+}
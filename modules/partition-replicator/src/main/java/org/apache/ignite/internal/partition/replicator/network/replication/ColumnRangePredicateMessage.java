@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Message for transferring a range predicate over a single column of a table scan.
+ */
+@Transferable(PartitionReplicationMessageGroup.COLUMN_RANGE_PREDICATE)
+public interface ColumnRangePredicateMessage extends NetworkMessage {
+    /** Index of the column in the row. */
+    int column();
+
+    /** Lower bound, a single element binary tuple, {@code null} means unbounded. */
+    @Nullable
+    BinaryTupleMessage lowerBound();
+
+    /** Whether the lower bound is inclusive. */
+    boolean lowerInclusive();
+
+    /** Upper bound, a single element binary tuple, {@code null} means unbounded. */
+    @Nullable
+    BinaryTupleMessage upperBound();
+
+    /** Whether the upper bound is inclusive. */
+    boolean upperInclusive();
+}
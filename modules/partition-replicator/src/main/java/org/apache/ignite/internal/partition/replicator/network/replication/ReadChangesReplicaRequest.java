@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.replicator.message.PrimaryReplicaRequest;
+import org.apache.ignite.internal.replicator.message.TableAware;
+
+/**
+ * Request for reading the changes of rows of a partition, committed after the given timestamp, in the order of commit timestamps.
+ */
+@Transferable(PartitionReplicationMessageGroup.READ_CHANGES_REPLICA_REQUEST)
+public interface ReadChangesReplicaRequest extends PrimaryReplicaRequest, TableAware {
+    /** Returns the timestamp, the changes committed after which are read. */
+    HybridTimestamp afterTimestamp();
+
+    /** Returns the number of changes, after reading which the reading stops at the nearest commit timestamp. */
+    int batchSize();
+}
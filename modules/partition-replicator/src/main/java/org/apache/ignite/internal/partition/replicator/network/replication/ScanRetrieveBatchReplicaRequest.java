@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.partition.replicator.network.replication;
 
 import java.util.BitSet;
+import java.util.List;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.jetbrains.annotations.Nullable;
@@ -78,4 +79,21 @@ public interface ScanRetrieveBatchReplicaRequest extends ReplicaRequest {
      */
     @Nullable
     BitSet columnsToInclude();
+
+    /**
+     * Gets range predicates over the columns of {@link #columnsSchemaVersion()}, which let the storage skip rows that can't match the
+     * scan filter. They are only a hint: the storage may return rows that don't match them, so the filter must still be applied to the
+     * result. Only used by full table scans.
+     *
+     * @return Range predicates, {@code null} if there are none.
+     */
+    @Nullable
+    List<ColumnRangePredicateMessage> columnPredicates();
+
+    /**
+     * Gets schema version {@link #columnsToInclude()} and {@link #columnPredicates()} refer to.
+     *
+     * @return Schema version.
+     */
+    int columnsSchemaVersion();
 }
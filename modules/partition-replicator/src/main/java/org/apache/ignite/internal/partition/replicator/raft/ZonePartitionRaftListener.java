@@ -134,12 +134,12 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
 
         onSnapshotSaveHandler = new OnSnapshotSaveHandler(txStatePartitionStorage, partitionOperationsExecutor);
 
+        var finishTxCommandHandler = new FinishTxCommandHandler(txStatePartitionStorage, zonePartitionId, txManager, tableProcessors::get);
+
         // RAFT command handlers initialization.
         this.commandHandlers = new CommandHandlers.Builder()
-                .addHandler(
-                        PartitionReplicationMessageGroup.GROUP_TYPE,
-                        Commands.FINISH_TX_V2,
-                        new FinishTxCommandHandler(txStatePartitionStorage, zonePartitionId, txManager))
+                .addHandler(PartitionReplicationMessageGroup.GROUP_TYPE, Commands.FINISH_TX_V2, finishTxCommandHandler)
+                .addHandler(PartitionReplicationMessageGroup.GROUP_TYPE, Commands.FINISH_TX_V3, finishTxCommandHandler)
                 .addHandler(
                         PartitionReplicationMessageGroup.GROUP_TYPE,
                         Commands.WRITE_INTENT_SWITCH_V2,
@@ -23,15 +23,23 @@ import static org.apache.ignite.internal.tx.TxState.COMMITTED;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.IntFunction;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
 import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommand;
 import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV2;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV3;
+import org.apache.ignite.internal.partition.replicator.network.command.WriteIntentSwitchCommand;
 import org.apache.ignite.internal.partition.replicator.raft.CommandResult;
+import org.apache.ignite.internal.partition.replicator.raft.RaftTableProcessor;
 import org.apache.ignite.internal.partition.replicator.raft.RaftTxFinishMarker;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.tx.TransactionResult;
@@ -49,19 +57,32 @@ import org.jetbrains.annotations.Nullable;
 public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxCommand> {
     private static final IgniteLogger LOG = Loggers.forClass(FinishTxCommandHandler.class);
 
+    private static final PartitionReplicationMessagesFactory PARTITION_REPLICATION_MESSAGES_FACTORY =
+            new PartitionReplicationMessagesFactory();
+
     private final TxStatePartitionStorage txStatePartitionStorage;
     private final ZonePartitionId replicationGroupId;
 
+    private final IntFunction<RaftTableProcessor> tableProcessorByTableId;
+
     private final RaftTxFinishMarker txFinishMarker;
 
+    /**
+     * First finish commands of the transactions among the commands replayed after a restart. Only the commands already applied to the tx
+     * state storage are collected, the map is cleared once a new command is applied. Accessed from the RAFT apply thread only.
+     */
+    private final Map<UUID, FinishTxCommand> replayedFinishCommands = new HashMap<>();
+
     /** Constructor. */
     public FinishTxCommandHandler(
             TxStatePartitionStorage txStatePartitionStorage,
             ZonePartitionId replicationGroupId,
-            TxManager txManager
+            TxManager txManager,
+            IntFunction<RaftTableProcessor> tableProcessorByTableId
     ) {
         this.txStatePartitionStorage = txStatePartitionStorage;
         this.replicationGroupId = replicationGroupId;
+        this.tableProcessorByTableId = tableProcessorByTableId;
 
         txFinishMarker = new RaftTxFinishMarker(txManager);
     }
@@ -75,9 +96,13 @@ public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxComma
     ) throws IgniteInternalException {
         // Skips the write command because the storage has already executed it.
         if (commandIndex <= txStatePartitionStorage.lastAppliedIndex()) {
+            replay(command, commandIndex, commandTerm, safeTimestamp);
+
             return CommandResult.EMPTY_NOT_APPLIED_RESULT;
         }
 
+        replayedFinishCommands.clear();
+
         UUID txId = command.txId();
 
         TxState stateToSet = command.commit() ? COMMITTED : ABORTED;
@@ -88,8 +113,6 @@ public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxComma
                 command.commitTimestamp()
         );
 
-        TxMeta txMetaBeforeCas = txStatePartitionStorage.get(txId);
-
         boolean txStateChangeRes = txStatePartitionStorage.compareAndSet(
                 txId,
                 null,
@@ -104,11 +127,19 @@ public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxComma
             // Assume that we handle the finish command only on the commit partition.
             txFinishMarker.markFinished(txId, command.commit(), command.commitTimestamp(), this.replicationGroupId);
 
+            if (switchesWriteIntents(command)) {
+                switchWriteIntents((FinishTxCommandV3) command, commandIndex, commandTerm, safeTimestamp);
+            }
+
             TransactionResult result = new TransactionResult(stateToSet, command.commitTimestamp());
 
             return new CommandResult(result, true);
         }
 
+        // A failed CAS doesn't change the storage, so the state that prevented it can be read after it. Reading it only here saves a
+        // storage lookup for every transaction that is finished without conflicts.
+        TxMeta txMetaBeforeCas = txStatePartitionStorage.get(txId);
+
         if (txMetaBeforeCas == null) {
             throw new IgniteInternalException(
                     INTERNAL_ERR,
@@ -117,6 +148,12 @@ public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxComma
             );
         }
 
+        // The transaction might have been finished with the same outcome by a command that didn't switch the write intents, e.g. by
+        // the recovery. The coordinator doesn't send a separate write intent switch if it sees the requested outcome, so do it here.
+        if (switchesWriteIntents(command) && finishedWithOutcomeOf(command, txMetaBeforeCas)) {
+            switchWriteIntents((FinishTxCommandV3) command, commandIndex, commandTerm, safeTimestamp);
+        }
+
         TransactionResult existingResult = new TransactionResult(txMetaBeforeCas.txState(), txMetaBeforeCas.commitTimestamp());
 
         logTxStateStorageCasFail(txId, txMetaBeforeCas, txMetaToSet);
@@ -124,6 +161,79 @@ public class FinishTxCommandHandler extends AbstractCommandHandler<FinishTxComma
         return new CommandResult(existingResult, false);
     }
 
+    /**
+     * Replays a finish command already applied to the tx state storage. Table storages are flushed independently of the tx state storage,
+     * so the write intents switched by the command might be lost and recreated by the replayed update commands, while the state of the
+     * transaction might have already been vacuumed. The switch is therefore decided by the data of the command: it is repeated unless the
+     * transaction is known to have been finished with another outcome, either from its stored state or from an earlier replayed finish
+     * command. Table processors skip the switch if their storages have already applied the command.
+     */
+    private void replay(FinishTxCommand command, long commandIndex, long commandTerm, @Nullable HybridTimestamp safeTimestamp) {
+        FinishTxCommand firstReplayedCommand = replayedFinishCommands.putIfAbsent(command.txId(), command);
+
+        if (!switchesWriteIntents(command)) {
+            return;
+        }
+
+        TxMeta txMeta = txStatePartitionStorage.get(command.txId());
+
+        boolean finishedWithOutcomeOfCommand = txMeta != null
+                ? finishedWithOutcomeOf(command, txMeta)
+                : firstReplayedCommand == null || sameOutcome(command, firstReplayedCommand);
+
+        if (finishedWithOutcomeOfCommand) {
+            switchWriteIntents((FinishTxCommandV3) command, commandIndex, commandTerm, safeTimestamp);
+        }
+    }
+
+    /**
+     * Switches write intents of a transaction that has enlisted no partitions but the commit one, in the same RAFT command that sets the
+     * transaction state. Table processors skip the switch if their storages have already applied the command.
+     */
+    private void switchWriteIntents(
+            FinishTxCommandV3 command,
+            long commandIndex,
+            long commandTerm,
+            @Nullable HybridTimestamp safeTimestamp
+    ) {
+        List<EnlistedPartitionGroupMessage> partitions = command.partitions();
+
+        assert partitions.size() == 1 && replicationGroupId.equals(partitions.get(0).groupId().asReplicationGroupId())
+                : "Write intents can only be switched for the commit partition [groupId=" + replicationGroupId
+                        + ", partitions=" + partitions + ']';
+
+        WriteIntentSwitchCommand switchCommand = PARTITION_REPLICATION_MESSAGES_FACTORY.writeIntentSwitchCommandV2()
+                .txId(command.txId())
+                .commit(command.commit())
+                .commitTimestamp(command.commitTimestamp())
+                .initiatorTime(command.initiatorTime())
+                .tableIds(partitions.get(0).tableIds())
+                .requiredCatalogVersion(command.requiredCatalogVersion())
+                .build();
+
+        for (int tableId : partitions.get(0).tableIds()) {
+            RaftTableProcessor tableProcessor = tableProcessorByTableId.apply(tableId);
+
+            // The table has already been dropped and destroyed, there are no write intents to switch.
+            if (tableProcessor != null) {
+                tableProcessor.processCommand(switchCommand, commandIndex, commandTerm, safeTimestamp);
+            }
+        }
+    }
+
+    private static boolean switchesWriteIntents(FinishTxCommand command) {
+        return command instanceof FinishTxCommandV3 && ((FinishTxCommandV3) command).switchWriteIntents();
+    }
+
+    private static boolean finishedWithOutcomeOf(FinishTxCommand command, TxMeta txMeta) {
+        return txMeta.txState() == (command.commit() ? COMMITTED : ABORTED)
+                && Objects.equals(txMeta.commitTimestamp(), command.commitTimestamp());
+    }
+
+    private static boolean sameOutcome(FinishTxCommand command, FinishTxCommand other) {
+        return command.commit() == other.commit() && Objects.equals(command.commitTimestamp(), other.commitTimestamp());
+    }
+
     private static List<EnlistedPartitionGroup> fromPartitionMessages(List<EnlistedPartitionGroupMessage> messages) {
         List<EnlistedPartitionGroup> list = new ArrayList<>(messages.size());
 
@@ -243,6 +243,13 @@ public interface PartitionDataStorage extends ManuallyCloseable {
      */
     List<GcEntry> peek(HybridTimestamp lowWatermark, int count);
 
+    /**
+     * Returns the estimated number of entries in the garbage collection queue.
+     *
+     * @see MvPartitionStorage#estimatedGcQueueSize
+     */
+    long estimatedGcQueueSize();
+
     /**
      * Delete GC entry from the GC queue and corresponding version chain.
      *
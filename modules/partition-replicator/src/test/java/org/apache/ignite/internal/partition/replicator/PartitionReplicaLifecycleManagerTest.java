@@ -98,6 +98,7 @@ import org.apache.ignite.internal.partition.replicator.raft.snapshot.PartitionSn
 import org.apache.ignite.internal.partition.replicator.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.partitiondistribution.Assignments;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.RaftGroupOptionsConfigurer;
 import org.apache.ignite.internal.raft.client.TopologyAwareRaftGroupService;
@@ -114,6 +115,7 @@ import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.InjectExecutorService;
 import org.apache.ignite.internal.testframework.WithSystemProperty;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.storage.state.ThreadAssertingTxStateStorage;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
@@ -253,7 +255,8 @@ class PartitionReplicaLifecycleManagerTest extends BaseIgniteAbstractTest {
                 logStorageManagerCreator,
                 executorService,
                 groupId -> nullCompletedFuture(),
-                executorService
+                executorService,
+                new RequestTracer()
         ));
 
         zoneResourcesManager = spy(new ZoneResourcesManager(
@@ -311,7 +314,8 @@ class PartitionReplicaLifecycleManagerTest extends BaseIgniteAbstractTest {
                 new NoOpMetricManager(),
                 clusterService.messagingService(),
                 mock(ReplicaService.class),
-                mock(IndexMetasAccess.class)
+                mock(IndexMetasAccess.class),
+                () -> IgniteProductVersion.CURRENT_VERSION
         );
 
         var componentContext = new ComponentContext();
@@ -20,8 +20,15 @@ package org.apache.ignite.internal.partition.replicator.handlers;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.replicator.message.ReplicaMessageUtils.toZonePartitionIdMessage;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.never;
@@ -32,10 +39,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV2;
+import org.apache.ignite.internal.partition.replicator.network.command.FinishTxCommandV3;
 import org.apache.ignite.internal.partition.replicator.schema.ValidationSchemasSource;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
+import org.apache.ignite.internal.raft.Command;
 import org.apache.ignite.internal.raft.service.RaftCommandRunner;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
@@ -43,6 +55,7 @@ import org.apache.ignite.internal.schema.SchemaSyncService;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.tx.MismatchingTransactionOutcomeInternalException;
 import org.apache.ignite.internal.tx.TransactionIds;
+import org.apache.ignite.internal.tx.TransactionResult;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxState;
@@ -53,6 +66,7 @@ import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -86,11 +100,17 @@ class TxFinishReplicaRequestHandlerTest extends BaseIgniteAbstractTest {
     @Mock
     private RaftCommandRunner raftCommandRunner;
 
+    private final Set<UUID> writeIntentsSwitchedOnFinish = ConcurrentHashMap.newKeySet();
+
     private TxFinishReplicaRequestHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new TxFinishReplicaRequestHandler(
+        handler = createHandler(IgniteProductVersion.CURRENT_VERSION);
+    }
+
+    private TxFinishReplicaRequestHandler createHandler(IgniteProductVersion clusterVersion) {
+        return new TxFinishReplicaRequestHandler(
                 txStatePartitionStorage,
                 clockService,
                 txManager,
@@ -98,7 +118,9 @@ class TxFinishReplicaRequestHandlerTest extends BaseIgniteAbstractTest {
                 schemaSyncService,
                 catalogService,
                 raftCommandRunner,
-                replicationGroupId
+                replicationGroupId,
+                writeIntentsSwitchedOnFinish,
+                () -> clusterVersion
         );
     }
 
@@ -153,6 +175,54 @@ class TxFinishReplicaRequestHandlerTest extends BaseIgniteAbstractTest {
         verify(txManager, never()).cleanup(any(), any(Map.class), anyBoolean(), any(), any());
     }
 
+    @Test
+    void finishCommandSwitchesWriteIntentsOfSinglePartitionTransaction() {
+        Command command = abortSinglePartitionTransaction(handler);
+
+        assertThat(command, is(instanceOf(FinishTxCommandV3.class)));
+        assertTrue(((FinishTxCommandV3) command).switchWriteIntents());
+
+        // Nothing has removed the transaction locally, as if the cleanup has been processed by another primary replica.
+        assertThat(writeIntentsSwitchedOnFinish, is(empty()));
+    }
+
+    @Test
+    void finishCommandDoesNotSwitchWriteIntentsInOlderCluster() {
+        Command command = abortSinglePartitionTransaction(createHandler(IgniteProductVersion.fromString("3.1.0")));
+
+        assertThat(command, is(not(instanceOf(FinishTxCommandV3.class))));
+        assertThat(command, is(instanceOf(FinishTxCommandV2.class)));
+    }
+
+    private Command abortSinglePartitionTransaction(TxFinishReplicaRequestHandler handler) {
+        UUID txId = TransactionIds.transactionId(new HybridTimestamp(1, 1), 1);
+
+        when(clockService.now()).thenReturn(new HybridTimestamp(100, 1));
+        when(schemaSyncService.waitForMetadataCompleteness(any())).thenReturn(nullCompletedFuture());
+        when(raftCommandRunner.run(any())).thenAnswer(invocation -> completedFuture(new TransactionResult(TxState.ABORTED, null)));
+        when(txManager.cleanup(any(), any(Map.class), anyBoolean(), any(), any())).thenReturn(nullCompletedFuture());
+
+        TxFinishReplicaRequest request = txMessagesFactory.txFinishReplicaRequest()
+                .groupId(toZonePartitionIdMessage(replicaMessagesFactory, replicationGroupId))
+                .commitPartitionId(toZonePartitionIdMessage(replicaMessagesFactory, replicationGroupId))
+                .txId(txId)
+                .groups(Map.of(
+                        toZonePartitionIdMessage(replicaMessagesFactory, replicationGroupId),
+                        partitionEnlistmentMessage("node", Set.of(1))
+                ))
+                .commit(false)
+                .enlistmentConsistencyToken(ANY_ENLISTMENT_CONSISTENCY_TOKEN)
+                .build();
+
+        assertThat(handler.handle(request), willCompleteSuccessfully());
+
+        ArgumentCaptor<Command> commandCaptor = ArgumentCaptor.forClass(Command.class);
+
+        verify(raftCommandRunner).run(commandCaptor.capture());
+
+        return commandCaptor.getValue();
+    }
+
     private PartitionEnlistmentMessage partitionEnlistmentMessage(String primaryConsistentId, Set<Integer> tableIds) {
         return txMessagesFactory.partitionEnlistmentMessage()
                 .primaryConsistentId(primaryConsistentId)
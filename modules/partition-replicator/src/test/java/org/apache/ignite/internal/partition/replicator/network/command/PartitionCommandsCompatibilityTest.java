@@ -71,6 +71,7 @@ public class PartitionCommandsCompatibilityTest extends BaseCommandsCompatibilit
                 createBuildIndexCommandV3(),
                 createFinishTxCommandV1(),
                 createFinishTxCommandV2(),
+                createFinishTxCommandV3(),
                 createUpdateAllCommand(),
                 createUpdateAllCommandV2(),
                 createUpdateCommand(),
@@ -142,6 +143,21 @@ public class PartitionCommandsCompatibilityTest extends BaseCommandsCompatibilit
         assertEquals(List.of(enlistedPartitionGroup()), command.partitions());
     }
 
+    @Test
+    @TestForCommand(FinishTxCommandV3.class)
+    void testFinishTxCommandV3() {
+        FinishTxCommandV3 command = decodeCommand("CjUBSAFHAgYVCSwXDAMtIkYBAAAAAAAAAAAqAAAAAAAAAEU=");
+
+        assertEquals(initiatorTime(), command.initiatorTime());
+        assertEquals(safeTime(), command.safeTime());
+        assertEquals(uuid(), command.txId());
+        assertTrue(command.full());
+        assertTrue(command.commit());
+        assertEquals(commitTimestamp(), command.commitTimestamp());
+        assertEquals(List.of(enlistedPartitionGroup()), command.partitions());
+        assertTrue(command.switchWriteIntents());
+    }
+
     @Test
     @TestForCommand(UpdateAllCommand.class)
     void testUpdateAllCommand() {
@@ -372,6 +388,19 @@ public class PartitionCommandsCompatibilityTest extends BaseCommandsCompatibilit
                 .build();
     }
 
+    private FinishTxCommandV3 createFinishTxCommandV3() {
+        return commandFactory.finishTxCommandV3()
+                .initiatorTime(initiatorTime())
+                .safeTime(safeTime())
+                .txId(uuid())
+                .full(true)
+                .commit(true)
+                .commitTimestamp(commitTimestamp())
+                .partitions(List.of(enlistedPartitionGroup()))
+                .switchWriteIntents(true)
+                .build();
+    }
+
     private FinishTxCommandV2 createFinishTxCommandV2() {
         return commandFactory.finishTxCommandV2()
                 .initiatorTime(initiatorTime())
@@ -23,6 +23,7 @@ import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static org.apache.ignite.internal.partition.replicator.raft.CommandResult.EMPTY_APPLIED_RESULT;
+import static org.apache.ignite.internal.replicator.message.ReplicaMessageUtils.toZonePartitionIdMessage;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -106,6 +107,7 @@ import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.UpdateCommandResult;
+import org.apache.ignite.internal.tx.message.EnlistedPartitionGroupMessage;
 import org.apache.ignite.internal.tx.message.TxMessagesFactory;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
 import org.apache.ignite.internal.tx.storage.state.test.TestTxStatePartitionStorage;
@@ -579,6 +581,82 @@ class ZonePartitionRaftListenerTest extends BaseIgniteAbstractTest {
         verify(txStatePartitionStorage, never()).lastApplied(anyLong(), anyLong());
     }
 
+    @Test
+    void finishTxCommandSwitchesWriteIntentsOfSinglePartitionTransaction(@Mock RaftTableProcessor tableProcessor) {
+        safeTimeTracker.update(clock.now(), null);
+
+        listener.addTableProcessor(TABLE_ID, tableProcessor);
+
+        FinishTxCommand command = singlePartitionCommitCommand(TestTransactionIds.newTransactionId());
+
+        listener.onWrite(List.of(
+                writeCommandClosure(3, 2, command)
+        ).iterator());
+
+        verify(tableProcessor).processCommand(any(WriteIntentSwitchCommand.class), eq(3L), eq(2L), any());
+
+        assertThat(txStatePartitionStorage.lastAppliedIndex(), is(3L));
+        assertThat(txStatePartitionStorage.lastAppliedTerm(), is(2L));
+    }
+
+    @Test
+    void replayedFinishTxCommandSwitchesWriteIntentsOfVacuumedTransaction(@Mock RaftTableProcessor tableProcessor) {
+        listener.addTableProcessor(TABLE_ID, tableProcessor);
+
+        // The tx state storage has applied the command, and the state of the transaction has been vacuumed since then.
+        txStatePartitionStorage.lastApplied(10L, 2L);
+
+        FinishTxCommand command = singlePartitionCommitCommand(TestTransactionIds.newTransactionId());
+
+        listener.onWrite(List.of(
+                writeCommandClosure(3, 2, command)
+        ).iterator());
+
+        verify(tableProcessor).processCommand(any(WriteIntentSwitchCommand.class), eq(3L), eq(2L), any());
+    }
+
+    @Test
+    void replayedFinishTxCommandSkipsWriteIntentsOfTransactionFinishedWithAnotherOutcome(@Mock RaftTableProcessor tableProcessor) {
+        listener.addTableProcessor(TABLE_ID, tableProcessor);
+
+        txStatePartitionStorage.lastApplied(10L, 2L);
+
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        // The transaction has been aborted by the recovery before the commit command was applied.
+        FinishTxCommand abortCommand = PARTITION_REPLICATION_MESSAGES_FACTORY.finishTxCommandV2()
+                .txId(txId)
+                .initiatorTime(clock.now())
+                .commit(false)
+                .partitions(List.of(commitPartition()))
+                .build();
+
+        listener.onWrite(List.of(
+                writeCommandClosure(3, 2, abortCommand),
+                writeCommandClosure(4, 2, singlePartitionCommitCommand(txId))
+        ).iterator());
+
+        verify(tableProcessor, never()).processCommand(any(WriteIntentSwitchCommand.class), anyLong(), anyLong(), any());
+    }
+
+    private FinishTxCommand singlePartitionCommitCommand(UUID txId) {
+        return PARTITION_REPLICATION_MESSAGES_FACTORY.finishTxCommandV3()
+                .txId(txId)
+                .initiatorTime(clock.now())
+                .commit(true)
+                .commitTimestamp(clock.now())
+                .partitions(List.of(commitPartition()))
+                .switchWriteIntents(true)
+                .build();
+    }
+
+    private static EnlistedPartitionGroupMessage commitPartition() {
+        return TX_MESSAGES_FACTORY.enlistedPartitionGroupMessage()
+                .groupId(toZonePartitionIdMessage(REPLICA_MESSAGES_FACTORY, new ZonePartitionId(ZONE_ID, PARTITION_ID)))
+                .tableIds(Set.of(TABLE_ID))
+                .build();
+    }
+
     private void mockCatalogForUpdateExecution() {
         Catalog catalog = mock(Catalog.class);
         when(catalogService.activeCatalog(anyLong())).thenReturn(catalog);
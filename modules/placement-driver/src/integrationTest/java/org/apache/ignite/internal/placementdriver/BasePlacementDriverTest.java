@@ -75,7 +75,11 @@ abstract class BasePlacementDriverTest extends IgniteAbstractTest {
         return grpPart0;
     }
 
-    protected static @Nullable Lease leaseFromBytes(byte[] bytes, ReplicationGroupId groupId) {
+    protected static @Nullable Lease leaseFromBytes(byte @Nullable [] bytes, ReplicationGroupId groupId) {
+        if (bytes == null) {
+            return null;
+        }
+
         LeaseBatch leaseBatch = LeaseBatch.fromBytes(bytes);
 
         return leaseBatch.leases().stream()
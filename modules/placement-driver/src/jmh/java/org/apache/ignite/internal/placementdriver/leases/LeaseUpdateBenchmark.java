@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.placementdriver.leases;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.placementdriver.leases.LeaseShards.shardKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of a single lease update when all leases are stored under one meta storage key with the cost of the same update
+ * when leases are split into {@link LeaseShards shards}. Both the serialization on the placement driver side and the deserialization on
+ * the lease tracker side are measured, the number of bytes written per update is reported as an auxiliary counter.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class LeaseUpdateBenchmark {
+    private static final int ZONE_ID = 1;
+
+    @Param({"1000", "10000", "50000"})
+    private int partitionCount;
+
+    private final List<Lease> leases = new ArrayList<>();
+
+    private Leases shardedLeases;
+
+    private int nextPartition;
+
+    /** Bytes written to the meta storage by a single update. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WrittenBytes {
+        public long bytesWritten;
+
+        /** Resets the counter before every iteration. */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesWritten = 0;
+        }
+    }
+
+    /** Creates the leases. */
+    @Setup
+    public void setUp() {
+        HybridTimestamp startTime = new HybridTimestamp(1_000_000, 0);
+        HybridTimestamp expirationTime = new HybridTimestamp(2_000_000, 0);
+
+        leases.clear();
+
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            leases.add(new Lease(
+                    "node-" + partitionId % 3,
+                    new UUID(0, partitionId % 3),
+                    startTime,
+                    expirationTime,
+                    true,
+                    true,
+                    null,
+                    new ZonePartitionId(ZONE_ID, partitionId)
+            ));
+        }
+
+        shardedLeases = Leases.of(leases);
+    }
+
+    /** Prolongs a single lease and rewrites all the leases, as it happens when they are stored under one key. */
+    @Benchmark
+    public LeaseBatch fullBatch(WrittenBytes counters) {
+        int partitionId = nextPartition();
+
+        List<Lease> updated = new ArrayList<>(leases);
+
+        updated.set(partitionId, prolong(updated.get(partitionId)));
+
+        byte[] bytes = new LeaseBatch(updated).bytes();
+
+        counters.bytesWritten += bytes.length;
+
+        return LeaseBatch.fromBytes(bytes);
+    }
+
+    /** Prolongs a single lease and rewrites only the shard it belongs to. */
+    @Benchmark
+    public Leases sharded(WrittenBytes counters) {
+        int partitionId = nextPartition();
+
+        Lease lease = leases.get(partitionId);
+
+        ByteArray key = shardKey(lease.replicationGroupId());
+
+        List<Lease> shardLeases = new ArrayList<>(shardedLeases.shardByKey().get(key).leaseByGroupId().values());
+
+        shardLeases.replaceAll(l -> l.replicationGroupId().equals(lease.replicationGroupId()) ? prolong(l) : l);
+
+        byte[] bytes = LeaseShard.of(shardLeases).bytes();
+
+        counters.bytesWritten += bytes.length;
+
+        return shardedLeases.update(Map.of(key, LeaseShard.fromBytes(bytes)));
+    }
+
+    private int nextPartition() {
+        int partitionId = nextPartition;
+
+        nextPartition = (partitionId + 1) % partitionCount;
+
+        return partitionId;
+    }
+
+    private static Lease prolong(Lease lease) {
+        return lease.prolongLease(lease.getExpirationTime().addPhysicalTime(1_000));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws RunnerException if something goes wrong
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(".*" + LeaseUpdateBenchmark.class.getSimpleName() + ".*")
+                .build()
+        ).run();
+    }
+}
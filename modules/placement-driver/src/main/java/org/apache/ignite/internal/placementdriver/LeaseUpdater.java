@@ -22,24 +22,22 @@ import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.NULL_HYBRID_TIMESTAMP;
 import static org.apache.ignite.internal.metastorage.dsl.Conditions.notExists;
-import static org.apache.ignite.internal.metastorage.dsl.Conditions.or;
 import static org.apache.ignite.internal.metastorage.dsl.Conditions.value;
-import static org.apache.ignite.internal.metastorage.dsl.Operations.noop;
 import static org.apache.ignite.internal.metastorage.dsl.Operations.put;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.remove;
 import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
 import static org.apache.ignite.internal.placementdriver.leases.Lease.emptyLease;
+import static org.apache.ignite.internal.placementdriver.leases.LeaseShards.shardKey;
 import static org.apache.ignite.internal.util.CollectionUtils.union;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -51,11 +49,13 @@ import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.ByteArray;
-import org.apache.ignite.internal.lang.IgniteTuple3;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metastorage.dsl.Condition;
+import org.apache.ignite.internal.metastorage.dsl.Conditions;
+import org.apache.ignite.internal.metastorage.dsl.Operation;
 import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.network.NetworkMessage;
@@ -64,6 +64,8 @@ import org.apache.ignite.internal.partitiondistribution.Assignment;
 import org.apache.ignite.internal.partitiondistribution.TokenizedAssignments;
 import org.apache.ignite.internal.placementdriver.leases.Lease;
 import org.apache.ignite.internal.placementdriver.leases.LeaseBatch;
+import org.apache.ignite.internal.placementdriver.leases.LeaseShard;
+import org.apache.ignite.internal.placementdriver.leases.LeaseShards;
 import org.apache.ignite.internal.placementdriver.leases.LeaseTracker;
 import org.apache.ignite.internal.placementdriver.leases.Leases;
 import org.apache.ignite.internal.placementdriver.message.PlacementDriverActorMessage;
@@ -251,24 +253,16 @@ public class LeaseUpdater {
 
         Leases leasesCurrent = leaseTracker.leasesLatest();
 
-        Collection<Lease> currentLeases = leasesCurrent.leaseByGroupId().values();
+        Lease currentLease = leasesCurrent.lease(grpId);
 
-        ByteArray key = PLACEMENTDRIVER_LEASES_KEY;
-
-        IgniteTuple3<List<Lease>, Boolean, Boolean> renewedLeasesTup = replaceProlongableLeaseInCollection(currentLeases, deniedLease);
-
-        if (!renewedLeasesTup.get3()) {
+        if (currentLease == null) {
             // If lease not found, return current time: the lease that don't exist can't be denied.
             return completedFuture(clockService.now());
-        } else if (!renewedLeasesTup.get2()) {
+        } else if (!currentLease.getStartTime().equals(deniedLease.getStartTime()) || !currentLease.isProlongable()) {
             // If lease was not replaced, return null: the operation may be retried by caller.
             return nullCompletedFuture();
         } else {
-            return msManager.invoke(
-                    or(notExists(key), value(key).eq(leasesCurrent.leasesBytes())),
-                    put(key, new LeaseBatch(renewedLeasesTup.get1()).bytes()),
-                    noop()
-            ).thenApply(res -> {
+            return writeLeases(leasesCurrent, Map.of(grpId, deniedLease), Set.of(), Map.of()).thenApply(res -> {
                 if (res) {
                     return deniedLease.getExpirationTime();
                 } else {
@@ -278,28 +272,82 @@ public class LeaseUpdater {
         }
     }
 
-    private static IgniteTuple3<List<Lease>, Boolean, Boolean> replaceProlongableLeaseInCollection(
-            Collection<Lease> leases,
-            Lease newLease
+    /**
+     * Writes changed leases to Meta storage. Only the {@link LeaseShards shards} that contain changed leases are rewritten, and the
+     * update is only applied if all of them are still the same as in {@code leasesCurrent}, so that a concurrent update is not lost.
+     *
+     * @param leasesCurrent Leases the changes are based on.
+     * @param changedLeases New leases by replication group.
+     * @param removedGroups Replication groups whose leases are to be removed.
+     * @param piggybackLeases New leases that are only written if their shards are rewritten anyway.
+     * @return Future that completes with {@code true} if the leases have been written, or with {@code false} if {@code leasesCurrent}
+     *      is outdated.
+     */
+    private CompletableFuture<Boolean> writeLeases(
+            Leases leasesCurrent,
+            Map<ReplicationGroupId, Lease> changedLeases,
+            Set<ReplicationGroupId> removedGroups,
+            Map<ReplicationGroupId, Lease> piggybackLeases
     ) {
-        List<Lease> renewedLeases = new ArrayList<>();
-        boolean replaced = false;
-        boolean found = false;
+        LeaseShard legacyShard = leasesCurrent.legacyShard();
 
-        for (Lease ls : leases) {
-            if (ls.replicationGroupId().equals(newLease.replicationGroupId())) {
-                found = true;
+        Map<ByteArray, Map<ReplicationGroupId, Lease>> shards = new HashMap<>();
 
-                if (ls.getStartTime().equals(newLease.getStartTime()) && ls.isProlongable()) {
-                    renewedLeases.add(newLease);
-                    replaced = true;
-                }
-            } else {
-                renewedLeases.add(ls);
+        if (legacyShard != null) {
+            // The leases are stored by an older version under a single key, all of them are moved to the shards.
+            LeaseShards.groupByShard(leasesCurrent.leaseByGroupId().values())
+                    .forEach((key, leases) -> shards.put(key, toMap(leases)));
+        }
+
+        for (ReplicationGroupId grpId : union(changedLeases.keySet(), removedGroups)) {
+            shards.computeIfAbsent(shardKey(grpId), key -> {
+                LeaseShard shard = leasesCurrent.shardByKey().get(key);
+
+                return shard == null ? new HashMap<>() : new HashMap<>(shard.leaseByGroupId());
+            });
+        }
+
+        changedLeases.forEach((grpId, lease) -> shards.get(shardKey(grpId)).put(grpId, lease));
+        removedGroups.forEach(grpId -> shards.get(shardKey(grpId)).remove(grpId));
+
+        piggybackLeases.forEach((grpId, lease) -> {
+            Map<ReplicationGroupId, Lease> shard = shards.get(shardKey(grpId));
+
+            if (shard != null && shard.containsKey(grpId)) {
+                shard.put(grpId, lease);
             }
+        });
+
+        List<Condition> conditions = new ArrayList<>();
+        List<Operation> operations = new ArrayList<>();
+
+        shards.forEach((key, leases) -> {
+            LeaseShard currentShard = leasesCurrent.shardByKey().get(key);
+
+            conditions.add(currentShard == null ? notExists(key) : value(key).eq(currentShard.bytes()));
+            operations.add(leases.isEmpty() ? remove(key) : put(key, new LeaseBatch(leases.values()).bytes()));
+        });
+
+        if (legacyShard != null) {
+            conditions.add(value(PLACEMENTDRIVER_LEASES_KEY).eq(legacyShard.bytes()));
+            operations.add(remove(PLACEMENTDRIVER_LEASES_KEY));
+        }
+
+        if (operations.isEmpty()) {
+            return trueCompletedFuture();
+        }
+
+        return msManager.invoke(conditions.stream().reduce(Conditions::and).orElseThrow(), operations, List.of());
+    }
+
+    private static Map<ReplicationGroupId, Lease> toMap(List<Lease> leases) {
+        Map<ReplicationGroupId, Lease> leaseByGroupId = new HashMap<>();
+
+        for (Lease lease : leases) {
+            leaseByGroupId.put(lease.replicationGroupId(), lease);
         }
 
-        return new IgniteTuple3<>(renewedLeases, replaced, found);
+        return leaseByGroupId;
     }
 
     /**
@@ -420,7 +468,7 @@ public class LeaseUpdater {
 
             Leases leasesCurrent = leaseTracker.leasesLatest();
             Map<ReplicationGroupId, LeaseAgreement> toBeNegotiated = new HashMap<>();
-            Map<ReplicationGroupId, Lease> renewedLeases = new HashMap<>(leasesCurrent.leaseByGroupId().size());
+            Map<ReplicationGroupId, Lease> renewedLeases = new HashMap<>();
 
             Map<ReplicationGroupId, TokenizedAssignments> tokenizedStableAssignmentsMap = assignmentsTracker.stableAssignments();
             Map<ReplicationGroupId, TokenizedAssignments> tokenizedPendingAssignmentsMap = assignmentsTracker.pendingAssignments();
@@ -449,7 +497,7 @@ public class LeaseUpdater {
                 Set<Assignment> stableAssignments = entry.getValue().getFirst();
                 Set<Assignment> pendingAssignments = entry.getValue().getSecond();
 
-                Lease lease = requireNonNullElse(leasesCurrent.leaseByGroupId().get(grpId), emptyLease(grpId));
+                Lease lease = requireNonNullElse(leasesCurrent.lease(grpId), emptyLease(grpId));
 
                 if (!lease.isAccepted()) {
                     LeaseAgreement agreement = leaseNegotiator.getAndRemoveIfReady(grpId);
@@ -522,42 +570,38 @@ public class LeaseUpdater {
                 }
             }
 
-            ByteArray key = PLACEMENTDRIVER_LEASES_KEY;
+            Set<ReplicationGroupId> removedGroups = new HashSet<>();
 
-            // This condition allows to skip the meta storage invoke when there are no leases to update (renewedLeases.isEmpty()).
-            // However there is the case when we need to save empty leases collection: when the assignments are empty and
-            // leasesCurrent (those that reflect the meta storage state) is not empty. The negation of this condition gives us
-            // the condition to skip the update and the result is:
-            // !(emptyAssignments && !leasesCurrent.isEmpty()) == (!emptyAssignments || leasesCurrent.isEmpty())
-            boolean emptyAssignments = aggregatedStableAndPendingAssignmentsByGroups.isEmpty();
-            if (renewedLeases.isEmpty() && (!emptyAssignments || leasesCurrent.leaseByGroupId().isEmpty())) {
+            for (Lease lease : leasesCurrent.leaseByGroupId().values()) {
+                ReplicationGroupId groupId = lease.replicationGroupId();
+
+                if (!renewedLeases.containsKey(groupId)
+                        && clockService.before(lease.getExpirationTime(), currentTime)
+                        && !groupsAmongCurrentStableAndPendingAssignments.contains(groupId)) {
+                    removedGroups.add(groupId);
+                }
+            }
+
+            if (renewedLeases.isEmpty() && removedGroups.isEmpty() && leasesCurrent.legacyShard() == null) {
                 LOG.debug("No leases to update found.");
                 return;
             }
 
-            leasesCurrent.leaseByGroupId().forEach(renewedLeases::putIfAbsent);
+            removedGroups.forEach(leaseNegotiator::cancelAgreement);
 
-            for (Iterator<Entry<ReplicationGroupId, Lease>> iter = renewedLeases.entrySet().iterator(); iter.hasNext(); ) {
-                Map.Entry<ReplicationGroupId, Lease> entry = iter.next();
-                ReplicationGroupId groupId = entry.getKey();
-                Lease lease = entry.getValue();
+            // Leases that are far from expiration don't cause writes on their own, they are only prolonged along with the other leases
+            // of their shards.
+            Map<ReplicationGroupId, Lease> prolongedLeases = new HashMap<>();
 
-                if (clockService.before(lease.getExpirationTime(), currentTime)
-                        && !groupsAmongCurrentStableAndPendingAssignments.contains(groupId)) {
-                    iter.remove();
-                    leaseNegotiator.cancelAgreement(groupId);
-                } else if (prolongableLeaseGroupIds.contains(groupId)) {
-                    entry.setValue(prolongLease(lease, newExpirationTimestamp));
+            for (ReplicationGroupId groupId : prolongableLeaseGroupIds) {
+                Lease lease = leasesCurrent.lease(groupId);
+
+                if (lease != null) {
+                    prolongedLeases.put(groupId, prolongLease(lease, newExpirationTimestamp));
                 }
             }
 
-            byte[] renewedValue = new LeaseBatch(renewedLeases.values()).bytes();
-
-            msManager.invoke(
-                    or(notExists(key), value(key).eq(leasesCurrent.leasesBytes())),
-                    put(key, renewedValue),
-                    noop()
-            ).whenComplete((success, e) -> {
+            writeLeases(leasesCurrent, renewedLeases, removedGroups, prolongedLeases).whenComplete((success, e) -> {
                 long duration = FastTimestamps.coarseCurrentTimeMillis() - currentTime.getPhysical();
 
                 if (duration > leaseExpirationInterval) {
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.placementdriver.leases;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.ignite.internal.util.IgniteUtils.newHashMap;
+
+import java.util.Collection;
+import java.util.Map;
+import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/** Leases stored under a single meta storage key, along with their serialized form. */
+public class LeaseShard {
+    private final Map<ReplicationGroupId, Lease> leaseByGroupId;
+
+    @IgniteToStringExclude
+    private final byte[] bytes;
+
+    private LeaseShard(Map<ReplicationGroupId, Lease> leaseByGroupId, byte[] bytes) {
+        this.leaseByGroupId = leaseByGroupId;
+        this.bytes = bytes;
+    }
+
+    /** Creates a shard out of the leases, serializing them. */
+    public static LeaseShard of(Collection<Lease> leases) {
+        return new LeaseShard(toMap(leases), new LeaseBatch(leases).bytes());
+    }
+
+    /** Deserializes a shard. */
+    public static LeaseShard fromBytes(byte[] bytes) {
+        return new LeaseShard(toMap(LeaseBatch.fromBytes(bytes).leases()), bytes);
+    }
+
+    private static Map<ReplicationGroupId, Lease> toMap(Collection<Lease> leases) {
+        Map<ReplicationGroupId, Lease> leaseByGroupId = newHashMap(leases.size());
+
+        for (Lease lease : leases) {
+            leaseByGroupId.put(lease.replicationGroupId(), lease);
+        }
+
+        return leaseByGroupId;
+    }
+
+    /** Returns the lease of the group, {@code null} if the shard doesn't contain it. */
+    public @Nullable Lease lease(ReplicationGroupId groupId) {
+        return leaseByGroupId.get(groupId);
+    }
+
+    /** Returns leases of the shard grouped by replication group. */
+    public Map<ReplicationGroupId, Lease> leaseByGroupId() {
+        return unmodifiableMap(leaseByGroupId);
+    }
+
+    /** Returns the serialized shard, exactly as it is stored in the meta storage. */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(LeaseShard.class, this);
+    }
+}
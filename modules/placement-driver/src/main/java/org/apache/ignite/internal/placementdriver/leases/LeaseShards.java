@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.placementdriver.leases;
+
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.replicator.PartitionGroupId;
+import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+
+/**
+ * Layout of the leases in the meta storage.
+ *
+ * <p>Leases are split into shards, every shard is a {@link LeaseBatch} stored under its own key. A shard contains leases of up to
+ * {@link #PARTITIONS_PER_SHARD} consecutive partitions of the same zone (or table). This way a lease update only rewrites the shards that
+ * contain the changed leases, instead of all leases of the cluster, and watchers only parse the rewritten shards.
+ *
+ * <p>Older versions stored all leases as a single batch under the {@link #isLegacyKey legacy key}. Such batch is still read, and it is
+ * moved to the shards by the first lease update.
+ */
+public final class LeaseShards {
+    /** Maximum number of partitions of a zone (or a table) whose leases are stored under the same key. */
+    public static final int PARTITIONS_PER_SHARD = 32;
+
+    private static final String SHARD_KEY_PREFIX = "placementdriver.leases.";
+
+    /**
+     * Exclusive upper bound of the key range that contains both the legacy key and the shard keys: shard keys only differ from the legacy
+     * key by the suffix that starts with {@code '.'}, and {@code '/'} is the next character.
+     */
+    public static final ByteArray LEASE_KEYS_END = ByteArray.fromString("placementdriver.leases/");
+
+    private LeaseShards() {
+    }
+
+    /**
+     * Returns the key of the shard the lease of the group is stored in.
+     *
+     * @param groupId Replication group ID, must be a {@link PartitionGroupId}.
+     */
+    public static ByteArray shardKey(ReplicationGroupId groupId) {
+        assert groupId instanceof PartitionGroupId : groupId;
+
+        var partitionGroupId = (PartitionGroupId) groupId;
+
+        // Table and zone IDs may coincide, so the type of the group is a part of the key.
+        char type = groupId instanceof TablePartitionId ? 't' : 'z';
+
+        return ByteArray.fromString(
+                SHARD_KEY_PREFIX + type + partitionGroupId.objectId() + '.' + partitionGroupId.partitionId() / PARTITIONS_PER_SHARD
+        );
+    }
+
+    /** Returns {@code true} if the key is the key all leases were stored under by older versions. */
+    public static boolean isLegacyKey(ByteArray key) {
+        return PLACEMENTDRIVER_LEASES_KEY.equals(key);
+    }
+
+    /** Groups the leases by the keys of the shards they belong to. */
+    public static Map<ByteArray, List<Lease>> groupByShard(Collection<Lease> leases) {
+        Map<ByteArray, List<Lease>> leasesByShard = new HashMap<>();
+
+        for (Lease lease : leases) {
+            leasesByShard.computeIfAbsent(shardKey(lease.replicationGroupId()), k -> new ArrayList<>()).add(lease);
+        }
+
+        return leasesByShard;
+    }
+}
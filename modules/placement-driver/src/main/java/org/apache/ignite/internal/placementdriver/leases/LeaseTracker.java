@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.placementdriver.leases;
 
-import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
@@ -28,14 +27,15 @@ import static org.apache.ignite.internal.placementdriver.Utils.extractZoneIdFrom
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_ELECTED;
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_EXPIRED;
 import static org.apache.ignite.internal.placementdriver.leases.Lease.emptyLease;
-import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+import static org.apache.ignite.internal.placementdriver.leases.LeaseShards.LEASE_KEYS_END;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockAsync;
-import static org.apache.ignite.internal.util.IgniteUtils.newHashMap;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,10 +52,12 @@ import org.apache.ignite.internal.distributionzones.exception.EmptyDataNodesExce
 import org.apache.ignite.internal.event.AbstractEventProducer;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.EntryEvent;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.WatchEvent;
 import org.apache.ignite.internal.metastorage.WatchListener;
@@ -67,6 +69,7 @@ import org.apache.ignite.internal.placementdriver.ReplicaMeta;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.internal.util.PendingIndependentComparableValuesTracker;
@@ -90,8 +93,8 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
     /** Prevents double stopping of the tracker. */
     private final AtomicBoolean stopGuard = new AtomicBoolean();
 
-    /** Leases cache. */
-    private volatile Leases leases = new Leases(emptyMap(), BYTE_EMPTY_ARRAY);
+    /** Leases cache, updated incrementally: only the shards changed by a meta storage update are parsed. */
+    private volatile Leases leases = Leases.EMPTY;
 
     /** Map of primary replica waiters. */
     private final Map<ReplicationGroupId, PendingIndependentComparableValuesTracker<HybridTimestamp, ReplicaMeta>> primaryReplicaWaiters
@@ -137,7 +140,8 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
         inBusyLock(busyLock, () -> {
             LOG.info("Starting lease tracker recovery [revision={}].", recoveryRevision);
 
-            msManager.registerExactWatch(PLACEMENTDRIVER_LEASES_KEY, updateListener);
+            // Covers both the shards and the key all leases were stored under by older versions.
+            msManager.registerRangeWatch(PLACEMENTDRIVER_LEASES_KEY, LEASE_KEYS_END, updateListener);
 
             loadLeasesBusyAsync(recoveryRevision);
         });
@@ -175,7 +179,7 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
 
         assert leases != null : "Leases not initialized, probably the local placement driver actor hasn't started lease tracking.";
 
-        Lease lease = leases.leaseByGroupId().get(grpId);
+        Lease lease = leases.lease(grpId);
 
         return lease == null ? emptyLease(grpId) : lease;
     }
@@ -194,44 +198,42 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
 
                 long eventRevision = event.revision();
 
-                byte[] leasesBytes = event.entryEvent().newEntry().value();
+                Map<ByteArray, LeaseShard> changedShards = new HashMap<>();
 
-                assert leasesBytes != null;
+                for (EntryEvent entryEvent : event.entryEvents()) {
+                    Entry entry = entryEvent.newEntry();
 
-                LeaseBatch leaseBatch = LeaseBatch.fromBytes(leasesBytes);
+                    byte[] shardBytes = entry.value();
 
-                Map<ReplicationGroupId, Lease> newLeasesMap = newHashMap(leaseBatch.leases().size());
-
-                Map<ReplicationGroupId, Lease> previousLeasesMap = leases.leaseByGroupId();
+                    changedShards.put(new ByteArray(entry.key()), shardBytes == null ? null : LeaseShard.fromBytes(shardBytes));
+                }
 
-                for (Lease newLease : leaseBatch.leases()) {
-                    ReplicationGroupId grpId = newLease.replicationGroupId();
+                Leases previousLeases = leases;
 
-                    newLeasesMap.put(grpId, newLease);
+                Leases newLeases = previousLeases.update(changedShards);
 
-                    if (newLease.isAccepted()) {
-                        getOrCreatePrimaryReplicaWaiter(grpId).update(newLease.getExpirationTime(), newLease);
-                    }
+                // Only the groups of the changed shards are checked, leases of the other groups are the same.
+                Set<ReplicationGroupId> changedGroups = new HashSet<>();
 
-                    Lease previousLease = previousLeasesMap.get(grpId);
-
-                    enqueuePrimaryReplicaEvents(eventsToFire, previousLease, newLease, eventRevision);
+                for (ByteArray key : changedShards.keySet()) {
+                    collectGroupIds(previousLeases, key, changedGroups);
+                    collectGroupIds(newLeases, key, changedGroups);
                 }
 
-                // Check leases that were not present in the new update.
-                for (Map.Entry<ReplicationGroupId, Lease> e : previousLeasesMap.entrySet()) {
-                    ReplicationGroupId grpId = e.getKey();
+                for (ReplicationGroupId grpId : changedGroups) {
+                    Lease previousLease = previousLeases.lease(grpId);
+                    Lease newLease = newLeases.lease(grpId);
 
-                    if (!newLeasesMap.containsKey(grpId)) {
+                    if (newLease == null) {
                         tryRemoveTracker(grpId);
-
-                        Lease previousLease = e.getValue();
-
-                        enqueuePrimaryReplicaEvents(eventsToFire, previousLease, null, eventRevision);
+                    } else if (newLease.isAccepted()) {
+                        getOrCreatePrimaryReplicaWaiter(grpId).update(newLease.getExpirationTime(), newLease);
                     }
+
+                    enqueuePrimaryReplicaEvents(eventsToFire, previousLease, newLease, eventRevision);
                 }
 
-                leases = new Leases(newLeasesMap, leasesBytes);
+                leases = newLeases;
 
                 var eventFutures = new CompletableFuture<?>[eventsToFire.size()];
 
@@ -244,6 +246,14 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
         }
     }
 
+    private static void collectGroupIds(Leases leases, ByteArray shardKey, Set<ReplicationGroupId> groupIds) {
+        LeaseShard shard = leases.shardByKey().get(shardKey);
+
+        if (shard != null) {
+            groupIds.addAll(shard.leaseByGroupId().keySet());
+        }
+    }
+
     private void enqueuePrimaryReplicaEvents(
             List<Supplier<CompletableFuture<?>>> eventsQueue,
             @Nullable Lease previousLease,
@@ -310,7 +320,7 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
                                         throw new PrimaryReplicaAwaitTimeoutException(
                                                 groupId,
                                                 timestamp,
-                                                leases.leaseByGroupId().get(groupId),
+                                                leases.lease(groupId),
                                                 e
                                         );
                                     })
@@ -434,32 +444,26 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
     }
 
     private void loadLeasesBusyAsync(long recoveryRevision) {
-        Entry entry = msManager.getLocally(PLACEMENTDRIVER_LEASES_KEY, recoveryRevision);
-
-        if (entry.empty() || entry.tombstone()) {
-            leases = new Leases(Map.of(), BYTE_EMPTY_ARRAY);
-        } else {
-            byte[] leasesBytes = entry.value();
-
-            assert leasesBytes != null;
-
-            LeaseBatch leaseBatch = LeaseBatch.fromBytes(leasesBytes);
+        Map<ByteArray, LeaseShard> shardByKey = new HashMap<>();
 
-            Map<ReplicationGroupId, Lease> leasesMap = newHashMap(leaseBatch.leases().size());
+        try (Cursor<Entry> cursor = msManager.getLocally(PLACEMENTDRIVER_LEASES_KEY, LEASE_KEYS_END, recoveryRevision)) {
+            for (Entry entry : cursor) {
+                byte[] shardBytes = entry.value();
 
-            leaseBatch.leases().forEach(lease -> {
-                ReplicationGroupId grpId = lease.replicationGroupId();
-
-                leasesMap.put(grpId, lease);
-
-                if (lease.isAccepted()) {
-                    getOrCreatePrimaryReplicaWaiter(grpId).update(lease.getExpirationTime(), lease);
+                if (shardBytes != null) {
+                    shardByKey.put(new ByteArray(entry.key()), LeaseShard.fromBytes(shardBytes));
                 }
-            });
-
-            leases = new Leases(leasesMap, leasesBytes);
+            }
         }
 
+        leases = new Leases(shardByKey);
+
+        leases.leaseByGroupId().forEach((grpId, lease) -> {
+            if (lease.isAccepted()) {
+                getOrCreatePrimaryReplicaWaiter(grpId).update(lease.getExpirationTime(), lease);
+            }
+        });
+
         LOG.info("Leases cache recovered [revision={}, leases={}]", recoveryRevision, leases);
     }
 
@@ -18,44 +18,131 @@
 package org.apache.ignite.internal.placementdriver.leases;
 
 import static java.util.Collections.unmodifiableMap;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 
-/** Leases received from the metastore. */
+/**
+ * Leases received from the metastore, indexed by the keys of the {@link LeaseShards shards} they are stored in.
+ *
+ * <p>The instance is immutable. An update of some shards produces a new instance that shares the unchanged shards with the previous one,
+ * so the cost of an update is proportional to the size of the changed shards rather than to the total number of leases.
+ */
 public class Leases {
-    private final Map<ReplicationGroupId, Lease> leaseByGroupId;
+    /** No leases. */
+    public static final Leases EMPTY = new Leases(Map.of());
 
     @IgniteToStringExclude
-    private final byte[] leasesBytes;
+    private final Map<ByteArray, LeaseShard> shardByKey;
+
+    /** Leases of all shards, lazily built on the first request. */
+    private volatile Map<ReplicationGroupId, Lease> leaseByGroupId;
 
     /**
      * The constructor.
      *
-     * @param leaseByGroupId Leases by group map.
-     * @param leasesBytes Serialized leases.
+     * @param shardByKey Shards by their meta storage keys.
      */
-    public Leases(Map<ReplicationGroupId, Lease> leaseByGroupId, byte[] leasesBytes) {
-        assert leaseByGroupId != null;
+    public Leases(Map<ByteArray, LeaseShard> shardByKey) {
+        assert shardByKey != null;
+
+        this.shardByKey = shardByKey;
+    }
+
+    /** Creates an instance out of the leases, splitting them into shards. */
+    public static Leases of(Collection<Lease> leases) {
+        Map<ByteArray, LeaseShard> shardByKey = new HashMap<>();
 
-        this.leaseByGroupId = leaseByGroupId;
-        this.leasesBytes = leasesBytes;
+        for (Map.Entry<ByteArray, List<Lease>> e : LeaseShards.groupByShard(leases).entrySet()) {
+            shardByKey.put(e.getKey(), LeaseShard.of(e.getValue()));
+        }
+
+        return new Leases(shardByKey);
+    }
+
+    /**
+     * Returns an instance with some shards replaced.
+     *
+     * @param changedShards New shards by their keys, a {@code null} value means that the shard has been removed.
+     */
+    public Leases update(Map<ByteArray, LeaseShard> changedShards) {
+        Map<ByteArray, LeaseShard> newShardByKey = new HashMap<>(shardByKey);
+
+        changedShards.forEach((key, shard) -> {
+            if (shard == null) {
+                newShardByKey.remove(key);
+            } else {
+                newShardByKey.put(key, shard);
+            }
+        });
+
+        return new Leases(newShardByKey);
+    }
+
+    /** Returns the lease of the group, {@code null} if there is none. */
+    public @Nullable Lease lease(ReplicationGroupId groupId) {
+        LeaseShard shard = shardByKey.get(LeaseShards.shardKey(groupId));
+
+        Lease lease = shard == null ? null : shard.lease(groupId);
+
+        if (lease == null) {
+            LeaseShard legacyShard = legacyShard();
+
+            if (legacyShard != null) {
+                lease = legacyShard.lease(groupId);
+            }
+        }
+
+        return lease;
     }
 
     /** Returns leases grouped by replication group. */
     public Map<ReplicationGroupId, Lease> leaseByGroupId() {
-        return unmodifiableMap(leaseByGroupId);
+        Map<ReplicationGroupId, Lease> leaseByGroupId = this.leaseByGroupId;
+
+        if (leaseByGroupId == null) {
+            leaseByGroupId = new HashMap<>();
+
+            LeaseShard legacyShard = legacyShard();
+
+            if (legacyShard != null) {
+                leaseByGroupId.putAll(legacyShard.leaseByGroupId());
+            }
+
+            for (Map.Entry<ByteArray, LeaseShard> e : shardByKey.entrySet()) {
+                if (!LeaseShards.isLegacyKey(e.getKey())) {
+                    leaseByGroupId.putAll(e.getValue().leaseByGroupId());
+                }
+            }
+
+            leaseByGroupId = unmodifiableMap(leaseByGroupId);
+
+            this.leaseByGroupId = leaseByGroupId;
+        }
+
+        return leaseByGroupId;
+    }
+
+    /** Returns shards by their meta storage keys, including the {@link #legacyShard() legacy} one. */
+    public Map<ByteArray, LeaseShard> shardByKey() {
+        return unmodifiableMap(shardByKey);
     }
 
-    /** Returns an array of byte leases from the metastore. */
-    public byte[] leasesBytes() {
-        return leasesBytes;
+    /** Returns the batch of leases stored by older versions under a single key, {@code null} if it has been moved to the shards already. */
+    public @Nullable LeaseShard legacyShard() {
+        return shardByKey.get(PLACEMENTDRIVER_LEASES_KEY);
     }
 
     @Override
     public String toString() {
-        return S.toString(this);
+        return S.toString(Leases.class, this, "leases", leaseByGroupId());
     }
 }
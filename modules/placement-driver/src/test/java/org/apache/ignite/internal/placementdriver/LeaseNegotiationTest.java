@@ -17,13 +17,13 @@
 
 package org.apache.ignite.internal.placementdriver;
 
-import static java.util.Collections.emptyList;
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.partitiondistribution.Assignment.forPeer;
 import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.leases.LeaseShards.LEASE_KEYS_END;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
@@ -39,7 +39,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -83,6 +85,7 @@ import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.replicator.configuration.ReplicationConfiguration;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.testframework.log4j2.LogInspector;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.logging.log4j.core.LogEvent;
 import org.jetbrains.annotations.Nullable;
@@ -548,19 +551,19 @@ public class LeaseNegotiationTest extends BaseIgniteAbstractTest {
     }
 
     private Collection<Lease> getAllLeasesFromMs() {
-        CompletableFuture<Entry> f = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+        List<Lease> leases = new ArrayList<>();
 
-        assertThat(f, willSucceedFast());
+        long revision = metaStorageManager.appliedRevision();
 
-        Entry e = f.join();
-
-        if (e.empty()) {
-            return emptyList();
+        try (Cursor<Entry> cursor = metaStorageManager.getLocally(PLACEMENTDRIVER_LEASES_KEY, LEASE_KEYS_END, revision)) {
+            for (Entry e : cursor) {
+                if (e.value() != null) {
+                    leases.addAll(LeaseBatch.fromBytes(e.value()).leases());
+                }
+            }
         }
 
-        LeaseBatch leases = LeaseBatch.fromBytes(e.value());
-
-        return leases.leases();
+        return leases;
     }
 
     private void waitForAcceptedLease() throws InterruptedException {
@@ -23,6 +23,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_ELECTED;
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_EXPIRED;
+import static org.apache.ignite.internal.placementdriver.leases.LeaseShards.shardKey;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrowWithCauseOrSuppressed;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
@@ -32,11 +33,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +58,7 @@ import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.placementdriver.leases.Lease;
 import org.apache.ignite.internal.placementdriver.leases.LeaseBatch;
+import org.apache.ignite.internal.placementdriver.leases.LeaseShards;
 import org.apache.ignite.internal.placementdriver.leases.LeaseTracker;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
@@ -168,6 +172,45 @@ public class LeaseTrackerTest extends BaseIgniteAbstractTest {
                 .until(() -> parametersRef.get() == null);
     }
 
+    @Test
+    void testShardedLeaseCleanup() {
+        AtomicReference<PrimaryReplicaEventParameters> parametersRef = new AtomicReference<>();
+
+        leaseTracker.listen(PRIMARY_REPLICA_EXPIRED, p -> {
+            parametersRef.set(p);
+            return falseCompletedFuture();
+        });
+
+        var partId0 = new ZonePartitionId(0, 0);
+        var partId1 = new ZonePartitionId(0, LeaseShards.PARTITIONS_PER_SHARD);
+
+        assertNotEquals(shardKey(partId0), shardKey(partId1));
+
+        HybridTimestamp startTime = new HybridTimestamp(1, 0);
+        HybridTimestamp expirationTime = new HybridTimestamp(1000, 0);
+
+        Lease lease0 = new Lease("node0", randomUUID(), startTime, expirationTime, partId0).acceptLease(new HybridTimestamp(2000, 0));
+        Lease lease1 = new Lease("node1", randomUUID(), startTime, expirationTime, partId1).acceptLease(new HybridTimestamp(2000, 0));
+
+        assertThat(
+                msManager.putAll(Map.of(
+                        shardKey(partId0), new LeaseBatch(List.of(lease0)).bytes(),
+                        shardKey(partId1), new LeaseBatch(List.of(lease1)).bytes()
+                )),
+                willCompleteSuccessfully()
+        );
+
+        await().until(() -> leaseTracker.getLease(partId0).isAccepted() && leaseTracker.getLease(partId1).isAccepted());
+
+        // Removal of a shard only expires the leases of that shard, the leases of other shards are left intact.
+        assertThat(msManager.remove(shardKey(partId1)), willCompleteSuccessfully());
+
+        await().until(() -> parametersRef.get() != null);
+
+        assertEquals(partId1, parametersRef.get().groupId());
+        assertEquals(lease0, leaseTracker.getLease(partId0));
+    }
+
     /**
      * Tests that when a new replica is elected, an expiration event is always before the next election event.
      */
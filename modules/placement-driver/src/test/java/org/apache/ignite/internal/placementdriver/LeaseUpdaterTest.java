@@ -17,11 +17,9 @@
 
 package org.apache.ignite.internal.placementdriver;
 
-import static java.util.Collections.emptyMap;
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
-import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.ByteUtils.toByteArray;
 import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,6 +37,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,7 +69,6 @@ import org.apache.ignite.internal.metastorage.Entry;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.Revisions;
 import org.apache.ignite.internal.metastorage.dsl.Condition;
-import org.apache.ignite.internal.metastorage.dsl.Operation;
 import org.apache.ignite.internal.metastorage.dsl.OperationImpl;
 import org.apache.ignite.internal.metastorage.impl.EntryImpl;
 import org.apache.ignite.internal.network.ClusterService;
@@ -109,7 +108,7 @@ public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
     private static final String LEASE_UPDATE_TOO_LONG = "Lease update invocation took longer than lease interval";
     private static final long TEST_LEASE_INTERVAL_MILLIS = 100L;
     /** Empty leases. */
-    private final Leases leases = new Leases(emptyMap(), BYTE_EMPTY_ARRAY);
+    private final Leases leases = Leases.EMPTY;
     /** Cluster nodes. */
     private final LogicalNode stableNode = new LogicalNode(randomUUID(), "test-node-stable", NetworkAddress.from("127.0.0.1:10000"));
     private final LogicalNode pendingNode = new LogicalNode(randomUUID(), "test-node-pending", NetworkAddress.from("127.0.0.1:10001"));
@@ -169,26 +168,25 @@ public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
 
         when(topologyService.logicalTopologyOnLeader()).thenReturn(completedFuture(new LogicalTopologySnapshot(1, List.of(stableNode))));
 
-        lenient().when(metaStorageManager.invoke(any(Condition.class), any(Operation.class), any(Operation.class)))
+        lenient().when(metaStorageManager.invoke(any(Condition.class), anyList(), anyList()))
                 .thenAnswer(invocation -> {
                     Consumer<Lease> leaseConsumer = renewLeaseConsumer;
                     Consumer<LeaseBatch> leaseBatchConsumer = renewLeaseBatchConsumer;
 
-                    if (leaseConsumer != null) {
-                        OperationImpl op = invocation.getArgument(1);
+                    List<Lease> writtenLeases = new ArrayList<>();
 
-                        Lease lease = LeaseBatch.fromBytes(toByteArray(op.value())).leases().iterator()
-                                .next();
+                    for (OperationImpl op : invocation.<List<OperationImpl>>getArgument(1)) {
+                        if (op.value() != null) {
+                            writtenLeases.addAll(LeaseBatch.fromBytes(toByteArray(op.value())).leases());
+                        }
+                    }
 
-                        leaseConsumer.accept(lease);
+                    if (leaseConsumer != null) {
+                        leaseConsumer.accept(writtenLeases.iterator().next());
                     }
 
                     if (leaseBatchConsumer != null) {
-                        OperationImpl op = invocation.getArgument(1);
-
-                        LeaseBatch batch = LeaseBatch.fromBytes(toByteArray(op.value()));
-
-                        leaseBatchConsumer.accept(batch);
+                        leaseBatchConsumer.accept(new LeaseBatch(writtenLeases));
                     }
 
                     return trueCompletedFuture();
@@ -408,7 +406,7 @@ public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
         mockStableAssignments(stableAssignmentsByGroup);
         mockPendingAssignments(Map.of());
 
-        Leases currentLeases = new Leases(staleLeasesByGroup, BYTE_EMPTY_ARRAY);
+        Leases currentLeases = Leases.of(staleLeasesByGroup.values());
 
         lenient().when(leaseTracker.leasesLatest()).thenReturn(currentLeases);
         lenient().when(leaseTracker.getLease(any(ReplicationGroupId.class))).thenAnswer(invocation ->
@@ -499,7 +497,7 @@ public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
                 nonExpiredCurrentIdGrpId, nonExpiredLeaseWithCurrentId
         );
 
-        Leases currentLeases = new Leases(leasesByGroup, BYTE_EMPTY_ARRAY);
+        Leases currentLeases = Leases.of(leasesByGroup.values());
 
         lenient().when(leaseTracker.leasesLatest()).thenReturn(currentLeases);
         lenient().when(leaseTracker.getLease(any(ReplicationGroupId.class))).thenAnswer(invocation ->
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.metrics.sources;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
 import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.Metric;
 
 /** Metrics of log manager. */
@@ -74,7 +76,7 @@ public class LogManagerMetricSource extends AbstractMetricSource<LogManagerMetri
      *
      * @param entriesCount Number of entries appended.
      * @param writtenSize Written size in bytes.
-     * @param duration Duration of the append operation.
+     * @param duration Duration of the append operation in microseconds.
      */
     public void onAppendLogs(int entriesCount, int writtenSize, long duration) {
         Holder holder = holder();
@@ -110,10 +112,10 @@ public class LogManagerMetricSource extends AbstractMetricSource<LogManagerMetri
                 "Total size of entries appended to logs"
         );
 
-        private final DistributionMetric appendLogsDuration = new DistributionMetric(
-                "AppendLogsDuration",
-                "Duration of appending logs operation in milliseconds",
-                new long[]{1, 2, 5, 10, 25, 50, 100, 250, 500, 1000}
+        private final HistogramMetric appendLogsDuration = new HistogramMetric(
+                "AppendLogsDurationMicros",
+                "Duration of appending logs operation in microseconds",
+                TimeUnit.SECONDS.toMicros(10)
         );
 
         private final List<Metric> metrics = List.of(
@@ -18,11 +18,13 @@
 package org.apache.ignite.internal.raft.storage;
 
 import java.util.Set;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.components.NoOpLogSyncer;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Log storage manager that manages log storages which are physically colocated (they live in the same Rocks database,
@@ -64,4 +66,12 @@ public interface LogStorageManager extends IgniteComponent {
      * Returns total number of bytes occupied on disk by the log storages managed by this manager.
      */
     long totalBytesOnDisk();
+
+    /**
+     * Returns a source of physical backups of the log storages managed by this manager, {@code null} if the storages can't be backed up
+     * (for example, if they are volatile).
+     */
+    default @Nullable BackupSource backupSource() {
+        return null;
+    }
 }
@@ -31,21 +31,27 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import org.apache.ignite.internal.backup.BackupSnapshot;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.components.NoOpLogSyncer;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.raft.RaftNodeId;
 import org.apache.ignite.internal.raft.storage.LogStorageManager;
 import org.apache.ignite.internal.rocksdb.LoggingRocksDbFlushListener;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.apache.ignite.internal.rocksdb.backup.RocksDbBackupSource;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.storage.LogStorage;
@@ -317,6 +323,62 @@ public class DefaultLogStorageManager implements LogStorageManager {
         return sizeCalculator.totalBytesOnDisk();
     }
 
+    @Override
+    public BackupSource backupSource() {
+        var checkpointSource = new RocksDbBackupSource(factoryName, logPath, () -> db);
+
+        return new BackupSource() {
+            @Override
+            public String name() {
+                return checkpointSource.name();
+            }
+
+            @Override
+            public Path directory() {
+                return checkpointSource.directory();
+            }
+
+            @Override
+            public CompletableFuture<BackupSnapshot> createSnapshot() {
+                // First log indexes only grow, so reading them after the checkpoint is created gives the indexes the checkpoint starts
+                // at or later ones, which is enough to detect a truncated log.
+                return checkpointSource.createSnapshot().thenApply(snapshot -> {
+                    try {
+                        return new BackupSnapshot(snapshot.directory(), snapshot.files(), snapshot, firstLogIndexes());
+                    } catch (RuntimeException e) {
+                        try {
+                            snapshot.close();
+                        } catch (Exception closeException) {
+                            e.addSuppressed(closeException);
+                        }
+
+                        throw e;
+                    }
+                });
+            }
+        };
+    }
+
+    /** Returns first log indexes of the Raft groups whose logs are kept by this manager, by the group ID. */
+    private Map<String, Long> firstLogIndexes() {
+        var firstLogIndexes = new HashMap<String, Long>();
+
+        try {
+            for (String raftNodeStorageId : raftNodeStorageIdsOnDisk()) {
+                long firstLogIndex = RocksDbSharedLogStorage.readFirstLogIndex(db, confHandle, dataHandle, raftNodeStorageId);
+
+                String groupId = RaftNodeId.fromNodeIdStringForStorage(raftNodeStorageId, nodeName).groupIdName();
+
+                // Logs of several peers of the same group are checked against the same applied index, so the latest start matters.
+                firstLogIndexes.merge(groupId, firstLogIndex, Math::max);
+            }
+        } catch (RocksDBException e) {
+            throw new LogStorageException("Fail to read first log indexes", e);
+        }
+
+        return firstLogIndexes;
+    }
+
     /**
      * Returns or creates a thread-local {@link WriteBatch} instance, attached to current factory, for appending data
      * from multiple storages at the same time.
@@ -359,6 +359,46 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         }
     }
 
+    /**
+     * Reads the first log index of a log storage directly from the database, without creating the storage.
+     *
+     * @param db Database.
+     * @param confHandle Configuration column family handle.
+     * @param dataHandle Data column family handle.
+     * @param raftNodeStorageId Raft node storage ID.
+     * @return First log index.
+     */
+    static long readFirstLogIndex(
+            RocksDB db,
+            ColumnFamilyHandle confHandle,
+            ColumnFamilyHandle dataHandle,
+            String raftNodeStorageId
+    ) throws RocksDBException {
+        byte[] startPrefix = raftNodeStorageStartPrefix(raftNodeStorageId);
+
+        byte[] firstLogIndex = db.get(confHandle, createKey(startPrefix, FIRST_LOG_IDX_KEY));
+
+        if (firstLogIndex != null) {
+            return (long) LONG_ARRAY_HANDLE.get(firstLogIndex, 0);
+        }
+
+        try (
+                var upperBound = new Slice(raftNodeStorageEndPrefix(raftNodeStorageId));
+                var readOptions = new ReadOptions().setIterateUpperBound(upperBound);
+                RocksIterator it = db.newIterator(dataHandle, readOptions)
+        ) {
+            it.seek(startPrefix);
+
+            if (it.isValid()) {
+                return (long) LONG_ARRAY_HANDLE.get(extractKey(it.key(), startPrefix), 0);
+            }
+
+            it.status();
+
+            return INITIAL_INDEX;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public long getLastLogIndex() {
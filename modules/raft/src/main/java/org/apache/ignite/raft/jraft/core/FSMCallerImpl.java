@@ -154,8 +154,11 @@ public class FSMCallerImpl implements FSMCaller {
 
     private volatile boolean shuttingDown;
 
+    private final String groupId;
+
     public FSMCallerImpl(MetricManager metricManager, String groupId) {
         super();
+        this.groupId = groupId;
         this.currTask = TaskType.IDLE;
         this.lastAppliedIndex = new AtomicLong(0);
         this.applyingIndex = new AtomicLong(0);
@@ -500,6 +503,8 @@ public class FSMCallerImpl implements FSMCaller {
             return;
         }
         final long startMs = Utils.monotonicMs();
+        final RaftApplyEvent event = new RaftApplyEvent();
+        event.begin();
         try {
             final List<Closure> closures = new ArrayList<>();
             final List<TaskClosure> taskClosures = new ArrayList<>();
@@ -567,6 +572,14 @@ public class FSMCallerImpl implements FSMCaller {
         }
         finally {
             metrics.onFsmCommit(Utils.monotonicMs() - startMs);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.groupId = this.groupId;
+                event.firstIndex = lastAppliedIndex + 1;
+                event.lastIndex = this.lastAppliedIndex.get();
+                event.commit();
+            }
         }
     }
 
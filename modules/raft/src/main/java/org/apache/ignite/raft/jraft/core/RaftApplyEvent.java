@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.ignite.internal.jfr.IgniteEvent;
+
+/** Flight recorder event of applying committed log entries to a state machine in {@link FSMCallerImpl}. */
+@Name(IgniteEvent.NAME_PREFIX + "RaftApply")
+@Label("Raft Apply")
+@Category({IgniteEvent.CATEGORY, "Raft"})
+@Description("Application of a batch of committed log entries to the state machine of a raft group")
+class RaftApplyEvent extends IgniteEvent {
+    @Label("Group ID")
+    String groupId;
+
+    @Label("First Index")
+    long firstIndex;
+
+    @Label("Last Index")
+    long lastIndex;
+}
@@ -95,8 +95,11 @@ public class LogManagerImpl implements LogManager {
     private final CopyOnWriteArrayList<LastLogIndexListener> lastLogIndexListeners = new CopyOnWriteArrayList<>();
     private NodeOptions nodeOptions;
 
+    private final String groupId;
+
     public LogManagerImpl(MetricManager metricManager, String groupId) {
         this.metricManager = metricManager;
+        this.groupId = groupId;
 
         metrics = new LogManagerMetricSource(groupId);
         metricManager.registerSource(metrics);
@@ -408,7 +411,9 @@ public class LogManagerImpl implements LogManager {
     protected LogId appendToStorage(final List<LogEntry> toAppend) {
         LogId lastId = null;
         if (!this.hasError) {
-            final long startMs = Utils.monotonicMs();
+            final long startUs = Utils.monotonicUs();
+            final RaftAppendEvent event = new RaftAppendEvent();
+            event.begin();
             final int entriesCount = toAppend.size();
 
             int writtenSize = 0;
@@ -428,7 +433,15 @@ public class LogManagerImpl implements LogManager {
                 }
             }
             finally {
-                this.metrics.onAppendLogs(entriesCount, writtenSize, Utils.monotonicMs() - startMs);
+                this.metrics.onAppendLogs(entriesCount, writtenSize, Utils.monotonicUs() - startUs);
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.groupId = this.groupId;
+                    event.entries = entriesCount;
+                    event.size = writtenSize;
+                    event.commit();
+                }
             }
         }
         return lastId;
@@ -53,7 +53,7 @@ public class LogManagerMetricSourceTest extends BaseIgniteAbstractTest {
                 "TruncateLogPrefixDuration",
                 "AppendLogsCount",
                 "AppendLogsSize",
-                "AppendLogsDuration"
+                "AppendLogsDurationMicros"
         );
 
         var actualMetrics = new HashSet<String>();
@@ -106,6 +106,7 @@ import org.apache.ignite.internal.replicator.message.TestReplicaMessagesFactory;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.topology.TestLogicalTopologyService;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.network.NetworkAddress;
@@ -242,7 +243,8 @@ public class ItPlacementDriverReplicaSideTest extends IgniteAbstractTest {
                     new VolatileLogStorageManagerCreator(nodeName, workDir.resolve("volatile-log-spillout")),
                     Executors.newSingleThreadScheduledExecutor(),
                     replicaGrpId -> nullCompletedFuture(),
-                    ForkJoinPool.commonPool()
+                    ForkJoinPool.commonPool(),
+                    new RequestTracer()
             );
 
             replicaManagers.put(nodeName, replicaManager);
@@ -126,6 +126,10 @@ import org.apache.ignite.internal.replicator.message.ReplicationGroupIdMessage;
 import org.apache.ignite.internal.replicator.message.TimestampAware;
 import org.apache.ignite.internal.thread.ExecutorChooser;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.RequestTracer;
+import org.apache.ignite.internal.tracing.RequestTracing;
+import org.apache.ignite.internal.tracing.TraceStage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteStripedBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -239,6 +243,8 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
 
     private final Function<ReplicationGroupId, CompletableFuture<VersionedAssignments>> getPendingAssignmentsSupplier;
 
+    private final RequestTracer requestTracer;
+
     /**
      * Constructor for a replica service.
      *
@@ -261,6 +267,7 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
      * @param replicaLifecycleExecutor Executor for asynchronous replicas lifecycle management.
      * @param getPendingAssignmentsSupplier The supplier of pending assignments for rebalance failover purposes.
      * @param throttledLogExecutor Executor to clean up the throttled logger cache.
+     * @param requestTracer Tracer that records spans of sampled replica requests.
      */
     public ReplicaManager(
             ClusterService clusterNetSvc,
@@ -280,7 +287,8 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
             LogStorageManagerCreator volatileLogStorageManagerCreator,
             ScheduledExecutorService replicaLifecycleExecutor,
             Function<ReplicationGroupId, CompletableFuture<VersionedAssignments>> getPendingAssignmentsSupplier,
-            Executor throttledLogExecutor
+            Executor throttledLogExecutor,
+            RequestTracer requestTracer
     ) {
         this.clusterNetSvc = clusterNetSvc;
         this.localNode = clusterNetSvc.staticLocalNode();
@@ -298,6 +306,7 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
         this.raftCommandsMarshaller = raftCommandsMarshaller;
         this.partitionSafeTimeValidator = partitionSafeTimeValidator;
         this.raftGroupServiceFactory = raftGroupServiceFactory;
+        this.requestTracer = requestTracer;
         this.raftManager = raftManager;
         this.partitionRaftConfigurer = partitionRaftConfigurer;
         this.getPendingAssignmentsSupplier = getPendingAssignmentsSupplier;
@@ -329,17 +338,32 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
 
         ReplicaRequest request = (ReplicaRequest) message;
 
+        RequestSpan span = RequestTracing.current() == null ? null : requestTracer.startSpan(request.getClass().getSimpleName());
+
         // If the request actually came from the network, we are already in the correct thread that has permissions to do storage reads
         // and writes.
         // But if this is a local call (in the same Ignite instance), we might still be in a thread that does not have those permissions.
         if (shouldSwitchToRequestsExecutor(STORAGE_READ, STORAGE_WRITE, TX_STATE_STORAGE_ACCESS)) {
-            requestsExecutor.execute(() -> handleReplicaRequest(request, sender, correlationId));
+            long enqueuedNanos = System.nanoTime();
+
+            requestsExecutor.execute(() -> {
+                if (span != null) {
+                    span.record(TraceStage.QUEUE, System.nanoTime() - enqueuedNanos);
+                }
+
+                handleReplicaRequest(request, sender, correlationId, span);
+            });
         } else {
-            handleReplicaRequest(request, sender, correlationId);
+            handleReplicaRequest(request, sender, correlationId, span);
         }
     }
 
-    private void handleReplicaRequest(ReplicaRequest request, InternalClusterNode sender, @Nullable Long correlationId) {
+    private void handleReplicaRequest(
+            ReplicaRequest request,
+            InternalClusterNode sender,
+            @Nullable Long correlationId,
+            @Nullable RequestSpan span
+    ) {
         if (!enterBusy()) {
             if (LOG.isInfoEnabled()) {
                 LOG.info("Failed to process replica request (the node is stopping) [request={}].", request);
@@ -390,6 +414,10 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
             if (replicaFut == null || !replicaFut.isDone()) {
                 sendReplicaUnavailableErrorResponse(senderConsistentId, correlationId, groupId, requestTimestamp, replicaFut == null);
 
+                if (span != null) {
+                    span.end(true);
+                }
+
                 return;
             }
 
@@ -402,7 +430,16 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
             // replicaFut is always completed here.
             Replica replica = replicaFut.join();
 
-            CompletableFuture<ReplicaResult> resFut = replica.processRequest(request, sender.id());
+            // Lock waits, replication and storage updates started by the replica are recorded to the span of the request.
+            RequestSpan previousSpan = RequestTracing.attach(span);
+
+            CompletableFuture<ReplicaResult> resFut;
+
+            try {
+                resFut = replica.processRequest(request, sender.id());
+            } finally {
+                RequestTracing.detach(previousSpan);
+            }
 
             resFut.handle((res, ex) -> {
                 NetworkMessage msg;
@@ -421,6 +458,10 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
 
                 clusterNetSvc.messagingService().respond(senderConsistentId, msg, correlationId);
 
+                if (span != null) {
+                    span.end(ex != null);
+                }
+
                 if (request instanceof PrimaryReplicaRequest && isConnectivityRelatedException(ex)) {
                     LOG.info("The replica does not meet the requirements for the leaseholder [groupId={}].", groupId);
 
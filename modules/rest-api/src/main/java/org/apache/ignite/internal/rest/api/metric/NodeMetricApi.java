@@ -85,4 +85,18 @@ public interface NodeMetricApi {
             content = @Content(mediaType = MediaType.PROBLEM_JSON, schema = @Schema(implementation = Problem.class)))
     @Get("set")
     Collection<MetricSet> listMetricSets();
+
+    /** Expose enabled metrics for scraping. */
+    @Operation(
+            operationId = "scrapeNodeMetrics",
+            summary = "Scrape metrics",
+            description = "Gets values of all enabled metrics in the OpenMetrics text format, which is understood by Prometheus."
+    )
+    @ApiResponse(responseCode = "200", description = "Returned metric values.",
+            content = @Content(mediaType = MediaType.OPENMETRICS_TEXT, schema = @Schema(type = "string")))
+    @ApiResponse(responseCode = "500", description = "Internal error",
+            content = @Content(mediaType = MediaType.PROBLEM_JSON, schema = @Schema(implementation = Problem.class)))
+    @Produces(MediaType.OPENMETRICS_TEXT)
+    @Get("openmetrics")
+    String openMetrics();
 }
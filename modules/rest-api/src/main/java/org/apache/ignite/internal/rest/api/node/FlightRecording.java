@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rest.api.node;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+/**
+ * Flight recording started on a node.
+ */
+@Schema(description = "Flight recording started on a node.")
+public class FlightRecording {
+    @Schema(description = "Path of the recording file on the node. The file is written when the recording is finished.",
+            requiredMode = RequiredMode.REQUIRED)
+    private final String path;
+
+    @Schema(description = "Recording duration in seconds.", requiredMode = RequiredMode.REQUIRED)
+    private final long duration;
+
+    /**
+     * Construct FlightRecording DTO.
+     */
+    @JsonCreator
+    public FlightRecording(@JsonProperty("path") String path,
+            @JsonProperty("duration") long duration) {
+        this.path = path;
+        this.duration = duration;
+    }
+
+    @JsonGetter("path")
+    public String path() {
+        return path;
+    }
+
+    @JsonGetter("duration")
+    public long duration() {
+        return duration;
+    }
+}
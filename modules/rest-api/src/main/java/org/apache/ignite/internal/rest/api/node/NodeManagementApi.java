@@ -19,7 +19,9 @@ package org.apache.ignite.internal.rest.api.node;
 
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -68,4 +70,25 @@ public interface NodeManagementApi {
             content = @Content(mediaType = MediaType.PROBLEM_JSON, schema = @Schema(implementation = Problem.class)))
     @Produces(MediaType.PROBLEM_JSON)
     NodeVersion version();
+
+    @Post("recording")
+    @Operation(
+            operationId = "startFlightRecording",
+            summary = "Start flight recording",
+            description = "Starts a Java Flight Recorder recording on the node with Ignite events enabled. "
+                    + "The recording is saved to the work directory of the node when it is finished."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recording started.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = FlightRecording.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid recording duration.",
+                    content = @Content(mediaType = MediaType.PROBLEM_JSON, schema = @Schema(implementation = Problem.class))),
+            @ApiResponse(responseCode = "500", description = "Internal error.",
+                    content = @Content(mediaType = MediaType.PROBLEM_JSON, schema = @Schema(implementation = Problem.class)))
+    })
+    FlightRecording startFlightRecording(
+            @QueryValue(defaultValue = "60")
+            @Schema(description = "Recording duration in seconds.")
+            long duration
+    );
 }
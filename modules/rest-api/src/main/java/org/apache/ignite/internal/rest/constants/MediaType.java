@@ -43,6 +43,11 @@ public final class MediaType {
      */
     public static final String TEXT_PLAIN = "text/plain";
 
+    /**
+     * application/openmetrics-text media type, the OpenMetrics (Prometheus) text exposition format.
+     */
+    public static final String OPENMETRICS_TEXT = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
     /**
      * multipart/form-data media type.
      */
@@ -209,6 +209,7 @@ class ItMetricControllerTest extends ClusterPerClassIntegrationTest {
                 new MetricSource("thread.pools.striped.messaging.inbound.scalecube", true),
                 new MetricSource("topology.cluster", true),
                 new MetricSource("topology.local", true),
+                new MetricSource("tracing", true),
                 new MetricSource("transactions", true),
                 new MetricSource("zones.Default", true)
         };
@@ -25,6 +25,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.StreamSupport;
 import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.exporters.openmetrics.OpenMetricsFormatter;
 import org.apache.ignite.internal.rest.ResourceHolder;
 import org.apache.ignite.internal.rest.api.metric.Metric;
 import org.apache.ignite.internal.rest.api.metric.MetricSet;
@@ -37,6 +38,8 @@ import org.apache.ignite.internal.rest.metrics.exception.MetricNotFoundException
 public class NodeMetricController implements NodeMetricApi, ResourceHolder {
     private MetricManager metricManager;
 
+    private final OpenMetricsFormatter openMetricsFormatter = new OpenMetricsFormatter();
+
     public NodeMetricController(MetricManager metricManager) {
         this.metricManager = metricManager;
     }
@@ -82,6 +85,11 @@ public class NodeMetricController implements NodeMetricApi, ResourceHolder {
                 .collect(toList());
     }
 
+    @Override
+    public String openMetrics() {
+        return openMetricsFormatter.format(metricManager.metricSnapshot());
+    }
+
     @Override
     public void cleanResources() {
         metricManager = null;
@@ -17,13 +17,19 @@
 
 package org.apache.ignite.internal.rest.node;
 
+import static org.apache.ignite.lang.ErrorGroups.Common.ILLEGAL_ARGUMENT_ERR;
+
 import io.micronaut.http.annotation.Controller;
+import java.nio.file.Path;
+import java.time.Duration;
 import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.rest.RestFactory;
+import org.apache.ignite.internal.rest.api.node.FlightRecording;
 import org.apache.ignite.internal.rest.api.node.NodeInfo;
 import org.apache.ignite.internal.rest.api.node.NodeManagementApi;
 import org.apache.ignite.internal.rest.api.node.NodeState;
 import org.apache.ignite.internal.rest.api.node.NodeVersion;
+import org.apache.ignite.lang.IgniteException;
 
 /**
  * REST endpoint allows to read node state.
@@ -36,13 +42,21 @@ public class NodeManagementController implements NodeManagementApi, RestFactory
 
     private JdbcPortProvider jdbcPortProvider;
 
+    private FlightRecorder flightRecorder;
+
     /**
      * Constructs node management controller.
      */
-    public NodeManagementController(NameProvider nameProvider, StateProvider stateProvider, JdbcPortProvider jdbcPortProvider) {
+    public NodeManagementController(
+            NameProvider nameProvider,
+            StateProvider stateProvider,
+            JdbcPortProvider jdbcPortProvider,
+            FlightRecorder flightRecorder
+    ) {
         this.nameProvider = nameProvider;
         this.stateProvider = stateProvider;
         this.jdbcPortProvider = jdbcPortProvider;
+        this.flightRecorder = flightRecorder;
     }
 
     @Override
@@ -63,10 +77,25 @@ public class NodeManagementController implements NodeManagementApi, RestFactory
                 .build();
     }
 
+    @Override
+    public FlightRecording startFlightRecording(long duration) {
+        if (duration <= 0) {
+            throw new IgniteException(
+                    ILLEGAL_ARGUMENT_ERR,
+                    new IllegalArgumentException("Recording duration must be positive: " + duration)
+            );
+        }
+
+        Path file = flightRecorder.startRecording(Duration.ofSeconds(duration));
+
+        return new FlightRecording(file.toString(), duration);
+    }
+
     @Override
     public void cleanResources() {
         nameProvider = null;
         stateProvider = null;
         jdbcPortProvider = null;
+        flightRecorder = null;
     }
 }
@@ -33,13 +33,21 @@ public class NodeManagementRestFactory implements RestFactory {
 
     private JdbcPortProvider jdbcPortProvider;
 
+    private FlightRecorder flightRecorder;
+
     /**
      * Constructs node management rest factory.
      */
-    public NodeManagementRestFactory(StateProvider stateProvider, NameProvider nameProvider, JdbcPortProvider jdbcPortProvider) {
+    public NodeManagementRestFactory(
+            StateProvider stateProvider,
+            NameProvider nameProvider,
+            JdbcPortProvider jdbcPortProvider,
+            FlightRecorder flightRecorder
+    ) {
         this.stateProvider = stateProvider;
         this.nameProvider = nameProvider;
         this.jdbcPortProvider = jdbcPortProvider;
+        this.flightRecorder = flightRecorder;
     }
 
     @Singleton
@@ -60,10 +68,17 @@ public class NodeManagementRestFactory implements RestFactory {
         return jdbcPortProvider;
     }
 
+    @Singleton
+    @Bean
+    public FlightRecorder flightRecorder() {
+        return flightRecorder;
+    }
+
     @Override
     public void cleanResources() {
         stateProvider = null;
         nameProvider = null;
         jdbcPortProvider = null;
+        flightRecorder = null;
     }
 }
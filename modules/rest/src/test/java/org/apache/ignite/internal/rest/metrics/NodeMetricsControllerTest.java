@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.rest.metrics;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -30,6 +31,7 @@ import io.micronaut.http.client.annotation.Client;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import java.util.Map;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.metrics.MetricSnapshot;
@@ -62,4 +64,20 @@ class NodeMetricsControllerTest extends BaseIgniteAbstractTest {
 
         assertThat(client.toBlocking().retrieve("/set"), is("[{\"name\":\"setName\",\"metrics\":[]}]"));
     }
+
+    @Test
+    void openMetrics() {
+        AtomicLongMetric metric = new AtomicLongMetric("Requests", "Number of requests.");
+        metric.add(5);
+
+        MetricSet metricSet = new MetricSet("client.handler", Map.of(metric.name(), metric));
+
+        when(metricManager.metricSnapshot()).thenReturn(new MetricSnapshot(Map.of(metricSet.name(), metricSet), 1L));
+
+        String exposition = client.toBlocking().retrieve("/openmetrics");
+
+        assertThat(exposition, containsString("# TYPE ignite_client_handler_Requests gauge\n"));
+        assertThat(exposition, containsString("ignite_client_handler_Requests 5\n"));
+        assertThat(exposition, containsString("# EOF\n"));
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.backup;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.backup.BackupSnapshot;
+import org.apache.ignite.internal.backup.BackupSource;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.rocksdb.Checkpoint;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+/**
+ * {@link BackupSource} of a RocksDB instance, based on RocksDB checkpoints.
+ *
+ * <p>A checkpoint flushes the memtables and creates a consistent copy of the database in a sibling directory: SST files, which are
+ * immutable, are hard-linked, so creating the checkpoint is cheap and an unchanged SST keeps its modification time and is not copied
+ * by incremental backups again. The checkpoint directory is removed when the snapshot is closed.
+ */
+public class RocksDbBackupSource implements BackupSource {
+    private static final String CHECKPOINT_DIR_SUFFIX = ".backup";
+
+    private final String name;
+
+    private final Path dbPath;
+
+    private final Supplier<RocksDB> db;
+
+    /**
+     * Constructor.
+     *
+     * @param name Name of the source.
+     * @param dbPath Directory of the database.
+     * @param db Supplier of the database instance, called when a snapshot is created.
+     */
+    public RocksDbBackupSource(String name, Path dbPath, Supplier<RocksDB> db) {
+        this.name = name;
+        this.dbPath = dbPath;
+        this.db = db;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Path directory() {
+        return dbPath;
+    }
+
+    @Override
+    public CompletableFuture<BackupSnapshot> createSnapshot() {
+        Path checkpointDir = dbPath.resolveSibling(dbPath.getFileName() + CHECKPOINT_DIR_SUFFIX);
+
+        try {
+            // Leftover of a backup that has been interrupted by a node crash.
+            IgniteUtils.deleteIfExistsThrowable(checkpointDir);
+
+            try (Checkpoint checkpoint = Checkpoint.create(db.get())) {
+                checkpoint.createCheckpoint(checkpointDir.toString());
+            }
+
+            List<Path> files;
+
+            try (Stream<Path> stream = Files.list(checkpointDir)) {
+                files = stream.map(checkpointDir::relativize).collect(toList());
+            }
+
+            return completedFuture(new BackupSnapshot(checkpointDir, files, () -> IgniteUtils.deleteIfExistsThrowable(checkpointDir)));
+        } catch (RocksDBException | IOException e) {
+            IgniteUtils.deleteIfExists(checkpointDir);
+
+            return failedFuture(new IgniteInternalException("Failed to create a RocksDB checkpoint: " + checkpointDir, e));
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteServer;
 import org.apache.ignite.InitParameters;
 import org.apache.ignite.internal.app.IgniteImpl;
+import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.failure.handlers.configuration.StopNodeOrHaltFailureHandlerConfigurationSchema;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
@@ -157,6 +158,32 @@ public class AbstractMultiNodeBenchmark {
         }
     }
 
+    /**
+     * Creates tables that are not used by a benchmark, so that the benchmark runs against a catalog with many objects.
+     *
+     * @param count Number of tables.
+     * @param zoneName Zone of the tables, {@code null} for the default zone.
+     */
+    protected static void createBackgroundTables(int count, @Nullable String zoneName) {
+        if (count == 0) {
+            return;
+        }
+
+        var script = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            script.append("CREATE TABLE IF NOT EXISTS background_table_").append(i).append(" (id INT PRIMARY KEY, val INT)");
+
+            if (zoneName != null) {
+                script.append(" ZONE ").append(zoneName);
+            }
+
+            script.append(";\n");
+        }
+
+        publicIgnite.sql().executeScript(script.toString());
+    }
+
     static void populateTable(String tableName, int size, int batchSize) {
         RecordView<Tuple> view = publicIgnite.tables().table(tableName).recordView();
 
@@ -215,10 +242,7 @@ public class AbstractMultiNodeBenchmark {
                 + "      \"netClusterNodes\": [ {} ]\n"
                 + "    }\n"
                 + "  },\n"
-                + "  storage.profiles: {"
-                + "        " + DEFAULT_STORAGE_PROFILE + ".engine: aipersist, "
-                + "        " + DEFAULT_STORAGE_PROFILE + ".sizeBytes: 2073741824 " // Avoid page replacement.
-                + "  },\n"
+                + "  storage: {" + storageConfiguration() + "},\n"
                 + "  clientConnector: { port:{} },\n"
                 + "  clientConnector.sendServerExceptionStackTraceToClient: true\n"
                 + "  rest.port: {},\n"
@@ -276,6 +300,17 @@ public class AbstractMultiNodeBenchmark {
         return "node_" + port;
     }
 
+    /**
+     * Returns the HOCON contents of the node's {@code storage} configuration, with the {@link CatalogService#DEFAULT_STORAGE_PROFILE}
+     * profile that is used by the benchmark tables.
+     */
+    protected String storageConfiguration() {
+        return "profiles: {"
+                + "    " + DEFAULT_STORAGE_PROFILE + ".engine: aipersist, "
+                + "    " + DEFAULT_STORAGE_PROFILE + ".sizeBytes: 2073741824 " // Avoid page replacement.
+                + "}";
+    }
+
     protected Path workDir() throws Exception {
         return Files.createTempDirectory("tmpDirPrefix").toFile().toPath();
     }
@@ -38,7 +38,8 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * This benchmark measures creating a new table in the default distribution zone.
+ * This benchmark measures creating a new table in the default distribution zone, optionally in a catalog that already contains a lot of
+ * tables.
  */
 @Fork(1)
 @State(Scope.Benchmark)
@@ -58,6 +59,10 @@ public class CreatingTableBenchmark extends AbstractMultiNodeBenchmark {
     @Param({"true", "false"})
     private boolean tinySchemaSyncWaits;
 
+    /** Number of tables that exist in the catalog before the benchmark starts. */
+    @Param({"0", "1000"})
+    private int existingTableCount;
+
     /** Tables counter. */
     private final AtomicInteger cnt = new AtomicInteger();
 
@@ -88,7 +93,7 @@ public class CreatingTableBenchmark extends AbstractMultiNodeBenchmark {
 
     @Override
     protected void createTablesOnStartup() {
-        // There is no need to create a table on start-up.
+        createBackgroundTables(existingTableCount, ZONE_NAME);
     }
 
     /**
@@ -64,6 +64,10 @@ public class DdlBatchingBenchmark extends AbstractMultiNodeBenchmark {
     @Param({"0", "2", "4"})
     private int numberOfSecondaryIndexesPerTable;
 
+    /** Number of tables that exist in the catalog before the benchmark starts. */
+    @Param({"0", "1000"})
+    private int existingTableCount;
+
     private IgniteSql sql;
     private String scriptText;
 
@@ -115,7 +119,7 @@ public class DdlBatchingBenchmark extends AbstractMultiNodeBenchmark {
 
     @Override
     protected void createTablesOnStartup() {
-        // no-op
+        createBackgroundTables(existingTableCount, null);
     }
 
     @Override
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmark;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that measures the latency of point reads from the RocksDB storage, with a dataset that is much larger than the block cache,
+ * with and without bloom filters. Without filters, the primary key index lookup and the version chain read check every SST file that may
+ * contain the key, with filters most of the files are skipped.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 20, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RocksDbPointReadBenchmark extends AbstractMultiNodeBenchmark {
+    private static KeyValueView<Tuple, Tuple> kvView;
+
+    @Param({"true", "false"})
+    private boolean bloomFilters;
+
+    @Param({"1000000"})
+    private int keys;
+
+    /**
+     * Fills the table.
+     */
+    @Setup
+    public void setUp() {
+        populateTable(TABLE_NAME, keys, 1_000);
+
+        kvView = publicIgnite.tables().table(TABLE_NAME).keyValueView();
+    }
+
+    /**
+     * Benchmark for a point read of an existing key.
+     */
+    @Benchmark
+    public @Nullable Tuple getExisting() {
+        return kvView.get(null, Tuple.create().set("ycsb_key", ThreadLocalRandom.current().nextInt(keys)));
+    }
+
+    /**
+     * Benchmark for a point read of a key that doesn't exist.
+     */
+    @Benchmark
+    public @Nullable Tuple getMissing() {
+        return kvView.get(null, Tuple.create().set("ycsb_key", keys + ThreadLocalRandom.current().nextInt(keys)));
+    }
+
+    /**
+     * Benchmark's entry point.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RocksDbPointReadBenchmark.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Override
+    protected String storageConfiguration() {
+        // The block cache is much smaller than the dataset, so that reads go to SST files.
+        String profile = DEFAULT_STORAGE_PROFILE + ": { engine: rocksdb, sizeBytes: 67108864";
+
+        if (bloomFilters) {
+            return "profiles: {" + profile + "}}";
+        }
+
+        return "profiles: {" + profile + ", "
+                + "dataColumnFamily: { bloomFilterBitsPerKey: 0 }, "
+                + "indexColumnFamily: { bloomFilterBitsPerKey: 0 }"
+                + "}}";
+    }
+
+    @Override
+    protected int nodes() {
+        return 1;
+    }
+
+    @Override
+    protected int replicaCount() {
+        return 1;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmark;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that compares presets of the RocksDB storage profile options on point reads and upserts via KV API.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 20, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RocksDbProfilePresetsBenchmark extends AbstractMultiNodeBenchmark {
+    /** Profile with the default options. */
+    private static final String DEFAULT_PRESET = "default";
+
+    /** Profile optimized for point reads: larger bloom filters, index and filter blocks in the cache. */
+    private static final String POINT_READS_PRESET = "pointReads";
+
+    /** Profile optimized for the size on disk: partitioned index and filters, stronger compression of the bottom levels. */
+    private static final String COMPACT_PRESET = "compact";
+
+    /** Profile that uses the engine-wide shared block cache and write buffer manager. */
+    private static final String SHARED_CACHE_PRESET = "sharedCache";
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static KeyValueView<Tuple, Tuple> kvView;
+
+    @Param({DEFAULT_PRESET, POINT_READS_PRESET, COMPACT_PRESET, SHARED_CACHE_PRESET})
+    private String preset;
+
+    @Param({"100000"})
+    private int keys;
+
+    @Param({"8"})
+    private int partitionCount;
+
+    /**
+     * Fills the table.
+     */
+    @Setup
+    public void setUp() {
+        populateTable(TABLE_NAME, keys, 1_000);
+
+        kvView = publicIgnite.tables().table(TABLE_NAME).keyValueView();
+    }
+
+    /**
+     * Benchmark for a point read of an existing key.
+     */
+    @Benchmark
+    public Tuple get() {
+        return kvView.get(null, Tuple.create().set("ycsb_key", ThreadLocalRandom.current().nextInt(keys)));
+    }
+
+    /**
+     * Benchmark for an upsert of a new key.
+     */
+    @Benchmark
+    public void upsert() {
+        Tuple value = Tuple.create();
+
+        for (int i = 1; i <= 10; i++) {
+            value.set("field" + i, FIELD_VAL);
+        }
+
+        kvView.put(null, Tuple.create().set("ycsb_key", keys + COUNTER.incrementAndGet()), value);
+    }
+
+    /**
+     * Benchmark's entry point.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RocksDbProfilePresetsBenchmark.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Override
+    protected String storageConfiguration() {
+        String profile = DEFAULT_STORAGE_PROFILE + ": { engine: rocksdb, sizeBytes: 268435456";
+
+        switch (preset) {
+            case DEFAULT_PRESET:
+                return "profiles: {" + profile + "}}";
+
+            case POINT_READS_PRESET:
+                return "profiles: {" + profile + ", "
+                        + "dataColumnFamily: { bloomFilterBitsPerKey: 16, cacheIndexAndFilterBlocks: true }, "
+                        + "indexColumnFamily: { bloomFilterBitsPerKey: 16, cacheIndexAndFilterBlocks: true }"
+                        + "}}";
+
+            case COMPACT_PRESET:
+                return "profiles: {" + profile + ", "
+                        + "dataColumnFamily: { partitionedIndexFilters: true, blockSizeBytes: 16384, "
+                        + "compressionPerLevel: [NONE, NONE, LZ4, LZ4, LZ4, ZSTD, ZSTD] }, "
+                        + "indexColumnFamily: { partitionedIndexFilters: true, compression: LZ4 }"
+                        + "}}";
+
+            case SHARED_CACHE_PRESET:
+                return "engines.rocksdb: { sharedCacheSizeBytes: 268435456 }, "
+                        + "profiles: {" + DEFAULT_STORAGE_PROFILE + ": { engine: rocksdb, useSharedCache: true }}";
+
+            default:
+                throw new IllegalArgumentException("Unknown preset: " + preset);
+        }
+    }
+
+    @Override
+    protected int nodes() {
+        return 1;
+    }
+
+    @Override
+    protected int partitionCount() {
+        return partitionCount;
+    }
+
+    @Override
+    protected int replicaCount() {
+        return 1;
+    }
+}
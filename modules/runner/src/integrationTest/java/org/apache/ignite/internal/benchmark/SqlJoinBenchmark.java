@@ -115,6 +115,22 @@ public class SqlJoinBenchmark extends AbstractMultiNodeBenchmark {
         }
     }
 
+    /**
+     * Benchmark hash join that sends all columns of both tables through the exchanges, so its throughput is dominated by shuffling.
+     */
+    @Benchmark
+    public void wideRowsHashJoin(Blackhole bh) {
+        try (var rs = sql.execute(
+                "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'CorrelatedNestedLoopJoin') */ * "
+                + "FROM usertable t1 "
+                + "JOIN usertable t2 "
+                + "on t1.field2 = t2.field2")) {
+            while (rs.hasNext()) {
+                bh.consume(rs.next());
+            }
+        }
+    }
+
     /**
      * Benchmark's entry point.
      */
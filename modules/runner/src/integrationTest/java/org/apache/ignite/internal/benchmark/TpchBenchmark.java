@@ -106,13 +106,17 @@ public class TpchBenchmark extends AbstractTpcBenchmark {
     }
 
     /**
-     * Benchmark's entry point.
+     * Benchmark's entry point. Runs the suite with different degrees of scan parallelism to get the scaling curve of a node.
      */
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(".*" + TpchBenchmark.class.getSimpleName() + ".*")
-                .build();
+        // Scan parallelism is a node-wide setting, so every degree requires a separate fork.
+        for (int parallelism : new int[] {1, 2, 4, 8}) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + TpchBenchmark.class.getSimpleName() + ".*")
+                    .jvmArgsAppend("-DIGNITE_SQL_SCAN_PARALLELISM=" + parallelism)
+                    .build();
 
-        new Runner(opt).run();
+            new Runner(opt).run();
+        }
     }
 }
@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.tx.IgniteTransactions;
@@ -110,7 +111,7 @@ public class TxBalanceRetryOperationBenchmark extends AbstractMultiNodeBenchmark
     }
 
     /**
-     * Print counters.
+     * Print counters, along with the footprint of the transaction states that the coordinator keeps until they are vacuumized.
      *
      * @param counters Counters.
      */
@@ -118,6 +119,12 @@ public class TxBalanceRetryOperationBenchmark extends AbstractMultiNodeBenchmark
     public void printCounters(TxnCounters counters) {
         LOG.info("Total txns: " + counters.txnCounter.get());
         LOG.info("Rolled back txns: " + counters.rollbackCounter.get());
+        LOG.info("Txn states kept by the coordinator: " + ((TxManagerImpl) igniteImpl.txManager()).states().size());
+
+        Runtime runtime = Runtime.getRuntime();
+
+        LOG.info("Used heap after the iteration, MB: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+
         counters.reset();
     }
 
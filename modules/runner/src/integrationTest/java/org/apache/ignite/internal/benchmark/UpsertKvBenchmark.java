@@ -28,6 +28,7 @@ import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.util.CompletableFutures;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.Tuple;
+import org.apache.ignite.tx.Transaction;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -153,6 +154,21 @@ public class UpsertKvBenchmark extends AbstractMultiNodeBenchmark {
         kvView.put(null, Tuple.create().set("ycsb_key", id), valueTuple(id));
     }
 
+    /**
+     * Benchmark for KV upsert in an explicit transaction. The transaction enlists a single partition, so it is finished by a single RAFT
+     * command that switches its write intents too.
+     */
+    @Benchmark
+    public void upsertInExplicitTx() {
+        int id = nextId();
+
+        Transaction tx = igniteImpl.transactions().begin();
+
+        kvView.put(tx, Tuple.create().set("ycsb_key", id), valueTuple(id));
+
+        tx.commit();
+    }
+
     private int nextId() {
         int cur = GEN.get() + 1;
         GEN.set(cur);
@@ -36,6 +36,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigRenderOptions;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -66,6 +67,8 @@ import org.apache.ignite.client.handler.configuration.ClientConnectorExtensionCo
 import org.apache.ignite.compute.IgniteCompute;
 import org.apache.ignite.configuration.ConfigurationDynamicDefaultsPatcher;
 import org.apache.ignite.configuration.ConfigurationModule;
+import org.apache.ignite.internal.backup.BackupManager;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.catalog.CatalogManager;
 import org.apache.ignite.internal.catalog.CatalogManagerImpl;
 import org.apache.ignite.internal.catalog.DataNodesAwarePartitionCountCalculator;
@@ -153,6 +156,7 @@ import org.apache.ignite.internal.hlc.HybridTimestampTracker;
 import org.apache.ignite.internal.index.IndexBuildingManager;
 import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.index.IndexNodeFinishedRwTransactionsChecker;
+import org.apache.ignite.internal.jfr.FlightRecordings;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.lang.NodeStoppingException;
@@ -176,6 +180,7 @@ import org.apache.ignite.internal.metrics.messaging.MetricMessaging;
 import org.apache.ignite.internal.metrics.sources.ClockServiceMetricSource;
 import org.apache.ignite.internal.metrics.sources.JvmMetricSource;
 import org.apache.ignite.internal.metrics.sources.OsMetricSource;
+import org.apache.ignite.internal.metrics.tracing.RequestTracingManager;
 import org.apache.ignite.internal.network.ChannelType;
 import org.apache.ignite.internal.network.ChannelTypeRegistryProvider;
 import org.apache.ignite.internal.network.ClusterService;
@@ -284,6 +289,7 @@ import org.apache.ignite.internal.table.distributed.schema.SchemaSyncServiceImpl
 import org.apache.ignite.internal.table.distributed.schema.ThreadLocalPartitionCommandsMarshaller;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.threading.PublicApiThreadingIgniteCatalog;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
@@ -463,6 +469,8 @@ public class IgniteImpl implements Ignite {
 
     private final LogStorageMetrics logStorageMetrics;
 
+    private final RequestTracingManager requestTracingManager;
+
     private final SystemPropertiesComponent systemPropertiesComponent;
 
     /** A hybrid logical clock. */
@@ -520,6 +528,8 @@ public class IgniteImpl implements Ignite {
 
     private final EventLogImpl eventLog;
 
+    private final BackupManager backupManager;
+
     private final KillCommandHandler killCommandHandler;
 
     private final AtomicBoolean stopGuard = new AtomicBoolean();
@@ -953,6 +963,9 @@ public class IgniteImpl implements Ignite {
                 volatileLogStorageManagerCreator
         );
 
+        var requestTracer = new RequestTracer();
+        requestTracingManager = new RequestTracingManager(requestTracer, metricManager, systemDistributedConfiguration);
+
         schemaSafeTimeTracker = new SchemaSafeTimeTrackerImpl(metaStorageMgr.clusterTime(), metaStorageMgr.watchExecutor());
         metaStorageMgr.registerNotificationEnqueuedListener(schemaSafeTimeTracker);
 
@@ -1002,7 +1015,8 @@ public class IgniteImpl implements Ignite {
                 threadPoolsManager.tableIoExecutor(),
                 replicaGrpId -> metaStorageMgr.get(pendingPartAssignmentsQueueKey((TablePartitionId) replicaGrpId))
                         .thenApply(entry -> new VersionedAssignments(entry.value(), entry.revision())),
-                threadPoolsManager.commonScheduler()
+                threadPoolsManager.commonScheduler(),
+                requestTracer
         );
 
         DataStorageModules dataStorageModules = new DataStorageModules(
@@ -1129,6 +1143,14 @@ public class IgniteImpl implements Ignite {
                 failureManager
         );
 
+        backupManager = new BackupManager(
+                name,
+                this::backupSources,
+                this::backupAppliedIndexes,
+                clock,
+                BackupManager.DEFAULT_MAX_BYTES_PER_SECOND
+        );
+
         partitionReplicaLifecycleManager = new PartitionReplicaLifecycleManager(
                 catalogManager,
                 replicaMgr,
@@ -1154,7 +1176,8 @@ public class IgniteImpl implements Ignite {
                 metricManager,
                 messagingServiceReturningToStorageOperationsPool,
                 replicaSvc,
-                indexMetaStorage
+                indexMetaStorage,
+                () -> clusterState().igniteVersion()
         );
 
         systemViewManager.register(txManager);
@@ -1365,7 +1388,8 @@ public class IgniteImpl implements Ignite {
                 eventLog,
                 lowWatermark,
                 threadPoolsManager.partitionOperationsExecutor(),
-                () -> suggestionsConfiguration.sequentialDdlExecution().enabled().value()
+                () -> suggestionsConfiguration.sequentialDdlExecution().enabled().value(),
+                requestTracer
         );
 
         computeExecutor.setPlatformComputeTransport(clientHandlerModule);
@@ -1373,6 +1397,8 @@ public class IgniteImpl implements Ignite {
         metricMessaging = new MetricMessaging(metricManager, clusterSvc.messagingService(), clusterSvc.topologyService());
         systemPropertiesComponent = new SystemPropertiesComponent(systemDistributedConfiguration);
 
+        systemViewManager.register(requestTracingManager);
+
         restComponent = createRestComponent(name);
 
         publicTables = new PublicApiThreadingIgniteTables(distributedTblMgr, asyncContinuationExecutor);
@@ -1389,6 +1415,35 @@ public class IgniteImpl implements Ignite {
         return new JobScopedIgnite(this, tracker, txManager, sql, asyncContinuationExecutor);
     }
 
+    /**
+     * Returns the sources of physical backups of the node: storages first, then the Raft log of the partitions that follows them.
+     *
+     * <p>Metastorage and CMG are not backed up: their state machines and Raft meta are not covered by the sources, so a backed up log
+     * alone would not be consistent with them.
+     */
+    private List<BackupSource> backupSources() {
+        List<BackupSource> sources = new ArrayList<>();
+
+        for (StorageEngine engine : dataStorageMgr.allStorageEngines()) {
+            sources.addAll(engine.backupSources());
+        }
+
+        sources.add(sharedTxStateStorage.backupSource());
+
+        BackupSource partitionsLogSource = partitionsLogStorageManager.backupSource();
+
+        if (partitionsLogSource != null) {
+            sources.add(partitionsLogSource);
+        }
+
+        return sources;
+    }
+
+    /** Returns the applied indexes of the Raft groups whose state is kept by the {@link #backupSources() backup sources}. */
+    private Map<String, Long> backupAppliedIndexes() {
+        return partitionReplicaLifecycleManager.lastAppliedIndexes();
+    }
+
     private GroupStoragesContextResolver createGroupStoragesContextResolver() {
         Map<String, LogStorageManager> logStorageManagerByGroupName = Map.of(
                 PARTITION_GROUP_NAME, partitionsLogStorageManager,
@@ -1474,7 +1529,8 @@ public class IgniteImpl implements Ignite {
                 () -> joinFuture
         );
         Supplier<RestFactory> nodeManagementRestFactory = () -> new NodeManagementRestFactory(lifecycleManager, () -> name,
-                new JdbcPortProviderImpl(nodeConfigRegistry));
+                new JdbcPortProviderImpl(nodeConfigRegistry),
+                duration -> FlightRecordings.start(workDir.resolve("jfr"), name, duration));
         Supplier<RestFactory> metricRestFactory = () -> new MetricRestFactory(metricManager, metricMessaging);
         Supplier<RestFactory> authProviderFactory = () -> new AuthenticationProviderFactory(authenticationManager);
         Supplier<RestFactory> deploymentCodeRestFactory =
@@ -1655,6 +1711,7 @@ public class IgniteImpl implements Ignite {
                                 computeComponent,
                                 volatileLogStorageManagerCreator,
                                 logStorageMetrics,
+                                requestTracingManager,
                                 replicaMgr,
                                 indexNodeFinishedRwTransactionsChecker,
                                 txManager,
@@ -1675,7 +1732,8 @@ public class IgniteImpl implements Ignite {
                                 systemPropertiesComponent,
                                 resourceVacuumManager,
                                 metaStorageCompactionTrigger,
-                                eventLog
+                                eventLog,
+                                backupManager
                         );
 
                         // The system view manager comes last because other components
@@ -1849,6 +1907,10 @@ public class IgniteImpl implements Ignite {
         return disasterRecoveryManager;
     }
 
+    public BackupManager backupManager() {
+        return backupManager;
+    }
+
     @TestOnly
     public ReplicaService replicaService() {
         return replicaSvc;
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.tracing;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.internal.type.NativeTypes.BOOLEAN;
+import static org.apache.ignite.internal.type.NativeTypes.INT64;
+import static org.apache.ignite.internal.type.NativeTypes.STRING;
+import static org.apache.ignite.internal.type.NativeTypes.stringOf;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.configuration.SystemDistributedConfiguration;
+import org.apache.ignite.internal.configuration.utils.SystemDistributedConfigurationPropertyHolder;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewProvider;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.RequestTracer;
+import org.apache.ignite.internal.tracing.TraceStage;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+
+/**
+ * Component that exposes the spans of sampled requests recorded by the node's {@link RequestTracer}.
+ *
+ * <p>The spans are available in the {@code TRACE_SPANS} system view, and their latencies by stage are aggregated into histograms of the
+ * {@value RequestTracingMetricSource#NAME} metric source, so they can be exported like any other metrics. The fraction of traced client
+ * requests is controlled by the {@value #SAMPLING_RATE_PROPERTY} distributed system property, tracing is disabled by default.
+ */
+public class RequestTracingManager implements IgniteComponent, SystemViewProvider {
+    private static final IgniteLogger LOG = Loggers.forClass(RequestTracingManager.class);
+
+    /** Name of the system property with the fraction of client requests to trace, from {@code 0} to {@code 1}. */
+    static final String SAMPLING_RATE_PROPERTY = "requestTracingSamplingRate";
+
+    private final RequestTracer requestTracer;
+
+    private final MetricManager metricManager;
+
+    private final SystemDistributedConfigurationPropertyHolder<Double> samplingRate;
+
+    private final RequestTracingMetricSource metricSource = new RequestTracingMetricSource();
+
+    /** Constructor. */
+    public RequestTracingManager(
+            RequestTracer requestTracer,
+            MetricManager metricManager,
+            SystemDistributedConfiguration systemDistributedConfiguration
+    ) {
+        this.requestTracer = requestTracer;
+        this.metricManager = metricManager;
+        this.samplingRate = new SystemDistributedConfigurationPropertyHolder<>(
+                systemDistributedConfiguration,
+                (value, revision) -> applySamplingRate(value),
+                SAMPLING_RATE_PROPERTY,
+                0.0,
+                Double::parseDouble
+        );
+
+        requestTracer.listen(metricSource::onSpanEnd);
+    }
+
+    @Override
+    public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
+        metricManager.registerSource(metricSource);
+
+        samplingRate.init();
+
+        applySamplingRate(samplingRate.currentValue());
+
+        return nullCompletedFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> stopAsync(ComponentContext componentContext) {
+        requestTracer.samplingRate(0);
+
+        metricManager.unregisterSource(metricSource);
+
+        return nullCompletedFuture();
+    }
+
+    private void applySamplingRate(double value) {
+        try {
+            requestTracer.samplingRate(value);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid value of system property, ignoring it [name={}, value={}].", SAMPLING_RATE_PROPERTY, value);
+        }
+    }
+
+    @Override
+    public List<SystemView<?>> systemViews() {
+        return List.of(traceSpansView());
+    }
+
+    private SystemView<?> traceSpansView() {
+        return SystemViews.<RequestSpan>nodeViewBuilder()
+                .name("TRACE_SPANS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .<String>addColumn("TRACE_ID", stringOf(36), span -> span.traceId().toString())
+                .<String>addColumn("OPERATION", STRING, RequestSpan::operation)
+                .<Instant>addColumn("START_TIME", NativeTypes.timestamp(NativeTypes.MAX_TIME_PRECISION),
+                        span -> Instant.ofEpochMilli(span.startTime()))
+                .<Long>addColumn("DURATION_MICROS", INT64, span -> NANOSECONDS.toMicros(span.durationNanos()))
+                .<Long>addColumn("QUEUE_MICROS", INT64, span -> stageMicros(span, TraceStage.QUEUE))
+                .<Long>addColumn("LOCK_WAIT_MICROS", INT64, span -> stageMicros(span, TraceStage.LOCK_WAIT))
+                .<Long>addColumn("REPLICATION_MICROS", INT64, span -> stageMicros(span, TraceStage.REPLICATION))
+                .<Long>addColumn("STORAGE_APPLY_MICROS", INT64, span -> stageMicros(span, TraceStage.STORAGE_APPLY))
+                .<Long>addColumn("RESPONSE_MICROS", INT64, span -> stageMicros(span, TraceStage.RESPONSE))
+                .<Boolean>addColumn("FAILED", BOOLEAN, RequestSpan::failed)
+                .dataProvider(SubscriptionUtils.fromIterable(() -> requestTracer.spans().iterator()))
+                .build();
+    }
+
+    private static long stageMicros(RequestSpan span, TraceStage stage) {
+        return NANOSECONDS.toMicros(span.stageNanos(stage));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.tracing;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.metrics.tracing.RequestTracingMetricSource.Holder;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.TraceStage;
+
+/**
+ * {@link MetricSource} for latencies of traced requests, broken down by processing stage.
+ */
+class RequestTracingMetricSource extends AbstractMetricSource<Holder> {
+    static final String NAME = "tracing";
+
+    private static final long MAX_DURATION_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    RequestTracingMetricSource() {
+        super(NAME, "Latencies of sampled traced requests by processing stage.");
+    }
+
+    /** Adds the timings of a finished span to the histograms. Stages the span didn't go through are not counted. */
+    void onSpanEnd(RequestSpan span) {
+        Holder holder = holder();
+
+        if (holder == null) {
+            return;
+        }
+
+        holder.duration.add(NANOSECONDS.toMicros(span.durationNanos()));
+
+        for (Map.Entry<TraceStage, HistogramMetric> e : holder.stageDurations.entrySet()) {
+            long stageNanos = span.stageNanos(e.getKey());
+
+            if (stageNanos > 0) {
+                e.getValue().add(NANOSECONDS.toMicros(stageNanos));
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final HistogramMetric duration = new HistogramMetric(
+                "Duration",
+                "Total duration of traced request spans in microseconds.",
+                MAX_DURATION_MICROS
+        );
+
+        private final Map<TraceStage, HistogramMetric> stageDurations = new EnumMap<>(TraceStage.class);
+
+        private final List<Metric> metrics = new ArrayList<>();
+
+        Holder() {
+            stageDurations.put(TraceStage.QUEUE, stageHistogram("QueueDuration", "waiting for a thread"));
+            stageDurations.put(TraceStage.LOCK_WAIT, stageHistogram("LockWaitDuration", "waiting for transaction locks"));
+            stageDurations.put(TraceStage.REPLICATION, stageHistogram("ReplicationDuration", "replicating commands through RAFT"));
+            stageDurations.put(TraceStage.STORAGE_APPLY, stageHistogram("StorageApplyDuration", "applying updates to partition storages"));
+            stageDurations.put(TraceStage.RESPONSE, stageHistogram("ResponseDuration", "serializing and sending responses"));
+
+            metrics.add(duration);
+            metrics.addAll(stageDurations.values());
+        }
+
+        private static HistogramMetric stageHistogram(String name, String stageDescription) {
+            return new HistogramMetric(name, "Time traced requests spent " + stageDescription + " in microseconds.", MAX_DURATION_MICROS);
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.schema.marshaller.MarshallerUtil;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.type.TemporalNativeType;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -68,6 +69,9 @@ public class SchemaDescriptor {
     /** Whether schema contains time or timestamp columns. */
     private final boolean hasTemporalColumns;
 
+    /** Partitioner of a range-partitioned table, {@code null} if the table is hash-partitioned. */
+    private final @Nullable RangePartitioner rangePartitioner;
+
     /** Column mapper. */
     private ColumnMapper colMapper = ColumnMapping.identityMapping();
 
@@ -114,8 +118,29 @@ public class SchemaDescriptor {
 
     /** Constructor. */
     public SchemaDescriptor(int ver, List<Column> columns, IntList keyColumnIndexes, @Nullable IntList colocationColumnIndexes) {
+        this(ver, columns, keyColumnIndexes, colocationColumnIndexes, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ver Schema version.
+     * @param columns Columns in row order.
+     * @param keyColumnIndexes Indexes of the key columns.
+     * @param colocationColumnIndexes Indexes of the colocation columns, {@code null} if the key columns are used.
+     * @param rangePartitioner Partitioner of a range-partitioned table, {@code null} if the table is hash-partitioned.
+     */
+    public SchemaDescriptor(
+            int ver,
+            List<Column> columns,
+            IntList keyColumnIndexes,
+            @Nullable IntList colocationColumnIndexes,
+            @Nullable RangePartitioner rangePartitioner
+    ) {
         assert !nullOrEmpty(columns) : "Schema should have at least one column";
         assert colocationColumnIndexes == null || keyColumnIndexes.containsAll(colocationColumnIndexes);
+        assert rangePartitioner == null || (colocationColumnIndexes != null && colocationColumnIndexes.size() == 1)
+                : "Range partitioning requires a single colocation column";
 
         boolean hasColocationKey = colocationColumnIndexes != null;
 
@@ -176,6 +201,7 @@ public class SchemaDescriptor {
         this.colocationCols = hasColocationKey
                 ? List.of(colocationColumns)
                 : this.keyCols;
+        this.rangePartitioner = rangePartitioner;
     }
 
     private static List<Column> mergeColumns(Column[] keyColumns, Column[] valueColumns) {
@@ -250,6 +276,16 @@ public class SchemaDescriptor {
         return colocationCols;
     }
 
+    /**
+     * Returns the partitioner of a range-partitioned table, or {@code null} if the table is hash-partitioned.
+     *
+     * <p>Rows of a range-partitioned table use the number of their partition instead of a hash of the colocation column as the
+     * colocation hash, see {@link RangePartitioner}.
+     */
+    public @Nullable RangePartitioner rangePartitioner() {
+        return rangePartitioner;
+    }
+
     /**
      * Get value columns.
      *
@@ -39,6 +39,7 @@ import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -174,14 +175,16 @@ public final class CatalogToSchemaDescriptorConverter {
         }
 
         IntList pkColumns = IntList.of(CatalogUtils.resolveColumnIndexesByIds(tableDescriptor, tableDescriptor.primaryKeyColumns()));
-        IntList colocationColumns = tableDescriptor.primaryKeyColumns() == tableDescriptor.colocationColumns()
+        List<Object> rangeSplitPoints = tableDescriptor.rangeSplitPoints();
+        IntList colocationColumns = tableDescriptor.primaryKeyColumns() == tableDescriptor.colocationColumns() && rangeSplitPoints == null
                 ? null : IntList.of(CatalogUtils.resolveColumnIndexesByIds(tableDescriptor, tableDescriptor.colocationColumns()));
 
         return new SchemaDescriptor(
                 tableVersion,
                 columns,
                 pkColumns,
-                colocationColumns
+                colocationColumns,
+                rangeSplitPoints == null ? null : new RangePartitioner(rangeSplitPoints)
         );
     }
 
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -111,6 +112,15 @@ public class RowImpl extends BinaryTupleReader implements Row {
         int h0 = colocationHash;
 
         if (h0 == 0) {
+            RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+            if (rangePartitioner != null) {
+                Column c = schema.colocationColumns().get(0);
+
+                // Range-partitioned tables use the partition number as the colocation hash, see RangePartitioner.
+                return rangePartitioner.partition(value(keyOnly ? c.positionInKey() : c.positionInRow()));
+            }
+
             HashCalculator hashCalc = new HashCalculator();
 
             for (Column c : schema.colocationColumns()) {
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.table.NodeUtils.transferPrimary;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.ClusterPerTestIntegrationTest;
+import org.apache.ignite.internal.TestWrappers;
+import org.apache.ignite.internal.app.IgniteImpl;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.placementdriver.ReplicaMeta;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.sql.SqlCommon;
+import org.apache.ignite.tx.Transaction;
+import org.apache.ignite.tx.TransactionOptions;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for materialized views. */
+public class ItMaterializedViewTest extends ClusterPerTestIntegrationTest {
+    private static final String VIEW_QUERY = "SELECT city_id, COUNT(*) AS cnt FROM person GROUP BY city_id";
+
+    private static final String HINTED_QUERY = "SELECT /*+ USE_MATERIALIZED_VIEWS */ city_id, COUNT(*) FROM person GROUP BY city_id";
+
+    @Override
+    protected boolean shouldCreateDefaultZone() {
+        return false;
+    }
+
+    @BeforeEach
+    void createView() {
+        // The view is placed to the default zone, so every partition of the table and the view survives the loss of a single node.
+        executeSql("CREATE ZONE test_zone (PARTITIONS 1, REPLICAS 3) STORAGE PROFILES ['default']");
+        executeSql("ALTER ZONE test_zone SET DEFAULT");
+
+        executeSql("CREATE TABLE person (id INT PRIMARY KEY, city_id INT NOT NULL)");
+        executeSql("INSERT INTO person SELECT x, MOD(x, 10) FROM system_range(1, 100)");
+
+        executeSql("CREATE MATERIALIZED VIEW person_count AS " + VIEW_QUERY);
+    }
+
+    @Test
+    void viewIsReadOnlyByHintedQueriesOutsideReadWriteTransactions() {
+        assertThat(explain(null, VIEW_QUERY), not(containsString("PERSON_COUNT")));
+        assertThat(explain(null, HINTED_QUERY), containsString("PERSON_COUNT"));
+
+        Transaction roTx = node(0).transactions().begin(new TransactionOptions().readOnly(true));
+
+        assertThat(explain(roTx, HINTED_QUERY), containsString("PERSON_COUNT"));
+
+        roTx.rollback();
+
+        Transaction rwTx = node(0).transactions().begin();
+
+        assertThat(explain(rwTx, HINTED_QUERY), not(containsString("PERSON_COUNT")));
+
+        rwTx.rollback();
+    }
+
+    @Test
+    void viewIsRefreshedWhenPrimaryReplicaOfSourcePartitionFails() {
+        awaitViewIsUpToDate();
+
+        ZonePartitionId sourcePartitionId = sourcePartitionId();
+
+        String primary = primaryReplicaName(sourcePartitionId);
+
+        // The first node holds the metastorage and the CMG, so it must keep running.
+        if (primary.equals(node(0).name())) {
+            List<IgniteImpl> nodes = runningNodes().map(TestWrappers::unwrapIgniteImpl).collect(toList());
+
+            primary = transferPrimary(nodes, sourcePartitionId, node(1).name());
+        }
+
+        executeSql("INSERT INTO person SELECT x, MOD(x, 7) FROM system_range(101, 200)");
+
+        // The changes collected by the primary replica are lost with it, unless it manages to apply them before it stops.
+        stopNode(primary);
+
+        awaitViewIsUpToDate();
+    }
+
+    private String explain(@Nullable Transaction tx, String query) {
+        return (String) executeSql(0, tx, "EXPLAIN PLAN FOR " + query).get(0).get(0);
+    }
+
+    private void awaitViewIsUpToDate() {
+        await().atMost(30, SECONDS).ignoreExceptions().untilAsserted(() -> assertEquals(
+                executeSql(VIEW_QUERY + " ORDER BY city_id"),
+                executeSql("SELECT city_id, cnt FROM person_count ORDER BY city_id")
+        ));
+    }
+
+    private ZonePartitionId sourcePartitionId() {
+        CatalogTableDescriptor table = igniteImpl(0).catalogManager().latestCatalog().table(SqlCommon.DEFAULT_SCHEMA_NAME, "PERSON");
+
+        assertNotNull(table);
+
+        return new ZonePartitionId(table.zoneId(), 0);
+    }
+
+    private String primaryReplicaName(ZonePartitionId groupId) {
+        IgniteImpl node = igniteImpl(0);
+
+        CompletableFuture<ReplicaMeta> primaryFuture = node.placementDriver().awaitPrimaryReplica(groupId, node.clock().now(), 30, SECONDS);
+
+        assertThat(primaryFuture, willCompleteSuccessfully());
+
+        return primaryFuture.join().getLeaseholder();
+    }
+}
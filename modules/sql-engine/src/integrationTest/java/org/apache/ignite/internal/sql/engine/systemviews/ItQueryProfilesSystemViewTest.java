@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.systemviews;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.apache.ignite.internal.sql.engine.util.MetadataMatcher;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.sql.ColumnType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * End-to-end tests to verify {@code EXPLAIN ANALYZE} and {@code SQL_QUERY_PROFILES} view.
+ */
+public class ItQueryProfilesSystemViewTest extends AbstractSystemViewTest {
+    @Override
+    protected int initialNodes() {
+        return 2;
+    }
+
+    @BeforeAll
+    void beforeAll() {
+        sql("CREATE TABLE test(id INT PRIMARY KEY, val INT)");
+        sql("INSERT INTO test SELECT x, x % 10 FROM TABLE(system_range(1, 100))");
+    }
+
+    @Test
+    public void testMetadata() {
+        assertQuery("SELECT * FROM SYSTEM.SQL_QUERY_PROFILES")
+                .columnMetadata(
+                        new MetadataMatcher().name("INITIATOR_NODE").type(ColumnType.STRING).nullable(false),
+                        new MetadataMatcher().name("QUERY_ID").type(ColumnType.STRING).precision(36).nullable(true),
+                        new MetadataMatcher().name("QUERY_DEFAULT_SCHEMA").type(ColumnType.STRING).nullable(true),
+                        new MetadataMatcher().name("SQL").type(ColumnType.STRING).nullable(true),
+                        new MetadataMatcher().name("QUERY_START_TIME").type(ColumnType.TIMESTAMP)
+                                .precision(NativeTypes.MAX_TIME_PRECISION).nullable(true),
+                        new MetadataMatcher().name("DURATION_MILLIS").type(ColumnType.INT64).nullable(true),
+                        new MetadataMatcher().name("ROWS").type(ColumnType.INT64).nullable(true),
+                        new MetadataMatcher().name("QUERY_PLAN").type(ColumnType.STRING).nullable(true),
+                        new MetadataMatcher().name("EXECUTION_STATISTICS").type(ColumnType.STRING).nullable(true)
+                )
+                .check();
+    }
+
+    @Test
+    public void explainAnalyzeCollectsStatisticsOfAllFragments() {
+        String result = (String) sql("EXPLAIN ANALYZE SELECT val, COUNT(*) FROM test GROUP BY val").get(0).get(0);
+
+        assertThat(result, containsString("Execution statistics:"));
+        assertThat(result, containsString("RootNode: rows=10"));
+        // Statistics of remote fragments are attached to the exchange they are received from.
+        assertThat(result, containsString("Remote node: nodeName="));
+        assertThat(result, containsString("scannedRows="));
+
+        List<List<Object>> profiles = sql("SELECT sql, rows, execution_statistics FROM system.sql_query_profiles "
+                + "WHERE sql LIKE '%GROUP BY%'");
+
+        assertThat(profiles, hasSize(1));
+        assertThat(profiles.get(0).get(1), is(10L));
+        assertThat((String) profiles.get(0).get(2), containsString("RootNode: rows=10"));
+    }
+
+    @Test
+    public void explainAnalyzeOfKeyValuePlan() {
+        String result = (String) sql("EXPLAIN ANALYZE SELECT * FROM test WHERE id = 1").get(0).get(0);
+
+        assertThat(result, containsString("Execution statistics:"));
+        assertThat(result, containsString("RootNode: rows=1"));
+    }
+}
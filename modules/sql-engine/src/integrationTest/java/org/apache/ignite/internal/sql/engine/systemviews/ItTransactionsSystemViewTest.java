@@ -147,6 +147,26 @@ public class ItTransactionsSystemViewTest extends AbstractSystemViewTest {
         }
     }
 
+    @Test
+    public void testLookupByTransactionId() {
+        Transaction tx = CLUSTER.aliveNode().transactions().begin();
+
+        try {
+            String txId = ((InternalTransaction) tx).id().toString();
+
+            assertQuery("SELECT TRANSACTION_ID FROM SYSTEM.TRANSACTIONS WHERE TRANSACTION_ID = ?")
+                    .withParams(txId)
+                    .returns(txId)
+                    .check();
+
+            assertQuery("SELECT TRANSACTION_ID FROM SYSTEM.TRANSACTIONS WHERE TRANSACTION_ID = 'not-a-transaction-id'")
+                    .returnNothing()
+                    .check();
+        } finally {
+            tx.rollback();
+        }
+    }
+
     private static Object[] makeExpectedRow(InternalTransaction tx, Map<UUID, String> nodeIdToName) {
         return new Object[]{
                 nodeIdToName.get(tx.coordinatorId()),
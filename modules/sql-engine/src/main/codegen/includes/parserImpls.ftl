@@ -163,6 +163,7 @@ SqlCreate SqlCreateTable(Span s, boolean replace) :
     SqlIdentifier zoneName = null;
     SqlNode storageProfile = null;
     SqlNodeList colocationColumns = null;
+    SqlNodeList rangeSplitPoints = null;
     SqlNodeList tableProperties = null;
 }
 {
@@ -173,6 +174,11 @@ SqlCreate SqlCreateTable(Span s, boolean replace) :
     [
         <COLOCATE> [<BY>] {s.add(this);}
             colocationColumns = ParenthesizedSimpleIdentifierList()
+    |
+        <PARTITION> <BY> <RANGE> {s.add(this);}
+            colocationColumns = ParenthesizedSimpleIdentifierList()
+        <SPLIT> <AT>
+            rangeSplitPoints = ParenthesizedLiteralList()
     ]
     [
         <ZONE> {s.add(this);} zoneName = SimpleIdentifier()
@@ -185,11 +191,45 @@ SqlCreate SqlCreateTable(Span s, boolean replace) :
     ]
     {
         return new IgniteSqlCreateTable(
-                s.end(this), ifNotExists, id, columnList, colocationColumns, zoneName, storageProfile, tableProperties
+                s.end(this), ifNotExists, id, columnList, colocationColumns, rangeSplitPoints, zoneName, storageProfile, tableProperties
         );
     }
 }
 
+SqlCreate SqlCreateMaterializedView(Span s, boolean replace) :
+{
+    final boolean ifNotExists;
+    final SqlIdentifier id;
+    final SqlNode query;
+}
+{
+    <MATERIALIZED> <VIEW>
+    ifNotExists = IfNotExistsOpt()
+    id = CompoundIdentifier()
+    <AS>
+    query = OrderedQueryOrExpr(ExprContext.ACCEPT_QUERY)
+    {
+        return new IgniteSqlCreateMaterializedView(s.end(this), ifNotExists, id, query);
+    }
+}
+
+SqlNodeList ParenthesizedLiteralList() :
+{
+    final Span s;
+    final List<SqlNode> list = new ArrayList<SqlNode>();
+    SqlNode literal;
+}
+{
+    <LPAREN> { s = span(); }
+    literal = Literal() { list.add(literal); }
+    (
+        <COMMA> literal = Literal() { list.add(literal); }
+    )*
+    <RPAREN> {
+        return new SqlNodeList(list, s.end(this));
+    }
+}
+
 SqlNodeList TablePropertyList(Span s) :
 {
     final List<SqlNode> list = new ArrayList<SqlNode>();
@@ -368,6 +408,17 @@ SqlDrop SqlDropTable(Span s, boolean replace) :
     }
 }
 
+SqlDrop SqlDropMaterializedView(Span s, boolean replace) :
+{
+    final boolean ifExists;
+    final SqlIdentifier id;
+}
+{
+    <MATERIALIZED> <VIEW> ifExists = IfExistsOpt() id = CompoundIdentifier() {
+        return new IgniteSqlDropMaterializedView(s.end(this), ifExists, id);
+    }
+}
+
 SqlDrop SqlDropIndex(Span s, boolean replace) :
 {
     final boolean ifExists;
@@ -1057,7 +1108,7 @@ Boolean SqlKillNoWait():
 }
 
 /**
- * Parses an EXPLAIN PLAN statement.
+ * Parses an EXPLAIN PLAN, EXPLAIN MAPPING or EXPLAIN ANALYZE statement.
  */
 SqlNode SqlIgniteExplain() :
 {
@@ -1086,6 +1137,11 @@ IgniteSqlExplainMode ExplainMode() :
             mode = IgniteSqlExplainMode.MAPPING;
         }
         |
+        <ANALYZE> [ <FOR> ]
+        {
+            mode = IgniteSqlExplainMode.ANALYZE;
+        }
+        |
         <PLAN> <FOR>
         {
         }
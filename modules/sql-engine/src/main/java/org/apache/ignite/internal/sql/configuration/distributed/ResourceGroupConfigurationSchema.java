@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.configuration.distributed;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.InjectedName;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Configuration of a resource group.
+ *
+ * <p>Resource group limits the resources consumed by SQL queries assigned to it. All limits are applied on every node independently.
+ */
+@Config
+public class ResourceGroupConfigurationSchema {
+    /** Name of the resource group. Group named {@code default} is used for queries which aren't assigned to any other group. */
+    @InjectedName
+    public String name;
+
+    /** Maximal number of queries of the group executed concurrently. {@code 0} means no limit. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int maxConcurrentQueries = 0;
+
+    /** Maximal number of queries waiting for execution. Queries exceeding the limit are rejected. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int maxQueuedQueries = 100;
+
+    /** Maximal time a query may wait for execution, in ms. {@code 0} means the query waits until it is cancelled or timed out. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long queueTimeoutMillis = 0;
+
+    /** Maximal amount of memory retained by a single query of the group, in bytes. {@code 0} means no limit. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long queryMemoryQuotaBytes = 0;
+
+    /** Maximal amount of memory retained by all queries of the group, in bytes. {@code 0} means no limit. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long memoryQuotaBytes = 0;
+
+    /** Priority of the execution tasks of the group queries relative to the tasks of other groups. */
+    @Value(hasDefault = true)
+    @OneOf({"LOW", "NORMAL", "HIGH"})
+    public final String priority = "NORMAL";
+
+    /** Names of the users whose queries are assigned to the group. Empty list allows any user to choose the group with a hint. */
+    @Value(hasDefault = true)
+    public final String[] users = {};
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.configuration.distributed;
 
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.ConfigValue;
+import org.apache.ignite.configuration.annotation.NamedConfigValue;
 
 /** Configuration schema for distributed sql endpoint subtree. */
 @Config
@@ -34,4 +35,8 @@ public class SqlDistributedConfigurationSchema {
     /** Represent a configuration related to statistics collection. */
     @ConfigValue
     public StatisticsConfigurationSchema statistics;
+
+    /** Resource groups the queries are assigned to. */
+    @NamedConfigValue
+    public ResourceGroupConfigurationSchema resourceGroups;
 }
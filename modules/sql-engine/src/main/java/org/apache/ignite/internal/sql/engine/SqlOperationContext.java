@@ -52,7 +52,9 @@ public final class SqlOperationContext {
     private final @Nullable Consumer<QueryTransactionWrapper> txUsedListener;
     private final @Nullable Consumer<Throwable> errorListener;
     private final @Nullable String userName;
+    private final @Nullable String resourceGroup;
     private final @Nullable Long topologyVersion;
+    private final @Nullable String sql;
     private final @Nullable AtomicReference<QueryTransactionWrapper> retryTxHolder;
 
     /**
@@ -69,7 +71,9 @@ public final class SqlOperationContext {
             @Nullable Consumer<QueryTransactionWrapper> txUsedListener,
             @Nullable Consumer<Throwable> errorListener,
             @Nullable String userName,
+            @Nullable String resourceGroup,
             @Nullable Long topologyVersion,
+            @Nullable String sql,
             @Nullable QueryTransactionWrapper retryTx
     ) {
         this.queryId = queryId;
@@ -82,7 +86,9 @@ public final class SqlOperationContext {
         this.txUsedListener = txUsedListener;
         this.errorListener = errorListener;
         this.userName = userName;
+        this.resourceGroup = resourceGroup;
         this.topologyVersion = topologyVersion;
+        this.sql = sql;
         this.retryTxHolder = new AtomicReference<>(retryTx);
     }
 
@@ -108,7 +114,9 @@ public final class SqlOperationContext {
                 txUsedListener,
                 errorListener,
                 userName,
+                resourceGroup,
                 topologyVersion,
+                sql,
                 tx
         );
     }
@@ -142,6 +150,11 @@ public final class SqlOperationContext {
         return userName;
     }
 
+    /** Returns name of the resource group the query is assigned to, or {@code null} if the query belongs to the default group. */
+    public @Nullable String resourceGroup() {
+        return resourceGroup;
+    }
+
     /**
      * Returns name of the schema to use to resolve schema objects, like tables or system views, for which name of the schema was omitted.
      *
@@ -169,6 +182,15 @@ public final class SqlOperationContext {
         return topologyVersion;
     }
 
+    /**
+     * Returns text of the statement.
+     *
+     * <p>May be null on remote side.
+     */
+    public @Nullable String sql() {
+        return sql;
+    }
+
     /**
      * Notifies context that transaction was used for query execution.
      */
@@ -230,7 +252,9 @@ public final class SqlOperationContext {
         private @Nullable QueryCancel cancel;
         private @Nullable String defaultSchemaName;
         private @Nullable String userName;
+        private @Nullable String resourceGroup;
         private @Nullable Long topologyVersion;
+        private @Nullable String sql;
 
         public Builder cancel(@Nullable QueryCancel cancel) {
             this.cancel = requireNonNull(cancel);
@@ -282,11 +306,21 @@ public final class SqlOperationContext {
             return this;
         }
 
+        public Builder resourceGroup(@Nullable String resourceGroup) {
+            this.resourceGroup = resourceGroup;
+            return this;
+        }
+
         public Builder topologyVersion(@Nullable Long topologyVersion) {
             this.topologyVersion = topologyVersion;
             return this;
         }
 
+        public Builder sql(@Nullable String sql) {
+            this.sql = sql;
+            return this;
+        }
+
         /** Creates new context. */
         public SqlOperationContext build() {
             return new SqlOperationContext(
@@ -300,7 +334,9 @@ public final class SqlOperationContext {
                     txUsedListener,
                     errorListener,
                     userName,
+                    resourceGroup,
                     topologyVersion,
+                    sql,
                     null
             );
         }
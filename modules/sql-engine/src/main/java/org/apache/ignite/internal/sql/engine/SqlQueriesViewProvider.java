@@ -20,10 +20,16 @@ package org.apache.ignite.internal.sql.engine;
 import static org.apache.ignite.internal.type.NativeTypes.stringOf;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.ignite.internal.sql.engine.exec.QueryProfile;
+import org.apache.ignite.internal.sql.engine.exec.QueryProfileRegistry;
 import org.apache.ignite.internal.sql.engine.exec.fsm.ExecutionPhase;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryExecutor;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
@@ -33,6 +39,7 @@ import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PreparedPlan;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.NativeTypes;
@@ -49,23 +56,27 @@ public class SqlQueriesViewProvider {
 
     private final CompletableFuture<PrepareService> prepareServiceFuture = new CompletableFuture<>();
 
+    private final CompletableFuture<QueryProfileRegistry> queryProfilesFuture = new CompletableFuture<>();
+
     /** Initializes provided with query executor used as datasource of running queries. */
-    public void init(QueryExecutor queryExecutor, PrepareServiceImpl prepareSvc) {
+    public void init(QueryExecutor queryExecutor, PrepareServiceImpl prepareSvc, QueryProfileRegistry queryProfiles) {
         queryExecutorFuture.complete(queryExecutor);
         prepareServiceFuture.complete(prepareSvc);
+        queryProfilesFuture.complete(queryProfiles);
     }
 
     /** Returns system views. */
     public List<SystemView<?>> getViews() {
         return List.of(
                 queries(),
-                cachedPlans()
+                cachedPlans(),
+                queryProfiles()
         );
     }
 
     private SystemView<?> queries() {
-        Publisher<QueryInfo> viewDataPublisher = SubscriptionUtils.fromIterable(
-                queryExecutorFuture.thenApply(queryExecutor -> () -> queryExecutor.runningQueries().iterator())
+        Function<SystemViewScanCriteria, Publisher<QueryInfo>> viewDataPublisher = criteria -> SubscriptionUtils.fromIterable(
+                queryExecutorFuture.thenApply(queryExecutor -> () -> runningQueries(queryExecutor, criteria))
         );
 
         NativeType stringType = stringOf(Short.MAX_VALUE);
@@ -93,10 +104,34 @@ public class SqlQueriesViewProvider {
                 .<String>addColumn("PARENT_ID", idType, info -> mapId(info.parentId()))
                 .<Integer>addColumn("STATEMENT_NUM", NativeTypes.INT32, info -> mapStatementNum(info.statementNum()))
                 // End of legacy columns list. New columns must be added below this line.
-                .dataProvider(viewDataPublisher)
+                .filteringDataProvider(viewDataPublisher)
                 .build();
     }
 
+    private static Iterator<QueryInfo> runningQueries(QueryExecutor queryExecutor, SystemViewScanCriteria criteria) {
+        String queryId = criteria.equalTo("QUERY_ID");
+
+        if (queryId == null) {
+            queryId = criteria.equalTo("ID");
+        }
+
+        if (queryId == null) {
+            return queryExecutor.runningQueriesIterator();
+        }
+
+        QueryInfo info;
+
+        try {
+            info = queryExecutor.runningQuery(UUID.fromString(queryId));
+        } catch (IllegalArgumentException ignored) {
+            info = null;
+        }
+
+        return info == null
+                ? Collections.emptyIterator()
+                : List.of(info).iterator();
+    }
+
     private static @Nullable String mapId(@Nullable UUID id) {
         return id == null ? null : id.toString();
     }
@@ -118,6 +153,8 @@ public class SqlQueriesViewProvider {
                 return "INITIALIZATION";
             case OPTIMIZING:
                 return "OPTIMIZATION";
+            case ADMISSION:
+                return "QUEUED";
             case CURSOR_INITIALIZATION: // fall through
             case CURSOR_PUBLICATION: // fall through
             case SCRIPT_INITIALIZATION: // fall through
@@ -153,6 +190,26 @@ public class SqlQueriesViewProvider {
                 .build();
     }
 
+    private SystemView<?> queryProfiles() {
+        Publisher<QueryProfile> viewDataPublisher = SubscriptionUtils.fromIterable(
+                queryProfilesFuture.thenApply(registry -> () -> registry.profiles().iterator())
+        );
+
+        return SystemViews.<QueryProfile>nodeViewBuilder()
+                .name("SQL_QUERY_PROFILES")
+                .nodeNameColumnAlias("INITIATOR_NODE")
+                .<String>addColumn("QUERY_ID", stringOf(36), profile -> mapId(profile.queryId()))
+                .<String>addColumn("QUERY_DEFAULT_SCHEMA", NativeTypes.STRING, QueryProfile::defaultSchemaName)
+                .<String>addColumn("SQL", NativeTypes.STRING, QueryProfile::sql)
+                .<Instant>addColumn("QUERY_START_TIME", TIMESTAMP_TYPE, QueryProfile::startTime)
+                .<Long>addColumn("DURATION_MILLIS", NativeTypes.INT64, profile -> TimeUnit.NANOSECONDS.toMillis(profile.durationNanos()))
+                .<Long>addColumn("ROWS", NativeTypes.INT64, QueryProfile::rows)
+                .<String>addColumn("QUERY_PLAN", NativeTypes.STRING, QueryProfile::plan)
+                .<String>addColumn("EXECUTION_STATISTICS", NativeTypes.STRING, QueryProfile::statistics)
+                .dataProvider(viewDataPublisher)
+                .build();
+    }
+
     private static String mapQueryType(SqlQueryType type) {
         return type.displayName();
     }
@@ -37,6 +37,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import org.apache.ignite.configuration.NamedListView;
+import org.apache.ignite.configuration.notifications.ConfigurationListener;
 import org.apache.ignite.internal.catalog.CatalogManager;
 import org.apache.ignite.internal.cluster.management.topology.api.LogicalTopologyService;
 import org.apache.ignite.internal.eventlog.api.EventLog;
@@ -59,6 +61,7 @@ import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaSyncService;
 import org.apache.ignite.internal.sql.SqlCommon;
 import org.apache.ignite.internal.sql.configuration.distributed.CreateTableDefaultsView;
+import org.apache.ignite.internal.sql.configuration.distributed.ResourceGroupView;
 import org.apache.ignite.internal.sql.configuration.distributed.SqlDistributedConfiguration;
 import org.apache.ignite.internal.sql.configuration.local.SqlLocalConfiguration;
 import org.apache.ignite.internal.sql.engine.api.expressions.ExpressionFactory;
@@ -85,6 +88,8 @@ import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionDistributionProviderImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.mview.MaterializedViewManager;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroupManager;
 import org.apache.ignite.internal.sql.engine.expressions.SqlExpressionFactoryAdapter;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
@@ -209,6 +214,19 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     private final SqlExpressionFactory expressionFactory;
 
+    /** Resource groups the queries are assigned to. */
+    private final ResourceGroupManager resourceGroupManager = new ResourceGroupManager();
+
+    private final ConfigurationListener<NamedListView<ResourceGroupView>> resourceGroupsListener = ctx -> {
+        NamedListView<ResourceGroupView> groups = ctx.newValue();
+
+        if (groups != null) {
+            resourceGroupManager.configure(groups);
+        }
+
+        return nullCompletedFuture();
+    };
+
     /** Constructor. */
     public SqlQueryProcessor(
             ClusterService clusterSrvc,
@@ -268,6 +286,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 catalogManager,
                 sqlStatisticManager,
+                tableManager::supportsScanPushdown,
                 CACHE_FACTORY,
                 SCHEMA_CACHE_SIZE
         );
@@ -290,6 +309,9 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 metricManager));
         var mailboxRegistry = registerService(new MailboxRegistryImpl());
 
+        clusterCfg.resourceGroups().listen(resourceGroupsListener);
+        resourceGroupManager.configure(clusterCfg.resourceGroups().value());
+
         SqlClientMetricSource sqlClientMetricSource = new SqlClientMetricSource(this::openedCursors);
         metricManager.registerSource(sqlClientMetricSource);
         metricManager.enable(sqlClientMetricSource);
@@ -340,8 +362,21 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
         this.prepareSvc = prepareSvc;
 
+        var materializedViewManager = registerService(new MaterializedViewManager(
+                nodeName,
+                catalogManager,
+                tableManager,
+                schemaManager,
+                sqlSchemaManager,
+                placementDriver,
+                clockService,
+                txManager,
+                this,
+                commonScheduler
+        ));
+
         var ddlCommandHandler = registerService(
-                new DdlCommandHandler(catalogManager, clockService)
+                new DdlCommandHandler(catalogManager, clockService, materializedViewManager::refresh)
         );
 
         var executableTableRegistry = new ExecutableTableRegistryImpl(
@@ -352,7 +387,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
         var dependencyResolver = new ExecutionDependencyResolverImpl(
                 executableTableRegistry,
-                view -> () -> systemViewManager.scanView(view.name())
+                view -> criteria -> systemViewManager.scanView(view.name(), criteria)
         );
 
         var partitionPruner = new PartitionPrunerImpl();
@@ -392,7 +427,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 killCommandHandler,
                 expressionFactory,
                 EXECUTION_SERVICE_SHUTDOWN_TIMEOUT,
-                SqlPlanToTxSchemaVersionValidator.create(schemaSyncService, catalogManager)
+                SqlPlanToTxSchemaVersionValidator.create(schemaSyncService, catalogManager),
+                resourceGroupManager
         ));
 
         queryExecutor = registerService(new QueryExecutor(
@@ -410,10 +446,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 txTracker,
                 new QueryIdGenerator(nodeName.hashCode()),
                 eventLog,
-                sqlQueryMetricSource
+                sqlQueryMetricSource,
+                resourceGroupManager
         ));
 
-        queriesViewProvider.init(queryExecutor, prepareSvc);
+        queriesViewProvider.init(queryExecutor, prepareSvc, executionSrvc.queryProfiles());
 
         logicalTopologyService.addEventListener(executionSrvc);
 
@@ -435,6 +472,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
         busyLock.block();
 
+        clusterCfg.resourceGroups().stopListen(resourceGroupsListener);
+
         metricManager.unregisterSource(SqlClientMetricSource.NAME);
 
         List<LifecycleAware> services = new ArrayList<>(this.services);
@@ -632,7 +671,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     @Override
     public List<SystemView<?>> systemViews() {
-        return queriesViewProvider.getViews();
+        List<SystemView<?>> views = new ArrayList<>(queriesViewProvider.getViews());
+
+        views.add(resourceGroupManager.systemView());
+
+        return views;
     }
 
     @Override
@@ -17,9 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
 import org.jetbrains.annotations.Nullable;
@@ -42,12 +40,13 @@ public interface ExchangeService extends LifecycleAware {
      * @param exchangeId The ID of the exchange through which the data will be sent.
      * @param batchId The ID of the batch to which the data belongs.
      * @param last Indicates whether this is the last batch of data to be sent.
-     * @param rows The data to be sent.
+     * @param rows Packed rows to be sent.
+     * @param profile Runtime statistics of the sending fragment, or null if statistics are not collected.
      * @return A {@link CompletableFuture future} representing the result of operation,
      *      which completes when the data has been sent.
      */
     CompletableFuture<Void> sendBatch(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int batchId, boolean last,
-            List<BinaryTupleMessage> rows);
+            RowBatch rows, @Nullable String profile);
 
     /**
      * Asynchronously requests data from the specified node.
@@ -20,7 +20,6 @@ package org.apache.ignite.internal.sql.engine.exec;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.hlc.ClockService;
@@ -29,7 +28,6 @@ import org.apache.ignite.internal.lang.SqlExceptionMapperUtil;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.api.expressions.ExpressionEvaluationException;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
@@ -84,7 +82,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> sendBatch(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int batchId,
-            boolean last, List<BinaryTupleMessage> rows) {
+            boolean last, RowBatch rows, @Nullable String profile) {
 
         return messageService.send(
                 nodeName,
@@ -95,7 +93,11 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .exchangeId(exchangeId)
                         .batchId(batchId)
                         .last(last)
-                        .rows(rows)
+                        .elementCount(rows.elementCount())
+                        .rowOffsets(rows.rowOffsets())
+                        .rows(rows.data())
+                        .compressed(rows.compressed())
+                        .profile(profile)
                         .timestamp(clockService.now())
                         .build()
         );
@@ -184,7 +186,9 @@ public class ExchangeServiceImpl implements ExchangeService {
 
         if (inbox != null) {
             try {
-                inbox.onBatchReceived(node.name(), msg.batchId(), msg.last(), msg.rows());
+                RowBatch rows = new RowBatch(msg.elementCount(), msg.rowOffsets(), msg.rows(), msg.compressed());
+
+                inbox.onBatchReceived(node.name(), msg.batchId(), msg.last(), rows, msg.profile());
             } catch (Throwable e) {
                 Throwable toUse = convertEvaluationException(e);
 
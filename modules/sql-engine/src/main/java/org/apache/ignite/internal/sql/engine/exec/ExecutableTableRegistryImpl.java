@@ -102,7 +102,7 @@ public class ExecutableTableRegistryImpl implements ExecutableTableRegistry {
         }
 
         InternalTable internalTable = table.internalTable();
-        ScannableTable scannableTable = new ScannableTableImpl(internalTable, indexMeta, converterFactory);
+        ScannableTable scannableTable = new ScannableTableImpl(internalTable, indexMeta, converterFactory, schemaDescriptor.version());
         TableRowConverter rowConverter = converterFactory.create(null);
 
         UpdatableTableImpl updatableTable = new UpdatableTableImpl(
@@ -46,6 +46,8 @@ import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryPriority;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningColumns;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningMetadata;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
@@ -116,6 +118,10 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
 
     private final @Nullable Long topologyVersion;
 
+    private final QueryPriority priority;
+
+    private final QueryMemoryTracker memoryTracker;
+
     /**
      * Constructor.
      *
@@ -152,6 +158,52 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
             Clock clock,
             @Nullable String username,
             @Nullable Long topologyVersion
+    ) {
+        this(sqlExpressionFactory, executor, executionId, localNode, originatingNodeName, originatingNodeId, description, handler,
+                rowFactoryFactory, params, txAttributes, timeZoneId, inBufSize, clock, username, topologyVersion, QueryPriority.NORMAL,
+                QueryMemoryTracker.NO_OP);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sqlExpressionFactory Expression factory.
+     * @param executor Task executor.
+     * @param executionId Execution ID.
+     * @param localNode Local node.
+     * @param originatingNodeName Name of the node that initiated the query.
+     * @param description Partitions information.
+     * @param handler Row handler.
+     * @param rowFactoryFactory Factory that produces factories to create row..
+     * @param params Parameters.
+     * @param txAttributes Transaction attributes.
+     * @param timeZoneId Session time-zone ID.
+     * @param inBufSize Default execution nodes' internal buffer size. Negative value means default value.
+     * @param clock The clock to use to get the system time.
+     * @param username Authenticated user name or {@code null} for unknown user.
+     * @param topologyVersion Topology version the query was mapped on.
+     * @param priority Priority of the execution tasks of the query.
+     * @param memoryTracker Tracker of the memory retained by execution nodes of the query.
+     */
+    public ExecutionContext(
+            SqlExpressionFactory sqlExpressionFactory,
+            QueryTaskExecutor executor,
+            ExecutionId executionId,
+            InternalClusterNode localNode,
+            String originatingNodeName,
+            UUID originatingNodeId,
+            FragmentDescription description,
+            RowHandler<RowT> handler,
+            RowFactoryFactory<RowT> rowFactoryFactory,
+            Map<String, Object> params,
+            TxAttributes txAttributes,
+            ZoneId timeZoneId,
+            int inBufSize,
+            Clock clock,
+            @Nullable String username,
+            @Nullable Long topologyVersion,
+            QueryPriority priority,
+            QueryMemoryTracker memoryTracker
     ) {
         this.sqlExpressionFactory = sqlExpressionFactory;
         this.executor = executor;
@@ -168,6 +220,8 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         this.inBufSize = inBufSize < 0 ? Commons.IN_BUFFER_SIZE : inBufSize;
         this.currentUser = username;
         this.topologyVersion = topologyVersion;
+        this.priority = priority;
+        this.memoryTracker = memoryTracker;
 
         assert this.inBufSize > 0 : this.inBufSize;
 
@@ -213,6 +267,11 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         return description;
     }
 
+    /** Returns {@code true} if runtime statistics of the fragment must be collected. */
+    public boolean profile() {
+        return description.profile();
+    }
+
     /**
      * Get remote nodes for the given exchange id.
      *
@@ -333,6 +392,11 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         return topologyVersion;
     }
 
+    /** Returns the tracker of the memory retained by execution nodes of the query. */
+    public QueryMemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
     /** Gets dynamic parameters by name. */
     private @Nullable Object getParameter(String name) {
         assert name.startsWith("?") : name;
@@ -403,7 +467,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
             return;
         }
 
-        executor.execute(queryId(), fragmentId(), () -> {
+        executor.execute(queryId(), fragmentId(), priority, () -> {
             try {
                 if (!isCancelled()) {
                     task.run();
@@ -435,7 +499,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
     public CompletableFuture<?> submit(RunnableX task, Consumer<Throwable> onError) {
         assert !isCancelled() : "Call submit after execution was cancelled.";
 
-        return executor.submit(queryId(), fragmentId(), () -> {
+        return executor.submit(queryId(), fragmentId(), priority, () -> {
             try {
                 task.run();
             } catch (Throwable e) {
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.exec;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.sql.engine.externalize.RelJsonReader.fromJson;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
@@ -33,6 +34,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -103,6 +105,10 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.MappingUtils;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryPriority;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroupManager;
 import org.apache.ignite.internal.sql.engine.message.ErrorMessage;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
@@ -186,6 +192,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
     private final SqlPlanToTxSchemaVersionValidator planValidator;
 
+    private final ResourceGroupManager resourceGroups;
+
+    private final QueryProfileRegistry queryProfiles = new QueryProfileRegistry();
+
     /**
      * Constructor.
      *
@@ -202,6 +212,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
      * @param killCommandHandler Kill command handler.
      * @param shutdownTimeout Shutdown timeout.
      * @param planValidator Validator of the catalog version from the plan relative to the started transaction.
+     * @param resourceGroups Registry of resource groups the queries are assigned to.
      */
     public ExecutionServiceImpl(
             MessageService messageService,
@@ -219,7 +230,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             KillCommandHandler killCommandHandler,
             SqlExpressionFactory sqlExpressionFactory,
             long shutdownTimeout,
-            SqlPlanToTxSchemaVersionValidator planValidator
+            SqlPlanToTxSchemaVersionValidator planValidator,
+            ResourceGroupManager resourceGroups
     ) {
         this.localNode = localNode;
         this.handler = handler;
@@ -237,6 +249,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         this.sqlExpressionFactory = sqlExpressionFactory;
         this.shutdownTimeout = shutdownTimeout;
         this.planValidator = planValidator;
+        this.resourceGroups = resourceGroups;
     }
 
     /**
@@ -260,6 +273,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
      * @param killCommandHandler Kill command handler.
      * @param shutdownTimeout Shutdown timeout.
      * @param planValidator Validator of the catalog version from the plan relative to the started transaction.
+     * @param resourceGroups Registry of resource groups the queries are assigned to.
      * @return An execution service.
      */
     public static <RowT> ExecutionServiceImpl<RowT> create(
@@ -280,7 +294,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             KillCommandHandler killCommandHandler,
             SqlExpressionFactory sqlExpressionFactory,
             long shutdownTimeout,
-            SqlPlanToTxSchemaVersionValidator planValidator
+            SqlPlanToTxSchemaVersionValidator planValidator,
+            ResourceGroupManager resourceGroups
     ) {
         return new ExecutionServiceImpl<>(
                 msgSrvc,
@@ -304,7 +319,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 killCommandHandler,
                 sqlExpressionFactory,
                 shutdownTimeout,
-                planValidator
+                planValidator,
+                resourceGroups
         );
     }
 
@@ -322,17 +338,34 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         return ddlCmdHnd;
     }
 
+    /** Returns profiles of the slowest queries executed by {@code EXPLAIN ANALYZE} on this node. */
+    public QueryProfileRegistry queryProfiles() {
+        return queryProfiles;
+    }
+
     private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeQuery(
             SqlOperationContext operationContext,
             MultiStepPlan plan
     ) {
+        return executeQuery(operationContext, plan, registerQueryManager(operationContext, false));
+    }
+
+    private DistributedQueryManager registerQueryManager(SqlOperationContext operationContext, boolean profile) {
         ExecutionId executionid = nextExecutionId(operationContext.queryId());
-        DistributedQueryManager queryManager = new DistributedQueryManager(executionid, localNode.name(), true, operationContext);
+        DistributedQueryManager queryManager = new DistributedQueryManager(executionid, localNode.name(), true, profile, operationContext);
 
         DistributedQueryManager old = queryManagerMap.put(executionid, queryManager);
 
         assert old == null;
 
+        return queryManager;
+    }
+
+    private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeQuery(
+            SqlOperationContext operationContext,
+            MultiStepPlan plan,
+            DistributedQueryManager queryManager
+    ) {
         boolean readOnly = plan.type().implicitTransactionReadOnlyMode();
 
         QueryTransactionWrapper txWrapper = getOrStartTransaction(operationContext, readOnly);
@@ -411,6 +444,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             Object[] params, 
             HybridTimestamp operationTime, 
             @Nullable String username,
+            @Nullable String resourceGroup,
             @Nullable Long topologyVersion
     ) {
         return SqlOperationContext.builder()
@@ -419,6 +453,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 .timeZoneId(timeZoneId)
                 .operationTime(operationTime)
                 .userName(username)
+                .resourceGroup(resourceGroup)
                 .topologyVersion(topologyVersion)
                 .build();
     }
@@ -621,11 +656,83 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                                 .thenApply(List::iterator);
 
                 return new IteratorToDataCursorAdapter<>(fragments0, Runnable::run);
+            case ANALYZE:
+                return new IteratorToDataCursorAdapter<>(executeAnalyze(operationContext, plan.plan()), Runnable::run);
             default:
                 throw new IllegalArgumentException("Unsupported mode: " + plan.mode());
         }
     }
 
+    /**
+     * Executes the query fetching all its rows, then renders the plan together with runtime statistics collected
+     * from all fragments of the query. The profile is also kept in the {@link #queryProfiles() registry}.
+     */
+    private CompletableFuture<Iterator<InternalSqlRow>> executeAnalyze(
+            SqlOperationContext operationContext,
+            ExplainablePlan plan
+    ) {
+        Instant startTime = Instant.now();
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<AsyncDataCursor<InternalSqlRow>> cursorFut;
+        DistributedQueryManager queryManager;
+
+        if (plan instanceof MultiStepPlan) {
+            queryManager = registerQueryManager(operationContext, true);
+            cursorFut = executeQuery(operationContext, (MultiStepPlan) plan, queryManager);
+        } else {
+            assert plan instanceof ExecutablePlan : plan.getClass();
+
+            // Plans executed without fragments have no execution tree, thus only the totals are available.
+            queryManager = null;
+            cursorFut = completedFuture(executeExecutablePlan(operationContext, (ExecutablePlan) plan));
+        }
+
+        return cursorFut
+                .thenCompose(cursor -> fetchAll(cursor, 0L).whenComplete((rows, err) -> {
+                    if (err != null) {
+                        cursor.closeAsync();
+                    }
+                }))
+                .thenCompose(rows -> {
+                    long durationNanos = System.nanoTime() - startNanos;
+
+                    CompletableFuture<String> statistics = queryManager != null
+                            ? queryManager.profile()
+                            : completedFuture(format("RootNode: rows={}, totalTime={}ms", rows, NANOSECONDS.toMillis(durationNanos)));
+
+                    return statistics.thenApply(stats -> {
+                        QueryProfile profile = new QueryProfile(
+                                operationContext.queryId(),
+                                operationContext.sql(),
+                                operationContext.defaultSchemaName(),
+                                startTime,
+                                durationNanos,
+                                rows,
+                                plan.explain(),
+                                stats
+                        );
+
+                        queryProfiles.register(profile);
+
+                        return List.<InternalSqlRow>of(new InternalSqlRowSingleString(profile.render())).iterator();
+                    });
+                });
+    }
+
+    private static CompletableFuture<Long> fetchAll(AsyncDataCursor<InternalSqlRow> cursor, long fetched) {
+        return cursor.requestNextAsync(Commons.IN_BUFFER_SIZE)
+                .thenCompose(batch -> {
+                    long total = fetched + batch.items().size();
+
+                    if (batch.hasMore()) {
+                        return fetchAll(cursor, total);
+                    }
+
+                    return cursor.closeAsync().thenApply(none -> total);
+                });
+    }
+
     private void onMessage(InternalClusterNode node, QueryStartRequest msg) {
         assert node != null && msg != null;
 
@@ -756,6 +863,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     msg.parameters(), 
                     msg.operationTime(), 
                     msg.username(),
+                    msg.resourceGroup(),
                     msg.topologyVersion()
             );
 
@@ -910,6 +1018,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         private final ExecutionId executionId;
         private final boolean coordinator;
 
+        /** Whether fragments of the query must collect runtime statistics. */
+        private final boolean profile;
+
         private final String coordinatorNodeName;
 
         private final SqlOperationContext ctx;
@@ -932,15 +1043,22 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         /** On the initiator this field is assigned when mapping completes. */
         private volatile @Nullable Long topologyVersion;
 
+        private final QueryPriority priority;
+
+        /** Tracker of the memory retained by all local fragments of the query. */
+        private final QueryMemoryTracker memoryTracker;
+
         private DistributedQueryManager(
                 ExecutionId executionId,
                 String coordinatorNodeName,
                 boolean coordinator,
+                boolean profile,
                 SqlOperationContext ctx
         ) {
             this.executionId = executionId;
             this.ctx = ctx;
             this.coordinator = coordinator;
+            this.profile = profile;
             this.coordinatorNodeName = coordinatorNodeName;
 
             if (coordinator) {
@@ -958,6 +1076,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             }
 
             this.topologyVersion = ctx.topologyVersion();
+
+            ResourceGroup resourceGroup = resourceGroups.group(ctx.resourceGroup());
+
+            this.priority = resourceGroup.priority();
+            this.memoryTracker = new QueryMemoryTracker(resourceGroup);
         }
 
         private DistributedQueryManager(
@@ -965,13 +1088,20 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 String coordinatorNodeName, 
                 SqlOperationContext ctx
         ) {
-            this(executionId, coordinatorNodeName, false, ctx);
+            this(executionId, coordinatorNodeName, false, false, ctx);
         }
 
         private List<AbstractNode<?>> localFragments() {
             return List.copyOf(localFragments);
         }
 
+        /** Returns runtime statistics of all fragments, available once all rows of the query have been fetched. */
+        private CompletableFuture<String> profile() {
+            assert root != null;
+
+            return root.thenCompose(AsyncRootNode::profile);
+        }
+
         private CompletableFuture<Void> sendFragment(
                 String targetNodeName,
                 String serialisedFragment,
@@ -994,6 +1124,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     .timestamp(clockService.now())
                     .username(ctx.userName())
                     .topologyVersion(topologyVersion)
+                    .resourceGroup(ctx.resourceGroup())
                     .build();
 
             return messageService.send(targetNodeName, request);
@@ -1099,7 +1230,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     -1,
                     Clock.systemUTC(),
                     ctx.userName(),
-                    topologyVersion
+                    topologyVersion,
+                    priority,
+                    memoryTracker
             );
         }
 
@@ -1237,7 +1370,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                         mappedFragment.groupsBySourceId(),
                         mappedFragment.target(),
                         mappedFragment.sourcesByExchangeId(),
-                        mappedFragment.partitionPruningMetadata()
+                        mappedFragment.partitionPruningMetadata(),
+                        profile
                 );
 
                 for (String nodeName : mappedFragment.nodes()) {
@@ -1353,6 +1487,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     LOG.warn("Fragment closing processed with errors: [queryId={}]", ex, ctx.queryId());
                 }
 
+                memoryTracker.close();
+
                 queryManagerMap.remove(executionId);
 
                 cancelFut.complete(null);
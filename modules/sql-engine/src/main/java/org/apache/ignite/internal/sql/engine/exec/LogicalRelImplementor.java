@@ -26,12 +26,17 @@ import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.apache.ignite.internal.util.CollectionUtils.first;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -47,6 +52,7 @@ import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
@@ -60,6 +66,7 @@ import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.schema.BinaryTupleSchema;
 import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeIterable;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlComparator;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
@@ -149,8 +156,10 @@ import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMath;
 import org.apache.ignite.internal.sql.engine.util.IgniteResource;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.apache.ignite.sql.ColumnType;
 import org.apache.ignite.sql.SqlException;
 import org.jetbrains.annotations.Nullable;
 
@@ -163,6 +172,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.FULL, JoinRelType.RIGHT
     );
 
+    /** Types of the system view columns whose internal representation matches the one used by the view itself. */
+    private static final EnumSet<ColumnType> PUSHABLE_SYSTEM_VIEW_COLUMN_TYPES = EnumSet.of(
+            ColumnType.BOOLEAN, ColumnType.INT8, ColumnType.INT16, ColumnType.INT32, ColumnType.INT64, ColumnType.STRING, ColumnType.UUID
+    );
+
     private static final Comparator<IntPair> CONDITION_PAIRS_COMPARATOR = Comparator.comparingInt(
                     (IntPair l) -> Math.max(l.source, l.target)).thenComparingInt(l -> Math.min(l.source, l.target));
 
@@ -579,10 +593,36 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 partitionProvider,
                 filters,
                 prj,
-                requiredColumns
+                requiredColumns,
+                columnRanges(tbl, rel.zoneMapBounds())
         );
     }
 
+    /** Builds single-column ranges a storage may use to skip rows, keyed by the table column index. */
+    private @Nullable Int2ObjectMap<RangeCondition<RowT>> columnRanges(IgniteTable tbl, Int2ObjectMap<SearchBounds> boundsByColumn) {
+        if (boundsByColumn.isEmpty()) {
+            return null;
+        }
+
+        Int2ObjectMap<RangeCondition<RowT>> ranges = new Int2ObjectOpenHashMap<>(boundsByColumn.size());
+
+        for (Int2ObjectMap.Entry<SearchBounds> entry : boundsByColumn.int2ObjectEntrySet()) {
+            int column = entry.getIntKey();
+
+            RelDataType columnRowType = tbl.getRowType(ctx.getTypeFactory(), ImmutableIntList.of(column));
+
+            Iterator<RangeCondition<RowT>> it = expressionFactory.ranges(List.of(entry.getValue()), columnRowType, null)
+                    .get(ctx)
+                    .iterator();
+
+            if (it.hasNext()) {
+                ranges.put(column, it.next());
+            }
+        }
+
+        return ranges;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteSystemViewScan rel) {
@@ -611,12 +651,17 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             prj = row -> sqlProjection.project(ctx, row);
         }
 
+        SystemViewScanCriteria criteria = condition == null
+                ? SystemViewScanCriteria.NONE
+                : systemViewScanCriteria(condition, igniteDataSource.descriptor(), requiredColumns);
+
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
         return new DataSourceScanNode<>(
                 ctx,
                 rowFactory,
                 schema,
                 dataSource,
+                criteria,
                 filters,
                 prj,
                 requiredColumns
@@ -1143,6 +1188,56 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return joinProjection;
     }
 
+    /**
+     * Collects conjuncts of the form {@code column = constant} of the given scan condition into criteria to be pushed down to
+     * the provider of a system view. The condition itself is still applied to every row, so only the conjuncts that are safe to
+     * evaluate in advance are collected and all the rest are simply ignored.
+     */
+    private SystemViewScanCriteria systemViewScanCriteria(
+            RexNode condition,
+            TableDescriptor descriptor,
+            @Nullable ImmutableIntList requiredColumns
+    ) {
+        Map<String, Object> constraints = new HashMap<>();
+
+        for (RexNode conjunct : RelOptUtil.conjunctions(condition)) {
+            if (!conjunct.isA(SqlKind.EQUALS)) {
+                continue;
+            }
+
+            RexNode ref = ((RexCall) conjunct).getOperands().get(0);
+            RexNode value = ((RexCall) conjunct).getOperands().get(1);
+
+            if (!(ref instanceof RexInputRef)) {
+                RexNode tmp = ref;
+                ref = value;
+                value = tmp;
+            }
+
+            if (!(ref instanceof RexInputRef) || !(value instanceof RexDynamicParam || RexUtil.isLiteral(value, true))) {
+                continue;
+            }
+
+            int fieldIdx = ((RexInputRef) ref).getIndex();
+            ColumnDescriptor column = descriptor.columnDescriptor(requiredColumns == null ? fieldIdx : requiredColumns.getInt(fieldIdx));
+            ColumnType columnType = column.physicalType().spec();
+
+            if (!PUSHABLE_SYSTEM_VIEW_COLUMN_TYPES.contains(columnType)) {
+                continue;
+            }
+
+            Object constant = expressionFactory.scalar(value).get(ctx);
+
+            // A constant of another type is compared with a column by the rules of type coercion, which
+            // the data provider of a view is unaware of.
+            if (constant != null && constant.getClass() == columnType.javaClass()) {
+                constraints.putIfAbsent(column.name(), constant);
+            }
+        }
+
+        return SystemViewScanCriteria.of(constraints);
+    }
+
     private long validateAndGetFetchOffsetParams(RexNode node, String op) {
         SqlScalar<Number> sqlScalar = expressionFactory.scalar(node);
         Number param = sqlScalar.get(ctx);
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runtime statistics of a query executed by {@code EXPLAIN ANALYZE}.
+ */
+public class QueryProfile {
+    private final UUID queryId;
+    private final @Nullable String sql;
+    private final @Nullable String defaultSchemaName;
+    private final Instant startTime;
+    private final long durationNanos;
+    private final long rows;
+
+    @IgniteToStringExclude
+    private final String plan;
+
+    @IgniteToStringExclude
+    private final String statistics;
+
+    /**
+     * Constructor.
+     *
+     * @param queryId Identifier of the query.
+     * @param sql Text of the explained statement.
+     * @param defaultSchemaName Default schema the query was executed with.
+     * @param startTime Time the execution was started.
+     * @param durationNanos Duration of the execution including fetching of all rows.
+     * @param rows Number of rows returned by the query.
+     * @param plan Explain representation of the executed plan.
+     * @param statistics Rendered per-operator statistics of all fragments.
+     */
+    public QueryProfile(
+            UUID queryId,
+            @Nullable String sql,
+            @Nullable String defaultSchemaName,
+            Instant startTime,
+            long durationNanos,
+            long rows,
+            String plan,
+            String statistics
+    ) {
+        this.queryId = queryId;
+        this.sql = sql;
+        this.defaultSchemaName = defaultSchemaName;
+        this.startTime = startTime;
+        this.durationNanos = durationNanos;
+        this.rows = rows;
+        this.plan = plan;
+        this.statistics = statistics;
+    }
+
+    /** Returns identifier of the query. */
+    public UUID queryId() {
+        return queryId;
+    }
+
+    /** Returns text of the explained statement. */
+    public @Nullable String sql() {
+        return sql;
+    }
+
+    /** Returns default schema the query was executed with. */
+    public @Nullable String defaultSchemaName() {
+        return defaultSchemaName;
+    }
+
+    /** Returns time the execution was started. */
+    public Instant startTime() {
+        return startTime;
+    }
+
+    /** Returns duration of the execution in nanoseconds. */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /** Returns number of rows returned by the query. */
+    public long rows() {
+        return rows;
+    }
+
+    /** Returns explain representation of the executed plan. */
+    public String plan() {
+        return plan;
+    }
+
+    /** Returns rendered per-operator statistics of all fragments. */
+    public String statistics() {
+        return statistics;
+    }
+
+    /** Renders the plan followed by the runtime statistics, as returned to the user. */
+    public String render() {
+        return plan + System.lineSeparator() + "Execution statistics:" + System.lineSeparator() + statistics;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(QueryProfile.class, this);
+    }
+}
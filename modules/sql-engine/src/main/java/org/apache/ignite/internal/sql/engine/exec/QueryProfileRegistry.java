@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps profiles of the slowest queries executed by {@code EXPLAIN ANALYZE} on the local node.
+ *
+ * <p>Once the capacity is reached, a new profile evicts the fastest one, provided the new one is slower.
+ */
+public class QueryProfileRegistry {
+    /** Default number of profiles to keep. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final Comparator<QueryProfile> BY_DURATION = Comparator.comparingLong(QueryProfile::durationNanos);
+
+    private final int capacity;
+
+    /** Min-heap by duration, thus the head is the first candidate for eviction. Guarded by {@code this}. */
+    private final PriorityQueue<QueryProfile> profiles;
+
+    /** Creates a registry with {@link #DEFAULT_CAPACITY default} capacity. */
+    public QueryProfileRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of profiles to keep.
+     */
+    public QueryProfileRegistry(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.profiles = new PriorityQueue<>(capacity, BY_DURATION);
+    }
+
+    /**
+     * Registers a profile of the finished query.
+     *
+     * @param profile Profile to register.
+     */
+    public synchronized void register(QueryProfile profile) {
+        if (profiles.size() < capacity) {
+            profiles.add(profile);
+        } else if (BY_DURATION.compare(profiles.peek(), profile) < 0) {
+            profiles.poll();
+            profiles.add(profile);
+        }
+    }
+
+    /** Returns a snapshot of registered profiles, the slowest first. */
+    public synchronized List<QueryProfile> profiles() {
+        List<QueryProfile> snapshot = new ArrayList<>(profiles);
+
+        snapshot.sort(BY_DURATION.reversed());
+
+        return snapshot;
+    }
+}
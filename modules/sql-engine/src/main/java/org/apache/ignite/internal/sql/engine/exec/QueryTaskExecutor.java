@@ -21,6 +21,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryPriority;
 
 /**
  * QueryTaskExecutor interface.
@@ -47,6 +48,35 @@ public interface QueryTaskExecutor extends LifecycleAware, Executor {
      */
     CompletableFuture<?> submit(UUID qryId, long fragmentId, Runnable qryTask);
 
+    /**
+     * Executes a query task of the given priority in a thread, responsible for particular query fragment.
+     *
+     * <p>Executors which don't support prioritization ignore the priority.
+     *
+     * @param qryId      Query ID.
+     * @param fragmentId Fragment ID.
+     * @param priority   Priority of the task.
+     * @param qryTask    Query task.
+     */
+    default void execute(UUID qryId, long fragmentId, QueryPriority priority, Runnable qryTask) {
+        execute(qryId, fragmentId, qryTask);
+    }
+
+    /**
+     * Same as {@link #submit(UUID, long, Runnable)}, but with the given priority of the task.
+     *
+     * <p>Executors which don't support prioritization ignore the priority.
+     *
+     * @param qryId      Id of the query this task created for.
+     * @param fragmentId Id of the particular fragment this task created for.
+     * @param priority   Priority of the task.
+     * @param qryTask    The task to submit.
+     * @return the new CompletableFuture
+     */
+    default CompletableFuture<?> submit(UUID qryId, long fragmentId, QueryPriority priority, Runnable qryTask) {
+        return submit(qryId, fragmentId, qryTask);
+    }
+
     /**
      * Blocks until all tasks have completed execution after a shutdown
      * request, or the timeout occurs, or the current thread is
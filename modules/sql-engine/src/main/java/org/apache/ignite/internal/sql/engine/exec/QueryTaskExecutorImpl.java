@@ -24,15 +24,18 @@ import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.failure.FailureContext;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.metrics.sources.StripedThreadPoolMetricSource;
+import org.apache.ignite.internal.sql.engine.exec.workload.QueryPriority;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -59,6 +62,9 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     private final MetricManager metricManager;
 
+    /** Sequence number of the submitted tasks, used to order the tasks in the queues of the stripes. */
+    private final AtomicLong taskSequence = new AtomicLong();
+
     /**
      * Constructor.
      *
@@ -85,7 +91,8 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
                 concurrencyLevel,
                 IgniteThreadFactory.create(nodeName, "sql-execution-pool", LOG, NOTHING_ALLOWED),
                 false,
-                0
+                0,
+                PriorityBlockingQueue::new
         );
 
         metricManager.registerSource(new StripedThreadPoolMetricSource<>(QUERY_EXECUTOR_SOURCE_NAME, null, stripedThreadPoolExecutor));
@@ -94,11 +101,26 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     @Override
     public void execute(UUID qryId, long fragmentId, Runnable qryTask) {
+        execute(qryId, fragmentId, QueryPriority.NORMAL, qryTask);
+    }
+
+    @Override
+    public void execute(UUID qryId, long fragmentId, QueryPriority priority, Runnable qryTask) {
         int commandIdx = hash(qryId, fragmentId);
         stripedThreadPoolExecutor.execute(
-                () -> {
+                new PrioritizedTask(deadline(priority), () -> {
+                    var event = new SqlFragmentExecutionEvent();
+                    event.begin();
+
                     try {
                         qryTask.run();
+
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.queryId = qryId.toString();
+                            event.fragmentId = fragmentId;
+                            event.commit();
+                        }
                     } catch (Throwable e) {
                         /*
                          * No exceptions are rethrown here to preserve the current thread from being destroyed,
@@ -115,7 +137,7 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
                                 new FailureContext(CRITICAL_ERROR, new IgniteException(INTERNAL_ERR, message, e))
                         );
                     }
-                },
+                }),
                 commandIdx
         );
     }
@@ -131,7 +153,21 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     @Override
     public CompletableFuture<?> submit(UUID qryId, long fragmentId, Runnable qryTask) {
-        return stripedThreadPoolExecutor.submit(qryTask, hash(qryId, fragmentId));
+        return submit(qryId, fragmentId, QueryPriority.NORMAL, qryTask);
+    }
+
+    @Override
+    public CompletableFuture<?> submit(UUID qryId, long fragmentId, QueryPriority priority, Runnable qryTask) {
+        int commandIdx = hash(qryId, fragmentId);
+
+        return CompletableFuture.runAsync(
+                qryTask,
+                command -> stripedThreadPoolExecutor.execute(new PrioritizedTask(deadline(priority), command), commandIdx)
+        );
+    }
+
+    private long deadline(QueryPriority priority) {
+        return taskSequence.getAndIncrement() + priority.deadlineOffset();
     }
 
     private static int hash(UUID qryId, long fragmentId) {
@@ -164,4 +200,30 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
         return totalQueueSize;
     }
+
+    /**
+     * Task ordered in the queue of a stripe by its deadline, which is the sequence number of the task shifted according to its priority.
+     *
+     * @see QueryPriority#deadlineOffset()
+     */
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final long deadline;
+
+        private final Runnable task;
+
+        private PrioritizedTask(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
 }
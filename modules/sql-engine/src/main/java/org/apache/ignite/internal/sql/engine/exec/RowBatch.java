@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.lang.ErrorGroups.Common;
+
+/**
+ * Rows of a single exchange batch, packed into one contiguous buffer.
+ *
+ * <p>Binary tuples of the rows are stored one after another and are located by the end offsets, so a batch costs the same number of
+ * objects regardless of the number of rows in it. Rows are read back as {@link BinaryTuple}s over slices of the buffer, without copying.
+ *
+ * <p>Large batches may be compressed, see {@link #COMPRESSION_THRESHOLD}. A compressed batch is inflated once, on the first access to
+ * its rows.
+ */
+public final class RowBatch {
+    /**
+     * Minimal size of packed rows, in bytes, starting from which a batch is compressed before being sent. Non-positive value, which is
+     * the default, disables compression: it only pays off when the network rather than the CPU is the bottleneck.
+     */
+    public static final int COMPRESSION_THRESHOLD = IgniteSystemProperties.getInteger("IGNITE_SQL_EXCHANGE_COMPRESSION_THRESHOLD", 0);
+
+    private final int elementCount;
+
+    /** End offsets of the rows in the uncompressed data. */
+    private final int[] rowOffsets;
+
+    private ByteBuffer data;
+
+    private boolean compressed;
+
+    /**
+     * Constructor.
+     *
+     * @param elementCount Number of elements in every row.
+     * @param rowOffsets End offsets of the rows in the uncompressed data.
+     * @param data Packed rows.
+     * @param compressed Whether the data is compressed.
+     */
+    public RowBatch(int elementCount, int[] rowOffsets, ByteBuffer data, boolean compressed) {
+        this.elementCount = elementCount;
+        this.rowOffsets = rowOffsets;
+        this.data = data;
+        this.compressed = compressed;
+    }
+
+    /**
+     * Packs rows into a batch.
+     *
+     * @param elementCount Number of elements in every row.
+     * @param rows Binary tuples of the rows.
+     * @param compressionThreshold Minimal size of packed rows to compress them, non-positive value disables compression.
+     * @return Batch.
+     */
+    public static RowBatch pack(int elementCount, List<ByteBuffer> rows, int compressionThreshold) {
+        int[] rowOffsets = new int[rows.size()];
+
+        int size = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            size += rows.get(i).remaining();
+
+            rowOffsets[i] = size;
+        }
+
+        ByteBuffer data = ByteBuffer.allocate(size);
+
+        for (ByteBuffer row : rows) {
+            data.put(row.duplicate());
+        }
+
+        data.flip();
+
+        if (compressionThreshold > 0 && size >= compressionThreshold) {
+            ByteBuffer deflated = deflate(data);
+
+            if (deflated != null) {
+                return new RowBatch(elementCount, rowOffsets, deflated, true);
+            }
+        }
+
+        return new RowBatch(elementCount, rowOffsets, data, false);
+    }
+
+    /** Returns the number of elements in every row. */
+    public int elementCount() {
+        return elementCount;
+    }
+
+    /** Returns end offsets of the rows in the uncompressed data. */
+    public int[] rowOffsets() {
+        return rowOffsets;
+    }
+
+    /** Returns packed rows, compressed if {@link #compressed()} is {@code true}. */
+    public ByteBuffer data() {
+        return data;
+    }
+
+    /** Returns {@code true} if the packed rows are compressed. */
+    public boolean compressed() {
+        return compressed;
+    }
+
+    /** Returns the number of rows in the batch. */
+    public int size() {
+        return rowOffsets.length;
+    }
+
+    /**
+     * Returns a row of the batch. The tuple shares the memory with the batch.
+     *
+     * @param idx Row index.
+     */
+    public BinaryTuple row(int idx) {
+        if (compressed) {
+            data = inflate(data, rowOffsets.length == 0 ? 0 : rowOffsets[rowOffsets.length - 1]);
+            compressed = false;
+        }
+
+        int begin = idx == 0 ? 0 : rowOffsets[idx - 1];
+
+        ByteBuffer tuple = data.duplicate().position(data.position() + begin).limit(data.position() + rowOffsets[idx]).slice();
+
+        return new BinaryTuple(elementCount, tuple.order(BinaryTupleParser.ORDER));
+    }
+
+    /** Returns the compressed data, or {@code null} if compression doesn't make it smaller. */
+    private static ByteBuffer deflate(ByteBuffer data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            deflater.finish();
+
+            // Output buffer is only as large as the input, so the deflater doesn't finish if the data turns out to be incompressible.
+            byte[] out = new byte[data.remaining()];
+
+            int len = deflater.deflate(out);
+
+            return deflater.finished() ? ByteBuffer.wrap(out, 0, len) : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ByteBuffer inflate(ByteBuffer data, int size) {
+        Inflater inflater = new Inflater();
+
+        try {
+            byte[] in = new byte[data.remaining()];
+
+            data.duplicate().get(in);
+
+            inflater.setInput(in);
+
+            byte[] out = new byte[size];
+
+            int len = inflater.inflate(out);
+
+            if (len != size || !inflater.finished()) {
+                throw new IgniteInternalException(Common.INTERNAL_ERR, "Corrupted row batch [expectedSize={}, actualSize={}]", size, len);
+            }
+
+            return ByteBuffer.wrap(out);
+        } catch (DataFormatException e) {
+            throw new IgniteInternalException(Common.INTERNAL_ERR, "Corrupted row batch", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -19,11 +19,19 @@ package org.apache.ignite.internal.sql.engine.exec;
 
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.lang.InternalTuple;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 
 /**
  * Provides read operations over an abstract data source.
  */
 @FunctionalInterface
 public interface ScannableDataSource {
-    Publisher<InternalTuple> scan();
+    /**
+     * Returns a publisher of the rows of the data source.
+     *
+     * @param criteria Criteria pushed down from a query. A data source may use them to skip rows that do not match,
+     *      but the caller must not rely on that.
+     * @return A publisher of rows.
+     */
+    Publisher<InternalTuple> scan(SystemViewScanCriteria criteria);
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
@@ -46,6 +47,30 @@ public interface ScannableTable {
             int @Nullable [] requiredColumns
     );
 
+    /**
+     * Performs a scan over table, letting the storage skip rows that are known to fall outside of the given column ranges.
+     *
+     * <p>The ranges are only a hint: the storage may return rows outside of them, so the scan filter must still be applied to the
+     * result.
+     *
+     * @param ctx  Execution context.
+     * @param partWithConsistencyToken  Partition.
+     * @param rowFactory  Row factory.
+     * @param requiredColumns  Required columns.
+     * @param columnRanges  Single-column ranges by the table column index, {@code null} if there are none.
+     * @return  A publisher that produces rows.
+     * @param <RowT>  A type of row.
+     */
+    default <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int @Nullable [] requiredColumns,
+            @Nullable Int2ObjectMap<RangeCondition<RowT>> columnRanges
+    ) {
+        return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+    }
+
     /**
      * Performs range scan using the given index.
      *
@@ -24,6 +24,9 @@ import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.binarytuple.BinaryTuple;
@@ -37,6 +40,8 @@ import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.table.IndexScanCriteria;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.OperationContext;
+import org.apache.ignite.internal.table.TableScanCriteria;
+import org.apache.ignite.internal.table.TableScanCriteria.ColumnRange;
 import org.apache.ignite.internal.table.TxContext;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -54,15 +59,20 @@ public class ScannableTableImpl implements ScannableTable {
 
     private final TableRowConverterFactory converterFactory;
 
+    /** Version of the schema the column indexes of the scans refer to. */
+    private final int schemaVersion;
+
     /** Constructor. */
     public ScannableTableImpl(
             InternalTable internalTable,
             Int2ObjectMap<IndexMeta> indexMeta,
-            TableRowConverterFactory converterFactory
+            TableRowConverterFactory converterFactory,
+            int schemaVersion
     ) {
         this.internalTable = internalTable;
         this.indexMeta = indexMeta;
         this.converterFactory = converterFactory;
+        this.schemaVersion = schemaVersion;
     }
 
     /** {@inheritDoc} */
@@ -84,6 +94,51 @@ public class ScannableTableImpl implements ScannableTable {
         return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int @Nullable [] requiredColumns,
+            @Nullable Int2ObjectMap<RangeCondition<RowT>> columnRanges
+    ) {
+        if (columnRanges == null || columnRanges.isEmpty()) {
+            return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+        }
+
+        TxContext txContext = transactionalContextFrom(ctx.txAttributes(), partWithConsistencyToken.enlistmentConsistencyToken());
+
+        RowHandler<RowT> handler = ctx.rowAccessor();
+
+        List<ColumnRange> ranges = new ArrayList<>(columnRanges.size());
+
+        for (Int2ObjectMap.Entry<RangeCondition<RowT>> entry : columnRanges.int2ObjectEntrySet()) {
+            RangeCondition<RowT> cond = entry.getValue();
+
+            ranges.add(new ColumnRange(
+                    entry.getIntKey(),
+                    toColumnBound(handler, cond.lower()),
+                    cond.lowerInclude(),
+                    toColumnBound(handler, cond.upper()),
+                    cond.upperInclude()
+            ));
+        }
+
+        int partId = partWithConsistencyToken.partId();
+
+        Publisher<BinaryRow> pub = internalTable.scan(
+                partId,
+                ctx.localNode(),
+                new TableScanCriteria(schemaVersion, toBitSet(requiredColumns), ranges),
+                OperationContext.create(txContext)
+        );
+
+        TableRowConverter rowConverter = converterFactory.create(requiredColumns, partId);
+
+        return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> Publisher<RowT> indexRangeScan(
@@ -234,6 +289,31 @@ public class ScannableTableImpl implements ScannableTable {
         return BinaryTuplePrefix.fromBinaryTuple(searchBoundSize, handler.toBinaryTuple(prefix));
     }
 
+    /** Converts a bound of a single-column range, a missing bound as well as a {@code null} one means the range is unbounded. */
+    private static <RowT> @Nullable BinaryTuple toColumnBound(RowHandler<RowT> handler, @Nullable RowT bound) {
+        if (bound == null) {
+            return null;
+        }
+
+        BinaryTuple tuple = handler.toBinaryTuple(bound);
+
+        return tuple.hasNullValue(0) ? null : tuple;
+    }
+
+    private static @Nullable BitSet toBitSet(int @Nullable [] requiredColumns) {
+        if (requiredColumns == null) {
+            return null;
+        }
+
+        BitSet columns = new BitSet();
+
+        for (int column : requiredColumns) {
+            columns.set(column);
+        }
+
+        return columns;
+    }
+
     private static TxContext transactionalContextFrom(TxAttributes txAttributes, long enlistmentConsistencyToken) {
         if (txAttributes.readOnly()) {
             HybridTimestamp timestamp = txAttributes.time();
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.ignite.internal.jfr.IgniteEvent;
+
+/** Flight recorder event of running a task of a query fragment in {@link QueryTaskExecutorImpl}. */
+@Name(IgniteEvent.NAME_PREFIX + "SqlFragmentExecution")
+@Label("SQL Fragment Execution")
+@Category({IgniteEvent.CATEGORY, "SQL"})
+@Description("Execution of a task of a query fragment on an SQL execution thread")
+class SqlFragmentExecutionEvent extends IgniteEvent {
+    @Label("Query ID")
+    String queryId;
+
+    @Label("Fragment ID")
+    long fragmentId;
+}
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 
 /**
  * Implementation of {@link BinaryRowEx} used by SQL engine from DML operations.
@@ -90,6 +91,19 @@ public class SqlOutputBinaryRow extends BinaryTupleReader implements BinaryRowEx
             InternalTuple binaryTuple,
             ToIntFunction<Column> columnPosition
     ) {
+        RangePartitioner rangePartitioner = descriptor.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Column column = descriptor.colocationColumns().get(0);
+
+            Object value = readValue(binaryTuple, column.type(), columnPosition.applyAsInt(column));
+
+            // Range-partitioned tables use the partition number as the colocation hash, see RangePartitioner.
+            int partition = rangePartitioner.partition(value);
+
+            return new SqlOutputBinaryRow(descriptor.version(), partition, binaryTuple.elementCount(), binaryTuple.byteBuffer());
+        }
+
         HashCalculator hashCalc = new HashCalculator();
 
         for (Column column : descriptor.colocationColumns()) {
@@ -23,14 +23,17 @@ import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogApplyResult;
 import org.apache.ignite.internal.catalog.CatalogCommand;
 import org.apache.ignite.internal.catalog.CatalogManager;
 import org.apache.ignite.internal.catalog.commands.AbstractCreateIndexCommand;
+import org.apache.ignite.internal.catalog.commands.CreateTableCommand;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
 import org.apache.ignite.internal.catalog.events.CatalogEventParameters;
 import org.apache.ignite.internal.catalog.events.MakeIndexAvailableEventParameters;
@@ -54,15 +57,35 @@ public class DdlCommandHandler implements LifecycleAware {
 
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
+    /** Populates a materialized view with the given ID, the returned future completes when the view is populated. */
+    private final IntFunction<CompletableFuture<Void>> materializedViewPopulator;
+
     /**
      * Constructor.
      */
     public DdlCommandHandler(
             CatalogManager catalogManager,
             ClockService clockService
+    ) {
+        this(catalogManager, clockService, viewId -> CompletableFutures.nullCompletedFuture());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param catalogManager Catalog manager.
+     * @param clockService Clock service.
+     * @param materializedViewPopulator Populates a materialized view with the given ID, the returned future completes when the view is
+     *         populated.
+     */
+    public DdlCommandHandler(
+            CatalogManager catalogManager,
+            ClockService clockService,
+            IntFunction<CompletableFuture<Void>> materializedViewPopulator
     ) {
         this.catalogManager = catalogManager;
         this.clockService = clockService;
+        this.materializedViewPopulator = materializedViewPopulator;
     }
 
     /**
@@ -116,11 +139,39 @@ public class DdlCommandHandler implements LifecycleAware {
         if (cmd instanceof AbstractCreateIndexCommand) {
             fut = fut.thenCompose(applyResult ->
                     inBusyLock(busyLock, () -> waitTillIndexBecomesAvailableOrRemoved((AbstractCreateIndexCommand) cmd, 0, applyResult)));
+        } else if (cmd instanceof CreateTableCommand) {
+            fut = fut.thenCompose(applyResult ->
+                    inBusyLock(busyLock, () -> populateIfMaterializedView((CreateTableCommand) cmd, applyResult)));
         }
 
         return fut;
     }
 
+    /** Populates the table created by the given command if the table is a materialized view, so the view is complete once created. */
+    private CompletableFuture<CatalogApplyResult> populateIfMaterializedView(CreateTableCommand cmd, CatalogApplyResult applyResult) {
+        if (!applyResult.isApplied(0)) {
+            return CompletableFuture.completedFuture(applyResult);
+        }
+
+        Catalog catalog = catalogManager.catalog(applyResult.getCatalogVersion());
+        assert catalog != null : applyResult.getCatalogVersion();
+
+        CatalogTableDescriptor table = catalog.table(cmd.schemaName(), cmd.tableName());
+
+        if (table == null || !table.isMaterializedView()) {
+            return CompletableFuture.completedFuture(applyResult);
+        }
+
+        // The view is populated by a regular transaction, which only sees the view once the catalog version creating it is active.
+        HybridTimestamp tsToWait = clusterWideEnsuredActivationTimestamp(catalog.time(), clockService.maxClockSkewMillis());
+
+        CompletableFuture<Void> future = inFlightFutures.registerFuture(
+                clockService.waitFor(tsToWait).thenCompose(none -> materializedViewPopulator.apply(table.id()))
+        );
+
+        return future.thenApply(none -> applyResult);
+    }
+
     private CompletableFuture<CatalogApplyResult> waitTillIndexBecomesAvailableOrRemoved(
             AbstractCreateIndexCommand cmd,
             int commandIdx,
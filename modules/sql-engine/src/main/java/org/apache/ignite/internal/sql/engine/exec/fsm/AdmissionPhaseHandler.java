@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.fsm;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
+import org.apache.ignite.internal.sql.engine.SqlOperationContext;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup.Admission;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+
+/**
+ * Handler that waits for an execution slot in the resource group the query is assigned to.
+ *
+ * <p>Only distributed queries are subject to admission control. Other plans are cheap enough to be executed right away. The slot is held
+ * until the query is terminated, and is retained if the query is re-planned due to recoverable error.
+ */
+class AdmissionPhaseHandler implements ExecutionPhaseHandler {
+    static final ExecutionPhaseHandler INSTANCE = new AdmissionPhaseHandler();
+
+    private AdmissionPhaseHandler() { }
+
+    @Override
+    public Result handle(Query query) {
+        if (query.admission != null || !(query.plan instanceof MultiStepPlan)) {
+            return Result.completed();
+        }
+
+        SqlOperationContext operationContext = query.operationContext;
+
+        assert operationContext != null;
+
+        Admission admission = query.executor.admit(operationContext.resourceGroup());
+
+        query.admission = admission;
+
+        query.terminationFuture.whenComplete((ignored, ex) -> admission.release());
+        query.cancel.add(timeout -> admission.cancel(new QueryCancelledException(
+                timeout ? QueryCancelledException.TIMEOUT_MSG : QueryCancelledException.CANCEL_MSG
+        )));
+
+        CompletableFuture<Void> future = admission.future();
+
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return Result.completed();
+        }
+
+        return Result.proceedAfter(future);
+    }
+}
@@ -25,6 +25,8 @@ public enum ExecutionPhase {
     PARSING(ParsingPhaseHandler.INSTANCE),
     /** AST is available now, optimization task is submitted. */
     OPTIMIZING(OptimizingPhaseHandler.INSTANCE),
+    /** Plan is ready, query waits for an execution slot in its resource group. */
+    ADMISSION(AdmissionPhaseHandler.INSTANCE),
     /** Query has been validated, plan is ready as well. At this point plan is mapped on cluster and cursor are initialised. */
     CURSOR_INITIALIZATION(CursorInitializationPhaseHandler.INSTANCE),
     /** Additional step to make sure cursor won't be published too early. */
@@ -22,15 +22,23 @@ import static org.apache.ignite.internal.sql.engine.exec.fsm.ValidationHelper.va
 import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
 import java.time.ZoneId;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import org.apache.calcite.sql.SqlHint;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.SqlWith;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup;
+import org.apache.ignite.internal.sql.engine.hint.IgniteHint;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
 import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
 
 /** Validates parsed AST acquired on the previous phase and submit optimization task to {@link PrepareService}. */
 class OptimizingPhaseHandler implements ExecutionPhaseHandler {
@@ -79,6 +87,7 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
         String schemaName = query.properties.defaultSchema();
         ZoneId timeZoneId = query.properties.timeZoneId();
         String userName = query.properties.userName();
+        ResourceGroup resourceGroup = query.executor.resolveResourceGroup(userName, requestedResourceGroup(result.parsedTree()));
 
         SqlOperationContext operationContext = SqlOperationContext.builder()
                 .queryId(query.id)
@@ -91,6 +100,8 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
                 .txUsedListener(tx -> query.usedTransaction = tx)
                 .errorHandler(query::setError)
                 .userName(userName)
+                .resourceGroup(resourceGroup.name())
+                .sql(query.sql)
                 .build();
 
         query.operationContext = operationContext;
@@ -98,6 +109,35 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
         return operationContext;
     }
 
+    /** Returns the name of the resource group requested by the {@link IgniteHint#RESOURCE_GROUP} hint, or {@code null} if not requested. */
+    private static @Nullable String requestedResourceGroup(SqlNode node) {
+        if (node instanceof SqlWith) {
+            node = ((SqlWith) node).body;
+        }
+
+        if (!(node instanceof SqlSelect) || !((SqlSelect) node).hasHints()) {
+            return null;
+        }
+
+        for (SqlNode hintNode : ((SqlSelect) node).getHints()) {
+            SqlHint hint = (SqlHint) hintNode;
+
+            if (!IgniteHint.RESOURCE_GROUP.name().equals(hint.getName())) {
+                continue;
+            }
+
+            List<String> options = hint.getOptionList();
+
+            if (options.size() != 1) {
+                throw new SqlException(STMT_VALIDATION_ERR, "Hint " + IgniteHint.RESOURCE_GROUP.name() + " expects exactly one option.");
+            }
+
+            return options.get(0);
+        }
+
+        return null;
+    }
+
     /** Checks that the statement is allowed within an external/script transaction. */
     private static void ensureStatementMatchesTx(SqlQueryType queryType, QueryTransactionContext txContext) {
         QueryTransactionWrapper txWrapper = txContext.explicitTx();
@@ -31,6 +31,7 @@ import org.apache.ignite.internal.sql.engine.InternalSqlRow;
 import org.apache.ignite.internal.sql.engine.QueryCancel;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
 import org.apache.ignite.internal.sql.engine.SqlProperties;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup.Admission;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
@@ -69,6 +70,7 @@ class Query {
     volatile @Nullable ParsedResult parsedResult = null;
     volatile @Nullable SqlOperationContext operationContext = null;
     volatile @Nullable QueryPlan plan = null;
+    volatile @Nullable Admission admission = null;
     volatile @Nullable QueryTransactionWrapper usedTransaction = null;
     volatile @Nullable AsyncSqlCursor<InternalSqlRow> cursor = null;
 
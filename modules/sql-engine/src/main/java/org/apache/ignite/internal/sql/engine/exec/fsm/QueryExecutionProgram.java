@@ -48,6 +48,10 @@ class QueryExecutionProgram extends Program<AsyncSqlCursor<InternalSqlRow>> {
                             : ExecutionPhase.SCRIPT_INITIALIZATION),
             new Transition(
                     ExecutionPhase.OPTIMIZING,
+                    query -> ExecutionPhase.ADMISSION
+            ),
+            new Transition(
+                    ExecutionPhase.ADMISSION,
                     query -> ExecutionPhase.CURSOR_INITIALIZATION
             ),
             new Transition(
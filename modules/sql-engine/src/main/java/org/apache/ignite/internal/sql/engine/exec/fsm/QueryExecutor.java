@@ -31,6 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.catalog.Catalog;
@@ -57,6 +59,8 @@ import org.apache.ignite.internal.sql.engine.exec.AsyncDataCursor.CancellationRe
 import org.apache.ignite.internal.sql.engine.exec.ExecutionService;
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
 import org.apache.ignite.internal.sql.engine.exec.TransactionalOperationTracker;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroupManager;
 import org.apache.ignite.internal.sql.engine.prepare.DdlPlan;
 import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
 import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
@@ -74,6 +78,7 @@ import org.apache.ignite.internal.util.ArrayUtils;
 import org.apache.ignite.internal.util.CompletableFutures;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.TransformingIterator;
 import org.apache.ignite.lang.CancelHandleHelper;
 import org.apache.ignite.lang.CancellationToken;
 import org.jetbrains.annotations.Nullable;
@@ -105,6 +110,8 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
 
     private final SqlQueryMetricSource queryMetricSource;
 
+    private final ResourceGroupManager resourceGroups;
+
     /**
      * Creates executor.
      *
@@ -123,6 +130,7 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
      * @param idGenerator Id generator used to provide cluster-wide unique query id.
      * @param eventLog Event log.
      * @param queryMetricSource Query metric source.
+     * @param resourceGroups Registry of resource groups the queries are assigned to.
      */
     public QueryExecutor(
             String nodeId,
@@ -139,7 +147,8 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
             TransactionalOperationTracker transactionalOperationTracker,
             QueryIdGenerator idGenerator,
             EventLog eventLog,
-            SqlQueryMetricSource queryMetricSource
+            SqlQueryMetricSource queryMetricSource,
+            ResourceGroupManager resourceGroups
     ) {
         this.queryToParsedResultCache = cacheFactory.create(parsedResultsCacheSize);
         this.parserService = parserService;
@@ -154,6 +163,7 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
         this.idGenerator = idGenerator;
         this.eventLog = eventLog;
         this.queryMetricSource = queryMetricSource;
+        this.resourceGroups = resourceGroups;
         this.eventsFactory = new QueryEventsFactory(nodeId);
     }
 
@@ -571,6 +581,29 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
         return clockService.now();
     }
 
+    ResourceGroup resolveResourceGroup(@Nullable String userName, @Nullable String requestedGroup) {
+        return resourceGroups.resolve(userName, requestedGroup);
+    }
+
+    /**
+     * Requests an execution slot in the given resource group. If the group limits the time a query may wait in the queue, the query is
+     * rejected once the timeout elapses.
+     */
+    ResourceGroup.Admission admit(@Nullable String resourceGroup) {
+        ResourceGroup group = resourceGroups.group(resourceGroup);
+        ResourceGroup.Admission admission = group.admit();
+
+        long queueTimeout = group.queueTimeoutMillis();
+
+        if (queueTimeout > 0 && !admission.future().isDone()) {
+            ScheduledFuture<?> timeoutTask = scheduler.schedule(admission::expire, queueTimeout, TimeUnit.MILLISECONDS);
+
+            admission.future().whenComplete((ignored, ex) -> timeoutTask.cancel(false));
+        }
+
+        return admission;
+    }
+
     CompletableFuture<AsyncDataCursor<InternalSqlRow>> executePlan(
             SqlOperationContext ctx,
             QueryPlan plan
@@ -607,7 +640,7 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
 
             long finishTime = clockService.current().getPhysical();
 
-            updateMetrics(query);
+            updateMetrics(query, finishTime);
 
             eventLog.log(IgniteEventType.QUERY_FINISHED.name(),
                     () -> eventsFactory.makeFinishEvent(new QueryInfo(query), EventUser.system(), finishTime));
@@ -625,6 +658,18 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
                 .collect(Collectors.toList());
     }
 
+    /** Returns an iterator over queries registered on server, which doesn't copy the registry. */
+    public Iterator<QueryInfo> runningQueriesIterator() {
+        return new TransformingIterator<>(runningQueries.values().iterator(), QueryInfo::new);
+    }
+
+    /** Returns a query with the given ID if it is registered on server at the moment. */
+    public @Nullable QueryInfo runningQuery(UUID queryId) {
+        Query query = runningQueries.get(queryId);
+
+        return query == null ? null : new QueryInfo(query);
+    }
+
     /** Aborts the query with the given query ID. */
     public CompletableFuture<Boolean> cancelQuery(UUID queryId) {
         Query query = runningQueries.get(queryId);
@@ -691,7 +736,7 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
         }
     }
 
-    private void updateMetrics(Query query) {
+    private void updateMetrics(Query query, long finishTime) {
         boolean individualStatement = query.parsedScript == null;
         // Ignore 'script' queries from metrics as well, because they act as containers for individual statements.
         if (!individualStatement) {
@@ -704,7 +749,7 @@ public class QueryExecutor implements LifecycleAware, Debuggable {
             updateFailureMetrics(err);
         } else {
             if (err == null) {
-                queryMetricSource.success();
+                queryMetricSource.success(Math.max(0, finishTime - query.createdAt.toEpochMilli()));
             } else {
                 updateFailureMetrics(err);
             }
@@ -33,6 +33,10 @@ class ScriptItemExecutionProgram extends Program<AsyncSqlCursor<InternalSqlRow>>
             ),
             new Transition(
                     ExecutionPhase.OPTIMIZING,
+                    query -> ExecutionPhase.ADMISSION
+            ),
+            new Transition(
+                    ExecutionPhase.ADMISSION,
                     query -> ExecutionPhase.CURSOR_INITIALIZATION
             ),
             new Transition(
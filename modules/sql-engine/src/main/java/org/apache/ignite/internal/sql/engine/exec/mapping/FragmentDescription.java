@@ -37,6 +37,7 @@ public class FragmentDescription implements Serializable {
     private final @Nullable ColocationGroup target;
     private final @Nullable Long2ObjectMap<List<String>> sourcesByExchangeId;
     private final @Nullable PartitionPruningMetadata pruningMetadata;
+    private final boolean profile;
 
     /**
      * Constructor.
@@ -54,6 +55,28 @@ public class FragmentDescription implements Serializable {
             @Nullable ColocationGroup target,
             @Nullable Long2ObjectMap<List<String>> sourcesByExchangeId,
             @Nullable PartitionPruningMetadata pruningMetadata
+    ) {
+        this(fragmentId, prefetch, groupsBySourceId, target, sourcesByExchangeId, pruningMetadata, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param fragmentId An identifier of the fragment.
+     * @param prefetch A flag denoting whether this fragment may be executed in advance.
+     * @param groupsBySourceId A mapping of colocation groups by source id.
+     * @param target A target group this fragment should stream data to.
+     * @param sourcesByExchangeId A mapping of sources this fragment should receive data from.
+     * @param profile A flag denoting whether runtime statistics of this fragment must be sent to the consumer.
+     */
+    public FragmentDescription(
+            long fragmentId,
+            boolean prefetch,
+            Long2ObjectMap<ColocationGroup> groupsBySourceId,
+            @Nullable ColocationGroup target,
+            @Nullable Long2ObjectMap<List<String>> sourcesByExchangeId,
+            @Nullable PartitionPruningMetadata pruningMetadata,
+            boolean profile
     ) {
         this.fragmentId = fragmentId;
         this.prefetch = prefetch;
@@ -61,6 +84,7 @@ public class FragmentDescription implements Serializable {
         this.target = target;
         this.sourcesByExchangeId = sourcesByExchangeId;
         this.pruningMetadata = pruningMetadata;
+        this.profile = profile;
     }
 
     /** Returns {@code true} if it's safe to execute this fragment in advance. */
@@ -68,6 +92,11 @@ public class FragmentDescription implements Serializable {
         return prefetch;
     }
 
+    /** Returns {@code true} if the fragment is executed by {@code EXPLAIN ANALYZE} and must collect runtime statistics. */
+    public boolean profile() {
+        return profile;
+    }
+
     /**
      * Get fragment id.
      */
@@ -0,0 +1,656 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.mview;
+
+import static org.apache.ignite.internal.event.EventListener.fromConsumer;
+import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_ELECTED;
+import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.lang.util.IgniteNameUtils.quoteIfNeeded;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.ignite.internal.catalog.Catalog;
+import org.apache.ignite.internal.catalog.CatalogService;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.catalog.events.CatalogEvent;
+import org.apache.ignite.internal.catalog.events.CreateTableEventParameters;
+import org.apache.ignite.internal.catalog.events.DropTableEventParameters;
+import org.apache.ignite.internal.event.EventListener;
+import org.apache.ignite.internal.hlc.ClockService;
+import org.apache.ignite.internal.hlc.HybridTimestampTracker;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.placementdriver.PlacementDriver;
+import org.apache.ignite.internal.placementdriver.ReplicaMeta;
+import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaManager;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.internal.sql.engine.SqlProperties;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.engine.prepare.IgnitePlanner;
+import org.apache.ignite.internal.sql.engine.prepare.PlanningContext;
+import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.table.distributed.CommittedRowsListener;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.InternalTxOptions;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maintains materialized views.
+ *
+ * <p>Every node collects the changes committed to partitions of the tables read by materialized views, the partition primary replica of
+ * which is local to the node. The collected changes are periodically applied to the views by transactions executing SQL statements:
+ * <ul>
+ *     <li>if a view is maintained incrementally (see {@link MaterializedViewShape}), the rows of the view with the keys of the changed
+ *     rows are deleted and computed again;</li>
+ *     <li>otherwise, the view is refreshed in full, that is, all its rows are deleted and computed again.</li>
+ * </ul>
+ *
+ * <p>If applying the changes fails, or too many changes are collected since the previous run, the view is refreshed in full. The changes
+ * are collected in memory only, so the ones not applied by the previous primary replica of a partition are unknown to the next one: when
+ * a node becomes the primary replica of a partition of a table read by a view, it refreshes the view in full. Changes not applied before
+ * the whole cluster stops are recovered by a full refresh of every view, made on start by the node holding the primary replica of the
+ * first partition of the view.
+ */
+public class MaterializedViewManager implements LifecycleAware, CommittedRowsListener {
+    private static final IgniteLogger LOG = Loggers.forClass(MaterializedViewManager.class);
+
+    /** Interval between runs applying collected changes to materialized views. */
+    static final long MAINTENANCE_INTERVAL_MILLIS = 1_000;
+
+    /** Maximal number of keys of a view recomputed by a single statement. */
+    static final int KEYS_PER_STATEMENT = 100;
+
+    /** Number of changed keys of a view, above which the view is refreshed in full rather than incrementally. */
+    static final int MAX_PENDING_KEYS = 10_000;
+
+    private final EventListener<CreateTableEventParameters> createTableListener = fromConsumer(this::onTableCreate);
+    private final EventListener<DropTableEventParameters> dropTableListener = fromConsumer(this::onTableDrop);
+
+    private final EventListener<PrimaryReplicaEventParameters> primaryReplicaElectedListener = fromConsumer(this::onPrimaryReplicaElected);
+
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    private final String localNodeName;
+
+    private final CatalogService catalogService;
+
+    private final TableManager tableManager;
+
+    private final SchemaManager schemaManager;
+
+    private final SqlSchemaManager sqlSchemaManager;
+
+    private final PlacementDriver placementDriver;
+
+    private final ClockService clockService;
+
+    private final TxManager txManager;
+
+    private final QueryProcessor queryProcessor;
+
+    private final ScheduledExecutorService scheduler;
+
+    /** Materialized views by ID. */
+    private final Map<Integer, ViewState> views = new ConcurrentHashMap<>();
+
+    /** Materialized views by IDs of the tables they read. */
+    private final Map<Integer, List<ViewState>> viewsBySource = new ConcurrentHashMap<>();
+
+    /** Guards against overlapping runs of {@link #maintain()}. */
+    private final AtomicBoolean maintenanceInProgress = new AtomicBoolean();
+
+    private volatile @Nullable ScheduledFuture<?> scheduledFuture;
+
+    /** Constructor. */
+    public MaterializedViewManager(
+            String localNodeName,
+            CatalogService catalogService,
+            TableManager tableManager,
+            SchemaManager schemaManager,
+            SqlSchemaManager sqlSchemaManager,
+            PlacementDriver placementDriver,
+            ClockService clockService,
+            TxManager txManager,
+            QueryProcessor queryProcessor,
+            ScheduledExecutorService scheduler
+    ) {
+        this.localNodeName = localNodeName;
+        this.catalogService = catalogService;
+        this.tableManager = tableManager;
+        this.schemaManager = schemaManager;
+        this.sqlSchemaManager = sqlSchemaManager;
+        this.placementDriver = placementDriver;
+        this.clockService = clockService;
+        this.txManager = txManager;
+        this.queryProcessor = queryProcessor;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void start() {
+        catalogService.listen(CatalogEvent.TABLE_CREATE, createTableListener);
+        catalogService.listen(CatalogEvent.TABLE_DROP, dropTableListener);
+
+        Catalog catalog = catalogService.latestCatalog();
+
+        for (CatalogTableDescriptor table : catalog.tables()) {
+            if (table.isMaterializedView()) {
+                // Changes committed while no node was maintaining the view are unknown, so the view is recomputed.
+                register(catalog, table).recoveryRequired = true;
+            }
+        }
+
+        tableManager.addCommittedRowsListener(this);
+
+        placementDriver.listen(PRIMARY_REPLICA_ELECTED, primaryReplicaElectedListener);
+
+        scheduledFuture = scheduler.scheduleWithFixedDelay(
+                this::maintain, MAINTENANCE_INTERVAL_MILLIS, MAINTENANCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void stop() {
+        busyLock.block();
+
+        ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
+
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+        }
+
+        placementDriver.removeListener(PRIMARY_REPLICA_ELECTED, primaryReplicaElectedListener);
+
+        tableManager.removeCommittedRowsListener(this);
+
+        catalogService.removeListener(CatalogEvent.TABLE_DROP, dropTableListener);
+        catalogService.removeListener(CatalogEvent.TABLE_CREATE, createTableListener);
+    }
+
+    /**
+     * Refreshes a materialized view in full.
+     *
+     * @param viewId ID of the view.
+     * @return Future that completes when the view is refreshed.
+     */
+    public CompletableFuture<Void> refresh(int viewId) {
+        if (!busyLock.enterBusy()) {
+            return nullCompletedFuture();
+        }
+
+        try {
+            Catalog catalog = catalogService.latestCatalog();
+            CatalogTableDescriptor table = catalog.table(viewId);
+
+            // The view is already dropped.
+            if (table == null) {
+                return nullCompletedFuture();
+            }
+
+            // The view is registered here as well, since the catalog may notify listeners after the view is created.
+            ViewState view = register(catalog, table);
+
+            return refresh(view).whenComplete((none, ex) -> {
+                if (ex != null) {
+                    onMaintenanceFailure(view, ex);
+                }
+            });
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    @Override
+    public boolean listens(int tableId) {
+        return viewsBySource.containsKey(tableId);
+    }
+
+    @Override
+    public void onRowsCommitted(int tableId, int partitionId, List<BinaryRow> rows) {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            List<ViewState> views = viewsBySource.get(tableId);
+
+            if (views == null) {
+                return;
+            }
+
+            CatalogTableDescriptor table = catalogService.latestCatalog().table(tableId);
+
+            // Every replica of the partition applies the commit, the changes are collected by the primary replica only.
+            if (table == null || !isLocalPrimary(table.zoneId(), partitionId)) {
+                return;
+            }
+
+            for (ViewState view : views) {
+                view.onRowsCommitted(rows);
+            }
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private void onTableCreate(CreateTableEventParameters parameters) {
+        CatalogTableDescriptor table = parameters.tableDescriptor();
+
+        if (table.isMaterializedView()) {
+            register(catalogService.catalog(parameters.catalogVersion()), table);
+        }
+    }
+
+    private void onTableDrop(DropTableEventParameters parameters) {
+        ViewState view = views.remove(parameters.tableId());
+
+        if (view == null) {
+            return;
+        }
+
+        for (int sourceId : view.sourceIds) {
+            viewsBySource.computeIfPresent(sourceId, (id, sourceViews) -> {
+                sourceViews.remove(view);
+
+                return sourceViews.isEmpty() ? null : sourceViews;
+            });
+        }
+    }
+
+    private void onPrimaryReplicaElected(PrimaryReplicaEventParameters parameters) {
+        if (!localNodeName.equals(parameters.leaseholder()) || !busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            assert parameters.groupId() instanceof ZonePartitionId : parameters.groupId();
+
+            int zoneId = ((ZonePartitionId) parameters.groupId()).zoneId();
+
+            Catalog catalog = catalogService.latestCatalog();
+
+            for (ViewState view : views.values()) {
+                // The changes collected by the previous primary replica might not have been applied, so the view is recomputed.
+                if (view.readsZone(catalog, zoneId)) {
+                    view.refreshRequired = true;
+                }
+            }
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private ViewState register(Catalog catalog, CatalogTableDescriptor table) {
+        CatalogSchemaDescriptor schema = catalog.schema(table.schemaId());
+
+        String query = table.materializedViewQuery();
+        IntList sourceIds = table.materializedViewSources();
+
+        assert schema != null : table;
+        assert query != null && sourceIds != null : table;
+
+        ViewState view = new ViewState(table.id(), table.zoneId(), schema.name(), table.name(), query, sourceIds.toIntArray());
+
+        ViewState existing = views.putIfAbsent(view.id, view);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        for (int sourceId : view.sourceIds) {
+            viewsBySource.computeIfAbsent(sourceId, id -> new CopyOnWriteArrayList<>()).add(view);
+        }
+
+        return view;
+    }
+
+    /** Applies collected changes to every materialized view, one view at a time. */
+    private void maintain() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            if (!maintenanceInProgress.compareAndSet(false, true)) {
+                return;
+            }
+
+            CompletableFuture<Void> fut = nullCompletedFuture();
+
+            for (ViewState view : views.values()) {
+                fut = fut.thenCompose(none -> maintain(view).exceptionally(ex -> onMaintenanceFailure(view, ex)));
+            }
+
+            fut.whenComplete((res, ex) -> maintenanceInProgress.set(false));
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private CompletableFuture<Void> maintain(ViewState view) {
+        if (!busyLock.enterBusy()) {
+            return nullCompletedFuture();
+        }
+
+        try {
+            if (view.recoveryRequired) {
+                // Only a single node recovers the view, others drop the flag as soon as the primary replica is known.
+                ReplicaMeta primary = primaryReplica(view.zoneId, 0);
+
+                if (primary != null) {
+                    view.recoveryRequired = false;
+
+                    if (localNodeName.equals(primary.getLeaseholder())) {
+                        view.refreshRequired = true;
+                    }
+                }
+            }
+
+            List<BinaryRow> rows = view.drainRows();
+
+            if (view.refreshRequired) {
+                view.refreshRequired = false;
+
+                return refresh(view);
+            }
+
+            if (rows.isEmpty()) {
+                return nullCompletedFuture();
+            }
+
+            MaterializedViewShape shape = view.shape();
+
+            if (!shape.incremental()) {
+                return refresh(view);
+            }
+
+            Set<List<Object>> keys = keys(shape, rows);
+
+            if (keys.size() > MAX_PENDING_KEYS) {
+                return refresh(view);
+            }
+
+            return recompute(view, shape, keys);
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /** Deletes all rows of the view and computes them again, in a single transaction. */
+    private CompletableFuture<Void> refresh(ViewState view) {
+        String viewName = view.qualifiedName();
+
+        return inTransaction(tx -> execute(tx, view, "DELETE FROM " + viewName)
+                .thenCompose(none -> execute(tx, view, "INSERT INTO " + viewName + " SELECT * FROM (" + view.query + ") AS \"V\""))
+        );
+    }
+
+    /** Deletes the rows of the view with the given keys and computes them again, in a single transaction. */
+    private CompletableFuture<Void> recompute(ViewState view, MaterializedViewShape shape, Collection<List<Object>> keys) {
+        List<List<Object>> allKeys = new ArrayList<>(keys);
+
+        return inTransaction(tx -> {
+            CompletableFuture<Void> fut = nullCompletedFuture();
+
+            for (int from = 0; from < allKeys.size(); from += KEYS_PER_STATEMENT) {
+                List<List<Object>> batch = allKeys.subList(from, Math.min(from + KEYS_PER_STATEMENT, allKeys.size()));
+
+                String condition = keyCondition(shape.keyColumns(), batch.size());
+                Object[] params = batch.stream().flatMap(List::stream).toArray();
+
+                fut = fut
+                        .thenCompose(none -> execute(tx, view, "DELETE FROM " + view.qualifiedName() + " WHERE " + condition, params))
+                        .thenCompose(none -> execute(tx, view, "INSERT INTO " + view.qualifiedName()
+                                + " SELECT * FROM (" + view.query + ") AS \"V\" WHERE " + condition, params));
+            }
+
+            return fut;
+        });
+    }
+
+    /** Executes the given action in a new read-write transaction, which is committed if the action succeeds and rolled back otherwise. */
+    private CompletableFuture<Void> inTransaction(Function<InternalTransaction, CompletableFuture<Void>> action) {
+        InternalTransaction tx = txManager.beginExplicitRw(HybridTimestampTracker.emptyTracker(), InternalTxOptions.defaults());
+
+        CompletableFuture<Void> actionFut;
+
+        try {
+            actionFut = action.apply(tx);
+        } catch (Throwable t) {
+            actionFut = CompletableFuture.failedFuture(t);
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        actionFut.thenCompose(none -> tx.commitAsync()).whenComplete((none, ex) -> {
+            if (ex == null) {
+                result.complete(null);
+            } else {
+                tx.rollbackAsync().whenComplete((ignored, rollbackEx) -> result.completeExceptionally(ex));
+            }
+        });
+
+        return result;
+    }
+
+    private CompletableFuture<Void> execute(InternalTransaction tx, ViewState view, String sql, Object... params) {
+        SqlProperties properties = new SqlProperties()
+                .allowedQueryTypes(SqlQueryType.SINGLE_STMT_TYPES)
+                .allowMultiStatement(false)
+                .defaultSchema(view.schemaName)
+                .userName(Commons.SYSTEM_USER_NAME);
+
+        return queryProcessor.queryAsync(properties, HybridTimestampTracker.emptyTracker(), tx, null, sql, params)
+                .thenCompose(cursor -> cursor.requestNextAsync(1).thenCompose(page -> cursor.closeAsync()));
+    }
+
+    /** Schedules a full refresh of the view, so a failure doesn't leave the view inconsistent with the tables it reads. */
+    private @Nullable Void onMaintenanceFailure(ViewState view, Throwable t) {
+        // A failure of maintenance of a dropped view is expected.
+        if (views.get(view.id) == view) {
+            LOG.warn("Failed to maintain materialized view, it will be refreshed [view={}].", t, view.qualifiedName());
+
+            view.refreshRequired = true;
+        }
+
+        return null;
+    }
+
+    /** Extracts the distinct keys of the view affected by the given versions of rows of the table the view reads. */
+    private Set<List<Object>> keys(MaterializedViewShape shape, List<BinaryRow> rows) {
+        SchemaRegistry registry = schemaManager.schemaRegistry(shape.sourceTableId());
+
+        Set<List<Object>> keys = new LinkedHashSet<>();
+
+        for (BinaryRow binaryRow : rows) {
+            SchemaDescriptor schema = registry.schema(binaryRow.schemaVersion());
+            Row row = registry.resolve(binaryRow, schema);
+
+            List<Object> key = new ArrayList<>(shape.sourceKeyColumns().size());
+
+            for (String columnName : shape.sourceKeyColumns()) {
+                Column column = schema.column(columnName);
+
+                assert column != null : "Column of the table read by materialized view is dropped [column=" + columnName + ']';
+
+                key.add(row.value(column.positionInRow()));
+            }
+
+            keys.add(key);
+        }
+
+        return keys;
+    }
+
+    private static String keyCondition(List<String> keyColumns, int keysCount) {
+        String keyCondition = keyColumns.stream()
+                .map(column -> "\"V\"." + quoteIfNeeded(column) + " = ?")
+                .collect(Collectors.joining(" AND ", "(", ")"));
+
+        return String.join(" OR ", Collections.nCopies(keysCount, keyCondition));
+    }
+
+    private boolean isLocalPrimary(int zoneId, int partitionId) {
+        ReplicaMeta primary = primaryReplica(zoneId, partitionId);
+
+        // While the primary replica is unknown, changes are collected, so they are not lost if this node becomes the primary.
+        return primary == null || localNodeName.equals(primary.getLeaseholder());
+    }
+
+    private @Nullable ReplicaMeta primaryReplica(int zoneId, int partitionId) {
+        return placementDriver.getCurrentPrimaryReplica(new ZonePartitionId(zoneId, partitionId), clockService.current());
+    }
+
+    /** Derives the shape of the view from its query, as of the latest version of the catalog. */
+    private MaterializedViewShape deriveShape(ViewState view) {
+        int catalogVersion = catalogService.latestCatalogVersion();
+
+        SchemaPlus rootSchema = sqlSchemaManager.schemas(catalogVersion).root();
+
+        PlanningContext ctx = PlanningContext.builder()
+                .frameworkConfig(Frameworks.newConfigBuilder(FRAMEWORK_CONFIG).defaultSchema(rootSchema).build())
+                .query(view.query)
+                .catalogVersion(catalogVersion)
+                .defaultSchemaName(view.schemaName)
+                .build();
+
+        try (IgnitePlanner planner = ctx.planner()) {
+            return MaterializedViewShape.analyze(planner.convertMaterializedViewQuery(view.query, view.schemaName).project());
+        }
+    }
+
+    /** State of maintenance of a single materialized view. */
+    private class ViewState {
+        private final int id;
+
+        private final int zoneId;
+
+        private final String schemaName;
+
+        private final String name;
+
+        private final String query;
+
+        private final int[] sourceIds;
+
+        /** Versions of rows of the tables the view reads, committed since the previous run of maintenance. */
+        private List<BinaryRow> pendingRows = new ArrayList<>();
+
+        /** Whether the view must be refreshed in full on the next run of maintenance. */
+        private volatile boolean refreshRequired;
+
+        /** Whether the view must be refreshed in full on start, if the node holds the primary replica of the first partition. */
+        private volatile boolean recoveryRequired;
+
+        private volatile @Nullable MaterializedViewShape shape;
+
+        private ViewState(int id, int zoneId, String schemaName, String name, String query, int[] sourceIds) {
+            this.id = id;
+            this.zoneId = zoneId;
+            this.schemaName = schemaName;
+            this.name = name;
+            this.query = query;
+            this.sourceIds = sourceIds;
+        }
+
+        private synchronized void onRowsCommitted(List<BinaryRow> rows) {
+            if (refreshRequired) {
+                return;
+            }
+
+            MaterializedViewShape shape = this.shape;
+
+            if ((shape != null && !shape.incremental()) || pendingRows.size() + rows.size() > MAX_PENDING_KEYS * 2) {
+                // Rows are not needed for a full refresh.
+                pendingRows = new ArrayList<>();
+                refreshRequired = true;
+            } else {
+                pendingRows.addAll(rows);
+            }
+        }
+
+        private synchronized List<BinaryRow> drainRows() {
+            List<BinaryRow> rows = pendingRows;
+
+            pendingRows = new ArrayList<>();
+
+            return rows;
+        }
+
+        private MaterializedViewShape shape() {
+            MaterializedViewShape shape = this.shape;
+
+            if (shape == null) {
+                shape = deriveShape(this);
+
+                this.shape = shape;
+            }
+
+            return shape;
+        }
+
+        private boolean readsZone(Catalog catalog, int zoneId) {
+            for (int sourceId : sourceIds) {
+                CatalogTableDescriptor source = catalog.table(sourceId);
+
+                if (source != null && source.zoneId() == zoneId) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private String qualifiedName() {
+            return quoteIfNeeded(schemaName) + '.' + quoteIfNeeded(name);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.mview;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.SetOp;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexSubQuery;
+import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.schema.TableDescriptor;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes how the rows of a materialized view are derived from the rows of the tables the view reads.
+ *
+ * <p>Two shapes of queries are supported:
+ * <ul>
+ *     <li>a filter and projection of a single table, the view is keyed by the primary key of the table;</li>
+ *     <li>an aggregation with {@code GROUP BY}, optionally filtered and projected before and after, the view is keyed by the grouping
+ *     columns.</li>
+ * </ul>
+ *
+ * <p>A view is maintained incrementally if every key column of the view is a column of a single table the view reads. In that case a
+ * change of a row of the table affects only the rows of the view with the same key, so only those rows are recomputed. Otherwise, for
+ * example when the view aggregates the result of a join, the view is recomputed in full on every change.
+ */
+public final class MaterializedViewShape {
+    /** Names of the columns of the view forming its primary key. */
+    private final List<String> keyColumns;
+
+    /** ID of the table the key of the view is derived from, or {@code null} if the view can't be maintained incrementally. */
+    private final @Nullable Integer sourceTableId;
+
+    /** Names of the columns of the source table, the key columns of the view are equal to. */
+    private final List<String> sourceKeyColumns;
+
+    private MaterializedViewShape(List<String> keyColumns, @Nullable Integer sourceTableId, List<String> sourceKeyColumns) {
+        this.keyColumns = List.copyOf(keyColumns);
+        this.sourceTableId = sourceTableId;
+        this.sourceKeyColumns = List.copyOf(sourceKeyColumns);
+    }
+
+    /**
+     * Analyzes a query of a materialized view.
+     *
+     * @param rel Relational tree of the query, the fields of which are the columns of the view.
+     * @return Shape of the view.
+     * @throws SqlException If the query is not supported as a materialized view.
+     */
+    public static MaterializedViewShape analyze(RelNode rel) {
+        validate(rel);
+
+        List<RelDataTypeField> fields = rel.getRowType().getFieldList();
+
+        // Maps every column of the view to a field of the input of the topmost chain of projections and filters.
+        int[] mapping = new int[fields.size()];
+        for (int i = 0; i < mapping.length; i++) {
+            mapping[i] = i;
+        }
+
+        RelNode input = skipProjectionsAndFilters(rel, mapping);
+
+        List<String> keyColumns = new ArrayList<>();
+        List<String> sourceKeyColumns = new ArrayList<>();
+
+        if (input instanceof Aggregate) {
+            Aggregate aggregate = (Aggregate) input;
+
+            if (aggregate.getGroupType() != Aggregate.Group.SIMPLE || aggregate.getGroupCount() == 0) {
+                throw unsupported("Aggregation in a materialized view must have a GROUP BY clause without grouping sets.");
+            }
+
+            // Maps every grouping key to a field of the input of the aggregation.
+            int[] keyMapping = aggregate.getGroupSet().toArray();
+
+            for (int key = 0; key < keyMapping.length; key++) {
+                int column = indexOf(mapping, key);
+
+                if (column < 0) {
+                    throw unsupported("Every GROUP BY expression must be a column of a materialized view.");
+                }
+
+                keyColumns.add(keyColumn(fields.get(column)));
+            }
+
+            RelNode source = skipProjectionsAndFilters(aggregate.getInput(), keyMapping);
+
+            if (!(source instanceof TableScan) || indexOf(keyMapping, -1) >= 0) {
+                return new MaterializedViewShape(keyColumns, null, List.of());
+            }
+
+            List<String> sourceColumns = source.getRowType().getFieldNames();
+
+            for (int field : keyMapping) {
+                sourceKeyColumns.add(sourceColumns.get(field));
+            }
+
+            return new MaterializedViewShape(keyColumns, table(source).id(), sourceKeyColumns);
+        }
+
+        if (input instanceof TableScan) {
+            IgniteTable table = table(input);
+            TableDescriptor descriptor = table.descriptor();
+
+            for (int i = 0; i < descriptor.columnsCount(); i++) {
+                ColumnDescriptor columnDescriptor = descriptor.columnDescriptor(i);
+
+                if (!columnDescriptor.key()) {
+                    continue;
+                }
+
+                int column = indexOf(mapping, i);
+
+                if (column < 0) {
+                    throw unsupported(format(
+                            "Materialized view without aggregation must include all primary key columns of the table [column={}].",
+                            columnDescriptor.name()
+                    ));
+                }
+
+                keyColumns.add(keyColumn(fields.get(column)));
+                sourceKeyColumns.add(columnDescriptor.name());
+            }
+
+            return new MaterializedViewShape(keyColumns, table.id(), sourceKeyColumns);
+        }
+
+        throw unsupported("Materialized view without aggregation must read a single table.");
+    }
+
+    /** Returns names of the columns of the view forming its primary key. */
+    public List<String> keyColumns() {
+        return keyColumns;
+    }
+
+    /** Returns {@code true} if the view can be maintained incrementally. */
+    public boolean incremental() {
+        return sourceTableId != null;
+    }
+
+    /**
+     * Returns ID of the table the key of the view is derived from.
+     *
+     * @throws IllegalStateException If the view can't be maintained incrementally.
+     */
+    public int sourceTableId() {
+        if (sourceTableId == null) {
+            throw new IllegalStateException("Materialized view is not maintained incrementally.");
+        }
+
+        return sourceTableId;
+    }
+
+    /** Returns names of the columns of the source table, the key columns of the view are equal to, in the order of the key columns. */
+    public List<String> sourceKeyColumns() {
+        return sourceKeyColumns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(MaterializedViewShape.class, this);
+    }
+
+    /**
+     * Skips the chain of projections and filters starting at the given relation and adjusts the given mapping of fields, so it refers to
+     * the fields of the input of the chain. A field which is not a plain reference to an input field is mapped to {@code -1}.
+     */
+    private static RelNode skipProjectionsAndFilters(RelNode rel, int[] mapping) {
+        RelNode node = rel;
+
+        while (node instanceof Project || node instanceof Filter) {
+            if (node instanceof Project) {
+                List<RexNode> projects = ((Project) node).getProjects();
+
+                for (int i = 0; i < mapping.length; i++) {
+                    if (mapping[i] >= 0) {
+                        RexNode project = projects.get(mapping[i]);
+
+                        mapping[i] = project instanceof RexInputRef ? ((RexInputRef) project).getIndex() : -1;
+                    }
+                }
+            }
+
+            node = node.getInput(0);
+        }
+
+        return node;
+    }
+
+    private static int indexOf(int[] mapping, int field) {
+        for (int i = 0; i < mapping.length; i++) {
+            if (mapping[i] == field) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static String keyColumn(RelDataTypeField field) {
+        if (field.getType().isNullable()) {
+            throw unsupported(format(
+                    "Key column of materialized view must not be nullable, derive it from a NOT NULL column [column={}].",
+                    field.getName()
+            ));
+        }
+
+        return field.getName();
+    }
+
+    private static IgniteTable table(RelNode scan) {
+        IgniteTable table = scan.getTable().unwrap(IgniteTable.class);
+
+        assert table != null : scan;
+
+        return table;
+    }
+
+    /** Checks that the query consists only of the supported operations and is deterministic. */
+    private static void validate(RelNode rel) {
+        RexShuttle expressionValidator = new RexShuttle() {
+            @Override
+            public RexNode visitCall(RexCall call) {
+                if (!call.getOperator().isDeterministic() || call.getOperator().isDynamicFunction()) {
+                    throw unsupported(format("Non-deterministic function can't be used in materialized view [function={}].",
+                            call.getOperator().getName()));
+                }
+
+                return super.visitCall(call);
+            }
+
+            @Override
+            public RexNode visitOver(RexOver over) {
+                throw unsupported("Window functions are not supported in materialized view.");
+            }
+
+            @Override
+            public RexNode visitSubQuery(RexSubQuery subQuery) {
+                throw unsupported("Sub-queries are not supported in materialized view.");
+            }
+
+            @Override
+            public RexNode visitDynamicParam(RexDynamicParam dynamicParam) {
+                throw unsupported("Dynamic parameters are not supported in materialized view.");
+            }
+        };
+
+        new RelVisitor() {
+            @Override
+            public void visit(RelNode node, int ordinal, @Nullable RelNode parent) {
+                if (node instanceof Sort) {
+                    throw unsupported("ORDER BY, LIMIT and OFFSET are not supported in materialized view.");
+                } else if (node instanceof SetOp) {
+                    throw unsupported("Set operations are not supported in materialized view.");
+                } else if (node instanceof TableScan) {
+                    if (node.getTable().unwrap(IgniteTable.class) == null) {
+                        throw unsupported("Materialized view can only read tables.");
+                    }
+                } else if (!(node instanceof Project || node instanceof Filter || node instanceof Aggregate || node instanceof Join)) {
+                    throw unsupported(format("Operation is not supported in materialized view [operation={}].", node.getRelTypeName()));
+                }
+
+                node.accept(expressionValidator);
+
+                super.visit(node, ordinal, parent);
+            }
+        }.go(rel);
+    }
+
+    private static SqlException unsupported(String message) {
+        return new SqlException(STMT_VALIDATION_ERR, message);
+    }
+}
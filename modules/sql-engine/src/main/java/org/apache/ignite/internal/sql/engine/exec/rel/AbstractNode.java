@@ -24,6 +24,7 @@ import java.util.List;
 import org.apache.ignite.internal.lang.Debuggable;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
 import org.apache.ignite.internal.sql.engine.api.expressions.ExpressionEvaluationException;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -48,6 +49,15 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     /** Max count for parallel network requests. */
     static final int IO_BATCH_CNT = Commons.IO_BATCH_COUNT;
 
+    /** Estimated memory consumed by a buffered row regardless of the number of columns, in bytes. */
+    private static final long ROW_OVERHEAD_BYTES = 48;
+
+    /** Estimated memory consumed by a single column of a buffered row, in bytes. */
+    private static final long COLUMN_SIZE_BYTES = 16;
+
+    /** Memory of buffered rows is reserved from the query memory tracker in chunks of this size, in bytes. */
+    private static final long MEMORY_RESERVATION_CHUNK = 64 * 1024;
+
     /** Execution node buffer size. */
     protected final int inBufSize;
 
@@ -62,10 +72,17 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
     private List<Node<RowT>> sources;
 
+    /** Memory of the buffered rows reserved from the query memory tracker. */
+    private long reservedMemory;
+
+    /** Memory of the buffered rows not reserved yet. */
+    private long unreservedMemory;
+
     // Metrics
     protected int requestCount = 0;
     protected int rewindCount = 0;
     protected long receivedRowsCount = 0L;
+    protected long taskTime = 0L;
 
     /**
      * Constructor.
@@ -109,6 +126,8 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
         closeInternal();
 
+        releaseBufferedMemory();
+
         if (!nullOrEmpty(sources())) {
             sources().forEach(Commons::closeQuiet);
         }
@@ -121,6 +140,8 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
         rewindInternal();
 
+        releaseBufferedMemory();
+
         if (!nullOrEmpty(sources())) {
             sources().forEach(Node::rewind);
         }
@@ -141,10 +162,16 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
             checkState();
 
+            long startTime = ctx.profile() ? System.nanoTime() : 0L;
+
             try {
                 task.run();
             } catch (ExpressionEvaluationException evaluationException) {
                 throw new SqlException(Sql.RUNTIME_ERR, evaluationException);
+            } finally {
+                if (startTime != 0L) {
+                    taskTime += System.nanoTime() - startTime;
+                }
             }
         }, this::onError);
     }
@@ -248,6 +275,10 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
         if (rewindCount > 0) {
             writer.app(", rewinds=").app(rewindCount);
         }
+
+        if (taskTime > 0) {
+            writer.app(", taskTime=").app(MetricsAwareNode.beautifyNanoTime(taskTime));
+        }
     }
 
     protected final void onRequestReceived() {
@@ -265,4 +296,32 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     protected final void onRewind() {
         rewindCount++;
     }
+
+    /**
+     * Accounts a row retained by this node against the memory quotas of the query.
+     *
+     * <p>The memory is released when the node is closed or rewound.
+     *
+     * @param row Buffered row.
+     * @throws QueryCancelledException If the memory quota of the query or its resource group is exceeded.
+     */
+    protected final void onRowBuffered(RowT row) {
+        unreservedMemory += ROW_OVERHEAD_BYTES + COLUMN_SIZE_BYTES * ctx.rowAccessor().columnsCount(row);
+
+        if (unreservedMemory >= MEMORY_RESERVATION_CHUNK) {
+            ctx.memoryTracker().reserve(unreservedMemory);
+
+            reservedMemory += unreservedMemory;
+            unreservedMemory = 0;
+        }
+    }
+
+    private void releaseBufferedMemory() {
+        if (reservedMemory > 0) {
+            ctx.memoryTracker().release(reservedMemory);
+        }
+
+        reservedMemory = 0;
+        unreservedMemory = 0;
+    }
 }
@@ -85,8 +85,14 @@ public abstract class AbstractSetOpNode<RowT> extends AbstractNode<RowT> {
 
         waiting--;
 
+        int groupsCount = grouping.groups.size();
+
         grouping.add(row, idx);
 
+        if (grouping.groups.size() > groupsCount) {
+            onRowBuffered(row);
+        }
+
         if (waiting == 0) {
             sources().get(curSrcIdx).request(waiting = inBufSize);
         }
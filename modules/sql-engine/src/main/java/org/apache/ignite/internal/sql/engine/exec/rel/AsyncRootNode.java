@@ -67,6 +67,8 @@ public class AsyncRootNode<InRowT, OutRowT> implements Downstream<InRowT>, Async
 
     private final CompletableFuture<Void> prefetchFut = new CompletableFuture<>();
 
+    private final CompletableFuture<String> profileFut = new CompletableFuture<>();
+
     private volatile boolean closed = false;
 
     /**
@@ -190,6 +192,10 @@ public class AsyncRootNode<InRowT, OutRowT> implements Downstream<InRowT>, Async
                         pendingRequests.clear();
                     }
 
+                    if (source.context().profile() && !profileFut.isDone()) {
+                        profileFut.completeExceptionally(th != null ? th : new QueryCancelledException());
+                    }
+
                     source.context().execute(() -> {
                         try {
                             source.close();
@@ -242,6 +248,18 @@ public class AsyncRootNode<InRowT, OutRowT> implements Downstream<InRowT>, Async
         return cancelFut.isDone();
     }
 
+    /**
+     * Returns runtime statistics of the whole execution tree including remote fragments.
+     *
+     * <p>The future completes once all rows have been fetched, and only if the fragment was started with
+     * {@link ExecutionContext#profile() profiling} enabled.
+     *
+     * @return Future representing the rendered statistics.
+     */
+    public CompletableFuture<String> profile() {
+        return profileFut;
+    }
+
     private void flush() throws Exception {
         PendingRequest<OutRowT> currentReq = pendingRequests.peek();
 
@@ -285,6 +303,15 @@ public class AsyncRootNode<InRowT, OutRowT> implements Downstream<InRowT>, Async
                 assert hasMore == HasMore.NO : hasMore;
 
                 onQueryFinish();
+
+                if (source.context().profile()) {
+                    IgniteStringBuilder sb = new IgniteStringBuilder();
+
+                    dumpProfile(sb);
+
+                    profileFut.complete(sb.toString());
+                }
+
                 closeAsync();
             }
         } else if (!pendingRequests.isEmpty()) {
@@ -354,14 +381,19 @@ public class AsyncRootNode<InRowT, OutRowT> implements Downstream<InRowT>, Async
     private void dumpQueryMetrics() {
         IgniteStringBuilder sb = new IgniteStringBuilder();
         sb.app("Dump metrics for executed query: queryId=").app(queryId).app(", fragmentId=").app(fragmentId).nl();
+
+        dumpProfile(sb);
+
+        LOGGER.info(sb.toString());
+    }
+
+    private void dumpProfile(IgniteStringBuilder sb) {
         sb.app("RootNode: rows=").app(rowsReceived)
                 .app(", prefetch=").app(MetricsAwareNode.beautifyNanoTime(prefetchTime))
                 .app(", totalTime=").app(MetricsAwareNode.beautifyNanoTime((queryTime)))
                 .nl();
 
         MetricsAwareNode.dumpChildNodesMetrics(sb, Debuggable.childIndentation(""), List.of(source));
-
-        LOGGER.info(sb.toString());
     }
 
     private void onRowReceived() {
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ScannableDataSource;
 import org.apache.ignite.internal.sql.engine.util.FieldDeserializingProjectedTuple;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,6 +38,8 @@ public class DataSourceScanNode<RowT> extends StorageScanNode<RowT> {
 
     private final ScannableDataSource dataSource;
 
+    private final SystemViewScanCriteria criteria;
+
     private final Function<InternalTuple, RowT> converter;
 
     /**
@@ -58,10 +61,36 @@ public class DataSourceScanNode<RowT> extends StorageScanNode<RowT> {
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
             @Nullable ImmutableIntList requiredColumns
+    ) {
+        this(ctx, rowFactory, schema, dataSource, SystemViewScanCriteria.NONE, filters, rowTransformer, requiredColumns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param schema Schema of the tuples returned by data source.
+     * @param dataSource A data source to scan.
+     * @param criteria Part of the filter pushed down to the data source.
+     * @param filters Optional filter to filter out rows.
+     * @param rowTransformer Optional projection function.
+     * @param requiredColumns Optional set of column of interest.
+     */
+    public DataSourceScanNode(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            BinaryTupleSchema schema,
+            ScannableDataSource dataSource,
+            SystemViewScanCriteria criteria,
+            @Nullable Predicate<RowT> filters,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable ImmutableIntList requiredColumns
     ) {
         super(ctx, filters, rowTransformer);
 
         this.dataSource = dataSource;
+        this.criteria = criteria;
 
         if (requiredColumns == null || isFullIdentityMapping(requiredColumns, schema)) {
             converter = rowFactory::create;
@@ -87,7 +116,7 @@ public class DataSourceScanNode<RowT> extends StorageScanNode<RowT> {
     /** {@inheritDoc} */
     @Override
     protected Publisher<RowT> scan() {
-        return new TransformingPublisher<>(dataSource.scan(), converter);
+        return new TransformingPublisher<>(dataSource.scan(criteria), converter);
     }
 }
 
@@ -260,7 +260,16 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
+            AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+            if (aggRow == null) {
+                aggRow = create();
+
+                groups.put(grpKey, aggRow);
+
+                onRowBuffered(row);
+            }
+
             aggRow.update(accs, grpFields, row);
         }
 
@@ -896,6 +896,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         if (keepRowsWithNull() || key != NULL_KEY) {
             TouchedCollection<RowT> raw = hashStore.computeIfAbsent(key, k -> new TouchedCollection<>());
             raw.add(row);
+
+            onRowBuffered(row);
         }
 
         if (waitingRight == 0) {
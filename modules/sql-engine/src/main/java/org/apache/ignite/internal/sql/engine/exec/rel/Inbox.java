@@ -36,12 +36,12 @@ import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.NodeLeftException;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -188,8 +188,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
      * @param batchId Batch ID.
      * @param last Last batch flag.
      * @param rows Rows.
+     * @param profile Runtime statistics of the source fragment, or null if not collected.
      */
-    public void onBatchReceived(String srcNodeName, int batchId, boolean last, List<BinaryTupleMessage> rows) throws Exception {
+    public void onBatchReceived(String srcNodeName, int batchId, boolean last, RowBatch rows, @Nullable String profile) throws Exception {
         checkState();
 
         RemoteSource<RowT> source = perNodeBuffers.get(srcNodeName);
@@ -198,12 +199,16 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         List<RowT> rows0 = new ArrayList<>(rows.size());
 
-        for (BinaryTupleMessage row : rows) {
-            rows0.add(rowFactory.create(row.asBinaryTuple()));
+        for (int i = 0; i < rows.size(); i++) {
+            rows0.add(rowFactory.create(rows.row(i)));
         }
 
         source.onBatchReceived(batchId, last, rows0);
 
+        if (profile != null) {
+            source.profile = profile;
+        }
+
         if (requested > 0 && waitingBefore && source.check() != State.WAITING) {
             push();
         }
@@ -553,6 +558,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         long requestTotalTime = 0L;
         long requestMinTime = Long.MAX_VALUE;
         long requestMaxTime = 0L;
+        @Nullable String profile;
 
         private RemoteSource(BatchRequester batchRequester) {
             this.batchRequester = batchRequester;
@@ -682,6 +688,12 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
                         .app(", min=").app(MetricsAwareNode.beautifyNanoTime(requestMinTime))
                         .app(", max=").app(MetricsAwareNode.beautifyNanoTime(requestMaxTime)).app("]");
             }
+
+            if (profile != null) {
+                String childIndent = Debuggable.childIndentation(indent);
+
+                profile.lines().forEach(line -> writer.nl().app(childIndent).app(line));
+            }
         }
 
         private void onBatchesRequested(int countOfBatches) {
@@ -703,10 +715,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     }
 
     @Override
-    @TestOnly
     public void dumpNodeMetrics(IgniteStringBuilder writer, String indent) {
         // Calculate aggregated statistics.
-        onRowsReceived(perNodeBuffers.values().stream().mapToLong(n -> n.rowsReceived).sum());
+        receivedRowsCount = perNodeBuffers.values().stream().mapToLong(n -> n.rowsReceived).sum();
 
         writer.app(indent);
         dumpMetrics0(writer);
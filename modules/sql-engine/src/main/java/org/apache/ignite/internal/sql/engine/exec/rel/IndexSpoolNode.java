@@ -121,6 +121,8 @@ public class IndexSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         idx.push(row);
 
+        onRowBuffered(row);
+
         waiting--;
 
         if (waiting == 0) {
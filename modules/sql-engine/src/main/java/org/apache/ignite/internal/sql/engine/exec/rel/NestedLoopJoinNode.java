@@ -72,6 +72,8 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractRightMaterialized
 
         rightMaterialized.add(row);
 
+        onRowBuffered(row);
+
         if (waitingRight == 0) {
             rightSource().request(waitingRight = inBufSize);
         }
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -34,12 +35,11 @@ import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
@@ -54,7 +54,6 @@ import org.jetbrains.annotations.TestOnly;
  */
 public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, SingleNode<RowT>, Downstream<RowT> {
     private static final IgniteLogger LOG = Loggers.forClass(Outbox.class);
-    private static final PartitionReplicationMessagesFactory TABLE_MESSAGES_FACTORY = new PartitionReplicationMessagesFactory();
 
     private final long exchangeId;
     private final long targetFragmentId;
@@ -270,18 +269,21 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     private void sendBatch(String nodeName, int batchId, boolean last, List<RowT> rows) {
         RowHandler<RowT> handler = context().rowAccessor();
 
-        List<BinaryTupleMessage> rows0 = new ArrayList<>(rows.size());
+        // All rows of an exchange are of the same type.
+        int elementCount = rows.isEmpty() ? 0 : handler.columnsCount(rows.get(0));
+
+        List<ByteBuffer> tuples = new ArrayList<>(rows.size());
 
         for (RowT row : rows) {
-            rows0.add(
-                    TABLE_MESSAGES_FACTORY.binaryTupleMessage()
-                            .elementCount(handler.columnsCount(row))
-                            .tuple(handler.toByteBuffer(row))
-                            .build()
-            );
+            tuples.add(handler.toByteBuffer(row));
         }
 
-        exchange.sendBatch(nodeName, executionId(), targetFragmentId, exchangeId, batchId, last, rows0)
+        RowBatch batch = RowBatch.pack(elementCount, tuples, RowBatch.COMPRESSION_THRESHOLD);
+
+        // The last batch is sent when the whole subtree has been drained, so its statistics are final.
+        String profile = last && context().profile() ? fragmentProfile() : null;
+
+        exchange.sendBatch(nodeName, executionId(), targetFragmentId, exchangeId, batchId, last, batch, profile)
                 .whenComplete((ignored, ex) -> {
                     if (ex == null) {
                         return;
@@ -646,6 +648,14 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         LOG.info(sb.toString());
     }
 
+    private String fragmentProfile() {
+        IgniteStringBuilder sb = new IgniteStringBuilder();
+
+        dumpNodeMetrics(sb, "");
+
+        return sb.toString();
+    }
+
     @Override
     public void dumpNodeMetrics(IgniteStringBuilder writer, String indent) {
         writer.app(indent);
@@ -156,6 +156,8 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         rows.add(row);
 
+        onRowBuffered(row);
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Flow.Publisher;
@@ -24,11 +25,13 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.PartitionProvider;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TransformingIterator;
@@ -38,6 +41,11 @@ import org.jetbrains.annotations.Nullable;
  * Execution node for table scan. Provide result of table scan by given table and partitions.
  */
 public class TableScanNode<RowT> extends StorageScanNode<RowT> {
+    /**
+     * Maximum number of partitions a single scan reads concurrently. Partitions are read one after another by default, which keeps
+     * a scan from occupying more than one storage thread of the node.
+     */
+    public static final int SCAN_PARALLELISM = IgniteSystemProperties.getInteger("IGNITE_SQL_SCAN_PARALLELISM", 1);
 
     /** Table that provides access to underlying data. */
     private final ScannableTable table;
@@ -49,6 +57,8 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
 
     private final int @Nullable [] requiredColumns;
 
+    private final @Nullable Int2ObjectMap<RangeCondition<RowT>> columnRanges;
+
     private final String tableName;
 
     /**
@@ -63,6 +73,7 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
      * @param filters Optional filter to filter out rows.
      * @param rowTransformer Optional projection function.
      * @param requiredColumns Optional set of column of interest.
+     * @param columnRanges Optional ranges of table columns the storage may use to skip rows that don't pass the filter.
      */
     public TableScanNode(
             ExecutionContext<RowT> ctx,
@@ -72,7 +83,8 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
             PartitionProvider<RowT> partitionProvider,
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
-            @Nullable ImmutableIntList requiredColumns
+            @Nullable ImmutableIntList requiredColumns,
+            @Nullable Int2ObjectMap<RangeCondition<RowT>> columnRanges
     ) {
         super(ctx, filters, rowTransformer);
 
@@ -80,6 +92,7 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
         this.partitionProvider = partitionProvider;
         this.rowFactory = rowFactory;
         this.requiredColumns = requiredColumns == null ? null : requiredColumns.toIntArray();
+        this.columnRanges = columnRanges;
         this.tableName = schemaTable.name();
     }
 
@@ -89,7 +102,12 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
         List<PartitionWithConsistencyToken> partitions = partitionProvider.getPartitions(context());
 
         Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
-                partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns));
+                partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns, columnRanges));
+
+        // The scan has no collation, so partitions may be read in any order and their rows may be interleaved.
+        if (SCAN_PARALLELISM > 1 && partitions.size() > 1) {
+            return SubscriptionUtils.merge(it, SCAN_PARALLELISM, inBufSize);
+        }
 
         return SubscriptionUtils.concat(it);
     }
@@ -150,6 +150,8 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         rows.add(row);
 
+        onRowBuffered(row);
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.workload;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accounts the memory retained by execution nodes of a query on the local node.
+ *
+ * <p>Every reservation is checked against both the query quota and the quota of the {@link ResourceGroup resource group} the query is
+ * assigned to. A reservation exceeding any of them fails with {@link QueryCancelledException}, which cancels the query.
+ *
+ * <p>Execution nodes of the query may run in different threads, therefore all methods are thread-safe.
+ */
+public class QueryMemoryTracker {
+    /** Tracker which neither accounts memory nor applies any limits. */
+    public static final QueryMemoryTracker NO_OP = new QueryMemoryTracker(null);
+
+    private final @Nullable ResourceGroup group;
+
+    private final long quota;
+
+    /** Guarded by {@code this}. */
+    private long reserved;
+
+    /** Guarded by {@code this}. */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param group Resource group the query is assigned to.
+     */
+    public QueryMemoryTracker(@Nullable ResourceGroup group) {
+        this.group = group;
+        this.quota = group == null ? 0 : group.queryMemoryQuota();
+    }
+
+    /**
+     * Reserves the given amount of memory.
+     *
+     * @param bytes Amount of memory, in bytes.
+     * @throws QueryCancelledException If the query or the resource group quota would be exceeded.
+     */
+    public synchronized void reserve(long bytes) {
+        if (group == null || closed) {
+            return;
+        }
+
+        if (quota > 0 && reserved + bytes > quota) {
+            throw new QueryCancelledException(
+                    format("The query exceeded the memory quota [group={}, queryMemoryQuotaBytes={}].", group.name(), quota)
+            );
+        }
+
+        if (!group.tryReserveMemory(bytes)) {
+            throw new QueryCancelledException(
+                    format("The queries of the resource group exceeded the memory quota [group={}, memoryQuotaBytes={}].",
+                            group.name(), group.memoryQuota())
+            );
+        }
+
+        reserved += bytes;
+    }
+
+    /**
+     * Releases memory previously reserved with {@link #reserve(long)}.
+     *
+     * @param bytes Amount of memory, in bytes.
+     */
+    public synchronized void release(long bytes) {
+        if (group == null || closed) {
+            return;
+        }
+
+        assert bytes <= reserved : "bytes=" + bytes + ", reserved=" + reserved;
+
+        reserved -= bytes;
+
+        group.releaseMemory(bytes);
+    }
+
+    /** Returns the amount of memory reserved at the moment. */
+    public synchronized long reserved() {
+        return reserved;
+    }
+
+    /** Releases all the memory reserved by the query. Any subsequent reservations are ignored. */
+    public synchronized void close() {
+        if (group == null || closed) {
+            return;
+        }
+
+        closed = true;
+
+        group.releaseMemory(reserved);
+
+        reserved = 0;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.workload;
+
+/**
+ * Priority of query execution tasks.
+ *
+ * <p>Tasks of a higher priority are taken from the execution queue earlier than the tasks of a lower priority submitted at about the
+ * same time. See {@link #deadlineOffset()} for details.
+ */
+public enum QueryPriority {
+    // A task may be overtaken by at most 1024 tasks of the next priority submitted after it.
+    LOW(2048),
+    NORMAL(1024),
+    HIGH(0);
+
+    private final long deadlineOffset;
+
+    QueryPriority(long deadlineOffset) {
+        this.deadlineOffset = deadlineOffset;
+    }
+
+    /**
+     * Returns the offset added to the sequence number of a submitted task to get the position of the task in the execution queue.
+     *
+     * <p>Tasks of the same priority are executed in the order of submission, while a task of a lower priority is overtaken by at most
+     * the fixed number of later tasks of a higher priority, thus it never starves.
+     */
+    public long deadlineOffset() {
+        return deadlineOffset;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.workload;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.sql.configuration.distributed.ResourceGroupView;
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runtime state of a resource group on the local node.
+ *
+ * <p>The group limits the number of queries executed concurrently and keeps the queries exceeding the limit in a FIFO queue. It also
+ * accounts the memory retained by execution nodes of the queries assigned to the group, see {@link QueryMemoryTracker}.
+ */
+public class ResourceGroup {
+    private final String name;
+
+    private volatile int maxConcurrentQueries;
+
+    private volatile int maxQueuedQueries = Integer.MAX_VALUE;
+
+    private volatile long queueTimeoutMillis;
+
+    private volatile long queryMemoryQuota;
+
+    private volatile long memoryQuota;
+
+    private volatile QueryPriority priority = QueryPriority.NORMAL;
+
+    private volatile Set<String> users = Set.of();
+
+    /** Number of queries holding an execution slot. Guarded by {@code this}. */
+    private int runningQueries;
+
+    /** Queries waiting for an execution slot in order of arrival. Guarded by {@code this}. */
+    @IgniteToStringExclude
+    private final Deque<Admission> queue = new ArrayDeque<>();
+
+    private final AtomicLong rejectedQueries = new AtomicLong();
+
+    private final AtomicLong reservedMemory = new AtomicLong();
+
+    /** Creates a group without any limits. */
+    ResourceGroup(String name) {
+        this.name = name;
+    }
+
+    /** Applies the given configuration to the group. Queries already admitted to the group are not affected. */
+    void update(ResourceGroupView view) {
+        queueTimeoutMillis = view.queueTimeoutMillis();
+        queryMemoryQuota = view.queryMemoryQuotaBytes();
+        memoryQuota = view.memoryQuotaBytes();
+        priority = QueryPriority.valueOf(view.priority().toUpperCase(Locale.ROOT));
+        users = Set.of(view.users());
+
+        List<Admission> granted;
+
+        synchronized (this) {
+            maxConcurrentQueries = view.maxConcurrentQueries();
+            maxQueuedQueries = view.maxQueuedQueries();
+
+            // The limit might have been increased.
+            granted = pollGranted();
+        }
+
+        granted.forEach(Admission::onGranted);
+    }
+
+    /** Returns the name of the group. */
+    public String name() {
+        return name;
+    }
+
+    /** Returns the priority of execution tasks of the group queries. */
+    public QueryPriority priority() {
+        return priority;
+    }
+
+    /** Returns maximal time a query may wait for execution, in ms, or {@code 0} if there is no limit. */
+    public long queueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+
+    /** Returns maximal amount of memory retained by a single query of the group, or {@code 0} if there is no limit. */
+    public long queryMemoryQuota() {
+        return queryMemoryQuota;
+    }
+
+    /** Returns maximal amount of memory retained by all queries of the group, or {@code 0} if there is no limit. */
+    public long memoryQuota() {
+        return memoryQuota;
+    }
+
+    /** Returns maximal number of queries executed concurrently, or {@code 0} if there is no limit. */
+    public int maxConcurrentQueries() {
+        return maxConcurrentQueries;
+    }
+
+    /** Returns {@code true} if queries of the given user are assigned to the group. */
+    boolean includes(String userName) {
+        return users.contains(userName);
+    }
+
+    /** Returns {@code true} if the given user may choose the group explicitly. */
+    boolean allows(@Nullable String userName) {
+        Set<String> users = this.users;
+
+        return users.isEmpty() || (userName != null && users.contains(userName));
+    }
+
+    /** Returns the number of queries being executed at the moment. */
+    public synchronized int runningQueries() {
+        return runningQueries;
+    }
+
+    /** Returns the number of queries waiting for execution at the moment. */
+    public synchronized int queuedQueries() {
+        return queue.size();
+    }
+
+    /** Returns the number of queries rejected because the queue was full or the query waited too long. */
+    public long rejectedQueries() {
+        return rejectedQueries.get();
+    }
+
+    /** Returns the amount of memory retained by the queries of the group at the moment. */
+    public long reservedMemory() {
+        return reservedMemory.get();
+    }
+
+    /**
+     * Requests an execution slot for a query.
+     *
+     * <p>The slot is granted immediately if the number of running queries is below the limit and no other query is waiting. Otherwise,
+     * the request is queued, or rejected if the queue is full. In any case, the returned admission must be {@link Admission#release()
+     * released} when the query completes.
+     *
+     * @return Admission of the query.
+     */
+    public Admission admit() {
+        Admission admission = new Admission();
+
+        synchronized (this) {
+            int limit = maxConcurrentQueries;
+
+            if (limit == 0 || (runningQueries < limit && queue.isEmpty())) {
+                runningQueries++;
+
+                admission.granted = true;
+            } else if (queue.size() < maxQueuedQueries) {
+                queue.add(admission);
+            } else {
+                admission.released = true;
+            }
+        }
+
+        if (admission.granted) {
+            admission.future.complete(null);
+        } else if (admission.released) {
+            rejectedQueries.incrementAndGet();
+
+            admission.future.completeExceptionally(new QueryCancelledException(
+                    format("The query was rejected because the queue of the resource group is full [group={}, maxQueuedQueries={}].",
+                            name, maxQueuedQueries)
+            ));
+        }
+
+        return admission;
+    }
+
+    /** Reserves the given amount of memory, returns {@code false} if the group quota would be exceeded. */
+    boolean tryReserveMemory(long bytes) {
+        long quota = memoryQuota;
+
+        if (quota == 0) {
+            reservedMemory.addAndGet(bytes);
+
+            return true;
+        }
+
+        while (true) {
+            long current = reservedMemory.get();
+
+            if (current + bytes > quota) {
+                return false;
+            }
+
+            if (reservedMemory.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /** Releases memory previously reserved with {@link #tryReserveMemory(long)}. */
+    void releaseMemory(long bytes) {
+        reservedMemory.addAndGet(-bytes);
+    }
+
+    private List<Admission> pollGranted() {
+        assert Thread.holdsLock(this);
+
+        List<Admission> granted = List.of();
+        int limit = maxConcurrentQueries;
+
+        while (!queue.isEmpty() && (limit == 0 || runningQueries < limit)) {
+            Admission next = queue.poll();
+
+            if (granted.isEmpty()) {
+                granted = new ArrayList<>();
+            }
+
+            next.granted = true;
+            runningQueries++;
+
+            granted.add(next);
+        }
+
+        return granted;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(ResourceGroup.class, this);
+    }
+
+    /** Execution slot of a query in the resource group. */
+    public class Admission {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /** Guarded by the group. */
+        private boolean granted;
+
+        /** Guarded by the group. */
+        private boolean released;
+
+        /** Returns the group the query was admitted to. */
+        public ResourceGroup group() {
+            return ResourceGroup.this;
+        }
+
+        /** Returns future that completes when the slot is granted, or completes exceptionally if the query is rejected. */
+        public CompletableFuture<Void> future() {
+            return future;
+        }
+
+        /**
+         * Releases the slot held by the query and grants it to the next query in the queue. If the query is still waiting, removes it from
+         * the queue and completes the {@link #future()} with {@link QueryCancelledException}.
+         */
+        public void release() {
+            List<Admission> granted;
+
+            synchronized (ResourceGroup.this) {
+                if (released) {
+                    return;
+                }
+
+                if (this.granted) {
+                    released = true;
+                    runningQueries--;
+
+                    granted = pollGranted();
+                } else {
+                    released = true;
+
+                    queue.remove(this);
+
+                    granted = null;
+                }
+            }
+
+            if (granted == null) {
+                future.completeExceptionally(new QueryCancelledException());
+            } else {
+                granted.forEach(Admission::onGranted);
+            }
+        }
+
+        /**
+         * Removes the query from the queue and completes the {@link #future()} with the given error. Has no effect if the slot has been
+         * granted already.
+         *
+         * @param cause Error to complete the future with.
+         * @return {@code true} if the query has been removed from the queue.
+         */
+        public boolean cancel(Throwable cause) {
+            synchronized (ResourceGroup.this) {
+                if (granted || released) {
+                    return false;
+                }
+
+                released = true;
+
+                queue.remove(this);
+            }
+
+            future.completeExceptionally(cause);
+
+            return true;
+        }
+
+        /** Rejects the query if it is still waiting for a slot. Has no effect if the slot has been granted already. */
+        public void expire() {
+            boolean expired = cancel(new QueryCancelledException(
+                    format("The query was rejected because it waited in the queue of the resource group too long [group={}, "
+                            + "queueTimeoutMillis={}].", name, queueTimeoutMillis)
+            ));
+
+            if (expired) {
+                rejectedQueries.incrementAndGet();
+            }
+        }
+
+        private void onGranted() {
+            future.complete(null);
+        }
+    }
+}
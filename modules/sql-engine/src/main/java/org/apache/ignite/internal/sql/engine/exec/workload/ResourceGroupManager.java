@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.workload;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.type.NativeTypes.INT32;
+import static org.apache.ignite.internal.type.NativeTypes.INT64;
+import static org.apache.ignite.internal.type.NativeTypes.stringOf;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.configuration.NamedListView;
+import org.apache.ignite.internal.sql.configuration.distributed.ResourceGroupView;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Registry of resource groups of the local node.
+ *
+ * <p>A query is assigned to a group in the following order:
+ * <ol>
+ *     <li>the group requested explicitly by the query, provided the user is allowed to use it;</li>
+ *     <li>the first configured group which lists the user;</li>
+ *     <li>the {@link #DEFAULT_GROUP_NAME default} group, which has no limits unless configured explicitly.</li>
+ * </ol>
+ */
+public class ResourceGroupManager {
+    /** Name of the group for queries which aren't assigned to any other group. */
+    public static final String DEFAULT_GROUP_NAME = "default";
+
+    private final ResourceGroup builtInDefaultGroup = new ResourceGroup(DEFAULT_GROUP_NAME);
+
+    /** Configured groups in the order of configuration. Copy-on-write, modifications are guarded by {@code this}. */
+    private volatile Map<String, ResourceGroup> groups = Map.of();
+
+    /**
+     * Applies the given configuration of the groups.
+     *
+     * <p>Runtime state of the groups which remain configured is preserved, so the queries already admitted keep their slots.
+     *
+     * @param views Configuration of the groups.
+     */
+    public synchronized void configure(NamedListView<? extends ResourceGroupView> views) {
+        Map<String, ResourceGroup> oldGroups = groups;
+        Map<String, ResourceGroup> newGroups = new LinkedHashMap<>();
+
+        for (ResourceGroupView view : views) {
+            ResourceGroup group = oldGroups.get(view.name());
+
+            if (group == null) {
+                group = new ResourceGroup(view.name());
+            }
+
+            group.update(view);
+
+            newGroups.put(view.name(), group);
+        }
+
+        groups = Collections.unmodifiableMap(newGroups);
+    }
+
+    /**
+     * Resolves the group of a query.
+     *
+     * @param userName Name of the user who started the query, or {@code null} if unknown.
+     * @param requestedGroup Name of the group requested explicitly by the query, or {@code null} if not requested.
+     * @return Group the query is assigned to.
+     * @throws SqlException If requested group doesn't exist or the user isn't allowed to use it.
+     */
+    public ResourceGroup resolve(@Nullable String userName, @Nullable String requestedGroup) {
+        Map<String, ResourceGroup> groups = this.groups;
+
+        if (requestedGroup != null) {
+            ResourceGroup group = DEFAULT_GROUP_NAME.equals(requestedGroup) ? group(DEFAULT_GROUP_NAME) : groups.get(requestedGroup);
+
+            if (group == null) {
+                throw new SqlException(STMT_VALIDATION_ERR, format("Resource group not found [name={}].", requestedGroup));
+            }
+
+            if (!group.allows(userName)) {
+                throw new SqlException(STMT_VALIDATION_ERR,
+                        format("User is not allowed to use the resource group [name={}, user={}].", requestedGroup, userName));
+            }
+
+            return group;
+        }
+
+        if (userName != null) {
+            for (ResourceGroup group : groups.values()) {
+                if (group.includes(userName)) {
+                    return group;
+                }
+            }
+        }
+
+        return group(DEFAULT_GROUP_NAME);
+    }
+
+    /**
+     * Returns the group with the given name.
+     *
+     * <p>Falls back to the default group if there is no such group, which may happen on a remote node if a query was started right after
+     * the configuration had been changed.
+     *
+     * @param name Name of the group, or {@code null} to get the default group.
+     * @return Resource group.
+     */
+    public ResourceGroup group(@Nullable String name) {
+        Map<String, ResourceGroup> groups = this.groups;
+
+        ResourceGroup group = name == null ? null : groups.get(name);
+
+        if (group == null) {
+            group = groups.getOrDefault(DEFAULT_GROUP_NAME, builtInDefaultGroup);
+        }
+
+        return group;
+    }
+
+    /** Returns all the groups, including the default one. */
+    public List<ResourceGroup> groups() {
+        Map<String, ResourceGroup> groups = this.groups;
+
+        List<ResourceGroup> result = new ArrayList<>(groups.size() + 1);
+
+        if (!groups.containsKey(DEFAULT_GROUP_NAME)) {
+            result.add(builtInDefaultGroup);
+        }
+
+        result.addAll(groups.values());
+
+        return result;
+    }
+
+    /** Returns system view exposing the state of the resource groups on the node. */
+    public SystemView<?> systemView() {
+        return SystemViews.<ResourceGroup>nodeViewBuilder()
+                .name("SQL_RESOURCE_GROUPS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .<String>addColumn("RESOURCE_GROUP_NAME", stringOf(Short.MAX_VALUE), ResourceGroup::name)
+                .<String>addColumn("PRIORITY", stringOf(6), group -> group.priority().name())
+                .<Integer>addColumn("MAX_CONCURRENT_QUERIES", INT32, ResourceGroup::maxConcurrentQueries)
+                .<Integer>addColumn("RUNNING_QUERIES", INT32, ResourceGroup::runningQueries)
+                .<Integer>addColumn("QUEUED_QUERIES", INT32, ResourceGroup::queuedQueries)
+                .<Long>addColumn("REJECTED_QUERIES", INT64, ResourceGroup::rejectedQueries)
+                .<Long>addColumn("MEMORY_QUOTA_BYTES", INT64, ResourceGroup::memoryQuota)
+                .<Long>addColumn("RESERVED_MEMORY_BYTES", INT64, ResourceGroup::reservedMemory)
+                .dataProvider(SubscriptionUtils.fromIterable(() -> groups().iterator()))
+                .build();
+    }
+}
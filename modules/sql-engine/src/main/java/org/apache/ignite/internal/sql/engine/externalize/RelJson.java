@@ -700,6 +700,15 @@ class RelJson {
 
                 return IgniteDistributions.affinity(keys, tableId, zoneId, label);
             }
+            case "range": {
+                assert keys.size() == 1;
+
+                int tableId = (int) map.get("tableId");
+                int zoneId = (int) map.get("zoneId");
+                String label = (String) map.get("label");
+
+                return IgniteDistributions.rangeAffinity(keys.get(0), tableId, zoneId, label);
+            }
             default: {
                 throw new IllegalStateException("Unsupported distribution function: " + functionName);
             }
@@ -37,6 +37,13 @@ public enum IgniteHint {
     FORCE_INDEX(true),
     /** Disable optimizations related to subquery decorrelation. */
     DISABLE_DECORRELATION,
+    /** Allows the query to read from materialized views instead of the tables they read, unless it runs in a read-write transaction. */
+    USE_MATERIALIZED_VIEWS,
+    /**
+     * Assigns the query to the resource group with the given name. Group names are case-sensitive, so the name is usually specified as
+     * a string literal.
+     */
+    RESOURCE_GROUP(true),
     ;
 
     private final boolean paramSupport;
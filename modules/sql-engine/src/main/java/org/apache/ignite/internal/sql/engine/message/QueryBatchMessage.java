@@ -17,10 +17,10 @@
 
 package org.apache.ignite.internal.sql.engine.message;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import org.apache.ignite.internal.network.annotations.Transferable;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.replicator.message.TimestampAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * QueryBatchMessage interface.
@@ -44,7 +44,30 @@ public interface QueryBatchMessage extends TimestampAware, ExecutionContextAware
     boolean last();
 
     /**
-     * Get rows.
+     * Get number of elements in every row.
      */
-    List<BinaryTupleMessage> rows();
+    int elementCount();
+
+    /**
+     * Get end offsets of the rows in the uncompressed {@link #rows()}.
+     */
+    int[] rowOffsets();
+
+    /**
+     * Get binary tuples of all rows of the batch, one after another.
+     *
+     * @see org.apache.ignite.internal.sql.engine.exec.RowBatch
+     */
+    ByteBuffer rows();
+
+    /**
+     * Get flag indicating that {@link #rows()} are compressed.
+     */
+    boolean compressed();
+
+    /**
+     * Get runtime statistics of the source fragment. Sent only with the last batch of a fragment executed by {@code EXPLAIN ANALYZE}.
+     */
+    @Nullable
+    String profile();
 }
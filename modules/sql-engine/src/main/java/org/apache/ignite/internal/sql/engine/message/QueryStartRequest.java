@@ -74,4 +74,8 @@ public interface QueryStartRequest extends TimestampAware, ExecutionContextAware
     /** The version of the cluster logical topology this query was mapped on. */
     @Nullable
     Long topologyVersion();
+
+    /** Name of the resource group the query is assigned to, {@code null} stands for the default group. */
+    @Nullable
+    String resourceGroup();
 }
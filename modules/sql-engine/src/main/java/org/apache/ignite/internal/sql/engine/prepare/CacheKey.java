@@ -36,6 +36,8 @@ public class CacheKey {
 
     private final ColumnType[] paramTypes;
 
+    private final boolean readWriteTx;
+
     private int hashCode = 0;
 
     /**
@@ -45,12 +47,14 @@ public class CacheKey {
      * @param schemaName Schema name.
      * @param query Query string.
      * @param paramTypes Types of all dynamic parameters, no any type can be {@code null}.
+     * @param readWriteTx Whether the query is executed within an explicit read-write transaction.
      */
-    public CacheKey(int catalogVersion, String schemaName, String query, ColumnType[] paramTypes) {
+    public CacheKey(int catalogVersion, String schemaName, String query, ColumnType[] paramTypes, boolean readWriteTx) {
         this.catalogVersion = catalogVersion;
         this.schemaName = schemaName;
         this.query = query;
         this.paramTypes = paramTypes;
+        this.readWriteTx = readWriteTx;
     }
 
     int catalogVersion() {
@@ -69,6 +73,10 @@ public class CacheKey {
         return query;
     }
 
+    boolean readWriteTx() {
+        return readWriteTx;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object o) {
@@ -84,6 +92,9 @@ public class CacheKey {
         if (catalogVersion != cacheKey.catalogVersion) {
             return false;
         }
+        if (readWriteTx != cacheKey.readWriteTx) {
+            return false;
+        }
         if (!schemaName.equals(cacheKey.schemaName)) {
             return false;
         }
@@ -101,6 +112,7 @@ public class CacheKey {
             result = 31 * result + schemaName.hashCode();
             result = 31 * result + query.hashCode();
             result = 31 * result + Arrays.deepHashCode(paramTypes);
+            result = 31 * result + Boolean.hashCode(readWriteTx);
 
             hashCode = result;
         }
@@ -389,6 +389,33 @@ public class IgnitePlanner implements Planner, RelOptTable.ViewExpander {
         return trimUnusedFields(root);
     }
 
+    /**
+     * Converts the query of a materialized view to a relational tree.
+     *
+     * <p>Unlike {@link #expandView}, unused fields are not trimmed, so the resulting tree has the same shape as a tree of a user
+     * query at the point where the query is matched against materialized views.
+     *
+     * @param qryStr Query of the materialized view.
+     * @param schemaName Name of the schema of the materialized view, unqualified names of the query are resolved in.
+     * @return Root of the relational tree, the fields of which are the columns of the materialized view.
+     */
+    public RelRoot convertMaterializedViewQuery(String qryStr, String schemaName) {
+        SqlParser parser = SqlParser.create(qryStr, parserCfg);
+        SqlNode sqlNode;
+        try {
+            sqlNode = parser.parseQuery();
+        } catch (SqlParseException e) {
+            throw new SqlException(STMT_PARSE_ERR, "parse failed", e);
+        }
+
+        CalciteCatalogReader catalogReader = this.catalogReader.withSchemaPath(List.of(schemaName));
+        SqlValidator validator = new IgniteSqlValidator(operatorTbl, catalogReader, typeFactory, validatorCfg, ctx.parameters());
+        SqlToRelConverter sqlToRelConverter = sqlToRelConverter(validator, catalogReader, sqlToRelConverterCfg);
+        RelRoot root = sqlToRelConverter.convertQuery(sqlNode, true, true);
+
+        return root.withRel(sqlToRelConverter.decorrelate(sqlNode, root.rel));
+    }
+
     /** {@inheritDoc} */
     @Override
     public RelNode transform(int programIdx, RelTraitSet targetTraits, RelNode rel) {
@@ -449,6 +476,11 @@ public class IgnitePlanner implements Planner, RelOptTable.ViewExpander {
         return w.toString();
     }
 
+    /** Returns the catalog reader of the planner. */
+    CalciteCatalogReader catalogReader() {
+        return catalogReader;
+    }
+
     /** Returns the validator. **/
     public SqlValidator validator() {
         if (validator == null) {
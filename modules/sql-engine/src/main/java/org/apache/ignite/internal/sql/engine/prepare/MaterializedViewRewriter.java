@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptMaterialization;
+import org.apache.calcite.plan.RelOptMaterializations;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.ViewExpanders;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.rules.CoreRules;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.lookup.LikePattern;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.calcite.tools.RuleSets;
+import org.apache.calcite.util.Pair;
+import org.apache.calcite.util.Util.FoundOne;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rewrites a query to read from materialized views.
+ *
+ * <p>A materialized view is used when the query, or a part of it, can be computed from the view, possibly with an additional filter,
+ * projection or roll-up on top of it. The matching itself is done by {@link RelOptMaterializations}, which is given only those views that
+ * read at least one of the tables the query reads.
+ */
+final class MaterializedViewRewriter {
+    private MaterializedViewRewriter() {
+        // No-op.
+    }
+
+    /**
+     * Rewrites the given tree to read from materialized views.
+     *
+     * @param planner Planner the tree was created by.
+     * @param rel Decorrelated tree of logical relations, before unused fields are trimmed.
+     * @return Rewritten tree, or the given one if no view is applicable.
+     */
+    static RelNode rewrite(IgnitePlanner planner, RelNode rel) {
+        IntSet tableIds = scannedTables(rel);
+
+        if (tableIds == null || tableIds.isEmpty()) {
+            return rel;
+        }
+
+        List<RelOptMaterialization> materializations = materializations(planner, rel.getCluster(), tableIds);
+
+        if (materializations.isEmpty()) {
+            return rel;
+        }
+
+        for (Pair<RelNode, List<RelOptMaterialization>> candidate : RelOptMaterializations.useMaterializedViews(rel, materializations)) {
+            RelNode result = candidate.left;
+
+            if (!RelOptUtil.areRowTypesEqual(result.getRowType(), rel.getRowType(), false)) {
+                continue;
+            }
+
+            // Substitution produces calcs, which are not supported by the rest of the pipeline.
+            result = IgnitePrograms.hep(RuleSets.ofList(CoreRules.CALC_SPLIT))
+                    .run(rel.getCluster().getPlanner(), result, result.getTraitSet(), List.of(), List.of());
+
+            return RelOptUtil.createCastRel(result, rel.getRowType(), true);
+        }
+
+        return rel;
+    }
+
+    /**
+     * Returns IDs of the tables scanned by the given tree, or {@code null} if the tree contains a scan that can't be matched against a
+     * view, that is a scan with a condition or a projection pushed into it.
+     */
+    private static @Nullable IntSet scannedTables(RelNode rel) {
+        IntSet tableIds = new IntOpenHashSet();
+
+        try {
+            new RelVisitor() {
+                @Override
+                public void visit(RelNode node, int ordinal, @Nullable RelNode parent) {
+                    if (node instanceof ProjectableFilterableTableScan) {
+                        ProjectableFilterableTableScan scan = (ProjectableFilterableTableScan) node;
+
+                        if (scan.condition() != null || scan.projects() != null || scan.requiredColumns() != null) {
+                            throw FoundOne.NULL;
+                        }
+                    }
+
+                    if (node instanceof TableScan) {
+                        IgniteTable table = node.getTable().unwrap(IgniteTable.class);
+
+                        if (table != null) {
+                            tableIds.add(table.id());
+                        }
+                    }
+
+                    super.visit(node, ordinal, parent);
+                }
+            }.go(rel);
+        } catch (FoundOne ignored) {
+            return null;
+        }
+
+        return tableIds;
+    }
+
+    private static List<RelOptMaterialization> materializations(IgnitePlanner planner, RelOptCluster cluster, IntSet tableIds) {
+        List<RelOptMaterialization> materializations = new ArrayList<>();
+
+        SchemaPlus rootSchema = planner.catalogReader().getRootSchema().plus();
+
+        for (String schemaName : rootSchema.subSchemas().getNames(LikePattern.any())) {
+            SchemaPlus schema = rootSchema.subSchemas().get(schemaName);
+
+            assert schema != null : schemaName;
+
+            for (String tableName : schema.tables().getNames(LikePattern.any())) {
+                Table table = schema.tables().get(tableName);
+
+                if (!(table instanceof IgniteTable) || !readsAnyOf((IgniteTable) table, tableIds)) {
+                    continue;
+                }
+
+                RelOptTable viewTable = planner.catalogReader().getTable(List.of(schemaName, tableName));
+
+                assert viewTable != null : schemaName + '.' + tableName;
+
+                String query = ((IgniteTable) table).materializedViewQuery();
+
+                assert query != null;
+
+                RelNode queryRel = planner.convertMaterializedViewQuery(query, schemaName).project();
+                RelNode tableRel = viewScan(cluster, viewTable, queryRel.getRowType());
+
+                if (tableRel != null) {
+                    materializations.add(new RelOptMaterialization(tableRel, queryRel, null, viewTable.getQualifiedName()));
+                }
+            }
+        }
+
+        return materializations;
+    }
+
+    private static boolean readsAnyOf(IgniteTable table, IntSet tableIds) {
+        if (table.materializedViewQuery() == null) {
+            return false;
+        }
+
+        for (int sourceId : table.materializedViewSources()) {
+            if (tableIds.contains(sourceId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates a scan of the table backing a materialized view that returns the columns of the view in the order of the view query, or
+     * returns {@code null} if the table doesn't match the query anymore.
+     */
+    private static @Nullable RelNode viewScan(RelOptCluster cluster, RelOptTable viewTable, RelDataType queryRowType) {
+        RelDataType tableRowType = viewTable.getRowType();
+
+        for (String fieldName : queryRowType.getFieldNames()) {
+            if (tableRowType.getField(fieldName, true, false) == null) {
+                return null;
+            }
+        }
+
+        RelBuilder relBuilder = Commons.FRAMEWORK_CONFIG.getSqlToRelConverterConfig()
+                .getRelBuilderFactory()
+                .create(cluster, null);
+
+        relBuilder.push(viewTable.toRel(ViewExpanders.simpleContext(cluster)));
+
+        return relBuilder.project(Commons.transform(queryRowType.getFieldNames(), relBuilder::field)).build();
+    }
+}
@@ -168,6 +168,13 @@ public final class PlannerHelper {
                 rel = tryDecorrelate(planner, rel);
             }
 
+            // Views lag behind the tables they read, so the rewrite is requested explicitly and never made for a read-write transaction,
+            // which must see its own writes and the latest committed data. DML is never rewritten, so the maintenance reads the tables.
+            if (root.kind.belongsTo(SqlKind.QUERY) && hints.present(IgniteHint.USE_MATERIALIZED_VIEWS)
+                    && !Commons.context(rel).readWriteTx()) {
+                rel = MaterializedViewRewriter.rewrite(planner, rel);
+            }
+
             rel = planner.trimUnusedFields(root.withRel(rel)).rel;
 
             RelOptCluster cluster = rel.getCluster();
@@ -179,6 +179,8 @@ public final class PlanningContext implements Context {
 
     private final boolean explicitTx;
 
+    private final boolean readWriteTx;
+
     private final int catalogVersion;
 
     private final @Nullable String defaultSchemaName;
@@ -190,6 +192,7 @@ public final class PlanningContext implements Context {
             long plannerTimeout,
             Int2ObjectMap<ColumnType> parameters,
             boolean explicitTx,
+            boolean readWriteTx,
             int catalogVersion,
             @Nullable String defaultSchemaName
     ) {
@@ -203,6 +206,7 @@ public final class PlanningContext implements Context {
         this.plannerTimeout = plannerTimeout;
         this.parameters = parameters;
         this.explicitTx = explicitTx;
+        this.readWriteTx = readWriteTx;
         this.catalogVersion = catalogVersion;
         this.defaultSchemaName = defaultSchemaName;
     }
@@ -357,6 +361,11 @@ public final class PlanningContext implements Context {
         return explicitTx;
     }
 
+    /** Returns {@code true} if planning is taking place within an explicit read-write transaction. */
+    public boolean readWriteTx() {
+        return readWriteTx;
+    }
+
     /** Present Catalog reader with supporting snapshot of rows count for tables. */
     private static class IgniteCatalogReader extends CalciteCatalogReader {
         private final HashMap<String, Double> cacheSizeOfTables = new HashMap<>();
@@ -415,6 +424,8 @@ public final class PlanningContext implements Context {
 
         private boolean explicitTx;
 
+        private boolean readWriteTx;
+
         private int catalogVersion;
 
         private @Nullable String defaultSchemaName;
@@ -460,13 +471,21 @@ public final class PlanningContext implements Context {
             return this;
         }
 
+        /** Sets whether explicit read-write transaction is present. */
+        public Builder readWriteTx(boolean readWriteTx) {
+            this.readWriteTx = readWriteTx;
+            return this;
+        }
+
         /**
          * Builds planner context.
          *
          * @return Planner context.
          */
         public PlanningContext build() {
-            return new PlanningContext(frameworkConfig, qry, plannerTimeout, parameters, explicitTx, catalogVersion, defaultSchemaName);
+            return new PlanningContext(
+                    frameworkConfig, qry, plannerTimeout, parameters, explicitTx, readWriteTx, catalogVersion, defaultSchemaName
+            );
         }
     }
 }
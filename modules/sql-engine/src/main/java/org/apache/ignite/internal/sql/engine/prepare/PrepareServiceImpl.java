@@ -105,6 +105,8 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlKill;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticEventParameters;
+import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
+import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
 import org.apache.ignite.internal.sql.engine.util.Cloner;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
@@ -318,12 +320,18 @@ public class PrepareServiceImpl implements PrepareService {
 
         assert schemaName != null;
 
-        boolean explicitTx = operationContext.txContext() != null && operationContext.txContext().explicitTx() != null;
+        QueryTransactionContext txContext = operationContext.txContext();
+        QueryTransactionWrapper explicitTxWrapper = txContext != null ? txContext.explicitTx() : null;
+
+        boolean explicitTx = explicitTxWrapper != null;
+        boolean readWriteTx = explicitTxWrapper != null && !explicitTxWrapper.unwrap().isReadOnly();
 
         long timestamp = operationContext.operationTime().longValue();
         int catalogVersion = schemaManager.catalogVersion(timestamp);
 
-        CacheKey key = createCacheKey(parsedResult.normalizedQuery(), catalogVersion, schemaName, operationContext.parameters());
+        CacheKey key = createCacheKey(
+                parsedResult.normalizedQuery(), catalogVersion, schemaName, operationContext.parameters(), readWriteTx
+        );
 
         CompletableFuture<PlanInfo> planFuture = cache.get(key);
 
@@ -357,6 +365,7 @@ public class PrepareServiceImpl implements PrepareService {
                 .defaultSchemaName(schemaName)
                 .parameters(Commons.arrayToMap(key.paramTypes()))
                 .explicitTx(explicitTx)
+                .readWriteTx(readWriteTx)
                 .build();
 
         return prepareAsync0(parsedResult, planningContext).exceptionally(ex -> {
@@ -368,7 +377,7 @@ public class PrepareServiceImpl implements PrepareService {
     }
 
     private static CacheKey createCacheKey(
-            String query, int catalogVersion, String schemaName, Object[] params
+            String query, int catalogVersion, String schemaName, Object[] params, boolean readWriteTx
     ) {
         ColumnType[] paramTypes = new ColumnType[params.length];
 
@@ -389,7 +398,7 @@ public class PrepareServiceImpl implements PrepareService {
             paramTypes[idx++] = columnType;
         }
 
-        return new CacheKey(catalogVersion, schemaName, query, paramTypes);
+        return new CacheKey(catalogVersion, schemaName, query, paramTypes, readWriteTx);
     }
 
     private SchemaPlus getDefaultSchema(int catalogVersion, String schemaName) {
@@ -565,7 +574,7 @@ public class PrepareServiceImpl implements PrepareService {
 
             // Use parameter metadata to compute a cache key.
             CacheKey cacheKey = createCacheKeyFromParameterMetadata(stmt.parsedResult.normalizedQuery(), ctx.catalogVersion(),
-                    ctx.schemaName(), stmt.parameterMetadata);
+                    ctx.schemaName(), stmt.parameterMetadata, ctx.readWriteTx());
 
             return cache.get(cacheKey, k -> CompletableFuture.supplyAsync(() -> buildQueryPlan(stmt, ctx,
                     () -> cache.invalidate(cacheKey)), planningPool));
@@ -576,7 +585,8 @@ public class PrepareServiceImpl implements PrepareService {
             String query,
             int catalogVersion,
             String schemaName,
-            ParameterMetadata parameterMetadata
+            ParameterMetadata parameterMetadata,
+            boolean readWriteTx
     ) {
         ColumnType[] paramTypes;
 
@@ -593,7 +603,7 @@ public class PrepareServiceImpl implements PrepareService {
             paramTypes = result;
         }
 
-        return new CacheKey(catalogVersion, schemaName, query, paramTypes);
+        return new CacheKey(catalogVersion, schemaName, query, paramTypes, readWriteTx);
     }
 
     private CompletableFuture<Void> rebuildQueryPlan(
@@ -824,7 +834,7 @@ public class PrepareServiceImpl implements PrepareService {
         return validateDml(parsedResult, sqlNode, ctx).thenCompose(stmt -> {
             // Use parameter metadata to compute a cache key.
             CacheKey cacheKey = createCacheKeyFromParameterMetadata(stmt.parsedResult.normalizedQuery(), ctx.catalogVersion(),
-                    ctx.schemaName(), stmt.parameterMetadata);
+                    ctx.schemaName(), stmt.parameterMetadata, ctx.readWriteTx());
 
             return cache.get(cacheKey, k -> CompletableFuture.supplyAsync(() -> buildDmlPlan(stmt, ctx,
                     () -> cache.invalidate(cacheKey)), planningPool));
@@ -1241,6 +1251,7 @@ public class PrepareServiceImpl implements PrepareService {
                                 .catalogVersion(key.catalogVersion())
                                 .defaultSchemaName(key.schemaName())
                                 .parameters(Commons.arrayToMap(key.paramTypes()))
+                                .readWriteTx(key.readWriteTx())
                                 .build();
 
                         CompletableFuture<Void> newPlanFut =
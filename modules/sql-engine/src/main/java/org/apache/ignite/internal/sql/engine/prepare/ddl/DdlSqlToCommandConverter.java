@@ -42,6 +42,8 @@ import static org.apache.ignite.internal.sql.engine.util.TypeUtils.columnType;
 import static org.apache.ignite.internal.sql.engine.util.TypeUtils.fromInternal;
 import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
@@ -59,7 +61,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.runtime.CalciteContextException;
 import org.apache.calcite.schema.ColumnStrategy;
 import org.apache.calcite.sql.SqlBasicTypeNameSpec;
@@ -78,6 +84,7 @@ import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.sql.SqlNumericLiteral;
 import org.apache.calcite.sql.ddl.SqlColumnDeclaration;
 import org.apache.calcite.sql.ddl.SqlDdlNodes;
+import org.apache.calcite.sql.dialect.CalciteSqlDialect;
 import org.apache.calcite.sql.parser.SqlParserPos;
 import org.apache.calcite.sql.parser.SqlParserUtil;
 import org.apache.calcite.sql.type.SqlTypeName;
@@ -120,9 +127,11 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
 import org.apache.ignite.internal.catalog.descriptors.ConsistencyMode;
 import org.apache.ignite.internal.partitiondistribution.DistributionAlgorithm;
 import org.apache.ignite.internal.sql.engine.exec.exp.IgniteSqlFunctions;
+import org.apache.ignite.internal.sql.engine.exec.mview.MaterializedViewShape;
 import org.apache.ignite.internal.sql.engine.prepare.IgnitePlanner;
 import org.apache.ignite.internal.sql.engine.prepare.IgniteSqlValidator;
 import org.apache.ignite.internal.sql.engine.prepare.PlanningContext;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableAddColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableDropColumn;
@@ -131,10 +140,12 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneRenameTo;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneSet;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneSetDefault;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateIndex;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateMaterializedView;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateSchema;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateZone;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlDropIndex;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlDropMaterializedView;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlDropSchema;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlDropSchemaBehavior;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlDropTable;
@@ -280,6 +291,14 @@ public class DdlSqlToCommandConverter {
             return convertDropTable((IgniteSqlDropTable) ddlNode, ctx);
         }
 
+        if (ddlNode instanceof IgniteSqlCreateMaterializedView) {
+            return convertCreateMaterializedView((IgniteSqlCreateMaterializedView) ddlNode, ctx);
+        }
+
+        if (ddlNode instanceof IgniteSqlDropMaterializedView) {
+            return convertDropMaterializedView((IgniteSqlDropMaterializedView) ddlNode, ctx);
+        }
+
         if (ddlNode instanceof IgniteSqlAlterTableAddColumn) {
             return convertAlterTableAdd((IgniteSqlAlterTableAddColumn) ddlNode, ctx);
         }
@@ -471,6 +490,13 @@ public class DdlSqlToCommandConverter {
             columns.add(convertColumnDeclaration(col, ctx.planner(), !pkColumns.contains(col.name.getSimple())));
         }
 
+        List<Object> rangeSplitPoints = null;
+        if (createTblNode.rangeSplitPoints() != null) {
+            assert colocationColumns != null;
+
+            rangeSplitPoints = convertRangeSplitPoints(createTblNode.rangeSplitPoints(), colocationColumns, columns);
+        }
+
         String storageProfile = null;
         if (createTblNode.storageProfile() != null) {
             assert createTblNode.storageProfile().getKind() == SqlKind.LITERAL;
@@ -496,6 +522,7 @@ public class DdlSqlToCommandConverter {
                 .columns(columns)
                 .primaryKey(primaryKey)
                 .colocationColumns(colocationColumns)
+                .rangeSplitPoints(rangeSplitPoints)
                 .zone(zone)
                 .storageProfile(storageProfile)
                 .ifTableExists(createTblNode.ifNotExists())
@@ -504,6 +531,34 @@ public class DdlSqlToCommandConverter {
         return completedFuture(command);
     }
 
+    private static List<Object> convertRangeSplitPoints(
+            SqlNodeList splitPoints,
+            List<String> partitioningColumns,
+            List<ColumnParams> columns
+    ) {
+        if (partitioningColumns.size() != 1) {
+            throw new SqlException(STMT_VALIDATION_ERR, "Range-partitioned table must have exactly one partitioning column.");
+        }
+
+        String columnName = partitioningColumns.get(0);
+
+        ColumnParams column = columns.stream()
+                .filter(c -> c.name().equals(columnName))
+                .findAny()
+                .orElseThrow(() -> new SqlException(STMT_VALIDATION_ERR, format("Colocation column '{}' is not part of PK.", columnName)));
+
+        int precision = column.precision() == null ? PRECISION_NOT_SPECIFIED : column.precision();
+        int scale = column.scale() == null ? SCALE_NOT_SPECIFIED : column.scale();
+
+        List<Object> result = new ArrayList<>(splitPoints.size());
+
+        for (SqlNode splitPoint : splitPoints) {
+            result.add(fromLiteral(column.type(), columnName, (SqlLiteral) splitPoint, precision, scale, "split point"));
+        }
+
+        return result;
+    }
+
     private static ColumnParams convertColumnDeclaration(SqlColumnDeclaration col, IgnitePlanner planner, boolean nullable) {
         assert col.name.isSimple();
 
@@ -691,6 +746,105 @@ public class DdlSqlToCommandConverter {
                 .schemaName(deriveSchemaName(dropTblNode.name(), ctx))
                 .tableName(deriveObjectName(dropTblNode.name(), ctx, "tableName"))
                 .ifTableExists(dropTblNode.ifExists)
+                .materializedView(false)
+                .build());
+    }
+
+    /**
+     * Converts the given '{@code CREATE MATERIALIZED VIEW}' AST to the {@link CreateTableCommand} catalog command creating the table
+     * backing the view.
+     */
+    private CompletableFuture<CatalogCommand> convertCreateMaterializedView(
+            IgniteSqlCreateMaterializedView createViewNode,
+            PlanningContext ctx
+    ) {
+        String schemaName = deriveSchemaName(createViewNode.name(), ctx);
+
+        // The query is stored as text and is compiled again whenever the view is used or maintained, so names are quoted to be resolved
+        // the same way regardless of their case.
+        String query = createViewNode.query().toSqlString(c -> c.withDialect(CalciteSqlDialect.DEFAULT)
+                .withQuoteAllIdentifiers(true)
+                .withAlwaysUseParentheses(false)
+        ).getSql();
+
+        RelNode rel = ctx.planner().convertMaterializedViewQuery(query, schemaName).project();
+
+        MaterializedViewShape shape = MaterializedViewShape.analyze(rel);
+
+        List<RelDataTypeField> fields = rel.getRowType().getFieldList();
+        List<ColumnParams> columns = new ArrayList<>(fields.size());
+        Set<String> columnNames = new HashSet<>();
+
+        for (RelDataTypeField field : fields) {
+            String name = field.getName();
+
+            if (IgniteSqlValidator.isSystemColumnName(name)) {
+                throw new SqlException(STMT_VALIDATION_ERR, "Failed to validate query. Column '" + name + "' is reserved name.");
+            }
+
+            if (!columnNames.add(name)) {
+                throw new SqlException(STMT_VALIDATION_ERR, format(
+                        "Column names of materialized view must be unique, specify an alias [column={}].", name
+                ));
+            }
+
+            RelDataType relType = field.getType();
+
+            if (SqlTypeUtil.isInterval(relType) || relType.getSqlTypeName() == SqlTypeName.NULL) {
+                throw new SqlException(STMT_VALIDATION_ERR, format(
+                        "Type {} cannot be used in a column definition [column={}].", relType.getSqlTypeName().getSpaceName(), name
+                ));
+            }
+
+            ColumnTypeParams typeParams = new ColumnTypeParams(relType);
+
+            columns.add(ColumnParams.builder()
+                    .name(name)
+                    .type(typeParams.colType)
+                    .nullable(relType.isNullable())
+                    .precision(typeParams.precision)
+                    .scale(typeParams.scale)
+                    .length(typeParams.length)
+                    .defaultValue(DefaultValue.constant(null))
+                    .build());
+        }
+
+        IntList sourceTableIds = new IntArrayList();
+
+        for (RelOptTable table : RelOptUtil.findAllTables(rel)) {
+            int tableId = table.unwrapOrThrow(IgniteTable.class).id();
+
+            if (!sourceTableIds.contains(tableId)) {
+                sourceTableIds.add(tableId);
+            }
+        }
+
+        TableStatsStalenessConfiguration properties = stalenessProperties.get();
+
+        return completedFuture(CreateTableCommand.builder()
+                .schemaName(schemaName)
+                .tableName(deriveObjectName(createViewNode.name(), ctx, "viewName"))
+                .columns(columns)
+                .primaryKey(TableHashPrimaryKey.builder()
+                        .columns(shape.keyColumns())
+                        .build())
+                .staleRowsFraction(properties.staleRowsFraction())
+                .minStaleRowsCount(properties.minStaleRowsCount())
+                .materializedView(query, sourceTableIds)
+                .ifTableExists(createViewNode.ifNotExists())
+                .build());
+    }
+
+    /**
+     * Converts the given '{@code DROP MATERIALIZED VIEW}' AST to the {@link DropTableCommand} catalog command dropping the table backing
+     * the view.
+     */
+    private CompletableFuture<CatalogCommand> convertDropMaterializedView(IgniteSqlDropMaterializedView dropViewNode, PlanningContext ctx) {
+        return completedFuture(DropTableCommand.builder()
+                .schemaName(deriveSchemaName(dropViewNode.name(), ctx))
+                .tableName(deriveObjectName(dropViewNode.name(), ctx, "viewName"))
+                .ifTableExists(dropViewNode.ifExists())
+                .materializedView(true)
                 .build());
     }
 
@@ -1136,6 +1290,17 @@ public class DdlSqlToCommandConverter {
      * Creates a value of required type from the literal.
      */
     private static @Nullable Object fromLiteral(ColumnType columnType, String name, SqlLiteral literal, int precision, int scale) {
+        return fromLiteral(columnType, name, literal, precision, scale, "default value");
+    }
+
+    private static @Nullable Object fromLiteral(
+            ColumnType columnType,
+            String name,
+            SqlLiteral literal,
+            int precision,
+            int scale,
+            String valueKind
+    ) {
         if (literal.getValue() == null) {
             return null;
         }
@@ -1279,7 +1444,7 @@ public class DdlSqlToCommandConverter {
             }
         } catch (Throwable th) {
             // catch throwable here because literal throws an AssertionError when unable to cast value to a given class
-            throw new SqlException(STMT_VALIDATION_ERR, format("Invalid default value for column '{}'", name), th);
+            throw new SqlException(STMT_VALIDATION_ERR, format("Invalid {} for column '{}'", valueKind, name), th);
         }
     }
 
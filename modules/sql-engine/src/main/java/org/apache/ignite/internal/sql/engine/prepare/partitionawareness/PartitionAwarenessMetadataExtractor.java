@@ -145,6 +145,11 @@ public class PartitionAwarenessMetadataExtractor {
         IgniteTable igniteTable = optTable.unwrap(IgniteTable.class);
         assert igniteTable != null;
 
+        // Clients compute partitions from colocation hashes, which is not how rows of range-partitioned tables are distributed.
+        if (igniteTable.rangePartitioner() != null) {
+            return null;
+        }
+
         ImmutableIntList colocationKeys = igniteTable.distribution().getKeys();
 
         // colocation key index to dynamic param index
@@ -329,6 +334,11 @@ public class PartitionAwarenessMetadataExtractor {
                 return null;
             }
 
+            // See buildMetadata.
+            if (igniteTable.rangePartitioner() != null) {
+                return null;
+            }
+
             boolean dml = relationWithSources.modifiedTables().contains(igniteTable.id());
             long numSources = numberOfModifyAndSourceRels(relationWithSources);
 
@@ -418,7 +418,8 @@ class ModifyNodeVisitor implements IgniteRelVisitor<List<List<RexNode>>> {
     ) {
         int numColumns = table.descriptor().columnsCount();
 
-        if (metadata == null) {
+        // Ranges don't define values of the columns.
+        if (metadata == null || !metadata.ranges().isEmpty()) {
             List<RexNode> row = createRowWithNoValues(numColumns);
             return List.of(row);
         }
@@ -46,6 +46,13 @@ import org.jetbrains.annotations.TestOnly;
  *     Colocation keys: c1, c2
  *     Columns: [c1=10, c2=42], [c1=77, c2=173]
  * </pre>
+ * Metadata of a range-partitioned table may also contain ranges of values of its partitioning column:
+ * <pre>
+ *     Condition: c1 >= 10 AND c1 &lt; 20 OR c1 > 100
+ *     Partitioning column: c1
+ *     Ranges: [c1 >= 10, c1 &lt; 20], [c1 > 100]
+ * </pre>
+ * The rows that match the condition belong to the union of partitions of all the column sets and all the ranges.
  *
  * @see PartitionPruningMetadataExtractor
  */
@@ -55,9 +62,17 @@ public class PartitionPruningColumns implements Serializable {
 
     private final List<Int2ObjectMap<RexNode>> columns;
 
+    private final List<PartitionPruningRange> ranges;
+
     /** Constructor. */
     public PartitionPruningColumns(List<Int2ObjectMap<RexNode>> columns) {
+        this(columns, List.of());
+    }
+
+    /** Constructor. */
+    public PartitionPruningColumns(List<Int2ObjectMap<RexNode>> columns, List<PartitionPruningRange> ranges) {
         this.columns = Collections.unmodifiableList(columns);
+        this.ranges = Collections.unmodifiableList(ranges);
     }
 
     /** A list of column values. */
@@ -65,16 +80,23 @@ public class PartitionPruningColumns implements Serializable {
         return columns;
     }
 
+    /** Ranges of values of the partitioning column of a range-partitioned table, empty for hash-partitioned tables. */
+    public List<PartitionPruningRange> ranges() {
+        return ranges;
+    }
+
     /** Returns {@code true} if this columns contain correlated variables. */
     public boolean containCorrelatedVariables() {
         return columns.stream()
-                .anyMatch(c -> c.values().stream().anyMatch(PartitionPruningMetadataExtractor::isCorrelatedVariable));
+                .anyMatch(c -> c.values().stream().anyMatch(PartitionPruningMetadataExtractor::isCorrelatedVariable))
+                || ranges.stream()
+                .anyMatch(r -> r.bounds().anyMatch(PartitionPruningMetadataExtractor::isCorrelatedVariable));
     }
 
     /** {@inheritDoc} */
     @Override
     public String toString() {
-        return S.toString(PartitionPruningColumns.class, this, "columns", columns);
+        return S.toString(PartitionPruningColumns.class, this, "columns", columns, "ranges", ranges);
     }
 
     @SuppressWarnings("unused")
@@ -99,13 +121,13 @@ public class PartitionPruningColumns implements Serializable {
             return false;
         }
         PartitionPruningColumns columns1 = (PartitionPruningColumns) o;
-        return Objects.equals(columns, columns1.columns);
+        return Objects.equals(columns, columns1.columns) && Objects.equals(ranges, columns1.ranges);
     }
 
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
-        return Objects.hashCode(columns);
+        return Objects.hash(columns, ranges);
     }
 
     /**
@@ -132,6 +154,14 @@ public class PartitionPruningColumns implements Serializable {
                     }
                 }
 
+                output.writeInt(columns.ranges().size());
+
+                for (PartitionPruningRange range : columns.ranges()) {
+                    writeExpressions(output, range.lowerBounds());
+                    writeExpressions(output, range.upperBounds());
+                    writeExpressions(output, range.exclusiveUpperBounds());
+                }
+
                 this.bytes = output.array();
             } catch (IOException e) {
                 throw new IgniteException(Common.INTERNAL_ERR, "Unable to serialize partition pruning metadata", e);
@@ -155,7 +185,33 @@ public class PartitionPruningColumns implements Serializable {
             readExpressions(input, result);
         }
 
-        return new PartitionPruningColumns(result);
+        int numRanges = input.readInt();
+        List<PartitionPruningRange> ranges = new ArrayList<>(numRanges);
+
+        for (int i = 0; i < numRanges; i++) {
+            ranges.add(new PartitionPruningRange(readExpressionList(input), readExpressionList(input), readExpressionList(input)));
+        }
+
+        return new PartitionPruningColumns(result, ranges);
+    }
+
+    private static void writeExpressions(IgniteUnsafeDataOutput output, List<RexNode> expressions) throws IOException {
+        output.writeInt(expressions.size());
+
+        for (RexNode expression : expressions) {
+            output.writeUTF(RelJsonWriter.toExprJson(expression));
+        }
+    }
+
+    private static List<RexNode> readExpressionList(IgniteDataInput input) throws IOException {
+        int size = input.readInt();
+        List<RexNode> expressions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            expressions.add(RelJsonReader.fromExprJson(input.readUTF()));
+        }
+
+        return expressions;
     }
 
     private static void readExpressions(IgniteDataInput input, List<Int2ObjectMap<RexNode>> output) throws IOException {
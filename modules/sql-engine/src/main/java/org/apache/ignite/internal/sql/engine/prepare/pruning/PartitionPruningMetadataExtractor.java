@@ -89,9 +89,18 @@ import org.jetbrains.annotations.VisibleForTesting;
  *    =>
  *    t = [ [colo_key1=10, colo_key2=20], [colo_key1=20, colo_key2=30] ]
  * </pre>
+ * For range-partitioned tables comparisons of the partitioning key are extracted as well:
+ * <pre>
+ *    SELECT * FROM t WHERE range_key >= 10 AND range_key &lt; 20 OR range_key > ?0
+ *    =>
+ *    t = ranges [ [range_key >= 10, range_key &lt; 20], [range_key > ?0] ]
+ * </pre>
  */
 public class PartitionPruningMetadataExtractor extends IgniteRelShuttle {
 
+    /** Maximum number of ranges extracted from a condition, conditions that produce more ranges are not used for pruning. */
+    private static final int MAX_RANGES = 64;
+
     final Long2ObjectMap<PartitionPruningColumns> result = new Long2ObjectOpenHashMap<>();
 
     /**
@@ -252,6 +261,14 @@ public class PartitionPruningMetadataExtractor extends IgniteRelShuttle {
 
         PartitionPruningColumns metadata = extractMetadata(keysList, remappedCondition, rexBuilder);
 
+        if (metadata == null && table.rangePartitioner() != null) {
+            List<PartitionPruningRange> ranges = extractRanges(keysList.getInt(0), remappedCondition, rexBuilder);
+
+            if (ranges != null) {
+                metadata = new PartitionPruningColumns(List.of(), ranges);
+            }
+        }
+
         if (metadata != null) {
             result.put(sourceId, metadata);
         }
@@ -542,6 +559,125 @@ public class PartitionPruningMetadataExtractor extends IgniteRelShuttle {
         }
     }
 
+    /**
+     * Extracts ranges of values of the partitioning column of a range-partitioned table from the given condition.
+     *
+     * @param key Index of the partitioning column.
+     * @param condition Condition.
+     * @param rexBuilder Expression builder.
+     * @return Ranges, the values that match the condition belong to one of them; {@code null} if the condition doesn't limit the values.
+     */
+    @VisibleForTesting
+    public static @Nullable List<PartitionPruningRange> extractRanges(int key, RexNode condition, RexBuilder rexBuilder) {
+        switch (condition.getKind()) {
+            case AND: {
+                List<PartitionPruningRange> res = null;
+
+                for (RexNode operand : ((RexCall) condition).getOperands()) {
+                    List<PartitionPruningRange> child = extractRanges(key, operand, rexBuilder);
+
+                    // In case of AND: an operand that doesn't limit the key can be ignored.
+                    if (child == null) {
+                        continue;
+                    }
+
+                    if (res == null) {
+                        res = child;
+                    } else if (res.size() * child.size() <= MAX_RANGES) {
+                        res = intersect(res, child);
+                    } else if (child.size() < res.size()) {
+                        // Either operand alone is a superset of the intersection, keep the more selective one.
+                        res = child;
+                    }
+                }
+
+                return res;
+            }
+            case OR: {
+                List<PartitionPruningRange> res = new ArrayList<>();
+
+                for (RexNode operand : ((RexCall) condition).getOperands()) {
+                    List<PartitionPruningRange> child = extractRanges(key, operand, rexBuilder);
+
+                    // In case of OR: an operand that doesn't limit the key makes the whole condition unlimited.
+                    if (child == null) {
+                        return null;
+                    }
+
+                    res.addAll(child);
+                }
+
+                return res.size() <= MAX_RANGES ? res : null;
+            }
+            case SEARCH: {
+                RexNode expandedSearch = RexUtil.expandSearch(rexBuilder, null, condition);
+                assert !expandedSearch.isA(SqlKind.SEARCH) : "Search operation is not expanded: " + condition;
+
+                return extractRanges(key, expandedSearch, rexBuilder);
+            }
+            case EQUALS:
+            case IS_NOT_DISTINCT_FROM:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL: {
+                List<RexNode> operands = ((RexCall) condition).getOperands();
+
+                SqlKind kind = condition.getKind();
+                RexNode lhs = operands.get(0);
+                RexNode rhs = operands.get(1);
+
+                if (!isRangeKey(lhs, key)) {
+                    // <val> < key => key > <val>
+                    kind = kind.reverse();
+                    lhs = operands.get(1);
+                    rhs = operands.get(0);
+                }
+
+                if (RexUtils.isLosslessCast(rhs)) {
+                    rhs = ((RexCall) rhs).getOperands().get(0);
+                }
+
+                if (!isRangeKey(lhs, key) || !isValueExpr(rhs)) {
+                    return null;
+                }
+
+                List<RexNode> value = List.of(rhs);
+
+                switch (kind) {
+                    case LESS_THAN:
+                        return List.of(new PartitionPruningRange(List.of(), List.of(), value));
+                    case LESS_THAN_OR_EQUAL:
+                        return List.of(new PartitionPruningRange(List.of(), value, List.of()));
+                    case GREATER_THAN:
+                    case GREATER_THAN_OR_EQUAL:
+                        return List.of(new PartitionPruningRange(value, List.of(), List.of()));
+                    default:
+                        return List.of(new PartitionPruningRange(value, value, List.of()));
+                }
+            }
+            default:
+                // NOT, IS [NOT] NULL and other operations are not used, the key is still limited by the other operands of AND.
+                return null;
+        }
+    }
+
+    private static List<PartitionPruningRange> intersect(List<PartitionPruningRange> left, List<PartitionPruningRange> right) {
+        List<PartitionPruningRange> res = new ArrayList<>(left.size() * right.size());
+
+        for (PartitionPruningRange l : left) {
+            for (PartitionPruningRange r : right) {
+                res.add(l.intersect(r));
+            }
+        }
+
+        return res;
+    }
+
+    private static boolean isRangeKey(RexNode node, int key) {
+        return node instanceof RexLocalRef && ((RexLocalRef) node).getIndex() == key;
+    }
+
     private static boolean isColocationKey(RexNode node, IntList keys) {
         if (node instanceof RexLocalRef) {
             RexLocalRef localRef = (RexLocalRef) node;
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.newHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.LongList;
 import java.time.Instant;
@@ -36,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
@@ -52,6 +54,7 @@ import org.apache.ignite.internal.sql.engine.schema.PartitionCalculator;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.TemporalNativeType;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.sql.ColumnType;
 import org.jetbrains.annotations.Nullable;
 
@@ -175,6 +178,25 @@ public final class PartitionPruningPredicate {
             }
         }
 
+        if (!pruningColumns.ranges().isEmpty()) {
+            RangePartitioner rangePartitioner = Objects.requireNonNull(table.rangePartitioner());
+            NativeType physicalType = table.descriptor().columnDescriptor(keys.getInt(0)).physicalType();
+
+            IntSet partitions = rangePartitions(rangePartitioner, pruningColumns.ranges(), node -> {
+                Object valueInInternalForm = expressionFactory.scalar(node).get(context);
+
+                return valueInInternalForm == null ? null : TypeUtils.fromInternal(valueInInternalForm, physicalType.spec());
+            });
+
+            for (int p = 0; p < assignments.size(); p++) {
+                NodeWithConsistencyToken token = assignments.get(p);
+
+                if ((partitions == null || partitions.contains(p)) && nodeName.equals(token.name())) {
+                    result.add(new PartitionWithConsistencyToken(p, token.enlistmentConsistencyToken()));
+                }
+            }
+        }
+
         return result;
     }
 
@@ -186,6 +208,7 @@ public final class PartitionPruningPredicate {
         ImmutableIntList keys = table.distribution().getKeys();
         IntSet remainingPartitions = new IntArraySet(pruningColumns.columns().size());
         PartitionCalculator partitionCalculator = table.partitionCalculator().get();
+        RangePartitioner rangePartitioner = table.rangePartitioner();
 
         for (Int2ObjectMap<RexNode> columns : pruningColumns.columns()) {
             for (int key : keys) {
@@ -204,6 +227,11 @@ public final class PartitionPruningPredicate {
                     }
                 }
 
+                // Range partitioning compares values, so a value of another type (e.g. a dynamic parameter) can't be mapped to a partition.
+                if (rangePartitioner != null && !rangePartitioner.accepts(val)) {
+                    return null;
+                }
+
                 partitionCalculator.append(val);
             }
 
@@ -211,9 +239,101 @@ public final class PartitionPruningPredicate {
             remainingPartitions.add(p);
         }
 
+        if (!pruningColumns.ranges().isEmpty()) {
+            NativeType physicalType = table.descriptor().columnDescriptor(keys.getInt(0)).physicalType();
+
+            if (physicalType instanceof TemporalNativeType && ((TemporalNativeType) physicalType).precision() > 3) {
+                return null;
+            }
+
+            IntSet partitions = rangePartitions(
+                    Objects.requireNonNull(rangePartitioner),
+                    pruningColumns.ranges(),
+                    node -> getNodeValue(physicalType, node, dynamicParameters)
+            );
+
+            if (partitions == null) {
+                return null;
+            }
+
+            partitions.addAll(remainingPartitions);
+            remainingPartitions = partitions;
+
+            // The condition can't match any row, but the source still needs a partition to produce its empty result.
+            if (remainingPartitions.isEmpty()) {
+                remainingPartitions.add(0);
+            }
+        }
+
         return remainingPartitions;
     }
 
+    /**
+     * Computes partitions of a range-partitioned table that may contain the values of the given ranges.
+     *
+     * @return Partitions, or {@code null} if a bound can't be mapped to a partition and all partitions have to be scanned.
+     */
+    private static @Nullable IntSet rangePartitions(
+            RangePartitioner rangePartitioner,
+            List<PartitionPruningRange> ranges,
+            Function<RexNode, @Nullable Object> valueResolver
+    ) {
+        IntSet partitions = new IntOpenHashSet();
+
+        for (PartitionPruningRange range : ranges) {
+            int from = 0;
+            int to = rangePartitioner.partitions() - 1;
+            boolean empty = false;
+
+            for (RexNode bound : range.lowerBounds()) {
+                Object value = valueResolver.apply(bound);
+
+                if (!rangePartitioner.accepts(value)) {
+                    return null;
+                }
+
+                // Comparison with NULL is never true.
+                empty |= value == null;
+
+                from = Math.max(from, rangePartitioner.partition(value));
+            }
+
+            for (RexNode bound : range.upperBounds()) {
+                Object value = valueResolver.apply(bound);
+
+                if (!rangePartitioner.accepts(value)) {
+                    return null;
+                }
+
+                empty |= value == null;
+
+                to = Math.min(to, rangePartitioner.partition(value));
+            }
+
+            for (RexNode bound : range.exclusiveUpperBounds()) {
+                Object value = valueResolver.apply(bound);
+
+                if (!rangePartitioner.accepts(value)) {
+                    return null;
+                }
+
+                if (value == null) {
+                    empty = true;
+                } else {
+                    to = Math.min(to, rangePartitioner.partitionBelow(value));
+                }
+            }
+
+            if (!empty) {
+                for (int p = from; p <= to; p++) {
+                    partitions.add(p);
+                }
+            }
+        }
+
+        return partitions;
+    }
+
     private static @Nullable Object getNodeValue(NativeType physicalType, RexNode node, Object[] dynamicParameters) {
         Object val;
 
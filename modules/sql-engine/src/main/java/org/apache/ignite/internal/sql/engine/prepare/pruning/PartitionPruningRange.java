@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare.pruning;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.apache.calcite.rex.RexNode;
+import org.apache.ignite.internal.tostring.IgniteToStringInclude;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Bounds of the values of the partitioning column of a range-partitioned table. Example:
+ * <pre>
+ *     Condition: c1 >= 10 AND c1 &lt; ?0 AND c1 &lt;= 100
+ *     Range: lower bounds [10], upper bounds [100], exclusive upper bounds [?0]
+ * </pre>
+ *
+ * <p>All the bounds of a range must hold at the same time, so the effective lower bound is the greatest one and the effective upper
+ * bound is the least one. Bounds are kept as expressions, because values of dynamic parameters and correlated variables are known only
+ * at runtime. Whether a lower bound is inclusive doesn't matter, since a partition holds both the bound value and the values above it.
+ *
+ * @see PartitionPruningColumns#ranges()
+ */
+public class PartitionPruningRange {
+    @IgniteToStringInclude
+    private final List<RexNode> lowerBounds;
+
+    @IgniteToStringInclude
+    private final List<RexNode> upperBounds;
+
+    @IgniteToStringInclude
+    private final List<RexNode> exclusiveUpperBounds;
+
+    /** Constructor. */
+    public PartitionPruningRange(List<RexNode> lowerBounds, List<RexNode> upperBounds, List<RexNode> exclusiveUpperBounds) {
+        this.lowerBounds = Collections.unmodifiableList(lowerBounds);
+        this.upperBounds = Collections.unmodifiableList(upperBounds);
+        this.exclusiveUpperBounds = Collections.unmodifiableList(exclusiveUpperBounds);
+    }
+
+    /** Lower bounds of the values, either inclusive or exclusive. */
+    public List<RexNode> lowerBounds() {
+        return lowerBounds;
+    }
+
+    /** Inclusive upper bounds of the values. */
+    public List<RexNode> upperBounds() {
+        return upperBounds;
+    }
+
+    /** Exclusive upper bounds of the values. */
+    public List<RexNode> exclusiveUpperBounds() {
+        return exclusiveUpperBounds;
+    }
+
+    /** Returns a range that satisfies both this range and the given one. */
+    PartitionPruningRange intersect(PartitionPruningRange other) {
+        return new PartitionPruningRange(
+                concat(lowerBounds, other.lowerBounds),
+                concat(upperBounds, other.upperBounds),
+                concat(exclusiveUpperBounds, other.exclusiveUpperBounds)
+        );
+    }
+
+    /** Returns all the bound expressions of the range. */
+    Stream<RexNode> bounds() {
+        return Stream.of(lowerBounds, upperBounds, exclusiveUpperBounds).flatMap(List::stream);
+    }
+
+    private static List<RexNode> concat(List<RexNode> first, List<RexNode> second) {
+        List<RexNode> result = new ArrayList<>(first.size() + second.size());
+
+        result.addAll(first);
+        result.addAll(second);
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PartitionPruningRange that = (PartitionPruningRange) o;
+        return lowerBounds.equals(that.lowerBounds)
+                && upperBounds.equals(that.upperBounds)
+                && exclusiveUpperBounds.equals(that.exclusiveUpperBounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBounds, upperBounds, exclusiveUpperBounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PartitionPruningRange.class, this);
+    }
+}
@@ -19,7 +19,11 @@ package org.apache.ignite.internal.sql.engine.rel;
 
 import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.changeTraits;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
@@ -28,7 +32,11 @@ import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -39,6 +47,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
 
     private final long sourceId;
 
+    /** Lazily derived bounds of single columns, see {@link #zoneMapBounds()}. */
+    private @Nullable Int2ObjectMap<SearchBounds> zoneMapBounds;
+
     /**
      * Constructor used for deserialization.
      *
@@ -175,9 +186,65 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         return REL_TYPE_NAME;
     }
 
+    /**
+     * Returns bounds of single columns derived from the condition, which the storage may use to skip blocks of rows that can't match
+     * the condition without reading them. The bounds are only derived for tables whose storage supports scan pushdown.
+     *
+     * @return Bounds by index of the column in the table, empty map if there are none.
+     */
+    public Int2ObjectMap<SearchBounds> zoneMapBounds() {
+        Int2ObjectMap<SearchBounds> bounds = zoneMapBounds;
+
+        if (bounds == null) {
+            bounds = deriveZoneMapBounds();
+
+            zoneMapBounds = bounds;
+        }
+
+        return bounds;
+    }
+
+    private Int2ObjectMap<SearchBounds> deriveZoneMapBounds() {
+        IgniteTable table = getTable().unwrap(IgniteTable.class);
+
+        if (table == null || !table.scanPushdownSupported() || condition == null) {
+            return Int2ObjectMaps.emptyMap();
+        }
+
+        Int2ObjectMap<SearchBounds> bounds = RexUtils.buildColumnSearchBounds(
+                getCluster(),
+                condition,
+                table.getRowType(Commons.typeFactory(getCluster())),
+                requiredColumns
+        );
+
+        if (!bounds.isEmpty()) {
+            // Virtual columns are not stored, so there is nothing to skip by.
+            bounds.keySet().removeIf((int column) -> table.descriptor().columnDescriptor(column).virtual());
+        }
+
+        return bounds;
+    }
+
     @Override
     public IgniteRelWriter explain(
             IgniteRelWriter writer) {
-        return explainAttributes(writer);
+        explainAttributes(writer);
+
+        Int2ObjectMap<SearchBounds> bounds = zoneMapBounds();
+
+        if (!bounds.isEmpty()) {
+            //noinspection DataFlowIssue: bounds are only derived for instances of IgniteTable
+            List<String> columnNames = getTable().unwrap(IgniteTable.class).getRowType(Commons.typeFactory(getCluster())).getFieldNames();
+            Map<String, SearchBounds> boundsByColumnName = new TreeMap<>();
+
+            for (Int2ObjectMap.Entry<SearchBounds> entry : bounds.int2ObjectEntrySet()) {
+                boundsByColumnName.put(columnNames.get(entry.getIntKey()), entry.getValue());
+            }
+
+            writer.addZoneMapBounds(boundsByColumnName);
+        }
+
+        return writer;
     }
 }
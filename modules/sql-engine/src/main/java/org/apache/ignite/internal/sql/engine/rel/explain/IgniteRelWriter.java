@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.rel.explain;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.RelCollation;
@@ -214,6 +215,14 @@ public interface IgniteRelWriter {
      */
     IgniteRelWriter addSearchBounds(List<SearchBounds> searchBounds);
 
+    /**
+     * Adds bounds of single columns a table scan uses to skip blocks of rows by their zone maps (minimum and maximum values).
+     *
+     * @param boundsByColumn {@link SearchBounds} by the name of the column they restrict.
+     * @return This writer instance for chaining.
+     */
+    IgniteRelWriter addZoneMapBounds(Map<String, SearchBounds> boundsByColumn);
+
     /**
      * Adds an invocation of an expressions. Mainly used by {@link IgniteTableFunctionScan} rel.
      *
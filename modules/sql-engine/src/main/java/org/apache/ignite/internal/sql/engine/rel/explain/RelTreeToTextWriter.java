@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -121,6 +122,7 @@ class RelTreeToTextWriter {
         INDEX_TYPE("type"),
         PREDICATE("predicate"),
         SEARCH_BOUNDS("searchBounds"),
+        ZONE_MAP_BOUNDS("zoneMapBounds"),
         FIELD_NAMES("fieldNames"),
         PROJECTION("projection"),
         COLLATION("collation"),
@@ -306,6 +308,15 @@ class RelTreeToTextWriter {
             return this;
         }
 
+        @Override
+        public IgniteRelWriter addZoneMapBounds(Map<String, SearchBounds> boundsByColumn) {
+            attributes.put(AttributeName.ZONE_MAP_BOUNDS, boundsByColumn.entrySet().stream()
+                    .map(e -> e.getKey() + " " + beautifyPlainSearchBounds(List.of(e.getValue())))
+                    .collect(Collectors.joining(", ")));
+
+            return this;
+        }
+
         @Override
         public IgniteRelWriter addInvocation(RexNode call) {
             attributes.put(AttributeName.INVOCATION, call.toString());
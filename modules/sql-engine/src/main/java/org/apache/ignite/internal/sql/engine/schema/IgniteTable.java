@@ -22,6 +22,8 @@ import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.util.RangePartitioner;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Table representation as object in SQL schema.
@@ -67,6 +69,22 @@ public interface IgniteTable extends IgniteDataSource {
      */
     Supplier<PartitionCalculator> partitionCalculator();
 
+    /**
+     * Returns the partitioner of a range-partitioned table, or {@code null} if the table is hash-partitioned.
+     */
+    @Nullable RangePartitioner rangePartitioner();
+
+    /**
+     * Returns the query of the materialized view stored in this table, or {@code null} for a regular table. Identifiers in the query are
+     * fully qualified.
+     */
+    @Nullable String materializedViewQuery();
+
+    /**
+     * Returns IDs of the tables the materialized view stored in this table reads, or an empty list for a regular table.
+     */
+    ImmutableIntList materializedViewSources();
+
     /**
      * Returns all table indexes.
      *
@@ -87,4 +105,12 @@ public interface IgniteTable extends IgniteDataSource {
      * @return Distribution zone ID.
      */
     int zoneId();
+
+    /**
+     * Returns {@code true} if the storage of the table can use column ranges of a scan filter to skip rows, so it's worth deriving
+     * such ranges for a table scan.
+     *
+     * @return Whether scan pushdown is supported.
+     */
+    boolean scanPushdownSupported();
 }
@@ -35,6 +35,7 @@ import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.util.Lazy;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -50,6 +51,14 @@ public class IgniteTableImpl extends AbstractIgniteDataSource implements IgniteT
     private final int partitions;
     private final int zoneId;
 
+    private final boolean scanPushdownSupported;
+
+    private final @Nullable RangePartitioner rangePartitioner;
+
+    private final @Nullable String materializedViewQuery;
+
+    private final ImmutableIntList materializedViewSources;
+
     private final Lazy<NativeType[]> colocationColumnTypes;
 
     /** Constructor. */
@@ -63,7 +72,29 @@ public class IgniteTableImpl extends AbstractIgniteDataSource implements IgniteT
             Statistic statistic,
             Map<String, IgniteIndex> indexMap,
             int partitions,
-            int zoneId
+            int zoneId,
+            boolean scanPushdownSupported
+    ) {
+        this(name, id, version, timestamp, desc, keyColumns, statistic, indexMap, partitions, zoneId, scanPushdownSupported, null, null,
+                ImmutableIntList.of());
+    }
+
+    /** Constructor. */
+    public IgniteTableImpl(
+            String name,
+            int id,
+            int version,
+            long timestamp,
+            TableDescriptor desc,
+            ImmutableIntList keyColumns,
+            Statistic statistic,
+            Map<String, IgniteIndex> indexMap,
+            int partitions,
+            int zoneId,
+            boolean scanPushdownSupported,
+            @Nullable RangePartitioner rangePartitioner,
+            @Nullable String materializedViewQuery,
+            ImmutableIntList materializedViewSources
     ) {
         super(name, id, version, timestamp, desc, statistic);
 
@@ -71,6 +102,10 @@ public class IgniteTableImpl extends AbstractIgniteDataSource implements IgniteT
         this.indexMap = indexMap;
         this.partitions = partitions;
         this.zoneId = zoneId;
+        this.scanPushdownSupported = scanPushdownSupported;
+        this.rangePartitioner = rangePartitioner;
+        this.materializedViewQuery = materializedViewQuery;
+        this.materializedViewSources = materializedViewSources;
         this.columnsToInsert = deriveColumnsToInsert(desc);
         this.columnsToUpdate = deriveColumnsToUpdate(desc);
 
@@ -127,7 +162,25 @@ public class IgniteTableImpl extends AbstractIgniteDataSource implements IgniteT
     /** {@inheritDoc} */
     @Override
     public Supplier<PartitionCalculator> partitionCalculator() {
-        return () -> new PartitionCalculator(partitions, Objects.requireNonNull(colocationColumnTypes.get()));
+        return () -> new PartitionCalculator(partitions, Objects.requireNonNull(colocationColumnTypes.get()), rangePartitioner);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RangePartitioner rangePartitioner() {
+        return rangePartitioner;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable String materializedViewQuery() {
+        return materializedViewQuery;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ImmutableIntList materializedViewSources() {
+        return materializedViewSources;
     }
 
     private NativeType[] evaluateTypes() {
@@ -167,6 +220,11 @@ public class IgniteTableImpl extends AbstractIgniteDataSource implements IgniteT
         return keyColumns;
     }
 
+    @Override
+    public boolean scanPushdownSupported() {
+        return scanPushdownSupported;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected TableScan toRel(RelOptCluster cluster, RelTraitSet traitSet, RelOptTable relOptTbl, List<RelHint> hints) {
@@ -21,6 +21,7 @@ import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.jetbrains.annotations.Nullable;
 
 /** Extract partition based on supplied row and types info. */
@@ -28,13 +29,29 @@ public class PartitionCalculator {
     private final HashCalculator hashCalculator = new HashCalculator();
     private final NativeType[] types;
     private final int partitionCount;
+    private final @Nullable RangePartitioner rangePartitioner;
 
     private int currentField = 0;
+    private @Nullable Object rangeValue;
 
     /** Constructor. */
     public PartitionCalculator(int partitionCount, NativeType[] types) {
+        this(partitionCount, types, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param partitionCount Number of partitions.
+     * @param types Types of the colocation columns.
+     * @param rangePartitioner Partitioner of a range-partitioned table, {@code null} if the table is hash-partitioned.
+     */
+    public PartitionCalculator(int partitionCount, NativeType[] types, @Nullable RangePartitioner rangePartitioner) {
+        assert rangePartitioner == null || (types.length == 1 && rangePartitioner.partitions() == partitionCount);
+
         this.partitionCount = partitionCount;
         this.types = types;
+        this.rangePartitioner = rangePartitioner;
     }
 
     /**
@@ -45,6 +62,13 @@ public class PartitionCalculator {
     public void append(@Nullable Object value) {
         assert currentField < types.length;
 
+        if (rangePartitioner != null) {
+            rangeValue = value;
+            currentField++;
+
+            return;
+        }
+
         ColocationUtils.append(hashCalculator, value, types[currentField++]);
     }
 
@@ -57,10 +81,15 @@ public class PartitionCalculator {
         assert currentField == types.length;
 
         try {
+            if (rangePartitioner != null) {
+                return rangePartitioner.partition(rangeValue);
+            }
+
             return IgniteUtils.safeAbs(hashCalculator.hash()) % partitionCount;
         } finally {
             hashCalculator.reset();
             currentField = 0;
+            rangeValue = null;
         }
     }
 }
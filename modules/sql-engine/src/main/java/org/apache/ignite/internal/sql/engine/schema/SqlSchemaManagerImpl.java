@@ -29,6 +29,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -70,7 +71,9 @@ import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.ErrorGroups.Common;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link SqlSchemaManager} backed by {@link CatalogService}.
@@ -80,6 +83,9 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
     private final CatalogManager catalogManager;
     private final SqlStatisticManager sqlStatisticManager;
 
+    /** Checks whether the storage engine of a storage profile supports scan pushdown. */
+    private final Predicate<String> scanPushdownSupported;
+
     private final Cache<Integer, IgniteSchemas> schemaCache;
 
     /**
@@ -101,9 +107,21 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
             SqlStatisticManager sqlStatisticManager,
             CacheFactory factory,
             int cacheSize
+    ) {
+        this(catalogManager, sqlStatisticManager, storageProfile -> false, factory, cacheSize);
+    }
+
+    /** Constructor. */
+    public SqlSchemaManagerImpl(
+            CatalogManager catalogManager,
+            SqlStatisticManager sqlStatisticManager,
+            Predicate<String> scanPushdownSupported,
+            CacheFactory factory,
+            int cacheSize
     ) {
         this.catalogManager = catalogManager;
         this.sqlStatisticManager = sqlStatisticManager;
+        this.scanPushdownSupported = scanPushdownSupported;
         this.schemaCache = factory.create(cacheSize);
         this.tableCache = factory.create(cacheSize);
         this.indexCache = factory.create(cacheSize);
@@ -349,6 +367,10 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
         String label = TraitUtils.affinityDistributionLabel(schemaName, descriptor.name(), zoneName);
 
+        if (descriptor.rangeSplitPoints() != null) {
+            return IgniteDistributions.rangeAffinity(colocationColumns.getInt(0), tableId, zoneId, label);
+        }
+
         return IgniteDistributions.affinity(colocationColumns, tableId, zoneId, label);
     }
 
@@ -476,7 +498,15 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
         CatalogZoneDescriptor zoneDescriptor = getZoneDescriptor(catalog, table.zoneId());
 
-        return createTable(table, tableTime, descriptor, tableIndexes, zoneDescriptor, sqlStatisticManager);
+        return createTable(
+                table,
+                tableTime,
+                descriptor,
+                tableIndexes,
+                zoneDescriptor,
+                sqlStatisticManager,
+                scanPushdownSupported.test(table.storageProfile())
+        );
     }
 
     private Map<String, IgniteIndex> getIndexes(Catalog catalog, int tableId, int primaryKeyIndexId) {
@@ -526,7 +556,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
             TableDescriptor tableDescriptor,
             Map<String, IgniteIndex> indexes,
             CatalogZoneDescriptor zoneDescriptor,
-            SqlStatisticManager sqlStatisticManager
+            SqlStatisticManager sqlStatisticManager,
+            boolean scanPushdownSupported
     ) {
         IgniteIndex primaryIndex = indexes.values().stream()
                 .filter(IgniteIndex::primaryKey)
@@ -544,6 +575,9 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
         IgniteStatistic statistic = new IgniteStatistic(() -> sqlStatisticManager.tableSize(tableId), tableDescriptor.distribution());
 
+        List<Object> rangeSplitPoints = catalogTableDescriptor.rangeSplitPoints();
+        IntList materializedViewSources = catalogTableDescriptor.materializedViewSources();
+
         return new IgniteTableImpl(
                 tableName,
                 tableId,
@@ -554,7 +588,11 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
                 statistic,
                 primaryKeyOnlyMap,
                 zoneDescriptor.partitions(),
-                zoneDescriptor.id()
+                zoneDescriptor.id(),
+                scanPushdownSupported,
+                rangeSplitPoints == null ? null : new RangePartitioner(rangeSplitPoints),
+                catalogTableDescriptor.materializedViewQuery(),
+                materializedViewSources == null ? ImmutableIntList.of() : ImmutableIntList.of(materializedViewSources.toIntArray())
         );
     }
 
@@ -633,6 +671,21 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
             return table.partitionCalculator();
         }
 
+        @Override
+        public @Nullable RangePartitioner rangePartitioner() {
+            return table.rangePartitioner();
+        }
+
+        @Override
+        public @Nullable String materializedViewQuery() {
+            return table.materializedViewQuery();
+        }
+
+        @Override
+        public ImmutableIntList materializedViewSources() {
+            return table.materializedViewSources();
+        }
+
         @Override
         public Map<String, IgniteIndex> indexes() {
             return indexMap;
@@ -647,5 +700,10 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         public int zoneId() {
             return table.zoneId();
         }
+
+        @Override
+        public boolean scanPushdownSupported() {
+            return table.scanPushdownSupported();
+        }
     }
 }
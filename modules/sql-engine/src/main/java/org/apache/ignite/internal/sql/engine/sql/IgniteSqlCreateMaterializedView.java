@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import java.util.List;
+import java.util.Objects;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCreate;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.util.ImmutableNullableList;
+import org.apache.ignite.internal.sql.engine.exec.fsm.DdlBatchAware;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parse tree for {@code CREATE MATERIALIZED VIEW} statement.
+ *
+ * <p>The statement is never batched with other DDL statements, because its query must be validated against the tables that already
+ * exist in the catalog.
+ */
+@DdlBatchAware
+public class IgniteSqlCreateMaterializedView extends SqlCreate {
+
+    /** CREATE MATERIALIZED VIEW operator. */
+    protected static class Operator extends IgniteDdlOperator {
+
+        /** Constructor. */
+        protected Operator(boolean existFlag) {
+            super("CREATE MATERIALIZED VIEW", SqlKind.CREATE_MATERIALIZED_VIEW, existFlag);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SqlCall createCall(@Nullable SqlLiteral functionQualifier,
+                SqlParserPos pos, @Nullable SqlNode... operands) {
+
+            return new IgniteSqlCreateMaterializedView(pos, existFlag(), (SqlIdentifier) operands[0], operands[1]);
+        }
+    }
+
+    private final SqlIdentifier name;
+
+    private final SqlNode query;
+
+    /** Creates a SqlCreateMaterializedView. */
+    public IgniteSqlCreateMaterializedView(
+            SqlParserPos pos,
+            boolean ifNotExists,
+            SqlIdentifier name,
+            SqlNode query
+    ) {
+        super(new Operator(ifNotExists), pos, false, ifNotExists);
+
+        this.name = Objects.requireNonNull(name, "name");
+        this.query = Objects.requireNonNull(query, "query");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteDdlOperator getOperator() {
+        return (IgniteDdlOperator) super.getOperator();
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("nullness")
+    @Override
+    public List<SqlNode> getOperandList() {
+        return ImmutableNullableList.of(name, query);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+        writer.keyword("CREATE");
+        writer.keyword("MATERIALIZED VIEW");
+        if (ifNotExists()) {
+            writer.keyword("IF NOT EXISTS");
+        }
+
+        name.unparse(writer, leftPrec, rightPrec);
+
+        writer.keyword("AS");
+        writer.newlineAndIndent();
+
+        query.unparse(writer, 0, 0);
+    }
+
+    /** Returns the view name. */
+    public SqlIdentifier name() {
+        return name;
+    }
+
+    /** Returns the query of the view. */
+    public SqlNode query() {
+        return query;
+    }
+
+    /** Returns whether {@code IF NOT EXISTS} was specified. */
+    public boolean ifNotExists() {
+        return ifNotExists;
+    }
+}
@@ -52,7 +52,8 @@ public class IgniteSqlCreateTable extends SqlCreate {
         public SqlCall createCall(@Nullable SqlLiteral functionQualifier, SqlParserPos pos,
                 @Nullable SqlNode... operands) {
             return new IgniteSqlCreateTable(pos, existFlag(), (SqlIdentifier) operands[0], (SqlNodeList) operands[1],
-                    (SqlNodeList) operands[2], (SqlIdentifier) operands[3], operands[4], (SqlNodeList) operands[5]);
+                    (SqlNodeList) operands[2], (SqlNodeList) operands[6], (SqlIdentifier) operands[3], operands[4],
+                    (SqlNodeList) operands[5]);
         }
     }
 
@@ -64,6 +65,8 @@ public class IgniteSqlCreateTable extends SqlCreate {
 
     private final @Nullable SqlNodeList colocationColumns;
 
+    private final @Nullable SqlNodeList rangeSplitPoints;
+
     private final @Nullable SqlNodeList tableProperties;
 
     /** Creates a SqlCreateTable. */
@@ -73,6 +76,7 @@ public class IgniteSqlCreateTable extends SqlCreate {
             SqlIdentifier name,
             @Nullable SqlNodeList columnList,
             @Nullable SqlNodeList colocationColumns,
+            @Nullable SqlNodeList rangeSplitPoints,
             @Nullable SqlIdentifier zone,
             @Nullable SqlNode storageProfile,
             @Nullable SqlNodeList tableProperties
@@ -82,6 +86,7 @@ public class IgniteSqlCreateTable extends SqlCreate {
         this.name = Objects.requireNonNull(name, "name");
         this.columnList = columnList;
         this.colocationColumns = colocationColumns;
+        this.rangeSplitPoints = rangeSplitPoints;
         this.zone = zone;
         this.storageProfile = storageProfile;
         this.tableProperties = tableProperties;
@@ -97,7 +102,7 @@ public class IgniteSqlCreateTable extends SqlCreate {
     @SuppressWarnings("nullness")
     @Override
     public List<SqlNode> getOperandList() {
-        return ImmutableNullableList.of(name, columnList, colocationColumns, zone, storageProfile, tableProperties);
+        return ImmutableNullableList.of(name, columnList, colocationColumns, zone, storageProfile, tableProperties, rangeSplitPoints);
     }
 
     /** {@inheritDoc} */
@@ -120,13 +125,21 @@ public class IgniteSqlCreateTable extends SqlCreate {
         }
 
         if (colocationColumns != null) {
-            writer.keyword("COLOCATE BY");
+            writer.keyword(rangeSplitPoints != null ? "PARTITION BY RANGE" : "COLOCATE BY");
 
             SqlWriter.Frame frame = writer.startList("(", ")");
             colocationColumns.unparse(writer, 0, 0);
             writer.endList(frame);
         }
 
+        if (rangeSplitPoints != null) {
+            writer.keyword("SPLIT AT");
+
+            SqlWriter.Frame frame = writer.startList("(", ")");
+            rangeSplitPoints.unparse(writer, 0, 0);
+            writer.endList(frame);
+        }
+
         if (zone != null) {
             writer.keyword("ZONE");
             zone.unparse(writer, leftPrec, rightPrec);
@@ -167,6 +180,13 @@ public class IgniteSqlCreateTable extends SqlCreate {
         return colocationColumns;
     }
 
+    /**
+     * Get list of the split points of a range-partitioned table, {@code null} if the table is hash-partitioned.
+     */
+    public @Nullable SqlNodeList rangeSplitPoints() {
+        return rangeSplitPoints;
+    }
+
     /**
      * Get zone identifier to create the table.
      */
@@ -24,5 +24,6 @@ import org.apache.calcite.sql.Symbolizable;
  */
 public enum IgniteSqlExplainMode implements Symbolizable {
     PLAN,
-    MAPPING
+    MAPPING,
+    ANALYZE
 }
@@ -101,6 +101,10 @@ public abstract class DistributionFunction {
         return IdentityDistribution.INSTANCE;
     }
 
+    public static DistributionFunction range() {
+        return RangeDistribution.INSTANCE;
+    }
+
     private static final class AnyDistribution extends DistributionFunction {
         public static final DistributionFunction INSTANCE = new AnyDistribution();
 
@@ -173,4 +177,25 @@ public abstract class DistributionFunction {
             return "identity";
         }
     }
+
+    /**
+     * Distribution function of a range-partitioned table: the destination partition is the range the key value falls into.
+     *
+     * <p>Split points are specific to a table, so two range distributions are colocated only if they belong to the same table.
+     */
+    public static final class RangeDistribution extends DistributionFunction {
+        public static final DistributionFunction INSTANCE = new RangeDistribution();
+
+        /** {@inheritDoc} */
+        @Override
+        public Type type() {
+            return Type.HASH_DISTRIBUTED;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected String name0() {
+            return "range";
+        }
+    }
 }
@@ -234,7 +234,9 @@ public final class DistributionTrait implements IgniteDistribution {
                     || (Objects.equals(keys, other.keys)
                     && affinityFlag == other.affinityFlag
                     && zoneId == other.zoneId
-                    && Objects.equals(function, other.function));
+                    && Objects.equals(function, other.function)
+                    // Split points are specific to a table.
+                    && (function != DistributionFunction.range() || tableId == other.tableId));
         }
 
         if (other.getType() == RANDOM_DISTRIBUTED) {
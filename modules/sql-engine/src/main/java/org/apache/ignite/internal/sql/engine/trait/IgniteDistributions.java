@@ -81,6 +81,20 @@ public class IgniteDistributions {
         return canonize(new DistributionTrait(keys, tableId, zoneId, label, DistributionFunction.hash()));
     }
 
+    /**
+     * Creates an affinity distribution of a range-partitioned table, destinations are calculated based on the range the key field
+     * value of the row falls into.
+     *
+     * @param key Range partitioning key ordinal.
+     * @param tableId Table ID.
+     * @param zoneId  Distribution zone ID.
+     * @param label Human-readable label to show in EXPLAIN printout.
+     * @return Range affinity distribution.
+     */
+    public static IgniteDistribution rangeAffinity(int key, int tableId, int zoneId, String label) {
+        return canonize(new DistributionTrait(ImmutableIntList.of(key), tableId, zoneId, label, DistributionFunction.range()));
+    }
+
     /**
      * Creates a hash distribution that calculates destinations based on a composite hash of key field values of the row.
      *
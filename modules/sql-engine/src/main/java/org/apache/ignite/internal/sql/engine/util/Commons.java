@@ -167,6 +167,8 @@ public final class Commons {
                                     .hintStrategy(IgniteHint.NO_INDEX.name(), (hint, rel) -> rel instanceof IgniteLogicalTableScan)
                                     .hintStrategy(IgniteHint.FORCE_INDEX.name(), (hint, rel) -> rel instanceof IgniteLogicalTableScan)
                                     .hintStrategy(IgniteHint.DISABLE_DECORRELATION.name(), (hint, rel) -> true)
+                                    .hintStrategy(IgniteHint.USE_MATERIALIZED_VIEWS.name(), (hint, rel) -> false)
+                                    .hintStrategy(IgniteHint.RESOURCE_GROUP.name(), (hint, rel) -> false)
                                     .build()
                     )
             )
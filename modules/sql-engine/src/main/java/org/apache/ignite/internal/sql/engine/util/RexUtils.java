@@ -406,6 +406,90 @@ public class RexUtils {
         return bounds;
     }
 
+    /**
+     * Builds search bounds of every single field referenced by the condition, independently of the other fields.
+     *
+     * <p>Unlike index search bounds, such bounds are not meant to look rows up. They describe a range each matching row must fall
+     * into, so that a scan could skip blocks of rows whose values are out of the range. That's why only the bounds that reject
+     * {@code null} values are returned: multi-range, conditional and correlated bounds, as well as the ones that might match
+     * {@code null}s, are left out.
+     *
+     * @param cluster Cluster.
+     * @param condition Condition over the fields of the row type projected with the required columns.
+     * @param rowType Row type of the table.
+     * @param requiredColumns Participating columns, {@code null} if all of them are required.
+     * @return Bounds by index of the column in the table row type, empty map if there are none.
+     */
+    public static Int2ObjectMap<SearchBounds> buildColumnSearchBounds(
+            RelOptCluster cluster,
+            @Nullable RexNode condition,
+            RelDataType rowType,
+            @Nullable ImmutableIntList requiredColumns
+    ) {
+        if (condition == null) {
+            return Int2ObjectMaps.emptyMap();
+        }
+
+        condition = RexUtil.toCnf(builder(cluster), condition);
+
+        Int2ObjectMap<List<RexCall>> fieldsToPredicates = mapPredicatesToFields(condition, cluster);
+
+        if (nullOrEmpty(fieldsToPredicates)) {
+            return Int2ObjectMaps.emptyMap();
+        }
+
+        List<RelDataType> types = RelOptUtil.getFieldTypeList(rowType);
+
+        Int2ObjectMap<SearchBounds> bounds = new Int2ObjectOpenHashMap<>(fieldsToPredicates.size());
+
+        for (Entry<List<RexCall>> fld : fieldsToPredicates.int2ObjectEntrySet()) {
+            int fldIdx = fld.getIntKey();
+            int columnIdx = requiredColumns == null ? fldIdx : requiredColumns.getInt(fldIdx);
+
+            SearchBounds fldBounds = createBounds(
+                    TraitUtils.createFieldCollation(fldIdx),
+                    new ArrayList<>(fld.getValue()),
+                    cluster,
+                    types.get(columnIdx),
+                    1,
+                    true
+            );
+
+            if (fldBounds != null && rejectsNulls(fldBounds)) {
+                bounds.put(columnIdx, fldBounds);
+            }
+        }
+
+        return bounds;
+    }
+
+    private static boolean rejectsNulls(SearchBounds bounds) {
+        RexNode condition = bounds.condition();
+
+        if (condition == null || hasCorrelation(condition)) {
+            return false;
+        }
+
+        switch (bounds.type()) {
+            case EXACT: {
+                RexNode bound = ((ExactBounds) bounds).bound();
+
+                return condition.getKind() != IS_NOT_DISTINCT_FROM
+                        && !(bound instanceof RexLiteral && ((RexLiteral) bound).isNull());
+            }
+
+            case RANGE: {
+                RangeBounds rangeBounds = (RangeBounds) bounds;
+
+                return (rangeBounds.shouldComputeLower() == null || rangeBounds.shouldComputeLower().isAlwaysTrue())
+                        && (rangeBounds.shouldComputeUpper() == null || rangeBounds.shouldComputeUpper().isAlwaysTrue());
+            }
+
+            default:
+                return false;
+        }
+    }
+
     private static @Nullable List<SearchBounds> buildSearchBounds(
             boolean allowRange,
             RelOptCluster cluster,
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.sql.metrics;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.Metric;
 
 /** Metric source, which provides query execution metrics. */
@@ -31,6 +33,7 @@ public class SqlQueryMetricSource extends AbstractMetricSource<SqlQueryMetricSou
     public static final String FAILED_QUERIES = "Failed";
     public static final String CANCELED_QUERIES = "Canceled";
     public static final String TIMED_OUT_QUERIES = "TimedOut";
+    public static final String QUERY_DURATION = "Duration";
 
     /**
      * Constructor.
@@ -41,9 +44,14 @@ public class SqlQueryMetricSource extends AbstractMetricSource<SqlQueryMetricSou
 
     /**
      * Increments the number of successful queries.
+     *
+     * @param durationMillis Duration of the query from the moment it was received to the moment it was finished, in milliseconds.
      */
-    public void success() {
-        increment((h) -> h.success.increment());
+    public void success(long durationMillis) {
+        increment((h) -> {
+            h.success.increment();
+            h.duration.add(durationMillis);
+        });
     }
 
     /**
@@ -86,10 +94,15 @@ public class SqlQueryMetricSource extends AbstractMetricSource<SqlQueryMetricSou
         private final AtomicLongMetric failure = new AtomicLongMetric(FAILED_QUERIES, "Failed queries");
         private final AtomicLongMetric cancelled = new AtomicLongMetric(CANCELED_QUERIES, "Cancelled queries");
         private final AtomicLongMetric timedOut = new AtomicLongMetric(TIMED_OUT_QUERIES, "Timed out queries");
+        private final HistogramMetric duration = new HistogramMetric(
+                QUERY_DURATION,
+                "Duration of successfully completed queries in milliseconds",
+                TimeUnit.HOURS.toMillis(1)
+        );
 
         @Override
         public Iterable<Metric> metrics() {
-            return List.of(success, failure, cancelled, timedOut);
+            return List.of(success, failure, cancelled, timedOut, duration);
         }
     }
 }
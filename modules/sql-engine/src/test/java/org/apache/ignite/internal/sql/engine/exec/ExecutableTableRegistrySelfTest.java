@@ -155,7 +155,7 @@ public class ExecutableTableRegistrySelfTest extends BaseIgniteAbstractTest {
 
             IgniteTable sqlTable = new IgniteTableImpl(
                     "TBL1", tableId, tableVersion, tableVersion, descriptor, ImmutableIntList.of(0),
-                    new TestStatistic(1_000.0), Map.of(), 1, 10000
+                    new TestStatistic(1_000.0), Map.of(), 1, 10000, false
             );
 
             when(sqlSchemaManager.table(schemaVersion, tableId)).thenReturn(sqlTable);
@@ -122,6 +122,7 @@ import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.ScanNode;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroupManager;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.framework.ExplicitTxContext;
 import org.apache.ignite.internal.sql.engine.framework.ImplicitTxContext;
@@ -1360,7 +1361,8 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
                 SHUTDOWN_TIMEOUT,
-                SqlPlanToTxSchemaVersionValidator.NOOP
+                SqlPlanToTxSchemaVersionValidator.NOOP,
+                new ResourceGroupManager()
         );
 
         taskExecutor.start();
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for class {@link QueryProfileRegistry}.
+ */
+public class QueryProfileRegistryTest extends BaseIgniteAbstractTest {
+    @Test
+    void keepsSlowestProfiles() {
+        QueryProfileRegistry registry = new QueryProfileRegistry(3);
+
+        assertThat(registry.profiles(), empty());
+
+        for (long duration : new long[] {5, 1, 7, 3, 9, 2}) {
+            registry.register(profile(duration));
+        }
+
+        assertThat(registry.profiles().stream().map(QueryProfile::durationNanos).collect(toList()), contains(9L, 7L, 5L));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryProfileRegistry(0));
+    }
+
+    private static QueryProfile profile(long durationNanos) {
+        return new QueryProfile(UUID.randomUUID(), "SELECT 1", "PUBLIC", Instant.now(), durationNanos, 1, "plan", "stats");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for class {@link RowBatch}.
+ */
+public class RowBatchTest extends BaseIgniteAbstractTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, Integer.MAX_VALUE})
+    void packedRowsAreReadBack(int compressionThreshold) {
+        List<ByteBuffer> rows = rows(100);
+
+        RowBatch batch = RowBatch.pack(2, rows, compressionThreshold);
+
+        assertThat(batch.compressed(), is(compressionThreshold == 1));
+
+        RowBatch received = new RowBatch(batch.elementCount(), batch.rowOffsets(), batch.data(), batch.compressed());
+
+        assertThat(received.size(), is(rows.size()));
+
+        for (int i = 0; i < rows.size(); i++) {
+            BinaryTuple row = received.row(i);
+
+            assertThat(row.byteBuffer(), equalTo(rows.get(i)));
+            assertThat(row.longValue(0), is((long) i));
+            assertThat(row.stringValue(1), is("value_" + i % 3));
+        }
+    }
+
+    @Test
+    void compressionMakesRepetitiveBatchSmaller() {
+        List<ByteBuffer> rows = rows(1_000);
+
+        int size = rows.stream().mapToInt(ByteBuffer::remaining).sum();
+
+        RowBatch batch = RowBatch.pack(2, rows, 1);
+
+        assertThat(batch.compressed(), is(true));
+        assertThat(batch.data().remaining(), lessThan(size));
+    }
+
+    @Test
+    void emptyBatch() {
+        RowBatch batch = RowBatch.pack(0, List.of(), 1);
+
+        assertThat(batch.size(), is(0));
+        assertThat(batch.compressed(), is(false));
+    }
+
+    private static List<ByteBuffer> rows(int count) {
+        List<ByteBuffer> rows = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            rows.add(new BinaryTupleBuilder(2).appendLong(i).appendString("value_" + i % 3).build());
+        }
+
+        return rows;
+    }
+}
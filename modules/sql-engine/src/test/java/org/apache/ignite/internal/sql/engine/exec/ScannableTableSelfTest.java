@@ -507,7 +507,8 @@ public class ScannableTableSelfTest extends BaseIgniteAbstractTest {
             scannableTable = new ScannableTableImpl(
                     internalTable,
                     Int2ObjectMaps.singleton(INDEX_ID, new IndexMeta(input.indexColumns.cardinality())),
-                    rf -> rowConverter
+                    rf -> rowConverter,
+                    1
             );
         }
 
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.convertSqlRows;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestCluster;
+import org.apache.ignite.internal.sql.engine.framework.TestNode;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.AsyncCursor.BatchedResult;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for pushing down a part of the scan condition to the data provider of a system view.
+ */
+public class SystemViewScanPushdownTest extends BaseIgniteAbstractTest {
+    private static final String NODE_NAME = "N1";
+
+    private static final List<Object[]> DATA = List.of(
+            new Object[]{1, "a", 10L, 1.0d},
+            new Object[]{2, "b", 20L, 2.0d},
+            new Object[]{3, "b", 30L, 3.0d}
+    );
+
+    private final List<SystemViewScanCriteria> receivedCriteria = new CopyOnWriteArrayList<>();
+
+    // @formatter:off
+    private final TestCluster cluster = TestBuilders.cluster()
+            .nodes(NODE_NAME)
+            .addSystemView(SystemViews.<Object[]>clusterViewBuilder()
+                    .name("OBJECTS")
+                    .addColumn("ID", NativeTypes.INT32, v -> v[0])
+                    .addColumn("NAME", NativeTypes.stringOf(64), v -> v[1])
+                    .addColumn("VAL", NativeTypes.INT64, v -> v[2])
+                    .addColumn("DBL", NativeTypes.DOUBLE, v -> v[3])
+                    // The provider deliberately ignores the criteria to make sure the engine still filters the rows.
+                    .filteringDataProvider(criteria -> {
+                        receivedCriteria.add(criteria);
+
+                        return SubscriptionUtils.fromIterable(DATA);
+                    })
+                    .build())
+            .registerSystemView(NODE_NAME, "OBJECTS")
+            .build();
+    // @formatter:on
+
+    private TestNode gatewayNode;
+
+    @BeforeEach
+    void startCluster() {
+        cluster.start();
+
+        gatewayNode = cluster.node(NODE_NAME);
+    }
+
+    @AfterEach
+    void stopCluster() throws Exception {
+        cluster.stop();
+    }
+
+    @Test
+    void equalityConjunctsArePushedDown() {
+        List<List<Object>> rows = query("SELECT id FROM system.objects WHERE name = 'b' AND val = ? AND dbl > 0", 30L);
+
+        assertThat(rows, equalTo(List.of(List.of(3))));
+        assertThat(receivedCriteria, equalTo(List.of(SystemViewScanCriteria.of(Map.of("NAME", "b", "VAL", 30L)))));
+    }
+
+    @Test
+    void constantOnTheLeftSideIsPushedDown() {
+        List<List<Object>> rows = query("SELECT name FROM system.objects WHERE 1 = id");
+
+        assertThat(rows, equalTo(List.of(List.of("a"))));
+        assertThat(receivedCriteria, hasSize(1));
+        assertThat(receivedCriteria.get(0).equalTo("ID"), equalTo(1));
+    }
+
+    @Test
+    void disjunctionIsNotPushedDown() {
+        List<List<Object>> rows = query("SELECT id FROM system.objects WHERE name = 'a' OR id = 3");
+
+        assertThat(rows, hasSize(2));
+        assertThat(receivedCriteria, hasSize(1));
+        assertThat(receivedCriteria.get(0).isEmpty(), is(true));
+    }
+
+    @Test
+    void columnOfUnsupportedTypeIsNotPushedDown() {
+        List<List<Object>> rows = query("SELECT id FROM system.objects WHERE dbl = 2.0");
+
+        assertThat(rows, equalTo(List.of(List.of(2))));
+        assertThat(receivedCriteria, hasSize(1));
+        assertThat(receivedCriteria.get(0).isEmpty(), is(true));
+    }
+
+    private List<List<Object>> query(String sql, Object... params) {
+        BatchedResult<InternalSqlRow> result = await(gatewayNode.executeQuery(sql, params).requestNextAsync(DATA.size() + 1));
+
+        return convertSqlRows(result.items());
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ScannableDataSource;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.type.StructNativeType;
 import org.apache.ignite.internal.util.AsyncCursor.BatchedResult;
@@ -202,7 +203,7 @@ class AsyncRootNodeTest extends AbstractExecutionTest<RowWrapper> {
         final CompletableFuture<Void> demandFulfilled = new CompletableFuture<>();
 
         @Override
-        public Publisher<InternalTuple> scan() {
+        public Publisher<InternalTuple> scan(SystemViewScanCriteria criteria) {
             return subscriber -> {
                 Subscription subscription = new TestSubscription(subscriber);
 
@@ -50,6 +50,7 @@ import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
 import org.apache.ignite.internal.sql.engine.exec.TestDownstream;
 import org.apache.ignite.internal.sql.engine.framework.DataProvider;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.type.NativeTypes.StructTypeBuilder;
 import org.apache.ignite.internal.type.StructNativeType;
@@ -296,7 +297,7 @@ public class DataSourceScanNodeExecutionTest extends AbstractExecutionTest<RowWr
         }
 
         @Override
-        public Publisher<InternalTuple> scan() {
+        public Publisher<InternalTuple> scan(SystemViewScanCriteria criteria) {
             Iterator<InternalTuple> it = iterable.iterator();
 
             return new Publisher<>() {
@@ -228,11 +228,11 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
                     return (RowT) TestInternalTableImpl.ROW;
                 }
             };
-            ScannableTableImpl scanableTable = new ScannableTableImpl(internalTable, Int2ObjectMaps.emptyMap(), rf -> rowConverter);
+            ScannableTableImpl scanableTable = new ScannableTableImpl(internalTable, Int2ObjectMaps.emptyMap(), rf -> rowConverter, 1);
             PartitionProvider<Object[]> partitionProvider = PartitionProvider.fromPartitions(partsWithConsistencyTokens);
             IgniteTable schemaTable = mock(IgniteTable.class);
             TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, schemaTable, scanableTable,
-                    partitionProvider, null, null, null);
+                    partitionProvider, null, null, null, null);
 
             RootNode<Object[]> root = new RootNode<>(ctx);
 
@@ -287,7 +287,7 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         ScannableTable scannableTable = TestBuilders.tableScan(DataProvider.fromRow(new Object[]{42}, partDataSize));
         IgniteTable schemaTable = mock(IgniteTable.class);
         TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, schemaTable, scannableTable,
-                c -> partitions, null, null, null);
+                c -> partitions, null, null, null, null);
         RootNode<Object[]> rootNode = new RootNode<>(ctx);
 
         rootNode.register(scanNode);
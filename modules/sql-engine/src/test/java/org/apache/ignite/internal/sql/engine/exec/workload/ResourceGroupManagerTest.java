@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.workload;
+
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.sql.configuration.distributed.SqlDistributedConfiguration;
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroup.Admission;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for {@link ResourceGroupManager}.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class ResourceGroupManagerTest extends BaseIgniteAbstractTest {
+    @InjectConfiguration("mock.resourceGroups {"
+            + "reports {maxConcurrentQueries = 1, maxQueuedQueries = 2, priority = LOW, users = [alice]},"
+            + "limited {queryMemoryQuotaBytes = 100, memoryQuotaBytes = 150}"
+            + "}")
+    private SqlDistributedConfiguration configuration;
+
+    private final ResourceGroupManager manager = new ResourceGroupManager();
+
+    @BeforeEach
+    void configure() {
+        manager.configure(configuration.resourceGroups().value());
+    }
+
+    @Test
+    void queryIsAssignedToGroupOfUser() {
+        assertThat(manager.resolve("alice", null).name(), is("reports"));
+        assertThat(manager.resolve("bob", null).name(), is(ResourceGroupManager.DEFAULT_GROUP_NAME));
+        assertThat(manager.resolve(null, null).name(), is(ResourceGroupManager.DEFAULT_GROUP_NAME));
+    }
+
+    @Test
+    void requestedGroupMustBeAllowed() {
+        assertThat(manager.resolve("alice", "limited").name(), is("limited"));
+        assertThat(manager.resolve("alice", ResourceGroupManager.DEFAULT_GROUP_NAME).name(), is(ResourceGroupManager.DEFAULT_GROUP_NAME));
+
+        assertThrowsSqlException(STMT_VALIDATION_ERR, "User is not allowed to use the resource group",
+                () -> manager.resolve("bob", "reports"));
+        assertThrowsSqlException(STMT_VALIDATION_ERR, "Resource group not found",
+                () -> manager.resolve("alice", "unknown"));
+    }
+
+    @Test
+    void queriesExceedingLimitAreQueued() {
+        ResourceGroup group = manager.group("reports");
+
+        assertThat(group.priority(), is(QueryPriority.LOW));
+
+        Admission first = group.admit();
+        Admission second = group.admit();
+        Admission third = group.admit();
+
+        assertThat(first.future(), willCompleteSuccessfully());
+        assertThat(second.future().isDone(), is(false));
+        assertThat(third.future().isDone(), is(false));
+        assertThat(group.runningQueries(), is(1));
+        assertThat(group.queuedQueries(), is(2));
+
+        first.release();
+
+        assertThat(second.future(), willCompleteSuccessfully());
+        assertThat(third.future().isDone(), is(false));
+
+        // Cancellation of a running query has no effect until the slot is released.
+        assertThat(second.cancel(new QueryCancelledException()), is(false));
+
+        second.release();
+
+        assertThat(third.future(), willCompleteSuccessfully());
+
+        third.release();
+
+        assertThat(group.runningQueries(), is(0));
+        assertThat(group.queuedQueries(), is(0));
+    }
+
+    @Test
+    void queryIsRejectedWhenQueueIsFull() {
+        ResourceGroup group = manager.group("reports");
+
+        Admission running = group.admit();
+        Admission queued1 = group.admit();
+        Admission queued2 = group.admit();
+        Admission rejected = group.admit();
+
+        assertThat(rejected.future(), willThrow(QueryCancelledException.class, "the queue of the resource group is full"));
+        assertThat(group.rejectedQueries(), is(1L));
+
+        queued1.expire();
+
+        assertThat(queued1.future(), willThrow(QueryCancelledException.class, "waited in the queue of the resource group too long"));
+        assertThat(group.rejectedQueries(), is(2L));
+        assertThat(group.queuedQueries(), is(1));
+
+        running.release();
+
+        assertThat(queued2.future(), willCompleteSuccessfully());
+
+        queued2.release();
+    }
+
+    @Test
+    void raisingLimitGrantsQueuedQueries() {
+        ResourceGroup group = manager.group("reports");
+
+        Admission running = group.admit();
+        Admission queued = group.admit();
+
+        assertThat(queued.future().isDone(), is(false));
+
+        configuration.resourceGroups().get("reports").maxConcurrentQueries().update(2).join();
+        manager.configure(configuration.resourceGroups().value());
+
+        assertThat(manager.group("reports"), is(group));
+        assertThat(queued.future(), willCompleteSuccessfully());
+
+        running.release();
+        queued.release();
+    }
+
+    @Test
+    void memoryQuotaIsEnforced() {
+        ResourceGroup group = manager.group("limited");
+
+        QueryMemoryTracker tracker1 = new QueryMemoryTracker(group);
+        QueryMemoryTracker tracker2 = new QueryMemoryTracker(group);
+
+        tracker1.reserve(80);
+
+        QueryCancelledException ex = assertThrows(QueryCancelledException.class, () -> tracker1.reserve(40));
+        assertThat(ex.getMessage().contains("The query exceeded the memory quota"), is(true));
+
+        ex = assertThrows(QueryCancelledException.class, () -> tracker2.reserve(80));
+        assertThat(ex.getMessage().contains("The queries of the resource group exceeded the memory quota"), is(true));
+
+        tracker1.release(30);
+        tracker2.reserve(80);
+
+        assertThat(group.reservedMemory(), is(130L));
+
+        tracker1.close();
+        tracker2.close();
+
+        assertThat(group.reservedMemory(), is(0L));
+    }
+}
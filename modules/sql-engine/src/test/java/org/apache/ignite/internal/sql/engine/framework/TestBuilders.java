@@ -449,6 +449,9 @@ public class TestBuilders {
         /** Sets the number of partitions fot this table. Default value is equal to {@link CatalogUtils#DEFAULT_PARTITION_COUNT}. */
         TableBuilder partitions(int num);
 
+        /** Sets whether the storage of the table supports scan pushdown. Default value is {@code false}. */
+        TableBuilder scanPushdownSupported(boolean supported);
+
         /**
          * Builds a table.
          *
@@ -913,6 +916,7 @@ public class TestBuilders {
         private int size = 100_000;
         private Integer tableId;
         private int partitions = CatalogUtils.DEFAULT_PARTITION_COUNT;
+        private boolean scanPushdownSupported;
 
         /** {@inheritDoc} */
         @Override
@@ -1011,6 +1015,14 @@ public class TestBuilders {
             return this;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public TableBuilder scanPushdownSupported(boolean supported) {
+            this.scanPushdownSupported = supported;
+
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public IgniteTable build() {
@@ -1079,7 +1091,8 @@ public class TestBuilders {
                     new TestStatistic(size),
                     indexes,
                     partitions,
-                    ZONE_ID
+                    ZONE_ID,
+                    scanPushdownSupported
             );
         }
     }
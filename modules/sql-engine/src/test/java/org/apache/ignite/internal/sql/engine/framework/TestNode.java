@@ -77,6 +77,7 @@ import org.apache.ignite.internal.sql.engine.exec.fsm.QueryIdGenerator;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.workload.ResourceGroupManager;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
@@ -173,7 +174,7 @@ public class TestNode implements LifecycleAware {
                 mailboxRegistry, messageService, clockService
         ));
         ExecutionDependencyResolver dependencyResolver = new ExecutionDependencyResolverImpl(
-                tableRegistry, view -> () -> systemViewManager.scanView(view.name())
+                tableRegistry, view -> criteria -> systemViewManager.scanView(view.name(), criteria)
         );
 
         TableFunctionRegistryImpl tableFunctionRegistry = new TableFunctionRegistryImpl();
@@ -188,6 +189,8 @@ public class TestNode implements LifecycleAware {
             }
         }
 
+        ResourceGroupManager resourceGroupManager = new ResourceGroupManager();
+
         ExecutionService executionService = registerService(ExecutionServiceImpl.create(
                 localNode,
                 messageService,
@@ -208,7 +211,8 @@ public class TestNode implements LifecycleAware {
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
                 5_000,
-                SqlPlanToTxSchemaVersionValidator.create(new AlwaysSyncedSchemaSyncService(), catalogService)
+                SqlPlanToTxSchemaVersionValidator.create(new AlwaysSyncedSchemaSyncService(), catalogService),
+                resourceGroupManager
         ));
 
         registerService(new IgniteComponentLifecycleAwareAdapter(systemViewManager));
@@ -240,7 +244,8 @@ public class TestNode implements LifecycleAware {
                 NoOpTransactionalOperationTracker.INSTANCE,
                 new QueryIdGenerator(nodeName.hashCode()),
                 EventLog.NOOP,
-                new SqlQueryMetricSource()
+                new SqlQueryMetricSource(),
+                resourceGroupManager
         ));
     }
 
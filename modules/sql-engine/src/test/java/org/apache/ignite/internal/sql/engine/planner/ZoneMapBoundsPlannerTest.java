@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.prepare.bounds.ExactBounds;
+import org.apache.ignite.internal.sql.engine.prepare.bounds.RangeBounds;
+import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.explain.ExplainUtils;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for bounds of single columns that are derived for table scans to skip blocks of rows by zone maps.
+ */
+public class ZoneMapBoundsPlannerTest extends AbstractPlannerTest {
+    /** Index of the column {@code C1} in the table. */
+    private static final int C1 = 0;
+
+    /** Index of the column {@code C2} in the table. */
+    private static final int C2 = 1;
+
+    /** Index of the column {@code C3} in the table. */
+    private static final int C3 = 2;
+
+    private final IgniteSchema schema = createSchemaFrom(table("TEST", true));
+
+    @Test
+    public void testSingleColumnBounds() throws Exception {
+        assertBounds("SELECT * FROM TEST WHERE C1 = 1", Map.of(C1, exact(1)));
+
+        assertBounds("SELECT * FROM TEST WHERE C1 > 1 AND C1 <= 3", Map.of(C1, range(1, 3, false, true)));
+
+        assertBounds("SELECT * FROM TEST WHERE C3 >= 5", Map.of(C3, range(5, "null", true, false)));
+
+        assertBounds("SELECT * FROM TEST WHERE C2 = 'abc'", Map.of(C2, exact("abc")));
+    }
+
+    @Test
+    public void testBoundsOfSeveralColumns() throws Exception {
+        assertBounds("SELECT * FROM TEST WHERE C1 = 1 AND C3 < 10",
+                Map.of(C1, exact(1), C3, range(null, 10, true, false)));
+
+        // Only the columns with bounds of their own are returned.
+        assertBounds("SELECT * FROM TEST WHERE C1 > 1 AND (C2 = 'a' OR C3 = 1)",
+                Map.of(C1, range(1, "null", false, false)));
+    }
+
+    @Test
+    public void testBoundsOfProjectedColumns() throws Exception {
+        // Bounds are keyed by the index of the column in the table rather than in the row of the scan.
+        assertBounds("SELECT C3 FROM TEST WHERE C3 > 5", Map.of(C3, range(5, "null", false, false)));
+
+        assertBounds("SELECT C2 FROM TEST WHERE C3 = 5 AND C1 < 3",
+                Map.of(C1, range(null, 3, true, false), C3, exact(5)));
+    }
+
+    @Test
+    public void testNullableColumns() throws Exception {
+        // A comparison with a literal rejects nulls, so the bounds are derived for nullable columns as well.
+        assertBounds("SELECT * FROM TEST WHERE C1 < 3", Map.of(C1, range(null, 3, true, false)));
+
+        assertBounds("SELECT * FROM TEST WHERE C1 >= 3", Map.of(C1, range(3, "null", true, false)));
+
+        // Bounds that match nulls can't be used to skip blocks by min/max values.
+        assertNoBounds("SELECT * FROM TEST WHERE C1 IS NULL");
+
+        assertNoBounds("SELECT * FROM TEST WHERE C1 > 1 OR C1 IS NULL");
+
+        assertNoBounds("SELECT * FROM TEST WHERE C1 IN (1, 2, 3) OR C1 IS NULL");
+
+        assertBounds("SELECT * FROM TEST WHERE (C1 IS NULL OR C1 = 1) AND C3 = 2", Map.of(C3, exact(2)));
+    }
+
+    @Test
+    public void testMultiRangePredicates() throws Exception {
+        // Multi-range bounds are left out, see RexUtils#buildColumnSearchBounds.
+        assertNoBounds("SELECT * FROM TEST WHERE C1 IN (1, 2, 3)");
+
+        assertNoBounds("SELECT * FROM TEST WHERE C1 < 1 OR C1 > 10");
+
+        assertNoBounds("SELECT * FROM TEST WHERE (C1 > 1 AND C1 < 3) OR C1 IN (4, 5) OR C1 > 7");
+
+        assertBounds("SELECT * FROM TEST WHERE C1 IN (1, 2, 3) AND C3 > 5", Map.of(C3, range(5, "null", false, false)));
+
+        // Disjunction of the predicates on different columns can't be split into bounds of single columns.
+        assertNoBounds("SELECT * FROM TEST WHERE C1 > 1 OR C3 > 1");
+    }
+
+    @Test
+    public void testExclusions() throws Exception {
+        assertNoBounds("SELECT * FROM TEST WHERE C1 <> 2");
+
+        assertNoBounds("SELECT * FROM TEST WHERE C1 > 1 AND C1 < 3 AND C1 <> 2");
+
+        // Comparison of two columns.
+        assertNoBounds("SELECT * FROM TEST WHERE C1 > C3");
+
+        // Virtual columns are not stored, so there are no zone maps for them.
+        assertBounds("SELECT * FROM TEST WHERE __PARTITION_ID = 1 AND C3 > 5", Map.of(C3, range(5, "null", false, false)));
+    }
+
+    @Test
+    public void testNoBoundsWithoutScanPushdown() throws Exception {
+        IgniteSchema schema = createSchemaFrom(table("TEST", false));
+
+        assertPlan("SELECT * FROM TEST WHERE C1 = 1 AND C3 > 5", schema, nodeOrAnyChild(isTableScan("TEST")
+                .and(scan -> scan.zoneMapBounds().isEmpty())));
+    }
+
+    @Test
+    public void testExplain() throws Exception {
+        IgniteRel plan = physicalPlan("SELECT * FROM TEST WHERE C1 > 1 AND C1 <= 3 AND C3 = 5", schema);
+
+        assertThat(ExplainUtils.toString(plan), containsString("zoneMapBounds: C1 (<1>..<3>], C3 <5>"));
+
+        IgniteRel planWithoutBounds = physicalPlan("SELECT * FROM TEST WHERE C1 <> 2", schema);
+
+        assertThat(ExplainUtils.toString(planWithoutBounds), not(containsString("zoneMapBounds")));
+    }
+
+    private void assertBounds(String sql, Map<Integer, Predicate<SearchBounds>> expected) throws Exception {
+        assertPlan(sql, schema, nodeOrAnyChild(isTableScan("TEST")
+                .and(scan -> matchBounds(scan.zoneMapBounds(), expected))));
+    }
+
+    private void assertNoBounds(String sql) throws Exception {
+        assertBounds(sql, Map.of());
+    }
+
+    private boolean matchBounds(Int2ObjectMap<SearchBounds> bounds, Map<Integer, Predicate<SearchBounds>> expected) {
+        if (!bounds.keySet().equals(expected.keySet())) {
+            lastErrorMsg = format("Unexpected columns with bounds [expected={}, actual={}]", expected.keySet(), bounds.keySet());
+
+            return false;
+        }
+
+        for (Map.Entry<Integer, Predicate<SearchBounds>> entry : expected.entrySet()) {
+            SearchBounds columnBounds = bounds.get((int) entry.getKey());
+
+            if (!entry.getValue().test(columnBounds)) {
+                lastErrorMsg = format("Unexpected bounds [column={}, expected={}, actual={}]",
+                        entry.getKey(), entry.getValue(), columnBounds);
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Predicate<SearchBounds> exact(Object val) {
+        Predicate<SearchBounds> p = b -> b instanceof ExactBounds && matchValue(val, ((ExactBounds) b).bound());
+
+        return named(p, format("={}", val));
+    }
+
+    private static Predicate<SearchBounds> range(
+            @Nullable Object lower,
+            @Nullable Object upper,
+            boolean lowerInclude,
+            boolean upperInclude
+    ) {
+        Predicate<SearchBounds> p = b -> b instanceof RangeBounds
+                && matchValue(lower, ((RangeBounds) b).lowerBound())
+                && matchValue(upper, ((RangeBounds) b).upperBound())
+                && lowerInclude == ((RangeBounds) b).lowerInclude()
+                && upperInclude == ((RangeBounds) b).upperInclude();
+
+        return named(p, format("{}{}, {}{}", lowerInclude ? "[" : "(", lower, upper, upperInclude ? "]" : ")"));
+    }
+
+    private static boolean matchValue(@Nullable Object val, @Nullable RexNode bound) {
+        if (val == null || bound == null) {
+            return val == bound;
+        }
+
+        String actual = Objects.toString(bound instanceof RexLiteral ? ((RexLiteral) bound).getValueAs(val.getClass()) : bound);
+
+        return Objects.toString(val).equals(actual);
+    }
+
+    private static Predicate<SearchBounds> named(Predicate<SearchBounds> p, String name) {
+        return new Predicate<>() {
+            @Override
+            public boolean test(SearchBounds bounds) {
+                return p.test(bounds);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    private static UnaryOperator<TableBuilder> table(String tableName, boolean scanPushdownSupported) {
+        return tableBuilder -> tableBuilder
+                .name(tableName)
+                .addColumn("C1", NativeTypes.INT32)
+                .addColumn("C2", NativeTypes.STRING)
+                .addColumn("C3", NativeTypes.INT32, false)
+                .distribution(IgniteDistributions.single())
+                .scanPushdownSupported(scanPushdownSupported)
+                .size(100);
+    }
+}
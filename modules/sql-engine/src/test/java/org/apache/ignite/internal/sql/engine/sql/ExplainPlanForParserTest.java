@@ -50,6 +50,19 @@ public class ExplainPlanForParserTest extends AbstractParserTest {
                 () -> parse("explain MAPPINGGG FOR plan select 1"));
     }
 
+    @Test
+    public void explainAnalyze() {
+        IgniteSqlExplain explain = parseExplain("EXPLAIN ANALYZE select ?");
+
+        assertEquals(1, explain.getDynamicParamCount());
+
+        expectUnparsed(explain, "EXPLAIN ANALYZE FOR" + System.lineSeparator() + "SELECT ?");
+
+        explain = parseExplain("EXPLAIN ANALYZE FOR select 1");
+
+        expectUnparsed(explain, "EXPLAIN ANALYZE FOR" + System.lineSeparator() + "SELECT 1");
+    }
+
     @Test
     public void explainPlanFullWithDynParam() {
         IgniteSqlExplain explain = parseExplain("EXPLAIN PLAN FOR select ?");
@@ -29,6 +29,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -624,6 +625,38 @@ public class SqlDdlParserTest extends AbstractParserTest {
         );
     }
 
+    /**
+     * Parsing of CREATE TABLE with range partitioning.
+     */
+    @Test
+    public void createTableWithRangePartitioning() {
+        IgniteSqlCreateTable createTable = parseCreateTable(
+                "CREATE TABLE MY_TABLE(ID INT, TS DATE, VAL INT, PRIMARY KEY (ID, TS)) "
+                        + "PARTITION BY RANGE (TS) SPLIT AT (DATE '2024-01-01', DATE '2025-01-01')"
+        );
+
+        assertThat(
+                createTable.colocationColumns().getList().stream()
+                        .map(SqlIdentifier.class::cast)
+                        .map(SqlIdentifier::getSimple)
+                        .collect(Collectors.toList()),
+                equalTo(List.of("TS"))
+        );
+
+        assertThat(createTable.rangeSplitPoints().size(), equalTo(2));
+
+        expectUnparsed(createTable, "CREATE TABLE \"MY_TABLE\" ("
+                + "\"ID\" INTEGER, \"TS\" DATE, \"VAL\" INTEGER, PRIMARY KEY (\"ID\", \"TS\")"
+                + ") PARTITION BY RANGE (\"TS\") SPLIT AT (DATE '2024-01-01', DATE '2025-01-01')"
+        );
+
+        assertThrowsSqlException(
+                Sql.STMT_PARSE_ERR,
+                "Failed to parse query: Encountered \")\"",
+                () -> parseCreateTable("CREATE TABLE MY_TABLE(ID INT PRIMARY KEY) PARTITION BY RANGE (ID) SPLIT AT ()")
+        );
+    }
+
     @Test
     public void createTableWithIdentifierZone() {
         String sqlQuery = "create table my_table(id int) zone \"zone123\"";
@@ -1102,6 +1135,71 @@ public class SqlDdlParserTest extends AbstractParserTest {
         expectUnparsed(node, "DROP TABLE IF EXISTS \"MY_TABLE\"");
     }
 
+    @Test
+    public void createMaterializedView() {
+        var query = "create materialized view my_schema.my_view as select id, count(*) cnt from my_table group by id";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlCreateMaterializedView.class));
+
+        var createView = (IgniteSqlCreateMaterializedView) node;
+
+        assertThat(createView.ifNotExists(), is(false));
+        assertThat(createView.name().names, is(List.of("MY_SCHEMA", "MY_VIEW")));
+        assertThat(createView.query().getKind(), is(SqlKind.SELECT));
+
+        assertThat(unparse(node), startsWith("CREATE MATERIALIZED VIEW \"MY_SCHEMA\".\"MY_VIEW\" AS"));
+    }
+
+    @Test
+    public void createMaterializedViewIfNotExists() {
+        var query = "create materialized view if not exists my_view as select * from my_table";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlCreateMaterializedView.class));
+
+        var createView = (IgniteSqlCreateMaterializedView) node;
+
+        assertThat(createView.ifNotExists(), is(true));
+        assertThat(createView.name().names, is(List.of("MY_VIEW")));
+
+        assertThat(unparse(node), startsWith("CREATE MATERIALIZED VIEW IF NOT EXISTS \"MY_VIEW\" AS"));
+    }
+
+    @Test
+    public void dropMaterializedView() {
+        var query = "drop materialized view my_view";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlDropMaterializedView.class));
+
+        var dropView = (IgniteSqlDropMaterializedView) node;
+
+        assertThat(dropView.ifExists(), is(false));
+        assertThat(dropView.name().names, is(List.of("MY_VIEW")));
+
+        expectUnparsed(node, "DROP MATERIALIZED VIEW \"MY_VIEW\"");
+    }
+
+    @Test
+    public void dropMaterializedViewIfExists() {
+        var query = "drop materialized view if exists my_schema.my_view";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlDropMaterializedView.class));
+
+        var dropView = (IgniteSqlDropMaterializedView) node;
+
+        assertThat(dropView.ifExists(), is(true));
+        assertThat(dropView.name().names, is(List.of("MY_SCHEMA", "MY_VIEW")));
+
+        expectUnparsed(node, "DROP MATERIALIZED VIEW IF EXISTS \"MY_SCHEMA\".\"MY_VIEW\"");
+    }
+
     @Test
     public void dropIndexSimpleCase() {
         var query = "drop index my_index";
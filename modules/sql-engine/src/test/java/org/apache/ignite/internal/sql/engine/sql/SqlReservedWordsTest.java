@@ -247,6 +247,7 @@ public class SqlReservedWordsTest extends AbstractParserTest {
             "ALLOCATE",
             "ALLOW",
             "ALWAYS",
+            "ANALYZE",
             "APPLY",
             "ARE",
             "ARRAY_AGG",
@@ -472,6 +473,7 @@ public class SqlReservedWordsTest extends AbstractParserTest {
             "MATCHED",
             "MATCHES",
             "MATCH_NUMBER",
+            "MATERIALIZED",
             "MAXVALUE",
             "MEASURES",
             "MEMBER",
@@ -646,6 +648,7 @@ public class SqlReservedWordsTest extends AbstractParserTest {
             "SPACE",
             "SPECIFICTYPE",
             "SPECIFIC_NAME",
+            "SPLIT",
             "SQL",
             "SQLEXCEPTION",
             "SQLSTATE",
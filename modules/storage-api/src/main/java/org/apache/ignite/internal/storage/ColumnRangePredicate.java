@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
+import org.apache.ignite.internal.schema.BinaryTupleComparator;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.type.NativeType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Predicate {@code lower <(=) column <(=) upper} over a single column of a row. {@code null} column values never match it, just like
+ * in SQL comparisons.
+ *
+ * <p>Bounds and values are compared as single-element binary tuples, see {@link #singleElementTuple}.
+ */
+public class ColumnRangePredicate {
+    private final int column;
+
+    private final NativeType type;
+
+    private final @Nullable ByteBuffer lowerBound;
+
+    private final boolean lowerInclusive;
+
+    private final @Nullable ByteBuffer upperBound;
+
+    private final boolean upperInclusive;
+
+    private final Comparator<ByteBuffer> comparator;
+
+    /**
+     * Constructor.
+     *
+     * @param column Index of the column in the binary tuple.
+     * @param type Column type.
+     * @param lowerBound Lower bound as a single-element binary tuple, {@code null} if unbounded.
+     * @param lowerInclusive Whether the lower bound is inclusive.
+     * @param upperBound Upper bound as a single-element binary tuple, {@code null} if unbounded.
+     * @param upperInclusive Whether the upper bound is inclusive.
+     */
+    public ColumnRangePredicate(
+            int column,
+            NativeType type,
+            @Nullable ByteBuffer lowerBound,
+            boolean lowerInclusive,
+            @Nullable ByteBuffer upperBound,
+            boolean upperInclusive
+    ) {
+        this.column = column;
+        this.type = type;
+        this.lowerBound = lowerBound;
+        this.lowerInclusive = lowerInclusive;
+        this.upperBound = upperBound;
+        this.upperInclusive = upperInclusive;
+        this.comparator = comparator(type);
+    }
+
+    /** Creates a comparator of single-element binary tuples of the given type. */
+    public static Comparator<ByteBuffer> comparator(NativeType type) {
+        return new BinaryTupleComparator(List.of(CatalogColumnCollation.ASC_NULLS_LAST), List.of(type));
+    }
+
+    /**
+     * Wraps raw bytes of a single element into a one-element binary tuple, so that it can be read or compared with the regular binary
+     * tuple machinery. Zero length means {@code null}.
+     */
+    public static ByteBuffer singleElementTuple(ByteBuffer bytes, int offset, int length) {
+        return new BinaryTupleBuilder(1, length).appendElementBytes(bytes, offset, length).build();
+    }
+
+    /** Returns the index of the column in the binary tuple. */
+    public int column() {
+        return column;
+    }
+
+    /** Returns the column type. */
+    public NativeType type() {
+        return type;
+    }
+
+    /**
+     * Checks a single value.
+     *
+     * @param value Raw bytes of the value, as they are stored in a binary tuple. No bytes mean {@code null}.
+     * @return {@code true} if the value matches the predicate.
+     */
+    public boolean test(ByteBuffer value) {
+        if (!value.hasRemaining()) {
+            return false;
+        }
+
+        ByteBuffer tuple = singleElementTuple(value, value.position(), value.remaining());
+
+        if (lowerBound != null) {
+            int cmp = comparator.compare(tuple, lowerBound.duplicate().order(lowerBound.order()));
+
+            if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+
+        if (upperBound != null) {
+            int cmp = comparator.compare(tuple, upperBound.duplicate().order(upperBound.order()));
+
+            if (cmp > 0 || (cmp == 0 && !upperInclusive)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether any value within the given range might match the predicate.
+     *
+     * @param min Minimum non-null value of the range as a single-element binary tuple, {@code null} if there are only {@code null}s.
+     * @param max Maximum non-null value of the range as a single-element binary tuple, {@code null} if there are only {@code null}s.
+     * @return {@code false} if none of the values can match the predicate.
+     */
+    public boolean mayMatch(@Nullable ByteBuffer min, @Nullable ByteBuffer max) {
+        if (min == null || max == null) {
+            // Only nulls.
+            return false;
+        }
+
+        if (upperBound != null) {
+            int cmp = comparator.compare(min, upperBound.duplicate().order(upperBound.order()));
+
+            if (cmp > 0 || (cmp == 0 && !upperInclusive)) {
+                return false;
+            }
+        }
+
+        if (lowerBound != null) {
+            int cmp = comparator.compare(max, lowerBound.duplicate().order(lowerBound.order()));
+
+            if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(ColumnRangePredicate.class, this);
+    }
+}
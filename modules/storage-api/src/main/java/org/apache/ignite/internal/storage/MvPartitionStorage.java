@@ -276,6 +276,22 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     PartitionTimestampCursor scan(HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Same as {@link #scan(HybridTimestamp)}, but with a projection and a filter pushed down to the storage.
+     *
+     * <p>Storages that keep summaries of their data (like minimum and maximum values of the columns of a block of rows) may use the
+     * filter to skip rows that can't match it, and may leave out the columns that are not required. The options are only a hint: the
+     * default implementation ignores them, so the caller must still filter the returned rows.
+     *
+     * @param timestamp Timestamp. Can't be {@code null}.
+     * @param options Projection and filter.
+     * @return Cursor.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    default PartitionTimestampCursor scan(HybridTimestamp timestamp, PartitionScanOptions options) throws StorageException {
+        return scan(timestamp);
+    }
+
     /**
      * Returns a row id, existing in the storage, that's greater or equal than the lower bound. {@code null} if not found.
      *
@@ -345,6 +361,17 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     long estimatedSize();
 
+    /**
+     * Returns the <em>estimated</em> number of entries in the garbage collection queue of this partition, that is the number of row
+     * versions that were replaced by newer committed versions and are waiting to be removed by {@link #vacuum}. Entries that are not yet
+     * below the low watermark are counted as well.
+     *
+     * <p>The value is maintained in memory, so the method is cheap enough to be called from metric gauges.
+     *
+     * @return Estimated size of the garbage collection queue.
+     */
+    long estimatedGcQueueSize();
+
     /**
      * Returns a cursor that traverses all row IDs of write intents registered with the write intents' list.
      *
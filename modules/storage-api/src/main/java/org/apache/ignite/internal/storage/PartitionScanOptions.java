@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import java.util.BitSet;
+import java.util.List;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Projection and filter pushed down to a {@link MvPartitionStorage#scan(org.apache.ignite.internal.hlc.HybridTimestamp,
+ * PartitionScanOptions) partition scan}.
+ *
+ * <p>Both are defined in terms of a single schema version, and only apply to committed rows of that version. Other rows, as well as
+ * write intents, are returned as is, so the caller must still evaluate its own filter over the scan results. Storages are free to
+ * ignore the options completely.
+ */
+public class PartitionScanOptions {
+    private final int schemaVersion;
+
+    private final @Nullable BitSet requiredColumns;
+
+    private final List<ColumnRangePredicate> predicates;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaVersion Schema version the columns and predicates refer to.
+     * @param requiredColumns Binary tuple indexes of the columns the caller reads, {@code null} if it reads all of them.
+     * @param predicates Predicates that every returned committed row must match.
+     */
+    public PartitionScanOptions(int schemaVersion, @Nullable BitSet requiredColumns, List<ColumnRangePredicate> predicates) {
+        this.schemaVersion = schemaVersion;
+        this.requiredColumns = requiredColumns;
+        this.predicates = List.copyOf(predicates);
+    }
+
+    /** Returns the schema version the columns and predicates refer to. */
+    public int schemaVersion() {
+        return schemaVersion;
+    }
+
+    /** Returns binary tuple indexes of the columns the caller reads, {@code null} if it reads all of them. */
+    public @Nullable BitSet requiredColumns() {
+        return requiredColumns;
+    }
+
+    /** Returns predicates that every returned committed row must match. */
+    public List<ColumnRangePredicate> predicates() {
+        return predicates;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(PartitionScanOptions.class, this);
+    }
+}
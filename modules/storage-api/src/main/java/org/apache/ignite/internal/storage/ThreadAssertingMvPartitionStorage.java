@@ -144,6 +144,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage, Wr
         return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp));
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, PartitionScanOptions options) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp, options));
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         assertThreadAllowsToRead();
@@ -196,6 +203,11 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage, Wr
         return partitionStorage.estimatedSize();
     }
 
+    @Override
+    public long estimatedGcQueueSize() {
+        return partitionStorage.estimatedGcQueueSize();
+    }
+
     @Override
     public Cursor<RowId> scanWriteIntents() {
         assertThreadAllowsToRead();
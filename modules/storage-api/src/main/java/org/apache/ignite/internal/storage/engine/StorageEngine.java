@@ -20,7 +20,9 @@ package org.apache.ignite.internal.storage.engine;
 import static org.apache.ignite.internal.util.Constants.MiB;
 import static org.apache.ignite.internal.util.IgniteUtils.getTotalMemoryAvailable;
 
+import java.util.List;
 import java.util.Set;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource;
@@ -53,6 +55,23 @@ public interface StorageEngine {
      */
     boolean isVolatile();
 
+    /**
+     * Whether the partition storages of the engine make use of the options of
+     * {@link org.apache.ignite.internal.storage.MvPartitionStorage#scan(org.apache.ignite.internal.hlc.HybridTimestamp,
+     * org.apache.ignite.internal.storage.PartitionScanOptions)}, so that it's worth to compute and pass them.
+     */
+    default boolean supportsScanPushdown() {
+        return false;
+    }
+
+    /**
+     * Returns sources of the engine's on-disk state to include into physical backups of the node, one per independently persisted
+     * set of files. Empty for volatile engines and for engines that don't support backups.
+     */
+    default List<BackupSource> backupSources() {
+        return List.of();
+    }
+
     /**
      * Creates new table storage.
      *
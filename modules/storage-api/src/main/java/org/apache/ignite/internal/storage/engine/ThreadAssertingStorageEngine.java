@@ -20,7 +20,9 @@ package org.apache.ignite.internal.storage.engine;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToRead;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToWrite;
 
+import java.util.List;
 import java.util.Set;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.worker.ThreadAssertions;
@@ -61,6 +63,16 @@ public class ThreadAssertingStorageEngine implements StorageEngine, Wrapper {
         return storageEngine.isVolatile();
     }
 
+    @Override
+    public boolean supportsScanPushdown() {
+        return storageEngine.supportsScanPushdown();
+    }
+
+    @Override
+    public List<BackupSource> backupSources() {
+        return storageEngine.backupSources();
+    }
+
     @Override
     public MvTableStorage createMvTable(StorageTableDescriptor tableDescriptor, StorageIndexDescriptorSupplier indexDescriptorSupplier) {
         MvTableStorage tableStorage = storageEngine.createMvTable(tableDescriptor, indexDescriptorSupplier);
@@ -23,6 +23,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -139,6 +140,31 @@ public abstract class AbstractMvPartitionStorageGcTest extends BaseMvPartitionSt
         assertNull(pollForVacuum(lowWatermark));
     }
 
+    @Test
+    void testEstimatedGcQueueSize() {
+        assertEquals(0, storage.estimatedGcQueueSize());
+
+        addAndCommit(TABLE_ROW);
+
+        assertEquals(0, storage.estimatedGcQueueSize());
+
+        addAndCommit(TABLE_ROW2);
+
+        assertEquals(1, storage.estimatedGcQueueSize());
+
+        HybridTimestamp lowWatermark = addAndCommit(null);
+
+        assertEquals(2, storage.estimatedGcQueueSize());
+
+        assertNotNull(pollForVacuum(lowWatermark));
+
+        assertEquals(1, storage.estimatedGcQueueSize());
+
+        assertNotNull(pollForVacuum(lowWatermark));
+
+        assertEquals(0, storage.estimatedGcQueueSize());
+    }
+
     @Test
     void testVacuumsSecondRowIfTombstoneIsFirst() {
         addAndCommit(null);
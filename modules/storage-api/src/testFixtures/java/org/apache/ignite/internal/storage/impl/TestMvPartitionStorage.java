@@ -810,6 +810,13 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
         return estimatedSize;
     }
 
+    @Override
+    public long estimatedGcQueueSize() {
+        checkStorageClosed();
+
+        return gcQueue.size();
+    }
+
     @Override
     public Cursor<RowId> scanWriteIntents() {
         return Cursor.fromBareIterator(emptyIterator());
@@ -0,0 +1,1301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar;
+
+import static java.util.Collections.emptyIterator;
+import static java.util.Comparator.comparing;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.AbortResult;
+import org.apache.ignite.internal.storage.AddWriteCommittedResult;
+import org.apache.ignite.internal.storage.AddWriteResult;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.storage.CommitResult;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionScanOptions;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowMeta;
+import org.apache.ignite.internal.storage.StorageClosedException;
+import org.apache.ignite.internal.storage.StorageDestroyedException;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.StorageRebalanceException;
+import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.columnar.segment.BinaryTupleLayout;
+import org.apache.ignite.internal.storage.columnar.segment.ColumnSegment;
+import org.apache.ignite.internal.storage.columnar.segment.ColumnSegmentBuilder;
+import org.apache.ignite.internal.storage.engine.MvPartitionMeta;
+import org.apache.ignite.internal.storage.gc.GcEntry;
+import org.apache.ignite.internal.storage.lease.LeaseInfo;
+import org.apache.ignite.internal.storage.util.LocalLocker;
+import org.apache.ignite.internal.storage.util.LockByRowId;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * MV partition storage of {@link ColumnarStorageEngine}.
+ *
+ * <p>Version chains are kept in a map, just like in a row-oriented in-memory storage, but the rows of committed versions can live in two
+ * places:
+ * <ul>
+ *     <li>in the delta store, i.e. as {@link BinaryRow} objects referenced by the version chains directly. All new writes land here;</li>
+ *     <li>in immutable {@link ColumnSegment}s, which are built by {@link #mergeDelta} out of the rows that are committed and have no other
+ *     versions. Such a version references its segment and its position in the segment, and the row is assembled on read.</li>
+ * </ul>
+ *
+ * <p>Segments are never modified. When a version stored in a segment is garbage collected or overwritten by the merge, the segment is
+ * only notified about it, and segments where most of the rows are gone are rewritten by later merges.
+ *
+ * <p>{@link #scan(HybridTimestamp, PartitionScanOptions)} lets the caller push a projection and a filter down to the storage: segments
+ * whose zone maps can't match the filter are skipped without assembling their rows, and assembled rows only contain required columns.
+ */
+public class ColumnarMvPartitionStorage implements MvPartitionStorage {
+    /** Preserved {@link LocalLocker} instance to allow nested calls of {@link #runConsistently(WriteClosure)}. */
+    private static final ThreadLocal<LocalLocker> THREAD_LOCAL_LOCKER = new ThreadLocal<>();
+
+    private static final AtomicLongFieldUpdater<ColumnarMvPartitionStorage> ESTIMATED_SIZE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ColumnarMvPartitionStorage.class, "estimatedSize");
+
+    private static final AtomicLongFieldUpdater<ColumnarMvPartitionStorage> GC_QUEUE_SIZE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ColumnarMvPartitionStorage.class, "gcQueueSize");
+
+    private final ConcurrentNavigableMap<RowId, VersionChain> map = new ConcurrentSkipListMap<>();
+
+    private final NavigableSet<VersionChain> gcQueue = new ConcurrentSkipListSet<>(
+            comparing((VersionChain chain) -> chain.ts)
+                    .thenComparing(chain -> chain.rowId)
+    );
+
+    /** IDs of rows that might have become eligible for {@link #mergeDelta merging} since the last merge. */
+    private final Set<RowId> mergeCandidates = ConcurrentHashMap.newKeySet();
+
+    /** Column segments of the partition, mapped to the IDs of the rows they were built from. */
+    private final Map<ColumnSegment, RowId[]> segments = new ConcurrentHashMap<>();
+
+    private volatile long lastAppliedIndex;
+
+    private volatile long lastAppliedTerm;
+
+    private volatile @Nullable LeaseInfo leaseInfo;
+
+    private volatile long estimatedSize;
+
+    /** Size of {@link #gcQueue}, maintained separately since the size of a concurrent set is computed by traversing it. */
+    private volatile long gcQueueSize;
+
+    private volatile byte @Nullable [] groupConfig;
+
+    private final int partitionId;
+
+    private final int segmentRows;
+
+    private final int maxDictionarySize;
+
+    private final ColumnarScanMetrics scanMetrics;
+
+    private volatile boolean closed;
+
+    private volatile boolean destroyed;
+
+    private volatile boolean rebalance;
+
+    private final LockByRowId lockByRowId = new LockByRowId();
+
+    /** Amount of cursors that opened and still do not close. */
+    private final AtomicInteger pendingCursors = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition ID.
+     * @param segmentRows Maximum number of rows in a column segment.
+     * @param maxDictionarySize Maximum number of entries in a column dictionary, {@code 0} disables dictionary encoding.
+     */
+    public ColumnarMvPartitionStorage(int partitionId, int segmentRows, int maxDictionarySize) {
+        this(partitionId, segmentRows, maxDictionarySize, new ColumnarScanMetrics());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition ID.
+     * @param segmentRows Maximum number of rows in a column segment.
+     * @param maxDictionarySize Maximum number of entries in a column dictionary, {@code 0} disables dictionary encoding.
+     * @param scanMetrics Zone map pruning counters, shared by all partitions of the table.
+     */
+    public ColumnarMvPartitionStorage(int partitionId, int segmentRows, int maxDictionarySize, ColumnarScanMetrics scanMetrics) {
+        this.partitionId = partitionId;
+        this.segmentRows = segmentRows;
+        this.maxDictionarySize = maxDictionarySize;
+        this.scanMetrics = scanMetrics;
+    }
+
+    private static class VersionChain implements GcEntry {
+        private final RowId rowId;
+
+        /** Row of the version if it is in the delta store. */
+        private final @Nullable BinaryRow row;
+
+        /** Segment the row of the version is stored in, {@code null} if the row is in the delta store or the version is a tombstone. */
+        private final @Nullable ColumnSegment segment;
+
+        private final int segmentPosition;
+
+        private final @Nullable HybridTimestamp ts;
+        private final @Nullable UUID txId;
+        private final @Nullable Integer commitZoneId;
+        private final int commitPartitionId;
+        volatile @Nullable VersionChain next;
+
+        VersionChain(
+                RowId rowId,
+                @Nullable BinaryRow row,
+                @Nullable HybridTimestamp ts,
+                @Nullable UUID txId,
+                @Nullable Integer commitZoneId,
+                int commitPartitionId,
+                @Nullable VersionChain next
+        ) {
+            this(rowId, row, null, -1, ts, txId, commitZoneId, commitPartitionId, next);
+        }
+
+        private VersionChain(
+                RowId rowId,
+                @Nullable BinaryRow row,
+                @Nullable ColumnSegment segment,
+                int segmentPosition,
+                @Nullable HybridTimestamp ts,
+                @Nullable UUID txId,
+                @Nullable Integer commitZoneId,
+                int commitPartitionId,
+                @Nullable VersionChain next
+        ) {
+            this.rowId = rowId;
+            this.row = row;
+            this.segment = segment;
+            this.segmentPosition = segmentPosition;
+            this.ts = ts;
+            this.txId = txId;
+            this.commitZoneId = commitZoneId;
+            this.commitPartitionId = commitPartitionId;
+            this.next = next;
+        }
+
+        static VersionChain forWriteIntent(RowId rowId, @Nullable BinaryRow row, @Nullable UUID txId, @Nullable Integer commitZoneId,
+                int commitPartitionId, @Nullable VersionChain next) {
+            return new VersionChain(rowId, row, null, txId, commitZoneId, commitPartitionId, next);
+        }
+
+        static VersionChain forCommitted(RowId rowId, HybridTimestamp timestamp, VersionChain uncommittedVersionChain) {
+            return new VersionChain(rowId, uncommittedVersionChain.row, timestamp, null, null,
+                    ReadResult.UNDEFINED_COMMIT_PARTITION_ID, uncommittedVersionChain.next);
+        }
+
+        /** Creates a copy of a committed single-version chain that references a segment instead of the row. */
+        static VersionChain forSegment(VersionChain committedVersionChain, ColumnSegment segment, int segmentPosition) {
+            assert committedVersionChain.next == null : committedVersionChain;
+
+            return new VersionChain(committedVersionChain.rowId, null, segment, segmentPosition, committedVersionChain.ts, null, null,
+                    ReadResult.UNDEFINED_COMMIT_PARTITION_ID, null);
+        }
+
+        boolean isWriteIntent() {
+            return ts == null && txId != null;
+        }
+
+        boolean isTombstone() {
+            return row == null && segment == null;
+        }
+
+        /** Returns {@code true} if the chain consists of a single committed version that is not a tombstone. */
+        boolean mergeable() {
+            return ts != null && next == null && !isTombstone();
+        }
+
+        int schemaVersion() {
+            assert !isTombstone() : this;
+
+            return segment != null ? segment.schemaVersion() : row.schemaVersion();
+        }
+
+        @Nullable BinaryRow row() {
+            return segment != null ? segment.row(segmentPosition) : row;
+        }
+
+        @Override
+        public RowId getRowId() {
+            return rowId;
+        }
+
+        @Override
+        public HybridTimestamp getTimestamp() {
+            assert ts != null : "Method should only be invoked for instances with non-null timestamps.";
+
+            return ts;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(VersionChain.class, this);
+        }
+    }
+
+    /** Returns the partition ID. */
+    public int partitionId() {
+        return partitionId;
+    }
+
+    @Override
+    public <V> V runConsistently(WriteClosure<V> closure) throws StorageException {
+        checkStorageClosed();
+
+        LocalLocker locker = THREAD_LOCAL_LOCKER.get();
+
+        if (locker != null) {
+            return closure.execute(locker);
+        } else {
+            locker = new LocalLocker(lockByRowId);
+
+            THREAD_LOCAL_LOCKER.set(locker);
+
+            try {
+                return closure.execute(locker);
+            } finally {
+                THREAD_LOCAL_LOCKER.set(null);
+
+                locker.unlockAll();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> flush(boolean trigger) {
+        checkStorageClosed();
+
+        return nullCompletedFuture();
+    }
+
+    @Override
+    public long lastAppliedIndex() {
+        checkStorageClosed();
+
+        return lastAppliedIndex;
+    }
+
+    @Override
+    public long lastAppliedTerm() {
+        checkStorageClosed();
+
+        return lastAppliedTerm;
+    }
+
+    @Override
+    public void lastApplied(long lastAppliedIndex, long lastAppliedTerm) throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        this.lastAppliedIndex = lastAppliedIndex;
+        this.lastAppliedTerm = lastAppliedTerm;
+    }
+
+    @Override
+    public byte @Nullable [] committedGroupConfiguration() {
+        checkStorageClosed();
+
+        byte[] currentConfig = groupConfig;
+        return currentConfig == null ? null : Arrays.copyOf(currentConfig, currentConfig.length);
+    }
+
+    @Override
+    public void committedGroupConfiguration(byte[] config) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        this.groupConfig = Arrays.copyOf(config, config.length);
+    }
+
+    @Override
+    public synchronized AddWriteResult addWrite(
+            RowId rowId,
+            @Nullable BinaryRow row,
+            UUID txId,
+            int commitZoneId,
+            int commitPartitionId
+    ) throws StorageException {
+        assert rowId.partitionId() == partitionId : "rowId=" + rowId + ", rowIsTombstone=" + (row == null) + ", txId=" + txId
+                + ", commitZoneId=" + commitZoneId + ", commitPartitionId=" + commitPartitionId;
+
+        checkStorageClosed();
+
+        AddWriteResult[] addWriteResult = {null};
+
+        map.compute(rowId, (ignored, versionChain) -> {
+            if (versionChain != null && versionChain.ts == null) {
+                if (!txId.equals(versionChain.txId)) {
+                    addWriteResult[0] = AddWriteResult.txMismatch(versionChain.txId, latestCommitTimestamp(versionChain));
+
+                    return versionChain;
+                }
+
+                addWriteResult[0] = AddWriteResult.success(versionChain.row);
+
+                return VersionChain.forWriteIntent(rowId, row, txId, commitZoneId, commitPartitionId, versionChain.next);
+            }
+
+            addWriteResult[0] = AddWriteResult.success(null);
+
+            return VersionChain.forWriteIntent(rowId, row, txId, commitZoneId, commitPartitionId, versionChain);
+        });
+
+        AddWriteResult res = addWriteResult[0];
+
+        assert res != null : "rowId=" + rowId + ", rowIsTombstone=" + (row == null) + ", txId=" + txId
+                + ", commitZoneId=" + commitZoneId + ", commitPartitionId=" + commitPartitionId;
+
+        return res;
+    }
+
+    @Override
+    public synchronized AbortResult abortWrite(RowId rowId, UUID txId) {
+        assert rowId.partitionId() == partitionId : "rowId=" + rowId + ", txId=" + txId;
+
+        checkStorageClosedOrInProcessOfRebalance();
+
+        AbortResult[] abortResult = {null};
+
+        map.compute(rowId, (ignored, versionChain) -> {
+            if (versionChain == null || !versionChain.isWriteIntent()) {
+                abortResult[0] = AbortResult.noWriteIntent();
+
+                return versionChain;
+            } else if (!txId.equals(versionChain.txId)) {
+                abortResult[0] = AbortResult.txMismatch(versionChain.txId);
+
+                return versionChain;
+            }
+
+            assert versionChain.ts == null : "rowId=" + rowId + ", txId=" + txId + ", ts=" + versionChain.ts;
+
+            abortResult[0] = AbortResult.success(versionChain.row);
+
+            return versionChain.next;
+        });
+
+        AbortResult res = abortResult[0];
+
+        assert res != null : "rowId=" + rowId + ", txId=" + txId;
+
+        return res;
+    }
+
+    @Override
+    public synchronized CommitResult commitWrite(RowId rowId, HybridTimestamp timestamp, UUID txId) {
+        assert rowId.partitionId() == partitionId : "rowId=" + rowId + ", timestamp=" + timestamp + ", txId=" + txId;
+
+        checkStorageClosed();
+
+        CommitResult[] commitResult = {null};
+
+        map.compute(rowId, (ignored, versionChain) -> {
+            if (versionChain == null || !versionChain.isWriteIntent()) {
+                commitResult[0] = CommitResult.noWriteIntent();
+
+                return versionChain;
+            } else if (!txId.equals(versionChain.txId)) {
+                commitResult[0] = CommitResult.txMismatch(versionChain.txId);
+
+                return versionChain;
+            }
+
+            commitResult[0] = CommitResult.success();
+
+            return resolveCommittedVersionChain(VersionChain.forCommitted(rowId, timestamp, versionChain));
+        });
+
+        CommitResult res = commitResult[0];
+
+        assert res != null : "rowId=" + rowId + ", timestamp=" + timestamp + ", txId=" + txId;
+
+        return res;
+    }
+
+    @Override
+    public synchronized AddWriteCommittedResult addWriteCommitted(
+            RowId rowId,
+            @Nullable BinaryRow row,
+            HybridTimestamp commitTimestamp
+    ) throws StorageException {
+        assert rowId.partitionId() == partitionId : "rowId=" + rowId + ", rowIsTombstone=" + (row == null)
+                + ", commitTimestamp=" + commitTimestamp;
+
+        checkStorageClosed();
+
+        AddWriteCommittedResult[] addWriteCommittedResult = {null};
+
+        map.compute(rowId, (ignored, versionChain) -> {
+            if (versionChain != null && versionChain.isWriteIntent()) {
+                addWriteCommittedResult[0] = AddWriteCommittedResult.writeIntentExists(
+                        versionChain.txId,
+                        latestCommitTimestamp(versionChain)
+                );
+
+                return versionChain;
+            }
+
+            addWriteCommittedResult[0] = AddWriteCommittedResult.success();
+
+            return resolveCommittedVersionChain(new VersionChain(
+                    rowId,
+                    row,
+                    commitTimestamp,
+                    null,
+                    null,
+                    ReadResult.UNDEFINED_COMMIT_PARTITION_ID,
+                    versionChain
+            ));
+        });
+
+        AddWriteCommittedResult res = addWriteCommittedResult[0];
+
+        assert res != null : "rowId=" + rowId + ", rowIsTombstone=" + (row == null) + ", commitTimestamp=" + commitTimestamp;
+
+        return res;
+    }
+
+    private @Nullable VersionChain resolveCommittedVersionChain(VersionChain committedVersionChain) {
+        VersionChain nextChain = committedVersionChain.next;
+
+        boolean isNewValueTombstone = committedVersionChain.isTombstone();
+
+        if (nextChain != null) {
+            boolean isOldValueTombstone = nextChain.isTombstone();
+
+            if (isOldValueTombstone) {
+                if (isNewValueTombstone) {
+                    // Avoid creating tombstones for tombstones.
+                    return nextChain;
+                }
+
+                ESTIMATED_SIZE_UPDATER.incrementAndGet(this);
+            } else if (isNewValueTombstone) {
+                ESTIMATED_SIZE_UPDATER.decrementAndGet(this);
+            }
+
+            // Calling it from the compute is fine. Concurrent writes of the same row are impossible, and if we call the compute closure
+            // several times, the same tuple will be inserted into the GC queue (timestamp and rowId don't change in this case).
+            if (gcQueue.add(committedVersionChain)) {
+                GC_QUEUE_SIZE_UPDATER.incrementAndGet(this);
+            }
+        } else {
+            if (isNewValueTombstone) {
+                // If there is only one version, and it is a tombstone, then remove the chain.
+                return null;
+            }
+
+            ESTIMATED_SIZE_UPDATER.incrementAndGet(this);
+
+            mergeCandidates.add(committedVersionChain.rowId);
+        }
+
+        return committedVersionChain;
+    }
+
+    @Override
+    public ReadResult read(RowId rowId, HybridTimestamp timestamp) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
+
+        VersionChain versionChain = map.get(rowId);
+
+        if (versionChain == null) {
+            return ReadResult.empty(rowId);
+        }
+
+        return read(versionChain, timestamp, null);
+    }
+
+    /**
+     * Reads the value from the version chain using either transaction id or timestamp.
+     *
+     * @param versionChain Version chain.
+     * @param timestamp Timestamp or {@code null} if transaction id is defined.
+     * @param txId Transaction id or {@code null} if timestamp is defined.
+     * @return Read result.
+     */
+    private static ReadResult read(
+            VersionChain versionChain,
+            @Nullable HybridTimestamp timestamp,
+            @Nullable UUID txId
+    ) {
+        assert timestamp == null ^ txId == null;
+
+        if (timestamp == null) {
+            // Search by transaction id.
+
+            if (versionChain.txId != null && !versionChain.txId.equals(txId)) {
+                throw new TxIdMismatchException(txId, versionChain.txId);
+            }
+
+            return versionChainToReadResult(versionChain, true);
+        }
+
+        VersionChain cur = versionChain;
+
+        if (cur.isWriteIntent()) {
+            // We have a write-intent.
+            if (cur.next == null) {
+                // We *only* have a write-intent, return it.
+                return ReadResult.createFromWriteIntent(cur.rowId, cur.row, cur.txId, cur.commitZoneId, cur.commitPartitionId, null);
+            }
+
+            // Move to first commit.
+            cur = cur.next;
+        }
+
+        return walkVersionChain(versionChain, timestamp, cur);
+    }
+
+    private static ReadResult versionChainToReadResult(VersionChain versionChain, boolean fillLastCommittedTs) {
+        if (versionChain.isWriteIntent()) {
+            VersionChain next = versionChain.next;
+
+            return ReadResult.createFromWriteIntent(
+                    versionChain.rowId,
+                    versionChain.row,
+                    versionChain.txId,
+                    versionChain.commitZoneId,
+                    versionChain.commitPartitionId, fillLastCommittedTs && next != null ? next.ts : null
+            );
+        }
+
+        return ReadResult.createFromCommitted(versionChain.rowId, versionChain.row(), versionChain.ts);
+    }
+
+    /**
+     * Walks version chain to find a row by timestamp. See {@link MvPartitionStorage#read(RowId, HybridTimestamp)} for details.
+     *
+     * @param chainHead Version chain head.
+     * @param timestamp Timestamp.
+     * @param firstCommit First commit chain element.
+     * @return Read result.
+     */
+    private static ReadResult walkVersionChain(VersionChain chainHead, HybridTimestamp timestamp, VersionChain firstCommit) {
+        boolean hasWriteIntent = chainHead.ts == null;
+
+        if (hasWriteIntent && timestamp.compareTo(firstCommit.ts) > 0) {
+            // It's the latest commit in chain, query ts is greater than commit ts and there is a write-intent.
+            // So we just return write-intent.
+            return ReadResult.createFromWriteIntent(
+                    chainHead.rowId,
+                    chainHead.row,
+                    chainHead.txId,
+                    chainHead.commitZoneId,
+                    chainHead.commitPartitionId,
+                    firstCommit.ts);
+        }
+
+        VersionChain cur = committedVersion(firstCommit, timestamp);
+
+        return cur == null ? ReadResult.empty(chainHead.rowId) : ReadResult.createFromCommitted(cur.rowId, cur.row(), cur.ts);
+    }
+
+    /** Returns the newest committed version that is not newer than the timestamp, starting with the given one. */
+    private static @Nullable VersionChain committedVersion(@Nullable VersionChain firstCommit, HybridTimestamp timestamp) {
+        for (VersionChain cur = firstCommit; cur != null; cur = cur.next) {
+            if (cur.ts != null && timestamp.compareTo(cur.ts) >= 0) {
+                return cur;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public Cursor<ReadResult> scanVersions(RowId rowId) throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return new ScanVersionsCursor(rowId);
+    }
+
+    /**
+     * Gets amount of pending cursors.
+     *
+     * @return Amount of pending cursors.
+     */
+    public int pendingCursors() {
+        return pendingCursors.get();
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return new ScanCursor(timestamp, null);
+    }
+
+    /**
+     * Same as {@link #scan(HybridTimestamp)}, but with a projection and a filter pushed down to the storage.
+     *
+     * <p>Committed rows of {@link PartitionScanOptions#schemaVersion()} that don't match the predicates are skipped, and those that
+     * match only contain {@link PartitionScanOptions#requiredColumns() required columns}, other columns are {@code null}s. Rows of other
+     * schema versions and write intents are returned as is. Note that {@link PartitionTimestampCursor#committed} of the cursor always
+     * returns full rows.
+     *
+     * @param timestamp Timestamp.
+     * @param options Projection and filter.
+     * @return Cursor.
+     */
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, PartitionScanOptions options) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return new ScanCursor(timestamp, options);
+    }
+
+    @Override
+    public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return map.ceilingKey(lowerBound);
+    }
+
+    @Override
+    public @Nullable RowId highestRowId() throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return map.floorKey(RowId.highestRowId(partitionId));
+    }
+
+    @Override
+    public List<RowMeta> rowsStartingWith(RowId lowerBoundInclusive, RowId upperBoundInclusive, int limit) throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        List<RowMeta> result = new ArrayList<>();
+        RowId currentLowerBound = lowerBoundInclusive;
+        for (int i = 0; i < limit; i++) {
+            RowMeta row = closestRow(currentLowerBound);
+
+            if (row == null || row.rowId().compareTo(upperBoundInclusive) > 0) {
+                break;
+            }
+
+            result.add(row);
+            currentLowerBound = row.rowId().increment();
+
+            if (currentLowerBound == null) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    private @Nullable RowMeta closestRow(RowId lowerBound) throws StorageException {
+        Entry<RowId, VersionChain> entry = map.ceilingEntry(lowerBound);
+        if (entry == null) {
+            return null;
+        }
+
+        VersionChain versionChain = entry.getValue();
+
+        HybridTimestamp newestCommitTimestamp = null;
+
+        if (versionChain.isWriteIntent() && versionChain.next != null) {
+            newestCommitTimestamp = versionChain.next.ts;
+        }
+
+        return new RowMeta(
+                versionChain.rowId,
+                versionChain.txId,
+                versionChain.commitZoneId,
+                versionChain.commitPartitionId,
+                newestCommitTimestamp
+        );
+    }
+
+    @Override
+    public synchronized List<GcEntry> peek(HybridTimestamp lowWatermark, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        var res = new ArrayList<GcEntry>(count);
+
+        Iterator<VersionChain> it = gcQueue.iterator();
+
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            VersionChain next = it.next();
+
+            if (next.ts.compareTo(lowWatermark) > 0) {
+                break;
+            }
+
+            res.add(next);
+        }
+
+        return res;
+    }
+
+    @Override
+    public synchronized @Nullable BinaryRow vacuum(GcEntry entry) {
+        assert THREAD_LOCAL_LOCKER.get() != null;
+        assert THREAD_LOCAL_LOCKER.get().isLocked(entry.getRowId());
+
+        checkStorageClosedOrInProcessOfRebalance();
+
+        VersionChain dequeuedVersionChain;
+
+        try {
+            dequeuedVersionChain = gcQueue.first();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+
+        if (dequeuedVersionChain != entry) {
+            return null;
+        }
+
+        RowId rowId = dequeuedVersionChain.rowId;
+
+        VersionChain versionChainToRemove = dequeuedVersionChain.next;
+        assert versionChainToRemove != null;
+        assert versionChainToRemove.next == null;
+
+        dequeuedVersionChain.next = null;
+        removeFromGcQueue(dequeuedVersionChain);
+
+        // Tombstones must be deleted.
+        if (dequeuedVersionChain.isTombstone()) {
+            map.compute(rowId, (ignored, head) -> {
+                if (head == dequeuedVersionChain) {
+                    return null;
+                }
+
+                for (VersionChain cur = head; cur != null; cur = cur.next) {
+                    if (cur.next == dequeuedVersionChain) {
+                        cur.next = null;
+
+                        removeFromGcQueue(cur);
+
+                        mergeCandidates.add(rowId);
+                    }
+                }
+
+                return head;
+            });
+        } else {
+            mergeCandidates.add(rowId);
+        }
+
+        BinaryRow removedRow = versionChainToRemove.row();
+
+        if (versionChainToRemove.segment != null) {
+            versionChainToRemove.segment.markRemoved();
+        }
+
+        return removedRow;
+    }
+
+    private void removeFromGcQueue(VersionChain versionChain) {
+        if (gcQueue.remove(versionChain)) {
+            GC_QUEUE_SIZE_UPDATER.decrementAndGet(this);
+        }
+    }
+
+    /**
+     * Moves rows of committed single-version chains from the delta store into column segments, and rewrites segments that lost most of
+     * their rows. Safe to call concurrently with reads and writes: segments are built without holding any locks, and version chains that
+     * have been modified in the meantime are simply left in the delta store.
+     *
+     * @return Number of rows that have been moved into new segments.
+     */
+    public int mergeDelta() {
+        if (closed || destroyed || rebalance) {
+            return 0;
+        }
+
+        Set<RowId> rowIds = new TreeSet<>();
+
+        for (Iterator<RowId> it = mergeCandidates.iterator(); it.hasNext(); ) {
+            rowIds.add(it.next());
+
+            it.remove();
+        }
+
+        for (Iterator<Entry<ColumnSegment, RowId[]>> it = segments.entrySet().iterator(); it.hasNext(); ) {
+            Entry<ColumnSegment, RowId[]> entry = it.next();
+
+            ColumnSegment segment = entry.getKey();
+
+            if (segment.liveRowCount() == 0) {
+                it.remove();
+            } else if (segment.sparse() || (!rowIds.isEmpty() && segment.rowCount() * 2 < segmentRows)) {
+                // Small segments are only merged with new rows, otherwise they would be rewritten over and over again.
+                rowIds.addAll(Arrays.asList(entry.getValue()));
+            }
+        }
+
+        Map<Integer, List<VersionChain>> chainsBySchemaVersion = new HashMap<>();
+
+        for (RowId rowId : rowIds) {
+            VersionChain chain = map.get(rowId);
+
+            if (chain != null && chain.mergeable()) {
+                chainsBySchemaVersion.computeIfAbsent(chain.schemaVersion(), v -> new ArrayList<>()).add(chain);
+            }
+        }
+
+        int mergedRows = 0;
+
+        for (Entry<Integer, List<VersionChain>> entry : chainsBySchemaVersion.entrySet()) {
+            List<VersionChain> chains = entry.getValue();
+
+            for (int from = 0; from < chains.size(); from += segmentRows) {
+                List<VersionChain> segmentChains = chains.subList(from, Math.min(from + segmentRows, chains.size()));
+
+                var builder = new ColumnSegmentBuilder(entry.getKey(), maxDictionarySize);
+
+                for (VersionChain chain : segmentChains) {
+                    builder.add(chain.row());
+                }
+
+                mergedRows += installSegment(builder.build(), segmentChains);
+            }
+        }
+
+        return mergedRows;
+    }
+
+    /**
+     * Replaces version chains with the ones that reference the segment.
+     *
+     * @param segment Segment built out of the rows of the chains, in the same order.
+     * @param chains Version chains.
+     * @return Number of replaced chains.
+     */
+    private synchronized int installSegment(ColumnSegment segment, List<VersionChain> chains) {
+        if (closed || destroyed || rebalance) {
+            return 0;
+        }
+
+        RowId[] rowIds = new RowId[chains.size()];
+
+        int replaced = 0;
+
+        for (int i = 0; i < chains.size(); i++) {
+            VersionChain chain = chains.get(i);
+
+            rowIds[i] = chain.rowId;
+
+            // Chains don't override "equals", so the replacement only happens if the chain hasn't been modified since it was read.
+            if (chain.mergeable() && map.replace(chain.rowId, chain, VersionChain.forSegment(chain, segment, i))) {
+                if (chain.segment != null) {
+                    chain.segment.markRemoved();
+                }
+
+                replaced++;
+            } else {
+                segment.markRemoved();
+            }
+        }
+
+        if (replaced > 0) {
+            segments.put(segment, rowIds);
+        }
+
+        return replaced;
+    }
+
+    /** Returns the number of column segments that still store rows of the partition. */
+    int segmentCount() {
+        return (int) segments.keySet().stream().filter(segment -> segment.liveRowCount() > 0).count();
+    }
+
+    @Override
+    public synchronized void updateLease(LeaseInfo leaseInfo) {
+        checkStorageClosed();
+
+        LeaseInfo thisLeaseInfo = this.leaseInfo;
+
+        if (thisLeaseInfo != null && leaseInfo.leaseStartTime() <= thisLeaseInfo.leaseStartTime()) {
+            return;
+        }
+
+        this.leaseInfo = leaseInfo;
+    }
+
+    @Override
+    public @Nullable LeaseInfo leaseInfo() {
+        checkStorageClosed();
+
+        return leaseInfo;
+    }
+
+    @Override
+    public long estimatedSize() {
+        checkStorageClosed();
+
+        return estimatedSize;
+    }
+
+    @Override
+    public long estimatedGcQueueSize() {
+        checkStorageClosed();
+
+        return gcQueueSize;
+    }
+
+    @Override
+    public Cursor<RowId> scanWriteIntents() {
+        return Cursor.fromBareIterator(emptyIterator());
+    }
+
+    @Override
+    public void close() {
+        if (rebalance) {
+            throw new StorageRebalanceException();
+        }
+
+        closed = true;
+
+        clear0();
+    }
+
+    /**
+     * Destroys this storage.
+     */
+    public void destroy() {
+        destroyed = true;
+
+        clear0();
+    }
+
+    /** Removes all entries from this storage. */
+    public synchronized void clear() {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        clear0();
+    }
+
+    private synchronized void clear0() {
+        map.clear();
+
+        gcQueue.clear();
+        gcQueueSize = 0;
+
+        mergeCandidates.clear();
+        segments.clear();
+
+        lastAppliedIndex = 0;
+        lastAppliedTerm = 0;
+        estimatedSize = 0;
+        groupConfig = null;
+        leaseInfo = null;
+    }
+
+    private void checkStorageClosed() {
+        if (closed) {
+            throw new StorageClosedException();
+        }
+        if (destroyed) {
+            throw new StorageDestroyedException();
+        }
+    }
+
+    private void checkStorageClosedForRebalance() {
+        if (closed || destroyed) {
+            throw new StorageRebalanceException();
+        }
+    }
+
+    private void checkStorageInProcessOfRebalance() {
+        if (rebalance) {
+            throw new StorageRebalanceException();
+        }
+    }
+
+    private void checkStorageClosedOrInProcessOfRebalance() {
+        checkStorageClosed();
+        checkStorageInProcessOfRebalance();
+    }
+
+    void startRebalance() {
+        checkStorageClosedForRebalance();
+
+        rebalance = true;
+
+        clear0();
+
+        lastAppliedIndex = REBALANCE_IN_PROGRESS;
+        lastAppliedTerm = REBALANCE_IN_PROGRESS;
+    }
+
+    void abortRebalance() {
+        checkStorageClosedForRebalance();
+
+        if (!rebalance) {
+            return;
+        }
+
+        rebalance = false;
+
+        clear0();
+    }
+
+    void finishRebalance(MvPartitionMeta partitionMeta) {
+        checkStorageClosedForRebalance();
+
+        assert rebalance;
+
+        rebalance = false;
+
+        this.lastAppliedIndex = partitionMeta.lastAppliedIndex();
+        this.lastAppliedTerm = partitionMeta.lastAppliedTerm();
+        this.groupConfig = Arrays.copyOf(partitionMeta.groupConfig(), partitionMeta.groupConfig().length);
+        this.leaseInfo = partitionMeta.leaseInfo();
+    }
+
+    private class ScanCursor implements PartitionTimestampCursor {
+        private final HybridTimestamp timestamp;
+
+        private final @Nullable PartitionScanOptions options;
+
+        private final Iterator<VersionChain> iterator = map.values().iterator();
+
+        /** Whether a segment might contain rows matching the predicates, evaluated once per segment. */
+        private final Map<ColumnSegment, Boolean> segmentMatches = new IdentityHashMap<>();
+
+        private @Nullable VersionChain currentChain;
+
+        private @Nullable ReadResult currentReadResult;
+
+        private ScanCursor(HybridTimestamp timestamp, @Nullable PartitionScanOptions options) {
+            this.timestamp = timestamp;
+            this.options = options;
+
+            pendingCursors.incrementAndGet();
+        }
+
+        @Override
+        public @Nullable BinaryRow committed(HybridTimestamp timestamp) {
+            if (currentChain == null) {
+                throw new IllegalStateException();
+            }
+
+            return read(currentChain, timestamp, null).binaryRow();
+        }
+
+        @Override
+        public void close() {
+            pendingCursors.decrementAndGet();
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkStorageClosedOrInProcessOfRebalance();
+
+            if (currentReadResult != null) {
+                return true;
+            }
+
+            currentChain = null;
+
+            while (iterator.hasNext()) {
+                VersionChain chain = iterator.next();
+                ReadResult readResult = read(chain, timestamp, null);
+
+                if (options != null && !readResult.isWriteIntent() && !readResult.isEmpty()) {
+                    readResult = applyOptions(chain, readResult, options);
+                }
+
+                if (readResult != null && (!readResult.isEmpty() || readResult.isWriteIntent())) {
+                    currentChain = chain;
+                    currentReadResult = readResult;
+
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public ReadResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ReadResult res = currentReadResult;
+
+            assert res != null;
+
+            currentReadResult = null;
+
+            return res;
+        }
+
+        /**
+         * Applies the projection and the filter to a committed read result.
+         *
+         * @return Read result to return, {@code null} if the row must be skipped.
+         */
+        private @Nullable ReadResult applyOptions(VersionChain chain, ReadResult readResult, PartitionScanOptions options) {
+            VersionChain version = committedVersion(chain.isWriteIntent() ? chain.next : chain, timestamp);
+
+            assert version != null && !version.isTombstone() : "rowId=" + chain.rowId + ", timestamp=" + timestamp;
+
+            List<ColumnRangePredicate> predicates = options.predicates();
+
+            ColumnSegment segment = version.segment;
+
+            if (segment != null) {
+                if (segment.schemaVersion() != options.schemaVersion()) {
+                    return readResult;
+                }
+
+                boolean mayMatch = segmentMatches.computeIfAbsent(segment, s -> {
+                    boolean result = s.mayMatch(predicates);
+
+                    scanMetrics.onSegmentChecked(!result, s.liveRowCount());
+
+                    return result;
+                });
+
+                if (!mayMatch || !segment.matches(version.segmentPosition, predicates)) {
+                    return null;
+                }
+
+                // The row is assembled anew to leave out the columns that are not required.
+                return ReadResult.createFromCommitted(
+                        version.rowId,
+                        segment.row(version.segmentPosition, options.requiredColumns()),
+                        version.ts
+                );
+            }
+
+            BinaryRow row = version.row;
+
+            assert row != null;
+
+            if (row.schemaVersion() != options.schemaVersion() || predicates.isEmpty()) {
+                return readResult;
+            }
+
+            var layout = new BinaryTupleLayout(row.tupleSlice().slice().order(BinaryTupleParser.ORDER));
+
+            for (ColumnRangePredicate predicate : predicates) {
+                int column = predicate.column();
+
+                if (column < layout.elementCount()) {
+                    ByteBuffer value = layout.tuple().duplicate().position(layout.begin(column)).limit(layout.end(column)).slice();
+
+                    if (!predicate.test(value)) {
+                        return null;
+                    }
+                }
+            }
+
+            return readResult;
+        }
+    }
+
+    private class ScanVersionsCursor implements Cursor<ReadResult> {
+        private final RowId rowId;
+
+        @Nullable
+        private Boolean hasNext;
+
+        @Nullable
+        private VersionChain versionChain;
+
+        private ScanVersionsCursor(RowId rowId) {
+            this.rowId = rowId;
+        }
+
+        @Override
+        public void close() {
+            // No-op.
+        }
+
+        @Override
+        public boolean hasNext() {
+            advanceIfNeeded();
+
+            return hasNext;
+        }
+
+        @Override
+        public ReadResult next() {
+            advanceIfNeeded();
+
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+
+            hasNext = null;
+
+            return versionChainToReadResult(versionChain, false);
+        }
+
+        private void advanceIfNeeded() {
+            checkStorageClosedOrInProcessOfRebalance();
+
+            if (hasNext != null) {
+                return;
+            }
+
+            versionChain = versionChain == null ? map.get(rowId) : versionChain.next;
+
+            hasNext = versionChain != null;
+        }
+    }
+
+    private static @Nullable HybridTimestamp latestCommitTimestamp(VersionChain chain) {
+        VersionChain next = chain.next;
+
+        return next == null ? null : next.ts;
+    }
+}
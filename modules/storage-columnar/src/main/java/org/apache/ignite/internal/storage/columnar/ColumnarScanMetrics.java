@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of zone map pruning done by filtered scans of {@link ColumnarMvPartitionStorage}s of a table.
+ */
+public class ColumnarScanMetrics {
+    private final LongAdder segmentsChecked = new LongAdder();
+
+    private final LongAdder segmentsSkipped = new LongAdder();
+
+    private final LongAdder rowsSkipped = new LongAdder();
+
+    /** Returns the number of times a zone map of a segment was checked against scan predicates. */
+    public long segmentsChecked() {
+        return segmentsChecked.sum();
+    }
+
+    /** Returns the number of times a segment was skipped because its zone maps didn't match scan predicates. */
+    public long segmentsSkipped() {
+        return segmentsSkipped.sum();
+    }
+
+    /** Returns the number of rows that were skipped without being assembled, as a part of skipped segments. */
+    public long rowsSkipped() {
+        return rowsSkipped.sum();
+    }
+
+    void onSegmentChecked(boolean skipped, int liveRowCount) {
+        segmentsChecked.increment();
+
+        if (skipped) {
+            segmentsSkipped.increment();
+            rowsSkipped.add(liveRowCount);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar;
+
+import static java.util.Collections.emptySet;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.columnar.configuration.schema.ColumnarProfileView;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.configurations.StorageProfileView;
+import org.apache.ignite.internal.storage.engine.StorageEngine;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+
+/**
+ * In-memory storage engine that keeps committed rows column by column.
+ *
+ * <p>Writes land in a row-oriented delta store, which a background task periodically merges into immutable column segments, see
+ * {@link ColumnarMvPartitionStorage}. The engine is meant for analytical tables that are mostly scanned rather than accessed by key.
+ */
+public class ColumnarStorageEngine implements StorageEngine {
+    /** Engine name. */
+    public static final String ENGINE_NAME = "columnar";
+
+    private static final IgniteLogger LOG = Loggers.forClass(ColumnarStorageEngine.class);
+
+    private final String igniteInstanceName;
+
+    private final StorageConfiguration storageConfig;
+
+    private final Map<String, ColumnarProfileView> profiles = new ConcurrentHashMap<>();
+
+    private final Map<Integer, ColumnarTableStorage> tableStorages = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService mergeExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param igniteInstanceName Ignite instance name.
+     * @param storageConfig Storage engine and storage profiles configurations.
+     */
+    public ColumnarStorageEngine(String igniteInstanceName, StorageConfiguration storageConfig) {
+        this.igniteInstanceName = igniteInstanceName;
+        this.storageConfig = storageConfig;
+    }
+
+    @Override
+    public String name() {
+        return ENGINE_NAME;
+    }
+
+    @Override
+    public void start() throws StorageException {
+        for (StorageProfileView storageProfileView : storageConfig.profiles().value()) {
+            if (storageProfileView instanceof ColumnarProfileView) {
+                profiles.put(storageProfileView.name(), (ColumnarProfileView) storageProfileView);
+            }
+        }
+
+        mergeExecutor = Executors.newSingleThreadScheduledExecutor(
+                IgniteThreadFactory.create(igniteInstanceName, "columnar-segment-merge", LOG)
+        );
+    }
+
+    @Override
+    public void stop() throws StorageException {
+        ScheduledExecutorService mergeExecutor = this.mergeExecutor;
+
+        if (mergeExecutor != null) {
+            shutdownAndAwaitTermination(mergeExecutor, 30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public boolean isVolatile() {
+        return true;
+    }
+
+    @Override
+    public ColumnarTableStorage createMvTable(
+            StorageTableDescriptor tableDescriptor,
+            StorageIndexDescriptorSupplier indexDescriptorSupplier
+    ) throws StorageException {
+        ColumnarProfileView profile = profiles.get(tableDescriptor.getStorageProfile());
+
+        assert profile != null : "tableId=" + tableDescriptor.getId() + ", profile=" + tableDescriptor.getStorageProfile();
+
+        int tableId = tableDescriptor.getId();
+
+        var tableStorage = new ColumnarTableStorage(
+                tableDescriptor,
+                profile,
+                mergeExecutor,
+                storage -> tableStorages.remove(tableId, storage)
+        );
+
+        tableStorages.put(tableId, tableStorage);
+
+        return tableStorage;
+    }
+
+    @Override
+    public void destroyMvTable(int tableId) {
+        ColumnarTableStorage tableStorage = tableStorages.remove(tableId);
+
+        if (tableStorage != null) {
+            // Cancels the merge task and releases the segments and the delta stores of all partitions.
+            tableStorage.destroy().join();
+        }
+    }
+
+    @Override
+    public boolean supportsScanPushdown() {
+        return true;
+    }
+
+    @Override
+    public void addTableMetrics(StorageTableDescriptor tableDescriptor, StorageEngineTablesMetricSource metricSource) {
+        ColumnarTableStorage tableStorage = tableStorages.get(tableDescriptor.getId());
+
+        assert tableStorage != null : "Adding metrics for a non-existent table: " + tableDescriptor;
+
+        ColumnarScanMetrics scanMetrics = tableStorage.scanMetrics();
+
+        metricSource.addMetric(new LongGauge(
+                "ZoneMapSegmentsChecked",
+                String.format("Number of column segments whose zone maps were checked by filtered scans of \"%s\" storage engine.",
+                        ENGINE_NAME),
+                scanMetrics::segmentsChecked
+        ));
+
+        metricSource.addMetric(new LongGauge(
+                "ZoneMapSegmentsSkipped",
+                String.format("Number of column segments skipped by filtered scans of \"%s\" storage engine because of their zone maps.",
+                        ENGINE_NAME),
+                scanMetrics::segmentsSkipped
+        ));
+
+        metricSource.addMetric(new LongGauge(
+                "ZoneMapRowsSkipped",
+                String.format("Number of rows skipped by filtered scans of \"%s\" storage engine as a part of skipped column segments.",
+                        ENGINE_NAME),
+                scanMetrics::rowsSkipped
+        ));
+    }
+
+    @Override
+    public long requiredOffHeapMemorySize() {
+        // Segments and the delta store live on heap.
+        return 0;
+    }
+
+    @Override
+    public Set<Integer> tableIdsOnDisk() {
+        return emptySet();
+    }
+}
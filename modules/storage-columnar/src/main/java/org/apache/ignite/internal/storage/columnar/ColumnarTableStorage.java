@@ -0,0 +1,412 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar;
+
+import static java.util.concurrent.CompletableFuture.allOf;
+import static org.apache.ignite.internal.storage.util.StorageUtils.createMissingMvPartitionErrorMessage;
+import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
+import static org.apache.ignite.internal.storage.util.StorageUtils.transitionToClosedState;
+import static org.apache.ignite.internal.storage.util.StorageUtils.transitionToDestroyedState;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.lang.IgniteStringFormatter;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.columnar.configuration.schema.ColumnarProfileView;
+import org.apache.ignite.internal.storage.columnar.index.AbstractColumnarIndexStorage;
+import org.apache.ignite.internal.storage.columnar.index.ColumnarHashIndexStorage;
+import org.apache.ignite.internal.storage.columnar.index.ColumnarSortedIndexStorage;
+import org.apache.ignite.internal.storage.engine.MvPartitionMeta;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.IndexStorage;
+import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
+import org.apache.ignite.internal.storage.lease.LeaseInfo;
+import org.apache.ignite.internal.storage.util.MvPartitionStorages;
+import org.apache.ignite.internal.storage.util.StorageState;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Table storage implementation for {@link ColumnarStorageEngine}.
+ */
+public class ColumnarTableStorage implements MvTableStorage {
+    private static final IgniteLogger LOG = Loggers.forClass(ColumnarTableStorage.class);
+
+    private final MvPartitionStorages<ColumnarMvPartitionStorage> mvPartitionStorages;
+
+    private final Map<Integer, SortedIndices> sortedIndicesById = new ConcurrentHashMap<>();
+
+    private final Map<Integer, HashIndices> hashIndicesById = new ConcurrentHashMap<>();
+
+    private final StorageTableDescriptor tableDescriptor;
+
+    private final ColumnarProfileView profile;
+
+    private final ColumnarScanMetrics scanMetrics = new ColumnarScanMetrics();
+
+    private final ScheduledFuture<?> mergeTask;
+
+    private final Consumer<ColumnarTableStorage> onDestroy;
+
+    private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
+
+    private final AtomicReference<StorageState> state = new AtomicReference<>(StorageState.RUNNABLE);
+
+    /** Sorted index storages of all partitions. */
+    private static class SortedIndices {
+        private final StorageSortedIndexDescriptor descriptor;
+
+        final Map<Integer, ColumnarSortedIndexStorage> storageByPartitionId = new ConcurrentHashMap<>();
+
+        SortedIndices(StorageSortedIndexDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        void getOrCreateStorage(int partitionId) {
+            storageByPartitionId.computeIfAbsent(partitionId, id -> new ColumnarSortedIndexStorage(id, descriptor));
+        }
+    }
+
+    /** Hash index storages of all partitions. */
+    private static class HashIndices {
+        private final StorageHashIndexDescriptor descriptor;
+
+        final Map<Integer, ColumnarHashIndexStorage> storageByPartitionId = new ConcurrentHashMap<>();
+
+        HashIndices(StorageHashIndexDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        void getOrCreateStorage(int partitionId) {
+            storageByPartitionId.computeIfAbsent(partitionId, id -> new ColumnarHashIndexStorage(id, descriptor));
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableDescriptor Table descriptor.
+     * @param profile Storage profile of the table.
+     * @param mergeExecutor Executor to merge the delta stores of the partitions into column segments with.
+     * @param onDestroy Callback invoked once the storage has been destroyed.
+     */
+    public ColumnarTableStorage(
+            StorageTableDescriptor tableDescriptor,
+            ColumnarProfileView profile,
+            ScheduledExecutorService mergeExecutor,
+            Consumer<ColumnarTableStorage> onDestroy
+    ) {
+        this.tableDescriptor = tableDescriptor;
+        this.profile = profile;
+        this.onDestroy = onDestroy;
+
+        mvPartitionStorages = new MvPartitionStorages<>(tableDescriptor.getId(), tableDescriptor.getPartitions());
+
+        long mergeIntervalMillis = profile.mergeIntervalMillis();
+
+        mergeTask = mergeExecutor.scheduleWithFixedDelay(this::mergeDelta, mergeIntervalMillis, mergeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void mergeDelta() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            mvPartitionStorages.stream().forEach(ColumnarMvPartitionStorage::mergeDelta);
+        } catch (Throwable t) {
+            // The task must not die, otherwise the delta stores would grow forever.
+            LOG.error("Error while merging rows into column segments [{}]", t, createStorageInfo());
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    @Override
+    public CompletableFuture<MvPartitionStorage> createMvPartition(int partitionId) {
+        return busy(() -> mvPartitionStorages.create(
+                partitionId,
+                id -> new ColumnarMvPartitionStorage(id, profile.segmentRows(), profile.maxDictionarySize(), scanMetrics)
+        ));
+    }
+
+    /** Returns zone map pruning counters of the table. */
+    public ColumnarScanMetrics scanMetrics() {
+        return scanMetrics;
+    }
+
+    @Override
+    public @Nullable ColumnarMvPartitionStorage getMvPartition(int partitionId) {
+        return busy(() -> mvPartitionStorages.get(partitionId));
+    }
+
+    @Override
+    public CompletableFuture<Void> destroyPartition(int partitionId) {
+        if (!busyLock.enterBusy()) {
+            return nullCompletedFuture();
+        }
+
+        try {
+            return mvPartitionStorages.destroy(partitionId, this::destroyPartition);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private CompletableFuture<Void> destroyPartition(ColumnarMvPartitionStorage mvPartitionStorage) {
+        mvPartitionStorage.destroy();
+
+        int partitionId = mvPartitionStorage.partitionId();
+
+        for (HashIndices hashIndices : hashIndicesById.values()) {
+            ColumnarHashIndexStorage removedHashIndexStorage = hashIndices.storageByPartitionId.remove(partitionId);
+
+            if (removedHashIndexStorage != null) {
+                removedHashIndexStorage.destroy();
+            }
+        }
+
+        for (SortedIndices sortedIndices : sortedIndicesById.values()) {
+            ColumnarSortedIndexStorage removedSortedIndexStorage = sortedIndices.storageByPartitionId.remove(partitionId);
+
+            if (removedSortedIndexStorage != null) {
+                removedSortedIndexStorage.destroy();
+            }
+        }
+
+        return nullCompletedFuture();
+    }
+
+    @Override
+    public void createSortedIndex(int partitionId, StorageSortedIndexDescriptor indexDescriptor) {
+        busy(() -> {
+            if (mvPartitionStorages.get(partitionId) != null) {
+                sortedIndicesById.computeIfAbsent(indexDescriptor.id(), id -> new SortedIndices(indexDescriptor))
+                        .getOrCreateStorage(partitionId);
+            }
+        });
+    }
+
+    @Override
+    public void createHashIndex(int partitionId, StorageHashIndexDescriptor indexDescriptor) {
+        busy(() -> {
+            if (mvPartitionStorages.get(partitionId) != null) {
+                hashIndicesById.computeIfAbsent(indexDescriptor.id(), id -> new HashIndices(indexDescriptor))
+                        .getOrCreateStorage(partitionId);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> destroyIndex(int indexId) {
+        if (!busyLock.enterBusy()) {
+            return nullCompletedFuture();
+        }
+
+        try {
+            HashIndices hashIndices = hashIndicesById.remove(indexId);
+
+            if (hashIndices != null) {
+                hashIndices.storageByPartitionId.values().forEach(ColumnarHashIndexStorage::destroy);
+            }
+
+            SortedIndices sortedIndices = sortedIndicesById.remove(indexId);
+
+            if (sortedIndices != null) {
+                sortedIndices.storageByPartitionId.values().forEach(ColumnarSortedIndexStorage::destroy);
+            }
+
+            return nullCompletedFuture();
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    @Override
+    public boolean isVolatile() {
+        return true;
+    }
+
+    @Override
+    public void close() throws StorageException {
+        if (!transitionToTerminalState(false)) {
+            return;
+        }
+
+        try {
+            closeAllManually(mvPartitionStorages.getAllForCloseOrDestroy().get(10, TimeUnit.SECONDS));
+        } catch (Exception e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private boolean transitionToTerminalState(boolean destroy) {
+        boolean transitionedToTerminalState = destroy
+                ? transitionToDestroyedState(state)
+                : transitionToClosedState(state, this::createStorageInfo);
+
+        if (!transitionedToTerminalState) {
+            return false;
+        }
+
+        mergeTask.cancel(false);
+
+        busyLock.block();
+
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Void> destroy() {
+        if (!transitionToTerminalState(true)) {
+            return nullCompletedFuture();
+        }
+
+        return mvPartitionStorages.getAllForCloseOrDestroy()
+                .thenCompose(mvStorages -> allOf(mvStorages.stream().map(this::destroyPartition).toArray(CompletableFuture[]::new)))
+                .whenComplete((v, e) -> onDestroy.accept(this));
+    }
+
+    @Override
+    public CompletableFuture<Void> startRebalancePartition(int partitionId) {
+        return busy(() -> mvPartitionStorages.startRebalance(partitionId, mvPartitionStorage -> {
+            mvPartitionStorage.startRebalance();
+
+            indexStorages(partitionId).forEach(AbstractColumnarIndexStorage::startRebalance);
+
+            return nullCompletedFuture();
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> abortRebalancePartition(int partitionId) {
+        return busy(() -> mvPartitionStorages.abortRebalance(partitionId, mvPartitionStorage -> {
+            mvPartitionStorage.abortRebalance();
+
+            indexStorages(partitionId).forEach(AbstractColumnarIndexStorage::abortRebalance);
+
+            return nullCompletedFuture();
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> finishRebalancePartition(int partitionId, MvPartitionMeta partitionMeta) {
+        return busy(() -> mvPartitionStorages.finishRebalance(partitionId, mvPartitionStorage -> {
+            mvPartitionStorage.finishRebalance(partitionMeta);
+
+            LeaseInfo leaseInfo = partitionMeta.leaseInfo();
+
+            if (leaseInfo != null) {
+                mvPartitionStorage.updateLease(leaseInfo);
+            }
+
+            indexStorages(partitionId).forEach(AbstractColumnarIndexStorage::finishRebalance);
+
+            return nullCompletedFuture();
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> clearPartition(int partitionId) {
+        return busy(() -> mvPartitionStorages.clear(partitionId, mvPartitionStorage -> {
+            mvPartitionStorage.clear();
+
+            indexStorages(partitionId).forEach(AbstractColumnarIndexStorage::clear);
+
+            return nullCompletedFuture();
+        }));
+    }
+
+    @Override
+    public @Nullable IndexStorage getIndex(int partitionId, int indexId) {
+        return busy(() -> {
+            if (mvPartitionStorages.get(partitionId) == null) {
+                throw new StorageException(createMissingMvPartitionErrorMessage(partitionId));
+            }
+
+            HashIndices hashIndices = hashIndicesById.get(indexId);
+
+            if (hashIndices != null) {
+                return hashIndices.storageByPartitionId.get(partitionId);
+            }
+
+            SortedIndices sortedIndices = sortedIndicesById.get(indexId);
+
+            if (sortedIndices != null) {
+                return sortedIndices.storageByPartitionId.get(partitionId);
+            }
+
+            return null;
+        });
+    }
+
+    private Stream<AbstractColumnarIndexStorage> indexStorages(int partitionId) {
+        Stream<AbstractColumnarIndexStorage> hashIndexStorages = hashIndicesById.values().stream()
+                .map(hashIndices -> hashIndices.storageByPartitionId.get(partitionId));
+
+        Stream<AbstractColumnarIndexStorage> sortedIndexStorages = sortedIndicesById.values().stream()
+                .map(sortedIndices -> sortedIndices.storageByPartitionId.get(partitionId));
+
+        return Stream.concat(hashIndexStorages, sortedIndexStorages).filter(Objects::nonNull);
+    }
+
+    @Override
+    public StorageTableDescriptor getTableDescriptor() {
+        return tableDescriptor;
+    }
+
+    private <V> V busy(Supplier<V> supplier) {
+        if (!busyLock.enterBusy()) {
+            throwExceptionDependingOnStorageState(state.get(), createStorageInfo());
+        }
+
+        try {
+            return supplier.get();
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private void busy(Runnable action) {
+        busy(() -> {
+            action.run();
+
+            return null;
+        });
+    }
+
+    private String createStorageInfo() {
+        return IgniteStringFormatter.format("tableId={}", tableDescriptor.getId());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.configuration.schema;
+
+import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
+import org.apache.ignite.internal.storage.columnar.ColumnarStorageEngine;
+import org.apache.ignite.internal.storage.configurations.StorageProfileConfigurationSchema;
+
+/**
+ * Columnar in-memory storage profile configuration schema.
+ */
+@PolymorphicConfigInstance(ColumnarStorageEngine.ENGINE_NAME)
+public class ColumnarProfileConfigurationSchema extends StorageProfileConfigurationSchema {
+    /** Maximum number of rows in a column segment. */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public int segmentRows = 8192;
+
+    /**
+     * Maximum number of distinct values of a column in a segment that are still dictionary-encoded, {@code 0} disables dictionary
+     * encoding.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0, max = 65536)
+    public int maxDictionarySize = 4096;
+
+    /** Interval between merges of recently committed rows into column segments, in milliseconds. */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public long mergeIntervalMillis = 1000;
+}
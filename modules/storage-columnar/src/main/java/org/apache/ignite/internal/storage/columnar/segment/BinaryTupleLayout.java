@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.HEADER_SIZE;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.flagsToEntrySize;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.binarytuple.BinaryTupleFormatException;
+
+/**
+ * Offset table of a binary tuple that was read without its schema.
+ *
+ * <p>Storages only see rows as opaque binary tuples, while splitting a tuple into columns requires the number of its elements. The
+ * number is not stored explicitly, but it can be recovered from the tuple itself: the last entry of the offset table always points
+ * to the end of the tuple. Entries that precede it can't point past the end of the value area, so the smallest {@code N}, for which
+ * {@code HEADER_SIZE + N * entrySize + offset[N - 1]} equals the tuple size, is the number of elements.
+ */
+public class BinaryTupleLayout {
+    private final ByteBuffer tuple;
+
+    private final int entrySize;
+
+    private final int elementCount;
+
+    private final int valueBase;
+
+    /**
+     * Constructor.
+     *
+     * @param tuple Binary tuple, must start at position {@code 0} and end at the buffer's limit.
+     */
+    public BinaryTupleLayout(ByteBuffer tuple) {
+        this.tuple = tuple;
+        this.entrySize = flagsToEntrySize(tuple.get(0));
+        this.elementCount = elementCount(tuple, entrySize);
+        this.valueBase = HEADER_SIZE + elementCount * entrySize;
+    }
+
+    private static int elementCount(ByteBuffer tuple, int entrySize) {
+        int size = tuple.limit();
+
+        if (size == HEADER_SIZE) {
+            return 0;
+        }
+
+        for (int count = 1; HEADER_SIZE + count * entrySize <= size; count++) {
+            int lastOffset = readOffset(tuple, HEADER_SIZE + (count - 1) * entrySize, entrySize);
+
+            if (HEADER_SIZE + count * entrySize + lastOffset == size) {
+                return count;
+            }
+        }
+
+        throw new BinaryTupleFormatException("Corrupted offset table");
+    }
+
+    /** Returns the header byte of the tuple. */
+    public byte header() {
+        return tuple.get(0);
+    }
+
+    /** Returns the number of tuple elements. */
+    public int elementCount() {
+        return elementCount;
+    }
+
+    /** Returns the absolute position of the first byte of the element. */
+    public int begin(int index) {
+        return index == 0 ? valueBase : valueBase + readOffset(tuple, HEADER_SIZE + (index - 1) * entrySize, entrySize);
+    }
+
+    /** Returns the absolute position right after the last byte of the element. */
+    public int end(int index) {
+        return valueBase + readOffset(tuple, HEADER_SIZE + index * entrySize, entrySize);
+    }
+
+    /** Returns the tuple buffer. */
+    public ByteBuffer tuple() {
+        return tuple;
+    }
+
+    static int readOffset(ByteBuffer tuple, int index, int entrySize) {
+        switch (entrySize) {
+            case Byte.BYTES:
+                return Byte.toUnsignedInt(tuple.get(index));
+
+            case Short.BYTES:
+                return Short.toUnsignedInt(tuple.getShort(index));
+
+            case Integer.BYTES:
+                return tuple.getInt(index);
+
+            default:
+                throw new BinaryTupleFormatException("Unsupported offset table entry size: " + entrySize);
+        }
+    }
+
+    static void writeOffset(ByteBuffer tuple, int index, int entrySize, int offset) {
+        switch (entrySize) {
+            case Byte.BYTES:
+                tuple.put(index, (byte) offset);
+                break;
+
+            case Short.BYTES:
+                tuple.putShort(index, (short) offset);
+                break;
+
+            case Integer.BYTES:
+                tuple.putInt(index, offset);
+                break;
+
+            default:
+                throw new BinaryTupleFormatException("Unsupported offset table entry size: " + entrySize);
+        }
+    }
+}
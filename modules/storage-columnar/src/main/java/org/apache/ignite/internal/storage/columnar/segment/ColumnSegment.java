@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.HEADER_SIZE;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.flagsToEntrySize;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.type.NativeType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable set of committed rows of the same schema version, stored column by column.
+ *
+ * <p>Every column is kept in a separate {@link ColumnVector}, dictionary-encoded when the column has few distinct values. Rows are
+ * assembled back into binary tuples only when they are read, and a reader that needs a subset of columns doesn't pay for the others.
+ * Zone maps (minimum and maximum values) of the columns are computed lazily, once per column, and let scans skip the whole segment
+ * when a predicate can't match any of its rows.
+ *
+ * <p>The segment itself is never modified. When a row version stored in it is removed from the partition (for example, by the
+ * garbage collector), the segment is only notified about it via {@link #markRemoved}, so that sparse segments could be rewritten.
+ */
+public class ColumnSegment {
+    private final int schemaVersion;
+
+    private final int elementCount;
+
+    /** Binary tuple header of every row, it defines the size of the offset table entries. */
+    private final byte[] headers;
+
+    private final ColumnVector[] columns;
+
+    private final AtomicInteger liveRows;
+
+    private final Map<Integer, ZoneMap> zoneMaps = new ConcurrentHashMap<>();
+
+    ColumnSegment(int schemaVersion, int elementCount, byte[] headers, ColumnVector[] columns) {
+        assert columns.length == elementCount : "elementCount=" + elementCount + ", columns=" + columns.length;
+
+        this.schemaVersion = schemaVersion;
+        this.elementCount = elementCount;
+        this.headers = headers;
+        this.columns = columns;
+        this.liveRows = new AtomicInteger(headers.length);
+    }
+
+    /** Returns the schema version of all rows of the segment. */
+    public int schemaVersion() {
+        return schemaVersion;
+    }
+
+    /** Returns the number of columns (binary tuple elements) of the rows. */
+    public int columnCount() {
+        return elementCount;
+    }
+
+    /** Returns the number of rows in the segment. */
+    public int rowCount() {
+        return headers.length;
+    }
+
+    /** Returns the number of rows that are still referenced by the partition. */
+    public int liveRowCount() {
+        return liveRows.get();
+    }
+
+    /** Notifies the segment that one of its rows is no longer referenced by the partition. */
+    public void markRemoved() {
+        liveRows.decrementAndGet();
+    }
+
+    /** Returns {@code true} if less than a half of the rows of the segment are still referenced by the partition. */
+    public boolean sparse() {
+        return liveRows.get() * 2 < headers.length;
+    }
+
+    /** Returns {@code true} if the column is dictionary-encoded. */
+    public boolean dictionaryEncoded(int column) {
+        return columns[column].dictionaryEncoded();
+    }
+
+    /** Returns the approximate amount of heap occupied by the segment data. */
+    public long sizeInBytes() {
+        long size = headers.length;
+
+        for (ColumnVector column : columns) {
+            size += column.sizeInBytes();
+        }
+
+        return size;
+    }
+
+    /**
+     * Assembles a row.
+     *
+     * @param row Row index in the segment.
+     * @return Row, equal to the one the segment was built from.
+     */
+    public BinaryRow row(int row) {
+        return row(row, null);
+    }
+
+    /**
+     * Assembles a row, leaving out the columns the caller is not interested in.
+     *
+     * @param row Row index in the segment.
+     * @param requiredColumns Columns that must be present in the row, {@code null} if all of them are required. Other columns are
+     *      replaced with {@code null}s, so the row still conforms to its schema version.
+     * @return Row.
+     */
+    public BinaryRow row(int row, @Nullable BitSet requiredColumns) {
+        byte header = headers[row];
+
+        int entrySize = flagsToEntrySize(header);
+
+        int valueSize = 0;
+
+        for (int column = 0; column < elementCount; column++) {
+            if (required(requiredColumns, column)) {
+                valueSize += columns[column].length(row);
+            }
+        }
+
+        int valueBase = HEADER_SIZE + elementCount * entrySize;
+
+        // Leaving columns out only shrinks the value area, so the offset table entries of the original size are always wide enough.
+        ByteBuffer tuple = ByteBuffer.allocate(valueBase + valueSize).order(BinaryTupleParser.ORDER);
+
+        tuple.put(0, header);
+        tuple.position(valueBase);
+
+        for (int column = 0; column < elementCount; column++) {
+            if (required(requiredColumns, column)) {
+                columns[column].copyTo(row, tuple);
+            }
+
+            BinaryTupleLayout.writeOffset(tuple, HEADER_SIZE + column * entrySize, entrySize, tuple.position() - valueBase);
+        }
+
+        return new BinaryRowImpl(schemaVersion, tuple.flip());
+    }
+
+    private static boolean required(@Nullable BitSet requiredColumns, int column) {
+        return requiredColumns == null || requiredColumns.get(column);
+    }
+
+    /**
+     * Returns raw bytes of a column value of a row, as they are stored in a binary tuple. No bytes mean {@code null}.
+     *
+     * @param row Row index in the segment.
+     * @param column Column index.
+     */
+    public ByteBuffer value(int row, int column) {
+        return columns[column].value(row);
+    }
+
+    /**
+     * Returns a zone map of a column.
+     *
+     * @param column Column index.
+     * @param type Type to interpret the column values with.
+     */
+    public ZoneMap zoneMap(int column, NativeType type) {
+        ZoneMap zoneMap = zoneMaps.computeIfAbsent(column, c -> computeZoneMap(c, type));
+
+        // Column types never change within a schema version, so a mismatch is only possible if the caller is wrong about the type.
+        return zoneMap.type().equals(type) ? zoneMap : computeZoneMap(column, type);
+    }
+
+    private ZoneMap computeZoneMap(int column, NativeType type) {
+        return ZoneMap.compute(columns[column], type, ColumnRangePredicate.comparator(type));
+    }
+
+    /**
+     * Checks whether any row of the segment might match all the predicates.
+     *
+     * @param predicates Predicates over the columns of the segment's schema version.
+     * @return {@code false} if no row of the segment can match the predicates.
+     */
+    public boolean mayMatch(Iterable<ColumnRangePredicate> predicates) {
+        for (ColumnRangePredicate predicate : predicates) {
+            if (predicate.column() < elementCount) {
+                ZoneMap zoneMap = zoneMap(predicate.column(), predicate.type());
+
+                if (!predicate.mayMatch(zoneMap.min(), zoneMap.max())) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks a single row against all the predicates.
+     *
+     * @param row Row index in the segment.
+     * @param predicates Predicates over the columns of the segment's schema version.
+     * @return {@code true} if the row matches all the predicates.
+     */
+    public boolean matches(int row, Iterable<ColumnRangePredicate> predicates) {
+        for (ColumnRangePredicate predicate : predicates) {
+            if (predicate.column() < elementCount && !predicate.test(value(row, predicate.column()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
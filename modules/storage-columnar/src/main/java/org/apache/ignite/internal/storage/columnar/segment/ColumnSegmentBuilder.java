@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
+import org.apache.ignite.internal.schema.BinaryRow;
+
+/**
+ * Builds a {@link ColumnSegment} out of rows of the same schema version.
+ */
+public class ColumnSegmentBuilder {
+    private final int schemaVersion;
+
+    private final int maxDictionarySize;
+
+    private byte[] headers = new byte[16];
+
+    private int rowCount;
+
+    /** Values by column, {@code null} until the first row is added. */
+    private List<ByteBuffer>[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaVersion Schema version of the rows.
+     * @param maxDictionarySize Maximum number of entries in a column dictionary, {@code 0} disables dictionary encoding.
+     */
+    public ColumnSegmentBuilder(int schemaVersion, int maxDictionarySize) {
+        this.schemaVersion = schemaVersion;
+        this.maxDictionarySize = maxDictionarySize;
+    }
+
+    /**
+     * Adds a row to the segment.
+     *
+     * @param row Row, must be of the builder's schema version.
+     * @return Index of the row in the segment.
+     */
+    @SuppressWarnings("unchecked")
+    public int add(BinaryRow row) {
+        assert row.schemaVersion() == schemaVersion : "expected=" + schemaVersion + ", actual=" + row.schemaVersion();
+
+        var layout = new BinaryTupleLayout(row.tupleSlice().slice().order(BinaryTupleParser.ORDER));
+
+        if (values == null) {
+            values = new List[layout.elementCount()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = new ArrayList<>();
+            }
+        } else if (values.length != layout.elementCount()) {
+            throw new IllegalArgumentException(String.format(
+                    "Rows of the same schema version have different number of columns [schemaVersion=%d, expected=%d, actual=%d].",
+                    schemaVersion, values.length, layout.elementCount()
+            ));
+        }
+
+        for (int column = 0; column < values.length; column++) {
+            ByteBuffer value = layout.tuple().duplicate().position(layout.begin(column)).limit(layout.end(column)).slice();
+
+            values[column].add(value);
+        }
+
+        if (rowCount == headers.length) {
+            headers = Arrays.copyOf(headers, headers.length * 2);
+        }
+
+        headers[rowCount] = layout.header();
+
+        return rowCount++;
+    }
+
+    /** Returns the number of rows added so far. */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /** Builds the segment. */
+    public ColumnSegment build() {
+        int elementCount = values == null ? 0 : values.length;
+
+        var columns = new ColumnVector[elementCount];
+
+        for (int column = 0; column < elementCount; column++) {
+            columns[column] = ColumnVector.encode(values[column], maxDictionarySize);
+        }
+
+        return new ColumnSegment(schemaVersion, elementCount, Arrays.copyOf(headers, rowCount), columns);
+    }
+}
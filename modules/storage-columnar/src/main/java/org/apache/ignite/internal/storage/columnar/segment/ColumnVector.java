@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Raw bytes of a single column of all rows of a {@link ColumnSegment}. Zero-length values are {@code null}s.
+ */
+abstract class ColumnVector {
+    /** Approximate heap overhead of a dictionary entry: an array header and a reference to it. */
+    private static final int DICTIONARY_ENTRY_OVERHEAD = 24;
+
+    /** Returns the length of the value of the row. */
+    abstract int length(int row);
+
+    /** Puts the value of the row into the buffer, starting at its current position. */
+    abstract void copyTo(int row, ByteBuffer target);
+
+    /** Returns a read-only buffer that contains exactly the value of the row. */
+    abstract ByteBuffer value(int row);
+
+    /** Passes every distinct value of the vector, possibly along with some duplicates, to the consumer. */
+    abstract void forEachValue(Consumer<ByteBuffer> consumer);
+
+    /** Returns {@code true} if the vector is dictionary-encoded. */
+    abstract boolean dictionaryEncoded();
+
+    /** Returns the approximate amount of heap occupied by the vector data. */
+    abstract long sizeInBytes();
+
+    /**
+     * Encodes the values of a column. Dictionary encoding is used when the column has no more than {@code maxDictionarySize} distinct
+     * values, and when it actually makes the vector smaller.
+     *
+     * @param values Column values, one per row.
+     * @param maxDictionarySize Maximum number of entries in a dictionary, {@code 0} disables dictionary encoding.
+     */
+    static ColumnVector encode(List<ByteBuffer> values, int maxDictionarySize) {
+        int totalSize = 0;
+
+        for (ByteBuffer value : values) {
+            totalSize += value.remaining();
+        }
+
+        if (maxDictionarySize > 0) {
+            Map<ByteBuffer, Integer> codeByValue = new HashMap<>();
+
+            int dictionarySize = 0;
+
+            for (ByteBuffer value : values) {
+                if (!codeByValue.containsKey(value)) {
+                    if (codeByValue.size() == maxDictionarySize) {
+                        codeByValue = null;
+
+                        break;
+                    }
+
+                    codeByValue.put(value, codeByValue.size());
+
+                    dictionarySize += value.remaining();
+                }
+            }
+
+            if (codeByValue != null) {
+                dictionarySize += DICTIONARY_ENTRY_OVERHEAD * codeByValue.size();
+
+                // Codes are two bytes each, plain vectors spend four bytes per row on offsets.
+                if (dictionarySize + Character.BYTES * values.size() < totalSize + Integer.BYTES * values.size()) {
+                    return DictionaryColumnVector.create(values, codeByValue);
+                }
+            }
+        }
+
+        return PlainColumnVector.create(values, totalSize);
+    }
+
+    private static class PlainColumnVector extends ColumnVector {
+        private final byte[] data;
+
+        /** Start offsets of the values, with an extra trailing entry that equals the data length. */
+        private final int[] offsets;
+
+        private PlainColumnVector(byte[] data, int[] offsets) {
+            this.data = data;
+            this.offsets = offsets;
+        }
+
+        static PlainColumnVector create(List<ByteBuffer> values, int totalSize) {
+            byte[] data = new byte[totalSize];
+            int[] offsets = new int[values.size() + 1];
+
+            int offset = 0;
+
+            for (int i = 0; i < values.size(); i++) {
+                ByteBuffer value = values.get(i);
+
+                int length = value.remaining();
+
+                value.duplicate().get(data, offset, length);
+
+                offsets[i] = offset;
+
+                offset += length;
+            }
+
+            offsets[values.size()] = offset;
+
+            return new PlainColumnVector(data, offsets);
+        }
+
+        @Override
+        int length(int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+
+        @Override
+        void copyTo(int row, ByteBuffer target) {
+            target.put(data, offsets[row], length(row));
+        }
+
+        @Override
+        ByteBuffer value(int row) {
+            return ByteBuffer.wrap(data, offsets[row], length(row)).slice().asReadOnlyBuffer();
+        }
+
+        @Override
+        void forEachValue(Consumer<ByteBuffer> consumer) {
+            for (int row = 0; row < offsets.length - 1; row++) {
+                consumer.accept(value(row));
+            }
+        }
+
+        @Override
+        boolean dictionaryEncoded() {
+            return false;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return data.length + (long) Integer.BYTES * offsets.length;
+        }
+    }
+
+    private static class DictionaryColumnVector extends ColumnVector {
+        private final byte[][] dictionary;
+
+        /** Dictionary codes of the rows, {@code char} is used as an unsigned 16-bit integer. */
+        private final char[] codes;
+
+        private DictionaryColumnVector(byte[][] dictionary, char[] codes) {
+            this.dictionary = dictionary;
+            this.codes = codes;
+        }
+
+        static DictionaryColumnVector create(List<ByteBuffer> values, Map<ByteBuffer, Integer> codeByValue) {
+            byte[][] dictionary = new byte[codeByValue.size()][];
+
+            for (Map.Entry<ByteBuffer, Integer> entry : codeByValue.entrySet()) {
+                ByteBuffer value = entry.getKey();
+
+                byte[] bytes = new byte[value.remaining()];
+
+                value.duplicate().get(bytes);
+
+                dictionary[entry.getValue()] = bytes;
+            }
+
+            char[] codes = new char[values.size()];
+
+            for (int i = 0; i < values.size(); i++) {
+                codes[i] = (char) codeByValue.get(values.get(i)).intValue();
+            }
+
+            return new DictionaryColumnVector(dictionary, codes);
+        }
+
+        @Override
+        int length(int row) {
+            return dictionary[codes[row]].length;
+        }
+
+        @Override
+        void copyTo(int row, ByteBuffer target) {
+            target.put(dictionary[codes[row]]);
+        }
+
+        @Override
+        ByteBuffer value(int row) {
+            return ByteBuffer.wrap(dictionary[codes[row]]).asReadOnlyBuffer();
+        }
+
+        @Override
+        void forEachValue(Consumer<ByteBuffer> consumer) {
+            for (byte[] value : dictionary) {
+                consumer.accept(ByteBuffer.wrap(value).asReadOnlyBuffer());
+            }
+        }
+
+        @Override
+        boolean dictionaryEncoded() {
+            return true;
+        }
+
+        @Override
+        long sizeInBytes() {
+            long size = (long) Character.BYTES * codes.length;
+
+            for (byte[] value : dictionary) {
+                size += DICTIONARY_ENTRY_OVERHEAD + value.length;
+            }
+
+            return size;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.type.NativeType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Minimum and maximum values of a column in a {@link ColumnSegment}.
+ *
+ * <p>Values are stored as single-element binary tuples, see {@link ColumnRangePredicate#singleElementTuple}. A zone map depends on the
+ * type the column values are interpreted with, because the same bytes are ordered differently by different types.
+ */
+public class ZoneMap {
+    private final NativeType type;
+
+    private final @Nullable ByteBuffer min;
+
+    private final @Nullable ByteBuffer max;
+
+    private final boolean hasNulls;
+
+    /**
+     * Constructor.
+     *
+     * @param type Column type.
+     * @param min Minimum non-null value, {@code null} if all values are {@code null}s.
+     * @param max Maximum non-null value, {@code null} if all values are {@code null}s.
+     * @param hasNulls Whether the column has {@code null}s.
+     */
+    ZoneMap(NativeType type, @Nullable ByteBuffer min, @Nullable ByteBuffer max, boolean hasNulls) {
+        this.type = type;
+        this.min = min;
+        this.max = max;
+        this.hasNulls = hasNulls;
+    }
+
+    /** Computes a zone map of a column vector. */
+    static ZoneMap compute(ColumnVector vector, NativeType type, Comparator<ByteBuffer> comparator) {
+        ByteBuffer[] minMax = new ByteBuffer[2];
+        boolean[] hasNulls = {false};
+
+        vector.forEachValue(value -> {
+            if (!value.hasRemaining()) {
+                hasNulls[0] = true;
+
+                return;
+            }
+
+            ByteBuffer tuple = ColumnRangePredicate.singleElementTuple(value, value.position(), value.remaining());
+
+            if (minMax[0] == null || comparator.compare(tuple, minMax[0]) < 0) {
+                minMax[0] = tuple;
+            }
+
+            if (minMax[1] == null || comparator.compare(tuple, minMax[1]) > 0) {
+                minMax[1] = tuple;
+            }
+        });
+
+        return new ZoneMap(type, minMax[0], minMax[1], hasNulls[0]);
+    }
+
+    /** Returns the type the values are interpreted with. */
+    public NativeType type() {
+        return type;
+    }
+
+    /** Returns the minimum non-null value, {@code null} if all values are {@code null}s. */
+    public @Nullable ByteBuffer min() {
+        return min == null ? null : min.duplicate().order(min.order());
+    }
+
+    /** Returns the maximum non-null value, {@code null} if all values are {@code null}s. */
+    public @Nullable ByteBuffer max() {
+        return max == null ? null : max.duplicate().order(max.order());
+    }
+
+    /** Returns {@code true} if the column has {@code null}s. */
+    public boolean hasNulls() {
+        return hasNulls;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(ZoneMap.class, this);
+    }
+}
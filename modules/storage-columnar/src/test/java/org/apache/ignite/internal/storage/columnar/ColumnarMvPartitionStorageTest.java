@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.schema.BinaryRowMatcher.isRow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.AbstractMvPartitionStorageTest;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.storage.PartitionScanOptions;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarMvPartitionStorageTest extends AbstractMvPartitionStorageTest {
+    /** Index of the {@code INTVAL} column in the binary tuple. */
+    private static final int INT_VAL_COLUMN = 2;
+
+    /** Index of the {@code STRVAL} column in the binary tuple. */
+    private static final int STR_VAL_COLUMN = 3;
+
+    // Small segments and a merge interval that is long enough for the background merge to never interfere with the tests.
+    @InjectConfiguration("mock.profiles.default = {engine = columnar, segmentRows = 16, mergeIntervalMillis = 3600000}")
+    private StorageConfiguration storageConfig;
+
+    private ColumnarStorageEngine engine;
+
+    private ColumnarTableStorage table;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ColumnarStorageEngine("node", storageConfig);
+
+        engine.start();
+
+        table = engine.createMvTable(
+                new StorageTableDescriptor(1, DEFAULT_PARTITION_COUNT, DEFAULT_STORAGE_PROFILE),
+                mock(StorageIndexDescriptorSupplier.class)
+        );
+
+        initialize(table);
+    }
+
+    @AfterEach
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+
+        IgniteUtils.closeAllManually(
+                table,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    private ColumnarMvPartitionStorage columnarStorage() {
+        return (ColumnarMvPartitionStorage) storage;
+    }
+
+    @Test
+    void mergedRowsAreReadable() {
+        List<RowId> rowIds = insertCommitted(40);
+
+        assertThat(columnarStorage().mergeDelta(), is(40));
+        assertThat(columnarStorage().segmentCount(), is(3));
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            assertThat(read(rowIds.get(i), HybridTimestamp.MAX_VALUE), isRow(row(i)));
+        }
+
+        // Nothing has changed since the last merge.
+        assertThat(columnarStorage().mergeDelta(), is(0));
+    }
+
+    @Test
+    void rowsWithWriteIntentsAreNotMerged() {
+        List<RowId> rowIds = insertCommitted(10);
+
+        UUID txId = newTransactionId();
+
+        addWrite(rowIds.get(0), binaryRow(new TestKey(0, "0"), new TestValue(100, "new")), txId);
+
+        assertThat(columnarStorage().mergeDelta(), is(9));
+
+        ReadResult readResult = storage.read(rowIds.get(0), HybridTimestamp.MAX_VALUE);
+
+        assertThat(readResult.isWriteIntent(), is(true));
+        assertThat(value(readResult.binaryRow()), is(new TestValue(100, "new")));
+    }
+
+    @Test
+    void updatedMergedRowsAreMergedAgain() {
+        List<RowId> rowIds = insertCommitted(16);
+
+        assertThat(columnarStorage().mergeDelta(), is(16));
+
+        HybridTimestamp beforeUpdate = clock.now();
+
+        // Overwrite most of the rows and garbage collect the old versions, the segment becomes sparse.
+        for (int i = 0; i < 12; i++) {
+            addWriteCommitted(rowIds.get(i), row(i + 100), clock.now());
+        }
+
+        HybridTimestamp afterUpdate = clock.now();
+
+        assertThat(read(rowIds.get(0), beforeUpdate), isRow(row(0)));
+
+        storage.runConsistently(locker -> {
+            for (int i = 0; i < 12; i++) {
+                GcEntry gcEntry = storage.peek(afterUpdate, 1).get(0);
+
+                locker.lock(gcEntry.getRowId());
+
+                assertThat(storage.vacuum(gcEntry), isRow(row(i)));
+            }
+
+            return null;
+        });
+
+        // Updated rows and the rows of the sparse segment end up in a single new segment.
+        assertThat(columnarStorage().mergeDelta(), is(16));
+        assertThat(columnarStorage().segmentCount(), is(1));
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            assertThat(read(rowIds.get(i), HybridTimestamp.MAX_VALUE), isRow(row(i < 12 ? i + 100 : i)));
+        }
+    }
+
+    @Test
+    void scanWithOptionsFiltersAndProjectsRows() {
+        insertCommitted(40);
+
+        // Half of the rows are in segments, half are in the delta store.
+        assertThat(columnarStorage().mergeDelta(), is(40));
+
+        insertCommitted(40, 40);
+
+        var predicate = new ColumnRangePredicate(
+                INT_VAL_COLUMN,
+                NativeTypes.INT32,
+                new BinaryTupleBuilder(1).appendInt(30).build(),
+                true,
+                new BinaryTupleBuilder(1).appendInt(50).build(),
+                false
+        );
+
+        BitSet requiredColumns = new BitSet();
+        requiredColumns.set(INT_VAL_COLUMN);
+
+        var options = new PartitionScanOptions(SCHEMA_DESCRIPTOR.version(), requiredColumns, List.of(predicate));
+
+        List<BinaryRow> rows = new ArrayList<>();
+
+        try (PartitionTimestampCursor cursor = columnarStorage().scan(HybridTimestamp.MAX_VALUE, options)) {
+            cursor.forEachRemaining(readResult -> rows.add(readResult.binaryRow()));
+        }
+
+        List<Integer> intValues = rows.stream()
+                .map(row -> new BinaryTuple(SCHEMA_DESCRIPTOR.length(), row.tupleSlice()).intValue(INT_VAL_COLUMN))
+                .collect(Collectors.toList());
+
+        assertThat(intValues, containsInAnyOrder(rangeOf(30, 50).toArray()));
+
+        // Rows from segments only have the required columns, rows from the delta store are returned as is.
+        long prunedRows = rows.stream()
+                .filter(row -> new BinaryTuple(SCHEMA_DESCRIPTOR.length(), row.tupleSlice()).hasNullValue(STR_VAL_COLUMN))
+                .count();
+
+        assertThat(prunedRows, is(10L));
+
+        // The segment with rows 0..15 is skipped by its zone map, the other two are checked row by row.
+        ColumnarScanMetrics scanMetrics = table.scanMetrics();
+
+        assertThat(scanMetrics.segmentsChecked(), is(3L));
+        assertThat(scanMetrics.segmentsSkipped(), is(1L));
+        assertThat(scanMetrics.rowsSkipped(), is(16L));
+    }
+
+    @Test
+    void scanWithOptionsReturnsWriteIntentsAsIs() {
+        List<RowId> rowIds = insertCommitted(16);
+
+        columnarStorage().mergeDelta();
+
+        addWrite(rowIds.get(0), row(1000), newTransactionId());
+
+        var predicate = new ColumnRangePredicate(
+                INT_VAL_COLUMN,
+                NativeTypes.INT32,
+                null,
+                false,
+                new BinaryTupleBuilder(1).appendInt(-1).build(),
+                true
+        );
+
+        var options = new PartitionScanOptions(SCHEMA_DESCRIPTOR.version(), null, List.of(predicate));
+
+        try (PartitionTimestampCursor cursor = columnarStorage().scan(HybridTimestamp.MAX_VALUE, options)) {
+            List<ReadResult> results = new ArrayList<>();
+
+            cursor.forEachRemaining(results::add);
+
+            assertThat(results.stream().map(ReadResult::rowId).collect(Collectors.toList()), contains(rowIds.get(0)));
+            assertThat(results.get(0).isWriteIntent(), is(true));
+            assertThat(cursor.committed(HybridTimestamp.MAX_VALUE), isRow(row(0)));
+        }
+    }
+
+    @Test
+    void clearRemovesSegments() {
+        List<RowId> rowIds = insertCommitted(16);
+
+        columnarStorage().mergeDelta();
+
+        columnarStorage().clear();
+
+        assertThat(columnarStorage().segmentCount(), is(0));
+        assertThat(read(rowIds.get(0), HybridTimestamp.MAX_VALUE), is(nullValue()));
+    }
+
+    private List<RowId> insertCommitted(int count) {
+        return insertCommitted(0, count);
+    }
+
+    private List<RowId> insertCommitted(int from, int count) {
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = from; i < from + count; i++) {
+            RowId rowId = new RowId(PARTITION_ID);
+
+            addWriteCommitted(rowId, row(i), clock.now());
+
+            rowIds.add(rowId);
+        }
+
+        return rowIds;
+    }
+
+    private static BinaryRow row(int i) {
+        return binaryRow(new TestKey(i, "key-" + i), new TestValue(i, "value-" + (i % 3)));
+    }
+
+    private static List<Integer> rangeOf(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+
+        for (int i = from; i < to; i++) {
+            values.add(i);
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.engine;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.StreamSupport.stream;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.ignite.internal.catalog.CatalogService;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.storage.StorageDestroyedException;
+import org.apache.ignite.internal.storage.columnar.ColumnarStorageEngine;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.AbstractStorageEngineTest;
+import org.apache.ignite.internal.storage.engine.AbstractVolatileStorageEngineTest;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageEngine;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource;
+import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource.Holder;
+import org.apache.ignite.table.QualifiedName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Implementation of the {@link AbstractStorageEngineTest} for the {@link ColumnarStorageEngine#ENGINE_NAME} engine.
+ */
+public class ColumnarStorageEngineTest extends AbstractVolatileStorageEngineTest {
+    @InjectConfiguration("mock.profiles.default.engine = columnar")
+    private StorageConfiguration storageConfig;
+
+    @Override
+    protected StorageEngine createEngine() {
+        return new ColumnarStorageEngine("test", storageConfig);
+    }
+
+    @Test
+    @Override
+    protected void tableMetrics() {
+        var tableDescriptor = new StorageTableDescriptor(10, 1, CatalogService.DEFAULT_STORAGE_PROFILE);
+        storageEngine.createMvTable(tableDescriptor, indexId -> null);
+
+        QualifiedName tableName = QualifiedName.of(QualifiedName.DEFAULT_SCHEMA_NAME, "foo");
+
+        StorageEngineTablesMetricSource metricSource = new StorageEngineTablesMetricSource(storageEngine.name(), tableName);
+        storageEngine.addTableMetrics(tableDescriptor, metricSource);
+
+        metricSource.enable();
+
+        Holder holder = metricSource.holder();
+
+        assertThat(holder, is(notNullValue()));
+
+        Map<String, Metric> metricByName = stream(holder.metrics().spliterator(), false)
+                .collect(toMap(Metric::name, Function.identity()));
+
+        assertThat(((LongMetric) metricByName.get("ZoneMapSegmentsChecked")).value(), is(0L));
+        assertThat(((LongMetric) metricByName.get("ZoneMapSegmentsSkipped")).value(), is(0L));
+        assertThat(((LongMetric) metricByName.get("ZoneMapRowsSkipped")).value(), is(0L));
+    }
+
+    @Test
+    void destroyMvTableDestroysTableStorage() {
+        var tableDescriptor = new StorageTableDescriptor(10, 1, CatalogService.DEFAULT_STORAGE_PROFILE);
+        MvTableStorage tableStorage = storageEngine.createMvTable(tableDescriptor, indexId -> null);
+
+        assertThat(tableStorage.createMvPartition(0), willCompleteSuccessfully());
+
+        storageEngine.destroyMvTable(tableDescriptor.getId());
+
+        assertThrows(StorageDestroyedException.class, () -> tableStorage.getMvPartition(0));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.columnar.segment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ColumnSegment} and {@link ColumnSegmentBuilder}.
+ */
+class ColumnSegmentTest extends BaseIgniteAbstractTest {
+    private static final int SCHEMA_VERSION = 1;
+
+    private static final int ROWS = 1000;
+
+    @Test
+    void rowsAreAssembledBackUnchanged() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        assertThat(segment.rowCount(), is(ROWS));
+        assertThat(segment.columnCount(), is(3));
+
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(segment.row(i), is(row(i)));
+        }
+    }
+
+    @Test
+    void rowsWithWideOffsetsAreAssembledBackUnchanged() {
+        var builder = new ColumnSegmentBuilder(SCHEMA_VERSION, 4096);
+
+        // Values longer than 255 bytes need 2-byte offset table entries.
+        BinaryRow longRow = row(1, "x".repeat(1000), null);
+        BinaryRow shortRow = row(2, "y", 3);
+
+        builder.add(longRow);
+        builder.add(shortRow);
+
+        ColumnSegment segment = builder.build();
+
+        assertThat(segment.row(0), is(longRow));
+        assertThat(segment.row(1), is(shortRow));
+    }
+
+    @Test
+    void lowCardinalityColumnsAreDictionaryEncoded() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        // Unique integers are stored as is, repeated strings and integers are dictionary-encoded.
+        assertThat(segment.dictionaryEncoded(0), is(false));
+        assertThat(segment.dictionaryEncoded(1), is(true));
+        assertThat(segment.dictionaryEncoded(2), is(true));
+
+        ColumnSegment plainSegment = buildSegment(ROWS, 0);
+
+        assertThat(plainSegment.dictionaryEncoded(1), is(false));
+        assertThat(plainSegment.sizeInBytes() > segment.sizeInBytes(), is(true));
+    }
+
+    @Test
+    void columnsAreLeftOutOnRequest() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        BitSet requiredColumns = new BitSet();
+        requiredColumns.set(1);
+
+        for (int i = 0; i < ROWS; i++) {
+            BinaryTuple tuple = new BinaryTuple(3, segment.row(i, requiredColumns).tupleSlice());
+
+            assertThat(tuple.hasNullValue(0), is(true));
+            assertThat(tuple.stringValue(1), is(stringValue(i)));
+            assertThat(tuple.hasNullValue(2), is(true));
+        }
+    }
+
+    @Test
+    void zoneMapsAreComputed() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        ZoneMap zoneMap = segment.zoneMap(0, NativeTypes.INT32);
+
+        assertThat(new BinaryTuple(1, zoneMap.min()).intValue(0), is(0));
+        assertThat(new BinaryTuple(1, zoneMap.max()).intValue(0), is(ROWS - 1));
+        assertThat(zoneMap.hasNulls(), is(false));
+
+        ZoneMap nullableZoneMap = segment.zoneMap(2, NativeTypes.INT32);
+
+        assertThat(new BinaryTuple(1, nullableZoneMap.min()).intValue(0), is(0));
+        assertThat(new BinaryTuple(1, nullableZoneMap.max()).intValue(0), is(9));
+        assertThat(nullableZoneMap.hasNulls(), is(true));
+    }
+
+    @Test
+    void segmentsAreSkippedByPredicates() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        assertThat(segment.mayMatch(List.of(intRange(0, ROWS, ROWS + 100))), is(false));
+        assertThat(segment.mayMatch(List.of(intRange(0, -100, 0))), is(true));
+        assertThat(segment.mayMatch(List.of(intRange(0, 10, 20), intRange(2, 100, 200))), is(false));
+        assertThat(segment.mayMatch(List.of(intRange(0, 10, 20), intRange(2, 5, 5))), is(true));
+
+        // Predicates over columns that the rows don't have are ignored.
+        assertThat(segment.mayMatch(List.of(intRange(5, 10, 20))), is(true));
+    }
+
+    @Test
+    void rowsAreMatchedByPredicates() {
+        ColumnSegment segment = buildSegment(ROWS, 4096);
+
+        List<ColumnRangePredicate> predicates = List.of(intRange(2, 3, 3));
+
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(segment.matches(i, predicates), is(intValue(i) != null && intValue(i) == 3));
+        }
+    }
+
+    @Test
+    void liveRowsAreTracked() {
+        ColumnSegment segment = buildSegment(4, 4096);
+
+        assertThat(segment.sparse(), is(false));
+
+        segment.markRemoved();
+        segment.markRemoved();
+
+        assertThat(segment.liveRowCount(), is(2));
+        assertThat(segment.sparse(), is(false));
+
+        segment.markRemoved();
+
+        assertThat(segment.sparse(), is(true));
+    }
+
+    @Test
+    void rowsWithDifferentColumnCountAreRejected() {
+        var builder = new ColumnSegmentBuilder(SCHEMA_VERSION, 4096);
+
+        builder.add(row(0));
+
+        ByteBuffer tuple = new BinaryTupleBuilder(2).appendInt(1).appendString("a").build();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(new BinaryRowImpl(SCHEMA_VERSION, tuple)));
+    }
+
+    private static ColumnSegment buildSegment(int rows, int maxDictionarySize) {
+        var builder = new ColumnSegmentBuilder(SCHEMA_VERSION, maxDictionarySize);
+
+        for (int i = 0; i < rows; i++) {
+            assertThat(builder.add(row(i)), is(i));
+        }
+
+        return builder.build();
+    }
+
+    private static BinaryRow row(int i) {
+        return row(i, stringValue(i), intValue(i));
+    }
+
+    private static BinaryRow row(int id, String str, @Nullable Integer val) {
+        ByteBuffer tuple = new BinaryTupleBuilder(3)
+                .appendInt(id)
+                .appendString(str)
+                .appendInt(val)
+                .build();
+
+        return new BinaryRowImpl(SCHEMA_VERSION, tuple);
+    }
+
+    private static String stringValue(int i) {
+        return "value-" + (i % 5);
+    }
+
+    private static @Nullable Integer intValue(int i) {
+        return i % 11 == 0 ? null : i % 10;
+    }
+
+    private static ColumnRangePredicate intRange(int column, int lower, int upper) {
+        return new ColumnRangePredicate(
+                column,
+                NativeTypes.INT32,
+                new BinaryTupleBuilder(1).appendInt(lower).build(),
+                true,
+                new BinaryTupleBuilder(1).appendInt(upper).build(),
+                true
+        );
+    }
+}
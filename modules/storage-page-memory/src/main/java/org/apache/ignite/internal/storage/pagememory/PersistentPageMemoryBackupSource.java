@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager.TMP_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.backup.BackupSnapshot;
+import org.apache.ignite.internal.backup.BackupSource;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.storage.StorageException;
+
+/**
+ * {@link BackupSource} of the persistent page memory storage engine.
+ *
+ * <p>A snapshot pauses the delta file compaction and forces a checkpoint. After the checkpoint finishes, the partition files and the
+ * completed delta files make up a consistent state: new checkpoints only write to new delta files, which are temporary until they are
+ * completed and are not included into the snapshot. The compaction is resumed when the snapshot is closed.
+ */
+class PersistentPageMemoryBackupSource implements BackupSource {
+    private final String name;
+
+    private final Path storagePath;
+
+    private final CheckpointManager checkpointManager;
+
+    PersistentPageMemoryBackupSource(String name, Path storagePath, CheckpointManager checkpointManager) {
+        this.name = name;
+        this.storagePath = storagePath;
+        this.checkpointManager = checkpointManager;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Path directory() {
+        return storagePath;
+    }
+
+    @Override
+    public CompletableFuture<BackupSnapshot> createSnapshot() {
+        try {
+            checkpointManager.pauseCompaction();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return failedFuture(new StorageException("Interrupted while pausing compaction for a backup", e));
+        }
+
+        return checkpointManager.forceCheckpoint("backup").futureFor(FINISHED)
+                .thenApply(unused -> new BackupSnapshot(storagePath, listFiles(), checkpointManager::resumeCompaction))
+                .whenComplete((snapshot, throwable) -> {
+                    if (throwable != null) {
+                        checkpointManager.resumeCompaction();
+                    }
+                });
+    }
+
+    private List<Path> listFiles() {
+        try (Stream<Path> files = Files.walk(storagePath)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(TMP_FILE_SUFFIX))
+                    .map(storagePath::relativize)
+                    .collect(toList());
+        } catch (IOException e) {
+            throw new StorageException("Failed to list the storage files for a backup: " + storagePath, e);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermin
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +32,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
@@ -322,6 +324,11 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
         return false;
     }
 
+    @Override
+    public List<BackupSource> backupSources() {
+        return List.of(new PersistentPageMemoryBackupSource(ENGINE_NAME, storagePath, checkpointManager));
+    }
+
     @Override
     public MvTableStorage createMvTable(
             StorageTableDescriptor tableDescriptor,
@@ -986,6 +986,15 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    @Override
+    public long estimatedGcQueueSize() {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            return renewableState.gcQueue().estimatedSize();
+        });
+    }
+
     @Override
     public @Nullable BinaryRow vacuum(GcEntry entry) {
         assert THREAD_LOCAL_LOCKER.get() != null;
@@ -36,6 +36,12 @@ import org.jetbrains.annotations.Nullable;
  * {@link BplusTree} implementation for garbage collection of obsolete row versions in version chains.
  */
 public class GcQueue extends BplusTree<GcRowVersion, GcRowVersion> {
+    /**
+     * Number of elements in the queue. It is not persisted, so a restored tree is counted by the constructor, before the tree can be
+     * modified.
+     */
+    private final AtomicLong size;
+
     /**
      * Constructor.
      *
@@ -75,6 +81,8 @@ public class GcQueue extends BplusTree<GcRowVersion, GcRowVersion> {
         setIos(GcInnerIo.VERSIONS, GcLeafIo.VERSIONS, GcMetaIo.VERSIONS);
 
         initTree(initNew);
+
+        size = new AtomicLong(initNew ? 0 : size());
     }
 
     @Override
@@ -96,7 +104,9 @@ public class GcQueue extends BplusTree<GcRowVersion, GcRowVersion> {
      */
     public void add(RowId rowId, HybridTimestamp timestamp, long link) {
         try {
-            put(new GcRowVersion(rowId, timestamp, link));
+            if (putx(new GcRowVersion(rowId, timestamp, link))) {
+                updateSize(1);
+            }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
                     "Error occurred while adding row version to the garbage collection queue: [rowId={}, timestamp={}, {}]",
@@ -113,7 +123,13 @@ public class GcQueue extends BplusTree<GcRowVersion, GcRowVersion> {
      */
     public boolean remove(RowId rowId, HybridTimestamp timestamp, long link) {
         try {
-            return removex(new GcRowVersion(rowId, timestamp, link));
+            boolean removed = removex(new GcRowVersion(rowId, timestamp, link));
+
+            if (removed) {
+                updateSize(-1);
+            }
+
+            return removed;
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
                     "Error occurred while deleting row version form the garbage collection queue: [rowId={}, timestamp={}, {}]",
@@ -123,6 +139,15 @@ public class GcQueue extends BplusTree<GcRowVersion, GcRowVersion> {
         }
     }
 
+    /** Returns the estimated number of elements in the queue. */
+    public long estimatedSize() {
+        return size.get();
+    }
+
+    private void updateSize(long delta) {
+        size.addAndGet(delta);
+    }
+
     /**
      * Returns the first element from the garbage collection queue, {@code null} if the queue is empty.
      */
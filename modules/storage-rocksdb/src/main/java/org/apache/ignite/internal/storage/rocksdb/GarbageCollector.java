@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SI
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.DATA_ID_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_ID_OFFSET;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.THREAD_LOCAL_STATE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.getFromBatchAndDb;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.isTombstone;
@@ -37,6 +38,7 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.TAB
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -103,6 +105,12 @@ class GarbageCollector {
     /** Read options for regular reads. */
     private final ReadOptions readOpts;
 
+    /**
+     * Number of entries in the queue of the partition. The value is not persisted, so the queue is counted when the partition is opened,
+     * before any write batch of the partition can change it.
+     */
+    private final AtomicLong queueSize;
+
     enum AddResult {
         WAS_TOMBSTONE, WAS_VALUE, WAS_EMPTY
     }
@@ -112,6 +120,8 @@ class GarbageCollector {
         this.db = db;
         this.gcQueueCf = gcQueueCf;
         this.readOpts = readOpts;
+
+        queueSize = new AtomicLong(countQueue());
     }
 
     /**
@@ -132,47 +142,50 @@ class GarbageCollector {
 
         helper.putCommittedDataIdKey(dataIdKeyBuffer, rowId, timestamp);
 
-        try (RocksIterator it = db.newIterator(helper.partCf, helper.upperBoundReadOpts)) {
-            it.seek(dataIdKeyBuffer);
+        // The iterator is owned by the write closure and is reused by all commits within it.
+        RocksIterator it = THREAD_LOCAL_STATE.get().prefixIterator(db, helper.partCf, helper.prefixReadOpts);
 
-            if (invalid(it)) {
-                return AddResult.WAS_EMPTY;
-            }
+        it.seek(dataIdKeyBuffer);
 
-            dataIdKeyBuffer.clear();
+        if (invalid(it)) {
+            return AddResult.WAS_EMPTY;
+        }
 
-            int keyLen = it.key(dataIdKeyBuffer);
+        dataIdKeyBuffer.clear();
 
-            RowId readRowId = helper.getRowId(dataIdKeyBuffer, ROW_ID_OFFSET);
+        int keyLen = it.key(dataIdKeyBuffer);
 
-            if (!readRowId.equals(rowId)) {
-                return AddResult.WAS_EMPTY;
-            }
+        RowId readRowId = helper.getRowId(dataIdKeyBuffer, ROW_ID_OFFSET);
 
-            // Found previous value.
-            assert keyLen == MAX_KEY_SIZE; // Can not be write-intent.
+        if (!readRowId.equals(rowId)) {
+            return AddResult.WAS_EMPTY;
+        }
 
-            AddResult result;
+        // Found previous value.
+        assert keyLen == MAX_KEY_SIZE; // Can not be write-intent.
 
-            if (isCurrentValueTombstone(it)) {
-                // Do not add a new tombstone if the existing value is also a tombstone.
-                if (isNewValueTombstone) {
-                    return AddResult.WAS_TOMBSTONE;
-                }
+        AddResult result;
 
-                result = AddResult.WAS_TOMBSTONE;
-            } else {
-                result = AddResult.WAS_VALUE;
+        if (isCurrentValueTombstone(it)) {
+            // Do not add a new tombstone if the existing value is also a tombstone.
+            if (isNewValueTombstone) {
+                return AddResult.WAS_TOMBSTONE;
             }
 
-            ByteBuffer gcKeyBuffer = DIRECT_GC_KEY_BUFFER.get().clear();
+            result = AddResult.WAS_TOMBSTONE;
+        } else {
+            result = AddResult.WAS_VALUE;
+        }
+
+        ByteBuffer gcKeyBuffer = DIRECT_GC_KEY_BUFFER.get().clear();
 
-            helper.putGcKey(gcKeyBuffer, rowId, timestamp);
+        helper.putGcKey(gcKeyBuffer, rowId, timestamp);
 
-            writeBatch.put(gcQueueCf, gcKeyBuffer, EMPTY_DIRECT_BUFFER);
+        writeBatch.put(gcQueueCf, gcKeyBuffer, EMPTY_DIRECT_BUFFER);
 
-            return result;
-        }
+        THREAD_LOCAL_STATE.get().pendingGcQueueSizeDiff += 1;
+
+        return result;
     }
 
     /**
@@ -246,6 +259,8 @@ class GarbageCollector {
             // Delete element from the GC queue.
             batch.delete(gcQueueCf, gcKeyBuffer);
 
+            THREAD_LOCAL_STATE.get().pendingGcQueueSizeDiff -= 1;
+
             try (RocksIterator partIt = newWrappedIterator(batch, partCf, helper.upperBoundReadOpts)) {
                 // Process the element in data cf that triggered the addition to the GC queue.
                 boolean proceed = checkHasNewerRowAndRemoveTombstone(partIt, batch, gcRowVersion);
@@ -373,6 +388,36 @@ class GarbageCollector {
      */
     void deleteQueue(WriteBatch writeBatch) throws RocksDBException {
         writeBatch.deleteRange(gcQueueCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
+        queueSize.set(0);
+    }
+
+    /**
+     * Applies changes of the queue size made by a write batch that has been written to the DB.
+     *
+     * @param diff Difference between the numbers of added and removed queue entries.
+     */
+    void onBatchWritten(long diff) {
+        if (diff != 0) {
+            queueSize.addAndGet(diff);
+        }
+    }
+
+    /** Returns the estimated number of entries in the queue. See {@link MvPartitionStorage#estimatedGcQueueSize()}. */
+    long estimatedQueueSize() {
+        return queueSize.get();
+    }
+
+    private long countQueue() {
+        long count = 0;
+
+        try (RocksIterator gcIt = db.newIterator(gcQueueCf, helper.upperBoundReadOpts)) {
+            for (gcIt.seek(helper.partitionStartPrefix()); !invalid(gcIt); gcIt.next()) {
+                count++;
+            }
+        }
+
+        return count;
     }
 
     private static ByteBuffer readGcKey(RocksIterator gcIt) {
@@ -110,6 +110,9 @@ public final class PartitionDataHelper implements ManuallyCloseable {
     /** Read options for total order scans. */
     final ReadOptions scanReadOpts;
 
+    /** Read options for reads of a single version chain, which never leave the row prefix and thus benefit from prefix bloom filters. */
+    final ReadOptions prefixReadOpts;
+
     final LockByRowId lockByRowId = new LockByRowId();
 
     /** Prefix for finding the beginning of the partition. */
@@ -134,6 +137,7 @@ public final class PartitionDataHelper implements ManuallyCloseable {
                 .setIterateLowerBound(lowerBound)
                 .setIterateUpperBound(upperBound)
                 .setAutoPrefixMode(true);
+        this.prefixReadOpts = new ReadOptions().setPrefixSameAsStart(true);
     }
 
     public int partitionId() {
@@ -356,6 +360,6 @@ public final class PartitionDataHelper implements ManuallyCloseable {
 
     @Override
     public void close() {
-        RocksUtils.closeAll(scanReadOpts, upperBoundReadOpts, upperBound, lowerBound);
+        RocksUtils.closeAll(prefixReadOpts, scanReadOpts, upperBoundReadOpts, upperBound, lowerBound);
     }
 }
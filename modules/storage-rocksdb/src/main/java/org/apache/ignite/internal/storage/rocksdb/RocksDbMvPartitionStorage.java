@@ -314,6 +314,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                                 db.write(DFLT_WRITE_OPTS, writeBatch);
                             }
 
+                            gc.onBatchWritten(state.pendingGcQueueSizeDiff);
+
                             // Here we assume that no two threads would try to update these values concurrently.
                             if (oldAppliedIndex != state.pendingAppliedIndex) {
                                 lastAppliedIndex = state.pendingAppliedIndex;
@@ -332,6 +334,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         locker.unlockAll();
                     }
                 } finally {
+                    THREAD_LOCAL_STATE.get().closeIterators();
+
                     THREAD_LOCAL_STATE.set(null);
                 }
             });
@@ -782,8 +786,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             }
 
             try (
-                    // Set next partition as an upper bound.
-                    RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
+                    // Version chain of a single row shares the row prefix, so the read never needs to leave it.
+                    RocksIterator baseIterator = db.newIterator(helper.partCf, helper.prefixReadOpts);
                     RocksIterator seekIterator = wrapIterator(baseIterator, helper.partCf)
             ) {
                 if (lookingForLatestVersions(timestamp)) {
@@ -1339,6 +1343,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return estimatedSize;
     }
 
+    @Override
+    public long estimatedGcQueueSize() {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            return gc.estimatedQueueSize();
+        });
+    }
+
     @Override
     public Cursor<RowId> scanWriteIntents() {
         return Cursor.fromBareIterator(emptyIterator());
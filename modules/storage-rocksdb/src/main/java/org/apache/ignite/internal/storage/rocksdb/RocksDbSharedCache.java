@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import org.apache.ignite.internal.close.ManuallyCloseable;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Block cache and write buffer manager that are shared between several storage profiles of the {@link RocksDbStorageEngine}.
+ */
+class RocksDbSharedCache implements ManuallyCloseable {
+    private final long cacheSize;
+
+    private final Cache cache;
+
+    private final WriteBufferManager writeBufferManager;
+
+    /**
+     * Constructor.
+     *
+     * @param engineConfig Storage engine configuration.
+     */
+    RocksDbSharedCache(RocksDbStorageEngineConfiguration engineConfig) {
+        long writeBufferSize = engineConfig.sharedWriteBufferSizeBytes().value();
+
+        cacheSize = engineConfig.sharedCacheSizeBytes().value();
+
+        cache = new LRUCache(cacheSize + writeBufferSize, -1, false);
+
+        writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+    }
+
+    /** Returns the size of the shared block cache. */
+    long cacheSize() {
+        return cacheSize;
+    }
+
+    /** Returns the shared block cache. */
+    Cache cache() {
+        return cache;
+    }
+
+    /** Returns the shared write buffer manager. */
+    WriteBufferManager writeBufferManager() {
+        return writeBufferManager;
+    }
+
+    @Override
+    public void close() throws Exception {
+        IgniteUtils.closeAll(writeBufferManager, cache);
+    }
+}
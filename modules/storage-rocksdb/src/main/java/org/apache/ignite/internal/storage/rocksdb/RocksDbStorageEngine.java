@@ -18,12 +18,14 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -32,11 +34,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.rocksdb.backup.RocksDbBackupSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
@@ -50,6 +54,7 @@ import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbSt
 import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance;
 import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstanceCreator;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.jetbrains.annotations.Nullable;
 import org.rocksdb.RocksDB;
 
 /**
@@ -102,6 +107,10 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     private final LogSyncer logSyncer;
 
+    /** Cache shared between profiles, {@code null} if not configured. */
+    @Nullable
+    private volatile RocksDbSharedCache sharedCache;
+
     /**
      * Constructor.
      *
@@ -167,6 +176,10 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     @Override
     public void start() throws StorageException {
+        if (engineConfig.sharedCacheSizeBytes().value() > 0) {
+            sharedCache = new RocksDbSharedCache(engineConfig);
+        }
+
         // TODO: IGNITE-17066 Add handling deleting/updating storage profiles configuration
         for (StorageProfileView profile : storageConfiguration.profiles().value()) {
             if (profile instanceof RocksDbProfileView) {
@@ -184,7 +197,7 @@ public class RocksDbStorageEngine implements StorageEngine {
     private void registerProfile(RocksDbProfileConfiguration profileConfig) {
         String profileName = profileConfig.name().value();
 
-        var profile = new RocksDbStorageProfile(profileConfig);
+        var profile = new RocksDbStorageProfile(profileConfig, sharedCache);
 
         profile.start();
 
@@ -210,6 +223,7 @@ public class RocksDbStorageEngine implements StorageEngine {
         try {
             closeAll(
                     () -> closeAllManually(storageByProfileName.values()),
+                    () -> closeAllManually(sharedCache),
                     () -> shutdownAndAwaitTermination(threadPool, 10, TimeUnit.SECONDS)
             );
         } catch (Exception e) {
@@ -252,7 +266,11 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     @Override
     public long requiredOffHeapMemorySize() {
-        return storageByProfileName.values().stream()
+        RocksDbSharedCache sharedCache = this.sharedCache;
+
+        long sharedCacheSize = sharedCache == null ? 0 : sharedCache.cacheSize();
+
+        return sharedCacheSize + storageByProfileName.values().stream()
                 .mapToLong(storage -> storage.profile.regionSize())
                 .sum();
     }
@@ -264,6 +282,17 @@ public class RocksDbStorageEngine implements StorageEngine {
                 .collect(toUnmodifiableSet());
     }
 
+    @Override
+    public List<BackupSource> backupSources() {
+        return storageByProfileName.entrySet().stream()
+                .map(e -> {
+                    SharedRocksDbInstance rocksDbInstance = e.getValue().rocksDbInstance;
+
+                    return new RocksDbBackupSource(ENGINE_NAME + "-" + e.getKey(), rocksDbInstance.path, () -> rocksDbInstance.db);
+                })
+                .collect(toList());
+    }
+
     /**
      * Flushes all changes made to the underlying RocksDB instances to disk.
      *
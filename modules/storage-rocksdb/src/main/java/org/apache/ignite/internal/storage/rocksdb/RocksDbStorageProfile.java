@@ -21,12 +21,15 @@ import static org.apache.ignite.internal.storage.configurations.StorageProfileCo
 
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
 import org.rocksdb.Cache;
 import org.rocksdb.LRUCache;
+import org.rocksdb.RateLimiter;
 import org.rocksdb.WriteBufferManager;
 
 /**
@@ -39,12 +42,20 @@ public class RocksDbStorageProfile {
     /** Profile configuration view. */
     private final RocksDbProfileConfiguration storageProfileConfig;
 
+    /** Cache shared between profiles, {@code null} if the engine doesn't have one. */
+    @Nullable
+    private final RocksDbSharedCache sharedCache;
+
     /** RocksDB cache instance. */
     private Cache cache;
 
     /** Write buffer manager instance. */
     private WriteBufferManager writeBufferManager;
 
+    /** Rate limiter of the background IO, {@code null} if not limited. */
+    @Nullable
+    private RateLimiter rateLimiter;
+
     private volatile long regionSize;
 
     /**
@@ -53,22 +64,54 @@ public class RocksDbStorageProfile {
      * @param storageProfileConfig Storage profile configuration view.
      */
     public RocksDbStorageProfile(RocksDbProfileConfiguration storageProfileConfig) {
+        this(storageProfileConfig, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param storageProfileConfig Storage profile configuration view.
+     * @param sharedCache Cache shared between profiles, {@code null} if the engine doesn't have one.
+     */
+    RocksDbStorageProfile(RocksDbProfileConfiguration storageProfileConfig, @Nullable RocksDbSharedCache sharedCache) {
         this.storageProfileConfig = storageProfileConfig;
+        this.sharedCache = sharedCache;
     }
 
     /**
      * Start the profile.
      */
     public void start() {
-        long writeBufferSize = storageProfileConfig.writeBufferSizeBytes().value();
+        var storageProfileConfigView = (RocksDbProfileView) storageProfileConfig.value();
+
+        if (storageProfileConfigView.useSharedCache()) {
+            if (sharedCache == null) {
+                throw new StorageException(
+                        "Storage profile uses a shared cache, but the engine's shared cache size is not specified: " + name()
+                );
+            }
+
+            // Shared cache is accounted by the engine itself.
+            regionSize = 0;
 
-        regionSize = sizeBytes();
+            cache = sharedCache.cache();
 
-        long totalCacheSize = sizeBytes() + writeBufferSize;
+            writeBufferManager = sharedCache.writeBufferManager();
+        } else {
+            long writeBufferSize = storageProfileConfig.writeBufferSizeBytes().value();
 
-        cache = new LRUCache(totalCacheSize, -1, false);
+            regionSize = sizeBytes();
+
+            long totalCacheSize = sizeBytes() + writeBufferSize;
+
+            cache = new LRUCache(totalCacheSize, -1, false);
+
+            writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+        }
 
-        writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+        if (storageProfileConfigView.rateLimitBytesPerSecond() > 0) {
+            rateLimiter = new RateLimiter(storageProfileConfigView.rateLimitBytesPerSecond());
+        }
     }
 
     private long sizeBytes() {
@@ -102,7 +145,36 @@ public class RocksDbStorageProfile {
      * Closes and frees resources associated with this profile.
      */
     public void stop() throws Exception {
-        IgniteUtils.closeAll(writeBufferManager, cache);
+        if (usesSharedCache()) {
+            IgniteUtils.closeAll(rateLimiter);
+        } else {
+            IgniteUtils.closeAll(rateLimiter, writeBufferManager, cache);
+        }
+    }
+
+    private boolean usesSharedCache() {
+        return sharedCache != null && cache == sharedCache.cache();
+    }
+
+    /**
+     * Returns profile configuration.
+     */
+    public RocksDbProfileView configuration() {
+        return (RocksDbProfileView) storageProfileConfig.value();
+    }
+
+    /**
+     * Returns block cache associated with the profile.
+     */
+    public Cache cache() {
+        return cache;
+    }
+
+    /**
+     * Returns rate limiter of the background IO, {@code null} if the rate is not limited.
+     */
+    public @Nullable RateLimiter rateLimiter() {
+        return rateLimiter;
     }
 
     /**
@@ -17,10 +17,18 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
 import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.util.LocalLocker;
 import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.WriteBatchWithIndex;
 
 /**
@@ -37,9 +45,49 @@ class ThreadLocalState {
     long pendingAppliedTerm;
     byte @Nullable [] pendingGroupConfig;
     long pendingEstimatedSizeDiff;
+    long pendingGcQueueSizeDiff;
+
+    /** Prefix seek iterators reused by all reads of the current closure, by column family. {@code null} until first requested. */
+    private @Nullable Map<ColumnFamilyHandle, RocksIterator> prefixIterators;
 
     ThreadLocalState(WriteBatchWithIndex batch, LocalLocker locker) {
         this.batch = batch;
         this.locker = locker;
     }
+
+    /**
+     * Returns an iterator over the column family that is shared by all reads of the current {@link WriteClosure}, instead of creating
+     * a new iterator for every read. The iterator is refreshed on every call, so it sees the latest state of the DB, but doesn't see
+     * the pending {@link #batch}. It must not be closed or wrapped by the caller.
+     *
+     * @param db RocksDB instance.
+     * @param cf Column family.
+     * @param prefixReadOpts Read options with {@link ReadOptions#setPrefixSameAsStart(boolean)} enabled.
+     */
+    RocksIterator prefixIterator(RocksDB db, ColumnFamilyHandle cf, ReadOptions prefixReadOpts) throws RocksDBException {
+        if (prefixIterators == null) {
+            prefixIterators = new HashMap<>();
+        }
+
+        RocksIterator it = prefixIterators.get(cf);
+
+        if (it == null) {
+            it = db.newIterator(cf, prefixReadOpts);
+
+            prefixIterators.put(cf, it);
+        } else {
+            it.refresh();
+        }
+
+        return it;
+    }
+
+    /** Closes the iterators created by {@link #prefixIterator}. */
+    void closeIterators() {
+        if (prefixIterators != null) {
+            RocksUtils.closeAll(prefixIterators.values());
+
+            prefixIterators = null;
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Tuning options of a group of RocksDB column families that belong to a single storage profile.
+ *
+ * <p>Options that are not supported by a particular column family (for example, prefix bloom filters for column families without a
+ * prefix extractor) are ignored for it.
+ */
+@Config
+public class RocksDbColumnFamilyConfigurationSchema {
+    /** No compression. */
+    public static final String NO_COMPRESSION = "NONE";
+
+    /** Snappy compression, RocksDB default. */
+    public static final String SNAPPY_COMPRESSION = "SNAPPY";
+
+    /** LZ4 compression. */
+    public static final String LZ4_COMPRESSION = "LZ4";
+
+    /** LZ4 high compression. */
+    public static final String LZ4HC_COMPRESSION = "LZ4HC";
+
+    /** ZSTD compression. */
+    public static final String ZSTD_COMPRESSION = "ZSTD";
+
+    /** Leveled compaction, RocksDB default. */
+    public static final String LEVEL_COMPACTION = "LEVEL";
+
+    /** Universal (tiered) compaction. */
+    public static final String UNIVERSAL_COMPACTION = "UNIVERSAL";
+
+    /** Value of {@link #bloomFilterBitsPerKey} that stands for the default of the column family. */
+    public static final int DEFAULT_BLOOM_FILTER = -1;
+
+    /** Size of uncompressed data blocks of SST files. */
+    @Range(min = 1024)
+    @Value(hasDefault = true)
+    public int blockSizeBytes = 4 * 1024;
+
+    /**
+     * Number of bits per key of the bloom filter, {@code 0} disables the filter. {@link #DEFAULT_BLOOM_FILTER} stands for the default of
+     * the column family: sorted indexes have no filter, other column families have a filter with 10 bits per key.
+     */
+    @Range(min = DEFAULT_BLOOM_FILTER, max = 64)
+    @Value(hasDefault = true)
+    public int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER;
+
+    /**
+     * Whether index and filter blocks should be partitioned into smaller blocks and stored in the block cache, instead of being loaded
+     * into memory as a whole. Reduces memory footprint of large column families at the cost of an additional block cache lookup.
+     */
+    @Value(hasDefault = true)
+    public boolean partitionedIndexFilters = false;
+
+    /** Whether index and filter blocks should be stored in the block cache and accounted against its size. */
+    @Value(hasDefault = true)
+    public boolean cacheIndexAndFilterBlocks = false;
+
+    /**
+     * Compaction style. FIFO compaction is not supported, because it drops the oldest SST files regardless of whether their data is still
+     * live, and every column family of the engine keeps live data for an unlimited time.
+     */
+    @OneOf({LEVEL_COMPACTION, UNIVERSAL_COMPACTION})
+    @Value(hasDefault = true)
+    public String compactionStyle = LEVEL_COMPACTION;
+
+    /** Compression type of all levels, unless overridden by {@link #compressionPerLevel}. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, LZ4HC_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String compression = SNAPPY_COMPRESSION;
+
+    /**
+     * Compression types of LSM levels, starting from level 0. Each element must be one of the values allowed for {@link #compression}.
+     * Empty array means that {@link #compression} is used for every level.
+     */
+    @Value(hasDefault = true)
+    public String[] compressionPerLevel = new String[0];
+}
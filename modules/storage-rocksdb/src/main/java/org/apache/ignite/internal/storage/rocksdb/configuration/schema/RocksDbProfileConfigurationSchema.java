@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
 
+import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.PublicName;
 import org.apache.ignite.configuration.annotation.Value;
@@ -43,4 +44,34 @@ public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurati
     @Range(min = 1)
     @PublicName(legacyNames = "writeBufferSize")
     public long writeBufferSizeBytes = 64 * 1024 * 1024;
+
+    /**
+     * Whether the profile should use the block cache and the write buffer manager shared between all profiles of the engine instead of
+     * its own ones. If set, {@link #sizeBytes} and {@link #writeBufferSizeBytes} are ignored in favor of
+     * {@link RocksDbStorageEngineConfigurationSchema#sharedCacheSizeBytes} and
+     * {@link RocksDbStorageEngineConfigurationSchema#sharedWriteBufferSizeBytes}.
+     */
+    @Value(hasDefault = true)
+    public boolean useSharedCache = false;
+
+    /** Limit of the background IO (flushes and compactions) rate in bytes per second, {@code 0} means no limit. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public long rateLimitBytesPerSecond = 0;
+
+    /** Options of the column families with row data and version chains. */
+    @ConfigValue
+    public RocksDbColumnFamilyConfigurationSchema dataColumnFamily;
+
+    /** Options of the column family with garbage collection queue. */
+    @ConfigValue
+    public RocksDbColumnFamilyConfigurationSchema gcQueueColumnFamily;
+
+    /** Options of the column family with partitions meta information. */
+    @ConfigValue
+    public RocksDbColumnFamilyConfigurationSchema metaColumnFamily;
+
+    /** Options of the column families with hash and sorted indexes. */
+    @ConfigValue
+    public RocksDbColumnFamilyConfigurationSchema indexColumnFamily;
 }
@@ -31,4 +31,17 @@ public class RocksDbStorageEngineConfigurationSchema {
     @Range(min = 0)
     @Value(hasDefault = true)
     public int flushDelayMillis = 100;
+
+    /**
+     * Size of the block cache shared between all profiles that have {@link RocksDbProfileConfigurationSchema#useSharedCache} enabled.
+     * {@code 0} means that the shared cache is not allocated.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long sharedCacheSizeBytes = 0;
+
+    /** Size of the write buffer shared between all profiles that have {@link RocksDbProfileConfigurationSchema#useSharedCache} enabled. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public long sharedWriteBufferSizeBytes = 64 * 1024 * 1024;
 }
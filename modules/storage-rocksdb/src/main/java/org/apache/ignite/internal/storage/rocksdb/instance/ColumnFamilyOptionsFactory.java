@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyView;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.IndexType;
+
+/**
+ * Creates {@link ColumnFamilyOptions} out of the {@link RocksDbColumnFamilyConfigurationSchema column family configuration}.
+ */
+class ColumnFamilyOptionsFactory {
+    /**
+     * Creates column family options.
+     *
+     * @param view Column family configuration.
+     * @param blockCache Block cache of the storage profile.
+     * @param wholeKeyFiltering Whether bloom filters should be built for whole keys. Column families that are only accessed with
+     *      prefix seeks should pass {@code false}, so that their filters only contain prefixes and take less memory.
+     * @param defaultBloomFilterBitsPerKey Bits per key of the bloom filter used when the configuration specifies
+     *      {@link RocksDbColumnFamilyConfigurationSchema#DEFAULT_BLOOM_FILTER}, {@code 0} for no filter.
+     * @param resources Consumer of the native resources that are referenced by the options and must be closed together with them.
+     * @return Column family options. It's the caller's responsibility to close them.
+     */
+    @SuppressWarnings("resource")
+    static ColumnFamilyOptions createCfOptions(
+            RocksDbColumnFamilyView view,
+            Cache blockCache,
+            boolean wholeKeyFiltering,
+            int defaultBloomFilterBitsPerKey,
+            Consumer<AutoCloseable> resources
+    ) {
+        int bloomFilterBitsPerKey = view.bloomFilterBitsPerKey() == RocksDbColumnFamilyConfigurationSchema.DEFAULT_BLOOM_FILTER
+                ? defaultBloomFilterBitsPerKey
+                : view.bloomFilterBitsPerKey();
+
+        var tableConfig = new BlockBasedTableConfig()
+                .setBlockCache(blockCache)
+                .setBlockSize(view.blockSizeBytes())
+                .setWholeKeyFiltering(wholeKeyFiltering)
+                .setCacheIndexAndFilterBlocks(view.cacheIndexAndFilterBlocks() || view.partitionedIndexFilters());
+
+        if (bloomFilterBitsPerKey > 0) {
+            var bloomFilter = new BloomFilter(bloomFilterBitsPerKey);
+
+            resources.accept(bloomFilter);
+
+            tableConfig.setFilterPolicy(bloomFilter);
+        }
+
+        if (view.partitionedIndexFilters()) {
+            tableConfig
+                    .setIndexType(IndexType.kTwoLevelIndexSearch)
+                    .setPartitionFilters(bloomFilterBitsPerKey > 0)
+                    .setPinTopLevelIndexAndFilter(true)
+                    .setCacheIndexAndFilterBlocksWithHighPriority(true);
+        }
+
+        var options = new ColumnFamilyOptions()
+                .setTableFormatConfig(tableConfig)
+                .setCompactionStyle(compactionStyle(view.compactionStyle()))
+                .setCompressionType(compressionType(view.compression()));
+
+        if (view.compressionPerLevel().length > 0) {
+            List<CompressionType> compressionPerLevel = new ArrayList<>(view.compressionPerLevel().length);
+
+            for (String compression : view.compressionPerLevel()) {
+                compressionPerLevel.add(compressionType(compression));
+            }
+
+            options.setNumLevels(Math.max(options.numLevels(), compressionPerLevel.size()));
+            options.setCompressionPerLevel(compressionPerLevel);
+        }
+
+        return options;
+    }
+
+    private static CompactionStyle compactionStyle(String compactionStyle) {
+        switch (compactionStyle) {
+            case RocksDbColumnFamilyConfigurationSchema.LEVEL_COMPACTION:
+                return CompactionStyle.LEVEL;
+
+            case RocksDbColumnFamilyConfigurationSchema.UNIVERSAL_COMPACTION:
+                return CompactionStyle.UNIVERSAL;
+
+            default:
+                throw new StorageException("Unknown compaction style: " + compactionStyle);
+        }
+    }
+
+    private static CompressionType compressionType(String compression) {
+        switch (compression) {
+            case RocksDbColumnFamilyConfigurationSchema.NO_COMPRESSION:
+                return CompressionType.NO_COMPRESSION;
+
+            case RocksDbColumnFamilyConfigurationSchema.SNAPPY_COMPRESSION:
+                return CompressionType.SNAPPY_COMPRESSION;
+
+            case RocksDbColumnFamilyConfigurationSchema.LZ4_COMPRESSION:
+                return CompressionType.LZ4_COMPRESSION;
+
+            case RocksDbColumnFamilyConfigurationSchema.LZ4HC_COMPRESSION:
+                return CompressionType.LZ4HC_COMPRESSION;
+
+            case RocksDbColumnFamilyConfigurationSchema.ZSTD_COMPRESSION:
+                return CompressionType.ZSTD_COMPRESSION;
+
+            default:
+                throw new StorageException("Unknown compression type: " + compression);
+        }
+    }
+}
@@ -56,6 +56,7 @@ import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor;
 import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor.TableAndIndexId;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
 import org.apache.ignite.internal.util.ByteUtils;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.jetbrains.annotations.Nullable;
@@ -106,6 +107,9 @@ public final class SharedRocksDbInstance {
     /** RocksDB storage engine instance. */
     public final RocksDbStorageEngine engine;
 
+    /** Storage profile of the instance. */
+    public final RocksDbStorageProfile profile;
+
     /** Path for the directory that stores the data. */
     public final Path path;
 
@@ -144,6 +148,7 @@ public final class SharedRocksDbInstance {
 
     SharedRocksDbInstance(
             RocksDbStorageEngine engine,
+            RocksDbStorageProfile profile,
             Path path,
             IgniteSpinBusyLock busyLock,
             RocksDbFlusher flusher,
@@ -157,6 +162,7 @@ public final class SharedRocksDbInstance {
             List<AutoCloseable> resources
     ) {
         this.engine = engine;
+        this.profile = profile;
         this.path = path;
         this.busyLock = busyLock;
 
@@ -178,7 +184,12 @@ public final class SharedRocksDbInstance {
         for (ColumnFamily sortedIndexCf : sortedIndexCfs) {
             var indexIdToTableId = new HashMap<Integer, Integer>();
 
-            try (var sortedIndexIdCursor = new IndexIdCursor(sortedIndexCf.newIterator(), null)) {
+            try (
+                    // Using total order seek, because the cursor only uses table ID + index ID as the prefix, which is shorter than the
+                    // prefix extractor of the column family, so prefix seeks could skip whole SST files and memtable entries.
+                    var readOptions = new ReadOptions().setTotalOrderSeek(true);
+                    var sortedIndexIdCursor = new IndexIdCursor(sortedIndexCf.newIterator(readOptions), null)
+            ) {
                 for (TableAndIndexId tableAndIndexId : sortedIndexIdCursor) {
                     indexIdToTableId.put(tableAndIndexId.indexId(), tableAndIndexId.tableId());
                 }
@@ -420,7 +431,7 @@ public final class SharedRocksDbInstance {
     }
 
     private ColumnFamily createSortedIndexCf(byte[] cfName) {
-        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(cfName);
+        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(cfName, profile, resource -> this.resources.add(0, resource));
         this.resources.add(0, cfOptions); // Added to the first position of the resources.
         ColumnFamilyDescriptor cfDescriptor = new ColumnFamilyDescriptor(cfName, cfOptions);
 
@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
@@ -38,11 +39,11 @@ import org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyView;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.storage.rocksdb.index.AbstractRocksDbIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
-import org.rocksdb.BlockBasedTableConfig;
-import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -56,6 +57,12 @@ import org.rocksdb.RocksDBException;
  * Contains a boilerplate code for reading/creating the DB.
  */
 public class SharedRocksDbInstanceCreator {
+    /** Size ratio of the memtable prefix bloom filter for column families with a prefix extractor. */
+    private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.125;
+
+    /** Bits per key of the bloom filter of column families that don't have it configured explicitly. */
+    private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+
     private final FailureProcessor failureProcessor;
 
     private final String nodeName;
@@ -93,7 +100,7 @@ public class SharedRocksDbInstanceCreator {
                     () -> {} // No-op.
             );
 
-            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path);
+            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path, profile);
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
 
@@ -108,6 +115,10 @@ public class SharedRocksDbInstanceCreator {
                     .setAvoidFlushDuringShutdown(true)
             );
 
+            if (profile.rateLimiter() != null) {
+                dbOptions.setRateLimiter(profile.rateLimiter());
+            }
+
             RocksDB db = add(RocksDB.open(dbOptions, path.toAbsolutePath().toString(), cfDescriptors, cfHandles));
             this.resources.addAll(cfHandles);
 
@@ -162,6 +173,7 @@ public class SharedRocksDbInstanceCreator {
 
             return new SharedRocksDbInstance(
                     engine,
+                    profile,
                     path,
                     busyLock,
                     flusher,
@@ -192,7 +204,7 @@ public class SharedRocksDbInstanceCreator {
     /**
      * Returns a list of CF descriptors present in the RocksDB instance.
      */
-    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path) throws RocksDBException {
+    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path, RocksDbStorageProfile profile) throws RocksDBException {
         String absolutePathStr = path.toAbsolutePath().toString();
 
         List<byte[]> existingNames;
@@ -208,44 +220,71 @@ public class SharedRocksDbInstanceCreator {
         }
 
         return existingNames.stream()
-                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path)))
+                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path, profile)))
                 .collect(toList());
     }
 
     @SuppressWarnings("resource")
-    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path) {
+    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path, RocksDbStorageProfile profile) {
         String utf8cfName = toStringName(cfName);
 
+        RocksDbProfileView profileView = profile.configuration();
+
         switch (ColumnFamilyType.fromCfName(utf8cfName)) {
             case META:
+                return add(cfOptions(profileView.metaColumnFamily(), profile, true, BLOOM_FILTER_BITS_PER_KEY));
+
             case GC_QUEUE:
+                return add(cfOptions(profileView.gcQueueColumnFamily(), profile, true, BLOOM_FILTER_BITS_PER_KEY));
+
             case DATA:
-                return add(new ColumnFamilyOptions());
+                return add(cfOptions(profileView.dataColumnFamily(), profile, true, BLOOM_FILTER_BITS_PER_KEY));
 
             case PARTITION:
-                return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
+                return add(
+                        cfOptions(profileView.dataColumnFamily(), profile, true, BLOOM_FILTER_BITS_PER_KEY)
+                                .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO)
+                                .useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE)
+                );
 
             case HASH_INDEX:
-                return add(defaultCfOptions().useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
+                return add(
+                        cfOptions(profileView.indexColumnFamily(), profile, false, BLOOM_FILTER_BITS_PER_KEY)
+                                .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO)
+                                .useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH)
+                );
 
             case SORTED_INDEX:
-                return add(sortedIndexCfOptions(cfName));
+                return add(sortedIndexCfOptions(cfName, profile, this::add));
             default:
                 throw new StorageException("Unidentified column family: [name={}, path={}]", cfName, path);
         }
     }
 
-    @SuppressWarnings("resource")
-    private static ColumnFamilyOptions defaultCfOptions() {
-        return new ColumnFamilyOptions()
-                .setMemtablePrefixBloomSizeRatio(0.125)
-                .setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(new BloomFilter()));
+    private ColumnFamilyOptions cfOptions(
+            RocksDbColumnFamilyView view,
+            RocksDbStorageProfile profile,
+            boolean wholeKeyFiltering,
+            int defaultBloomFilterBitsPerKey
+    ) {
+        return ColumnFamilyOptionsFactory.createCfOptions(
+                view,
+                profile.cache(),
+                wholeKeyFiltering,
+                defaultBloomFilterBitsPerKey,
+                this::add
+        );
     }
 
+    /**
+     * Creates options of a sorted index column family. Unlike other column families, sorted indexes have no bloom filter unless it is
+     * configured explicitly, because they are mostly read with range scans.
+     */
     @SuppressWarnings("resource")
-    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName) {
-        return new ColumnFamilyOptions()
+    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName, RocksDbStorageProfile profile, Consumer<AutoCloseable> resources) {
+        return ColumnFamilyOptionsFactory.createCfOptions(profile.configuration().indexColumnFamily(), profile.cache(), false, 0, resources)
                 .setComparator(ColumnFamilyUtils.comparatorFromCfName(cfName))
+                .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO)
                 .useCappedPrefixExtractor(AbstractRocksDbIndexStorage.PREFIX_WITH_IDS_LENGTH);
     }
 
@@ -17,20 +17,27 @@
 
 package org.apache.ignite.internal.storage.rocksdb.engine;
 
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
 import org.apache.ignite.internal.storage.engine.AbstractPersistentStorageEngineTest;
 import org.apache.ignite.internal.storage.engine.AbstractStorageEngineTest;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
@@ -39,6 +46,14 @@ import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.ConfigOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.OptionsUtil;
+import org.rocksdb.RocksDBException;
 
 /**
  * Implementation of the {@link AbstractStorageEngineTest} for the {@link RocksDbStorageEngine#ENGINE_NAME} engine.
@@ -91,4 +106,68 @@ public class RocksDbStorageEngineTest extends AbstractPersistentStorageEngineTes
 
         assertThat(anotherEngine.requiredOffHeapMemorySize(), is(12345L));
     }
+
+    @Test
+    void columnFamilyOptionsApplied(
+            @InjectConfiguration("mock.profiles.default {engine = rocksdb, rateLimitBytesPerSecond = 10000000, "
+                    + "dataColumnFamily {compression = LZ4, compressionPerLevel = [NONE, NONE, LZ4, LZ4, LZ4, ZSTD, ZSTD]}, "
+                    + "indexColumnFamily {partitionedIndexFilters = true, blockSizeBytes = 16384}, "
+                    + "gcQueueColumnFamily {bloomFilterBitsPerKey = 0, compactionStyle = UNIVERSAL}}")
+            StorageConfiguration storageConfig
+    ) throws RocksDBException {
+        Path enginePath = workDir.resolve("columnFamilyOptionsApplied");
+
+        StorageEngine anotherEngine = createEngine(enginePath, storageConfig);
+
+        anotherEngine.start();
+        anotherEngine.stop();
+
+        // RocksDB persists the options the column families were opened with.
+        var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+
+        try (
+                var configOptions = new ConfigOptions();
+                var dbOptions = new DBOptions()
+        ) {
+            OptionsUtil.loadLatestOptions(configOptions, enginePath.resolve("rocksdb-default").toString(), dbOptions, cfDescriptors);
+
+            ColumnFamilyOptions dataCfOptions = cfOptions(cfDescriptors, ColumnFamilyType.DATA);
+
+            assertThat(dataCfOptions.compressionType(), is(CompressionType.LZ4_COMPRESSION));
+            assertThat(dataCfOptions.compressionPerLevel(), contains(
+                    CompressionType.NO_COMPRESSION,
+                    CompressionType.NO_COMPRESSION,
+                    CompressionType.LZ4_COMPRESSION,
+                    CompressionType.LZ4_COMPRESSION,
+                    CompressionType.LZ4_COMPRESSION,
+                    CompressionType.ZSTD_COMPRESSION,
+                    CompressionType.ZSTD_COMPRESSION
+            ));
+
+            assertThat(cfOptions(cfDescriptors, ColumnFamilyType.GC_QUEUE).compactionStyle(), is(CompactionStyle.UNIVERSAL));
+            assertThat(cfOptions(cfDescriptors, ColumnFamilyType.META).compactionStyle(), is(CompactionStyle.LEVEL));
+        } finally {
+            cfDescriptors.forEach(descriptor -> descriptor.getOptions().close());
+        }
+    }
+
+    private static ColumnFamilyOptions cfOptions(List<ColumnFamilyDescriptor> cfDescriptors, ColumnFamilyType type) {
+        return cfDescriptors.stream()
+                .filter(descriptor -> ColumnFamilyType.fromCfName(toStringName(descriptor.getName())) == type)
+                .findAny()
+                .orElseThrow()
+                .getOptions();
+    }
+
+    @Test
+    void sharedCacheRequiresEngineConfiguration(
+            @InjectConfiguration("mock.profiles.default {engine = rocksdb, useSharedCache = true}")
+            StorageConfiguration storageConfig
+    ) {
+        StorageEngine anotherEngine = createEngine(workDir.resolve("sharedCacheRequiresEngineConfiguration"), storageConfig);
+
+        assertThrows(StorageException.class, anotherEngine::start);
+
+        anotherEngine.stop();
+    }
 }
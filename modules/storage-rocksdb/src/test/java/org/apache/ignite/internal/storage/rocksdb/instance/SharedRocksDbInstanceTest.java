@@ -83,7 +83,9 @@ class SharedRocksDbInstanceTest extends IgniteAbstractTest {
     @BeforeEach
     void setUp(
             // Explicit size, small enough for fast allocation, and big enough to fit some data without flushing it to disk constantly.
-            @InjectConfiguration("mock.profiles.default {engine = rocksdb, sizeBytes = 16777216, writeBufferSizeBytes = 67108864}")
+            // Bloom filters of index column families are enabled explicitly to check that index recovery is not affected by them.
+            @InjectConfiguration("mock.profiles.default {engine = rocksdb, sizeBytes = 16777216, writeBufferSizeBytes = 67108864, "
+                    + "indexColumnFamily.bloomFilterBitsPerKey = 10}")
             StorageConfiguration storageConfiguration,
             @InjectExecutorService
             ScheduledExecutorService scheduledExecutor
@@ -238,6 +240,43 @@ class SharedRocksDbInstanceTest extends IgniteAbstractTest {
         assertFalse(cfExists(barName));
     }
 
+    @Test
+    void testSortedIndexRecoveryAfterFlush() throws Exception {
+        byte[] cfName = sortedIndexCfName(List.of(
+                new StorageSortedIndexColumnDescriptor("a", NativeTypes.INT64, true, true, false)
+        ));
+
+        ColumnFamily cf = rocksDb.getOrCreateSortedIndexCf(cfName, 1, 0);
+        rocksDb.getOrCreateSortedIndexCf(cfName, 2, 0);
+        rocksDb.getOrCreateSortedIndexCf(cfName, 3, 1);
+
+        cf.put(sortedIndexKey(0, 1, 0), BYTE_EMPTY_ARRAY);
+        cf.put(sortedIndexKey(0, 1, 5), BYTE_EMPTY_ARRAY);
+        cf.put(sortedIndexKey(0, 2, 3), BYTE_EMPTY_ARRAY);
+        cf.put(sortedIndexKey(1, 3, 0), BYTE_EMPTY_ARRAY);
+
+        // Index IDs are then recovered from SST files, where seeks by table ID and index ID are shorter than the prefix of the keys.
+        assertThat(rocksDb.flush(), willCompleteSuccessfully());
+
+        rocksDb.stop();
+
+        rocksDb = createDb();
+
+        assertThat(rocksDb.sortedIndexes(0).stream().map(IndexColumnFamily::indexId).collect(toList()), containsInAnyOrder(1, 2));
+        assertThat(rocksDb.sortedIndexes(1).stream().map(IndexColumnFamily::indexId).collect(toList()), contains(3));
+
+        assertTrue(cfExists(cfName));
+    }
+
+    private static byte[] sortedIndexKey(int tableId, int indexId, int partitionId) {
+        return ByteBuffer.allocate(Integer.BYTES * 2 + Short.BYTES)
+                .order(KEY_BYTE_ORDER)
+                .putInt(tableId)
+                .putInt(indexId)
+                .putShort((short) partitionId)
+                .array();
+    }
+
     @Test
     void testHashIndexRecovery() throws Exception {
         assertThat(rocksDb.hashIndexIds(2), is(empty()));
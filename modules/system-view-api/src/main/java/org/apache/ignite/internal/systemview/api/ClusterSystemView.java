@@ -19,6 +19,7 @@ package org.apache.ignite.internal.systemview.api;
 
 import java.util.List;
 import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
 import org.apache.ignite.internal.tostring.S;
 
 /**
@@ -49,7 +50,7 @@ public class ClusterSystemView<T> extends SystemView<T> {
      */
     private ClusterSystemView(String name,
             List<SystemViewColumn<T, ?>> columns,
-            Publisher<T> dataProvider) {
+            Function<SystemViewScanCriteria, Publisher<T>> dataProvider) {
 
         super(name, columns, dataProvider);
     }
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.systemview.api;
 
 import java.util.List;
 import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.util.StringUtils;
 
@@ -53,7 +54,7 @@ public class NodeSystemView<T> extends SystemView<T> {
      */
     private NodeSystemView(String name,
             List<SystemViewColumn<T, ?>> columns,
-            Publisher<T> dataProvider,
+            Function<SystemViewScanCriteria, Publisher<T>> dataProvider,
             String nodeNameColumnAlias) {
         super(name, columns, dataProvider);
 
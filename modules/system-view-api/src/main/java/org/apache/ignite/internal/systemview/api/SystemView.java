@@ -61,7 +61,7 @@ public abstract class SystemView<T> {
 
     private final List<SystemViewColumn<T, ?>> columns;
 
-    private final Publisher<T> dataProvider;
+    private final Function<SystemViewScanCriteria, Publisher<T>> dataProvider;
 
     /**
      * Constructor.
@@ -72,7 +72,7 @@ public abstract class SystemView<T> {
      */
     SystemView(String name,
             List<SystemViewColumn<T, ?>> columns,
-            Publisher<T> dataProvider) {
+            Function<SystemViewScanCriteria, Publisher<T>> dataProvider) {
 
         if (nullOrBlank(name)) {
             throw new IllegalArgumentException("Name can not be null or blank");
@@ -123,7 +123,20 @@ public abstract class SystemView<T> {
      * @return The data provider.
      */
     public Publisher<T> dataProvider() {
-        return dataProvider;
+        return dataProvider(SystemViewScanCriteria.NONE);
+    }
+
+    /**
+     * The data provider that produces data for this system view, given criteria pushed down from a query.
+     *
+     * <p>Unless the view is built with {@link SystemViewBuilder#filteringDataProvider(Function) a filtering data provider},
+     * the criteria are ignored and all the data of the view is produced.
+     *
+     * @param criteria Scan criteria.
+     * @return The data provider.
+     */
+    public Publisher<T> dataProvider(SystemViewScanCriteria criteria) {
+        return dataProvider.apply(criteria);
     }
 
     /**
@@ -139,7 +152,7 @@ public abstract class SystemView<T> {
 
         protected String name;
 
-        protected Publisher<T> dataProvider;
+        protected Function<SystemViewScanCriteria, Publisher<T>> dataProvider;
 
         /** Constructor. */
         SystemViewBuilder() {
@@ -178,6 +191,19 @@ public abstract class SystemView<T> {
          * @return this.
          */
         public BuilderT dataProvider(Publisher<T> dataProvider) {
+            this.dataProvider = dataProvider == null ? null : criteria -> dataProvider;
+            return (BuilderT) this;
+        }
+
+        /**
+         * Specifies a function that produces data for this view given {@link SystemViewScanCriteria criteria} of a scan.
+         *
+         * <p>The function may use the criteria to skip data that does not match them, but is not obliged to.
+         *
+         * @param dataProvider Function that produces data for this view.
+         * @return this.
+         */
+        public BuilderT filteringDataProvider(Function<SystemViewScanCriteria, Publisher<T>> dataProvider) {
             this.dataProvider = dataProvider;
             return (BuilderT) this;
         }
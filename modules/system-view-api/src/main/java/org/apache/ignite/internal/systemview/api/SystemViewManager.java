@@ -52,5 +52,20 @@ public interface SystemViewManager extends IgniteComponent {
      * @return A publisher.
      * @throws IgniteInternalException if view with given name is not presented on local node.
      */
-    Publisher<InternalTuple> scanView(String name) throws IgniteInternalException;
+    default Publisher<InternalTuple> scanView(String name) throws IgniteInternalException {
+        return scanView(name, SystemViewScanCriteria.NONE);
+    }
+
+    /**
+     * Opens a cursor over view with a given name and returns publisher emitting rows of the view.
+     *
+     * <p>Given criteria are passed to the data provider of the view, which may use them to skip rows that do not
+     * match. Rows are not guaranteed to match the criteria, so the caller must still apply its own filter.
+     *
+     * @param name Name of view of interest.
+     * @param criteria Criteria pushed down from a query.
+     * @return A publisher.
+     * @throws IgniteInternalException if view with given name is not presented on local node.
+     */
+    Publisher<InternalTuple> scanView(String name, SystemViewScanCriteria criteria) throws IgniteInternalException;
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.systemview.api;
+
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Part of a query condition over a system view which is pushed down to the data provider of the view.
+ *
+ * <p>Criteria are advisory. A provider may use them to avoid producing records that are known not to match, for example, by looking
+ * up a single entry by its key instead of iterating over all of them. The query engine still applies the complete condition to
+ * every record emitted by the provider, thus a provider which ignores the criteria is always correct.
+ *
+ * <p>Values of constraints are represented by the same java types the column values are; only columns of boolean, integer, string
+ * and uuid types may be constrained.
+ *
+ * @see SystemView#dataProvider(SystemViewScanCriteria)
+ */
+public final class SystemViewScanCriteria {
+    /** Criteria that do not constrain a scan. */
+    public static final SystemViewScanCriteria NONE = new SystemViewScanCriteria(Map.of());
+
+    private final Map<String, Object> equalityConstraints;
+
+    private SystemViewScanCriteria(Map<String, Object> equalityConstraints) {
+        this.equalityConstraints = equalityConstraints;
+    }
+
+    /**
+     * Creates criteria requiring the given columns to be equal to the given values.
+     *
+     * @param equalityConstraints Mapping of a column name to the value the column must be equal to.
+     * @return Scan criteria.
+     */
+    public static SystemViewScanCriteria of(Map<String, Object> equalityConstraints) {
+        return equalityConstraints.isEmpty() ? NONE : new SystemViewScanCriteria(Map.copyOf(equalityConstraints));
+    }
+
+    /**
+     * Returns {@code true} if these criteria do not constrain a scan.
+     *
+     * @return {@code true} if there are no constraints.
+     */
+    public boolean isEmpty() {
+        return equalityConstraints.isEmpty();
+    }
+
+    /**
+     * Returns names of the columns constrained by these criteria.
+     *
+     * @return Names of constrained columns.
+     */
+    public Set<String> columns() {
+        return equalityConstraints.keySet();
+    }
+
+    /**
+     * Returns the value a column with the given name must be equal to.
+     *
+     * @param columnName Name of the column.
+     * @param <C> Type of a column value.
+     * @return Value the column must be equal to, or {@code null} if the column is not constrained.
+     */
+    public <C> @Nullable C equalTo(String columnName) {
+        return (C) equalityConstraints.get(columnName);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return equalityConstraints.equals(((SystemViewScanCriteria) o).equalityConstraints);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return equalityConstraints.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(SystemViewScanCriteria.class, this, "equalityConstraints", equalityConstraints);
+    }
+}
@@ -20,9 +20,13 @@ package org.apache.ignite.internal.systemview.api;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Flow.Publisher;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.systemview.api.NodeSystemView.Builder;
@@ -84,6 +88,33 @@ public class SystemViewTest {
         assertEquals("NODE_NAME", view.nodeNameColumnAlias(), "node name column alias");
     }
 
+    /** Criteria of a scan are passed to a filtering data provider. */
+    @Test
+    public void filteringDataProviderReceivesCriteria() {
+        Publisher<Dummy> dataProvider = dataProvider();
+        List<SystemViewScanCriteria> received = new ArrayList<>();
+
+        ClusterSystemView<Dummy> view = SystemViews.<Dummy>clusterViewBuilder()
+                .name("view")
+                .addColumn("c1", NativeTypes.INT32, (d) -> 0)
+                .filteringDataProvider(criteria -> {
+                    received.add(criteria);
+
+                    return dataProvider;
+                })
+                .build();
+
+        SystemViewScanCriteria criteria = SystemViewScanCriteria.of(Map.of("C1", 42));
+
+        assertSame(dataProvider, view.dataProvider(criteria), "data provider");
+        assertSame(dataProvider, view.dataProvider(), "data provider");
+
+        assertEquals(List.of(criteria, SystemViewScanCriteria.NONE), received);
+        assertEquals(42, (Integer) criteria.equalTo("C1"));
+        assertNull(criteria.equalTo("C2"));
+        assertTrue(SystemViewScanCriteria.of(Map.of()).isEmpty());
+    }
+
     /** Reject a node view without node name alias. */
     @Test
     public void rejectNodeViewWithoutNodeNameColumnAlias() {
@@ -61,8 +61,10 @@ import org.apache.ignite.internal.systemview.api.NodeSystemView;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.systemview.api.SystemViewProvider;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.utils.SystemViewUtils;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
 import org.apache.ignite.lang.ErrorGroups.Common;
 import org.jetbrains.annotations.Nullable;
@@ -162,7 +164,7 @@ public class SystemViewManagerImpl implements SystemViewManager, NodeAttributesP
     }
 
     @Override
-    public Publisher<InternalTuple> scanView(String name) {
+    public Publisher<InternalTuple> scanView(String name, SystemViewScanCriteria criteria) {
         ScannableView<?> scannableView = scannableViews.get(name);
 
         if (scannableView == null) {
@@ -172,7 +174,7 @@ public class SystemViewManagerImpl implements SystemViewManager, NodeAttributesP
             );
         }
 
-        return scannableView.scan();
+        return scannableView.scan(criteria);
     }
 
     @Override
@@ -258,26 +260,69 @@ public class SystemViewManagerImpl implements SystemViewManager, NodeAttributesP
         ViewRowFactory nodeViewRowFactory = new NodeViewRowFactory(localNodeName);
 
         for (SystemView<?> view : views.values()) {
-            ViewRowFactory rowFactory = view instanceof NodeSystemView
-                    ? nodeViewRowFactory
-                    : ClusterViewRowFactory.INSTANCE;
+            ScannableView<?> scannableView;
 
-            scannableViews.put(view.name(), new ScannableView<>(rowFactory, (SystemView<Object>) view));
+            if (view instanceof NodeSystemView) {
+                String nodeNameColumn = ((NodeSystemView<?>) view).nodeNameColumnAlias();
+
+                scannableView = new ScannableView<>(nodeViewRowFactory, (SystemView<Object>) view, nodeNameColumn, localNodeName);
+            } else {
+                scannableView = new ScannableView<>(ClusterViewRowFactory.INSTANCE, (SystemView<Object>) view, null, null);
+            }
+
+            scannableViews.put(view.name(), scannableView);
         }
 
         return Map.copyOf(scannableViews);
     }
 
     private static class ScannableView<T> {
+        private final ViewRowFactory rowFactory;
+
+        private final SystemView<T> view;
+
+        private final BinaryTupleSchema schema;
+
         private final Publisher<InternalTuple> publisher;
 
-        private ScannableView(ViewRowFactory rowFactory, SystemView<T> view) {
-            BinaryTupleSchema schema = tupleSchemaForView(view);
-            this.publisher = new TransformingPublisher<>(view.dataProvider(), object -> rowFactory.create(schema, view, object));
+        private final @Nullable String nodeNameColumn;
+
+        private final @Nullable String nodeName;
+
+        private ScannableView(
+                ViewRowFactory rowFactory,
+                SystemView<T> view,
+                @Nullable String nodeNameColumn,
+                @Nullable String nodeName
+        ) {
+            this.rowFactory = rowFactory;
+            this.view = view;
+            this.schema = tupleSchemaForView(view);
+            this.publisher = transform(view.dataProvider());
+            this.nodeNameColumn = nodeNameColumn;
+            this.nodeName = nodeName;
+        }
+
+        Publisher<InternalTuple> scan(SystemViewScanCriteria criteria) {
+            if (criteria.isEmpty()) {
+                return publisher;
+            }
+
+            if (nodeNameColumn != null) {
+                Object requiredNodeName = criteria.equalTo(nodeNameColumn);
+
+                // Rows of a node view are produced by every node owning the view, thus a node other than
+                // the requested one may skip the scan without even touching the data provider.
+                if (requiredNodeName != null && !requiredNodeName.equals(nodeName)) {
+                    return SubscriptionUtils.fromIterable(List.of());
+                }
+            }
+
+            return transform(view.dataProvider(criteria));
         }
 
-        Publisher<InternalTuple> scan() {
-            return publisher;
+        private Publisher<InternalTuple> transform(Publisher<T> dataProvider) {
+            return new TransformingPublisher<>(dataProvider, object -> rowFactory.create(schema, view, object));
         }
     }
 
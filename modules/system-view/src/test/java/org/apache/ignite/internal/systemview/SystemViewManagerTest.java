@@ -70,6 +70,7 @@ import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.schema.SchemaTestUtils;
 import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.type.NativeType;
@@ -330,6 +331,59 @@ public class SystemViewManagerTest extends BaseIgniteAbstractTest {
 
     }
 
+    @Test
+    void viewScanWithCriteria() {
+        when(catalog.catalogInitializationFuture()).thenReturn(nullCompletedFuture());
+        when(catalog.catalogReadyFuture(1)).thenReturn(nullCompletedFuture());
+        when(catalog.execute(anyList())).thenReturn(nullCompletedFuture());
+
+        String nodeView = "NODE_VIEW";
+
+        List<SystemViewScanCriteria> received = new ArrayList<>();
+
+        viewMgr.register(() -> List.of(
+                SystemViews.<Integer>nodeViewBuilder()
+                        .name(nodeView)
+                        .nodeNameColumnAlias("NODE")
+                        .addColumn("C1", NativeTypes.INT32, Function.identity())
+                        .filteringDataProvider(criteria -> {
+                            received.add(criteria);
+
+                            Integer c1 = criteria.equalTo("C1");
+
+                            return fromIterable(c1 == null ? List.of(1, 2, 3) : List.of(c1));
+                        })
+                        .build()
+        ));
+
+        assertThat(viewMgr.startAsync(new ComponentContext()), willCompleteSuccessfully());
+
+        {
+            DrainAllSubscriber<InternalTuple> subs = new DrainAllSubscriber<>();
+
+            SystemViewScanCriteria criteria = SystemViewScanCriteria.of(Map.of("NODE", LOCAL_NODE_NAME, "C1", 2));
+
+            viewMgr.scanView(nodeView, criteria).subscribe(subs);
+
+            List<InternalTuple> entries = await(subs.completion);
+
+            assertThat(entries, hasSize(1));
+            assertThat(entries.get(0).stringValue(0), equalTo(LOCAL_NODE_NAME));
+            assertThat(entries.get(0).intValue(1), equalTo(2));
+            assertThat(received, equalTo(List.of(criteria)));
+        }
+
+        {
+            DrainAllSubscriber<InternalTuple> subs = new DrainAllSubscriber<>();
+
+            // Rows of another node are requested, so the data provider must not be called at all.
+            viewMgr.scanView(nodeView, SystemViewScanCriteria.of(Map.of("NODE", "OTHER_NODE"))).subscribe(subs);
+
+            assertThat(await(subs.completion), empty());
+            assertThat(received, hasSize(1));
+        }
+    }
+
     private static SystemView<?> dummyView(String name) {
         return dummyView(name, NativeTypes.INT32);
     }
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
 import org.apache.ignite.internal.table.metrics.ReadWriteMetricSource;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.table.QualifiedName;
@@ -343,6 +344,27 @@ public interface InternalTable extends ManuallyCloseable {
             OperationContext operationContext
     );
 
+    /**
+     * Scans given partition, providing {@link Publisher} that reactively notifies about partition rows. The criteria let the storage skip
+     * rows that can't match the scan filter, but they are only a hint: the publisher may still return such rows.
+     *
+     * @param partId The partition.
+     * @param recipientNode Cluster node that will handle given get request.
+     * @param criteria Table scan criteria.
+     * @param operationContext Operation context.
+     * @return {@link Publisher} that reactively notifies about partition rows.
+     * @throws IllegalArgumentException If proposed partition index {@code p} is out of bounds.
+     * @throws TransactionException If proposed {@code tx} is read-write. Transaction itself won't be automatically rolled back.
+     */
+    default Publisher<BinaryRow> scan(
+            int partId,
+            InternalClusterNode recipientNode,
+            TableScanCriteria criteria,
+            OperationContext operationContext
+    ) {
+        return scan(partId, recipientNode, operationContext);
+    }
+
     /**
      * Scans given partition index, providing {@link Publisher}
      * that reactively notifies about partition rows.
@@ -432,6 +454,23 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Long> estimatedSize();
 
+    /**
+     * Reads a batch of changes committed to a partition of this table, ordered by commit timestamps. Reading is done on the primary
+     * replica.
+     *
+     * <p>Changes are read from the version chains of the rows, so reading a partition that was modified since the previous read scans the
+     * whole partition and locks each of its rows in turn. Reads of a partition that was not modified, and has no changes after the given
+     * timestamp, are answered without a scan. While a transaction that began before the latest commit to the partition still has write
+     * intents in it, reading can't advance past the begin timestamp of the transaction, so every read scans the partition.
+     *
+     * @param partitionId Partition ID.
+     * @param afterTimestamp Timestamp, the changes committed after which are read. Must not be below the low watermark.
+     * @param batchSize Number of changes, after reading which the reading stops at the nearest commit timestamp.
+     * @return Future with the batch of changes.
+     * @see PartitionChanges#resumeTimestamp()
+     */
+    CompletableFuture<PartitionChanges> readChanges(int partitionId, HybridTimestamp afterTimestamp, int batchSize);
+
     /**
      * Returns the streamer receiver runner.
      *
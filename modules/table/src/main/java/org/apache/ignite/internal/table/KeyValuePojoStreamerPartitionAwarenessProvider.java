@@ -24,6 +24,7 @@ import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.MarshallerException;
 
 /**
@@ -41,6 +42,16 @@ class KeyValuePojoStreamerPartitionAwarenessProvider<K, V> extends AbstractClien
 
     @Override
     int colocationHash(SchemaDescriptor schema, Entry<K, V> item) throws MarshallerException {
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Column c = schema.colocationColumns().get(0);
+            Object val = marsh.value(item.getKey(), c.positionInRow());
+
+            // Values of a wrong type are rejected by the serializer, any partition will do for them.
+            return rangePartitioner.accepts(val) ? rangePartitioner.partition(val) : 0;
+        }
+
         HashCalculator hashCalc = new HashCalculator();
 
         for (Column c : schema.colocationColumns()) {
@@ -23,6 +23,7 @@ import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.TupleHelper;
 
@@ -36,6 +37,16 @@ class KeyValueTupleStreamerPartitionAwarenessProvider extends AbstractClientStre
 
     @Override
     int colocationHash(SchemaDescriptor schema, Entry<Tuple, Tuple> item) {
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Column c = schema.colocationColumns().get(0);
+            Object val = TupleHelper.valueOrDefault(item.getKey(), c.name(), null);
+
+            // Values of a wrong type are rejected by the serializer, any partition will do for them.
+            return rangePartitioner.accepts(val) ? rangePartitioner.partition(val) : 0;
+        }
+
         HashCalculator hashCalc = new HashCalculator();
 
         for (Column c : schema.colocationColumns()) {
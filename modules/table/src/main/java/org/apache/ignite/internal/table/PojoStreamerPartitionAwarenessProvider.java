@@ -23,6 +23,7 @@ import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.lang.MarshallerException;
 
 /**
@@ -40,6 +41,16 @@ class PojoStreamerPartitionAwarenessProvider<R> extends AbstractClientStreamerPa
 
     @Override
     int colocationHash(SchemaDescriptor schema, R item) throws MarshallerException {
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Column c = schema.colocationColumns().get(0);
+            Object val = marsh.value(item, c.positionInRow());
+
+            // Values of a wrong type are rejected by the serializer, any partition will do for them.
+            return rangePartitioner.accepts(val) ? rangePartitioner.partition(val) : 0;
+        }
+
         HashCalculator hashCalc = new HashCalculator();
 
         for (Column c : schema.colocationColumns()) {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table;
+
+import java.util.BitSet;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Table scan criteria: a projection and single-column ranges the storage may use to skip rows that can't match the scan filter.
+ *
+ * <p>The criteria are only a hint, storages that can't make use of them return all rows, so the filter must still be applied to the
+ * result of the scan.
+ */
+public class TableScanCriteria {
+    private final int schemaVersion;
+
+    private final @Nullable BitSet requiredColumns;
+
+    private final List<ColumnRange> columnRanges;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaVersion Schema version the column indexes refer to.
+     * @param requiredColumns Columns the caller is interested in, {@code null} if all of them are required.
+     * @param columnRanges Ranges of column values.
+     */
+    public TableScanCriteria(int schemaVersion, @Nullable BitSet requiredColumns, List<ColumnRange> columnRanges) {
+        this.schemaVersion = schemaVersion;
+        this.requiredColumns = requiredColumns;
+        this.columnRanges = List.copyOf(columnRanges);
+    }
+
+    /** Get schema version the column indexes refer to. */
+    public int schemaVersion() {
+        return schemaVersion;
+    }
+
+    /** Get columns the caller is interested in, {@code null} if all of them are required. */
+    public @Nullable BitSet requiredColumns() {
+        return requiredColumns;
+    }
+
+    /** Get ranges of column values. */
+    public List<ColumnRange> columnRanges() {
+        return columnRanges;
+    }
+
+    /**
+     * Range of values of a single column.
+     */
+    public static class ColumnRange {
+        private final int column;
+        private final @Nullable BinaryTuple lowerBound;
+        private final boolean lowerInclusive;
+        private final @Nullable BinaryTuple upperBound;
+        private final boolean upperInclusive;
+
+        /**
+         * Constructor.
+         *
+         * @param column Index of the column in the row.
+         * @param lowerBound Lower bound, a single element tuple, {@code null} means unbounded.
+         * @param lowerInclusive Whether the lower bound is inclusive.
+         * @param upperBound Upper bound, a single element tuple, {@code null} means unbounded.
+         * @param upperInclusive Whether the upper bound is inclusive.
+         */
+        public ColumnRange(
+                int column,
+                @Nullable BinaryTuple lowerBound,
+                boolean lowerInclusive,
+                @Nullable BinaryTuple upperBound,
+                boolean upperInclusive
+        ) {
+            this.column = column;
+            this.lowerBound = lowerBound;
+            this.lowerInclusive = lowerInclusive;
+            this.upperBound = upperBound;
+            this.upperInclusive = upperInclusive;
+        }
+
+        /** Get index of the column in the row. */
+        public int column() {
+            return column;
+        }
+
+        /** Get lower bound, {@code null} means unbounded. */
+        public @Nullable BinaryTuple lowerBound() {
+            return lowerBound;
+        }
+
+        /** Get whether the lower bound is inclusive. */
+        public boolean lowerInclusive() {
+            return lowerInclusive;
+        }
+
+        /** Get upper bound, {@code null} means unbounded. */
+        public @Nullable BinaryTuple upperBound() {
+            return upperBound;
+        }
+
+        /** Get whether the upper bound is inclusive. */
+        public boolean upperInclusive() {
+            return upperInclusive;
+        }
+    }
+}
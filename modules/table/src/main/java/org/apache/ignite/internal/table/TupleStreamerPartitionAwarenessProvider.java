@@ -22,6 +22,7 @@ import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.util.ColocationUtils;
 import org.apache.ignite.internal.util.HashCalculator;
+import org.apache.ignite.internal.util.RangePartitioner;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.TupleHelper;
 
@@ -35,6 +36,16 @@ class TupleStreamerPartitionAwarenessProvider extends AbstractClientStreamerPart
 
     @Override
     int colocationHash(SchemaDescriptor schema, Tuple item) {
+        RangePartitioner rangePartitioner = schema.rangePartitioner();
+
+        if (rangePartitioner != null) {
+            Column c = schema.colocationColumns().get(0);
+            Object val = TupleHelper.valueOrDefault(item, c.name(), null);
+
+            // Values of a wrong type are rejected by the serializer, any partition will do for them.
+            return rangePartitioner.accepts(val) ? rangePartitioner.partition(val) : 0;
+        }
+
         HashCalculator hashCalc = new HashCalculator();
 
         for (Column c : schema.colocationColumns()) {
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.cdc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Subscriber appending the changes to a local text file, intended for testing.
+ *
+ * <p>Every change is written as a line with its commit timestamp, its type and the row after the change (or before it, for a deletion),
+ * converted to the latest schema. After the last change of a commit, a {@code COMMIT <timestamp>} line is written and the file is flushed.
+ * Changes written after the last such line may be written again after resuming from {@link #resumeTimestamp(Path)}.
+ */
+public class FileChangeSink implements Subscriber<RowChange> {
+    private static final String COMMIT_PREFIX = "COMMIT ";
+
+    /** Number of changes requested at once. */
+    private static final int REQUEST_SIZE = 64;
+
+    private final Path path;
+
+    private final SchemaRegistry schemaRegistry;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private BufferedWriter writer;
+
+    private Subscription subscription;
+
+    private int remaining;
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to the file to append the changes to.
+     * @param schemaRegistry Schema registry of the table.
+     */
+    public FileChangeSink(Path path, SchemaRegistry schemaRegistry) {
+        this.path = path;
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    /**
+     * Returns the commit timestamp of the last commit written to the file completely, or {@code null} if there is none.
+     *
+     * @param path Path to the file.
+     * @throws IOException If the file can't be read.
+     */
+    public static @Nullable HybridTimestamp resumeTimestamp(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        List<String> lines = Files.readAllLines(path, UTF_8);
+
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            String line = lines.get(i);
+
+            if (line.startsWith(COMMIT_PREFIX)) {
+                return hybridTimestamp(Long.parseLong(line.substring(COMMIT_PREFIX.length())));
+            }
+        }
+
+        return null;
+    }
+
+    /** Returns the future that is completed when the stream of changes ends, or exceptionally if the changes can't be written. */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        try {
+            writer = Files.newBufferedWriter(path, UTF_8, CREATE, APPEND);
+        } catch (IOException e) {
+            subscription.cancel();
+
+            completion.completeExceptionally(e);
+
+            return;
+        }
+
+        this.subscription = subscription;
+
+        remaining = REQUEST_SIZE;
+
+        subscription.request(REQUEST_SIZE);
+    }
+
+    @Override
+    public void onNext(RowChange change) {
+        if (completion.isDone()) {
+            return;
+        }
+
+        try {
+            writer.write(format(change));
+            writer.newLine();
+
+            if (change.lastOfCommit()) {
+                writer.write(COMMIT_PREFIX + change.commitTimestamp().longValue());
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            subscription.cancel();
+
+            close(e);
+
+            return;
+        }
+
+        if (--remaining == 0) {
+            remaining = REQUEST_SIZE;
+
+            subscription.request(REQUEST_SIZE);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        close(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close(null);
+    }
+
+    private String format(RowChange change) {
+        BinaryRow binaryRow = change.row() != null ? change.row() : change.previousRow();
+
+        SchemaDescriptor schema = schemaRegistry.lastKnownSchema();
+        Row row = schemaRegistry.resolve(binaryRow, schema);
+
+        var columns = new StringJoiner(", ", "[", "]");
+
+        for (Column column : schema.columns()) {
+            columns.add(column.name() + '=' + row.value(column.positionInRow()));
+        }
+
+        return change.commitTimestamp().longValue() + " " + change.type() + ' ' + columns;
+    }
+
+    private void close(@Nullable Throwable throwable) {
+        if (completion.isDone()) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            if (throwable == null) {
+                throwable = e;
+            } else {
+                throwable.addSuppressed(e);
+            }
+        }
+
+        if (throwable == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(throwable);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.cdc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.table.InternalTable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Publisher of the changes committed to a table partition, in the order of their commit timestamps.
+ *
+ * <p>Changes are fetched from the primary replica in batches, no sooner than the subscriber requests them, and at most one batch is
+ * fetched at a time. When the partition has no new changes, it is polled again after the poll interval. The stream of changes is endless:
+ * it only ends with an error or when the subscription is cancelled.
+ *
+ * <p>Every fetch after the partition is modified scans the whole partition on the primary replica, see
+ * {@link InternalTable#readChanges}, so a short poll interval on a frequently modified large partition keeps the primary busy scanning.
+ * Polls of an idle partition don't scan it.
+ *
+ * <p>To resume reading after a restart, a new publisher is created with the commit timestamp of the last processed change that is
+ * {@link RowChange#lastOfCommit() the last one of its commit}.
+ */
+public class PartitionChangePublisher implements Publisher<RowChange> {
+    private final InternalTable table;
+
+    private final int partitionId;
+
+    private final HybridTimestamp afterTimestamp;
+
+    private final int batchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long pollIntervalMillis;
+
+    /** True when the publisher has a subscriber, false otherwise. */
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * Constructor.
+     *
+     * @param table Table.
+     * @param partitionId Partition ID.
+     * @param afterTimestamp Timestamp, the changes committed after which are published.
+     * @param batchSize Number of changes to fetch at once.
+     * @param scheduler Scheduler to poll the partition for new changes with.
+     * @param pollIntervalMillis Interval between polls when the partition has no new changes, in milliseconds.
+     */
+    public PartitionChangePublisher(
+            InternalTable table,
+            int partitionId,
+            HybridTimestamp afterTimestamp,
+            int batchSize,
+            ScheduledExecutorService scheduler,
+            long pollIntervalMillis
+    ) {
+        assert batchSize > 0 : batchSize;
+
+        this.table = table;
+        this.partitionId = partitionId;
+        this.afterTimestamp = afterTimestamp;
+        this.batchSize = batchSize;
+        this.scheduler = scheduler;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super RowChange> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber is null");
+        }
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onError(new IllegalStateException("Change publisher does not support multiple subscriptions."));
+
+            return;
+        }
+
+        subscriber.onSubscribe(new ChangeSubscription(subscriber));
+    }
+
+    /**
+     * Change subscription. Signals to the subscriber are only sent from {@link #drain()}, which is never executed concurrently, so that
+     * they are serialized.
+     */
+    private class ChangeSubscription implements Subscription {
+        private final Subscriber<? super RowChange> subscriber;
+
+        private final Object lock = new Object();
+
+        /** Fetched changes not yet delivered to the subscriber. */
+        private final Queue<RowChange> buffer = new ArrayDeque<>();
+
+        private HybridTimestamp resumeTimestamp = afterTimestamp;
+
+        private long requestedItemsCnt;
+
+        private boolean fetching;
+
+        private boolean draining;
+
+        /** Whether the state was changed while draining, so that draining must be repeated. */
+        private boolean missed;
+
+        private boolean canceled;
+
+        private @Nullable Throwable error;
+
+        private ChangeSubscription(Subscriber<? super RowChange> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (lock) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException(format("Invalid amount of items requested [requested={}, minValue=1].", n));
+                } else {
+                    requestedItemsCnt += n;
+
+                    // Handle overflow.
+                    if (requestedItemsCnt < 0) {
+                        requestedItemsCnt = Long.MAX_VALUE;
+                    }
+                }
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                canceled = true;
+
+                buffer.clear();
+            }
+        }
+
+        /** Delivers the buffered changes as long as they are requested, and fetches the next batch when the buffer runs out. */
+        private void drain() {
+            synchronized (lock) {
+                if (draining) {
+                    missed = true;
+
+                    return;
+                }
+
+                draining = true;
+            }
+
+            while (true) {
+                RowChange next = null;
+                Throwable err = null;
+                boolean fetch = false;
+
+                synchronized (lock) {
+                    if (canceled) {
+                        draining = false;
+
+                        return;
+                    }
+
+                    if (error != null) {
+                        err = error;
+                        canceled = true;
+                        draining = false;
+                    } else if (requestedItemsCnt > 0 && !buffer.isEmpty()) {
+                        next = buffer.poll();
+                        requestedItemsCnt--;
+                    } else if (missed) {
+                        missed = false;
+
+                        continue;
+                    } else {
+                        draining = false;
+
+                        fetch = requestedItemsCnt > 0 && !fetching;
+                        fetching |= fetch;
+                    }
+                }
+
+                if (next != null) {
+                    subscriber.onNext(next);
+                } else {
+                    if (err != null) {
+                        subscriber.onError(err);
+                    } else if (fetch) {
+                        fetch();
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        private void fetch() {
+            HybridTimestamp after;
+
+            synchronized (lock) {
+                if (canceled) {
+                    return;
+                }
+
+                after = resumeTimestamp;
+            }
+
+            table.readChanges(partitionId, after, batchSize).whenComplete((changes, e) -> {
+                boolean poll = false;
+
+                synchronized (lock) {
+                    if (e != null) {
+                        error = unwrapCause(e);
+                    } else {
+                        buffer.addAll(changes.changes());
+                        resumeTimestamp = changes.resumeTimestamp();
+
+                        // Nothing new yet, keep the fetching flag until the partition is polled again.
+                        poll = changes.changes().isEmpty() && !changes.hasMore() && !canceled;
+                    }
+
+                    fetching = poll;
+                }
+
+                if (poll) {
+                    schedulePoll();
+                } else {
+                    drain();
+                }
+            });
+        }
+
+        private void schedulePoll() {
+            try {
+                scheduler.schedule(this::fetch, pollIntervalMillis, MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                synchronized (lock) {
+                    error = e;
+                    fetching = false;
+                }
+
+                drain();
+            }
+        }
+    }
+}
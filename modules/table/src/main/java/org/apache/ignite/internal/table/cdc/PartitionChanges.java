@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.cdc;
+
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Batch of changes committed to a table partition, ordered by commit timestamps.
+ */
+public class PartitionChanges {
+    private final List<RowChange> changes;
+
+    private final HybridTimestamp resumeTimestamp;
+
+    private final boolean hasMore;
+
+    /**
+     * Constructor.
+     *
+     * @param changes Changes ordered by commit timestamps.
+     * @param resumeTimestamp Timestamp to read the next batch after.
+     * @param hasMore Whether more changes are already available after {@code resumeTimestamp}.
+     */
+    public PartitionChanges(List<RowChange> changes, HybridTimestamp resumeTimestamp, boolean hasMore) {
+        this.changes = changes;
+        this.resumeTimestamp = resumeTimestamp;
+        this.hasMore = hasMore;
+    }
+
+    /** Returns the changes ordered by commit timestamps. */
+    public List<RowChange> changes() {
+        return changes;
+    }
+
+    /**
+     * Returns the timestamp to read the next batch after. All changes committed up to it are either contained in the batch or were read
+     * before. The timestamp may be greater than the commit timestamp of the last change if nothing else was committed since then.
+     */
+    public HybridTimestamp resumeTimestamp() {
+        return resumeTimestamp;
+    }
+
+    /** Returns {@code true} if the batch was truncated and more changes can be read right away. */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(PartitionChanges.class, this);
+    }
+}
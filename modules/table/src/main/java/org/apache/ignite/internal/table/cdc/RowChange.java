@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.cdc;
+
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Change of a single row, committed to a table partition.
+ */
+public class RowChange {
+    /** Type of a row change. */
+    public enum Type {
+        /** Row did not exist before the change. */
+        INSERT,
+
+        /** Existing row was replaced. */
+        UPDATE,
+
+        /** Existing row was removed. */
+        DELETE
+    }
+
+    private final int partitionId;
+
+    private final HybridTimestamp commitTimestamp;
+
+    private final @Nullable BinaryRow row;
+
+    private final @Nullable BinaryRow previousRow;
+
+    private final boolean lastOfCommit;
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition ID.
+     * @param commitTimestamp Commit timestamp of the change.
+     * @param row Row after the change, {@code null} if the row was removed.
+     * @param previousRow Row before the change, {@code null} if the row did not exist.
+     * @param lastOfCommit Whether the change is the last one of the partition with the same commit timestamp.
+     */
+    public RowChange(
+            int partitionId,
+            HybridTimestamp commitTimestamp,
+            @Nullable BinaryRow row,
+            @Nullable BinaryRow previousRow,
+            boolean lastOfCommit
+    ) {
+        assert row != null || previousRow != null : "Empty change [partitionId=" + partitionId + ", commitTs=" + commitTimestamp + ']';
+
+        this.partitionId = partitionId;
+        this.commitTimestamp = commitTimestamp;
+        this.row = row;
+        this.previousRow = previousRow;
+        this.lastOfCommit = lastOfCommit;
+    }
+
+    /** Returns the partition ID. */
+    public int partitionId() {
+        return partitionId;
+    }
+
+    /** Returns the commit timestamp of the change. */
+    public HybridTimestamp commitTimestamp() {
+        return commitTimestamp;
+    }
+
+    /** Returns the row after the change, {@code null} if the row was removed. */
+    public @Nullable BinaryRow row() {
+        return row;
+    }
+
+    /** Returns the row before the change, {@code null} if the row did not exist. */
+    public @Nullable BinaryRow previousRow() {
+        return previousRow;
+    }
+
+    /**
+     * Returns {@code true} if the change is the last one of the partition with its commit timestamp. The commit timestamp of such a change
+     * may be used to resume reading the changes without losing or repeating any of them.
+     */
+    public boolean lastOfCommit() {
+        return lastOfCommit;
+    }
+
+    /** Returns the type of the change. */
+    public Type type() {
+        if (previousRow == null) {
+            return Type.INSERT;
+        }
+
+        return row == null ? Type.DELETE : Type.UPDATE;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(RowChange.class, this);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed;
+
+import java.util.List;
+import org.apache.ignite.internal.schema.BinaryRow;
+
+/**
+ * Listener of rows committed to partition storages.
+ *
+ * <p>The listener is notified on every node that applies a commit to its copy of a partition, both when write intents are switched to
+ * committed versions and when a single-phase commit writes committed versions directly. The notification is made on the thread applying
+ * the commit, so implementations must neither block nor do heavy work.
+ */
+public interface CommittedRowsListener {
+    /** Listener that ignores all commits. */
+    CommittedRowsListener NO_OP = new CommittedRowsListener() {
+        @Override
+        public boolean listens(int tableId) {
+            return false;
+        }
+
+        @Override
+        public void onRowsCommitted(int tableId, int partitionId, List<BinaryRow> rows) {
+            // No-op.
+        }
+    };
+
+    /**
+     * Returns {@code true} if commits to the given table must be reported. Collecting the committed rows has a cost, so it is only done
+     * for the tables the listener is interested in.
+     *
+     * @param tableId Table ID.
+     */
+    boolean listens(int tableId);
+
+    /**
+     * Notifies about rows committed to a partition.
+     *
+     * @param tableId Table ID.
+     * @param partitionId Partition ID.
+     * @param rows For every committed row, its new version unless the row was removed, followed by its previous committed version
+     *         if there was one.
+     */
+    void onRowsCommitted(int tableId, int partitionId, List<BinaryRow> rows);
+}
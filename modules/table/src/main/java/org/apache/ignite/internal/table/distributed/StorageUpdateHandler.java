@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.tracing.TraceStage.STORAGE_APPLY;
 import static org.apache.ignite.internal.tx.TransactionLogUtils.formatTxInfo;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
@@ -29,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -45,12 +47,15 @@ import org.apache.ignite.internal.storage.AddWriteCommittedResultStatus;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.AddWriteResultStatus;
 import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
+import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
 import org.apache.ignite.internal.table.distributed.replicator.PendingRows;
+import org.apache.ignite.internal.tracing.RequestSpan;
+import org.apache.ignite.internal.tracing.RequestTracing;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.ErrorGroups.Common;
@@ -83,6 +88,15 @@ public class StorageUpdateHandler {
     /** Transaction manager to retrieve labels for logging. */
     private final TxManager txManager;
 
+    /** Listener of committed rows. */
+    private final CommittedRowsListener committedRowsListener;
+
+    /** Number of storage modifications started by this handler. */
+    private final AtomicLong startedModifications = new AtomicLong();
+
+    /** Number of storage modifications finished by this handler. */
+    private final AtomicLong finishedModifications = new AtomicLong();
+
     @TestOnly
     private boolean writeIntentSwitchBlocked;
 
@@ -122,6 +136,37 @@ public class StorageUpdateHandler {
             ReplicationConfiguration replicationConfiguration,
             PartitionModificationCounter modificationCounter,
             @Nullable TxManager txManager
+    ) {
+        this(
+                partitionId,
+                storage,
+                indexUpdateHandler,
+                replicationConfiguration,
+                modificationCounter,
+                txManager,
+                CommittedRowsListener.NO_OP
+        );
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param partitionId Partition id.
+     * @param storage Partition data storage.
+     * @param indexUpdateHandler Partition index update handler.
+     * @param replicationConfiguration Configuration for the replication.
+     * @param modificationCounter Partition modification counter.
+     * @param txManager tx manager to retrieve label for logging.
+     * @param committedRowsListener Listener of committed rows.
+     */
+    public StorageUpdateHandler(
+            int partitionId,
+            PartitionDataStorage storage,
+            IndexUpdateHandler indexUpdateHandler,
+            ReplicationConfiguration replicationConfiguration,
+            PartitionModificationCounter modificationCounter,
+            @Nullable TxManager txManager,
+            CommittedRowsListener committedRowsListener
     ) {
         this.partitionId = partitionId;
         this.storage = storage;
@@ -129,6 +174,7 @@ public class StorageUpdateHandler {
         this.replicationConfiguration = replicationConfiguration;
         this.modificationCounter = modificationCounter;
         this.txManager = txManager;
+        this.committedRowsListener = committedRowsListener;
     }
 
     /** Returns partition ID of the storage. */
@@ -205,7 +251,12 @@ public class StorageUpdateHandler {
         // Either we track write intents for later commit (2PC) or commit immediately with timestamp (1PC).
         assert trackWriteIntent || commitTs != null : "either trackWriteIntent must be true or commitTs must be non-null";
 
-        storage.runConsistently(locker -> {
+        RequestSpan span = RequestTracing.current();
+        long startNanos = span == null ? 0 : System.nanoTime();
+
+        List<BinaryRow> committedRows = trackWriteIntent ? null : committedRowsCollector();
+
+        runConsistently(locker -> {
             RowId rowId = new RowId(partitionId, rowUuid);
 
             tryProcessRow(
@@ -224,6 +275,8 @@ public class StorageUpdateHandler {
                 pendingRows.addPendingRowId(txId, rowId);
             } else {
                 modificationCounter.updateValue(1, commitTs);
+
+                collectCommittedVersions(rowId, committedRows);
             }
 
             if (onApplication != null) {
@@ -232,6 +285,12 @@ public class StorageUpdateHandler {
 
             return null;
         });
+
+        notifyRowsCommitted(committedRows);
+
+        if (span != null) {
+            span.record(STORAGE_APPLY, System.nanoTime() - startNanos);
+        }
     }
 
     private boolean tryProcessRow(
@@ -290,9 +349,14 @@ public class StorageUpdateHandler {
             return;
         }
 
+        RequestSpan span = RequestTracing.current();
+        long startNanos = span == null ? 0 : System.nanoTime();
+
         Iterator<Entry<UUID, TimedBinaryRow>> it = rowsToUpdate.entrySet().iterator();
         Entry<UUID, TimedBinaryRow> lastUnprocessedEntry = it.next();
 
+        List<BinaryRow> committedRows = trackWriteIntent ? null : committedRowsCollector();
+
         while (lastUnprocessedEntry != null) {
             lastUnprocessedEntry = processEntriesUntilBatchLimit(
                     lastUnprocessedEntry,
@@ -303,9 +367,16 @@ public class StorageUpdateHandler {
                     it,
                     onApplication,
                     replicationConfiguration.batchSizeBytes().value(),
-                    indexIds
+                    indexIds,
+                    committedRows
             );
         }
+
+        notifyRowsCommitted(committedRows);
+
+        if (span != null) {
+            span.record(STORAGE_APPLY, System.nanoTime() - startNanos);
+        }
     }
 
     private Entry<UUID, TimedBinaryRow> processEntriesUntilBatchLimit(
@@ -317,9 +388,10 @@ public class StorageUpdateHandler {
             Iterator<Entry<UUID, TimedBinaryRow>> it,
             @Nullable Runnable onApplication,
             int maxBatchLength,
-            @Nullable List<Integer> indexIds
+            @Nullable List<Integer> indexIds,
+            @Nullable List<BinaryRow> committedRows
     ) {
-        return storage.runConsistently(locker -> {
+        return runConsistently(locker -> {
             List<RowId> processedRowIds = new ArrayList<>();
             int batchLength = 0;
             Entry<UUID, TimedBinaryRow> entryToProcess = lastUnprocessedEntry;
@@ -359,6 +431,10 @@ public class StorageUpdateHandler {
                 pendingRows.addPendingRowIds(txId, processedRowIds);
             } else {
                 modificationCounter.updateValue(processedRowIds.size(), commitTs);
+
+                for (RowId rowId : processedRowIds) {
+                    collectCommittedVersions(rowId, committedRows);
+                }
             }
             if (entryToProcess == null && onApplication != null) {
                 onApplication.run();
@@ -432,7 +508,7 @@ public class StorageUpdateHandler {
     ) {
         if (writeIntentSwitchBlocked) {
             if (onApplication != null) {
-                storage.runConsistently(locker -> {
+                runConsistently(locker -> {
                     onApplication.run();
                     return true;
                 });
@@ -452,9 +528,10 @@ public class StorageUpdateHandler {
         // to update indexes. In this case it should be executed under `runConsistently`.
         if (!pendingRowIds.isEmpty() || onApplication != null) {
             Iterator<RowId> pendingRowIdsIterator = pendingRowIds.iterator();
+            List<BinaryRow> committedRows = commit ? committedRowsCollector() : null;
             boolean finished = false;
             while (!finished) {
-                finished = storage.runConsistently(locker -> {
+                finished = runConsistently(locker -> {
                     int modificationsCount = 0;
                     boolean shouldRelease = false;
                     while (pendingRowIdsIterator.hasNext()) {
@@ -466,6 +543,8 @@ public class StorageUpdateHandler {
                         if (commit) {
                             storage.commitWrite(rowId, commitTimestamp, txId);
                             modificationsCount++;
+
+                            collectCommittedVersions(rowId, committedRows);
                         } else {
                             performAbortWrite(txId, rowId, indexIds);
                         }
@@ -491,6 +570,44 @@ public class StorageUpdateHandler {
                     return true;
                 });
             }
+
+            notifyRowsCommitted(committedRows);
+        }
+    }
+
+    /** Returns a list to collect committed rows to, or {@code null} if commits to the table are not listened to. */
+    private @Nullable List<BinaryRow> committedRowsCollector() {
+        return committedRowsListener.listens(storage.tableId()) ? new ArrayList<>() : null;
+    }
+
+    /** Adds the latest committed version of the row and the version preceding it, if any, to the given list. */
+    private void collectCommittedVersions(RowId rowId, @Nullable List<BinaryRow> committedRows) {
+        if (committedRows == null) {
+            return;
+        }
+
+        try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
+            for (int i = 0; i < 2 && cursor.hasNext(); i++) {
+                BinaryRow row = cursor.next().binaryRow();
+
+                // A removed row is a tombstone without a binary row.
+                if (row != null) {
+                    committedRows.add(row);
+                }
+            }
+        }
+    }
+
+    private void notifyRowsCommitted(@Nullable List<BinaryRow> committedRows) {
+        if (committedRows == null || committedRows.isEmpty()) {
+            return;
+        }
+
+        try {
+            committedRowsListener.onRowsCommitted(storage.tableId(), partitionId, committedRows);
+        } catch (Exception e) {
+            // A failure of the listener must not affect the storage update, which is already applied.
+            LOG.warn("Committed rows listener failed [tableId={}, partitionId={}].", e, storage.tableId(), partitionId);
         }
     }
 
@@ -679,6 +796,26 @@ public class StorageUpdateHandler {
         }
     }
 
+    /**
+     * Returns a stamp of the storage modifications made by this handler, or {@code -1} if a modification is in progress. If two
+     * non-negative stamps are equal, no rows were written, committed or aborted through this handler between obtaining them.
+     */
+    public long modificationStamp() {
+        long finished = finishedModifications.get();
+
+        return startedModifications.get() == finished ? finished : -1;
+    }
+
+    private <V> V runConsistently(WriteClosure<V> closure) {
+        startedModifications.incrementAndGet();
+
+        try {
+            return storage.runConsistently(closure);
+        } finally {
+            finishedModifications.incrementAndGet();
+        }
+    }
+
     /**
      * Erases volatile state for a transaction to simulate node restart in tests.
      * This creates a state where write intents are persisted in storage but no information
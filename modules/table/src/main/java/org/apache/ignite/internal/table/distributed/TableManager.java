@@ -46,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -98,6 +99,7 @@ import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.wrappers.ExecutorInclinedPlacementDriver;
 import org.apache.ignite.internal.replicator.ReplicaService;
 import org.apache.ignite.internal.replicator.configuration.ReplicationConfiguration;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.SchemaSyncService;
@@ -107,8 +109,10 @@ import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.OperationContext;
 import org.apache.ignite.internal.table.StreamerReceiverRunner;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.TableScanCriteria;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.index.IndexMetaStorage;
@@ -225,6 +229,32 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
 
     private final EventListener<ChangeLowWatermarkEventParameters> onLowWatermarkChangedListener = this::onLwmChanged;
 
+    /** Listeners of rows committed to partitions of the tables hosted on this node. */
+    private final List<CommittedRowsListener> committedRowsListeners = new CopyOnWriteArrayList<>();
+
+    /** Listener passed to partition storage update handlers, notifies all registered {@link #committedRowsListeners}. */
+    private final CommittedRowsListener committedRowsListener = new CommittedRowsListener() {
+        @Override
+        public boolean listens(int tableId) {
+            for (CommittedRowsListener listener : committedRowsListeners) {
+                if (listener.listens(tableId)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void onRowsCommitted(int tableId, int partitionId, List<BinaryRow> rows) {
+            for (CommittedRowsListener listener : committedRowsListeners) {
+                if (listener.listens(tableId)) {
+                    listener.onRowsCommitted(tableId, partitionId, rows);
+                }
+            }
+        }
+    };
+
     private final MetricManager metricManager;
 
     private final StreamerFlushExecutorFactory streamerFlushExecutorFactory;
@@ -357,7 +387,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                 indexMetaStorage,
                 minTimeCollectorService,
                 mvGc,
-                fullStateTransferIndexChooser
+                fullStateTransferIndexChooser,
+                committedRowsListener
         );
 
         streamerFlushExecutorFactory = new StreamerFlushExecutorFactory(localNode);
@@ -1074,6 +1105,25 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         tableImplFactory.setStreamerReceiverRunner(runner);
     }
 
+    /**
+     * Adds a listener of rows committed to partitions of the tables hosted on this node.
+     *
+     * @param listener Listener.
+     * @see CommittedRowsListener
+     */
+    public void addCommittedRowsListener(CommittedRowsListener listener) {
+        committedRowsListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addCommittedRowsListener(CommittedRowsListener)}.
+     *
+     * @param listener Listener.
+     */
+    public void removeCommittedRowsListener(CommittedRowsListener listener) {
+        committedRowsListeners.remove(listener);
+    }
+
     /**
      * Returns a copy of tables that belong to the specified zone.
      *
@@ -1085,6 +1135,19 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         return zoneCoordinator.zoneTables(zoneId);
     }
 
+    /**
+     * Checks whether the storage engine of the given storage profile can make use of the filters pushed down to partition scans, see
+     * {@link InternalTable#scan(int, InternalClusterNode, TableScanCriteria, OperationContext)}.
+     *
+     * @param storageProfile Storage profile name.
+     * @return {@code true} if the engine supports scan pushdown, {@code false} if it doesn't or the profile is not known to this node.
+     */
+    public boolean supportsScanPushdown(String storageProfile) {
+        StorageEngine engine = dataStorageMgr.engineByStorageProfile(storageProfile);
+
+        return engine != null && engine.supportsScanPushdown();
+    }
+
     private void unregisterMetricsSource(TableViewInternal table) {
         if (table == null) {
             return;
@@ -93,6 +93,7 @@ class TablePartitionResourcesFactory {
     private final MinimumRequiredTimeCollectorService minTimeCollectorService;
     private final MvGc mvGc;
     private final FullStateTransferIndexChooser fullStateTransferIndexChooser;
+    private final CommittedRowsListener committedRowsListener;
 
     TablePartitionResourcesFactory(
             TxManager txManager,
@@ -116,7 +117,8 @@ class TablePartitionResourcesFactory {
             IndexMetaStorage indexMetaStorage,
             MinimumRequiredTimeCollectorService minTimeCollectorService,
             MvGc mvGc,
-            FullStateTransferIndexChooser fullStateTransferIndexChooser
+            FullStateTransferIndexChooser fullStateTransferIndexChooser,
+            CommittedRowsListener committedRowsListener
     ) {
         this.txManager = txManager;
         this.lockManager = lockManager;
@@ -140,6 +142,7 @@ class TablePartitionResourcesFactory {
         this.minTimeCollectorService = minTimeCollectorService;
         this.mvGc = mvGc;
         this.fullStateTransferIndexChooser = fullStateTransferIndexChooser;
+        this.committedRowsListener = committedRowsListener;
     }
 
     /**
@@ -195,7 +198,8 @@ class TablePartitionResourcesFactory {
                 indexUpdateHandler,
                 replicationConfiguration,
                 modificationCounter,
-                txManager
+                txManager,
+                committedRowsListener
         );
 
         return new PartitionResources(storageUpdateHandler, indexUpdateHandler, gcUpdateHandler, modificationCounter);
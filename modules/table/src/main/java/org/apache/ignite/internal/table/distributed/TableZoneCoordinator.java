@@ -186,10 +186,14 @@ class TableZoneCoordinator {
     }
 
     /**
-     * Starts the coordinator: starts MvGc and FullStateTransferIndexChooser.
+     * Starts the coordinator: starts MvGc, registers its metrics and starts FullStateTransferIndexChooser.
      */
     void start() {
         mvGc.start();
+
+        metricManager.registerSource(mvGc.metricSource());
+        metricManager.enable(mvGc.metricSource());
+
         fullStateTransferIndexChooser.start();
     }
 
@@ -203,6 +207,8 @@ class TableZoneCoordinator {
         partitionReplicaLifecycleManager.removeListener(AFTER_REPLICA_STOPPED, onZoneReplicaStoppedListener);
         partitionReplicaLifecycleManager.removeListener(BEFORE_REPLICA_STARTED, onBeforeZoneReplicaStartedListener);
 
+        metricManager.unregisterSource(mvGc.metricSource());
+
         closeAllManually(mvGc, fullStateTransferIndexChooser);
     }
 
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.HitRateMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source of the garbage collector of multi-versioned storages.
+ */
+public class GcMetricSource extends AbstractMetricSource<GcMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "storage.gc";
+
+    /** Interval of the reclaim rate, in milliseconds. */
+    private static final long RECLAIM_RATE_INTERVAL_MS = 60_000;
+
+    private final LongSupplier backlogSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param backlogSupplier Supplier of the total estimated number of entries in the garbage collection queues of local partitions.
+     */
+    public GcMetricSource(LongSupplier backlogSupplier) {
+        super(SOURCE_NAME, "Garbage collector metrics.");
+
+        this.backlogSupplier = backlogSupplier;
+    }
+
+    /**
+     * Records row versions removed by the garbage collector.
+     *
+     * @param count Number of removed row versions.
+     */
+    public void onVacuumed(long count) {
+        Holder holder = holder();
+
+        if (holder != null && count > 0) {
+            holder.reclaimedVersions.add(count);
+            holder.reclaimRate.add(count);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder(backlogSupplier);
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongGauge backlog;
+
+        private final LongAdderMetric reclaimedVersions = new LongAdderMetric(
+                "ReclaimedVersions",
+                "Total number of row versions removed by the garbage collector."
+        );
+
+        private final HitRateMetric reclaimRate = new HitRateMetric(
+                "ReclaimRate",
+                "Number of row versions removed by the garbage collector during the last minute.",
+                RECLAIM_RATE_INTERVAL_MS
+        );
+
+        private final List<Metric> metrics;
+
+        private Holder(LongSupplier backlogSupplier) {
+            backlog = new LongGauge(
+                    "Backlog",
+                    "Estimated number of row versions waiting for the garbage collector across all local partitions on this node.",
+                    backlogSupplier
+            );
+
+            metrics = List.of(backlog, reclaimedVersions, reclaimRate);
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
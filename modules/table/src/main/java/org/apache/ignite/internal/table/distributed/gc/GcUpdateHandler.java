@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed.gc;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.partition.replicator.raft.snapshot.PartitionDataStorage;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -39,6 +40,9 @@ public class GcUpdateHandler {
 
     private final PendingComparableValuesTracker<HybridTimestamp, Void> safeTimeTracker;
 
+    /** Total number of entries removed from the storage by the handler. */
+    private final AtomicLong vacuumedEntries = new AtomicLong();
+
     /**
      * Constructor.
      *
@@ -63,6 +67,20 @@ public class GcUpdateHandler {
         return safeTimeTracker;
     }
 
+    /**
+     * Returns the estimated number of entries waiting in the garbage collection queue of the storage.
+     *
+     * @see PartitionDataStorage#estimatedGcQueueSize
+     */
+    public long estimatedGcQueueSize() {
+        return storage.estimatedGcQueueSize();
+    }
+
+    /** Returns the total number of entries removed from the storage by the handler. */
+    public long vacuumedEntries() {
+        return vacuumedEntries.get();
+    }
+
     /**
      * Tries removing {@code count} oldest stale entries and their indexes.
      * If there are fewer rows than the {@code count}, then exits prematurely.
@@ -132,6 +150,8 @@ public class GcUpdateHandler {
                 }
 
                 countHolder.getAndDecrement();
+
+                vacuumedEntries.incrementAndGet();
             }
 
             if (someRowRemovedByAnotherThread) {
@@ -26,13 +26,17 @@ import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockSafe;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.failure.FailureContext;
@@ -45,6 +49,7 @@ import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.lowwatermark.event.ChangeLowWatermarkEventParameters;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.TrackerClosedException;
@@ -54,11 +59,26 @@ import org.jetbrains.annotations.TestOnly;
 /**
  * Garbage collector for multi-versioned storages and their indexes in the background.
  *
+ * <p>Partitions are collected in batches. When there are more partitions ready for a batch than garbage collection threads, partitions
+ * with the largest garbage collection queue go first. The size of a batch grows with the queue of the partition, so that partitions
+ * that fall behind the write load catch up faster, unless the system is already loaded with other work.
+ *
  * @see GcUpdateHandler#vacuumBatch
  */
 public class MvGc implements ManuallyCloseable {
     private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
 
+    /** Size of the garbage collection queue, in configured batches, that adds one more configured batch to the batch size. */
+    private static final int BACKLOG_BATCHES_PER_STEP = 100;
+
+    /** Maximum batch size, as a multiple of the configured batch size. */
+    private static final int MAX_BATCH_SIZE_MULTIPLIER = 8;
+
+    /** System load average per available processor, starting from which batches are not enlarged. */
+    private static final double HIGH_CPU_LOAD = 0.8;
+
+    private static final OperatingSystemMXBean OS_MX_BEAN = ManagementFactory.getOperatingSystemMXBean();
+
     /** Node name. */
     private final String nodeName;
 
@@ -82,6 +102,11 @@ public class MvGc implements ManuallyCloseable {
     /** Storage handler by table partition ID for which garbage will be collected. */
     private final ConcurrentMap<TablePartitionId, GcStorageHandler> storageHandlerByPartitionId = new ConcurrentHashMap<>();
 
+    /** Sequence number of the tasks submitted to the {@link #executor}, keeps the order of tasks of the same priority. */
+    private final AtomicLong taskSequence = new AtomicLong();
+
+    private final GcMetricSource metricSource = new GcMetricSource(this::backlog);
+
     /**
      * Constructor.
      *
@@ -107,7 +132,7 @@ public class MvGc implements ManuallyCloseable {
                     threadCount,
                     30,
                     TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(),
+                    new PriorityBlockingQueue<>(),
                     IgniteThreadFactory.create(nodeName, "mv-gc", LOG, STORAGE_READ, STORAGE_WRITE)
             );
             executor.allowCoreThreadTimeOut(true);
@@ -116,6 +141,11 @@ public class MvGc implements ManuallyCloseable {
         });
     }
 
+    /** Returns the metric source of the garbage collector. */
+    public GcMetricSource metricSource() {
+        return metricSource;
+    }
+
     /**
      * Adds storage for background garbage collection when updating a low watermark.
      *
@@ -168,7 +198,8 @@ public class MvGc implements ManuallyCloseable {
 
     @SuppressWarnings("PMD.UnusedFormalParameter") // Called as event listener; parameter required by listener interface
     private void onLwmChanged(ChangeLowWatermarkEventParameters parameters) {
-        inBusyLockSafe(busyLock, () -> executor.submit(() -> inBusyLock(this::initNewGcBusy)));
+        // Goes ahead of batches that are already waiting for a thread, so that partitions are re-prioritized as soon as possible.
+        inBusyLockSafe(busyLock, () -> prioritizedExecutor(Long.MAX_VALUE).execute(() -> inBusyLockSafe(busyLock, this::initNewGcBusy)));
     }
 
     @Override
@@ -241,6 +272,10 @@ public class MvGc implements ManuallyCloseable {
 
                 GcUpdateHandler gcUpdateHandler = storageHandler.gcUpdateHandler;
 
+                long backlog = backlog(storageHandler);
+
+                int batchSize = batchSize(gcConfig.value().batchSize(), backlog, cpuLoad());
+
                 // We can only start garbage collection when the partition safe time is reached.
                 gcUpdateHandler.getSafeTimeTracker()
                         .waitFor(lowWatermark)
@@ -253,7 +288,7 @@ public class MvGc implements ManuallyCloseable {
                         });
 
                 currentAwaitSafeTimeFuture
-                        .thenApplyAsync(unused -> gcUpdateHandler.vacuumBatch(lowWatermark, gcConfig.value().batchSize()), executor)
+                        .thenApplyAsync(unused -> vacuumBatch(gcUpdateHandler, lowWatermark, batchSize), prioritizedExecutor(backlog))
                         .whenComplete((isGarbageLeft, throwable) -> {
                             if (throwable != null) {
                                 if (hasCause(throwable, TrackerClosedException.class, StorageRemovedException.class)) {
@@ -285,6 +320,65 @@ public class MvGc implements ManuallyCloseable {
         });
     }
 
+    private boolean vacuumBatch(GcUpdateHandler gcUpdateHandler, HybridTimestamp lowWatermark, int batchSize) {
+        long vacuumedBefore = gcUpdateHandler.vacuumedEntries();
+
+        try {
+            return gcUpdateHandler.vacuumBatch(lowWatermark, batchSize);
+        } finally {
+            metricSource.onVacuumed(gcUpdateHandler.vacuumedEntries() - vacuumedBefore);
+        }
+    }
+
+    /** Returns an executor that runs tasks with the given priority, tasks with greater priority are run first. */
+    private Executor prioritizedExecutor(long priority) {
+        return task -> executor.execute(new PrioritizedTask(task, priority, taskSequence.getAndIncrement()));
+    }
+
+    /** Returns the total estimated size of the garbage collection queues of all storages. */
+    private long backlog() {
+        long backlog = 0;
+
+        for (GcStorageHandler storageHandler : storageHandlerByPartitionId.values()) {
+            backlog += backlog(storageHandler);
+        }
+
+        return backlog;
+    }
+
+    private static long backlog(GcStorageHandler storageHandler) {
+        try {
+            return storageHandler.gcUpdateHandler.estimatedGcQueueSize();
+        } catch (StorageException e) {
+            // The storage is being closed or rebalanced, there is nothing to prioritize.
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the size of the next batch of a partition.
+     *
+     * @param configuredBatchSize Batch size from the configuration.
+     * @param backlog Estimated size of the garbage collection queue of the partition.
+     * @param cpuLoad System load average per available processor, {@code 0} if unknown.
+     */
+    static int batchSize(int configuredBatchSize, long backlog, double cpuLoad) {
+        if (configuredBatchSize <= 0 || cpuLoad >= HIGH_CPU_LOAD) {
+            return configuredBatchSize;
+        }
+
+        long multiplier = 1 + backlog / ((long) configuredBatchSize * BACKLOG_BATCHES_PER_STEP);
+
+        return (int) (configuredBatchSize * Math.min(multiplier, MAX_BATCH_SIZE_MULTIPLIER));
+    }
+
+    private static double cpuLoad() {
+        double loadAverage = OS_MX_BEAN.getSystemLoadAverage();
+
+        // Load average is not available on some platforms.
+        return loadAverage < 0 ? 0 : loadAverage / OS_MX_BEAN.getAvailableProcessors();
+    }
+
     private <T> T inBusyLock(Supplier<T> supplier) {
         if (!busyLock.enterBusy()) {
             throw new IgniteInternalException(GarbageCollector.CLOSED_ERR);
@@ -312,4 +406,31 @@ public class MvGc implements ManuallyCloseable {
     void scheduleGcForAllStorages() {
         inBusyLock(this::initNewGcBusy);
     }
+
+    /** Task of the {@link #executor}, ordered by priority and then by submission order. */
+    private static class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final Runnable task;
+
+        private final long priority;
+
+        private final long sequence;
+
+        PrioritizedTask(Runnable task, long priority, long sequence) {
+            this.task = task;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask o) {
+            int cmp = Long.compare(o.priority, priority);
+
+            return cmp != 0 ? cmp : Long.compare(sequence, o.sequence);
+        }
+    }
 }
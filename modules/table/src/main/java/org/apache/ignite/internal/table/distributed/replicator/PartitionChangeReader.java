@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.tx.TransactionIds.beginTimestamp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
+import org.apache.ignite.internal.table.cdc.RowChange;
+import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads the changes committed to a partition from the version chains of its rows.
+ *
+ * <p>Nothing is recorded on the write path: a change is a committed row version together with the version preceding it, so the changes
+ * can be read as long as the versions are not garbage collected, that is, after the low watermark. Changes are read up to the safe time
+ * of the partition, but not up to the begin timestamp of any transaction still having write intents in the partition, as such
+ * a transaction may later commit with a timestamp below the safe time.
+ *
+ * <p>A read scans the whole partition and locks every row in turn, so its cost is proportional to the partition size rather than to the
+ * number of changes. To avoid repeating the scan for a partition that was not modified, a read produces a {@link Summary} that answers
+ * the following reads while the partition stays the same.
+ */
+class PartitionChangeReader {
+    private final MvPartitionStorage storage;
+
+    private final int partitionId;
+
+    /** Changes read so far, grouped by their commit timestamps. */
+    private final NavigableMap<HybridTimestamp, List<BinaryRow[]>> changesByCommitTs = new TreeMap<>();
+
+    /** Number of changes in {@link #changesByCommitTs}. */
+    private int size;
+
+    /** Minimum commit timestamp, the changes of which were dropped to fit the batch size. */
+    private @Nullable HybridTimestamp truncatedTs;
+
+    private HybridTimestamp upperBound;
+
+    /** Commit timestamp of the newest committed version in the partition. */
+    private @Nullable HybridTimestamp latestCommitTs;
+
+    /** Minimum begin timestamp of the transactions having write intents in the partition. */
+    private @Nullable HybridTimestamp writeIntentBound;
+
+    /**
+     * Constructor.
+     *
+     * @param storage Partition storage.
+     * @param partitionId Partition ID.
+     * @param upperBound Timestamp, up to which all commits to the partition are known to be applied.
+     */
+    PartitionChangeReader(MvPartitionStorage storage, int partitionId, HybridTimestamp upperBound) {
+        this.storage = storage;
+        this.partitionId = partitionId;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Reads the changes committed after the given timestamp. Changes sharing a commit timestamp are never split between batches, so the
+     * batch may contain more than {@code batchSize} changes.
+     *
+     * @param afterTimestamp Timestamp, the changes committed after which are read.
+     * @param batchSize Number of changes, after reading which the reading stops at the nearest commit timestamp.
+     */
+    PartitionChanges read(HybridTimestamp afterTimestamp, int batchSize) {
+        assert batchSize > 0 : batchSize;
+
+        RowId rowId = storage.closestRowId(RowId.lowestRowId(partitionId));
+
+        while (rowId != null) {
+            readRow(rowId, afterTimestamp, batchSize);
+
+            RowId next = rowId.increment();
+
+            rowId = next == null ? null : storage.closestRowId(next);
+        }
+
+        if (truncatedTs != null) {
+            return new PartitionChanges(toChanges(), changesByCommitTs.lastKey(), true);
+        }
+
+        HybridTimestamp resumeTs = afterTimestamp.compareTo(upperBound) > 0 ? afterTimestamp : upperBound;
+
+        return new PartitionChanges(toChanges(), resumeTs, false);
+    }
+
+    /**
+     * Returns the summary of the partition state seen by the last {@link #read}.
+     *
+     * @param modificationStamp Modification stamp of the partition obtained before the read, see
+     *         {@link org.apache.ignite.internal.table.distributed.StorageUpdateHandler#modificationStamp}.
+     * @param lastAppliedIndex Last applied index of the partition storage obtained before the read.
+     */
+    Summary summary(long modificationStamp, long lastAppliedIndex) {
+        return new Summary(modificationStamp, lastAppliedIndex, latestCommitTs, writeIntentBound);
+    }
+
+    private void readRow(RowId rowId, HybridTimestamp afterTimestamp, int batchSize) {
+        // Versions are returned from the newest to the oldest one.
+        List<ReadResult> versions = storage.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
+                return cursor.stream().collect(toList());
+            }
+        });
+
+        for (int i = 0; i < versions.size(); i++) {
+            ReadResult version = versions.get(i);
+
+            if (version.isWriteIntent()) {
+                HybridTimestamp txBeginTs = beginTimestamp(version.transactionId());
+
+                if (writeIntentBound == null || txBeginTs.compareTo(writeIntentBound) < 0) {
+                    writeIntentBound = txBeginTs;
+                }
+
+                lowerUpperBound(txBeginTs);
+
+                continue;
+            }
+
+            HybridTimestamp commitTs = version.commitTimestamp();
+
+            assert commitTs != null : "Committed version without commit timestamp [rowId=" + rowId + ']';
+
+            if (latestCommitTs == null || commitTs.compareTo(latestCommitTs) > 0) {
+                latestCommitTs = commitTs;
+            }
+
+            if (commitTs.compareTo(afterTimestamp) <= 0) {
+                // The older versions were read before.
+                break;
+            }
+
+            if (commitTs.compareTo(upperBound) > 0 || (truncatedTs != null && commitTs.compareTo(truncatedTs) >= 0)) {
+                continue;
+            }
+
+            BinaryRow row = version.binaryRow();
+            BinaryRow previousRow = i + 1 < versions.size() ? versions.get(i + 1).binaryRow() : null;
+
+            if (row != null || previousRow != null) {
+                add(commitTs, row, previousRow, batchSize);
+            }
+        }
+    }
+
+    private void add(HybridTimestamp commitTs, @Nullable BinaryRow row, @Nullable BinaryRow previousRow, int batchSize) {
+        changesByCommitTs.computeIfAbsent(commitTs, ts -> new ArrayList<>()).add(new BinaryRow[] {row, previousRow});
+
+        size++;
+
+        // Drop the latest commits as long as the rest still fills the batch.
+        while (size - changesByCommitTs.lastEntry().getValue().size() >= batchSize) {
+            Entry<HybridTimestamp, List<BinaryRow[]>> latest = changesByCommitTs.pollLastEntry();
+
+            size -= latest.getValue().size();
+            truncatedTs = latest.getKey();
+        }
+    }
+
+    private void lowerUpperBound(HybridTimestamp timestamp) {
+        if (timestamp.compareTo(upperBound) >= 0) {
+            return;
+        }
+
+        upperBound = timestamp;
+
+        NavigableMap<HybridTimestamp, List<BinaryRow[]>> aboveBound = changesByCommitTs.tailMap(upperBound, false);
+
+        aboveBound.values().forEach(changes -> size -= changes.size());
+        aboveBound.clear();
+
+        if (truncatedTs != null && truncatedTs.compareTo(upperBound) > 0) {
+            // Nothing up to the new bound was dropped.
+            truncatedTs = null;
+        }
+    }
+
+    private List<RowChange> toChanges() {
+        var changes = new ArrayList<RowChange>(size);
+
+        changesByCommitTs.forEach((commitTs, rows) -> {
+            for (int i = 0; i < rows.size(); i++) {
+                BinaryRow[] change = rows.get(i);
+
+                changes.add(new RowChange(partitionId, commitTs, change[0], change[1], i == rows.size() - 1));
+            }
+        });
+
+        return changes;
+    }
+
+    /**
+     * State of a partition seen by a read, that is enough to answer the following reads without scanning the partition as long as the
+     * partition is not modified. Writes through the storage update handler change the modification stamp, while installing a raft snapshot
+     * or a full rebalance changes the last applied index.
+     */
+    static class Summary {
+        private final long modificationStamp;
+
+        private final long lastAppliedIndex;
+
+        private final @Nullable HybridTimestamp latestCommitTs;
+
+        private final @Nullable HybridTimestamp writeIntentBound;
+
+        private Summary(
+                long modificationStamp,
+                long lastAppliedIndex,
+                @Nullable HybridTimestamp latestCommitTs,
+                @Nullable HybridTimestamp writeIntentBound
+        ) {
+            this.modificationStamp = modificationStamp;
+            this.lastAppliedIndex = lastAppliedIndex;
+            this.latestCommitTs = latestCommitTs;
+            this.writeIntentBound = writeIntentBound;
+        }
+
+        /**
+         * Reads the changes committed after the given timestamp without scanning the partition, if the partition is the same as it was
+         * when the summary was made and has nothing committed after the timestamp.
+         *
+         * @param modificationStamp Current modification stamp of the partition.
+         * @param lastAppliedIndex Current last applied index of the partition storage.
+         * @param afterTimestamp Timestamp, the changes committed after which are read.
+         * @param upperBound Timestamp, up to which all commits to the partition are known to be applied, obtained before the stamp and
+         *         the index.
+         * @return Empty changes or {@code null} if the partition has to be scanned.
+         */
+        @Nullable PartitionChanges readUnchanged(
+                long modificationStamp,
+                long lastAppliedIndex,
+                HybridTimestamp afterTimestamp,
+                HybridTimestamp upperBound
+        ) {
+            if (modificationStamp < 0 || modificationStamp != this.modificationStamp || lastAppliedIndex != this.lastAppliedIndex) {
+                return null;
+            }
+
+            if (latestCommitTs != null && latestCommitTs.compareTo(afterTimestamp) > 0) {
+                return null;
+            }
+
+            if (writeIntentBound != null && writeIntentBound.compareTo(upperBound) < 0) {
+                upperBound = writeIntentBound;
+            }
+
+            HybridTimestamp resumeTs = afterTimestamp.compareTo(upperBound) > 0 ? afterTimestamp : upperBound;
+
+            return new PartitionChanges(List.of(), resumeTs, false);
+        }
+    }
+}
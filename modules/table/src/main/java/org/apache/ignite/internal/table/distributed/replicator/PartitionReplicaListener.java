@@ -22,6 +22,7 @@ import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
@@ -125,7 +126,9 @@ import org.apache.ignite.internal.partition.replicator.network.command.UpdateCom
 import org.apache.ignite.internal.partition.replicator.network.command.UpdateCommandV2Builder;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryRowMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.ColumnRangePredicateMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
@@ -140,6 +143,7 @@ import org.apache.ignite.internal.partition.replicator.network.replication.ReadW
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSwapRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.RequestType;
+import org.apache.ignite.internal.partition.replicator.network.replication.ScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.schema.ValidationSchemasSource;
 import org.apache.ignite.internal.partition.replicator.schemacompat.IncompatibleSchemaVersionException;
 import org.apache.ignite.internal.partition.replicator.schemacompat.SchemaCompatibilityValidator;
@@ -164,9 +168,12 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowUpgrader;
 import org.apache.ignite.internal.schema.BinaryTupleComparator;
 import org.apache.ignite.internal.schema.NullBinaryRow;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.SchemaSyncService;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionScanOptions;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
@@ -177,6 +184,7 @@ import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.util.StorageUtils;
 import org.apache.ignite.internal.table.RowIdGenerator;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
 import org.apache.ignite.internal.table.distributed.IndexLocker;
 import org.apache.ignite.internal.table.distributed.SortedIndexLocker;
 import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
@@ -287,6 +295,9 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
     /** Handler that processes updates writing them to storage. */
     private final StorageUpdateHandler storageUpdateHandler;
 
+    /** Summary of the last scan of the partition changes, {@code null} before the first scan. */
+    private volatile PartitionChangeReader.Summary changesSummary;
+
     /** Resources registry. */
     private final RemotelyTriggeredResourceRegistry remotelyTriggeredResourceRegistry;
 
@@ -530,8 +541,19 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             ReplicaPrimacy replicaPrimacy,
             UUID senderId
     ) {
-        return processRequest(request, replicaPrimacy)
+        var event = new ReplicaRequestEvent();
+
+        if (!event.isEnabled()) {
+            return processRequest(request, replicaPrimacy)
+                    .thenApply(PartitionReplicaListener::wrapInReplicaResultIfNeeded);
+        }
+
+        event.begin();
+
+        CompletableFuture<ReplicaResult> future = processRequest(request, replicaPrimacy)
                 .thenApply(PartitionReplicaListener::wrapInReplicaResultIfNeeded);
+
+        return event.commitOnCompletion(future, request, tableId, replicationGroupId);
     }
 
     private static ReplicaResult wrapInReplicaResultIfNeeded(Object res) {
@@ -562,6 +584,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             return processGetEstimatedSizeRequest();
         }
 
+        if (request instanceof ReadChangesReplicaRequest) {
+            return processReadChangesRequest((ReadChangesReplicaRequest) request);
+        }
+
         HybridTimestamp opTs = tableAwareReplicaRequestPreProcessor.getOperationTimestamp(request);
         @Nullable HybridTimestamp opTsIfDirectRo = (request instanceof ReadOnlyDirectReplicaRequest) ? opTs : null;
 
@@ -572,6 +598,51 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         return completedFuture(mvDataStorage.estimatedSize());
     }
 
+    private CompletableFuture<PartitionChanges> processReadChangesRequest(ReadChangesReplicaRequest request) {
+        HybridTimestamp afterTimestamp = request.afterTimestamp();
+
+        return supplyAsync(() -> {
+            // Versions below the low watermark may already be garbage collected, so the changes before it can't be read consistently.
+            validateChangesAreNotCollected(afterTimestamp);
+
+            HybridTimestamp upperBound = safeTime.current();
+            long modificationStamp = storageUpdateHandler.modificationStamp();
+            long lastAppliedIndex = mvDataStorage.lastAppliedIndex();
+
+            PartitionChangeReader.Summary summary = changesSummary;
+
+            PartitionChanges changes = summary == null
+                    ? null
+                    : summary.readUnchanged(modificationStamp, lastAppliedIndex, afterTimestamp, upperBound);
+
+            if (changes == null) {
+                var reader = new PartitionChangeReader(mvDataStorage, replicationGroupId.partitionId(), upperBound);
+
+                changes = reader.read(afterTimestamp, request.batchSize());
+
+                if (modificationStamp >= 0) {
+                    changesSummary = reader.summary(modificationStamp, lastAppliedIndex);
+                }
+            }
+
+            validateChangesAreNotCollected(afterTimestamp);
+
+            return changes;
+        }, scanRequestExecutor);
+    }
+
+    private void validateChangesAreNotCollected(HybridTimestamp afterTimestamp) {
+        HybridTimestamp lwm = lowWatermark.getLowWatermark();
+
+        if (lwm != null && afterTimestamp.compareTo(lwm) < 0) {
+            throw new OutdatedReadOnlyTransactionInternalException(
+                    "Attempted to read changes below the garbage collection watermark",
+                    afterTimestamp,
+                    lwm
+            );
+        }
+    }
+
     private void replicaTouch(UUID txId, UUID coordinatorId, ZonePartitionId commitPartitionId, @Nullable String txLabel) {
         txManager.updateTxMeta(txId, old -> builder(old, PENDING)
                 .txCoordinatorId(coordinatorId)
@@ -748,7 +819,14 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         return safeReadFuture
                 .thenCompose(
-                        unused -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount))
+                        unused -> retrieveExactEntriesUntilCursorEmpty(
+                                txId,
+                                request.coordinatorId(),
+                                readTimestamp,
+                                cursorId,
+                                scanOptions(request),
+                                batchCount
+                        ))
                 .thenApply(rows -> {
                     metrics.onRead(rows.size(), true, true);
 
@@ -763,6 +841,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
      * @param txCoordinatorId Transaction coordinator id.
      * @param readTimestamp Timestamp of the moment when that moment when the data will be extracted.
      * @param cursorId Cursor id.
+     * @param scanOptions Projection and filter to push down to the storage when the cursor is created, {@code null} if none.
      * @param count Amount of entries which sill be extracted.
      * @return Result future.
      */
@@ -771,11 +850,12 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             UUID txCoordinatorId,
             @Nullable HybridTimestamp readTimestamp,
             FullyQualifiedResourceId cursorId,
+            @Nullable PartitionScanOptions scanOptions,
             int count
     ) {
         var result = new ArrayList<BinaryRow>(count);
 
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count, result)
+        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, scanOptions, count, result)
                 .thenApply(v -> {
                     closeCursorIfBatchNotFull(result, count, cursorId);
 
@@ -788,13 +868,20 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             UUID txCoordinatorId,
             @Nullable HybridTimestamp readTimestamp,
             FullyQualifiedResourceId cursorId,
+            @Nullable PartitionScanOptions scanOptions,
             int count,
             List<BinaryRow> result
     ) {
         CursorResource resource = remotelyTriggeredResourceRegistry.register(
                 cursorId,
                 txCoordinatorId,
-                () -> new CursorResource(mvDataStorage.scan(readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp))
+                () -> {
+                    HybridTimestamp timestamp = readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp;
+
+                    return new CursorResource(scanOptions == null
+                            ? mvDataStorage.scan(timestamp)
+                            : mvDataStorage.scan(timestamp, scanOptions));
+                }
         );
 
         PartitionTimestampCursor cursor = resource.cursor();
@@ -846,7 +933,15 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                     mergeRowsWithResolvedWriteIntents(result, resultStartIndex, resolutionFutures);
 
                     if (result.size() < count && cursor.hasNext()) {
-                        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count, result);
+                        return retrieveExactEntriesUntilCursorEmpty(
+                                txId,
+                                txCoordinatorId,
+                                readTimestamp,
+                                cursorId,
+                                scanOptions,
+                                count,
+                                result
+                        );
                     } else {
                         return nullCompletedFuture();
                     }
@@ -864,9 +959,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             UUID txId,
             UUID txCoordinatorId,
             FullyQualifiedResourceId cursorId,
+            @Nullable PartitionScanOptions scanOptions,
             int count
     ) {
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, count).thenCompose(rows -> {
+        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, scanOptions, count).thenCompose(rows -> {
             if (nullOrEmpty(rows)) {
                 return emptyListCompletedFuture();
             }
@@ -1051,7 +1147,54 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         FullyQualifiedResourceId cursorId = cursorId(txId, request.scanId());
 
         return lockManager.acquire(txId, new LockKey(tableLockKey), LockMode.S)
-                .thenCompose(tblLock -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), cursorId, batchCount));
+                .thenCompose(tblLock -> retrieveExactEntriesUntilCursorEmpty(
+                        txId,
+                        request.coordinatorId(),
+                        cursorId,
+                        scanOptions(request),
+                        batchCount
+                ));
+    }
+
+    /**
+     * Builds the projection and the filter to push down to the storage out of a full scan request.
+     *
+     * @param request Scan retrieve batch request.
+     * @return Scan options, {@code null} if the request has no predicates or they can't be interpreted by this node.
+     */
+    private @Nullable PartitionScanOptions scanOptions(ScanRetrieveBatchReplicaRequest request) {
+        List<ColumnRangePredicateMessage> predicateMessages = request.columnPredicates();
+
+        if (nullOrEmpty(predicateMessages)) {
+            return null;
+        }
+
+        int schemaVersion = request.columnsSchemaVersion();
+
+        // The requester might already know a newer schema, its column indexes are meaningless until the schema reaches this node.
+        if (schemaVersion > schemaRegistry.lastKnownSchemaVersion()) {
+            return null;
+        }
+
+        SchemaDescriptor schema = schemaRegistry.schema(schemaVersion);
+
+        var predicates = new ArrayList<ColumnRangePredicate>(predicateMessages.size());
+
+        for (ColumnRangePredicateMessage message : predicateMessages) {
+            BinaryTupleMessage lowerBound = message.lowerBound();
+            BinaryTupleMessage upperBound = message.upperBound();
+
+            predicates.add(new ColumnRangePredicate(
+                    message.column(),
+                    schema.column(message.column()).type(),
+                    lowerBound == null ? null : lowerBound.tuple(),
+                    message.lowerInclusive(),
+                    upperBound == null ? null : upperBound.tuple(),
+                    message.upperInclusive()
+            ));
+        }
+
+        return new PartitionScanOptions(schemaVersion, request.columnsToInclude(), predicates);
     }
 
     /**
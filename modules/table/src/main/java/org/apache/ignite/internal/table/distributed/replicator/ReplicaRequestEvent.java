@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import java.util.concurrent.CompletableFuture;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.ignite.internal.jfr.IgniteEvent;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.replicator.message.ReplicaRequest;
+
+/** Flight recorder event of a replica request processed by a {@link PartitionReplicaListener}. */
+@Name(IgniteEvent.NAME_PREFIX + "ReplicaRequest")
+@Label("Replica Request")
+@Category({IgniteEvent.CATEGORY, "Replication"})
+@Description("Processing of a request by a table partition replica, from its arrival to the completion of its result future")
+class ReplicaRequestEvent extends IgniteEvent {
+    @Label("Request Type")
+    String requestType;
+
+    @Label("Table ID")
+    int tableId;
+
+    @Label("Zone ID")
+    int zoneId;
+
+    @Label("Partition ID")
+    int partitionId;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Commits the event once the request is processed, the event must be started with {@link #begin()} before the processing starts.
+     *
+     * @param future Future of the request result.
+     * @param request Request.
+     * @param tableId Table ID.
+     * @param groupId Replication group ID.
+     * @return Future that is completed with the same result after the event is committed.
+     */
+    <T> CompletableFuture<T> commitOnCompletion(CompletableFuture<T> future, ReplicaRequest request, int tableId, ZonePartitionId groupId) {
+        return future.whenComplete((res, err) -> {
+            end();
+
+            if (shouldCommit()) {
+                requestType = request.getClass().getSimpleName();
+                this.tableId = tableId;
+                zoneId = groupId.zoneId();
+                partitionId = groupId.partitionId();
+                failed = err != null;
+
+                commit();
+            }
+        });
+    }
+}
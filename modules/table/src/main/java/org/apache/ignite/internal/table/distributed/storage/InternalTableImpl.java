@@ -95,6 +95,7 @@ import org.apache.ignite.internal.network.ClusterNodeResolver;
 import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.ColumnRangePredicateMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowPkReplicaRequest;
@@ -120,7 +121,9 @@ import org.apache.ignite.internal.table.IndexScanCriteria;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.OperationContext;
 import org.apache.ignite.internal.table.StreamerReceiverRunner;
+import org.apache.ignite.internal.table.TableScanCriteria;
 import org.apache.ignite.internal.table.TxContext;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
 import org.apache.ignite.internal.table.distributed.storage.PartitionScanPublisher.InflightBatchRequestTracker;
 import org.apache.ignite.internal.table.metrics.ReadWriteMetricSource;
 import org.apache.ignite.internal.tx.InternalTransaction;
@@ -567,6 +570,26 @@ public class InternalTableImpl implements InternalTable {
         return postEnlist(fut, false, tx, false);
     }
 
+    private static @Nullable List<ColumnRangePredicateMessage> columnPredicateMessages(@Nullable TableScanCriteria criteria) {
+        if (criteria == null || criteria.columnRanges().isEmpty()) {
+            return null;
+        }
+
+        List<ColumnRangePredicateMessage> messages = new ArrayList<>(criteria.columnRanges().size());
+
+        for (TableScanCriteria.ColumnRange range : criteria.columnRanges()) {
+            messages.add(TABLE_MESSAGES_FACTORY.columnRangePredicateMessage()
+                    .column(range.column())
+                    .lowerBound(binaryTupleMessage(range.lowerBound()))
+                    .lowerInclusive(range.lowerInclusive())
+                    .upperBound(binaryTupleMessage(range.upperBound()))
+                    .upperInclusive(range.upperInclusive())
+                    .build());
+        }
+
+        return messages;
+    }
+
     private static @Nullable BinaryTupleMessage binaryTupleMessage(@Nullable BinaryTupleReader binaryTuple) {
         if (binaryTuple == null) {
             return null;
@@ -1562,6 +1585,7 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     null,
                     null,
+                    null,
                     operationContext
             );
         } else {
@@ -1570,6 +1594,37 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     null,
                     null,
+                    null,
+                    operationContext
+            );
+        }
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            InternalClusterNode recipientNode,
+            TableScanCriteria criteria,
+            OperationContext operationContext
+    ) {
+        validatePartitionIndex(partId);
+
+        if (operationContext.txContext().isReadOnly()) {
+            return readOnlyScan(
+                    partId,
+                    recipientNode,
+                    null,
+                    null,
+                    criteria,
+                    operationContext
+            );
+        } else {
+            return readWriteScan(
+                    partId,
+                    recipientNode,
+                    null,
+                    null,
+                    criteria,
                     operationContext
             );
         }
@@ -1591,6 +1646,7 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     indexId,
                     criteria,
+                    null,
                     operationContext
             );
         } else {
@@ -1599,6 +1655,7 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     indexId,
                     criteria,
+                    null,
                     operationContext
             );
         }
@@ -1636,6 +1693,7 @@ public class InternalTableImpl implements InternalTable {
             InternalClusterNode recipientNode,
             @Nullable Integer indexId,
             @Nullable IndexScanCriteria criteria,
+            @Nullable TableScanCriteria tableScanCriteria,
             OperationContext opCtx
     ) {
         assert opCtx.txContext().isReadOnly();
@@ -1650,6 +1708,10 @@ public class InternalTableImpl implements InternalTable {
         BinaryTuplePrefix upperBound = rangeScan ? ((IndexScanCriteria.Range) criteria).upperBound() : null;
         int flags = rangeScan ? ((IndexScanCriteria.Range) criteria).flags() : 0;
 
+        List<ColumnRangePredicateMessage> columnPredicates = columnPredicateMessages(tableScanCriteria);
+        BitSet columnsToInclude = tableScanCriteria == null ? null : tableScanCriteria.requiredColumns();
+        int columnsSchemaVersion = tableScanCriteria == null ? 0 : tableScanCriteria.schemaVersion();
+
         ZonePartitionId replicationGroupId = targetReplicationGroupId(partId);
 
         return new PartitionScanPublisher<>(new ReadOnlyInflightBatchRequestTracker(transactionInflights, txContext.txId(), txManager)) {
@@ -1668,6 +1730,9 @@ public class InternalTableImpl implements InternalTable {
                         .lowerBoundPrefix(binaryTupleMessage(lowerBound))
                         .upperBoundPrefix(binaryTupleMessage(upperBound))
                         .flags(flags)
+                        .columnsToInclude(columnsToInclude)
+                        .columnPredicates(columnPredicates)
+                        .columnsSchemaVersion(columnsSchemaVersion)
                         .build();
 
                 return replicaSvc.invoke(recipientNode, request);
@@ -1762,6 +1827,7 @@ public class InternalTableImpl implements InternalTable {
             InternalClusterNode recipient,
             @Nullable Integer indexId,
             @Nullable IndexScanCriteria criteria,
+            @Nullable TableScanCriteria tableScanCriteria,
             OperationContext opCtx
     ) {
         assert !opCtx.txContext().isReadOnly();
@@ -1779,6 +1845,10 @@ public class InternalTableImpl implements InternalTable {
         BinaryTuplePrefix upperBound = rangeScan ? ((IndexScanCriteria.Range) criteria).upperBound() : null;
         int flags = rangeScan ? ((IndexScanCriteria.Range) criteria).flags() : 0;
 
+        List<ColumnRangePredicateMessage> columnPredicates = columnPredicateMessages(tableScanCriteria);
+        BitSet columnsToInclude = tableScanCriteria == null ? null : tableScanCriteria.requiredColumns();
+        int columnsSchemaVersion = tableScanCriteria == null ? 0 : tableScanCriteria.schemaVersion();
+
         ZonePartitionId replicationGroupId = targetReplicationGroupId(partId);
 
         return new PartitionScanPublisher<>(READ_WRITE_INFLIGHT_BATCH_REQUEST_TRACKER) {
@@ -1798,6 +1868,9 @@ public class InternalTableImpl implements InternalTable {
                         .lowerBoundPrefix(binaryTupleMessage(lowerBound))
                         .upperBoundPrefix(binaryTupleMessage(upperBound))
                         .flags(flags)
+                        .columnsToInclude(columnsToInclude)
+                        .columnPredicates(columnPredicates)
+                        .columnsSchemaVersion(columnsSchemaVersion)
                         .batchSize(batchSize)
                         .full(false) // Set explicitly.
                         .txLabel(txContext.label())
@@ -2238,6 +2311,28 @@ public class InternalTableImpl implements InternalTable {
                 .thenApply(v -> Arrays.stream(invokeFutures).mapToLong(f -> (Long) f.join()).sum());
     }
 
+    @Override
+    public CompletableFuture<PartitionChanges> readChanges(int partitionId, HybridTimestamp afterTimestamp, int batchSize) {
+        validatePartitionIndex(partitionId);
+
+        HybridTimestamp now = clockService.current();
+
+        ZonePartitionId replicaGroupId = targetReplicationGroupId(partitionId);
+        ReplicationGroupIdMessage partitionIdMessage = serializeReplicationGroupId(replicaGroupId);
+
+        Function<ReplicaMeta, ReplicaRequest> requestFactory = replicaMeta ->
+                TABLE_MESSAGES_FACTORY.readChangesReplicaRequest()
+                        .groupId(partitionIdMessage)
+                        .tableId(tableId)
+                        .enlistmentConsistencyToken(enlistmentConsistencyToken(replicaMeta))
+                        .timestamp(now)
+                        .afterTimestamp(afterTimestamp)
+                        .batchSize(batchSize)
+                        .build();
+
+        return sendToPrimaryWithRetry(replicaGroupId, now, 5, requestFactory);
+    }
+
     @Override
     public final ZonePartitionId targetReplicationGroupId(int partitionIndex) {
         return new ZonePartitionId(zoneId, partitionIndex);
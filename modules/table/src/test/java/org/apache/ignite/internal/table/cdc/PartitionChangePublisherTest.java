@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.cdc;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PartitionChangePublisher}.
+ */
+public class PartitionChangePublisherTest extends BaseIgniteAbstractTest {
+    private static final int PARTITION_ID = 0;
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final long POLL_INTERVAL = 10;
+
+    private final InternalTable table = mock(InternalTable.class);
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    private final CollectingSubscriber subscriber = new CollectingSubscriber();
+
+    @Test
+    void changesArePublishedOnDemand() {
+        RowChange change1 = change(ts(100));
+        RowChange change2 = change(ts(200));
+        RowChange change3 = change(ts(300));
+
+        when(table.readChanges(PARTITION_ID, HybridTimestamp.MIN_VALUE, BATCH_SIZE))
+                .thenReturn(completedFuture(new PartitionChanges(List.of(change1, change2), ts(200), true)));
+        when(table.readChanges(PARTITION_ID, ts(200), BATCH_SIZE))
+                .thenReturn(completedFuture(new PartitionChanges(List.of(change3), ts(500), false)));
+
+        publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.received, contains(change1));
+        verify(table, times(1)).readChanges(anyInt(), any(), anyInt());
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.received, contains(change1, change2, change3));
+        verify(table, times(2)).readChanges(anyInt(), any(), anyInt());
+    }
+
+    @Test
+    void partitionIsPolledWhenThereAreNoChanges() {
+        when(table.readChanges(PARTITION_ID, HybridTimestamp.MIN_VALUE, BATCH_SIZE))
+                .thenReturn(completedFuture(new PartitionChanges(List.of(), ts(500), false)));
+
+        publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        verify(scheduler).schedule(any(Runnable.class), eq(POLL_INTERVAL), eq(MILLISECONDS));
+
+        // Demand doesn't trigger another fetch while the poll is pending.
+        subscriber.subscription.request(1);
+
+        verify(table, times(1)).readChanges(anyInt(), any(), anyInt());
+    }
+
+    @Test
+    void nothingIsFetchedWithoutDemand() {
+        publisher().subscribe(subscriber);
+
+        verify(table, never()).readChanges(anyInt(), any(), anyInt());
+    }
+
+    private PartitionChangePublisher publisher() {
+        return new PartitionChangePublisher(table, PARTITION_ID, HybridTimestamp.MIN_VALUE, BATCH_SIZE, scheduler, POLL_INTERVAL);
+    }
+
+    private static RowChange change(HybridTimestamp commitTimestamp) {
+        return new RowChange(PARTITION_ID, commitTimestamp, mock(BinaryRow.class), null, true);
+    }
+
+    private static HybridTimestamp ts(long physical) {
+        return new HybridTimestamp(physical, 0);
+    }
+
+    private static class CollectingSubscriber implements Subscriber<RowChange> {
+        private final List<RowChange> received = new ArrayList<>();
+
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(RowChange item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            throw new AssertionError("Change stream must not complete");
+        }
+    }
+}
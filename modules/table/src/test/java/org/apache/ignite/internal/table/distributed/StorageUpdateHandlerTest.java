@@ -20,6 +20,7 @@ package org.apache.ignite.internal.table.distributed;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -95,6 +96,8 @@ public class StorageUpdateHandlerTest extends BaseMvStoragesTest {
     private TestMvPartitionStorage storage;
     private StorageUpdateHandler storageUpdateHandler;
     private LockByRowId lock;
+    private TestPartitionDataStorage partitionDataStorage;
+    private IndexUpdateHandler indexUpdateHandler;
 
     @InjectConfiguration
     private ReplicationConfiguration replicationConfiguration;
@@ -172,9 +175,9 @@ public class StorageUpdateHandlerTest extends BaseMvStoragesTest {
                 Int2ObjectMap.entry(hashIndexId, hashIndexStorage)
         );
 
-        var partitionDataStorage = new TestPartitionDataStorage(tableId, PARTITION_ID, storage);
+        partitionDataStorage = new TestPartitionDataStorage(tableId, PARTITION_ID, storage);
 
-        var indexUpdateHandler = new IndexUpdateHandler(DummyInternalTableImpl.createTableIndexStoragesSupplier(indexes));
+        indexUpdateHandler = new IndexUpdateHandler(DummyInternalTableImpl.createTableIndexStoragesSupplier(indexes));
 
         storageUpdateHandler = new StorageUpdateHandler(
                 PARTITION_ID,
@@ -339,4 +342,77 @@ public class StorageUpdateHandlerTest extends BaseMvStoragesTest {
 
         assertThat(readResults, containsInAnyOrder(rows.values().toArray()));
     }
+
+    @Test
+    void testCommittedRowsListenerReceivesNewAndPreviousVersions() {
+        List<List<BinaryRow>> notifications = new ArrayList<>();
+
+        var handler = new StorageUpdateHandler(
+                PARTITION_ID,
+                partitionDataStorage,
+                indexUpdateHandler,
+                replicationConfiguration,
+                TableTestUtils.NOOP_PARTITION_MODIFICATION_COUNTER,
+                null,
+                new CommittedRowsListener() {
+                    @Override
+                    public boolean listens(int tableId) {
+                        return tableId == partitionDataStorage.tableId();
+                    }
+
+                    @Override
+                    public void onRowsCommitted(int tableId, int partitionId, List<BinaryRow> rows) {
+                        notifications.add(List.copyOf(rows));
+                    }
+                }
+        );
+
+        TablePartitionId partitionId = new TablePartitionId(333, PARTITION_ID);
+        UUID rowUuid = UUID.randomUUID();
+
+        BinaryRow row1 = binaryRow(new TestKey(1, "foo1"), new TestValue(2, "bar"));
+        BinaryRow row2 = binaryRow(new TestKey(1, "foo1"), new TestValue(3, "baz"));
+
+        // Single-phase commit of a new row.
+        handler.handleUpdate(UUID.randomUUID(), rowUuid, partitionId, row1, false, null, CLOCK.now(), null, null);
+
+        // Write intent is not reported until it is committed.
+        UUID txId = UUID.randomUUID();
+
+        handler.handleUpdate(txId, rowUuid, partitionId, row2, true, null, null, null, null);
+
+        assertEquals(List.of(List.of(row1)), notifications);
+
+        handler.switchWriteIntents(txId, true, CLOCK.now(), null);
+
+        assertEquals(List.of(List.of(row1), List.of(row2, row1)), notifications);
+    }
+
+    @Test
+    void testModificationStampChangesOnWrites() {
+        TablePartitionId partitionId = new TablePartitionId(333, PARTITION_ID);
+        UUID rowUuid = UUID.randomUUID();
+        UUID txId = UUID.randomUUID();
+
+        long initialStamp = storageUpdateHandler.modificationStamp();
+
+        assertEquals(initialStamp, storageUpdateHandler.modificationStamp());
+
+        BinaryRow row = binaryRow(new TestKey(1, "foo1"), new TestValue(2, "bar"));
+
+        storageUpdateHandler.handleUpdate(txId, rowUuid, partitionId, row, true, null, null, null, null);
+
+        long writeStamp = storageUpdateHandler.modificationStamp();
+
+        assertNotEquals(initialStamp, writeStamp);
+
+        // Reading a write intent doesn't modify the storage.
+        storageUpdateHandler.handleWriteIntentRead(txId, new RowId(PARTITION_ID, rowUuid));
+
+        assertEquals(writeStamp, storageUpdateHandler.modificationStamp());
+
+        storageUpdateHandler.switchWriteIntents(txId, true, CLOCK.now(), null);
+
+        assertNotEquals(writeStamp, storageUpdateHandler.modificationStamp());
+    }
 }
@@ -122,6 +122,7 @@ import org.apache.ignite.internal.partitiondistribution.AssignmentsQueue;
 import org.apache.ignite.internal.partitiondistribution.PartitionDistributionUtils;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.TestPlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.RaftGroupEventsListener;
@@ -155,6 +156,7 @@ import org.apache.ignite.internal.table.distributed.raft.MinimumRequiredTimeColl
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
@@ -466,7 +468,8 @@ public class TableManagerRecoveryTest extends IgniteAbstractTest {
                 new VolatileLogStorageManagerCreator(NODE_NAME, workDir.resolve("volatile-log-spillout")),
                 Executors.newScheduledThreadPool(4),
                 replicaGrpId -> nullCompletedFuture(),
-                ForkJoinPool.commonPool()
+                ForkJoinPool.commonPool(),
+                new RequestTracer()
         ));
 
         doReturn(nullCompletedFuture())
@@ -568,7 +571,8 @@ public class TableManagerRecoveryTest extends IgniteAbstractTest {
                 metricManager,
                 clusterService.messagingService(),
                 mock(ReplicaService.class),
-                mock(IndexMetasAccess.class)
+                mock(IndexMetasAccess.class),
+                () -> IgniteProductVersion.CURRENT_VERSION
         ));
 
         tableManager = new TableManager(
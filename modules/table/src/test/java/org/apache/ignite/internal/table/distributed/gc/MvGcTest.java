@@ -390,6 +390,18 @@ public class MvGcTest extends BaseIgniteAbstractTest {
         verify(gcUpdateHandler, never()).vacuumBatch(any(), anyInt());
     }
 
+    @Test
+    void testBatchSizeGrowsWithBacklog() {
+        assertEquals(5, MvGc.batchSize(5, 0, 0.0));
+        assertEquals(10, MvGc.batchSize(5, 500, 0.0));
+        assertEquals(40, MvGc.batchSize(5, 1_000_000, 0.0));
+
+        // No spare CPU, the configured batch size is kept.
+        assertEquals(5, MvGc.batchSize(5, 1_000_000, 0.9));
+
+        assertEquals(0, MvGc.batchSize(0, 1_000, 0.0));
+    }
+
     private TablePartitionId createTablePartitionId() {
         return new TablePartitionId(nextTableId.getAndIncrement(), PARTITION_ID);
     }
@@ -159,6 +159,7 @@ import org.apache.ignite.internal.partition.replicator.network.command.UpdateCom
 import org.apache.ignite.internal.partition.replicator.network.command.WriteIntentSwitchCommand;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ColumnRangePredicateMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
@@ -199,6 +200,8 @@ import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
 import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.storage.ColumnRangePredicate;
+import org.apache.ignite.internal.storage.PartitionScanOptions;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.TestStorageUtils;
 import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
@@ -1235,6 +1238,89 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertEquals(3, rows.size());
     }
 
+    @Test
+    public void testReadOnlyScanRetrieveBatchReplicaRequestWithColumnPredicates() throws Exception {
+        UUID txId = newTxId();
+
+        IntStream.range(0, 6).forEach(i -> {
+            RowId rowId = new RowId(PART_ID);
+            BinaryRow storeRow = binaryRow(key(nextBinaryKey()), new TestValue(i, "val" + i));
+
+            testMvPartitionStorage.addWrite(rowId, storeRow, txId, ZONE_ID, PART_ID);
+            testMvPartitionStorage.commitWrite(rowId, clock.now(), txId);
+        });
+
+        // 2 <= INTVAL < 4, INTVAL is the third column of the row.
+        int intValColumn = 2;
+
+        List<ColumnRangePredicateMessage> predicates = List.of(TABLE_MESSAGES_FACTORY.columnRangePredicateMessage()
+                .column(intValColumn)
+                .lowerBound(toIndexKey(2))
+                .lowerInclusive(true)
+                .upperBound(toIndexKey(4))
+                .upperInclusive(false)
+                .build());
+
+        // Column indexes of a schema that the replica doesn't know yet can't be interpreted, so the predicates are ignored.
+        CompletableFuture<ReplicaResult> fut = partitionReplicaListener.process(
+                TABLE_MESSAGES_FACTORY.readOnlyScanRetrieveBatchReplicaRequest()
+                        .groupId(zonePartitionIdMessage(grpId))
+                        .tableId(TABLE_ID)
+                        .transactionId(newTxId())
+                        .readTimestamp(clock.now())
+                        .scanId(1L)
+                        .columnPredicates(predicates)
+                        .columnsSchemaVersion(NEXT_SCHEMA_VERSION + 1)
+                        .batchSize(10)
+                        .coordinatorId(localNode.id())
+                        .build(), validRoPrimacy(), localNode.id());
+
+        List<BinaryRow> rows = (List<BinaryRow>) fut.get(1, TimeUnit.SECONDS).result();
+
+        assertEquals(6, rows.size());
+
+        verify(testMvPartitionStorage, never()).scan(any(HybridTimestamp.class), any(PartitionScanOptions.class));
+
+        fut = partitionReplicaListener.process(
+                TABLE_MESSAGES_FACTORY.readOnlyScanRetrieveBatchReplicaRequest()
+                        .groupId(zonePartitionIdMessage(grpId))
+                        .tableId(TABLE_ID)
+                        .transactionId(newTxId())
+                        .readTimestamp(clock.now())
+                        .scanId(2L)
+                        .columnPredicates(predicates)
+                        .columnsSchemaVersion(CURRENT_SCHEMA_VERSION)
+                        .batchSize(10)
+                        .coordinatorId(localNode.id())
+                        .build(), validRoPrimacy(), localNode.id());
+
+        rows = (List<BinaryRow>) fut.get(1, TimeUnit.SECONDS).result();
+
+        // Predicates are only a hint, the test storage doesn't skip any rows.
+        assertEquals(6, rows.size());
+
+        ArgumentCaptor<PartitionScanOptions> optionsCaptor = ArgumentCaptor.forClass(PartitionScanOptions.class);
+
+        verify(testMvPartitionStorage).scan(any(HybridTimestamp.class), optionsCaptor.capture());
+
+        PartitionScanOptions options = optionsCaptor.getValue();
+
+        assertEquals(CURRENT_SCHEMA_VERSION, options.schemaVersion());
+        assertEquals(1, options.predicates().size());
+
+        ColumnRangePredicate predicate = options.predicates().get(0);
+
+        assertEquals(intValColumn, predicate.column());
+        assertEquals(NativeTypes.INT32, predicate.type());
+
+        // A block of rows may only be skipped if none of the values between its minimum and maximum are within [2, 4).
+        assertFalse(predicate.mayMatch(intValue(0), intValue(1)));
+        assertTrue(predicate.mayMatch(intValue(1), intValue(2)));
+        assertTrue(predicate.mayMatch(intValue(0), intValue(5)));
+        assertTrue(predicate.mayMatch(intValue(3), intValue(3)));
+        assertFalse(predicate.mayMatch(intValue(4), intValue(5)));
+    }
+
     @Test
     public void testWriteIntentOnPrimaryReplicaInsertUpdateDelete() {
         UUID txId = newTxId();
@@ -2511,6 +2597,10 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
                 .build();
     }
 
+    private static ByteBuffer intValue(int val) {
+        return new BinaryTupleBuilder(1).appendInt(val).build();
+    }
+
     private BinaryRow nextBinaryKey() {
         return marshalQuietly(nextKey(), kvMarshaller);
     }
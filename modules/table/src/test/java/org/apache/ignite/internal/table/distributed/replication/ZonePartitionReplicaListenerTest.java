@@ -143,6 +143,7 @@ import org.apache.ignite.internal.partition.replicator.schemacompat.Incompatible
 import org.apache.ignite.internal.partition.replicator.schemacompat.InternalSchemaVersionMismatchException;
 import org.apache.ignite.internal.placementdriver.TestPlacementDriver;
 import org.apache.ignite.internal.placementdriver.TestReplicaMetaImpl;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.Command;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.service.LeaderWithTerm;
@@ -659,7 +660,8 @@ public class ZonePartitionReplicaListenerTest extends IgniteAbstractTest {
                 zonePartitionId,
                 transactionStateResolver,
                 txMessageSender,
-                txRecoveryEngine
+                txRecoveryEngine,
+                () -> IgniteProductVersion.CURRENT_VERSION
         );
 
         tableReplicaProcessor = new PartitionReplicaListener(
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.tx.TransactionIds.transactionId;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.BaseMvStoragesTest;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
+import org.apache.ignite.internal.table.cdc.PartitionChanges;
+import org.apache.ignite.internal.table.cdc.RowChange;
+import org.apache.ignite.internal.table.cdc.RowChange.Type;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PartitionChangeReader}.
+ */
+public class PartitionChangeReaderTest extends BaseMvStoragesTest {
+    private static final int PARTITION_ID = 1;
+
+    private static final HybridTimestamp SAFE_TIME = ts(1_000);
+
+    private final TestMvPartitionStorage storage = new TestMvPartitionStorage(PARTITION_ID);
+
+    private final RowId rowId1 = new RowId(PARTITION_ID, 0, 1);
+
+    private final RowId rowId2 = new RowId(PARTITION_ID, 0, 2);
+
+    private final RowId rowId3 = new RowId(PARTITION_ID, 0, 3);
+
+    private final BinaryRow row1 = binaryRow(new TestKey(1, "1"), new TestValue(1, "v1"));
+
+    private final BinaryRow row1Updated = binaryRow(new TestKey(1, "1"), new TestValue(2, "v2"));
+
+    private final BinaryRow row2 = binaryRow(new TestKey(2, "2"), new TestValue(1, "v1"));
+
+    private final BinaryRow row3 = binaryRow(new TestKey(3, "3"), new TestValue(1, "v1"));
+
+    @Test
+    void changesAreOrderedByCommitTimestamp() {
+        addCommitted(rowId2, row2, ts(100));
+        addCommitted(rowId1, row1, ts(200));
+        addCommitted(rowId2, null, ts(300));
+        addCommitted(rowId1, row1Updated, ts(400));
+
+        PartitionChanges changes = read(HybridTimestamp.MIN_VALUE, 100);
+
+        assertThat(types(changes), contains(Type.INSERT, Type.INSERT, Type.DELETE, Type.UPDATE));
+        assertThat(commitTimestamps(changes), contains(ts(100), ts(200), ts(300), ts(400)));
+
+        RowChange update = changes.changes().get(3);
+
+        assertThat(update.row(), is(row1Updated));
+        assertThat(update.previousRow(), is(row1));
+
+        RowChange delete = changes.changes().get(2);
+
+        assertThat(delete.row(), is(nullValue()));
+        assertThat(delete.previousRow(), is(row2));
+
+        assertThat(changes.resumeTimestamp(), is(SAFE_TIME));
+        assertThat(changes.hasMore(), is(false));
+    }
+
+    @Test
+    void readingResumesAfterTimestamp() {
+        addCommitted(rowId1, row1, ts(100));
+        addCommitted(rowId1, row1Updated, ts(200));
+        addCommitted(rowId2, row2, ts(300));
+
+        PartitionChanges changes = read(ts(100), 100);
+
+        assertThat(commitTimestamps(changes), contains(ts(200), ts(300)));
+        assertThat(changes.changes().get(0).previousRow(), is(row1));
+
+        assertThat(read(SAFE_TIME, 100).changes(), is(empty()));
+    }
+
+    @Test
+    void batchIsTruncatedAtCommitTimestamp() {
+        addCommitted(rowId1, row1, ts(100));
+        addCommitted(rowId2, row2, ts(100));
+        addCommitted(rowId3, row3, ts(200));
+        addCommitted(rowId1, row1Updated, ts(300));
+
+        PartitionChanges changes = read(HybridTimestamp.MIN_VALUE, 1);
+
+        // Changes of the same commit are never split.
+        assertThat(commitTimestamps(changes), contains(ts(100), ts(100)));
+        assertThat(changes.changes().stream().map(RowChange::lastOfCommit).collect(toList()), contains(false, true));
+        assertThat(changes.resumeTimestamp(), is(ts(100)));
+        assertThat(changes.hasMore(), is(true));
+
+        changes = read(changes.resumeTimestamp(), 1);
+
+        assertThat(commitTimestamps(changes), contains(ts(200)));
+        assertThat(changes.resumeTimestamp(), is(ts(200)));
+        assertThat(changes.hasMore(), is(true));
+
+        changes = read(changes.resumeTimestamp(), 1);
+
+        assertThat(commitTimestamps(changes), contains(ts(300)));
+        assertThat(changes.resumeTimestamp(), is(SAFE_TIME));
+        assertThat(changes.hasMore(), is(false));
+    }
+
+    @Test
+    void writeIntentHoldsBackReading() {
+        addCommitted(rowId1, row1, ts(100));
+        addCommitted(rowId3, row3, ts(300));
+
+        HybridTimestamp txBeginTs = ts(200);
+
+        storage.runConsistently(locker -> {
+            locker.lock(rowId2);
+
+            return storage.addWrite(rowId2, row2, transactionId(txBeginTs, 1), 1, 0);
+        });
+
+        PartitionChanges changes = read(HybridTimestamp.MIN_VALUE, 100);
+
+        // The transaction may commit before the change at ts(300), so that change can't be read yet.
+        assertThat(commitTimestamps(changes), contains(ts(100)));
+        assertThat(changes.resumeTimestamp(), is(txBeginTs));
+        assertThat(changes.hasMore(), is(false));
+    }
+
+    @Test
+    void unchangedPartitionIsReadWithoutScan() {
+        addCommitted(rowId1, row1, ts(100));
+        addCommitted(rowId1, row1Updated, ts(200));
+
+        var reader = new PartitionChangeReader(storage, PARTITION_ID, SAFE_TIME);
+
+        assertThat(reader.read(HybridTimestamp.MIN_VALUE, 100).changes().size(), is(2));
+
+        PartitionChangeReader.Summary summary = reader.summary(5, 10);
+
+        PartitionChanges changes = summary.readUnchanged(5, 10, SAFE_TIME, ts(2_000));
+
+        assertThat(changes.changes(), is(empty()));
+        assertThat(changes.resumeTimestamp(), is(ts(2_000)));
+        assertThat(changes.hasMore(), is(false));
+
+        // There are changes after the timestamp.
+        assertThat(summary.readUnchanged(5, 10, ts(100), ts(2_000)), is(nullValue()));
+
+        // The partition was modified.
+        assertThat(summary.readUnchanged(6, 10, SAFE_TIME, ts(2_000)), is(nullValue()));
+        assertThat(summary.readUnchanged(-1, 10, SAFE_TIME, ts(2_000)), is(nullValue()));
+        assertThat(summary.readUnchanged(5, 11, SAFE_TIME, ts(2_000)), is(nullValue()));
+    }
+
+    @Test
+    void writeIntentHoldsBackReadingWithoutScan() {
+        addCommitted(rowId1, row1, ts(100));
+
+        HybridTimestamp txBeginTs = ts(200);
+
+        storage.runConsistently(locker -> {
+            locker.lock(rowId2);
+
+            return storage.addWrite(rowId2, row2, transactionId(txBeginTs, 1), 1, 0);
+        });
+
+        var reader = new PartitionChangeReader(storage, PARTITION_ID, SAFE_TIME);
+
+        assertThat(reader.read(HybridTimestamp.MIN_VALUE, 100).resumeTimestamp(), is(txBeginTs));
+
+        PartitionChanges changes = reader.summary(0, 0).readUnchanged(0, 0, txBeginTs, ts(2_000));
+
+        assertThat(changes.changes(), is(empty()));
+        assertThat(changes.resumeTimestamp(), is(txBeginTs));
+    }
+
+    private PartitionChanges read(HybridTimestamp afterTimestamp, int batchSize) {
+        return new PartitionChangeReader(storage, PARTITION_ID, SAFE_TIME).read(afterTimestamp, batchSize);
+    }
+
+    private void addCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) {
+        storage.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            return storage.addWriteCommitted(rowId, row, commitTimestamp);
+        });
+    }
+
+    private static List<Type> types(PartitionChanges changes) {
+        return changes.changes().stream().map(RowChange::type).collect(toList());
+    }
+
+    private static List<HybridTimestamp> commitTimestamps(PartitionChanges changes) {
+        return changes.changes().stream().map(RowChange::commitTimestamp).collect(toList());
+    }
+
+    private static HybridTimestamp ts(long physical) {
+        return new HybridTimestamp(physical, 0);
+    }
+}
@@ -113,6 +113,7 @@ import org.apache.ignite.internal.partitiondistribution.Assignments;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.ReplicaMeta;
 import org.apache.ignite.internal.placementdriver.TestPlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.PeersAndLearners;
@@ -169,6 +170,7 @@ import org.apache.ignite.internal.table.impl.DummySchemaManagerImpl;
 import org.apache.ignite.internal.table.impl.DummyValidationSchemasSource;
 import org.apache.ignite.internal.table.metrics.TableMetricSource;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.tracing.RequestTracer;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxStateMeta;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
@@ -516,7 +518,8 @@ public class ItTxTestCluster {
                     new VolatileLogStorageManagerCreator(nodeName, workDir.resolve("volatile-log-spillout")),
                     executor,
                     replicaGrpId -> nullCompletedFuture(),
-                    ForkJoinPool.commonPool()
+                    ForkJoinPool.commonPool(),
+                    new RequestTracer()
             );
 
             assertThat(replicaMgr.startAsync(new ComponentContext()), willCompleteSuccessfully());
@@ -1003,7 +1006,8 @@ public class ItTxTestCluster {
                         partitionId,
                         transactionStateResolver,
                         txMessageSender,
-                        txRecoveryEngine
+                        txRecoveryEngine,
+                        () -> IgniteProductVersion.CURRENT_VERSION
                 )
         );
 
@@ -162,6 +162,11 @@ public class TestPartitionDataStorage implements PartitionDataStorage {
         return partitionStorage.peek(lowWatermark, count);
     }
 
+    @Override
+    public long estimatedGcQueueSize() {
+        return partitionStorage.estimatedGcQueueSize();
+    }
+
     @Override
     public @Nullable BinaryRow vacuum(GcEntry entry) {
         return partitionStorage.vacuum(entry);
@@ -84,6 +84,7 @@ import org.apache.ignite.internal.partition.replicator.raft.snapshot.outgoing.Pa
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.ReplicaMeta;
 import org.apache.ignite.internal.placementdriver.TestPlacementDriver;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
 import org.apache.ignite.internal.raft.Command;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.RaftGroupConfiguration;
@@ -535,7 +536,8 @@ public class DummyInternalTableImpl extends InternalTableImpl {
                 zonePartitionId,
                 transactionStateResolver,
                 txMessageSender,
-                txRecoveryEngine
+                txRecoveryEngine,
+                () -> IgniteProductVersion.CURRENT_VERSION
         );
 
         zoneReplicaListener.addTableReplicaProcessor(tableId, (raftClient, txStateResolver) -> tableReplicaListener);
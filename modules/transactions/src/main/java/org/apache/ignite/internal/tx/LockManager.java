@@ -75,7 +75,6 @@ public interface LockManager extends EventProducer<LockEvent, LockEventParameter
      * @param txId Transaction Id.
      * @return An iterator over a collection of locks.
      */
-    @TestOnly
     Iterator<Lock> locks(UUID txId);
 
     /**
@@ -181,6 +181,34 @@ public class TxStateMeta implements TransactionMeta {
         );
     }
 
+    /**
+     * Creates the same transaction state, but without a reference to the transaction object. A final state is kept until the transaction
+     * resources are vacuumized, long after the transaction object is no longer needed.
+     *
+     * @return Transaction state meta.
+     */
+    public TxStateMeta withoutTx() {
+        if (tx == null) {
+            return this;
+        }
+
+        assert TxState.isFinalState(txState) : "Transaction state is not final [txState=" + txState + "].";
+
+        return new TxStateMeta(
+                txState,
+                txCoordinatorId,
+                commitPartitionId,
+                commitTimestamp,
+                null,
+                initialVacuumObservationTimestamp,
+                cleanupCompletionTimestamp,
+                isFinishedDueToTimeout,
+                txLabel,
+                lastException,
+                lastExceptionErrorCode
+        );
+    }
+
     @Override
     public TxState txState() {
         return txState;
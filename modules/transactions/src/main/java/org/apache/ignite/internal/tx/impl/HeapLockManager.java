@@ -20,6 +20,7 @@ package org.apache.ignite.internal.tx.impl;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.tracing.TraceStage.LOCK_WAIT;
 import static org.apache.ignite.internal.tx.event.LockEvent.LOCK_CONFLICT;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 
@@ -49,6 +50,7 @@ import org.apache.ignite.internal.event.AbstractEventProducer;
 import org.apache.ignite.internal.lang.IgniteBiTuple;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tracing.RequestTracing;
 import org.apache.ignite.internal.tx.AcquireLockTimeoutException;
 import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
 import org.apache.ignite.internal.tx.Lock;
@@ -163,7 +165,12 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
         if (lockKey.contextId() == null) { // Treat this lock as a hierarchy(coarse) lock.
             CoarseLockState state = coarseMap.computeIfAbsent(lockKey, key -> new CoarseLockState(lockKey));
 
-            return state.acquire(txId, lockMode);
+            CompletableFuture<Lock> future = state.acquire(txId, lockMode);
+
+            LockWaitEvent.onWait(future, txId, lockKey, lockMode);
+            RequestTracing.recordOnCompletion(LOCK_WAIT, future);
+
+            return future;
         }
 
         while (true) {
@@ -181,6 +188,9 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
 
             LockMode newLockMode = futureTuple.get2();
 
+            LockWaitEvent.onWait(futureTuple.get1(), txId, lockKey, newLockMode);
+            RequestTracing.recordOnCompletion(LOCK_WAIT, futureTuple.get1());
+
             return futureTuple.get1().thenApply(res -> new Lock(lockKey, newLockMode, txId));
         }
     }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.ignite.internal.jfr.IgniteEvent;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockMode;
+
+/** Flight recorder event of a transaction waiting for a lock held by another transaction in {@link HeapLockManager}. */
+@Name(IgniteEvent.NAME_PREFIX + "LockWait")
+@Label("Lock Wait")
+@Category({IgniteEvent.CATEGORY, "Transactions"})
+@Description("Wait of a transaction for a lock that conflicts with locks of other transactions")
+class LockWaitEvent extends IgniteEvent {
+    @Label("Transaction ID")
+    String txId;
+
+    @Label("Lock Key")
+    String lockKey;
+
+    @Label("Lock Mode")
+    String lockMode;
+
+    @Label("Granted")
+    boolean granted;
+
+    /**
+     * Records a lock wait, if the event is enabled.
+     *
+     * @param waitFuture Future that is completed when the lock is granted or the wait fails.
+     * @param txId Transaction ID.
+     * @param lockKey Lock key.
+     * @param lockMode Requested lock mode.
+     */
+    static void onWait(CompletableFuture<?> waitFuture, UUID txId, LockKey lockKey, LockMode lockMode) {
+        if (waitFuture.isDone()) {
+            return;
+        }
+
+        var event = new LockWaitEvent();
+
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        event.begin();
+
+        waitFuture.whenComplete((res, err) -> {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.txId = txId.toString();
+                event.lockKey = lockKey.toString();
+                event.lockMode = lockMode.name();
+                event.granted = err == null;
+
+                event.commit();
+            }
+        });
+    }
+}
@@ -28,12 +28,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -90,6 +93,9 @@ public class TxCleanupRequestHandler {
     /** The map of txId to a cleanup context, tracking replicated write intents. */
     private final ConcurrentMap<UUID, CleanupContext> writeIntentsReplicated = new ConcurrentHashMap<>();
 
+    /** Cleanup replicated infos that are waiting to be sent, by consistent ID of the node to send them to. */
+    private final ConcurrentMap<String, ReplicatedInfoQueue> replicatedInfosToSend = new ConcurrentHashMap<>();
+
     /**
      * The constructor.
      *
@@ -218,14 +224,6 @@ public class TxCleanupRequestHandler {
                 .build();
     }
 
-    private NetworkMessage prepareResponse(CleanupReplicatedInfo result) {
-        return TX_MESSAGES_FACTORY
-                .txCleanupMessageResponse()
-                .result(toCleanupReplicatedInfoMessage(result))
-                .timestamp(clockService.now())
-                .build();
-    }
-
     private NetworkMessage prepareErrorResponse(UUID txId, Throwable th) {
         return TX_MESSAGES_FACTORY
                 .txCleanupMessageErrorResponse()
@@ -283,12 +281,55 @@ public class TxCleanupRequestHandler {
     /**
      * Send cleanup replicated response back to the sender (which is the commit partition primary).
      *
+     * <p>Responses to the same node are coalesced: only the first response added to an empty queue schedules sending, and all responses
+     * that are added before it's sent go in the same message. The commit partition primary only uses them to decide when the transaction
+     * state can be vacuumized, so they are not worth a network message per transaction.
+     *
      * @param txId Transaction id.
      * @param sender Cleanup request sender.
      * @param partitions Partitions that we received replication confirmation for.
      */
     private void sendCleanupReplicatedResponse(UUID txId, InternalClusterNode sender, Collection<ZonePartitionId> partitions) {
-        messagingService.send(sender, ChannelType.DEFAULT, prepareResponse(new CleanupReplicatedInfo(txId, partitions)));
+        ReplicatedInfoQueue queue = replicatedInfosToSend.computeIfAbsent(sender.name(), name -> new ReplicatedInfoQueue());
+
+        queue.infos.add(new CleanupReplicatedInfo(txId, partitions));
+
+        if (queue.scheduled.compareAndSet(false, true)) {
+            cleanupExecutor.execute(() -> sendCleanupReplicatedResponses(sender.name(), queue));
+        }
+    }
+
+    private void sendCleanupReplicatedResponses(String nodeConsistentId, ReplicatedInfoQueue queue) {
+        // Reset the flag before draining the queue, so that an info added after the queue is drained schedules another sending.
+        queue.scheduled.set(false);
+
+        List<CleanupReplicatedInfoMessage> results = new ArrayList<>();
+
+        CleanupReplicatedInfo info;
+
+        while ((info = queue.infos.poll()) != null) {
+            results.add(toCleanupReplicatedInfoMessage(info));
+        }
+
+        if (results.isEmpty()) {
+            return;
+        }
+
+        NetworkMessage msg;
+
+        if (results.size() == 1) {
+            msg = TX_MESSAGES_FACTORY.txCleanupMessageResponse()
+                    .result(results.get(0))
+                    .timestamp(clockService.now())
+                    .build();
+        } else {
+            msg = TX_MESSAGES_FACTORY.txCleanupReplicatedMessage()
+                    .results(results)
+                    .timestamp(clockService.now())
+                    .build();
+        }
+
+        messagingService.send(nodeConsistentId, ChannelType.DEFAULT, msg);
     }
 
     /**
@@ -321,6 +362,14 @@ public class TxCleanupRequestHandler {
         return allOf(writeIntentSwitches.values().toArray(new CompletableFuture<?>[0]));
     }
 
+    /** Cleanup replicated infos to be sent to a node. */
+    private static class ReplicatedInfoQueue {
+        private final Queue<CleanupReplicatedInfo> infos = new ConcurrentLinkedQueue<>();
+
+        /** Whether sending of the infos is scheduled, but the queue has not been drained yet. */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
     private static class CleanupContext {
         private final InternalClusterNode sender;
 
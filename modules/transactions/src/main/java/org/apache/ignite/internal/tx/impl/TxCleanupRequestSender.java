@@ -55,6 +55,7 @@ import org.apache.ignite.internal.tx.message.CleanupReplicatedInfo;
 import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
 import org.apache.ignite.internal.tx.message.TxCleanupMessageErrorResponse;
 import org.apache.ignite.internal.tx.message.TxCleanupMessageResponse;
+import org.apache.ignite.internal.tx.message.TxCleanupReplicatedMessage;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.util.CompletableFutures;
 import org.jetbrains.annotations.Nullable;
@@ -134,6 +135,11 @@ public class TxCleanupRequestSender {
                 assert result != null : "Result for the cleanup response cannot be null.";
 
                 onCleanupReplicated(result.asCleanupReplicatedInfo());
+            } else if (msg instanceof TxCleanupReplicatedMessage) {
+                // Results of several transactions, coalesced by the node that has replicated their cleanup.
+                for (CleanupReplicatedInfoMessage result : ((TxCleanupReplicatedMessage) msg).results()) {
+                    onCleanupReplicated(result.asCleanupReplicatedInfo());
+                }
             }
         });
     }
@@ -1320,7 +1320,7 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
 
     @Override
     public List<SystemView<?>> systemViews() {
-        LocksViewProvider lockViewProvider = new LocksViewProvider(lockManager::locks);
+        LocksViewProvider lockViewProvider = new LocksViewProvider(lockManager);
 
         return List.of(
                 txViewProvider.get(),
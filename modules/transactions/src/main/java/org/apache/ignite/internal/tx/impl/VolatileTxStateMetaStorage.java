@@ -121,10 +121,21 @@ public class VolatileTxStateMetaStorage {
 
             TxState oldState = oldMeta == null ? null : oldMeta.txState();
 
-            return checkTransitionCorrectness(oldState, newMeta.txState()) ? newMeta : oldMeta;
+            return checkTransitionCorrectness(oldState, newMeta.txState()) ? compact(newMeta) : oldMeta;
         });
     }
 
+    /**
+     * Drops the transaction object from the final state of a read-write transaction. Final states stay in the storage until they are
+     * vacuumized, and with a high transaction rate the transaction objects, along with their enlistments, make up most of the heap
+     * occupied by the storage. Read-only transactions keep the object, because it is used to vacuumize their states.
+     */
+    private static TxStateMeta compact(TxStateMeta meta) {
+        InternalTransaction tx = meta.tx();
+
+        return tx != null && !tx.isReadOnly() && TxState.isFinalState(meta.txState()) ? meta.withoutTx() : meta;
+    }
+
     /**
      * Atomically replaces metadata of an already existing transaction state, but only if the resulting state keeps the same
      * {@link TxStateMeta#txState()} value.
@@ -146,7 +157,7 @@ public class VolatileTxStateMetaStorage {
                 return oldMeta;
             }
 
-            return newMeta;
+            return compact(newMeta);
         });
     }
 
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.message;
+
+import java.util.List;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.replicator.message.TimestampAware;
+
+/**
+ * Notifies the commit partition primary that the cleanup of several transactions has been replicated. It combines the results that
+ * would otherwise be sent to the same node as separate {@link TxCleanupMessageResponse}s.
+ */
+@Transferable(TxMessageGroup.TX_CLEANUP_REPLICATED_MSG)
+public interface TxCleanupReplicatedMessage extends TimestampAware {
+    /** Results of replicated cleanup requests. */
+    List<CleanupReplicatedInfoMessage> results();
+}
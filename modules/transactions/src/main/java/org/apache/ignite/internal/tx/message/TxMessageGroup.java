@@ -135,4 +135,7 @@ public class TxMessageGroup {
 
     /** Message type for {@link TxStateMetaUnknownMessage}. */
     public static final short TX_STATE_META_UNKNOWN_MESSAGE = 24;
+
+    /** Message type for {@link TxCleanupReplicatedMessage}. */
+    public static final short TX_CLEANUP_REPLICATED_MSG = 25;
 }
@@ -42,11 +42,13 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.IntSupplier;
+import org.apache.ignite.internal.backup.BackupSource;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.manager.ComponentContext;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.backup.RocksDbBackupSource;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
 import org.apache.ignite.internal.tx.storage.state.TxStateStorageException;
 import org.apache.ignite.internal.util.ByteUtils;
@@ -292,6 +294,11 @@ public class TxStateRocksDbSharedStorage implements IgniteComponent {
         return txStateMetaColumnFamily;
     }
 
+    /** Returns a source of physical backups of the storage. */
+    public BackupSource backupSource() {
+        return new RocksDbBackupSource("tx-state", dbPath, () -> db);
+    }
+
     /**
      * Destroys tx state storage for table or zone by its ID.
      *
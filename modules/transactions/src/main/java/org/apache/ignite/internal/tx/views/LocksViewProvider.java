@@ -20,21 +20,26 @@ package org.apache.ignite.internal.tx.views;
 import static org.apache.ignite.internal.type.NativeTypes.STRING;
 import static org.apache.ignite.internal.type.NativeTypes.stringOf;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.UUID;
 import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.tx.Lock;
 import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 
 /**
  * {@code LOCKS} system view provider.
  */
 public class LocksViewProvider {
-    /** Active locks. */
-    private final Iterable<Lock> locks;
+    /** Lock manager. */
+    private final LockManager lockManager;
 
-    public LocksViewProvider(Iterable<Lock> locks) {
-        this.locks = locks;
+    public LocksViewProvider(LockManager lockManager) {
+        this.lockManager = lockManager;
     }
 
     /** Returns system view exposing active locks. */
@@ -50,10 +55,28 @@ public class LocksViewProvider {
                 .<String>addColumn("TX_ID", stringOf(36), lock -> lock.txId().toString())
                 .<String>addColumn("MODE", stringOf(2), lock -> lock.lockMode().name())
                 // End of legacy columns list. New columns must be added below this line.
-                .dataProvider(SubscriptionUtils.fromIterable(locks))
+                .filteringDataProvider(criteria -> SubscriptionUtils.fromIterable(() -> locks(criteria)))
                 .build();
     }
 
+    private Iterator<Lock> locks(SystemViewScanCriteria criteria) {
+        String txId = criteria.equalTo("TRANSACTION_ID");
+
+        if (txId == null) {
+            txId = criteria.equalTo("TX_ID");
+        }
+
+        if (txId == null) {
+            return lockManager.locks();
+        }
+
+        try {
+            return lockManager.locks(UUID.fromString(txId));
+        } catch (IllegalArgumentException ignored) {
+            return Collections.emptyIterator();
+        }
+    }
+
     // TODO https://issues.apache.org/jira/browse/IGNITE-23755 Provide more user-friendly information about locked objects
     private String formatLockKey(LockKey lockKey) {
         return lockKey.toString();
@@ -23,12 +23,14 @@ import static org.apache.ignite.internal.type.NativeTypes.stringOf;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Flow.Publisher;
-import java.util.stream.Stream;
+import java.util.function.Function;
 import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewScanCriteria;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TransactionIds;
@@ -56,13 +58,23 @@ public class TransactionsViewProvider {
 
     /** Returns a {@code TRANSACTIONS} system view. */
     public SystemView<?> get() {
-        Publisher<TxInfo> dataProvider = SubscriptionUtils.fromIterable(
+        Function<SystemViewScanCriteria, Publisher<TxInfo>> dataProvider = criteria -> SubscriptionUtils.fromIterable(
                 () -> {
-                    Iterable<TxInfo> dataSource0 = dataSource;
+                    TxInfoDataSource dataSource0 = dataSource;
 
-                    return dataSource0 == null
-                            ? Collections.emptyIterator()
-                            : dataSource0.iterator();
+                    if (dataSource0 == null) {
+                        return Collections.emptyIterator();
+                    }
+
+                    String txId = criteria.equalTo("TRANSACTION_ID");
+
+                    if (txId == null) {
+                        txId = criteria.equalTo("ID");
+                    }
+
+                    return txId == null
+                            ? dataSource0.iterator()
+                            : dataSource0.lookup(txId);
                 }
         );
 
@@ -77,10 +89,7 @@ public class TransactionsViewProvider {
                 .<Instant>addColumn("TRANSACTION_START_TIME", timestampType, tx -> tx.startTime)
                 .<String>addColumn("TRANSACTION_TYPE", stringType, tx -> tx.type)
                 .<String>addColumn("TRANSACTION_PRIORITY", stringType, tx -> tx.priority)
-                .<String>addColumn("TRANSACTION_LABEL", stringType, tx -> {
-                    TxStateMeta meta = dataSource.txStates.get(tx.id);
-                    return meta != null ? meta.txLabel() : null;
-                })
+                .<String>addColumn("TRANSACTION_LABEL", stringType, tx -> tx.label)
                 // TODO https://issues.apache.org/jira/browse/IGNITE-24589: Next columns are deprecated and should be removed.
                 //  They are kept for compatibility with 3.0 version, to allow columns being found by their old names.
                 .<String>addColumn("STATE", stringType, tx -> tx.state)
@@ -89,7 +98,7 @@ public class TransactionsViewProvider {
                 .<String>addColumn("TYPE", stringType, tx -> tx.type)
                 .<String>addColumn("PRIORITY", stringType, tx -> tx.priority)
                 // End of legacy columns list. New columns must be added below this line.
-                .dataProvider(dataProvider)
+                .filteringDataProvider(dataProvider)
                 .build();
     }
 
@@ -105,26 +114,45 @@ public class TransactionsViewProvider {
         @Override
         public Iterator<TxInfo> iterator() {
             return txStates.entrySet().stream()
-                    .flatMap(entry -> {
-                        UUID id = entry.getKey();
-                        TxStateMeta txStateMeta = entry.getValue();
-                        UUID coordinatorId = txStateMeta.txCoordinatorId();
-                        InternalTransaction tx = txStateMeta.tx();
-
-                        if (!Objects.equals(localNodeId, coordinatorId)) {
-                            return Stream.empty();
-                        }
-
-                        // Currently the read-only transaction status does not change and it is always in the PENDING state.
-                        if ((tx != null && tx.isReadOnly() && tx.isFinishingOrFinished()) || isFinalState(txStateMeta.txState())) {
-                            return Stream.empty();
-                        }
-
-                        return Stream.of(new TxInfo(id, txStateMeta.txState(), deriveTransactionType(tx)));
-                    })
+                    .map(entry -> txInfo(entry.getKey(), entry.getValue()))
+                    .filter(Objects::nonNull)
                     .iterator();
         }
 
+        /** Returns an iterator over a single transaction with the given id, if this node coordinates it. */
+        Iterator<TxInfo> lookup(String txId) {
+            UUID id;
+
+            try {
+                id = UUID.fromString(txId);
+            } catch (IllegalArgumentException ignored) {
+                return Collections.emptyIterator();
+            }
+
+            TxStateMeta txStateMeta = txStates.get(id);
+            TxInfo txInfo = txStateMeta == null ? null : txInfo(id, txStateMeta);
+
+            return txInfo == null
+                    ? Collections.emptyIterator()
+                    : List.of(txInfo).iterator();
+        }
+
+        private @Nullable TxInfo txInfo(UUID id, TxStateMeta txStateMeta) {
+            UUID coordinatorId = txStateMeta.txCoordinatorId();
+            InternalTransaction tx = txStateMeta.tx();
+
+            if (!Objects.equals(localNodeId, coordinatorId)) {
+                return null;
+            }
+
+            // Currently the read-only transaction status does not change and it is always in the PENDING state.
+            if ((tx != null && tx.isReadOnly() && tx.isFinishingOrFinished()) || isFinalState(txStateMeta.txState())) {
+                return null;
+            }
+
+            return new TxInfo(id, txStateMeta.txState(), deriveTransactionType(tx), txStateMeta.txLabel());
+        }
+
         private static String deriveTransactionType(@Nullable InternalTransaction tx) {
             // The transaction tx can be null under some circumstances,
             // even though this node is a transaction coordinator.
@@ -142,13 +170,15 @@ public class TransactionsViewProvider {
         private final Instant startTime;
         private final String type;
         private final String priority;
+        private final @Nullable String label;
 
-        TxInfo(UUID txId, TxState txState, String type) {
+        TxInfo(UUID txId, TxState txState, String type, @Nullable String label) {
             this.id = txId;
             this.state = txState.name();
             this.startTime = Instant.ofEpochMilli(TransactionIds.beginTimestamp(txId).getPhysical());
             this.type = type;
             this.priority = TransactionIds.priority(txId).name();
+            this.label = label;
         }
     }
 }
@@ -18,14 +18,19 @@
 package org.apache.ignite.internal.tx.impl;
 
 import static org.apache.ignite.internal.tx.TxState.ABORTED;
+import static org.apache.ignite.internal.tx.TxState.COMMITTED;
 import static org.apache.ignite.internal.tx.TxState.PENDING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.UUID;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TxStateMeta;
 import org.junit.jupiter.api.Test;
 
@@ -74,4 +79,47 @@ class VolatileTxStateMetaStorageTest extends BaseIgniteAbstractTest {
         assertSame(old, meta);
         assertEquals(PENDING, meta.txState());
     }
+
+    @Test
+    void finalStateOfReadWriteTransactionDoesNotKeepTransaction() {
+        VolatileTxStateMetaStorage storage = VolatileTxStateMetaStorage.createStarted();
+        UUID txId = UUID.randomUUID();
+
+        InternalTransaction tx = transaction(false);
+
+        storage.updateMeta(txId, old -> TxStateMeta.builder(PENDING).tx(tx).build());
+
+        assertSame(tx, storage.state(txId).tx());
+
+        TxStateMeta meta = storage.updateMeta(txId, old -> TxStateMeta.builder(old, COMMITTED)
+                .commitTimestamp(HybridTimestamp.hybridTimestamp(1L))
+                .build());
+
+        assertNotNull(meta);
+        assertEquals(COMMITTED, meta.txState());
+        assertEquals(HybridTimestamp.hybridTimestamp(1L), meta.commitTimestamp());
+        assertNull(meta.tx());
+        assertSame(meta, storage.state(txId));
+    }
+
+    @Test
+    void finalStateOfReadOnlyTransactionKeepsTransaction() {
+        VolatileTxStateMetaStorage storage = VolatileTxStateMetaStorage.createStarted();
+        UUID txId = UUID.randomUUID();
+
+        InternalTransaction tx = transaction(true);
+
+        storage.updateMeta(txId, old -> TxStateMeta.builder(PENDING).tx(tx).build());
+        storage.updateMeta(txId, old -> TxStateMeta.builder(old, COMMITTED).build());
+
+        assertSame(tx, storage.state(txId).tx());
+    }
+
+    private static InternalTransaction transaction(boolean readOnly) {
+        InternalTransaction tx = mock(InternalTransaction.class);
+
+        when(tx.isReadOnly()).thenReturn(readOnly);
+
+        return tx;
+    }
 }